@@ -1,9 +1,14 @@
 import React, { useEffect, useState } from 'react';
-import { getSensorReadingsByDevice } from '../services/DeviceService';
+import { getSensorReadingsPageByDevice } from '../services/DeviceService';
 import DeviceReadingsTable from './DeviceReadingsTable';
 
 /**
- * `DeviceReadings` is a React component that fetches and displays the sensor readings of a device.
+ * The number of sensor readings fetched at a time.
+ */
+const PAGE_SIZE = 50;
+
+/**
+ * `DeviceReadings` is a React component that fetches and displays the sensor readings of a device, a page at a time.
  *
  * @component
  * @param {Object} props - The properties passed to the component.
@@ -13,38 +18,50 @@ import DeviceReadingsTable from './DeviceReadingsTable';
  * // To use this component, import it and use it in the JSX of the parent component like this:
  * <DeviceReadings deviceId="1234" />
  *
- * @returns {React.Element} Returns a React element that displays the sensor readings of a device. If the readings are still being fetched, it displays a loading message. If there was an error fetching the readings, it displays an error message. Otherwise, it displays a `DeviceReadingsTable` component with the fetched readings.
+ * @returns {React.Element} Returns a React element that displays the sensor readings of a device. If the readings are still being fetched, it displays a loading message. If there was an error fetching the readings, it displays an error message. Otherwise, it displays a `DeviceReadingsTable` component with the fetched readings, and a button to fetch the next page if there is one.
  */
 
 // DeviceReadings component
 const DeviceReadings = ({ deviceId }) => {
     const [readings, setReadings] = useState([]);
+    const [nextCursor, setNextCursor] = useState(null);
     const [loading, setLoading] = useState(true);
     const [error, setError] = useState(null);
 
+    // Fetch a page of sensor readings for the device, after the given cursor
+    const fetchReadings = async (cursor) => {
+        try {
+            setLoading(true);
+            // Call the `getSensorReadingsPageByDevice` function from the `DeviceService` module
+            const response = await getSensorReadingsPageByDevice(deviceId, PAGE_SIZE, cursor);
+            const page = response.data.sensorReadings ?? [];
+            setReadings((previous) => (cursor ? [...previous, ...page] : page));
+            setNextCursor(response.data.nextCursor ?? null);
+            setLoading(false);
+        } catch (error) {
+            console.error('Failed to fetch sensor readings:', error);
+            setError(error);
+            setLoading(false);
+        }
+    };
+
     useEffect(() => {
-        // Fetch sensor readings for the device
-        const fetchReadings = async () => {
-            try {
-                setLoading(true);
-                // Call the `getSensorReadingsByDevice` function from the `DeviceService` module
-                const response = await getSensorReadingsByDevice(deviceId);
-                setReadings(response.data);
-                setLoading(false);
-            } catch (error) {
-                console.error('Failed to fetch sensor readings:', error);
-                setError(error);
-                setLoading(false);
-            }
-        };
-
-        fetchReadings();
+        fetchReadings(undefined);
     }, [deviceId]);
 
-    if (loading) return <div>Loading...</div>;
+    if (loading && readings.length === 0) return <div>Loading...</div>;
     if (error) return <div>Error: {error.message}</div>;
 
-    return <DeviceReadingsTable title="Device Readings" items={readings} />;
+    return (
+        <div>
+            <DeviceReadingsTable title="Device Readings" readings={readings} />
+            {nextCursor && (
+                <button onClick={() => fetchReadings(nextCursor)} disabled={loading}>
+                    {loading ? 'Loading...' : 'Load more'}
+                </button>
+            )}
+        </div>
+    );
 };
 
 export default DeviceReadings;
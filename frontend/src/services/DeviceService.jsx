@@ -45,6 +45,22 @@ const getSensorReadingsByDevice = (deviceID) => {
     return axiosInstance.get(`/devices/${deviceID}/sensor-readings`);
 };
 
+/**
+ * Retrieves a page of the sensor readings associated with a device, ordered by timestamp
+ * @param deviceID - id of the device to retrieve sensor readings from
+ * @param limit - maximum number of sensor readings in the page
+ * @param cursor - the nextCursor returned with the previous page, or undefined for the first page
+ * @returns {Promise<axiosInstance.AxiosResponse<any>>} - the page of sensor readings and the cursor of the next page
+ */
+const getSensorReadingsPageByDevice = (deviceID, limit, cursor) => {
+    return axiosInstance.get(`/devices/${deviceID}/sensor-readings`, {
+        params: {
+            limit: limit,
+            cursor: cursor,
+        },
+    });
+};
+
 /**
  * Deactivates a device
  * @param deviceID - id of the device to deactivate
@@ -81,6 +97,7 @@ export {
     getSensorsByDevice,
     getActuatorsByDevice,
     getSensorReadingsByDevice,
+    getSensorReadingsPageByDevice,
     deactivateDevice,
     getDeviceNameById
 };
\ No newline at end of file
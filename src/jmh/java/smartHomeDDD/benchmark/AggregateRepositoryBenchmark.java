@@ -0,0 +1,263 @@
+package smartHomeDDD.benchmark;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import smartHomeDDD.Main;
+import smartHomeDDD.ddd.AggregateRoot;
+import smartHomeDDD.ddd.DomainId;
+import smartHomeDDD.ddd.Repository;
+import smartHomeDDD.domain.device.ImplFactoryDevice;
+import smartHomeDDD.domain.house.ImplFactoryHouse;
+import smartHomeDDD.domain.room.ImplFactoryRoom;
+import smartHomeDDD.domain.sensor.ImplFactorySensor;
+import smartHomeDDD.domain.valueobject.*;
+import smartHomeDDD.persistence.jpa.repository.RepositoryDeviceJPAImpl;
+import smartHomeDDD.persistence.jpa.repository.RepositoryHouseJPAImpl;
+import smartHomeDDD.persistence.jpa.repository.RepositoryRoomJPAImpl;
+import smartHomeDDD.persistence.jpa.repository.RepositorySensorJPAImpl;
+import smartHomeDDD.persistence.mem.RepositoryDeviceMem;
+import smartHomeDDD.persistence.mem.RepositoryHouseMem;
+import smartHomeDDD.persistence.mem.RepositoryRoomMem;
+import smartHomeDDD.persistence.mem.RepositorySensorMem;
+import smartHomeDDD.persistence.springdata.RepositoryDeviceSpringData;
+import smartHomeDDD.persistence.springdata.RepositoryHouseSpringData;
+import smartHomeDDD.persistence.springdata.RepositoryRoomSpringData;
+import smartHomeDDD.persistence.springdata.RepositorySensorSpringData;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Measures save, ofIdentity and findAll on the mem, JPA and Spring Data repositories of the device, sensor, room and
+ * house aggregates, with the last two on an in memory H2 database, at several sizes.
+ * The repository is seeded with saveAll in batches, and the aggregates saved by the benchmark are added to the seeded
+ * ones. The JPA and Spring Data repositories are set up the same way as in SensorReadingRepositoryBenchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AggregateRepositoryBenchmark {
+
+    /**
+     * The aggregate whose repository is measured.
+     */
+    @Param({"device", "sensor", "room", "house"})
+    public String aggregate;
+
+    /**
+     * The implementation of the repository.
+     */
+    @Param({"mem", "jpa", "springdata"})
+    public String repository;
+
+    /**
+     * The number of aggregates the repository is seeded with.
+     */
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    /**
+     * The number of aggregates saved at a time when the repository is seeded.
+     */
+    private static final int SEED_BATCH_SIZE = 1000;
+
+    private Target<?, ?> _target;
+    private ConfigurableApplicationContext _context;
+    private EntityManagerFactory _entityManagerFactory;
+    private EntityManager _entityManager;
+    private long _saved;
+
+    /**
+     * Creates the repository and seeds it.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        String url = "jdbc:h2:mem:aggregate-repository-benchmark-" + aggregate + "-" + repository + "-" + size + ";DB_CLOSE_DELAY=-1";
+        if (repository.equals("jpa")) {
+            _entityManagerFactory = Persistence.createEntityManagerFactory("SmartHome", Map.of(
+                    "jakarta.persistence.jdbc.url", url));
+            _entityManager = reusable(_entityManagerFactory.createEntityManager());
+        } else if (repository.equals("springdata")) {
+            _context = new SpringApplicationBuilder(Main.class)
+                    .web(WebApplicationType.NONE)
+                    .run("--spring.profiles.active=benchmark",
+                            "--spring.datasource.url=" + url,
+                            "--spring.main.banner-mode=off",
+                            "--logging.level.root=WARN");
+        } else if (!repository.equals("mem")) {
+            throw new IllegalArgumentException("Unknown repository: " + repository);
+        }
+        _target = switch (aggregate) {
+            case "device" -> devices();
+            case "sensor" -> sensors();
+            case "room" -> rooms();
+            case "house" -> houses();
+            default -> throw new IllegalArgumentException("Unknown aggregate: " + aggregate);
+        };
+        _target.seed(aggregate + "-", size);
+        _saved = 0;
+    }
+
+    /**
+     * Clears the persistence context of the JPA repository, so the next call does not find the aggregates in it.
+     */
+    @TearDown(Level.Invocation)
+    public void clearPersistenceContext() {
+        if (_entityManager != null) {
+            _entityManager.clear();
+        }
+    }
+
+    /**
+     * Closes the database of the JPA and Spring Data repositories.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (_entityManagerFactory != null) {
+            _entityManagerFactory.close();
+        }
+        if (_context != null) {
+            _context.close();
+        }
+    }
+
+    @Benchmark
+    public Object save() {
+        return _target.save("saved-" + _saved++);
+    }
+
+    @Benchmark
+    public Optional<?> ofIdentity() {
+        return _target.ofIdentity(aggregate + "-" + ThreadLocalRandom.current().nextInt(size));
+    }
+
+    /**
+     * Every aggregate of the repository, which grows with the size.
+     */
+    @Benchmark
+    public Iterable<?> findAll() {
+        return _target.findAll();
+    }
+
+    /**
+     * The repository of the devices, each in the same room.
+     */
+    private Target<DeviceId, ?> devices() {
+        ImplFactoryDevice factory = new ImplFactoryDevice();
+        return new Target<>(switch (repository) {
+            case "mem" -> new RepositoryDeviceMem();
+            case "jpa" -> new RepositoryDeviceJPAImpl(factory, _entityManager);
+            default -> _context.getBean(RepositoryDeviceSpringData.class);
+        }, DeviceId::new, id -> factory.createDevice(new DeviceId(id), new DeviceName("Lamp"), new DeviceModel("m1"),
+                new ActivationStatus(true), new RoomID("room-0")));
+    }
+
+    /**
+     * The repository of the sensors, each an energy meter of the same device.
+     */
+    private Target<SensorID, ?> sensors() {
+        ImplFactorySensor factory = new ImplFactorySensor();
+        return new Target<>(switch (repository) {
+            case "mem" -> new RepositorySensorMem();
+            case "jpa" -> new RepositorySensorJPAImpl(factory, _entityManager);
+            default -> _context.getBean(RepositorySensorSpringData.class);
+        }, SensorID::new, id -> factory.createSensor(new DeviceId("device-0"), new SensorModelID("PC500W"), new SensorID(id)));
+    }
+
+    /**
+     * The repository of the rooms, each in the same house.
+     */
+    private Target<RoomID, ?> rooms() {
+        ImplFactoryRoom factory = new ImplFactoryRoom();
+        return new Target<>(switch (repository) {
+            case "mem" -> new RepositoryRoomMem();
+            case "jpa" -> new RepositoryRoomJPAImpl(factory, _entityManager);
+            default -> _context.getBean(RepositoryRoomSpringData.class);
+        }, RoomID::new, id -> factory.createRoom(new HouseId("house-0"), new RoomID(id), new FloorNumber(0),
+                new Dimensions(new Length(8), new Width(6), new Height(3)), true, new RoomName("LivingRoom")));
+    }
+
+    /**
+     * The repository of the houses, each at the same location.
+     */
+    private Target<HouseId, ?> houses() {
+        ImplFactoryHouse factory = new ImplFactoryHouse();
+        return new Target<>(switch (repository) {
+            case "mem" -> new RepositoryHouseMem();
+            case "jpa" -> new RepositoryHouseJPAImpl(factory, _entityManager);
+            default -> _context.getBean(RepositoryHouseSpringData.class);
+        }, HouseId::new, id -> factory.createHouse(new HouseId(id), new Location(new Address("Rua das Flores"),
+                new ZipCode("Portugal", "1234-123"), new GPSCoordinates(new Latitude(55), new Longitude(90)))));
+    }
+
+    /**
+     * A repository of an aggregate, with the way to create the aggregates and identities it is measured with.
+     */
+    private record Target<ID extends DomainId, T extends AggregateRoot<ID>>(Repository<ID, T> repository,
+                                                                            Function<String, ID> identity,
+                                                                            Function<String, T> aggregate) {
+
+        /**
+         * Saves the given number of aggregates, with the identities prefix0, prefix1 and so on.
+         */
+        void seed(String prefix, int size) {
+            List<T> batch = new ArrayList<>(SEED_BATCH_SIZE);
+            for (int i = 0; i < size; i++) {
+                batch.add(aggregate.apply(prefix + i));
+                if (batch.size() == SEED_BATCH_SIZE) {
+                    repository.saveAll(batch);
+                    batch = new ArrayList<>(SEED_BATCH_SIZE);
+                }
+            }
+            if (!batch.isEmpty()) {
+                repository.saveAll(batch);
+            }
+        }
+
+        T save(String id) {
+            return repository.save(aggregate.apply(id));
+        }
+
+        Optional<T> ofIdentity(String id) {
+            return repository.ofIdentity(identity.apply(id));
+        }
+
+        Iterable<T> findAll() {
+            return repository.findAll();
+        }
+    }
+
+    /**
+     * Wraps an entity manager so that closing it only clears its persistence context, and the JPA repository can keep
+     * using it after a save.
+     */
+    private static EntityManager reusable(EntityManager entityManager) {
+        return (EntityManager) Proxy.newProxyInstance(EntityManager.class.getClassLoader(), new Class<?>[]{EntityManager.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("close") && method.getParameterCount() == 0) {
+                        entityManager.clear();
+                        return null;
+                    }
+                    try {
+                        return method.invoke(entityManager, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+}
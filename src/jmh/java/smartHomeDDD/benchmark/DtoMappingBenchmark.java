@@ -0,0 +1,90 @@
+package smartHomeDDD.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import smartHomeDDD.domain.device.Device;
+import smartHomeDDD.domain.device.ImplFactoryDevice;
+import smartHomeDDD.domain.sensorReading.ImplFactorySensorReading;
+import smartHomeDDD.domain.sensorReading.SensorReading;
+import smartHomeDDD.domain.valueobject.*;
+import smartHomeDDD.dto.DeviceExitWebDTO;
+import smartHomeDDD.dto.DeviceMapper;
+import smartHomeDDD.dto.SensorReadingExitWebDTO;
+import smartHomeDDD.dto.SensorReadingMapper;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the mapping of lists of sensor readings and devices to the exit DTOs of the web controllers, alone and
+ * followed by their serialization to JSON, as the list endpoints return them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    /**
+     * The number of sensor readings and devices in the lists.
+     */
+    @Param({"100", "10000"})
+    public int size;
+
+    private static final long START = Timestamp.valueOf("2024-01-01 00:00:00").getTime();
+
+    private final ObjectMapper _objectMapper = new ObjectMapper();
+    private List<SensorReading> _sensorReadings;
+    private List<Device> _devices;
+
+    /**
+     * Creates the sensor readings and the devices.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        ImplFactorySensorReading factorySensorReading = new ImplFactorySensorReading();
+        ImplFactoryDevice factoryDevice = new ImplFactoryDevice();
+        _sensorReadings = new ArrayList<>(size);
+        _devices = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            _sensorReadings.add(factorySensorReading.createSensorReading(new SensorReadingID("reading-" + i),
+                    new Reading(String.valueOf(i % 40)), new DeviceId("device-" + i % 10), new SensorID("sensor-" + i % 10),
+                    new Timestamp(START + TimeUnit.MINUTES.toMillis(i))));
+            _devices.add(factoryDevice.createDevice(new DeviceId("device-" + i), new DeviceName("Device " + i),
+                    new DeviceModel("Model " + i % 5), new ActivationStatus(true), new RoomID("room-" + i % 20)));
+        }
+    }
+
+    @Benchmark
+    public List<SensorReadingExitWebDTO> sensorReadingsToExitWebDTO() {
+        List<SensorReadingExitWebDTO> dtos = new ArrayList<>(_sensorReadings.size());
+        for (SensorReading sensorReading : _sensorReadings) {
+            dtos.add(SensorReadingMapper.sensorReadingToExitWebDTO(sensorReading));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public byte[] sensorReadingsToJson() throws JsonProcessingException {
+        return _objectMapper.writeValueAsBytes(sensorReadingsToExitWebDTO());
+    }
+
+    @Benchmark
+    public List<DeviceExitWebDTO> devicesToExitWebDTO() {
+        List<DeviceExitWebDTO> dtos = new ArrayList<>(_devices.size());
+        for (Device device : _devices) {
+            dtos.add(DeviceMapper.domainToExitWebDTO(device));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public byte[] devicesToJson() throws JsonProcessingException {
+        return _objectMapper.writeValueAsBytes(devicesToExitWebDTO());
+    }
+}
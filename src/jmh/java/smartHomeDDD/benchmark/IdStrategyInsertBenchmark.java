@@ -0,0 +1,153 @@
+package smartHomeDDD.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import smartHomeDDD.services.IdStrategy;
+import smartHomeDDD.services.RandomUuidStrategy;
+import smartHomeDDD.services.TimeOrderedIdStrategy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.*;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Compares the insert throughput of sensor readings into an H2 SENSOR_READING table, and the size of the table and
+ * its indexes, with primary keys generated as random UUIDs, time ordered UUIDs and time ordered ULIDs.
+ * Each iteration starts from an empty file database and inserts batches of readings into it, so the primary key index
+ * grows as it would under a steady stream of readings. The table has the (sensorID, timeStamp) index of
+ * SensorReadingDataModel, which repeats the primary key in each of its entries. At the end of each iteration the
+ * number of rows and the disk space used by the table are reported as the rows and bytes counters of TableSize.
+ * The state is per thread, as the connection is not shared, and the counters of TableSize must be per thread too.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class IdStrategyInsertBenchmark {
+
+    /**
+     * The strategy the primary keys are generated with.
+     */
+    @Param({"random", "uuid7", "ulid"})
+    public String strategy;
+
+    /**
+     * The number of readings inserted per batch.
+     */
+    private static final int BATCH_SIZE = 1000;
+
+    /**
+     * The number of sensors the readings are spread across.
+     */
+    private static final int SENSORS = 200;
+
+    private IdStrategy _idStrategy;
+    private Path _directory;
+    private Connection _connection;
+    private PreparedStatement _insert;
+    private long _inserted;
+
+    /**
+     * Creates the generator of the primary keys.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        _idStrategy = switch (strategy) {
+            case "random" -> new RandomUuidStrategy();
+            case "uuid7" -> new TimeOrderedIdStrategy(TimeOrderedIdStrategy.Format.UUID);
+            case "ulid" -> new TimeOrderedIdStrategy(TimeOrderedIdStrategy.Format.ULID);
+            default -> throw new IllegalArgumentException("Unknown strategy: " + strategy);
+        };
+    }
+
+    /**
+     * Creates an empty file database with the table.
+     */
+    @Setup(Level.Iteration)
+    public void createTable() throws IOException, SQLException {
+        _directory = Files.createTempDirectory("id-strategy-benchmark");
+        _connection = DriverManager.getConnection("jdbc:h2:file:" + _directory.resolve("db"), "sa", "");
+        try (Statement statement = _connection.createStatement()) {
+            statement.execute("CREATE TABLE sensor_reading (sensor_readingid VARCHAR(255) PRIMARY KEY, reading VARCHAR(255), " +
+                    "numeric_reading DOUBLE, deviceid VARCHAR(255), sensorid VARCHAR(255), time_stamp TIMESTAMP(6))");
+            statement.execute("CREATE INDEX IDX_SENSOR_READING_SENSOR_TIME ON sensor_reading (sensorid, time_stamp)");
+        }
+        _connection.setAutoCommit(false);
+        _insert = _connection.prepareStatement(
+                "INSERT INTO sensor_reading (sensor_readingid, reading, numeric_reading, deviceid, sensorid, time_stamp) VALUES (?, ?, ?, ?, ?, ?)");
+        _inserted = 0;
+    }
+
+    /**
+     * Records the disk space used by the table, then deletes the database.
+     */
+    @TearDown(Level.Iteration)
+    public void dropTable(TableSize tableSize) throws IOException, SQLException {
+        try (Statement statement = _connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT DISK_SPACE_USED('SENSOR_READING')")) {
+            resultSet.next();
+            tableSize.bytes = resultSet.getLong(1);
+        }
+        _insert.close();
+        _connection.close();
+        try (Stream<Path> files = Files.walk(_directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * Inserts a batch of readings, one per sensor in turn, and commits it.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insertBatch(TableSize tableSize) throws SQLException {
+        Timestamp timeStamp = new Timestamp(System.currentTimeMillis());
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            int sensor = (int) (_inserted++ % SENSORS);
+            _insert.setString(1, _idStrategy.nextId());
+            _insert.setString(2, "20");
+            _insert.setDouble(3, 20);
+            _insert.setString(4, "device-" + sensor / 2);
+            _insert.setString(5, "sensor-" + sensor);
+            _insert.setTimestamp(6, timeStamp);
+            _insert.addBatch();
+        }
+        _insert.executeBatch();
+        _connection.commit();
+        tableSize.rows += BATCH_SIZE;
+    }
+
+    /**
+     * The size of the table at the end of an iteration, which JMH reports next to the throughput.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class TableSize {
+
+        /**
+         * The number of rows of the table.
+         */
+        public long rows;
+
+        /**
+         * The disk space used by the table and its indexes, in bytes.
+         */
+        public long bytes;
+
+        /**
+         * Starts the counters of an iteration from zero, as the table is created empty.
+         */
+        @Setup(Level.Iteration)
+        public void reset() {
+            rows = 0;
+            bytes = 0;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package smartHomeDDD.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import smartHomeDDD.controllersWeb.DeviceControllerWeb;
+import smartHomeDDD.controllersWeb.LinkTemplate;
+import smartHomeDDD.dto.DeviceIDExitWebDTO;
+import smartHomeDDD.services.TimeOrderedIdStrategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+
+/**
+ * Compares rendering a list of devices, each with its self link, and serializing it to JSON, when each link is built
+ * with linkTo(DeviceControllerWeb.class).slash(id), as the list endpoints did, and when the links are expanded from a
+ * LinkTemplate resolved once for the list.
+ * It runs outside a request, so linkTo resolves relative links; within a request it also reads the request context for
+ * each link, which the template reads only once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LinkRenderingBenchmark {
+
+    /**
+     * The number of devices in the list.
+     */
+    @Param({"10000"})
+    public int size;
+
+    private final ObjectMapper _objectMapper = new ObjectMapper();
+    private List<String> _ids;
+
+    /**
+     * Generates the IDs of the devices.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        TimeOrderedIdStrategy idStrategy = new TimeOrderedIdStrategy(TimeOrderedIdStrategy.Format.ULID);
+        _ids = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            _ids.add(idStrategy.nextId());
+        }
+    }
+
+    @Benchmark
+    public byte[] linkBuilderPerElement() throws JsonProcessingException {
+        List<DeviceIDExitWebDTO> devices = new ArrayList<>(size);
+        for (String id : _ids) {
+            DeviceIDExitWebDTO device = new DeviceIDExitWebDTO(id);
+            device.add(linkTo(DeviceControllerWeb.class).slash(device.getId()).withSelfRel());
+            devices.add(device);
+        }
+        return _objectMapper.writeValueAsBytes(devices);
+    }
+
+    @Benchmark
+    public byte[] linkTemplatePerList() throws JsonProcessingException {
+        List<DeviceIDExitWebDTO> devices = new ArrayList<>(size);
+        LinkTemplate selfLinks = LinkTemplate.of(DeviceControllerWeb.class);
+        for (String id : _ids) {
+            DeviceIDExitWebDTO device = new DeviceIDExitWebDTO(id);
+            device.add(selfLinks.self(device.getId()));
+            devices.add(device);
+        }
+        return _objectMapper.writeValueAsBytes(devices);
+    }
+}
@@ -0,0 +1,85 @@
+package smartHomeDDD.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import smartHomeDDD.domain.actuator.Actuator;
+import smartHomeDDD.domain.actuator.FactoryActuator;
+import smartHomeDDD.domain.actuator.ImplFactoryActuator;
+import smartHomeDDD.domain.sensor.FactorySensor;
+import smartHomeDDD.domain.sensor.ImplFactorySensor;
+import smartHomeDDD.domain.sensor.Sensor;
+import smartHomeDDD.domain.valueobject.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the creation of sensors and actuators through the model registry of the factories with the reflective
+ * path they used before, which looked up the model class and its constructor on every call.
+ * The identifiers are created once, as SensorModelID and ActuatorModelID read the configuration file when they are
+ * constructed. Run from the project root, where config.properties is.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ModelFactoryBenchmark {
+
+    /**
+     * The sensor model that is created.
+     */
+    @Param({"TSY01", "ONF01S"})
+    public String sensorModel;
+
+    /**
+     * The actuator model that is created.
+     */
+    @Param({"ONF01A"})
+    public String actuatorModel;
+
+    private FactorySensor _factorySensor;
+    private FactoryActuator _factoryActuator;
+    private DeviceId _deviceId;
+    private SensorModelID _sensorModelID;
+    private SensorID _sensorID;
+    private ActuatorID _actuatorID;
+    private ActuatorModelID _actuatorModelID;
+
+    /**
+     * Creates the factories and the identifiers.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        _factorySensor = new ImplFactorySensor();
+        _factoryActuator = new ImplFactoryActuator();
+        _deviceId = new DeviceId("device");
+        _sensorModelID = new SensorModelID(sensorModel);
+        _sensorID = new SensorID("sensor");
+        _actuatorID = new ActuatorID("actuator");
+        _actuatorModelID = new ActuatorModelID(actuatorModel);
+    }
+
+    @Benchmark
+    public Sensor sensorFromRegistry() {
+        return _factorySensor.createSensor(_deviceId, _sensorModelID, _sensorID);
+    }
+
+    @Benchmark
+    public Sensor sensorByReflection() throws ReflectiveOperationException {
+        return (Sensor) Class.forName("smartHomeDDD.domain.sensor." + _sensorModelID)
+                .getConstructor(DeviceId.class, SensorModelID.class, SensorID.class)
+                .newInstance(_deviceId, _sensorModelID, _sensorID);
+    }
+
+    @Benchmark
+    public Actuator actuatorFromRegistry() {
+        return _factoryActuator.createActuator(_actuatorID, _deviceId, _actuatorModelID);
+    }
+
+    @Benchmark
+    public Actuator actuatorByReflection() throws ReflectiveOperationException {
+        return (Actuator) Class.forName("smartHomeDDD.domain.actuator." + _actuatorModelID)
+                .getConstructor(ActuatorID.class, DeviceId.class, ActuatorModelID.class)
+                .newInstance(_actuatorID, _deviceId, _actuatorModelID);
+    }
+}
@@ -0,0 +1,101 @@
+package smartHomeDDD.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import smartHomeDDD.domain.device.Device;
+import smartHomeDDD.domain.device.ImplFactoryDevice;
+import smartHomeDDD.domain.repository.IRepositoryDevice;
+import smartHomeDDD.domain.repository.IRepositorySensor;
+import smartHomeDDD.domain.repository.IRepositorySensorReading;
+import smartHomeDDD.domain.sensor.ImplFactorySensor;
+import smartHomeDDD.domain.sensor.PC500W;
+import smartHomeDDD.domain.sensorReading.ImplFactorySensorReading;
+import smartHomeDDD.domain.sensorReading.SensorReading;
+import smartHomeDDD.domain.valueobject.*;
+import smartHomeDDD.persistence.mem.RepositoryDeviceMem;
+import smartHomeDDD.persistence.mem.RepositorySensorMem;
+import smartHomeDDD.persistence.mem.RepositorySensorReadingColumnarMem;
+import smartHomeDDD.services.GenerateRandomId;
+import smartHomeDDD.services.ServiceSensor;
+import smartHomeDDD.services.ServiceSensorReading;
+
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the single pass peak power consumption calculation with the interval by interval one.
+ * The house has a number of energy meters reporting one reading per minute, and the peak is calculated over the
+ * whole period with 5 minute intervals.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PeakPowerConsumptionBenchmark {
+
+    /**
+     * The length of the period, in days.
+     */
+    @Param({"1", "7", "30"})
+    public int days;
+
+    /**
+     * The number of energy meters in the house.
+     */
+    @Param({"10"})
+    public int meters;
+
+    /**
+     * The interval of the calculation, in minutes.
+     */
+    private static final long INTERVAL_IN_MINUTES = 5;
+
+    private ServiceSensorReading _serviceSensorReading;
+    private Device _powerGridMeter;
+    private Timestamp _start;
+    private Timestamp _end;
+
+    /**
+     * Fills the repositories with the energy meters and their readings.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        IRepositoryDevice repositoryDevice = new RepositoryDeviceMem();
+        IRepositorySensor repositorySensor = new RepositorySensorMem();
+        IRepositorySensorReading repositorySensorReading = new RepositorySensorReadingColumnarMem();
+        ImplFactorySensorReading factorySensorReading = new ImplFactorySensorReading();
+        ServiceSensor serviceSensor = new ServiceSensor(new ImplFactorySensor(), repositorySensor, repositoryDevice, new GenerateRandomId());
+        _serviceSensorReading = new ServiceSensorReading(repositorySensorReading, repositorySensor, serviceSensor, factorySensorReading, repositoryDevice);
+
+        _powerGridMeter = new ImplFactoryDevice().createDevice(new DeviceId("power-grid-meter"), new DeviceName("Power Grid Meter"),
+                new DeviceModel("PGM"), new ActivationStatus(true), new RoomID("room"));
+
+        _start = Timestamp.valueOf("2024-01-01 00:00:00");
+        long minutes = TimeUnit.DAYS.toMinutes(days);
+        _end = new Timestamp(_start.getTime() + TimeUnit.MINUTES.toMillis(minutes));
+
+        long readingNumber = 0;
+        for (int meter = 0; meter < meters; meter++) {
+            DeviceId deviceId = new DeviceId("meter-" + meter);
+            SensorID sensorID = new SensorID("sensor-" + meter);
+            repositorySensor.save(new PC500W(deviceId, new SensorModelID("PC500W"), sensorID));
+            for (long minute = 0; minute < minutes; minute++) {
+                Timestamp timeStamp = new Timestamp(_start.getTime() + TimeUnit.MINUTES.toMillis(minute));
+                SensorReading reading = factorySensorReading.createSensorReading(new SensorReadingID("reading-" + readingNumber++),
+                        new Reading(String.valueOf(100 + (minute * 7 + meter) % 400)), deviceId, sensorID, timeStamp);
+                repositorySensorReading.save(reading);
+            }
+        }
+    }
+
+    @Benchmark
+    public double singlePass() {
+        return _serviceSensorReading.calculateHousePeakPowerConsumptionWithinPeriod(_powerGridMeter, _start, _end, INTERVAL_IN_MINUTES);
+    }
+
+    @Benchmark
+    public double intervalByInterval() {
+        return _serviceSensorReading.calculateHousePeakPowerConsumptionWithinPeriodIntervalByInterval(_powerGridMeter, _start, _end, INTERVAL_IN_MINUTES);
+    }
+}
@@ -0,0 +1,182 @@
+package smartHomeDDD.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the latency of the sensor reading queries on an H2 SENSOR_READING table, with and without the
+ * (deviceID, timeStamp) and (sensorID, timeStamp) indexes. The table has the columns Hibernate generates for
+ * SensorReadingDataModel, and the queries are the SQL of the repository queries.
+ * The table is seeded with one reading per minute for each sensor, 5M readings by default; use -p rows=... for a
+ * quicker run. Seeding 5M readings needs a few GB of heap.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class SensorReadingQueryBenchmark {
+
+    /**
+     * The number of readings in the table.
+     */
+    @Param({"5000000"})
+    public int rows;
+
+    /**
+     * Whether the composite indexes are created, to compare the queries before and after them.
+     */
+    @Param({"false", "true"})
+    public boolean indexed;
+
+    /**
+     * The number of devices, each with two sensors.
+     */
+    private static final int DEVICES = 100;
+
+    /**
+     * The length of the queried time period, in minutes.
+     */
+    private static final int PERIOD_IN_MINUTES = 24 * 60;
+
+    private static final long START = Timestamp.valueOf("2024-01-01 00:00:00").getTime();
+
+    private Connection _connection;
+    private PreparedStatement _deviceWithinPeriod;
+    private PreparedStatement _sensorWithinPeriod;
+    private PreparedStatement _latestOfSensor;
+    private PreparedStatement _allOfSensorByTime;
+    private int _minutes;
+
+    /**
+     * Creates and seeds the table, and prepares the queries.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        _connection = DriverManager.getConnection("jdbc:h2:mem:sensor-reading-benchmark;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement statement = _connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS sensor_reading");
+            statement.execute("CREATE TABLE sensor_reading (sensor_readingid VARCHAR(255) PRIMARY KEY, reading VARCHAR(255), " +
+                    "numeric_reading DOUBLE, deviceid VARCHAR(255), sensorid VARCHAR(255), time_stamp TIMESTAMP(6))");
+        }
+
+        int sensors = DEVICES * 2;
+        _minutes = rows / sensors;
+        _connection.setAutoCommit(false);
+        try (PreparedStatement insert = _connection.prepareStatement(
+                "INSERT INTO sensor_reading (sensor_readingid, reading, numeric_reading, deviceid, sensorid, time_stamp) VALUES (?, ?, ?, ?, ?, ?)")) {
+            int pending = 0;
+            for (int minute = 0; minute < _minutes; minute++) {
+                Timestamp timeStamp = new Timestamp(START + TimeUnit.MINUTES.toMillis(minute));
+                for (int sensor = 0; sensor < sensors; sensor++) {
+                    int value = (minute + sensor) % 400;
+                    insert.setString(1, minute + "-" + sensor);
+                    insert.setString(2, String.valueOf(value));
+                    insert.setDouble(3, value);
+                    insert.setString(4, "device-" + sensor / 2);
+                    insert.setString(5, "sensor-" + sensor);
+                    insert.setTimestamp(6, timeStamp);
+                    insert.addBatch();
+                    if (++pending == 1000) {
+                        insert.executeBatch();
+                        pending = 0;
+                    }
+                }
+            }
+            insert.executeBatch();
+        }
+        _connection.commit();
+        _connection.setAutoCommit(true);
+
+        if (indexed) {
+            try (Statement statement = _connection.createStatement()) {
+                statement.execute("CREATE INDEX IDX_SENSOR_READING_DEVICE_TIME ON sensor_reading (deviceid, time_stamp)");
+                statement.execute("CREATE INDEX IDX_SENSOR_READING_SENSOR_TIME ON sensor_reading (sensorid, time_stamp)");
+                statement.execute("ANALYZE");
+            }
+        }
+
+        _deviceWithinPeriod = _connection.prepareStatement(
+                "SELECT * FROM sensor_reading WHERE deviceid = ? AND time_stamp BETWEEN ? AND ? ORDER BY time_stamp");
+        _sensorWithinPeriod = _connection.prepareStatement(
+                "SELECT * FROM sensor_reading WHERE sensorid = ? AND deviceid = ? AND time_stamp BETWEEN ? AND ? ORDER BY time_stamp");
+        _latestOfSensor = _connection.prepareStatement(
+                "SELECT * FROM sensor_reading WHERE sensorid = ? ORDER BY time_stamp DESC LIMIT 1");
+        _allOfSensorByTime = _connection.prepareStatement(
+                "SELECT * FROM sensor_reading WHERE sensorid = ? ORDER BY time_stamp DESC");
+    }
+
+    /**
+     * Drops the table and closes the connection.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = _connection.createStatement()) {
+            statement.execute("DROP TABLE sensor_reading");
+        }
+        _connection.close();
+    }
+
+    @Benchmark
+    public void readingsOfDeviceWithinPeriod(Blackhole blackhole) throws SQLException {
+        int device = ThreadLocalRandom.current().nextInt(DEVICES);
+        _deviceWithinPeriod.setString(1, "device-" + device);
+        setPeriod(_deviceWithinPeriod, 2);
+        consume(_deviceWithinPeriod, blackhole, Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    public void readingsOfSensorWithinPeriod(Blackhole blackhole) throws SQLException {
+        int sensor = ThreadLocalRandom.current().nextInt(DEVICES * 2);
+        _sensorWithinPeriod.setString(1, "sensor-" + sensor);
+        _sensorWithinPeriod.setString(2, "device-" + sensor / 2);
+        setPeriod(_sensorWithinPeriod, 3);
+        consume(_sensorWithinPeriod, blackhole, Integer.MAX_VALUE);
+    }
+
+    /**
+     * The latest reading of a sensor, with the query limited to one row.
+     */
+    @Benchmark
+    public void latestReadingOfSensor(Blackhole blackhole) throws SQLException {
+        _latestOfSensor.setString(1, "sensor-" + ThreadLocalRandom.current().nextInt(DEVICES * 2));
+        consume(_latestOfSensor, blackhole, 1);
+    }
+
+    /**
+     * The latest reading of a sensor as it was queried before, loading every reading of the sensor and keeping the first.
+     */
+    @Benchmark
+    public void latestReadingOfSensorFromFullList(Blackhole blackhole) throws SQLException {
+        _allOfSensorByTime.setString(1, "sensor-" + ThreadLocalRandom.current().nextInt(DEVICES * 2));
+        consume(_allOfSensorByTime, blackhole, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Sets a random period of PERIOD_IN_MINUTES within the seeded readings on a query.
+     */
+    private void setPeriod(PreparedStatement query, int firstParameter) throws SQLException {
+        int startMinute = ThreadLocalRandom.current().nextInt(Math.max(1, _minutes - PERIOD_IN_MINUTES));
+        query.setTimestamp(firstParameter, new Timestamp(START + TimeUnit.MINUTES.toMillis(startMinute)));
+        query.setTimestamp(firstParameter + 1, new Timestamp(START + TimeUnit.MINUTES.toMillis(startMinute + PERIOD_IN_MINUTES)));
+    }
+
+    /**
+     * Runs a query and reads up to a number of rows of its result.
+     */
+    private void consume(PreparedStatement query, Blackhole blackhole, int maxRows) throws SQLException {
+        try (ResultSet resultSet = query.executeQuery()) {
+            int read = 0;
+            while (read < maxRows && resultSet.next()) {
+                blackhole.consume(resultSet.getString(1));
+                blackhole.consume(resultSet.getTimestamp(6));
+                read++;
+            }
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package smartHomeDDD.benchmark;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import smartHomeDDD.Main;
+import smartHomeDDD.domain.repository.IRepositorySensorReading;
+import smartHomeDDD.domain.sensorReading.ImplFactorySensorReading;
+import smartHomeDDD.domain.sensorReading.SensorReading;
+import smartHomeDDD.domain.valueobject.DeviceId;
+import smartHomeDDD.domain.valueobject.Reading;
+import smartHomeDDD.domain.valueobject.SensorID;
+import smartHomeDDD.domain.valueobject.SensorReadingID;
+import smartHomeDDD.persistence.jpa.repository.RepositorySensorReadingJPAImpl;
+import smartHomeDDD.persistence.mem.RepositorySensorReadingColumnarMem;
+import smartHomeDDD.persistence.mem.RepositorySensorReadingMem;
+import smartHomeDDD.persistence.springdata.RepositorySensorReadingSpringData;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures save, ofIdentity and a time range query on each implementation of IRepositorySensorReading, the two in
+ * memory ones, the JPA one and the Spring Data one, with the last two on an in memory H2 database, at several sizes.
+ * The repository is seeded with one reading per minute for each of the devices, with saveAll in batches. The readings
+ * saved by the benchmark are added to the seeded ones, so the repository grows a little during the measurement.
+ * The JPA repository closes its entity manager after each save, so it is given one whose close only clears the
+ * persistence context, and the context is also cleared after each call so that ofIdentity always reads the database.
+ * The Spring Data repository runs in the application context, started without the web server and the seed data.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SensorReadingRepositoryBenchmark {
+
+    /**
+     * The implementation of the repository.
+     */
+    @Param({"mem", "columnar", "jpa", "springdata"})
+    public String repository;
+
+    /**
+     * The number of readings the repository is seeded with.
+     */
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    /**
+     * The number of devices the readings are spread across, each with one sensor.
+     */
+    private static final int DEVICES = 10;
+
+    /**
+     * The length of the queried time period, in minutes.
+     */
+    private static final int PERIOD_IN_MINUTES = 60;
+
+    /**
+     * The number of readings saved at a time when the repository is seeded.
+     */
+    private static final int SEED_BATCH_SIZE = 1000;
+
+    private static final long START = Timestamp.valueOf("2024-01-01 00:00:00").getTime();
+
+    private final ImplFactorySensorReading _factorySensorReading = new ImplFactorySensorReading();
+    private IRepositorySensorReading _repository;
+    private ConfigurableApplicationContext _context;
+    private EntityManagerFactory _entityManagerFactory;
+    private EntityManager _entityManager;
+    private int _minutes;
+    private long _saved;
+
+    /**
+     * Creates the repository and seeds it.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        String url = "jdbc:h2:mem:sensor-reading-repository-benchmark-" + repository + "-" + size + ";DB_CLOSE_DELAY=-1";
+        _repository = switch (repository) {
+            case "mem" -> new RepositorySensorReadingMem();
+            case "columnar" -> new RepositorySensorReadingColumnarMem();
+            case "jpa" -> {
+                _entityManagerFactory = Persistence.createEntityManagerFactory("SmartHome", Map.of(
+                        "jakarta.persistence.jdbc.url", url));
+                _entityManager = reusable(_entityManagerFactory.createEntityManager());
+                yield new RepositorySensorReadingJPAImpl(_factorySensorReading, _entityManager);
+            }
+            case "springdata" -> {
+                _context = new SpringApplicationBuilder(Main.class)
+                        .web(WebApplicationType.NONE)
+                        .run("--spring.profiles.active=benchmark",
+                                "--spring.datasource.url=" + url,
+                                "--spring.main.banner-mode=off",
+                                "--logging.level.root=WARN");
+                yield _context.getBean(RepositorySensorReadingSpringData.class);
+            }
+            default -> throw new IllegalArgumentException("Unknown repository: " + repository);
+        };
+
+        _minutes = size / DEVICES;
+        List<SensorReading> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        for (int minute = 0; minute < _minutes; minute++) {
+            for (int device = 0; device < DEVICES; device++) {
+                batch.add(reading("reading-" + minute + "-" + device, device, START + TimeUnit.MINUTES.toMillis(minute)));
+                if (batch.size() == SEED_BATCH_SIZE) {
+                    _repository.saveAll(batch);
+                    batch = new ArrayList<>(SEED_BATCH_SIZE);
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            _repository.saveAll(batch);
+        }
+        _saved = 0;
+    }
+
+    /**
+     * Clears the persistence context of the JPA repository, so the next call does not find the readings in it.
+     */
+    @TearDown(Level.Invocation)
+    public void clearPersistenceContext() {
+        if (_entityManager != null) {
+            _entityManager.clear();
+        }
+    }
+
+    /**
+     * Closes the database of the JPA and Spring Data repositories.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (_entityManagerFactory != null) {
+            _entityManagerFactory.close();
+        }
+        if (_context != null) {
+            _context.close();
+        }
+    }
+
+    @Benchmark
+    public SensorReading save() {
+        int device = (int) (_saved % DEVICES);
+        return _repository.save(reading("saved-" + _saved++, device, START + TimeUnit.MINUTES.toMillis(_minutes)));
+    }
+
+    @Benchmark
+    public Optional<SensorReading> ofIdentity() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return _repository.ofIdentity(new SensorReadingID("reading-" + random.nextInt(_minutes) + "-" + random.nextInt(DEVICES)));
+    }
+
+    /**
+     * The readings of a device within a random period of PERIOD_IN_MINUTES, which has the same number of readings
+     * whatever the size of the repository.
+     */
+    @Benchmark
+    public List<SensorReading> measurementsFromDeviceWithinPeriod() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long start = START + TimeUnit.MINUTES.toMillis(random.nextInt(Math.max(1, _minutes - PERIOD_IN_MINUTES)));
+        return _repository.getMeasurementsFromDeviceWithinPeriod(new DeviceId("device-" + random.nextInt(DEVICES)),
+                new Timestamp(start), new Timestamp(start + TimeUnit.MINUTES.toMillis(PERIOD_IN_MINUTES)));
+    }
+
+    /**
+     * Creates a reading of the sensor of a device.
+     */
+    private SensorReading reading(String id, int device, long time) {
+        return _factorySensorReading.createSensorReading(new SensorReadingID(id), new Reading(String.valueOf(time / 60_000 % 40)),
+                new DeviceId("device-" + device), new SensorID("sensor-" + device), new Timestamp(time));
+    }
+
+    /**
+     * Wraps an entity manager so that closing it only clears its persistence context, and the JPA repository can keep
+     * using it after a save.
+     */
+    private static EntityManager reusable(EntityManager entityManager) {
+        return (EntityManager) Proxy.newProxyInstance(EntityManager.class.getClassLoader(), new Class<?>[]{EntityManager.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("close") && method.getParameterCount() == 0) {
+                        entityManager.clear();
+                        return null;
+                    }
+                    try {
+                        return method.invoke(entityManager, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+}
@@ -0,0 +1,92 @@
+package smartHomeDDD.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import smartHomeDDD.domain.sensor.ImplFactorySensor;
+import smartHomeDDD.domain.sensorReading.ImplFactorySensorReading;
+import smartHomeDDD.domain.sensorReading.SensorReading;
+import smartHomeDDD.domain.valueobject.*;
+import smartHomeDDD.persistence.mem.RepositoryDeviceMem;
+import smartHomeDDD.persistence.mem.RepositorySensorMem;
+import smartHomeDDD.persistence.mem.RepositorySensorReadingMem;
+import smartHomeDDD.services.GenerateRandomId;
+import smartHomeDDD.services.ServiceSensor;
+import smartHomeDDD.services.ServiceSensorReading;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the maximum difference between the indoor and outdoor temperatures, with the readings of each side joined
+ * within a time window, over periods of several lengths.
+ * The indoor sensor reports one reading per minute and the outdoor sensor one every 5 minutes, and the readings are
+ * shuffled, as they come from the repository in no particular order.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TemperatureDifferenceBenchmark {
+
+    /**
+     * The length of the period, in days.
+     */
+    @Param({"1", "7", "30"})
+    public int days;
+
+    /**
+     * The time window within which an indoor and an outdoor reading are compared, in minutes.
+     */
+    @Param({"5"})
+    public int deltaTime;
+
+    /**
+     * The interval between the outdoor readings, in minutes.
+     */
+    private static final int OUTSIDE_INTERVAL_IN_MINUTES = 5;
+
+    private static final long START = Timestamp.valueOf("2024-01-01 00:00:00").getTime();
+
+    private ServiceSensorReading _serviceSensorReading;
+    private List<SensorReading> _insideReadings;
+    private List<SensorReading> _outsideReadings;
+
+    /**
+     * Creates the service and the readings of both sensors.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        RepositoryDeviceMem repositoryDevice = new RepositoryDeviceMem();
+        RepositorySensorMem repositorySensor = new RepositorySensorMem();
+        ImplFactorySensorReading factorySensorReading = new ImplFactorySensorReading();
+        ServiceSensor serviceSensor = new ServiceSensor(new ImplFactorySensor(), repositorySensor, repositoryDevice, new GenerateRandomId());
+        _serviceSensorReading = new ServiceSensorReading(new RepositorySensorReadingMem(), repositorySensor, serviceSensor,
+                factorySensorReading, repositoryDevice);
+
+        long minutes = TimeUnit.DAYS.toMinutes(days);
+        _insideReadings = new ArrayList<>();
+        _outsideReadings = new ArrayList<>();
+        for (long minute = 0; minute < minutes; minute++) {
+            Timestamp timeStamp = new Timestamp(START + TimeUnit.MINUTES.toMillis(minute));
+            _insideReadings.add(factorySensorReading.createSensorReading(new SensorReadingID("inside-" + minute),
+                    new Reading(String.valueOf(20 + minute % 5)), new DeviceId("inside"), new SensorID("inside-sensor"), timeStamp));
+            if (minute % OUTSIDE_INTERVAL_IN_MINUTES == 0) {
+                _outsideReadings.add(factorySensorReading.createSensorReading(new SensorReadingID("outside-" + minute),
+                        new Reading(String.valueOf(minute / 60 % 24 - 5)), new DeviceId("outside"), new SensorID("outside-sensor"), timeStamp));
+            }
+        }
+        Random random = new Random(42);
+        Collections.shuffle(_insideReadings, random);
+        Collections.shuffle(_outsideReadings, random);
+    }
+
+    @Benchmark
+    public int differenceBetweenReadings() {
+        return _serviceSensorReading.getDifferenceBetweenReadings(_insideReadings, _outsideReadings, deltaTime);
+    }
+}
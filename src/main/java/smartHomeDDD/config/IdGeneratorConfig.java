@@ -0,0 +1,43 @@
+package smartHomeDDD.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import smartHomeDDD.services.IdStrategy;
+import smartHomeDDD.services.RandomUuidStrategy;
+import smartHomeDDD.services.TimeOrderedIdStrategy;
+
+/**
+ * Configuration class that chooses the strategy the IDs of new aggregates are generated with, from the
+ * id.generator.strategy property:
+ * random for random UUIDs, uuid7 for time ordered UUIDs, or ulid for time ordered IDs in the 26 character encoding of
+ * ULIDs. It defaults to random.
+ */
+@Configuration
+public class IdGeneratorConfig {
+
+    /**
+     * The property the strategy is read from.
+     */
+    private static final String STRATEGY = "id.generator.strategy";
+
+    /**
+     * Creates the strategy the IDs of new aggregates are generated with.
+     * The strategy is selected by the id.generator.strategy property, which is random, uuid7 or ulid, and defaults to
+     * random when it is not set.
+     *
+     * @param environment The environment the property is read from.
+     * @return The strategy of the generated IDs.
+     * @throws IllegalArgumentException if the property names an unknown strategy.
+     */
+    @Bean
+    public IdStrategy idStrategy(Environment environment) {
+        String strategy = environment.getProperty(STRATEGY, "random");
+        return switch (strategy) {
+            case "random" -> new RandomUuidStrategy();
+            case "uuid7" -> new TimeOrderedIdStrategy(TimeOrderedIdStrategy.Format.UUID);
+            case "ulid" -> new TimeOrderedIdStrategy(TimeOrderedIdStrategy.Format.ULID);
+            default -> throw new IllegalArgumentException("Unknown " + STRATEGY + ": " + strategy);
+        };
+    }
+}
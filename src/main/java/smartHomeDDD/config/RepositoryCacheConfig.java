@@ -0,0 +1,120 @@
+package smartHomeDDD.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import smartHomeDDD.persistence.cache.CachingRepositoryActuatorModel;
+import smartHomeDDD.persistence.cache.CachingRepositoryActuatorType;
+import smartHomeDDD.persistence.cache.CachingRepositorySensorModel;
+import smartHomeDDD.persistence.cache.CachingRepositorySensorType;
+import smartHomeDDD.persistence.springdata.RepositoryActuatorModelSpringData;
+import smartHomeDDD.persistence.springdata.RepositoryActuatorTypeSpringData;
+import smartHomeDDD.persistence.springdata.RepositorySensorModelSpringData;
+import smartHomeDDD.persistence.springdata.RepositorySensorTypeSpringData;
+
+import java.time.Duration;
+
+/**
+ * Configuration class that puts a cache in front of the repositories of the reference aggregates, which are read on
+ * nearly every request and almost never change.
+ * The cache of each aggregate is enabled with repository.cache.&lt;aggregate&gt;.enabled, and sized with
+ * repository.cache.&lt;aggregate&gt;.max-size, .ttl and .miss-ttl. The cached repository is the primary one, so it is
+ * the one injected in the services.
+ */
+@Configuration
+public class RepositoryCacheConfig {
+
+    /**
+     * The prefix of the cache properties.
+     */
+    private static final String PREFIX = "repository.cache.";
+
+    /**
+     * The environment the cache properties are read from.
+     */
+    private final Environment _environment;
+
+    /**
+     * Constructor for the RepositoryCacheConfig class.
+     *
+     * @param environment The environment the cache properties are read from.
+     */
+    public RepositoryCacheConfig(Environment environment) {
+        this._environment = environment;
+    }
+
+    /**
+     * Creates the cache in front of the repository of the sensor types, when repository.cache.sensor-type.enabled is true.
+     *
+     * @param repository The Spring Data repository of the sensor types.
+     * @return The caching repository of the sensor types.
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = PREFIX + "sensor-type.enabled", havingValue = "true")
+    public CachingRepositorySensorType cachingRepositorySensorType(RepositorySensorTypeSpringData repository) {
+        return new CachingRepositorySensorType(repository, maxSize("sensor-type"), ttl("sensor-type"), missTtl("sensor-type"));
+    }
+
+    /**
+     * Creates the cache in front of the repository of the sensor models, when repository.cache.sensor-model.enabled is true.
+     *
+     * @param repository The Spring Data repository of the sensor models.
+     * @return The caching repository of the sensor models.
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = PREFIX + "sensor-model.enabled", havingValue = "true")
+    public CachingRepositorySensorModel cachingRepositorySensorModel(RepositorySensorModelSpringData repository) {
+        return new CachingRepositorySensorModel(repository, maxSize("sensor-model"), ttl("sensor-model"), missTtl("sensor-model"));
+    }
+
+    /**
+     * Creates the cache in front of the repository of the actuator types, when repository.cache.actuator-type.enabled is true.
+     *
+     * @param repository The Spring Data repository of the actuator types.
+     * @return The caching repository of the actuator types.
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = PREFIX + "actuator-type.enabled", havingValue = "true")
+    public CachingRepositoryActuatorType cachingRepositoryActuatorType(RepositoryActuatorTypeSpringData repository) {
+        return new CachingRepositoryActuatorType(repository, maxSize("actuator-type"), ttl("actuator-type"), missTtl("actuator-type"));
+    }
+
+    /**
+     * Creates the cache in front of the repository of the actuator models, when repository.cache.actuator-model.enabled is true.
+     *
+     * @param repository The Spring Data repository of the actuator models.
+     * @return The caching repository of the actuator models.
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = PREFIX + "actuator-model.enabled", havingValue = "true")
+    public CachingRepositoryActuatorModel cachingRepositoryActuatorModel(RepositoryActuatorModelSpringData repository) {
+        return new CachingRepositoryActuatorModel(repository, maxSize("actuator-model"), ttl("actuator-model"), missTtl("actuator-model"));
+    }
+
+    /**
+     * Reads the maximum number of entries of the cache of an aggregate, which defaults to 1000.
+     */
+    private int maxSize(String aggregate) {
+        return _environment.getProperty(PREFIX + aggregate + ".max-size", Integer.class, 1000);
+    }
+
+    /**
+     * Reads the time to live of the entries of the cache of an aggregate, which defaults to ten minutes.
+     */
+    private Duration ttl(String aggregate) {
+        return _environment.getProperty(PREFIX + aggregate + ".ttl", Duration.class, Duration.ofMinutes(10));
+    }
+
+    /**
+     * Reads the time to live of the misses of the cache of an aggregate, which defaults to thirty seconds.
+     */
+    private Duration missTtl(String aggregate) {
+        return _environment.getProperty(PREFIX + aggregate + ".miss-ttl", Duration.class, Duration.ofSeconds(30));
+    }
+}
@@ -5,10 +5,13 @@ import org.springframework.hateoas.Link;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import smartHomeDDD.domain.actuatorModel.ActuatorModel;
 import smartHomeDDD.domain.valueobject.ActuatorModelID;
 import smartHomeDDD.domain.valueobject.ActuatorTypeID;
 import smartHomeDDD.dto.*;
+import smartHomeDDD.services.AggregateVersions;
+import smartHomeDDD.services.AggregateVersions.Aggregate;
 import smartHomeDDD.services.ServiceActuatorModel;
 
 import java.util.ArrayList;
@@ -28,29 +31,43 @@ public class ActuatorModelWebController {
      */
     private final ServiceActuatorModel serviceActuatorModel;
 
+    /**
+     * The versions of the aggregates, which conditional GET requests are checked against.
+     */
+    private final AggregateVersions aggregateVersions;
+
     /**
      * Constructor for the ActuatorModelWebController class.
      * @param serviceActuatorModel The service for actuator models.
+     * @param aggregateVersions The versions of the aggregates, which conditional GET requests are checked against.
      */
-    public ActuatorModelWebController(ServiceActuatorModel serviceActuatorModel) {
+    public ActuatorModelWebController(ServiceActuatorModel serviceActuatorModel, AggregateVersions aggregateVersions) {
         this.serviceActuatorModel = serviceActuatorModel;
+        this.aggregateVersions = aggregateVersions;
     }
 
     /**
      * Retrieves all actuator models associated with a given actuator type.
      * @param ID The unique identifier of the actuator type.
+     * @param webRequest The request, answered with 304 Not Modified without reading the actuator models if the client
+     *                   holds their current version.
      * @return A list of actuator models associated with the actuator type.
      */
     @GetMapping("")
-    public ResponseEntity<List<ActuatorModelExitWebDTO>> getActuatorModelsByType(@RequestParam("actuatorTypeID") String ID) {
+    public ResponseEntity<List<ActuatorModelExitWebDTO>> getActuatorModelsByType(@RequestParam("actuatorTypeID") String ID, WebRequest webRequest) {
+        if (webRequest.checkNotModified(aggregateVersions.eTag(Aggregate.ACTUATOR_MODEL),
+                aggregateVersions.lastModified(Aggregate.ACTUATOR_MODEL))) {
+            return null; // answered with 304 Not Modified
+        }
         ActuatorTypeID actuatorTypeID = ActuatorTypeMapper.DTOToActuatorTypeID(ID);
         List<ActuatorModel> actuatorModels = serviceActuatorModel.getModelsByActuatorType(actuatorTypeID);
 
         List<ActuatorModelExitWebDTO> actuatorModelExitWebDTOs = new ArrayList<>();
 
+        LinkTemplate selfLinks = LinkTemplate.of(ActuatorModelWebController.class);
         for (ActuatorModel model : actuatorModels) {
             ActuatorModelExitWebDTO webDTO = ActuatorModelMapper.domainToExitWebDTO(model);
-            Link selfLink = linkTo(ActuatorModelWebController.class).slash(model.identity()).withSelfRel();
+            Link selfLink = selfLinks.self(model.identity());
             webDTO.add(selfLink);
             actuatorModelExitWebDTOs.add(webDTO);
         }
@@ -61,10 +78,16 @@ public class ActuatorModelWebController {
     /**
      * Retrieves an actuator model by its unique identifier.
      * @param id The unique identifier of the actuator model.
+     * @param webRequest The request, answered with 304 Not Modified without reading the actuator models if the client
+     *                   holds their current version.
      * @return The actuator model associated with the unique identifier.
      */
     @GetMapping("/{actuatorModelID}")
-    public ResponseEntity<?> getActuatorModelByID(@PathVariable(value = "actuatorModelID") String id) {
+    public ResponseEntity<?> getActuatorModelByID(@PathVariable(value = "actuatorModelID") String id, WebRequest webRequest) {
+        if (webRequest.checkNotModified(aggregateVersions.eTag(Aggregate.ACTUATOR_MODEL),
+                aggregateVersions.lastModified(Aggregate.ACTUATOR_MODEL))) {
+            return null; // answered with 304 Not Modified
+        }
         try {
             ActuatorModelID actuatorModelID = ActuatorModelMapper.convertToActuatorModelID(id);
             ActuatorModel actuatorModel = serviceActuatorModel.getActuatorModelByID(actuatorModelID);
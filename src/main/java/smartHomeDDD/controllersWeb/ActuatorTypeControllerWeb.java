@@ -5,9 +5,12 @@ import org.springframework.hateoas.Link;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import smartHomeDDD.domain.actuatorType.ActuatorType;
 import smartHomeDDD.domain.valueobject.ActuatorTypeID;
 import smartHomeDDD.dto.*;
+import smartHomeDDD.services.AggregateVersions;
+import smartHomeDDD.services.AggregateVersions.Aggregate;
 import smartHomeDDD.services.ServiceActuatorType;
 
 import java.util.ArrayList;
@@ -28,29 +31,41 @@ public class ActuatorTypeControllerWeb {
 
     private final ServiceActuatorType serviceActuatorType;
 
+    /**
+     * The versions of the aggregates, which conditional GET requests are checked against.
+     */
+    private final AggregateVersions aggregateVersions;
+
     /**
      * Constructor of the class.
      *
      * @param serviceActuatorType The service that will be used to interact with the domain.
+     * @param aggregateVersions The versions of the aggregates, which conditional GET requests are checked against.
      */
-    public ActuatorTypeControllerWeb(ServiceActuatorType serviceActuatorType) {
+    public ActuatorTypeControllerWeb(ServiceActuatorType serviceActuatorType, AggregateVersions aggregateVersions) {
         this.serviceActuatorType = serviceActuatorType;
+        this.aggregateVersions = aggregateVersions;
     }
 
     /**
      * Gets a list of actuator types.
+     * @param webRequest The request, answered with 304 Not Modified without reading the actuator types if the client
+     *                   holds their current version.
      * @return The list of existing actuator types.
      */
     @GetMapping(path = "")
-    public ResponseEntity<List<ActuatorTypeIDExitWebDTO>> getActuatorTypes() {
+    public ResponseEntity<List<ActuatorTypeIDExitWebDTO>> getActuatorTypes(WebRequest webRequest) {
+        if (webRequest.checkNotModified(aggregateVersions.eTag(Aggregate.ACTUATOR_TYPE),
+                aggregateVersions.lastModified(Aggregate.ACTUATOR_TYPE))) {
+            return null; // answered with 304 Not Modified
+        }
         Iterable<ActuatorType> actuatorTypeList = serviceActuatorType.getActuatorTypes();
         List<ActuatorTypeIDExitWebDTO> listActuatorTypesDTO = new ArrayList<>();
+        LinkTemplate selfLinks = LinkTemplate.of(ActuatorTypeControllerWeb.class);
         for (ActuatorType actuatorType : actuatorTypeList) {
             ActuatorTypeIDExitWebDTO actuatorTypeWebDTO = ActuatorTypeMapper.domainToIDExitWebDTO(actuatorType);
 
-            Link selfLink = linkTo(ActuatorTypeControllerWeb.class)
-                    .slash(actuatorTypeWebDTO.getActuatorTypeID())
-                    .withSelfRel();
+            Link selfLink = selfLinks.self(actuatorTypeWebDTO.getActuatorTypeID());
             actuatorTypeWebDTO.add(selfLink);
 
             listActuatorTypesDTO.add(actuatorTypeWebDTO);
@@ -62,10 +77,16 @@ public class ActuatorTypeControllerWeb {
      * Gets an actuator type by its unique identifier.
      *
      * @param id The unique identifier of the actuator type.
+     * @param webRequest The request, answered with 304 Not Modified without reading the actuator types if the client
+     *                   holds their current version.
      * @return The actuator type associated with the unique identifier.
      */
     @GetMapping("/{actuatorTypeID}")
-    public ResponseEntity<?> getActuatorTypeByID(@PathVariable(value = "actuatorTypeID") String id) {
+    public ResponseEntity<?> getActuatorTypeByID(@PathVariable(value = "actuatorTypeID") String id, WebRequest webRequest) {
+        if (webRequest.checkNotModified(aggregateVersions.eTag(Aggregate.ACTUATOR_TYPE),
+                aggregateVersions.lastModified(Aggregate.ACTUATOR_TYPE))) {
+            return null; // answered with 304 Not Modified
+        }
         try {
             ActuatorTypeID actuatorModelID = ActuatorTypeMapper.DTOToActuatorTypeID(id);
             ActuatorType actuatorType = serviceActuatorType.getActuatorTypeById(actuatorModelID);
@@ -4,8 +4,10 @@ import jakarta.persistence.EntityNotFoundException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.hateoas.Link;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import smartHomeDDD.domain.actuator.Actuator;
 import smartHomeDDD.domain.device.Device;
 import smartHomeDDD.domain.sensor.Sensor;
@@ -14,6 +16,8 @@ import smartHomeDDD.domain.valueobject.*;
 import smartHomeDDD.dto.*;
 import smartHomeDDD.services.*;
 
+import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -160,9 +164,10 @@ public class DeviceControllerWeb {
 
             List<SensorIDExitWebDTO> listSensorsDTO = new ArrayList<>();
 
+            LinkTemplate selfLinks = LinkTemplate.of(SensorControllerWeb.class);
             for (Sensor sensor : sensors) {
                 SensorIDExitWebDTO sensorDTO = SensorMapper.convertSensorIDToExitWebDTO(sensor);
-                Link selfLink = linkTo(SensorControllerWeb.class).slash(sensorDTO.getSensorId()).withSelfRel();
+                Link selfLink = selfLinks.self(sensorDTO.getSensorId());
                 sensorDTO.add(selfLink);
                 listSensorsDTO.add(sensorDTO);
             }
@@ -193,9 +198,10 @@ public class DeviceControllerWeb {
 
             List<ActuatorIDExitWebDTO> listActuatorsDTO = new ArrayList<>();
 
+            LinkTemplate selfLinks = LinkTemplate.of(ActuatorControllerWeb.class);
             for (Actuator actuator : actuators) {
                 ActuatorIDExitWebDTO actuatorDTO = ActuatorMapper.convertToIDActuatorExitWebDTO(actuator.identity());
-                Link selfLink = linkTo(ActuatorControllerWeb.class).slash(actuatorDTO.getActuatorId()).withSelfRel();
+                Link selfLink = selfLinks.self(actuatorDTO.getActuatorId());
                 actuatorDTO.add(selfLink);
                 listActuatorsDTO.add(actuatorDTO);
             }
@@ -228,9 +234,10 @@ public class DeviceControllerWeb {
 
             List<SensorReadingIDExitWebDTO> listSensorReadingsDTO = new ArrayList<>();
 
+            LinkTemplate selfLinks = LinkTemplate.of(SensorReadingWebController.class);
             for (SensorReading sensorReading : sensorReadings) {
                 SensorReadingIDExitWebDTO sensorReadingDTO = SensorReadingMapper.sensorReadingIDToExitWebDTO(sensorReading);
-                Link selfLink = linkTo(SensorReadingWebController.class).slash(sensorReadingDTO.getSensorReadingID()).withSelfRel();
+                Link selfLink = selfLinks.self(sensorReadingDTO.getSensorReadingID());
                 sensorReadingDTO.add(selfLink);
                 listSensorReadingsDTO.add(sensorReadingDTO);
             }
@@ -243,6 +250,77 @@ public class DeviceControllerWeb {
 
     }
 
+    /**
+     * This method is responsible for retrieving a page of the sensor readings associated with a specific device.
+     * It is used instead of the list of all the sensor readings of the device when a limit is given.
+     * The readings are ordered by timestamp and then by ID, and the response holds an opaque cursor and a "next"
+     * link to the following page, if there is one.
+     * If the limit or the cursor is invalid, a BAD_REQUEST (400) status is returned.
+     *
+     * @param id The unique identifier for the device.
+     * @param limit The maximum number of sensor readings in the page.
+     * @param cursor (Optional) The cursor returned with the previous page, or none for the first page.
+     * @return A page of the sensor readings associated with the given device ID.
+     */
+    @GetMapping(value = "/{deviceID}/sensor-readings", params = "limit")
+    public ResponseEntity<?> getSensorReadingsPageByDevice(@PathVariable(value = "deviceID") String id,
+                                                           @RequestParam(value = "limit") int limit,
+                                                           @RequestParam(value = "cursor", required = false) String cursor) {
+        try {
+            DeviceId deviceId = DeviceMapper.DTOToDeviceId(id);
+
+            ServiceSensorReading.SensorReadingPage page = serviceSensorReading.getSensorReadingsPageFromDevice(
+                    deviceId, null, null, SensorReadingMapper.DTOToCursor(cursor), limit);
+
+            return new ResponseEntity<>(SensorReadingWebController.pageToExitWebDTO(page), HttpStatus.OK);
+
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * This method is responsible for exporting all sensor readings associated with a specific device, as NDJSON or CSV.
+     * Unlike the list of sensor readings, the export has no HATEOAS links: the readings are read from the service
+     * layer one at a time, ordered by timestamp, and each one is written straight to the response as a line, so the
+     * memory used does not grow with the history of the device.
+     * If the device is not found, a NOT_FOUND (404) status is returned, and if the format is not supported, a
+     * BAD_REQUEST (400) status is returned.
+     *
+     * @param id The unique identifier for the device.
+     * @param format The format of the export, "ndjson" or "csv".
+     * @return A ResponseEntity streaming the sensor readings of the device in the requested format.
+     */
+    @GetMapping(value = "/{deviceID}/sensor-readings", params = {"format", "!limit"})
+    public ResponseEntity<?> exportSensorReadingsByDevice(@PathVariable(value = "deviceID") String id,
+                                                          @RequestParam(value = "format") String format) {
+        try {
+            SensorReadingExportFormat exportFormat = SensorReadingExportFormat.fromString(format);
+            DeviceId deviceId = DeviceMapper.DTOToDeviceId(id);
+            serviceDevice.getDeviceByID(deviceId);
+
+            StreamingResponseBody body = outputStream -> {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+                writer.write(exportFormat.header());
+                serviceSensorReading.forEachSensorReadingOfDevice(deviceId, sensorReading -> {
+                    try {
+                        writer.write(exportFormat.line(sensorReading));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                writer.flush();
+            };
+
+            return ResponseEntity.ok().contentType(MediaType.parseMediaType(exportFormat.getMediaType())).body(body);
+
+        } catch (EntityNotFoundException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
     /**
      * This method is responsible for retrieving devices based on the provided query parameter.
      * If the 'getBy' parameter is not provided, it returns all devices.
@@ -309,8 +387,9 @@ public class DeviceControllerWeb {
         List<Device> devices = serviceDevice.listOfActiveDevices();
         List<DeviceIDExitWebDTO> listDeviceWebDTOs = DeviceMapper.domainListToWebDTO(devices);
 
+        LinkTemplate selfLinks = LinkTemplate.of(DeviceControllerWeb.class);
         for (DeviceIDExitWebDTO device : listDeviceWebDTOs) {
-            Link selfLink = linkTo(DeviceControllerWeb.class).slash(device.getId()).withSelfRel();
+            Link selfLink = selfLinks.self(device.getId());
             device.add(selfLink);
         }
 
@@ -326,10 +405,11 @@ public class DeviceControllerWeb {
         Map<String, List<Device>> devices = serviceDeviceByType.getDevicesByType();
         Map<String, List<DeviceIDExitWebDTO>> devicesDTO = DeviceMapper.domainMapToExitWebDTO(devices);
 
+        LinkTemplate selfLinks = LinkTemplate.of(DeviceControllerWeb.class);
         for (Map.Entry<String, List<DeviceIDExitWebDTO>> entry : devicesDTO.entrySet()) {
             List<DeviceIDExitWebDTO> devicesList = entry.getValue();
             for (DeviceIDExitWebDTO device : devicesList) {
-                Link selfLink = linkTo(DeviceControllerWeb.class).slash(device.getId()).withSelfRel();
+                Link selfLink = selfLinks.self(device.getId());
                 device.add(selfLink);
             }
         }
@@ -344,9 +424,10 @@ public class DeviceControllerWeb {
     private ResponseEntity<List<DeviceIDExitWebDTO>> getAllDevices() {
         Iterable<Device> devices = serviceDevice.getAllDevices();
         List<DeviceIDExitWebDTO> listDeviceWebDTOs = new ArrayList<>();
+        LinkTemplate selfLinks = LinkTemplate.of(DeviceControllerWeb.class);
         for (Device device : devices) {
             DeviceIDExitWebDTO deviceWebDTO = DeviceMapper.domainToIDExitWebDTO(device);
-            Link selfLink = linkTo(DeviceControllerWeb.class).slash(deviceWebDTO.getId()).withSelfRel();
+            Link selfLink = selfLinks.self(deviceWebDTO.getId());
             deviceWebDTO.add(selfLink);
             listDeviceWebDTOs.add(deviceWebDTO);
         }
@@ -6,14 +6,18 @@ import org.springframework.hateoas.Link;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 import smartHomeDDD.domain.device.Device;
 import smartHomeDDD.domain.house.House;
 import smartHomeDDD.domain.room.Room;
 import smartHomeDDD.domain.valueobject.*;
 import smartHomeDDD.dto.*;
+import smartHomeDDD.services.AggregateVersions;
+import smartHomeDDD.services.AggregateVersions.Aggregate;
 import smartHomeDDD.services.ServiceDevice;
 import smartHomeDDD.services.ServiceHouse;
+import smartHomeDDD.services.ServiceHouseSnapshot;
 import smartHomeDDD.services.ServiceRoom;
 import smartHomeDDD.services.ServiceSensorReading;
 
@@ -52,15 +56,30 @@ public class HouseWebController {
      */
     private final ServiceSensorReading _serviceSensorReading;
 
+    /**
+     * The versions of the aggregates, which conditional GET requests are checked against.
+     */
+    private final AggregateVersions _aggregateVersions;
+
+    /**
+     * Service for building the snapshots of houses.
+     */
+    private final ServiceHouseSnapshot _serviceHouseSnapshot;
+
     /**
      * Constructs a new HouseControllerWeb instance.
      * @param serviceHouse The service for managing houses.
+     * @param aggregateVersions The versions of the aggregates, which conditional GET requests are checked against.
+     * @param serviceHouseSnapshot The service for building the snapshots of houses.
      */
-    public HouseWebController(ServiceHouse serviceHouse, ServiceRoom _serviceRoom, ServiceDevice serviceDevice, ServiceSensorReading serviceSensorReading) {
+    public HouseWebController(ServiceHouse serviceHouse, ServiceRoom _serviceRoom, ServiceDevice serviceDevice, ServiceSensorReading serviceSensorReading,
+                              AggregateVersions aggregateVersions, ServiceHouseSnapshot serviceHouseSnapshot) {
         this._serviceHouse = serviceHouse;
         this._serviceRoom = _serviceRoom;
         this._serviceDevice = serviceDevice;
         this._serviceSensorReading = serviceSensorReading;
+        this._aggregateVersions = aggregateVersions;
+        this._serviceHouseSnapshot = serviceHouseSnapshot;
     }
 
     /**
@@ -106,20 +125,25 @@ public class HouseWebController {
 
     /**
      * Retrieves a list of all houses.
+     * @param webRequest The request, answered with 304 Not Modified without reading the houses if the client
+     *                   holds their current version.
      * @return A ResponseEntity containing the list of HouseWebDTOs and HTTP status.
      */
     @GetMapping("")
-    public ResponseEntity<List<HouseIDExitWebDTO>> getHouses() {
+    public ResponseEntity<List<HouseIDExitWebDTO>> getHouses(WebRequest webRequest) {
+        if (webRequest.checkNotModified(_aggregateVersions.eTag(Aggregate.HOUSE),
+                _aggregateVersions.lastModified(Aggregate.HOUSE))) {
+            return null; // answered with 304 Not Modified
+        }
 
         Iterable<House> housesList = _serviceHouse.listOfHouses();
 
         List<HouseIDExitWebDTO> listHouseWebDTOs = new ArrayList<>();
+        LinkTemplate selfLinks = LinkTemplate.of(HouseWebController.class);
         for (House house : housesList) {
             HouseIDExitWebDTO houseWebDTO = HouseMapper.houseToIDExitWebDTO(house);
 
-            Link selfLink = linkTo(HouseWebController.class)
-                    .slash(houseWebDTO.getId())
-                    .withSelfRel();
+            Link selfLink = selfLinks.self(houseWebDTO.getId());
             houseWebDTO.add(selfLink);
 
             listHouseWebDTOs.add(houseWebDTO);
@@ -130,16 +154,22 @@ public class HouseWebController {
     /**
      * Retrieves a house by ID.
      * @param id The ID of the house to retrieve.
+     * @param webRequest The request, answered with 304 Not Modified without reading the houses if the client
+     *                   holds their current version.
      * @return A ResponseEntity containing the HouseWebDTO and HTTP status.
      */
     @GetMapping("/{houseID}")
-    public ResponseEntity<?> getHouseByID(@PathVariable(value = "houseID") String id) {
+    public ResponseEntity<?> getHouseByID(@PathVariable(value = "houseID") String id, WebRequest webRequest) {
+        if (webRequest.checkNotModified(_aggregateVersions.eTag(Aggregate.HOUSE),
+                _aggregateVersions.lastModified(Aggregate.HOUSE))) {
+            return null; // answered with 304 Not Modified
+        }
         try {
             HouseId houseId = HouseMapper.DTOToHouseId(id);
             House house = _serviceHouse.getHouseById(houseId);
             HouseExitWebDTO houseWebDTO = HouseMapper.houseToExitWebDTO(house);
 
-            Link rooms = linkTo(methodOn(HouseWebController.class).getRoomsByHouseID(id)).withRel("rooms");
+            Link rooms = linkTo(methodOn(HouseWebController.class).getRoomsByHouseID(id, null)).withRel("rooms");
             houseWebDTO.add(rooms);
 
             return new ResponseEntity<>(houseWebDTO, HttpStatus.OK);
@@ -152,18 +182,25 @@ public class HouseWebController {
     /**
      * Retrieves a list of rooms by house ID.
      * @param houseID The ID of the house to retrieve rooms from.
+     * @param webRequest The request, answered with 304 Not Modified without reading the house and its rooms if the client
+     *                   holds their current version.
      * @return A ResponseEntity containing the list of RoomWebDTOs and HTTP status.
      */
     @GetMapping("/{houseID}/rooms")
-    public ResponseEntity<?> getRoomsByHouseID(@PathVariable String houseID) {
+    public ResponseEntity<?> getRoomsByHouseID(@PathVariable String houseID, WebRequest webRequest) {
+        if (webRequest.checkNotModified(_aggregateVersions.eTag(Aggregate.HOUSE, Aggregate.ROOM),
+                _aggregateVersions.lastModified(Aggregate.HOUSE, Aggregate.ROOM))) {
+            return null; // answered with 304 Not Modified
+        }
         try {
             List<Room> rooms = _serviceRoom.getRoomsByHouseID(HouseMapper.DTOToHouseId(houseID));
 
             List<RoomIDExitWebDTO> listRoomWebDTOs = new ArrayList<>();
+            LinkTemplate selfLinks = LinkTemplate.of(RoomControllerWeb.class);
             for (Room room : rooms) {
                 RoomIDExitWebDTO roomWebDTO = RoomMapper.domainToIDExitWebDTO(room);
 
-                Link selfLink = linkTo(RoomControllerWeb.class).slash(roomWebDTO.getRoomId()).withSelfRel();
+                Link selfLink = selfLinks.self(roomWebDTO.getRoomId());
                 roomWebDTO.add(selfLink);
 
                 listRoomWebDTOs.add(roomWebDTO);
@@ -212,4 +249,37 @@ public class HouseWebController {
         }
     }
 
-}
\ No newline at end of file
+    /**
+     * Retrieves the snapshot of a house: the house with its rooms, the devices of each room, and the sensors and
+     * actuators of each device, with the latest reading of each sensor, in a single response.
+     * The snapshot is built from a fixed number of queries, however large the house is.
+     * @param id The ID of the house.
+     * @param depth How deep into the house the snapshot goes: house, rooms, devices or components (the default).
+     * @param fields The parts of the devices to include, among sensors, actuators and readings, or all of them if
+     *               not given. Readings are only included with the sensors.
+     * @return A ResponseEntity containing the HouseSnapshotWebDTO and HTTP status:
+     *         - {@code 404 NOT FOUND} if the house is not found
+     *         - {@code 400 BAD REQUEST} if the depth or any of the fields is invalid
+     */
+    @GetMapping("/{houseID}/snapshot")
+    public ResponseEntity<?> getHouseSnapshot(@PathVariable(value = "houseID") String id,
+                                              @RequestParam(value = "depth", defaultValue = "components") String depth,
+                                              @RequestParam(value = "fields", required = false) List<String> fields) {
+        try {
+            HouseId houseId = HouseMapper.DTOToHouseId(id);
+            ServiceHouseSnapshot.HouseSnapshot snapshot = _serviceHouseSnapshot.getHouseSnapshot(houseId,
+                    HouseSnapshotMapper.DTOToDepth(depth), HouseSnapshotMapper.DTOToFields(fields));
+            HouseSnapshotWebDTO snapshotWebDTO = HouseSnapshotMapper.snapshotToExitWebDTO(snapshot);
+
+            Link selfLink = linkTo(HouseWebController.class).slash(id).slash("snapshot").withSelfRel();
+            Link house = linkTo(HouseWebController.class).slash(id).withRel("house");
+            snapshotWebDTO.add(selfLink, house);
+
+            return new ResponseEntity<>(snapshotWebDTO, HttpStatus.OK);
+        } catch (EntityNotFoundException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package smartHomeDDD.controllersWeb;
+
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.web.util.UriUtils;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+
+/**
+ * A LinkTemplate builds the links to the resources of a controller, such as the self link of each element of a list.
+ * The base URI of the controller is resolved once, through its mapping and the current request, when the template is
+ * created, and the link of each resource is then its identifier, encoded as a path segment, appended to the base URI.
+ * The links are the same as the ones linkTo builds, without resolving the controller mapping and the request again for
+ * every resource.
+ * A template is meant to be created once per request, as the base URI depends on the host of the request.
+ */
+public final class LinkTemplate {
+
+    /**
+     * The base URI of the controller, ending with a slash.
+     */
+    private final String _base;
+
+    /**
+     * Constructor for the LinkTemplate class.
+     *
+     * @param base The base URI of the controller.
+     */
+    private LinkTemplate(String base) {
+        this._base = base.endsWith("/") ? base : base + "/";
+    }
+
+    /**
+     * Creates the template of the links to the resources of a controller, in the current request.
+     *
+     * @param controller The controller.
+     * @return The template of the links.
+     */
+    public static LinkTemplate of(Class<?> controller) {
+        return new LinkTemplate(linkTo(controller).toUri().toString());
+    }
+
+    /**
+     * Builds the self link of a resource.
+     *
+     * @param id The identifier of the resource.
+     * @return The self link of the resource.
+     */
+    public Link self(Object id) {
+        return link(id, IanaLinkRelations.SELF);
+    }
+
+    /**
+     * Builds a link to a resource.
+     *
+     * @param id The identifier of the resource, which is encoded as a path segment.
+     * @param rel The relation of the link.
+     * @return The link to the resource.
+     */
+    public Link link(Object id, LinkRelation rel) {
+        return Link.of(_base + UriUtils.encodePathSegment(String.valueOf(id), StandardCharsets.UTF_8), rel);
+    }
+}
@@ -6,10 +6,13 @@ import org.springframework.hateoas.Link;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import smartHomeDDD.domain.device.Device;
 import smartHomeDDD.domain.room.Room;
 import smartHomeDDD.domain.valueobject.*;
 import smartHomeDDD.dto.*;
+import smartHomeDDD.services.AggregateVersions;
+import smartHomeDDD.services.AggregateVersions.Aggregate;
 import smartHomeDDD.services.ServiceDevice;
 import smartHomeDDD.services.ServiceRoom;
 
@@ -36,14 +39,21 @@ public class RoomControllerWeb {
      */
     private final ServiceDevice serviceDevice;
 
+    /**
+     * The versions of the aggregates, which conditional GET requests are checked against.
+     */
+    private final AggregateVersions aggregateVersions;
+
     /**
      * Constructor for the RoomControllerWeb class.
      * @param serviceRoom   The service for rooms.
      * @param serviceDevice The service for devices.
+     * @param aggregateVersions The versions of the aggregates, which conditional GET requests are checked against.
      */
-    public RoomControllerWeb(ServiceRoom serviceRoom, ServiceDevice serviceDevice) {
+    public RoomControllerWeb(ServiceRoom serviceRoom, ServiceDevice serviceDevice, AggregateVersions aggregateVersions) {
         this.serviceRoom = serviceRoom;
         this.serviceDevice = serviceDevice;
+        this.aggregateVersions = aggregateVersions;
     }
 
     /**
@@ -90,13 +100,19 @@ public class RoomControllerWeb {
      * This method is a GET request that retrieves a room by its ID.
      * It maps to the "/{roomID}" endpoint, where {roomID} is a path variable representing the ID of the room.
      * @param id The ID of the room to retrieve. This is a path variable.
+     * @param webRequest The request, answered with 304 Not Modified without reading the rooms if the client
+     *                   holds their current version.
      * @return A ResponseEntity containing a RoomWebDTO object representing the room,
      * and an HTTP status code. If the room exists, the status code is HttpStatus.OK (200).
      * If the room does not exist, the status code is HttpStatus.NOT_FOUND (404).
      * @throws EntityNotFoundException if the room with the provided ID does not exist.
      */
     @GetMapping("/{roomID}")
-    public ResponseEntity<?> getRoom(@PathVariable(value = "roomID") String id) {
+    public ResponseEntity<?> getRoom(@PathVariable(value = "roomID") String id, WebRequest webRequest) {
+        if (webRequest.checkNotModified(aggregateVersions.eTag(Aggregate.ROOM),
+                aggregateVersions.lastModified(Aggregate.ROOM))) {
+            return null; // answered with 304 Not Modified
+        }
         try {
             RoomID roomID = RoomMapper.DTOToRoomId(id);
             Room room = serviceRoom.getRoomById(roomID);
@@ -130,10 +146,11 @@ public class RoomControllerWeb {
 
             List<DeviceIDExitWebDTO> listDeviceWebDTOs = new ArrayList<>();
 
+            LinkTemplate selfLinks = LinkTemplate.of(DeviceControllerWeb.class);
             for (Device device : rooms) {
                 DeviceIDExitWebDTO deviceWebDTO = DeviceMapper.domainToIDExitWebDTO(device);
 
-                Link selfLink = linkTo(DeviceControllerWeb.class).slash(deviceWebDTO.getId()).withSelfRel();
+                Link selfLink = selfLinks.self(deviceWebDTO.getId());
                 deviceWebDTO.add(selfLink);
 
                 listDeviceWebDTOs.add(deviceWebDTO);
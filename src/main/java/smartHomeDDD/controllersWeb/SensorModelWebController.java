@@ -5,10 +5,13 @@ import org.springframework.hateoas.Link;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import smartHomeDDD.domain.sensorModel.SensorModel;
 import smartHomeDDD.domain.valueobject.SensorModelID;
 import smartHomeDDD.domain.valueobject.SensorTypeID;
 import smartHomeDDD.dto.*;
+import smartHomeDDD.services.AggregateVersions;
+import smartHomeDDD.services.AggregateVersions.Aggregate;
 import smartHomeDDD.services.ServiceSensorModel;
 import java.util.ArrayList;
 import java.util.List;
@@ -26,12 +29,19 @@ public class SensorModelWebController {
      */
     private final ServiceSensorModel _serviceSensorModel;
 
+    /**
+     * The versions of the aggregates, which conditional GET requests are checked against.
+     */
+    private final AggregateVersions _aggregateVersions;
+
     /**
      * Constructor of the class.
      * @param service The service that will be used to interact with the domain.
+     * @param aggregateVersions The versions of the aggregates, which conditional GET requests are checked against.
      */
-    public SensorModelWebController(ServiceSensorModel service) {
+    public SensorModelWebController(ServiceSensorModel service, AggregateVersions aggregateVersions) {
         this._serviceSensorModel = service;
+        this._aggregateVersions = aggregateVersions;
     }
 
     /**
@@ -42,19 +52,26 @@ public class SensorModelWebController {
      * If the operation is successful, it returns a list of SensorModelWebDTO objects with an OK (200) HTTP status.
      *
      * @param id The unique identifier for the sensor type.
+     * @param webRequest The request, answered with 304 Not Modified without reading the sensor models if the client
+     *                   holds their current version.
      * @return A list of SensorModelWebDTO objects.
      */
     @GetMapping("")
-    public ResponseEntity<List<SensorModelExitWebDTO>> getSensorModelsByType(@RequestParam("sensorTypeID") String id) {
+    public ResponseEntity<List<SensorModelExitWebDTO>> getSensorModelsByType(@RequestParam("sensorTypeID") String id, WebRequest webRequest) {
+        if (webRequest.checkNotModified(_aggregateVersions.eTag(Aggregate.SENSOR_MODEL),
+                _aggregateVersions.lastModified(Aggregate.SENSOR_MODEL))) {
+            return null; // answered with 304 Not Modified
+        }
         SensorTypeID sensorTypeID = SensorTypeMapper.createSensorTypeID(id);
 
         List<SensorModel> sensorModels = _serviceSensorModel.getModelsBySensorType(sensorTypeID);
 
         List<SensorModelExitWebDTO> sensorModelWebDTOs = new ArrayList<>();
 
+        LinkTemplate selfLinks = LinkTemplate.of(SensorModelWebController.class);
         for (SensorModel model : sensorModels) {
             SensorModelExitWebDTO webDTO = SensorModelMapper.domainToExitWebDTO(model);
-            Link selfLink = linkTo(SensorModelWebController.class).slash(model.identity()).withSelfRel();
+            Link selfLink = selfLinks.self(model.identity());
             webDTO.add(selfLink);
             sensorModelWebDTOs.add(webDTO);
         }
@@ -65,10 +82,16 @@ public class SensorModelWebController {
     /**
      * This method is responsible for fetching a sensor model by its unique identifier.
      * @param id The unique identifier of the sensor model.
+     * @param webRequest The request, answered with 304 Not Modified without reading the sensor models if the client
+     *                   holds their current version.
      * @return The sensor model associated with the unique identifier.
      */
     @GetMapping("/{sensorModelID}")
-    public ResponseEntity<?> getSensorModelByID(@PathVariable(value = "sensorModelID") String id) {
+    public ResponseEntity<?> getSensorModelByID(@PathVariable(value = "sensorModelID") String id, WebRequest webRequest) {
+        if (webRequest.checkNotModified(_aggregateVersions.eTag(Aggregate.SENSOR_MODEL),
+                _aggregateVersions.lastModified(Aggregate.SENSOR_MODEL))) {
+            return null; // answered with 304 Not Modified
+        }
         try {
             SensorModelID sensorModelID = SensorModelMapper.DTOToSensorModelId(id);
             SensorModel sensorModel = _serviceSensorModel.getSensorModelByID(sensorModelID);
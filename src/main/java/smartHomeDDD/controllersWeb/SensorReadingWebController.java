@@ -7,11 +7,16 @@ import org.springframework.hateoas.Link;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import smartHomeDDD.domain.sensorReading.SensorReading;
 import smartHomeDDD.domain.valueobject.DeviceId;
+import smartHomeDDD.domain.valueobject.Reading;
+import smartHomeDDD.domain.valueobject.SensorID;
 import smartHomeDDD.domain.valueobject.SensorReadingID;
 import smartHomeDDD.dto.*;
+import smartHomeDDD.domain.sensorReading.ReadingRollup;
 import smartHomeDDD.services.ServiceSensorReading;
+import smartHomeDDD.services.ServiceSensorReadingRollup;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -20,7 +25,7 @@ import java.util.List;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 /**
  * This class is responsible for handling the web requests related to the sensor readings.
- * It contains the methods that handle the GET requests to retrieve sensor data.
+ * It contains the methods that handle the GET requests to retrieve sensor data and the POST request to add a batch of readings.
  */
 @RestController
 @RequestMapping("/api/v1/sensor-readings")
@@ -30,12 +35,19 @@ public class SensorReadingWebController {
      */
     private final ServiceSensorReading _serviceSensorReading;
 
+    /**
+     * The service that handles the sensor reading rollups.
+     */
+    private final ServiceSensorReadingRollup _serviceSensorReadingRollup;
+
     /**
      * Constructor for the SensorReadingWebController class.
      * @param serviceSensorReading The service that handles the sensor readings.
+     * @param serviceSensorReadingRollup The service that handles the sensor reading rollups.
      */
-    public SensorReadingWebController(ServiceSensorReading serviceSensorReading) {
+    public SensorReadingWebController(ServiceSensorReading serviceSensorReading, ServiceSensorReadingRollup serviceSensorReadingRollup) {
         this._serviceSensorReading = serviceSensorReading;
+        this._serviceSensorReadingRollup = serviceSensorReadingRollup;
     }
 
     /**
@@ -84,10 +96,11 @@ public class SensorReadingWebController {
 
                 List<SensorReadingIDExitWebDTO> readingsOfDeviceWebDTO = new ArrayList<>();
 
+                LinkTemplate selfLinks = LinkTemplate.of(SensorReadingWebController.class);
                 for (SensorReading dto : readingsOfDevice) {
                     SensorReadingIDExitWebDTO sensorReadingWebDTO = SensorReadingMapper.sensorReadingIDToExitWebDTO(dto);
 
-                    Link selfLink = linkTo(SensorReadingWebController.class).slash(sensorReadingWebDTO.getSensorReadingID()).withSelfRel();
+                    Link selfLink = selfLinks.self(sensorReadingWebDTO.getSensorReadingID());
                     sensorReadingWebDTO.add(selfLink);
                     readingsOfDeviceWebDTO.add(sensorReadingWebDTO);
                 }
@@ -99,6 +112,142 @@ public class SensorReadingWebController {
         }
     }
 
+    /**
+     * This method is responsible for handling GET requests to retrieve a page of the sensor readings from a device,
+     * optionally within a given period. It is used instead of the list of all the readings of the device when a
+     * limit is given.
+     * The readings are ordered by timestamp and then by ID, and the response holds an opaque cursor and a "next"
+     * link to the following page, if there is one. Each page is found by seeking the cursor, so it costs the same
+     * however deep into the history it is.
+     *
+     * @param deviceID The ID of the device for which the sensor readings are to be retrieved.
+     * @param startTimeString (Optional) The start of the period, included.
+     * @param endTimeString (Optional) The end of the period, included.
+     * @param limit The maximum number of sensor readings in the page.
+     * @param cursor (Optional) The cursor returned with the previous page, or none for the first page.
+     * @return A ResponseEntity containing a SensorReadingPageExitWebDTO object, and an HTTP status code.
+     */
+    @GetMapping(value = "", params = "limit")
+    public ResponseEntity<?> getSensorReadingsPage(
+            @RequestParam(value = "deviceID") String deviceID,
+            @RequestParam(value = "startTimeString", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startTimeString,
+            @RequestParam(value = "endTimeString", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endTimeString,
+            @RequestParam(value = "limit") int limit,
+            @RequestParam(value = "cursor", required = false) String cursor) {
+        try {
+            Timestamp startTime = startTimeString == null ? null : Timestamp.valueOf(startTimeString);
+            Timestamp endTime = endTimeString == null ? null : Timestamp.valueOf(endTimeString);
+
+            ServiceSensorReading.SensorReadingPage page = _serviceSensorReading.getSensorReadingsPageFromDevice(
+                    DeviceMapper.DTOToDeviceId(deviceID), startTime, endTime, SensorReadingMapper.DTOToCursor(cursor), limit);
+
+            return new ResponseEntity<>(pageToExitWebDTO(page), HttpStatus.OK);
+
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Maps a page of sensor readings to a SensorReadingPageExitWebDTO object, with a self link for each sensor
+     * reading and, if there is a next page, a "next" link that repeats the current request with the next cursor.
+     *
+     * @param page The page of sensor readings.
+     * @return The SensorReadingPageExitWebDTO object.
+     */
+    static SensorReadingPageExitWebDTO pageToExitWebDTO(ServiceSensorReading.SensorReadingPage page) {
+        List<SensorReadingIDExitWebDTO> sensorReadingsWebDTO = new ArrayList<>();
+        LinkTemplate selfLinks = LinkTemplate.of(SensorReadingWebController.class);
+        for (SensorReading sensorReading : page.sensorReadings()) {
+            SensorReadingIDExitWebDTO sensorReadingWebDTO = SensorReadingMapper.sensorReadingIDToExitWebDTO(sensorReading);
+            sensorReadingWebDTO.add(selfLinks.self(sensorReadingWebDTO.getSensorReadingID()));
+            sensorReadingsWebDTO.add(sensorReadingWebDTO);
+        }
+        if (!page.hasNext()) {
+            return new SensorReadingPageExitWebDTO(sensorReadingsWebDTO, null);
+        }
+        String nextCursor = SensorReadingMapper.cursorToDTO(page.nextCursor());
+        SensorReadingPageExitWebDTO pageWebDTO = new SensorReadingPageExitWebDTO(sensorReadingsWebDTO, nextCursor);
+        pageWebDTO.add(Link.of(ServletUriComponentsBuilder.fromCurrentRequest().replaceQueryParam("cursor", nextCursor).toUriString(), "next"));
+        return pageWebDTO;
+    }
+
+    /**
+     * This method is responsible for handling GET requests to retrieve the latest sensor readings of a sensor,
+     * of every sensor of a device, or of every sensor in a room. The readings are served from the latest sensor
+     * reading cache, without querying the sensor readings.
+     *
+     * @param sensorID (Optional) The ID of the sensor whose latest reading is to be retrieved.
+     * @param deviceID (Optional) The ID of the device whose sensors' latest readings are to be retrieved.
+     * @param roomID (Optional) The ID of the room whose sensors' latest readings are to be retrieved.
+     * @return A ResponseEntity containing a list of SensorReadingExitWebDTO objects with the latest readings,
+     *         and an HTTP status code.
+     */
+    @GetMapping("/latest")
+    public ResponseEntity<?> getLatestSensorReadings(
+            @RequestParam(value = "sensorID", required = false) String sensorID,
+            @RequestParam(value = "deviceID", required = false) String deviceID,
+            @RequestParam(value = "roomID", required = false) String roomID) {
+        try {
+            List<SensorReading> latestReadings;
+            if (sensorID != null) {
+                latestReadings = _serviceSensorReading.getLatestReadingFromSensor(SensorMapper.convertToSensorId(sensorID)).stream().toList();
+            } else if (deviceID != null) {
+                latestReadings = _serviceSensorReading.getLatestReadingsFromDevice(DeviceMapper.DTOToDeviceId(deviceID));
+            } else if (roomID != null) {
+                latestReadings = _serviceSensorReading.getLatestReadingsFromRoom(RoomMapper.DTOToRoomId(roomID));
+            } else {
+                return new ResponseEntity<>("A sensorID, deviceID or roomID is required", HttpStatus.BAD_REQUEST);
+            }
+
+            List<SensorReadingExitWebDTO> latestReadingsWebDTO = new ArrayList<>();
+            LinkTemplate selfLinks = LinkTemplate.of(SensorReadingWebController.class);
+            for (SensorReading sensorReading : latestReadings) {
+                SensorReadingExitWebDTO sensorReadingWebDTO = SensorReadingMapper.sensorReadingToExitWebDTO(sensorReading);
+                Link selfLink = selfLinks.self(sensorReadingWebDTO.getSensorReadingID());
+                sensorReadingWebDTO.add(selfLink);
+                latestReadingsWebDTO.add(sensorReadingWebDTO);
+            }
+            return new ResponseEntity<>(latestReadingsWebDTO, HttpStatus.OK);
+
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * This method is responsible for handling GET requests to summarize the numeric readings of a sensor within a
+     * period, per interval. The summaries are computed from the minute, hour or day rollups of the sensor instead of
+     * its raw readings, so the period can span months.
+     *
+     * @param sensorID The ID of the sensor whose readings are to be summarized.
+     * @param startTimeString The start of the period, included.
+     * @param endTimeString The end of the period, excluded.
+     * @param intervalInMinutes The length of each interval, in minutes.
+     * @return A ResponseEntity containing a list of ReadingRollupExitWebDTO objects, one per interval with readings,
+     *         and an HTTP status code.
+     */
+    @GetMapping("/rollups")
+    public ResponseEntity<?> getSensorReadingRollups(
+            @RequestParam(value = "sensorID") String sensorID,
+            @RequestParam(value = "startTimeString") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startTimeString,
+            @RequestParam(value = "endTimeString") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endTimeString,
+            @RequestParam(value = "intervalInMinutes") long intervalInMinutes) {
+        try {
+            List<ReadingRollup> rollups = _serviceSensorReadingRollup.getRollupsWithinPeriod(SensorMapper.convertToSensorId(sensorID),
+                    Timestamp.valueOf(startTimeString), Timestamp.valueOf(endTimeString), intervalInMinutes);
+
+            List<ReadingRollupExitWebDTO> rollupsWebDTO = new ArrayList<>();
+            for (ReadingRollup rollup : rollups) {
+                rollupsWebDTO.add(SensorReadingMapper.readingRollupToExitWebDTO(rollup));
+            }
+            return new ResponseEntity<>(rollupsWebDTO, HttpStatus.OK);
+
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
     /**
      * This method is responsible for handling GET requests to retrieve a specific sensor reading by its ID.
      *
@@ -126,4 +275,56 @@ public class SensorReadingWebController {
         }
     }
 
-}
\ No newline at end of file
+    /**
+     * This method is responsible for handling POST requests to add a batch of sensor readings.
+     * Every reading is validated on its own, so an invalid reading is reported back without aborting the others.
+     *
+     * @param sensorReadingEntryWebDTOs The sensor readings to be added.
+     * @return A ResponseEntity containing the outcome of each reading, in the order they were sent,
+     *         with HTTP status 201 if all of them were saved or 207 if some were rejected.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<?> addSensorReadings(@RequestBody List<SensorReadingEntryWebDTO> sensorReadingEntryWebDTOs) {
+        if (sensorReadingEntryWebDTOs == null || sensorReadingEntryWebDTOs.isEmpty()) {
+            return new ResponseEntity<>("No sensor readings to add", HttpStatus.BAD_REQUEST);
+        }
+
+        SensorReadingBatchItemExitWebDTO[] results = new SensorReadingBatchItemExitWebDTO[sensorReadingEntryWebDTOs.size()];
+        List<ServiceSensorReading.NewSensorReading> newSensorReadings = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+
+        for (int i = 0; i < sensorReadingEntryWebDTOs.size(); i++) {
+            SensorReadingEntryWebDTO entry = sensorReadingEntryWebDTOs.get(i);
+            try {
+                Reading reading = SensorReadingMapper.DTOToReading(entry.getReading());
+                DeviceId deviceID = DeviceMapper.DTOToDeviceId(entry.getDeviceID());
+                SensorID sensorID = SensorMapper.convertToSensorId(entry.getSensorID());
+                Timestamp timeStamp = SensorReadingMapper.DTOToTimestamp(entry.getTimeStamp());
+                newSensorReadings.add(new ServiceSensorReading.NewSensorReading(reading, deviceID, sensorID, timeStamp));
+                positions.add(i);
+            } catch (IllegalArgumentException e) {
+                results[i] = new SensorReadingBatchItemExitWebDTO(i, null, e.getMessage());
+            }
+        }
+
+        List<ServiceSensorReading.BatchOutcome> outcomes = _serviceSensorReading.addSensorReadings(newSensorReadings);
+
+        boolean allSaved = positions.size() == results.length;
+        LinkTemplate selfLinks = LinkTemplate.of(SensorReadingWebController.class);
+        for (int i = 0; i < outcomes.size(); i++) {
+            int position = positions.get(i);
+            ServiceSensorReading.BatchOutcome outcome = outcomes.get(i);
+            if (outcome.isSaved()) {
+                results[position] = new SensorReadingBatchItemExitWebDTO(position, outcome.sensorReading().identity().toString(), null);
+                Link selfLink = selfLinks.self(results[position].getSensorReadingID());
+                results[position].add(selfLink);
+            } else {
+                results[position] = new SensorReadingBatchItemExitWebDTO(position, null, outcome.error());
+                allSaved = false;
+            }
+        }
+
+        return new ResponseEntity<>(List.of(results), allSaved ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS);
+    }
+
+}
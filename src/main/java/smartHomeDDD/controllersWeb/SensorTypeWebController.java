@@ -6,9 +6,12 @@ import org.springframework.hateoas.Link;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import smartHomeDDD.domain.sensorType.SensorType;
 import smartHomeDDD.domain.valueobject.*;
 import smartHomeDDD.dto.*;
+import smartHomeDDD.services.AggregateVersions;
+import smartHomeDDD.services.AggregateVersions.Aggregate;
 import smartHomeDDD.services.ServiceSensorType;
 
 import java.util.ArrayList;
@@ -30,12 +33,19 @@ public class SensorTypeWebController {
      */
     private final ServiceSensorType serviceSensorType;
 
+    /**
+     * The versions of the aggregates, which conditional GET requests are checked against.
+     */
+    private final AggregateVersions aggregateVersions;
+
     /**
      * Constructor of the class.
      * @param service The service that will be used to interact with the domain.
+     * @param aggregateVersions The versions of the aggregates, which conditional GET requests are checked against.
      */
-    public SensorTypeWebController(ServiceSensorType service) {
+    public SensorTypeWebController(ServiceSensorType service, AggregateVersions aggregateVersions) {
         this.serviceSensorType = service;
+        this.aggregateVersions = aggregateVersions;
     }
 
     /**
@@ -66,19 +76,24 @@ public class SensorTypeWebController {
 
     /**
      * Gets a list of all existing sensor types.
+     * @param webRequest The request, answered with 304 Not Modified without reading the sensor types if the client
+     *                   holds their current version.
      * @return A list of all existing sensor types.
      */
     @GetMapping("")
-    public ResponseEntity<?> getSensorTypes() {
+    public ResponseEntity<?> getSensorTypes(WebRequest webRequest) {
+        if (webRequest.checkNotModified(aggregateVersions.eTag(Aggregate.SENSOR_TYPE),
+                aggregateVersions.lastModified(Aggregate.SENSOR_TYPE))) {
+            return null; // answered with 304 Not Modified
+        }
         try {
         Iterable<SensorType> sensorTypeList = serviceSensorType.getSensorTypes();
         List<SensorTypeExitWebDTO> listSensorTypesDTO = new ArrayList<>();
+        LinkTemplate selfLinks = LinkTemplate.of(SensorTypeWebController.class);
         for (SensorType sensorType : sensorTypeList) {
             SensorTypeExitWebDTO sensorTypeWebDTO = SensorTypeMapper.domainToExitWebDTO(sensorType);
 
-            Link selfLink = linkTo(SensorTypeWebController.class)
-                    .slash(sensorTypeWebDTO.getSensorTypeID())
-                    .withSelfRel();
+            Link selfLink = selfLinks.self(sensorTypeWebDTO.getSensorTypeID());
             sensorTypeWebDTO.add(selfLink);
 
             listSensorTypesDTO.add(sensorTypeWebDTO);
@@ -93,11 +108,17 @@ public class SensorTypeWebController {
      * Handles the GET request to retrieve a SensorType by its ID.
      * This method receives a sensor type ID as a path variable, which is used to retrieve the corresponding SensorType.
      * @param id The ID of the SensorType to retrieve.
+     * @param webRequest The request, answered with 304 Not Modified without reading the sensor types if the client
+     *                   holds their current version.
      * @return A ResponseEntity that contains the SensorTypeExitWebDTO of the retrieved SensorType and the appropriate HTTP status code.
      * @throws EntityNotFoundException if the SensorType with the given ID is not found.
      */
     @GetMapping("/{sensorTypeID}")
-    public ResponseEntity<?> getSensorTypeByID(@PathVariable(value = "sensorTypeID") String id) {
+    public ResponseEntity<?> getSensorTypeByID(@PathVariable(value = "sensorTypeID") String id, WebRequest webRequest) {
+        if (webRequest.checkNotModified(aggregateVersions.eTag(Aggregate.SENSOR_TYPE),
+                aggregateVersions.lastModified(Aggregate.SENSOR_TYPE))) {
+            return null; // answered with 304 Not Modified
+        }
         try {
             SensorTypeID sensorTypeID = SensorTypeMapper.createSensorTypeID(id);
             SensorType sensorType = serviceSensorType.getSensorTypeById(sensorTypeID);
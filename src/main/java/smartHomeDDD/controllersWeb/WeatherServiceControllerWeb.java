@@ -1,5 +1,6 @@
 package smartHomeDDD.controllersWeb;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import smartHomeDDD.services.ServiceWeather;
 import java.util.Map;
 
@@ -7,7 +8,8 @@ import java.util.Map;
  * This controller provides RESTful API endpoints for interacting with weather service data.
  * It offers functionalities to retrieve the current temperature, sunrise, and sunset times
  * based on geographical coordinates (latitude and longitude).
- * This class uses a {@link ServiceWeather} instance to fetch the weather data.
+ * This class uses a {@link ServiceWeather} instance to fetch the weather data. The responses are returned as
+ * {@link Mono}s, so the request thread is released while the weather service is called.
  * Annotated with {@link RestController} and {@link RequestMapping} to define the base path for all methods.
  */
 @RestController
@@ -36,7 +38,7 @@ public class WeatherServiceControllerWeb {
      * @return the current temperature.
      */
     @GetMapping("/currentTemperature")
-    public Object getCurrentTemperature(@RequestParam Map<String, String> Params) {
+    public Mono<Object> getCurrentTemperature(@RequestParam Map<String, String> Params) {
         String lat = Params.get("latitude");
         String lon = Params.get("longitude");
         return _serviceWeather.getCurrentTemperature(lat, lon);
@@ -48,7 +50,7 @@ public class WeatherServiceControllerWeb {
      * @return the sunset time
      */
     @GetMapping("/sunrise")
-    public Object getSunrise(@RequestParam Map<String, String> Params) {
+    public Mono<Object> getSunrise(@RequestParam Map<String, String> Params) {
         String lat = Params.get("latitude");
         String lon = Params.get("longitude");
         return _serviceWeather.getSunrise(lat, lon);
@@ -60,7 +62,7 @@ public class WeatherServiceControllerWeb {
      * @return the sunset time
      */
     @GetMapping("/sunset")
-    public Object getSunset(@RequestParam Map<String, String> Params) {
+    public Mono<Object> getSunset(@RequestParam Map<String, String> Params) {
         String lat = Params.get("latitude");
         String lon = Params.get("longitude");
         return _serviceWeather.getSunset(lat, lon);
@@ -0,0 +1,149 @@
+package smartHomeDDD.ddd;
+
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ModelRegistry binds each model of an aggregate, such as each sensor model, to a function that calls its constructor.
+ * The models are the concrete classes of the package of the aggregate that implement it, and they are discovered and
+ * bound once, when the registry is created. The functions are generated with LambdaMetafactory, so creating an
+ * aggregate is a map lookup followed by a direct constructor call, without reflection.
+ *
+ * @param <F> The functional interface the constructors are bound to.
+ */
+public final class ModelRegistry<F> {
+
+    /**
+     * The constructor function of each model, by the simple name of its class.
+     */
+    private final Map<String, F> _constructors;
+
+    /**
+     * Constructor for the ModelRegistry class.
+     *
+     * @param constructors The constructor function of each model.
+     */
+    private ModelRegistry(Map<String, F> constructors) {
+        this._constructors = Collections.unmodifiableMap(constructors);
+    }
+
+    /**
+     * Discovers the models of an aggregate and binds the constructor of each one to a functional interface.
+     * Models without a public constructor with the parameters of the functional interface are left out.
+     *
+     * @param lookup The lookup of the factory that uses the registry, which must have access to the models and the
+     *               functional interface.
+     * @param aggregateType The interface the models implement. The models are searched in its package.
+     * @param functionType The functional interface the constructors are bound to.
+     * @param <F> The functional interface the constructors are bound to.
+     * @return The registry of the models.
+     * @throws IllegalArgumentException if the function type is not a functional interface.
+     * @throws IllegalStateException if a constructor cannot be bound.
+     */
+    public static <F> ModelRegistry<F> of(MethodHandles.Lookup lookup, Class<?> aggregateType, Class<F> functionType) {
+        Method functionMethod = functionMethodOf(functionType);
+        MethodType functionMethodType = MethodType.methodType(functionMethod.getReturnType(), functionMethod.getParameterTypes());
+
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AssignableTypeFilter(aggregateType));
+
+        Map<String, F> constructors = new HashMap<>();
+        for (BeanDefinition candidate : scanner.findCandidateComponents(aggregateType.getPackageName())) {
+            Class<?> modelClass = loadClass(candidate.getBeanClassName(), aggregateType.getClassLoader());
+            if (!aggregateType.isAssignableFrom(modelClass) || !hasPublicConstructor(modelClass, functionMethod.getParameterTypes())) {
+                continue;
+            }
+            constructors.put(modelClass.getSimpleName(), bind(lookup, modelClass, functionType, functionMethod, functionMethodType));
+        }
+        return new ModelRegistry<>(constructors);
+    }
+
+    /**
+     * Retrieves the constructor function of a model.
+     *
+     * @param modelName The name of the model, which is the simple name of its class.
+     * @return The constructor function of the model, or null if there is no such model.
+     */
+    public F constructorOf(String modelName) {
+        return modelName == null ? null : _constructors.get(modelName);
+    }
+
+    /**
+     * Retrieves the names of the models in the registry.
+     *
+     * @return The names of the models.
+     */
+    public Set<String> models() {
+        return _constructors.keySet();
+    }
+
+    /**
+     * Binds the constructor of a model to a functional interface.
+     *
+     * @return An instance of the functional interface that calls the constructor.
+     */
+    private static <F> F bind(MethodHandles.Lookup lookup, Class<?> modelClass, Class<F> functionType,
+                              Method functionMethod, MethodType functionMethodType) {
+        try {
+            MethodHandle constructor = lookup.findConstructor(modelClass, MethodType.methodType(void.class, functionMethod.getParameterTypes()));
+            CallSite callSite = LambdaMetafactory.metafactory(lookup, functionMethod.getName(),
+                    MethodType.methodType(functionType), functionMethodType, constructor, constructor.type());
+            return functionType.cast(callSite.getTarget().invoke());
+        } catch (Throwable e) {
+            throw new IllegalStateException("Cannot bind the constructor of " + modelClass.getName(), e);
+        }
+    }
+
+    /**
+     * Retrieves the single abstract method of a functional interface.
+     */
+    private static Method functionMethodOf(Class<?> functionType) {
+        if (!functionType.isInterface()) {
+            throw new IllegalArgumentException("The function type must be a functional interface");
+        }
+        Method[] abstractMethods = Arrays.stream(functionType.getMethods())
+                .filter(method -> Modifier.isAbstract(method.getModifiers()))
+                .toArray(Method[]::new);
+        if (abstractMethods.length != 1) {
+            throw new IllegalArgumentException("The function type must be a functional interface");
+        }
+        return abstractMethods[0];
+    }
+
+    /**
+     * Checks if a class has a public constructor with the given parameters.
+     */
+    private static boolean hasPublicConstructor(Class<?> modelClass, Class<?>[] parameterTypes) {
+        try {
+            modelClass.getConstructor(parameterTypes);
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Loads a discovered class.
+     */
+    private static Class<?> loadClass(String className, ClassLoader classLoader) {
+        try {
+            return Class.forName(className, false, classLoader);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Cannot load " + className, e);
+        }
+    }
+}
@@ -1,6 +1,14 @@
 package smartHomeDDD.ddd;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
 
 public interface Repository<ID extends DomainId, T extends AggregateRoot<ID> > {
 
@@ -11,4 +19,139 @@ public interface Repository<ID extends DomainId, T extends AggregateRoot<ID> > {
     Optional<T> ofIdentity(ID id);
 
     boolean containsOfIdentity(ID id);
-}
\ No newline at end of file
+
+    /**
+     * Saves a batch of aggregates.
+     * The whole batch is checked before any aggregate is saved, and each aggregate is then saved in turn.
+     * Repositories that can save the batch in a single transaction override it.
+     *
+     * @param entities The aggregates to save.
+     * @return The saved aggregates, in the same order.
+     * @throws IllegalArgumentException if the batch or any of its aggregates is null, or an aggregate is repeated in
+     * the batch.
+     */
+    default List<T> saveAll(List<T> entities) {
+        if (entities == null || entities.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Entities cannot be null");
+        }
+        if (distinctIdentities(entities).size() != entities.size()) {
+            throw new IllegalArgumentException("Entities cannot be repeated");
+        }
+        List<T> saved = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            saved.add(save(entity));
+        }
+        return saved;
+    }
+
+    /**
+     * Retrieves the aggregates with the given identities.
+     * Identities that are not found, or are null, are left out, and a repeated identity is returned once.
+     * Repositories that can read the aggregates with a single query override it, so the order of the aggregates is
+     * not specified.
+     *
+     * @param ids The identities of the aggregates.
+     * @return The aggregates found.
+     */
+    default List<T> ofIdentities(Iterable<ID> ids) {
+        List<T> found = new ArrayList<>();
+        for (ID id : distinct(ids)) {
+            if (id != null) {
+                ofIdentity(id).ifPresent(found::add);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Checks if every one of the given identities exists.
+     * Repositories that can count the aggregates with a single query override it.
+     *
+     * @param ids The identities of the aggregates.
+     * @return true if every aggregate exists, or no identity is given, false otherwise.
+     */
+    default boolean containsAll(Iterable<ID> ids) {
+        for (ID id : distinct(ids)) {
+            if (id == null || !containsOfIdentity(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the distinct identities of a batch of aggregates, in order.
+     */
+    static <ID extends DomainId> Set<ID> distinctIdentities(List<? extends AggregateRoot<ID>> entities) {
+        Set<ID> ids = new LinkedHashSet<>();
+        for (AggregateRoot<ID> entity : entities) {
+            ids.add(entity.identity());
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the distinct identities of an iterable, in order.
+     *
+     * @throws IllegalArgumentException if the identities are null.
+     */
+    static <ID> Set<ID> distinct(Iterable<ID> ids) {
+        if (ids == null) {
+            throw new IllegalArgumentException("Identities cannot be null");
+        }
+        Set<ID> distinct = new LinkedHashSet<>();
+        ids.forEach(distinct::add);
+        return distinct;
+    }
+
+    /**
+     * Returns the distinct IDs of identities as the data models store them, with null for a null identity.
+     *
+     * @throws IllegalArgumentException if the identities are null.
+     */
+    static Set<String> distinctIDs(Iterable<? extends DomainId> ids) {
+        if (ids == null) {
+            throw new IllegalArgumentException("Identities cannot be null");
+        }
+        Set<String> strings = new HashSet<>();
+        for (DomainId id : ids) {
+            strings.add(id == null ? null : id.toString());
+        }
+        return strings;
+    }
+
+    /**
+     * Implements ofIdentities with a single query of the data models by ID. Null identities are left out, and the
+     * query is not run if no identity is left.
+     *
+     * @param ids The identities of the aggregates.
+     * @param query The query of the aggregates with the given distinct IDs.
+     * @return The aggregates found.
+     * @throws IllegalArgumentException if the identities are null.
+     */
+    static <T> List<T> ofIDs(Iterable<? extends DomainId> ids, Function<Set<String>, List<T>> query) {
+        Set<String> strings = distinctIDs(ids);
+        strings.remove(null);
+        if (strings.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return query.apply(strings);
+    }
+
+    /**
+     * Implements containsAll with a single count of the data models by ID, which is not run if no identity or a null
+     * one is given.
+     *
+     * @param ids The identities of the aggregates.
+     * @param count The count of the data models with the given distinct IDs.
+     * @return true if every aggregate exists, or no identity is given, false otherwise.
+     * @throws IllegalArgumentException if the identities are null.
+     */
+    static boolean containsAllIDs(Iterable<? extends DomainId> ids, ToLongFunction<Set<String>> count) {
+        Set<String> strings = distinctIDs(ids);
+        if (strings.contains(null)) {
+            return false;
+        }
+        return strings.isEmpty() || count.applyAsLong(strings) == strings.size();
+    }
+}
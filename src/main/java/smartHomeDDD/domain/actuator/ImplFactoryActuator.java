@@ -1,11 +1,12 @@
 package smartHomeDDD.domain.actuator;
 
 import org.springframework.stereotype.Component;
+import smartHomeDDD.ddd.ModelRegistry;
 import smartHomeDDD.domain.valueobject.ActuatorID;
 import smartHomeDDD.domain.valueobject.ActuatorModelID;
 import smartHomeDDD.domain.valueobject.DeviceId;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandles;
 
 /**
  * Factory class for the creation of actuator Objects.
@@ -14,33 +15,52 @@ import java.lang.reflect.InvocationTargetException;
 @Component
 public class ImplFactoryActuator implements FactoryActuator {
 
+    /**
+     * The constructor of each actuator model of this package, bound once when the class is loaded.
+     */
+    private static final ModelRegistry<ActuatorConstructor> ACTUATOR_MODELS =
+            ModelRegistry.of(MethodHandles.lookup(), Actuator.class, ActuatorConstructor.class);
+
     /**
      * Instantiates an actuator Object using the specified parameters.
+     * The actuator model is looked up in the registry of actuator models, and its constructor is called directly.
      *
      * @param actuatorID        The unique identifier of the actuator.
      * @param deviceID          The unique identifier of the device which the actuator belongs to.
      * @param actuatorModelID   The model of the actuator to be created.
-     * @return returns a valid actuator Object
+     * @return returns a valid actuator Object, or null if the model does not exist or its constructor fails
      */
     @Override
     public Actuator createActuator(ActuatorID actuatorID, DeviceId deviceID,
                                    ActuatorModelID actuatorModelID)
     {
 
-        Object[] arguments = {actuatorID, deviceID, actuatorModelID};
-        Class[] classTypes = {ActuatorID.class, DeviceId.class, ActuatorModelID.class};
-
+        ActuatorConstructor constructor = ACTUATOR_MODELS.constructorOf(actuatorModelID.toString());
+        if (constructor == null) {
+            return null;
+        }
         try {
-            String actuatorModelName = actuatorModelID.toString();
-            String strModelPath = "smartHomeDDD.domain.actuator." + actuatorModelName;
-            return (Actuator) Class.forName(strModelPath).getConstructor(classTypes).newInstance(arguments);
-        } catch (ClassNotFoundException |
-                 NoSuchMethodException |
-                 InstantiationException |
-                 IllegalAccessException |
-                 InvocationTargetException e) {
+            return constructor.create(actuatorID, deviceID, actuatorModelID);
+        } catch (RuntimeException e) {
             return null;
         }
     }
 
+    /**
+     * The constructor of an actuator model.
+     */
+    @FunctionalInterface
+    interface ActuatorConstructor {
+
+        /**
+         * Constructs an actuator of the model.
+         *
+         * @param actuatorID        The unique identifier of the actuator.
+         * @param deviceID          The unique identifier of the device which the actuator belongs to.
+         * @param actuatorModelID   The model of the actuator.
+         * @return The actuator.
+         */
+        Actuator create(ActuatorID actuatorID, DeviceId deviceID, ActuatorModelID actuatorModelID);
+    }
+
 }
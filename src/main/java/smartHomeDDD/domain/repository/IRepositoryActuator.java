@@ -5,7 +5,13 @@ import smartHomeDDD.domain.actuator.Actuator;
 import smartHomeDDD.domain.valueobject.ActuatorID;
 import smartHomeDDD.domain.valueobject.DeviceId;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * The IRepositoryActuator interface provides a contract for a repository that manages actuator objects.
@@ -15,5 +21,32 @@ public interface IRepositoryActuator extends Repository<ActuatorID, Actuator>
 {
     List<Actuator> getActuatorsByDeviceID(DeviceId id);
 
+    /**
+     * Retrieves the actuators associated with any of several devices.
+     * Repositories that can read the actuators of every device with a single query override it.
+     *
+     * @param ids The IDs of the devices for which to retrieve the associated actuators.
+     * @return A list of the actuators associated with the specified devices.
+     */
+    default List<Actuator> getActuatorsByDeviceIDs(Collection<DeviceId> ids) {
+        List<Actuator> actuators = new ArrayList<>();
+        for (DeviceId id : new LinkedHashSet<>(ids)) {
+            actuators.addAll(getActuatorsByDeviceID(id));
+        }
+        return actuators;
+    }
+
     Actuator update(Actuator entity);
+
+    /**
+     * Retrieves the IDs of the devices with an actuator of each actuator type, by the description of the type.
+     * Repositories backed by a database answer it with a single query that joins the actuators with their models and
+     * types. The others return an empty Optional, and the caller resolves the types of the actuators itself.
+     *
+     * @return The IDs of the devices by the description of the type of their actuators, or an empty Optional if the
+     * repository cannot join the actuators with their types.
+     */
+    default Optional<Map<String, Set<DeviceId>>> getDeviceIDsByActuatorTypeDescription() {
+        return Optional.empty();
+    }
 }
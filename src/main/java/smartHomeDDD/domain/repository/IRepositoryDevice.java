@@ -5,6 +5,9 @@ import smartHomeDDD.domain.device.Device;
 import smartHomeDDD.domain.valueobject.DeviceId;
 import smartHomeDDD.domain.valueobject.RoomID;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 
 /**
@@ -21,6 +24,21 @@ public interface IRepositoryDevice extends Repository<DeviceId, Device> {
      */
     List<Device> getDevicesInRoom(RoomID roomID);
 
+    /**
+     * Retrieves the Device objects located in any of several rooms.
+     * Repositories that can read the devices of every room with a single query override it.
+     *
+     * @param roomIDs The IDs of the rooms for which to retrieve the devices.
+     * @return A list of Device objects located in the specified rooms.
+     */
+    default List<Device> getDevicesInRooms(Collection<RoomID> roomIDs) {
+        List<Device> devices = new ArrayList<>();
+        for (RoomID roomID : new LinkedHashSet<>(roomIDs)) {
+            devices.addAll(getDevicesInRoom(roomID));
+        }
+        return devices;
+    }
+
     /**
      * Updates the information of a Device object in the repository.
      *
@@ -0,0 +1,36 @@
+package smartHomeDDD.domain.repository;
+
+import smartHomeDDD.domain.sensorReading.ReadingRollup;
+import smartHomeDDD.domain.sensorReading.RollupResolution;
+import smartHomeDDD.domain.valueobject.SensorID;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * This interface defines the operations of the repository of sensor reading rollups.
+ * Each sensor has a rollup per bucket of each resolution, created with its first readings and updated with the next.
+ */
+public interface IRepositoryReadingRollup {
+
+    /**
+     * Merges the readings of a rollup into the stored rollup of the same sensor, resolution and bucket, creating it
+     * if it does not exist. The update is atomic, so rollups of the same bucket can be merged concurrently.
+     *
+     * @param rollup The rollup with the new readings of a bucket.
+     * @return The updated rollup of the bucket.
+     */
+    ReadingRollup merge(ReadingRollup rollup);
+
+    /**
+     * Retrieves the rollups of a sensor at a given resolution whose buckets start within a time period,
+     * ordered by bucket start.
+     *
+     * @param sensorID The sensor.
+     * @param resolution The resolution of the rollups.
+     * @param start The start of the time period, included.
+     * @param end The end of the time period, excluded.
+     * @return The rollups of the sensor within the time period.
+     */
+    List<ReadingRollup> findWithinPeriod(SensorID sensorID, RollupResolution resolution, Timestamp start, Timestamp end);
+}
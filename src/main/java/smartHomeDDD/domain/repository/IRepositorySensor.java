@@ -5,7 +5,13 @@ import smartHomeDDD.domain.sensor.Sensor;
 import smartHomeDDD.domain.valueobject.DeviceId;
 import smartHomeDDD.domain.valueobject.SensorID;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * IRepositorySensor is an interface that extends the Repository interface for Sensor objects.
@@ -21,5 +27,32 @@ public interface IRepositorySensor extends Repository<SensorID, Sensor> {
      */
     List<Sensor> getSensorsByDeviceID(DeviceId id);
 
+    /**
+     * Retrieves the Sensor objects associated with any of several Devices.
+     * Repositories that can read the sensors of every device with a single query override it.
+     *
+     * @param ids The IDs of the Devices for which to retrieve the associated Sensors.
+     * @return A list of Sensor objects associated with the specified Devices.
+     */
+    default List<Sensor> getSensorsByDeviceIDs(Collection<DeviceId> ids) {
+        List<Sensor> sensors = new ArrayList<>();
+        for (DeviceId id : new LinkedHashSet<>(ids)) {
+            sensors.addAll(getSensorsByDeviceID(id));
+        }
+        return sensors;
+    }
+
     SensorID containsOfIdentitySI(SensorID id);
+
+    /**
+     * Retrieves the IDs of the devices with a sensor of each sensor type, by the description of the type.
+     * Repositories backed by a database answer it with a single query that joins the sensors with their models and
+     * types. The others return an empty Optional, and the caller resolves the types of the sensors itself.
+     *
+     * @return The IDs of the devices by the description of the type of their sensors, or an empty Optional if the
+     * repository cannot join the sensors with their types.
+     */
+    default Optional<Map<String, Set<DeviceId>>> getDeviceIDsBySensorTypeDescription() {
+        return Optional.empty();
+    }
 }
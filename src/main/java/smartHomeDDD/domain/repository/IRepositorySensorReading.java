@@ -2,14 +2,19 @@ package smartHomeDDD.domain.repository;
 
 import smartHomeDDD.ddd.Repository;
 import smartHomeDDD.domain.sensorReading.SensorReading;
+import smartHomeDDD.domain.sensorReading.SensorReadingCursor;
 import smartHomeDDD.domain.valueobject.DeviceId;
 import smartHomeDDD.domain.valueobject.SensorID;
 import smartHomeDDD.domain.valueobject.SensorReadingID;
 
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 
 /**
@@ -39,20 +44,84 @@ public interface IRepositorySensorReading extends Repository<SensorReadingID, Se
 
     List<SensorReading> getSensorReadingsBetweenTimestamp(DeviceId deviceId, SensorID sensorIDIndoors, Timestamp start, Timestamp end);
 
+    /**
+     * Retrieves the SensorReading objects of several sensors of a device within a given time period, with the same
+     * bounds as getSensorReadingsBetweenTimestamp.
+     * Repositories that can read the readings of every sensor with a single query override it.
+     *
+     * @param deviceId The unique identifier of the device.
+     * @param sensorIDs The unique identifiers of the sensors.
+     * @param start The start of the time period.
+     * @param end The end of the time period.
+     * @return A list of SensorReading objects.
+     */
+    default List<SensorReading> getSensorReadingsBetweenTimestamp(DeviceId deviceId, Collection<SensorID> sensorIDs, Timestamp start, Timestamp end) {
+        List<SensorReading> sensorReadings = new ArrayList<>();
+        for (SensorID sensorID : new LinkedHashSet<>(sensorIDs)) {
+            sensorReadings.addAll(getSensorReadingsBetweenTimestamp(deviceId, sensorID, start, end));
+        }
+        return sensorReadings;
+    }
+
     /**
      * Retrieves the latest sensor reading for a specific sensor.
      *
      * @param sensorID The ID of the sensor for which the latest reading is to be retrieved.
-     * @return The latest sensor reading for the specified sensor.
+     * @return The latest sensor reading for the specified sensor, or an empty Optional if the sensor has no readings.
      */
 
     Optional<SensorReading> getLatestReadingFromSensor(SensorID sensorID);
 
     List<SensorReading> getSensorReadingsByDeviceId(DeviceId deviceId);
 
-}
-
+    /**
+     * Passes every SensorReading of a device to an action, ordered by timestamp, without holding them all in memory.
+     * Implementations backed by a database read the readings through a cursor, one fetch at a time, so the memory
+     * used does not grow with the history of the device.
+     *
+     * @param deviceId The ID of the device.
+     * @param action The action to perform on each SensorReading.
+     */
+    void forEachSensorReadingOfDevice(DeviceId deviceId, Consumer<SensorReading> action);
 
+    /**
+     * Retrieves a page of the SensorReadings of a device, ordered by timestamp and then by ID, starting right after
+     * a cursor. The page is found by seeking the cursor, not by skipping the readings before it, so every page costs
+     * the same however deep into the history it is.
+     *
+     * @param deviceId The ID of the device.
+     * @param start The start of the time period, included, or null for no start.
+     * @param end The end of the time period, included, or null for no end.
+     * @param after The cursor after which the page starts, or null for the first page.
+     * @param limit The maximum number of SensorReadings in the page.
+     * @return The SensorReadings of the page.
+     */
+    List<SensorReading> getSensorReadingsPageFromDevice(DeviceId deviceId, Timestamp start, Timestamp end, SensorReadingCursor after, int limit);
 
+    /**
+     * Saves a batch of SensorReading objects at once.
+     * The batch is saved as a whole: if any of the readings already exists, none of them is saved.
+     *
+     * @param entities The SensorReading objects to save.
+     * @return The saved SensorReading objects, in the same order.
+     */
+    List<SensorReading> saveAll(List<SensorReading> entities);
 
+    /**
+     * Calculates the average of the numeric readings of a device within a given time period, using the same period
+     * bounds as getMeasurementsFromDeviceWithinPeriod. Readings that are not numbers are ignored.
+     *
+     * @param deviceID The ID of the device.
+     * @param start The start of the time period.
+     * @param end The end of the time period.
+     * @return The average of the readings, or 0 if the device has no numeric readings within the period.
+     */
+    double getAverageReadingWithinPeriod(DeviceId deviceID, Timestamp start, Timestamp end);
 
+    /**
+     * Retrieves the latest sensor reading of each sensor that has readings.
+     *
+     * @return A list with the latest sensor reading of each sensor.
+     */
+    List<SensorReading> getLatestReadingOfEachSensor();
+}
@@ -7,9 +7,7 @@ import smartHomeDDD.domain.valueobject.SensorID;
 import smartHomeDDD.domain.valueobject.SensorModelID;
 
 import java.time.LocalTime;
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -35,11 +33,14 @@ public class AVPC500W implements SensorValueTwoLocalTimes, AggregateRoot<SensorI
     private final SensorModelID _sensorModelID;
 
     /**
-     * A map that holds the sensor data. The key is a LocalTime object
-     * indicating the time of the reading, and the value is a Double object
-     * representing the reading at that time.
+     * The readings of the model, sorted by time and shared by every APC500W sensor.
      */
-    private final Map<LocalTime, Double> _readings;
+    private static final ReadingSeries READINGS = ReadingSeries.of(setData());
+
+    /**
+     * The series that holds the sensor data.
+     */
+    private final ReadingSeries _readings;
 
     /**
      * Constructs an APC500W sensor with the specified parameters.
@@ -56,7 +57,7 @@ public class AVPC500W implements SensorValueTwoLocalTimes, AggregateRoot<SensorI
             this._deviceID = deviceId;
             this._sensorModelID = sensorModelID;
             this._sensorID = sensorID;
-            this._readings = setData();
+            this._readings = READINGS;
     }
 
     /**
@@ -65,7 +66,7 @@ public class AVPC500W implements SensorValueTwoLocalTimes, AggregateRoot<SensorI
      *
      * @return A map containing the pre-defined data readings for the sensor.
      */
-    private Map<LocalTime, Double> setData() {
+    private static Map<LocalTime, Double> setData() {
         Map<LocalTime, Double> readings = new HashMap<>();
         readings.put(LocalTime.of(3, 0), 100.0);
         readings.put(LocalTime.of(3, 10), 105.0);
@@ -76,22 +77,8 @@ public class AVPC500W implements SensorValueTwoLocalTimes, AggregateRoot<SensorI
     }
 
     /**
-     * Retrieves the readings within the specified period.
-     *
-     * @param start The start time of the period.
-     * @param end   The end time of the period.
-     * @return A list containing the readings within the specified period.
-     */
-    private List<Double> readingsWithinPeriod(LocalTime start, LocalTime end) {
-        List<Double> readingsWithinPeriod = new ArrayList<>();
-        this._readings.entrySet().stream()
-                .filter(entry -> entry.getKey().isAfter(start) && entry.getKey().isBefore(end))
-                .forEach(entry -> readingsWithinPeriod.add(entry.getValue()));
-        return readingsWithinPeriod;
-    }
-
-    /**
-     * Calculates the average power consumption of the sensor within the specified period.
+     * Calculates the average power consumption of the sensor within the specified period,
+     * which excludes the readings at the start and at the end.
      *
      * @param start The start time of the period.
      * @param end   The end time of the period.
@@ -99,16 +86,7 @@ public class AVPC500W implements SensorValueTwoLocalTimes, AggregateRoot<SensorI
      */
 
     private AVPC500WValue averagePowerConsumption(LocalTime start, LocalTime end){
-        List<Double> valuesList = readingsWithinPeriod(start,end);
-        double sumReadings = 0;
-        for (double reading : valuesList) {
-            sumReadings += reading;
-        }
-        double averageReadings = 0;
-        if (!valuesList.isEmpty()) {
-            averageReadings = sumReadings / valuesList.size();
-        }
-        return new AVPC500WValue(averageReadings);
+        return new AVPC500WValue(_readings.averageBetween(start, end));
     }
 
     /**
@@ -8,9 +8,7 @@ import smartHomeDDD.domain.valueobject.SensorID;
 import smartHomeDDD.domain.valueobject.SensorModelID;
 import java.time.Duration;
 import java.time.LocalTime;
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -35,10 +33,14 @@ public class ECA300K implements SensorValueTwoLocalTimes, AggregateRoot<SensorID
     private final SensorModelID _sensorModelID;
 
     /**
-     * The data readings from the sensor. They are represented as a map where the key
-     * corresponds to the reading number and the value corresponds to the reading value.
+     * The readings of the model, sorted by time and shared by every EEC300K sensor.
      */
-    private final Map<LocalTime, Double> _readings;
+    private static final ReadingSeries READINGS = ReadingSeries.of(sampleReadings());
+
+    /**
+     * The data readings from the sensor, as a series sorted by the time of the reading.
+     */
+    private final ReadingSeries _readings;
 
     /**
      * Constructs an EEC300K sensor with specified parameters.
@@ -52,7 +54,7 @@ public class ECA300K implements SensorValueTwoLocalTimes, AggregateRoot<SensorID
             this._deviceID = deviceId;
             this._sensorModelID = sensorModelID;
             this._sensorID = sensorID;
-            this._readings = setData();
+            this._readings = READINGS;
     }
 
     /**
@@ -61,6 +63,15 @@ public class ECA300K implements SensorValueTwoLocalTimes, AggregateRoot<SensorID
      * @return The data readings for the sensor.
      */
     public Map<LocalTime,Double> setData() {
+        return sampleReadings();
+    }
+
+    /**
+     * Builds the pre-defined data readings of the model.
+     *
+     * @return The data readings of the model.
+     */
+    private static Map<LocalTime, Double> sampleReadings() {
         Map<LocalTime, Double> readings = new HashMap<>();
         readings.put(LocalTime.of(9, 0), 10.0);
         readings.put(LocalTime.of(10, 15), 20.0);
@@ -69,21 +80,6 @@ public class ECA300K implements SensorValueTwoLocalTimes, AggregateRoot<SensorID
         return readings;
     }
 
-    /**
-     * Retrieves the readings within a specified period.
-     *
-     * @param start The start time of the period.
-     * @param end   The end time of the period.
-     * @return A list of readings within the specified period.
-     */
-    private List<Double> readingsWithinPeriod(LocalTime start, LocalTime end) {
-        List<Double> readingsWithinPeriod = new ArrayList<>();
-        this._readings.entrySet().stream()
-                .filter(entry -> entry.getKey().isAfter(start) && entry.getKey().isBefore(end))
-                .forEach(entry -> readingsWithinPeriod.add(entry.getValue()));
-        return readingsWithinPeriod;
-    }
-
     /**
      * Retrieves the average value of readings per hour within the specified time period.
      * This method calculates the average value of readings per hour between the given start and end times.
@@ -97,14 +93,10 @@ public class ECA300K implements SensorValueTwoLocalTimes, AggregateRoot<SensorID
      * within the specified period.
      */
     private Value readingsPerHour(LocalTime start, LocalTime end) {
-        List<Double> valuesList = readingsWithinPeriod(start, end);
-        if(valuesList.isEmpty()){
+        if (_readings.countBetween(start, end) == 0) {
             return new ECA300KValue(0.0);
         }
-        double sumReadings = 0;
-        for (double reading : valuesList) {
-            sumReadings += reading;
-        }
+        double sumReadings = _readings.sumBetween(start, end);
         long hours = Duration.between(start, end).toHours();
         double readingsPerHour = sumReadings / hours;
         return new ECA300KValue(readingsPerHour);
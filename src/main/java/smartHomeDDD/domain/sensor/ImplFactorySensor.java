@@ -6,17 +6,27 @@
 package smartHomeDDD.domain.sensor;
 
 import org.springframework.stereotype.Component;
+import smartHomeDDD.ddd.ModelRegistry;
 import smartHomeDDD.domain.valueobject.DeviceId;
 import smartHomeDDD.domain.valueobject.SensorID;
 import smartHomeDDD.domain.valueobject.SensorModelID;
-import java.lang.reflect.InvocationTargetException;
+
+import java.lang.invoke.MethodHandles;
 @Component
 public class ImplFactorySensor implements FactorySensor {
 
+    /**
+     * The constructor of each sensor model of this package, bound once when the class is loaded.
+     */
+    private static final ModelRegistry<SensorConstructor> SENSOR_MODELS =
+            ModelRegistry.of(MethodHandles.lookup(), Sensor.class, SensorConstructor.class);
+
     /**
      * Constructs a Sensor object using the provided parameters.
-     * If an exception occurs during the creation of the Sensor object (due to
-     * reflection), this method returns null.
+     * The sensor model is looked up in the registry of sensor models, and its
+     * constructor is called directly.
+     * If the sensor model does not exist, or its constructor throws an
+     * exception, this method returns null.
      *
      * @param deviceId        The unique identifier for the device to which the
      *                        sensor will be associated.
@@ -27,20 +37,31 @@ public class ImplFactorySensor implements FactorySensor {
     @Override
     public Sensor createSensor(DeviceId deviceId, SensorModelID sensorModelID, SensorID sensorID) {
 
-        Object[] arguments = {deviceId, sensorModelID, sensorID};
-
-        Class[] classTypes = {DeviceId.class, SensorModelID.class, SensorID.class};
-
+        SensorConstructor constructor = SENSOR_MODELS.constructorOf(sensorModelID.toString());
+        if (constructor == null) {
+            return null;
+        }
         try {
-            String sensorModelName = sensorModelID.toString();
-            String strModelPath = "smartHomeDDD.domain.sensor." + sensorModelName;
-            return (Sensor) Class.forName(strModelPath).getConstructor(classTypes).newInstance(arguments);
-        } catch (ClassNotFoundException |
-                 NoSuchMethodException |
-                 InstantiationException |
-                 IllegalAccessException |
-                 InvocationTargetException e) {
+            return constructor.create(deviceId, sensorModelID, sensorID);
+        } catch (RuntimeException e) {
             return null;
         }
     }
+
+    /**
+     * The constructor of a sensor model.
+     */
+    @FunctionalInterface
+    interface SensorConstructor {
+
+        /**
+         * Constructs a sensor of the model.
+         *
+         * @param deviceId        The unique identifier for the device.
+         * @param sensorModelID   The unique identifier for the sensor model.
+         * @param sensorID        The unique identifier for the sensor.
+         * @return The sensor.
+         */
+        Sensor create(DeviceId deviceId, SensorModelID sensorModelID, SensorID sensorID);
+    }
 }
@@ -38,10 +38,14 @@ public class PC500W implements SensorValueLocalTime, AggregateRoot<SensorID> {
      */
     private final SensorID _sensorID;
     /**
-     * A map storing the readings of the sensor at different times.
-     * The key is the time of the reading, and the value is the reading at that time.
+     * The readings of the model, sorted by time and shared by every PC500W sensor.
      */
-    private final Map<LocalTime, Double> _readings;
+    private static final ReadingSeries READINGS = ReadingSeries.of(sampleReadings());
+
+    /**
+     * The readings of the sensor at different times, as a series sorted by the time of the reading.
+     */
+    private final ReadingSeries _readings;
 
     /**
      * Constructs a new PC500W object with the given device ID, sensor type, sensor model, and sensor ID.
@@ -54,7 +58,7 @@ public class PC500W implements SensorValueLocalTime, AggregateRoot<SensorID> {
         this._deviceID = deviceId;
         this._sensorModelID = sensorModelID;
         this._sensorID = sensorID;
-        this._readings = setData();
+        this._readings = READINGS;
     }
 
     /**
@@ -75,7 +79,7 @@ public class PC500W implements SensorValueLocalTime, AggregateRoot<SensorID> {
      * @return the sensor value at the given time
      */
     public Value getValue(LocalTime dateTime) {
-        Double reading = _readings.get(dateTime);
+        Double reading = _readings.valueAt(dateTime);
         if (reading == null) {
             this._pc500WValue = new PC500WValue(0.0); // default value
         } else {
@@ -129,6 +133,16 @@ public class PC500W implements SensorValueLocalTime, AggregateRoot<SensorID> {
      * @return a map of times and sensor readings
      */
     public Map<LocalTime, Double> setData()
+    {
+        return sampleReadings();
+    }
+
+    /**
+     * Builds the pre-defined readings of the model.
+     *
+     * @return a map of times and sensor readings
+     */
+    private static Map<LocalTime, Double> sampleReadings()
     {
         Map<LocalTime, Double> readings = new HashMap<>();
         readings.put(LocalTime.of(3, 0), 100.0);
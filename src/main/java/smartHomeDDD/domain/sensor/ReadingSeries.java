@@ -0,0 +1,151 @@
+package smartHomeDDD.domain.sensor;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The ReadingSeries class holds the readings of a sensor over a day, sorted by the time of the reading.
+ * The times and the values are kept in primitive arrays, next to the prefix sums of the values, so the count, the sum
+ * and the average of the readings of any period are answered with two binary searches instead of a scan.
+ * A series is immutable, so one series is shared by every sensor of the same model.
+ */
+public final class ReadingSeries {
+
+    /**
+     * The time of each reading, as a nano of the day, in ascending order.
+     */
+    private final long[] _times;
+
+    /**
+     * The value of each reading, in the order of the times.
+     */
+    private final double[] _values;
+
+    /**
+     * The sum of the values before each position, so the sum of the readings from position i to position j,
+     * exclusive, is _prefixSums[j] - _prefixSums[i].
+     */
+    private final double[] _prefixSums;
+
+    /**
+     * Constructor for the ReadingSeries class.
+     *
+     * @param times The time of each reading, in ascending order.
+     * @param values The value of each reading.
+     */
+    private ReadingSeries(long[] times, double[] values) {
+        this._times = times;
+        this._values = values;
+        this._prefixSums = new double[values.length + 1];
+        for (int i = 0; i < values.length; i++) {
+            _prefixSums[i + 1] = _prefixSums[i] + values[i];
+        }
+    }
+
+    /**
+     * Builds a series from a map of readings.
+     *
+     * @param readings The readings, by the time of the reading.
+     * @return The series of the readings.
+     * @throws IllegalArgumentException if the readings are null or have a null time or value.
+     */
+    public static ReadingSeries of(Map<LocalTime, Double> readings) {
+        if (readings == null) {
+            throw new IllegalArgumentException("Invalid readings");
+        }
+        List<Map.Entry<LocalTime, Double>> entries = new ArrayList<>(readings.entrySet());
+        for (Map.Entry<LocalTime, Double> entry : entries) {
+            if (entry.getKey() == null || entry.getValue() == null) {
+                throw new IllegalArgumentException("Invalid readings");
+            }
+        }
+        entries.sort(Map.Entry.comparingByKey(Comparator.naturalOrder()));
+
+        long[] times = new long[entries.size()];
+        double[] values = new double[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            times[i] = entries.get(i).getKey().toNanoOfDay();
+            values[i] = entries.get(i).getValue();
+        }
+        return new ReadingSeries(times, values);
+    }
+
+    /**
+     * Retrieves the value of the reading at a time.
+     *
+     * @param time The time of the reading.
+     * @return The value of the reading, or null if there is no reading at that time.
+     */
+    public Double valueAt(LocalTime time) {
+        if (time == null) {
+            return null;
+        }
+        int position = Arrays.binarySearch(_times, time.toNanoOfDay());
+        return position < 0 ? null : _values[position];
+    }
+
+    /**
+     * Counts the readings strictly after the start and strictly before the end of a period.
+     *
+     * @param start The start of the period.
+     * @param end The end of the period.
+     * @return The number of readings within the period.
+     */
+    public int countBetween(LocalTime start, LocalTime end) {
+        return Math.max(0, firstAtOrAfter(end) - firstAfter(start));
+    }
+
+    /**
+     * Sums the readings strictly after the start and strictly before the end of a period.
+     *
+     * @param start The start of the period.
+     * @param end The end of the period.
+     * @return The sum of the readings within the period, or 0 if there are none.
+     */
+    public double sumBetween(LocalTime start, LocalTime end) {
+        int from = firstAfter(start);
+        int to = firstAtOrAfter(end);
+        return to <= from ? 0 : _prefixSums[to] - _prefixSums[from];
+    }
+
+    /**
+     * Averages the readings strictly after the start and strictly before the end of a period.
+     *
+     * @param start The start of the period.
+     * @param end The end of the period.
+     * @return The average of the readings within the period, or 0 if there are none.
+     */
+    public double averageBetween(LocalTime start, LocalTime end) {
+        int count = countBetween(start, end);
+        return count == 0 ? 0 : sumBetween(start, end) / count;
+    }
+
+    /**
+     * Retrieves the number of readings in the series.
+     *
+     * @return The number of readings.
+     */
+    public int size() {
+        return _times.length;
+    }
+
+    /**
+     * Finds the position of the first reading after a time.
+     */
+    private int firstAfter(LocalTime time) {
+        int position = Arrays.binarySearch(_times, time.toNanoOfDay());
+        return position < 0 ? -position - 1 : position + 1;
+    }
+
+    /**
+     * Finds the position of the first reading at or after a time.
+     */
+    private int firstAtOrAfter(LocalTime time) {
+        int position = Arrays.binarySearch(_times, time.toNanoOfDay());
+        return position < 0 ? -position - 1 : position;
+    }
+}
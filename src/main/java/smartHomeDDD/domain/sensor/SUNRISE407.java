@@ -7,16 +7,11 @@ import smartHomeDDD.domain.valueobject.SUNRISE407Value;
 import smartHomeDDD.domain.valueobject.SensorID;
 import smartHomeDDD.domain.valueobject.SensorModelID;
 import smartHomeDDD.domain.valueobject.GPSCoordinates;
-import smartHomeDDD.domain.valueobject.Latitude;
-import smartHomeDDD.domain.valueobject.Longitude;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.time.YearMonth;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.IntStream;
 
 /**
  * The SUNRISE407 class represents the SUNRISE407 sensor.
@@ -46,9 +41,8 @@ public class SUNRISE407 implements SensorValueLocalDateGps, AggregateRoot<Sensor
     private final SensorModelID sensorModelID;
 
     /**
-     * A map that holds the sensor data. The key is a LocalDate object
-     * indicating the date of the reading, and the value is a map of
-     * GPSCoordinates and LocalTime.
+     * A map that replaces the shared sunrise ephemeris of the sensor, when set. The key is a LocalDate object
+     * indicating the date of the reading, and the value is a map of GPSCoordinates and LocalTime.
      */
     private Map<LocalDate, Map<GPSCoordinates, LocalTime>> data;
 
@@ -64,74 +58,30 @@ public class SUNRISE407 implements SensorValueLocalDateGps, AggregateRoot<Sensor
         this.deviceID = deviceId;
         this.sensorModelID = sensorModelID;
         this.sensorID = sensorID;
-        this.data = setData();
     }
 
     /**
-     * Generates sample data for each date in the specified chosen year (2024),
-     * associating each date with GPS coordinates and local time.
-     *
-     * @return A map where each date is associated with a map of GPS coordinates and
-     * local time.
-     */
-    public Map<LocalDate, Map<GPSCoordinates, LocalTime>> setData() {
-        Map<LocalDate, Map<GPSCoordinates, LocalTime>> data = new HashMap<>();
-        Latitude lat = new Latitude(50.0);
-        Longitude lon = new Longitude(110.0);
-        GPSCoordinates gps = new GPSCoordinates(lat, lon);
-        int year = 2024;
-        IntStream.rangeClosed(1, 12).forEach(month -> {
-            YearMonth yearMonth = YearMonth.of(year, month);
-            int daysInMonth = yearMonth.lengthOfMonth();
-            IntStream.rangeClosed(1, daysInMonth).forEach(day -> {
-                LocalDate currentDate = LocalDate.of(year, month, day);
-                Map<GPSCoordinates, LocalTime> dayData = new HashMap<>();
-                dayData.put(gps, LocalTime.of(7, 0, day));
-                data.put(currentDate, dayData);
-            });
-        });
-        return data;
-    }
-
-    /**
-     * Checks if the given GPS coordinates are present in the data map.
-     *
-     * @param map The map to check for the presence of the GPS coordinates.
-     * @param gps The GPSCoordinates to check for presence in the map.
-     */
-    public GPSCoordinates givesGPS(Map<GPSCoordinates, LocalTime> map, GPSCoordinates gps) {
-        for (Map.Entry<GPSCoordinates, LocalTime> entry : map.entrySet()) {
-            if (entry.getKey().equals(gps)) {
-                return entry.getKey();
-            }
-        }
-        return null;
-    }
-
-    /**
-     * Checks if the given date and GPS coordinates are present in the data map.
-     *
-     * @param date The LocalDate to check for presence in the map.
-     * @param gps  The GPSCoordinates to check for presence in the map.
-     */
-    private boolean areArgumentsInMap(LocalDate date, GPSCoordinates gps) {
-        GPSCoordinates realGps = givesGPS(this.data.get(date), gps);
-        return data.containsKey(date) && data.get(date).containsKey(realGps);
-    }
-
-    /**
-     * Given a period, it sums the respective readings.
+     * Retrieves the sunrise instant of a date at a GPS location, from the shared sunrise ephemeris, or from the
+     * data map of the sensor when one was set.
      *
      * @param date the LocalDate of the instant sunrise.
      * @param gps  the GPSCoordinates of the instant sunrise.
-     * @return returns the sunrise instant
+     * @return returns the sunrise instant, or null if there is no sunrise on that date at that location.
      */
     public Value getValue(LocalDate date, GPSCoordinates gps) {
-        if (!areArgumentsInMap(date, gps)) {
+        if (date == null || gps == null) {
+            return null;
+        }
+        LocalTime instant;
+        if (this.data != null) {
+            Map<GPSCoordinates, LocalTime> dayData = this.data.get(date);
+            instant = dayData == null ? null : dayData.get(gps);
+        } else {
+            instant = SolarEphemeris.sunrise().timeOf(date, gps.getLatitude(), gps.getLongitude());
+        }
+        if (instant == null) {
             return null;
         }
-        GPSCoordinates realGps = givesGPS(this.data.get(date), gps);
-        LocalTime instant = this.data.get(date).get(realGps);
         this.value = new SUNRISE407Value(instant);
         return this.value;
     }
@@ -215,6 +165,11 @@ public class SUNRISE407 implements SensorValueLocalDateGps, AggregateRoot<Sensor
         return Objects.hash(sensorID);
     }
 
+    /**
+     * Replaces the shared sunrise ephemeris of the sensor with a data map.
+     *
+     * @param data The sunrise instant of each date and GPS location.
+     */
     public void setDataMap(Map<LocalDate, Map<GPSCoordinates, LocalTime>> data) {
         this.data = data;
     }
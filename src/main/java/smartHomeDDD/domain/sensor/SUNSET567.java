@@ -7,17 +7,11 @@ import smartHomeDDD.domain.valueobject.SUNSET567Value;
 import smartHomeDDD.domain.valueobject.SensorID;
 import smartHomeDDD.domain.valueobject.SensorModelID;
 import smartHomeDDD.domain.valueobject.GPSCoordinates;
-import smartHomeDDD.domain.valueobject.Latitude;
-import smartHomeDDD.domain.valueobject.Longitude;
 
 
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.time.YearMonth;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
-import java.util.stream.IntStream;
 
 /**
  * The SUNSET567 class represents the SUNRISE407 sensor.
@@ -41,11 +35,6 @@ public class SUNSET567 implements SensorValueLocalDateGps, AggregateRoot<SensorI
      * The model of the sensor.
      */
     private final SensorModelID _sensorModelID;
-    /**
-     * A map that holds the sensor data. The key is a LocalDate object indicating
-     * the date of the reading, and the value is a map of GPSCoordinates and LocalTime.
-     */
-    private final Map<LocalDate, Map<GPSCoordinates, LocalTime>> _data;
 
     /**
      * Constructs a SUNSET567 sensor with the specified parameters.
@@ -59,77 +48,23 @@ public class SUNSET567 implements SensorValueLocalDateGps, AggregateRoot<SensorI
         this._deviceID = deviceId;
         this._sensorModelID = sensorModelID;
         this._sensorID = sensorID;
-        this._data = setData();
     }
 
     /**
-     * Generates sample data for each date in the specified chosen year (2024), associating each date
-     * with GPS coordinates and local time.
+     * Retrieves the sunset instant of a date at a GPS location, from the shared sunset ephemeris.
      *
-     * @return A map where each date is associated with a map of GPS coordinates and
-     * local time.
-     */
-    public Map<LocalDate, Map<GPSCoordinates, LocalTime>> setData() {
-        Latitude lat = new Latitude(55.0);
-        Longitude lon = new Longitude(115.0);
-        GPSCoordinates gps = new GPSCoordinates(lat, lon);
-        int year = 2024;
-        Map<LocalDate, Map<GPSCoordinates, LocalTime>> data = new HashMap<>();
-        IntStream.rangeClosed(1, 12).forEach(month -> {
-            YearMonth yearMonth = YearMonth.of(year, month);
-            int daysInMonth = yearMonth.lengthOfMonth();
-            IntStream.rangeClosed(1, daysInMonth).forEach(day -> {
-                LocalDate currentDate = LocalDate.of(year, month, day);
-                Map<GPSCoordinates, LocalTime> dayData = new HashMap<>();
-                dayData.put(gps, LocalTime.of(18, 0, day));
-                data.put(currentDate, dayData);
-            });
-        });
-        return data;
-    }
-
-    /**
-     * Checks if the given GPS coordinates are present in the data map.
-     *
-     * @param map The map to check for the presence of the GPS coordinates.
-     * @param gps The GPSCoordinates to check for presence in the map.
-     */
-    public GPSCoordinates givesGPS(Map<GPSCoordinates, LocalTime> map, GPSCoordinates gps) {
-        for (Map.Entry<GPSCoordinates, LocalTime> entry : map.entrySet()) {
-            if (entry.getKey().equals(gps)) {
-                return entry.getKey();
-            }
-        }
-        return null;
-    }
-
-    /**
-     * Checks if the given date and GPS coordinates are present in the data map.
-     *
-     * @param date The LocalDate to check for presence in the map.
-     * @param gps  The GPSCoordinates to check for presence in the map.
-     */
-    private boolean areArgumentsInMap(LocalDate date, GPSCoordinates gps) {
-        GPSCoordinates realGps = givesGPS(this._data.get(date), gps);
-        if (!_data.containsKey(date) || !_data.get(date).containsKey(realGps)) {
-            return false;
-        }
-        return true;
-    }
-
-    /**
-     * Given a period, it sums the respective readings.
-     *
-     * @param date the LocalDate of the instant sunrise.
-     * @param gps  the GPSCoordinates of the instant sunrise.
-     * @return returns the sunrise instant
+     * @param date the LocalDate of the instant sunset.
+     * @param gps  the GPSCoordinates of the instant sunset.
+     * @return returns the sunset instant, or null if there is no sunset on that date at that location.
      */
     public Value getValue(LocalDate date, GPSCoordinates gps) {
-        if (!areArgumentsInMap(date, gps)) {
+        if (date == null || gps == null) {
+            return null;
+        }
+        LocalTime instant = SolarEphemeris.sunset().timeOf(date, gps.getLatitude(), gps.getLongitude());
+        if (instant == null) {
             return null;
         }
-        GPSCoordinates realGps = givesGPS(this._data.get(date), gps);
-        LocalTime instant = this._data.get(date).get(realGps);
         this._value = new SUNSET567Value(instant);
         return this._value;
     }
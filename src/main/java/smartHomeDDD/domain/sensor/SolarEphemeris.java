@@ -0,0 +1,185 @@
+package smartHomeDDD.domain.sensor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Year;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The SolarEphemeris class answers the time of the sunrise or of the sunset of a day at a GPS location.
+ * It is shared by every SUNRISE407 and SUNSET567 sensor, instead of each sensor building its own map of readings.
+ * The sample readings of the sensors are kept in an immutable table of seconds of the day, indexed by the day of the
+ * year and a GPS cell, which is the location rounded to a ten-thousandth of a degree. Any other day or location is
+ * calculated with the sunrise equation of the NOAA solar calculator, in local mean solar time, and memoized.
+ * Each ephemeris is built the first time it is used.
+ */
+public final class SolarEphemeris {
+
+    /**
+     * The year of the sample readings.
+     */
+    static final int TABLE_YEAR = 2024;
+
+    /**
+     * The number of GPS cells per degree.
+     */
+    private static final double CELLS_PER_DEGREE = 10_000;
+
+    /**
+     * The number of seconds in a day.
+     */
+    private static final int SECONDS_PER_DAY = 24 * 60 * 60;
+
+    /**
+     * The result of a calculation for a day without a sunrise or a sunset, as in the polar day and night.
+     */
+    private static final int NO_EVENT = -1;
+
+    /**
+     * The maximum number of memoized calculations, after which the memo is cleared.
+     */
+    private static final int MAX_CALCULATIONS = 100_000;
+
+    /**
+     * Whether this ephemeris answers the sunrise, or else the sunset.
+     */
+    private final boolean _sunrise;
+
+    /**
+     * The second of the day of the sample readings, by GPS cell and then by day of the year.
+     */
+    private final Map<Long, int[]> _table;
+
+    /**
+     * The memoized calculations, by day and latitude cell.
+     */
+    private final Map<CalculationKey, Integer> _calculations = new ConcurrentHashMap<>();
+
+    /**
+     * Builds an ephemeris with the sample readings of a location, which are the given time of the day plus as many
+     * seconds as the day of the month, for every day of the table year.
+     *
+     * @param sunrise Whether the ephemeris answers the sunrise, or else the sunset.
+     * @param latitude The latitude of the sample readings.
+     * @param longitude The longitude of the sample readings.
+     * @param time The time of the sample readings, before adding the day of the month.
+     */
+    private SolarEphemeris(boolean sunrise, double latitude, double longitude, LocalTime time) {
+        this._sunrise = sunrise;
+        int[] secondsOfDay = new int[Year.of(TABLE_YEAR).length()];
+        for (int day = 0; day < secondsOfDay.length; day++) {
+            secondsOfDay[day] = time.toSecondOfDay() + LocalDate.ofYearDay(TABLE_YEAR, day + 1).getDayOfMonth();
+        }
+        this._table = Map.of(cellOf(latitude, longitude), secondsOfDay);
+    }
+
+    /**
+     * Holds the sunrise ephemeris, so it is built the first time it is used.
+     */
+    private static final class SunriseHolder {
+        private static final SolarEphemeris INSTANCE = new SolarEphemeris(true, 50.0, 110.0, LocalTime.of(7, 0));
+    }
+
+    /**
+     * Holds the sunset ephemeris, so it is built the first time it is used.
+     */
+    private static final class SunsetHolder {
+        private static final SolarEphemeris INSTANCE = new SolarEphemeris(false, 55.0, 115.0, LocalTime.of(18, 0));
+    }
+
+    /**
+     * Retrieves the sunrise ephemeris.
+     *
+     * @return The shared sunrise ephemeris.
+     */
+    public static SolarEphemeris sunrise() {
+        return SunriseHolder.INSTANCE;
+    }
+
+    /**
+     * Retrieves the sunset ephemeris.
+     *
+     * @return The shared sunset ephemeris.
+     */
+    public static SolarEphemeris sunset() {
+        return SunsetHolder.INSTANCE;
+    }
+
+    /**
+     * Retrieves the time of the sunrise or the sunset of a day at a location.
+     *
+     * @param date The day.
+     * @param latitude The latitude of the location, in degrees.
+     * @param longitude The longitude of the location, in degrees.
+     * @return The time of the sunrise or the sunset, or null if the sun does not rise or set on that day there.
+     */
+    public LocalTime timeOf(LocalDate date, double latitude, double longitude) {
+        if (date.getYear() == TABLE_YEAR) {
+            int[] secondsOfDay = _table.get(cellOf(latitude, longitude));
+            if (secondsOfDay != null) {
+                return LocalTime.ofSecondOfDay(secondsOfDay[date.getDayOfYear() - 1]);
+            }
+        }
+        int latitudeCell = (int) Math.round(latitude * CELLS_PER_DEGREE);
+        CalculationKey key = new CalculationKey(date.toEpochDay(), latitudeCell);
+        Integer seconds = _calculations.get(key);
+        if (seconds == null) {
+            if (_calculations.size() >= MAX_CALCULATIONS) {
+                _calculations.clear();
+            }
+            seconds = calculate(date, latitudeCell / CELLS_PER_DEGREE);
+            _calculations.put(key, seconds);
+        }
+        return seconds == NO_EVENT ? null : LocalTime.ofSecondOfDay(seconds);
+    }
+
+    /**
+     * Calculates the second of the day of the sunrise or the sunset of a day at a latitude, in local mean solar time.
+     * In local mean solar time the longitude cancels out, so the result only depends on the day and the latitude.
+     *
+     * @param date The day.
+     * @param latitude The latitude, in degrees.
+     * @return The second of the day of the sunrise or the sunset, or NO_EVENT if there is none on that day.
+     */
+    private int calculate(LocalDate date, double latitude) {
+        double fractionalYear = 2 * Math.PI / date.lengthOfYear() * (date.getDayOfYear() - 1);
+        double equationOfTimeInMinutes = 229.18 * (0.000075
+                + 0.001868 * Math.cos(fractionalYear) - 0.032077 * Math.sin(fractionalYear)
+                - 0.014615 * Math.cos(2 * fractionalYear) - 0.040849 * Math.sin(2 * fractionalYear));
+        double declination = 0.006918
+                - 0.399912 * Math.cos(fractionalYear) + 0.070257 * Math.sin(fractionalYear)
+                - 0.006758 * Math.cos(2 * fractionalYear) + 0.000907 * Math.sin(2 * fractionalYear)
+                - 0.002697 * Math.cos(3 * fractionalYear) + 0.00148 * Math.sin(3 * fractionalYear);
+
+        double latitudeInRadians = Math.toRadians(latitude);
+        double cosHourAngle = Math.cos(Math.toRadians(90.833)) / (Math.cos(latitudeInRadians) * Math.cos(declination))
+                - Math.tan(latitudeInRadians) * Math.tan(declination);
+        if (Double.isNaN(cosHourAngle) || cosHourAngle < -1 || cosHourAngle > 1) {
+            return NO_EVENT;
+        }
+        double hourAngleInDegrees = Math.toDegrees(Math.acos(cosHourAngle));
+        double minutes = 720 + (_sunrise ? -4 * hourAngleInDegrees : 4 * hourAngleInDegrees) - equationOfTimeInMinutes;
+        return Math.floorMod(Math.round(minutes * 60), SECONDS_PER_DAY);
+    }
+
+    /**
+     * Retrieves the GPS cell of a location.
+     *
+     * @param latitude The latitude, in degrees.
+     * @param longitude The longitude, in degrees.
+     * @return The cell, with the rounded latitude in the high half and the rounded longitude in the low half.
+     */
+    private static long cellOf(double latitude, double longitude) {
+        return (Math.round(latitude * CELLS_PER_DEGREE) << 32) | (Math.round(longitude * CELLS_PER_DEGREE) & 0xFFFFFFFFL);
+    }
+
+    /**
+     * The key of a memoized calculation.
+     *
+     * @param epochDay The day, as a count of days since the epoch.
+     * @param latitudeCell The latitude, rounded to a ten-thousandth of a degree.
+     */
+    private record CalculationKey(long epochDay, int latitudeCell) {
+    }
+}
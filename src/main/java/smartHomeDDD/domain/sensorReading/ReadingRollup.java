@@ -0,0 +1,288 @@
+package smartHomeDDD.domain.sensorReading;
+
+import smartHomeDDD.domain.valueobject.SensorID;
+
+import java.sql.Timestamp;
+
+/**
+ * ReadingRollup summarizes the numeric readings of a sensor within a bucket of time: their count, sum, minimum,
+ * maximum, the first and last readings by timestamp, and the count and sum of the readings at the first timestamp.
+ * Rollups are immutable, and adding a reading returns a new rollup. The first and last readings are chosen by
+ * timestamp and not by arrival, so readings can be added in any order and the rollup is the same.
+ */
+public class ReadingRollup {
+
+    /**
+     * The sensor whose readings are summarized.
+     */
+    private final SensorID _sensorID;
+
+    /**
+     * The resolution of the bucket.
+     */
+    private final RollupResolution _resolution;
+
+    /**
+     * The start of the bucket, in milliseconds since the epoch.
+     */
+    private final long _bucketStart;
+
+    /**
+     * The number of readings.
+     */
+    private final long _count;
+
+    /**
+     * The sum of the readings.
+     */
+    private final double _sum;
+
+    /**
+     * The minimum reading.
+     */
+    private final double _min;
+
+    /**
+     * The maximum reading.
+     */
+    private final double _max;
+
+    /**
+     * The reading with the earliest timestamp.
+     */
+    private final double _first;
+
+    /**
+     * The earliest timestamp, in milliseconds since the epoch.
+     */
+    private final long _firstTime;
+
+    /**
+     * The number of readings at the earliest timestamp.
+     */
+    private final long _firstCount;
+
+    /**
+     * The sum of the readings at the earliest timestamp.
+     */
+    private final double _firstSum;
+
+    /**
+     * The reading with the latest timestamp.
+     */
+    private final double _last;
+
+    /**
+     * The latest timestamp, in milliseconds since the epoch.
+     */
+    private final long _lastTime;
+
+    /**
+     * Constructor for the ReadingRollup class.
+     * @param sensorID The sensor whose readings are summarized.
+     * @param resolution The resolution of the bucket.
+     * @param bucketStart The start of the bucket, in milliseconds since the epoch.
+     * @param count The number of readings. Must be positive.
+     * @param sum The sum of the readings.
+     * @param min The minimum reading.
+     * @param max The maximum reading.
+     * @param first The reading with the earliest timestamp.
+     * @param firstTime The earliest timestamp, in milliseconds since the epoch.
+     * @param firstCount The number of readings at the earliest timestamp. Must be positive and at most the count.
+     * @param firstSum The sum of the readings at the earliest timestamp.
+     * @param last The reading with the latest timestamp.
+     * @param lastTime The latest timestamp, in milliseconds since the epoch.
+     * @throws IllegalArgumentException if the sensor or resolution is null, the count is not positive, or the count at
+     * the earliest timestamp is not positive or exceeds the count.
+     */
+    public ReadingRollup(SensorID sensorID, RollupResolution resolution, long bucketStart, long count, double sum,
+                         double min, double max, double first, long firstTime, long firstCount, double firstSum,
+                         double last, long lastTime) {
+        if (sensorID == null || resolution == null) {
+            throw new IllegalArgumentException("Sensor ID and resolution cannot be null");
+        }
+        if (count <= 0) {
+            throw new IllegalArgumentException("A rollup must summarize at least one reading");
+        }
+        if (firstCount <= 0 || firstCount > count) {
+            throw new IllegalArgumentException("The readings at the earliest timestamp must be between one and the count");
+        }
+        this._sensorID = sensorID;
+        this._resolution = resolution;
+        this._bucketStart = bucketStart;
+        this._count = count;
+        this._sum = sum;
+        this._min = min;
+        this._max = max;
+        this._first = first;
+        this._firstTime = firstTime;
+        this._firstCount = firstCount;
+        this._firstSum = firstSum;
+        this._last = last;
+        this._lastTime = lastTime;
+    }
+
+    /**
+     * Creates the rollup of a single reading, in the bucket of the given resolution the reading falls in.
+     * @param sensorID The sensor of the reading.
+     * @param resolution The resolution of the bucket.
+     * @param value The value of the reading.
+     * @param time The timestamp of the reading, in milliseconds since the epoch.
+     * @return The rollup of the reading.
+     */
+    public static ReadingRollup of(SensorID sensorID, RollupResolution resolution, double value, long time) {
+        return new ReadingRollup(sensorID, resolution, resolution.bucketStart(time), 1, value, value, value, value, time, 1, value, value, time);
+    }
+
+    /**
+     * Returns a rollup with one more reading.
+     * @param value The value of the reading.
+     * @param time The timestamp of the reading, in milliseconds since the epoch.
+     * @return A new rollup that also summarizes the reading.
+     */
+    public ReadingRollup add(double value, long time) {
+        return merge(new ReadingRollup(_sensorID, _resolution, _bucketStart, 1, value, value, value, value, time, 1, value, value, time));
+    }
+
+    /**
+     * Returns a rollup that summarizes the readings of this rollup and another one.
+     * The result keeps the sensor, resolution and bucket start of this rollup. If both rollups start at the same
+     * timestamp, the readings at that timestamp are counted and summed together.
+     * @param other The other rollup.
+     * @return A new rollup that summarizes the readings of both rollups.
+     */
+    public ReadingRollup merge(ReadingRollup other) {
+        boolean otherIsFirst = other._firstTime < _firstTime;
+        boolean sameFirstTime = other._firstTime == _firstTime;
+        boolean otherIsLast = other._lastTime >= _lastTime;
+        return new ReadingRollup(_sensorID, _resolution, _bucketStart, _count + other._count, _sum + other._sum,
+                Math.min(_min, other._min), Math.max(_max, other._max),
+                otherIsFirst ? other._first : _first, otherIsFirst ? other._firstTime : _firstTime,
+                otherIsFirst ? other._firstCount : sameFirstTime ? _firstCount + other._firstCount : _firstCount,
+                otherIsFirst ? other._firstSum : sameFirstTime ? _firstSum + other._firstSum : _firstSum,
+                otherIsLast ? other._last : _last, otherIsLast ? other._lastTime : _lastTime);
+    }
+
+    /**
+     * Returns a copy of this rollup as the summary of a wider interval.
+     * @param resolution The resolution the interval was computed from.
+     * @param intervalStart The start of the interval, in milliseconds since the epoch.
+     * @return A new rollup with the same readings, starting at the given interval.
+     */
+    public ReadingRollup asInterval(RollupResolution resolution, long intervalStart) {
+        return new ReadingRollup(_sensorID, resolution, intervalStart, _count, _sum, _min, _max, _first, _firstTime,
+                _firstCount, _firstSum, _last, _lastTime);
+    }
+
+    /**
+     * Gets the sensor whose readings are summarized.
+     * @return The sensor ID.
+     */
+    public SensorID getSensorID() {
+        return _sensorID;
+    }
+
+    /**
+     * Gets the resolution of the bucket.
+     * @return The resolution.
+     */
+    public RollupResolution getResolution() {
+        return _resolution;
+    }
+
+    /**
+     * Gets the start of the bucket.
+     * @return The start of the bucket.
+     */
+    public Timestamp getBucketStart() {
+        return new Timestamp(_bucketStart);
+    }
+
+    /**
+     * Gets the number of readings.
+     * @return The number of readings.
+     */
+    public long getCount() {
+        return _count;
+    }
+
+    /**
+     * Gets the sum of the readings.
+     * @return The sum of the readings.
+     */
+    public double getSum() {
+        return _sum;
+    }
+
+    /**
+     * Gets the minimum reading.
+     * @return The minimum reading.
+     */
+    public double getMin() {
+        return _min;
+    }
+
+    /**
+     * Gets the maximum reading.
+     * @return The maximum reading.
+     */
+    public double getMax() {
+        return _max;
+    }
+
+    /**
+     * Gets the average of the readings.
+     * @return The average of the readings.
+     */
+    public double getAverage() {
+        return _sum / _count;
+    }
+
+    /**
+     * Gets the reading with the earliest timestamp.
+     * @return The first reading.
+     */
+    public double getFirst() {
+        return _first;
+    }
+
+    /**
+     * Gets the earliest timestamp.
+     * @return The timestamp of the first reading.
+     */
+    public Timestamp getFirstTime() {
+        return new Timestamp(_firstTime);
+    }
+
+    /**
+     * Gets the number of readings at the earliest timestamp.
+     * @return The number of readings at the first timestamp.
+     */
+    public long getFirstCount() {
+        return _firstCount;
+    }
+
+    /**
+     * Gets the sum of the readings at the earliest timestamp.
+     * @return The sum of the readings at the first timestamp.
+     */
+    public double getFirstSum() {
+        return _firstSum;
+    }
+
+    /**
+     * Gets the reading with the latest timestamp.
+     * @return The last reading.
+     */
+    public double getLast() {
+        return _last;
+    }
+
+    /**
+     * Gets the latest timestamp.
+     * @return The timestamp of the last reading.
+     */
+    public Timestamp getLastTime() {
+        return new Timestamp(_lastTime);
+    }
+}
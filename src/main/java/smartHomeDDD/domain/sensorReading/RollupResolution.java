@@ -0,0 +1,53 @@
+package smartHomeDDD.domain.sensorReading;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The resolutions at which sensor readings are rolled up, from the finest to the coarsest.
+ * Buckets are aligned to the epoch, so day buckets start at midnight UTC.
+ */
+public enum RollupResolution {
+
+    MINUTE(TimeUnit.MINUTES.toMillis(1)),
+    HOUR(TimeUnit.HOURS.toMillis(1)),
+    DAY(TimeUnit.DAYS.toMillis(1));
+
+    /**
+     * The length of a bucket, in milliseconds.
+     */
+    private final long _millis;
+
+    /**
+     * Constructor for the RollupResolution enum.
+     * @param millis The length of a bucket, in milliseconds.
+     */
+    RollupResolution(long millis) {
+        this._millis = millis;
+    }
+
+    /**
+     * Gets the length of a bucket.
+     * @return The length of a bucket, in milliseconds.
+     */
+    public long getMillis() {
+        return _millis;
+    }
+
+    /**
+     * Returns the start of the bucket a time falls in.
+     * @param time The time, in milliseconds since the epoch.
+     * @return The start of the bucket, in milliseconds since the epoch.
+     */
+    public long bucketStart(long time) {
+        return time - Math.floorMod(time, _millis);
+    }
+
+    /**
+     * Checks whether a time is on a bucket boundary.
+     * @param time The time, in milliseconds since the epoch.
+     * @return true if the time is the start of a bucket, false otherwise.
+     */
+    public boolean isAligned(long time) {
+        return Math.floorMod(time, _millis) == 0;
+    }
+}
@@ -0,0 +1,110 @@
+package smartHomeDDD.domain.sensorReading;
+
+import smartHomeDDD.domain.valueobject.SensorReadingID;
+
+import java.sql.Timestamp;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * SensorReadingCursor is the position of a sensor reading in the order in which sensor readings are paged: by
+ * timestamp, and by sensor reading ID among readings with the same timestamp.
+ * A page starts right after the cursor, so the next page is found by seeking the key of the last reading of the
+ * previous page, instead of skipping every reading before it.
+ */
+public class SensorReadingCursor {
+
+    /**
+     * The order in which sensor readings are paged.
+     */
+    public static final Comparator<SensorReading> ORDER = Comparator
+            .comparing(SensorReading::getTimeStamp)
+            .thenComparing(sensorReading -> sensorReading.identity().toString());
+
+    /**
+     * The timestamp of the sensor reading.
+     */
+    private final Timestamp _timeStamp;
+
+    /**
+     * The ID of the sensor reading.
+     */
+    private final SensorReadingID _sensorReadingID;
+
+    /**
+     * Constructor for the SensorReadingCursor class.
+     * @param timeStamp The timestamp of the sensor reading.
+     * @param sensorReadingID The ID of the sensor reading.
+     * @throws IllegalArgumentException if the timestamp or the ID is null.
+     */
+    public SensorReadingCursor(Timestamp timeStamp, SensorReadingID sensorReadingID) {
+        if (timeStamp == null || sensorReadingID == null) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        this._timeStamp = timeStamp;
+        this._sensorReadingID = sensorReadingID;
+    }
+
+    /**
+     * Creates the cursor of a sensor reading.
+     * @param sensorReading The sensor reading.
+     * @return The cursor right after which the next page starts.
+     */
+    public static SensorReadingCursor of(SensorReading sensorReading) {
+        return new SensorReadingCursor(sensorReading.getTimeStamp(), sensorReading.identity());
+    }
+
+    /**
+     * Checks if a sensor reading comes after this cursor, in paging order.
+     * @param sensorReading The sensor reading.
+     * @return true if the sensor reading comes after the cursor, false otherwise.
+     */
+    public boolean isBefore(SensorReading sensorReading) {
+        int byTimeStamp = sensorReading.getTimeStamp().compareTo(_timeStamp);
+        if (byTimeStamp != 0) {
+            return byTimeStamp > 0;
+        }
+        return sensorReading.identity().toString().compareTo(_sensorReadingID.toString()) > 0;
+    }
+
+    /**
+     * Gets the timestamp of the sensor reading.
+     * @return The timestamp.
+     */
+    public Timestamp getTimeStamp() {
+        return _timeStamp;
+    }
+
+    /**
+     * Gets the ID of the sensor reading.
+     * @return The sensor reading ID.
+     */
+    public SensorReadingID getSensorReadingID() {
+        return _sensorReadingID;
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one.
+     * @param object the object to compare.
+     * @return true if both cursors are at the same sensor reading, false otherwise.
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof SensorReadingCursor cursor)) {
+            return false;
+        }
+        return _timeStamp.equals(cursor._timeStamp) && _sensorReadingID.equals(cursor._sensorReadingID);
+    }
+
+    /**
+     * Returns the hash code of this cursor.
+     * @return The hash code.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(_timeStamp, _sensorReadingID);
+    }
+}
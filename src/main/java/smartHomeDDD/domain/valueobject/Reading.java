@@ -4,6 +4,8 @@ import smartHomeDDD.ddd.ValueObject;
 
 /**
  * This class represents a Reading value object, the reading value that is obtained from a sensor.
+ * The raw text of the reading is kept as sent by the sensor, and readings that are numbers also carry their numeric
+ * value, parsed once when the reading is created, so aggregations don't need to parse the text again.
  */
 public class Reading implements ValueObject {
 
@@ -13,6 +15,11 @@ public class Reading implements ValueObject {
 
     private final String _reading;
 
+    /**
+     * The numeric value of the reading, or NaN if the reading is not a number (e.g. "ON" or "OFF").
+     */
+    private final double _numericValue;
+
     /**
      * Constructor for the Reading class.
      *
@@ -24,6 +31,53 @@ public class Reading implements ValueObject {
             throw new IllegalArgumentException("Invalid reading");
         }
         this._reading = reading;
+        this._numericValue = parseNumericValue(reading.trim());
+    }
+
+    /**
+     * Parses the numeric value of a reading. Only plain decimal numbers, with an optional sign and fractional part,
+     * are considered numeric, so values such as "NaN", "Infinity" or "10f" are kept as text only.
+     *
+     * @param reading The trimmed reading value.
+     * @return The numeric value of the reading, or NaN if the reading is not a number.
+     */
+    private static double parseNumericValue(String reading) {
+        int start = (reading.charAt(0) == '-' || reading.charAt(0) == '+') ? 1 : 0;
+        int digits = 0;
+        boolean point = false;
+        for (int i = start; i < reading.length(); i++) {
+            char c = reading.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits++;
+            } else if (c == '.' && !point) {
+                point = true;
+            } else {
+                return Double.NaN;
+            }
+        }
+        return digits > 0 ? Double.parseDouble(reading) : Double.NaN;
+    }
+
+    /**
+     * Checks whether the reading is a number.
+     *
+     * @return true if the reading is a number, false otherwise.
+     */
+    public boolean isNumeric() {
+        return !Double.isNaN(_numericValue);
+    }
+
+    /**
+     * Method to get the numeric value of the reading.
+     *
+     * @return The numeric value of the reading.
+     * @throws NumberFormatException If the reading is not a number.
+     */
+    public double toDouble() {
+        if (Double.isNaN(_numericValue)) {
+            throw new NumberFormatException("Reading is not numeric: " + _reading);
+        }
+        return _numericValue;
     }
 
     /**
@@ -1,15 +1,10 @@
 package smartHomeDDD.dto;
 
-import org.apache.commons.configuration2.PropertiesConfiguration;
-import org.apache.commons.configuration2.builder.fluent.Configurations;
 import org.apache.commons.configuration2.ex.ConfigurationException;
 import smartHomeDDD.ddd.Value;
 import smartHomeDDD.domain.actuator.Actuator;
 import smartHomeDDD.domain.valueobject.ActuatorID;
 
-import java.io.File;
-import java.lang.reflect.InvocationTargetException;
-
 
 /**
  * Mapper class for converting actuator domain objects to ActuatorDTO objects.
@@ -73,71 +68,25 @@ public class ActuatorMapper {
 
     /**
      * Given a String value and an actuatorModel Name, it returns the corresponding Value Object.
+     * The value is parsed by the parser of the model in the actuator model catalog.
      *
      * @param value     Value of the actuator in String format.
      * @param modelName The corresponding model name of the actuator in String format.
      * @return Returns the respective Value object.
      */
     public static Value convertToValue(String value, String modelName) throws InstantiationException {
-
-        Object[] arguments = new Object[1];
-        Class[] classTypes = new Class[1];
-
+        ActuatorModelCatalog.ValueParser parser;
         try {
-            String valueType = getValueType(modelName);
-
-            switch (valueType) {
-                case "int":
-                    arguments[0] = Integer.parseInt(value);
-                    classTypes[0] = int.class;
-                    break;
-
-                case "double":
-                    arguments[0] = Double.parseDouble(value);
-                    classTypes[0] = double.class;
-                    break;
-                default:
-                    arguments[0] = value;
-                    classTypes[0] = String.class;
-                    break;
-            }
-
-            String strModelPath = "smartHomeDDD.domain.valueobject." + modelName + "Value";
-            return (Value) Class.forName(strModelPath).getConstructor(classTypes).newInstance(arguments);
-
-        } catch (NumberFormatException |
-                 ClassNotFoundException |
-                 NoSuchMethodException |
-                 InstantiationException |
-                 IllegalAccessException |
-                 InvocationTargetException e) {
-            throw new NumberFormatException("Input value not valid.");
+            parser = ActuatorModelCatalog.instance().parserOf(modelName);
         } catch (ConfigurationException e) {
             throw new InstantiationException("Something went wrong in reading the configuration: " + e.getMessage());
         }
-    }
-
 
-    /**
-     * Method to determine which entry parameter type is needed
-     * to construct the specific value to each actuator class.
-     *
-     * @param modelName The model name of the actuator.
-     *                  It is used to determine the type of the value.
-     * @return Returns the type of the value.
-     */
-    private static String getValueType(String modelName) throws ConfigurationException {
-
-        Configurations configs = new Configurations();
-        PropertiesConfiguration config = configs.properties(new File("config.properties"));
-        String[] actuatorModels = config.getStringArray("actuatorModel");
-        for (String actuatorModel : actuatorModels) {
-            String[] actuatorModelParts = actuatorModel.split("\\.");
-            if (actuatorModelParts[0].equals(modelName)) {
-                return actuatorModelParts[2];
-            }
+        try {
+            return parser.parse(value);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new NumberFormatException("Input value not valid.");
         }
-        throw new IllegalArgumentException("Actuator Model is not present in the system.");
     }
 
 }
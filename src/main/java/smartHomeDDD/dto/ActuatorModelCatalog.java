@@ -0,0 +1,267 @@
+package smartHomeDDD.dto;
+
+import org.apache.commons.configuration2.PropertiesConfiguration;
+import org.apache.commons.configuration2.builder.fluent.Configurations;
+import org.apache.commons.configuration2.ex.ConfigurationException;
+import org.apache.commons.configuration2.io.FileHandler;
+import org.apache.commons.configuration2.reloading.FileHandlerReloadingDetector;
+import org.apache.commons.configuration2.reloading.PeriodicReloadingTrigger;
+import org.apache.commons.configuration2.reloading.ReloadingController;
+import org.apache.commons.configuration2.reloading.ReloadingEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import smartHomeDDD.ddd.Value;
+
+import java.io.File;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleFunction;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * The ActuatorModelCatalog class maps each actuator model of the configuration file to a parser of its values.
+ * The actuator models are read once, when the catalog is created, and the value class of each model, such as
+ * OPNCL0100Value for OPNCL0100, is bound to a parser that converts the input to the int, double or string its
+ * constructor takes. Parsing a value is a map lookup and a direct constructor call, without file I/O or reflection.
+ * The catalog is reloaded when the configuration file changes.
+ */
+public final class ActuatorModelCatalog {
+
+    /**
+     * The logger of the failed reloads of the configuration file, after which the previous actuator models are kept.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(ActuatorModelCatalog.class);
+
+    /**
+     * The configuration file of the application.
+     */
+    static final String CONFIG_FILE = "config.properties";
+
+    /**
+     * The number of seconds between two checks of the configuration file for changes.
+     */
+    private static final long RELOAD_PERIOD_SECONDS = 5;
+
+    /**
+     * The package of the value classes of the actuator models.
+     */
+    private static final String VALUE_PACKAGE = "smartHomeDDD.domain.valueobject.";
+
+    /**
+     * The configuration file the catalog is read from.
+     */
+    private final File _file;
+
+    /**
+     * The detector of the changes of the configuration file.
+     */
+    private final FileHandlerReloadingDetector _detector;
+
+    /**
+     * The controller that reloads the catalog when the configuration file changes.
+     */
+    private final ReloadingController _reloadingController;
+
+    /**
+     * The parser of each actuator model, by the name of the model, or null while the catalog could not be read.
+     */
+    private volatile Map<String, ValueParser> _parsers;
+
+    /**
+     * Parses the input of an actuator into the value of its model.
+     */
+    @FunctionalInterface
+    public interface ValueParser {
+
+        /**
+         * Parses an input into a value.
+         *
+         * @param value The input, as a String.
+         * @return The value.
+         * @throws IllegalArgumentException if the input is not a valid value of the model.
+         */
+        Value parse(String value);
+    }
+
+    /**
+     * Constructor for the ActuatorModelCatalog class. It reads the actuator models of a configuration file.
+     * If the file cannot be read, the catalog is read again the next time a parser is requested.
+     *
+     * @param file The configuration file.
+     * @throws IllegalArgumentException if the file is null.
+     */
+    public ActuatorModelCatalog(File file) {
+        if (file == null) {
+            throw new IllegalArgumentException("Invalid configuration file");
+        }
+        this._file = file;
+        FileHandler fileHandler = new FileHandler();
+        fileHandler.setFile(file);
+        this._detector = new FileHandlerReloadingDetector(fileHandler, 0);
+        this._reloadingController = new ReloadingController(_detector);
+        this._reloadingController.addEventListener(ReloadingEvent.ANY, event -> reloadAfterChange());
+        try {
+            reload();
+        } catch (ConfigurationException e) {
+            this._parsers = null;
+        }
+    }
+
+    /**
+     * Holds the catalog of the configuration file of the application, so it is read the first time it is used.
+     */
+    private static final class InstanceHolder {
+        private static final ActuatorModelCatalog INSTANCE = startReloading(new ActuatorModelCatalog(new File(CONFIG_FILE)));
+    }
+
+    /**
+     * Retrieves the catalog of the configuration file of the application, which checks the file for changes
+     * every few seconds.
+     *
+     * @return The shared catalog.
+     */
+    public static ActuatorModelCatalog instance() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    /**
+     * Retrieves the parser of the values of an actuator model.
+     *
+     * @param modelName The name of the actuator model.
+     * @return The parser of the values of the model.
+     * @throws IllegalArgumentException if the model is not in the catalog.
+     * @throws ConfigurationException if the configuration file cannot be read.
+     */
+    public ValueParser parserOf(String modelName) throws ConfigurationException {
+        Map<String, ValueParser> parsers = _parsers;
+        if (parsers == null) {
+            reload();
+            parsers = _parsers;
+        }
+        ValueParser parser = modelName == null ? null : parsers.get(modelName);
+        if (parser == null) {
+            throw new IllegalArgumentException("Actuator Model is not present in the system.");
+        }
+        return parser;
+    }
+
+    /**
+     * Retrieves the names of the actuator models in the catalog.
+     *
+     * @return The names of the models, which is empty while the catalog could not be read.
+     */
+    public Set<String> models() {
+        Map<String, ValueParser> parsers = _parsers;
+        return parsers == null ? Set.of() : parsers.keySet();
+    }
+
+    /**
+     * Checks the configuration file for changes, and reloads the catalog if it changed since it was last read.
+     *
+     * @return true if the catalog was reloaded, false otherwise.
+     */
+    public boolean checkForReloading() {
+        return _reloadingController.checkForReloading(null);
+    }
+
+    /**
+     * Reads the actuator models of the configuration file and replaces the parsers of the catalog.
+     * Each entry is in the form model.type.valueType, and models without a value class are left out.
+     *
+     * @throws ConfigurationException if the configuration file cannot be read.
+     */
+    public synchronized void reload() throws ConfigurationException {
+        PropertiesConfiguration config = new Configurations().properties(_file);
+        Map<String, ValueParser> parsers = new HashMap<>();
+        for (String actuatorModel : config.getStringArray("actuatorModel")) {
+            String[] actuatorModelParts = actuatorModel.split("\\.");
+            if (actuatorModelParts.length < 3) {
+                continue;
+            }
+            ValueParser parser = parserFor(actuatorModelParts[0], actuatorModelParts[2]);
+            if (parser != null) {
+                parsers.put(actuatorModelParts[0], parser);
+            }
+        }
+        this._parsers = Collections.unmodifiableMap(parsers);
+        _detector.reloadingPerformed();
+    }
+
+    /**
+     * Reloads the catalog after the configuration file changed. If the file cannot be read, the previous parsers
+     * are kept until the file changes again.
+     */
+    private void reloadAfterChange() {
+        try {
+            reload();
+        } catch (ConfigurationException e) {
+            LOGGER.warn("Could not reload the actuator models, keeping the previous ones", e);
+        } finally {
+            _reloadingController.resetReloadingState();
+        }
+    }
+
+    /**
+     * Starts checking the configuration file of a catalog for changes in the background.
+     */
+    private static ActuatorModelCatalog startReloading(ActuatorModelCatalog catalog) {
+        new PeriodicReloadingTrigger(catalog._reloadingController, null, RELOAD_PERIOD_SECONDS, TimeUnit.SECONDS).start();
+        return catalog;
+    }
+
+    /**
+     * Builds the parser of an actuator model, which converts the input to the type of the value and calls the
+     * constructor of the value class of the model.
+     *
+     * @param modelName The name of the actuator model.
+     * @param valueType The type the value class takes: int, double, or anything else for a string.
+     * @return The parser, or null if the model has no value class with a constructor of that type.
+     */
+    private static ValueParser parserFor(String modelName, String valueType) {
+        try {
+            Class<?> valueClass = Class.forName(VALUE_PACKAGE + modelName + "Value");
+            if (!Value.class.isAssignableFrom(valueClass)) {
+                return null;
+            }
+            switch (valueType) {
+                case "int":
+                    IntFunction<Value> fromInt = bind(valueClass, IntFunction.class, int.class);
+                    return value -> fromInt.apply(Integer.parseInt(value));
+                case "double":
+                    DoubleFunction<Value> fromDouble = bind(valueClass, DoubleFunction.class, double.class);
+                    return value -> fromDouble.apply(Double.parseDouble(value));
+                default:
+                    Function<String, Value> fromString = bind(valueClass, Function.class, String.class);
+                    return fromString::apply;
+            }
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Binds the constructor of a value class to a functional interface of the java.util.function package whose
+     * method is named apply and takes one argument.
+     */
+    @SuppressWarnings("unchecked")
+    private static <F> F bind(Class<?> valueClass, Class<?> functionType, Class<?> parameterType) throws ReflectiveOperationException {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle constructor = lookup.findConstructor(valueClass, MethodType.methodType(void.class, parameterType));
+        Class<?> erasedParameterType = parameterType.isPrimitive() ? parameterType : Object.class;
+        try {
+            return (F) LambdaMetafactory.metafactory(lookup, "apply", MethodType.methodType(functionType),
+                    MethodType.methodType(Object.class, erasedParameterType), constructor, constructor.type())
+                    .getTarget().invoke();
+        } catch (Throwable e) {
+            throw new ReflectiveOperationException("Cannot bind the constructor of " + valueClass.getName(), e);
+        }
+    }
+}
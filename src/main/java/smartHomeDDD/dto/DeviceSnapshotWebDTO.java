@@ -0,0 +1,64 @@
+package smartHomeDDD.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * DeviceSnapshotWebDTO is a DTO (Data Transfer Object) class that represents a device within the snapshot of a house,
+ * with its sensors and actuators. The sensors and the actuators are left out when they are not selected.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DeviceSnapshotWebDTO {
+
+    /**
+     * The device.
+     */
+    private final DeviceExitWebDTO _device;
+
+    /**
+     * The snapshots of the sensors of the device, or null if they are not included.
+     */
+    private final List<SensorSnapshotWebDTO> _sensors;
+
+    /**
+     * The actuators of the device, or null if they are not included.
+     */
+    private final List<ActuatorExitWebDTO> _actuators;
+
+    /**
+     * Constructor for the DeviceSnapshotWebDTO class.
+     * @param device The device.
+     * @param sensors The snapshots of the sensors of the device, or null if they are not included.
+     * @param actuators The actuators of the device, or null if they are not included.
+     */
+    public DeviceSnapshotWebDTO(DeviceExitWebDTO device, List<SensorSnapshotWebDTO> sensors, List<ActuatorExitWebDTO> actuators) {
+        this._device = device;
+        this._sensors = sensors;
+        this._actuators = actuators;
+    }
+
+    /**
+     * Gets the device.
+     * @return The device.
+     */
+    public DeviceExitWebDTO getDevice() {
+        return _device;
+    }
+
+    /**
+     * Gets the snapshots of the sensors of the device.
+     * @return The snapshots of the sensors, or null if they are not included.
+     */
+    public List<SensorSnapshotWebDTO> getSensors() {
+        return _sensors;
+    }
+
+    /**
+     * Gets the actuators of the device.
+     * @return The actuators, or null if they are not included.
+     */
+    public List<ActuatorExitWebDTO> getActuators() {
+        return _actuators;
+    }
+}
@@ -0,0 +1,111 @@
+package smartHomeDDD.dto;
+
+import smartHomeDDD.domain.actuator.Actuator;
+import smartHomeDDD.services.ServiceHouseSnapshot.Depth;
+import smartHomeDDD.services.ServiceHouseSnapshot.DeviceSnapshot;
+import smartHomeDDD.services.ServiceHouseSnapshot.Field;
+import smartHomeDDD.services.ServiceHouseSnapshot.HouseSnapshot;
+import smartHomeDDD.services.ServiceHouseSnapshot.RoomSnapshot;
+import smartHomeDDD.services.ServiceHouseSnapshot.SensorSnapshot;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * HouseSnapshotMapper is responsible for mapping the snapshot of a house into its web representation, and the depth
+ * and fields of a snapshot request from their web representation.
+ */
+public class HouseSnapshotMapper {
+
+    /**
+     * Converts the depth of a snapshot, such as "rooms" or "devices", into a Depth.
+     * @param depth The depth, in any case.
+     * @return The Depth.
+     * @throws IllegalArgumentException If the depth is not one of house, rooms, devices or components.
+     */
+    public static Depth DTOToDepth(String depth) {
+        try {
+            return Depth.valueOf(depth.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("Invalid depth: " + depth);
+        }
+    }
+
+    /**
+     * Converts the fields of a snapshot, such as "sensors" and "readings", into a set of Fields.
+     * @param fields The fields, in any case, or null to select all of them.
+     * @return The set of Fields.
+     * @throws IllegalArgumentException If any of the fields is not one of sensors, actuators or readings.
+     */
+    public static Set<Field> DTOToFields(List<String> fields) {
+        if (fields == null) {
+            return EnumSet.allOf(Field.class);
+        }
+        Set<Field> selected = EnumSet.noneOf(Field.class);
+        for (String field : fields) {
+            try {
+                selected.add(Field.valueOf(field.trim().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid field: " + field);
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Converts the snapshot of a house into a HouseSnapshotWebDTO.
+     * @param snapshot The snapshot of the house.
+     * @return The HouseSnapshotWebDTO, with the same parts left out as the snapshot.
+     */
+    public static HouseSnapshotWebDTO snapshotToExitWebDTO(HouseSnapshot snapshot) {
+        List<RoomSnapshotWebDTO> rooms = null;
+        if (snapshot.rooms() != null) {
+            rooms = new ArrayList<>(snapshot.rooms().size());
+            for (RoomSnapshot room : snapshot.rooms()) {
+                rooms.add(roomSnapshotToExitWebDTO(room));
+            }
+        }
+        return new HouseSnapshotWebDTO(HouseMapper.houseToExitWebDTO(snapshot.house()), rooms);
+    }
+
+    /**
+     * Converts the snapshot of a room into a RoomSnapshotWebDTO.
+     */
+    private static RoomSnapshotWebDTO roomSnapshotToExitWebDTO(RoomSnapshot snapshot) {
+        List<DeviceSnapshotWebDTO> devices = null;
+        if (snapshot.devices() != null) {
+            devices = new ArrayList<>(snapshot.devices().size());
+            for (DeviceSnapshot device : snapshot.devices()) {
+                devices.add(deviceSnapshotToExitWebDTO(device));
+            }
+        }
+        return new RoomSnapshotWebDTO(RoomMapper.domainToExitWebDTO(snapshot.room()), devices);
+    }
+
+    /**
+     * Converts the snapshot of a device into a DeviceSnapshotWebDTO.
+     */
+    private static DeviceSnapshotWebDTO deviceSnapshotToExitWebDTO(DeviceSnapshot snapshot) {
+        List<SensorSnapshotWebDTO> sensors = null;
+        if (snapshot.sensors() != null) {
+            sensors = new ArrayList<>(snapshot.sensors().size());
+            for (SensorSnapshot sensor : snapshot.sensors()) {
+                SensorReadingExitWebDTO latestReading = sensor.latestReading() == null
+                        ? null
+                        : SensorReadingMapper.sensorReadingToExitWebDTO(sensor.latestReading());
+                sensors.add(new SensorSnapshotWebDTO(SensorMapper.convertSensorToExitWebDTO(sensor.sensor()), latestReading));
+            }
+        }
+        List<ActuatorExitWebDTO> actuators = null;
+        if (snapshot.actuators() != null) {
+            actuators = new ArrayList<>(snapshot.actuators().size());
+            for (Actuator actuator : snapshot.actuators()) {
+                actuators.add(ActuatorMapper.convertToActuatorExitWebDTO(actuator));
+            }
+        }
+        return new DeviceSnapshotWebDTO(DeviceMapper.domainToExitWebDTO(snapshot.device()), sensors, actuators);
+    }
+}
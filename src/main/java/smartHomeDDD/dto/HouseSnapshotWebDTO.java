@@ -0,0 +1,51 @@
+package smartHomeDDD.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.springframework.hateoas.RepresentationModel;
+
+import java.util.List;
+
+/**
+ * HouseSnapshotWebDTO is a DTO (Data Transfer Object) class that represents the snapshot of a house, with the tree of
+ * its rooms, devices, sensors and actuators, in a format that can be used by the web layer.
+ * The rooms are left out when the snapshot does not go as deep as them.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class HouseSnapshotWebDTO extends RepresentationModel<HouseSnapshotWebDTO> {
+
+    /**
+     * The house.
+     */
+    private final HouseExitWebDTO _house;
+
+    /**
+     * The snapshots of the rooms of the house, or null if they are not included.
+     */
+    private final List<RoomSnapshotWebDTO> _rooms;
+
+    /**
+     * Constructor for the HouseSnapshotWebDTO class.
+     * @param house The house.
+     * @param rooms The snapshots of the rooms of the house, or null if they are not included.
+     */
+    public HouseSnapshotWebDTO(HouseExitWebDTO house, List<RoomSnapshotWebDTO> rooms) {
+        this._house = house;
+        this._rooms = rooms;
+    }
+
+    /**
+     * Gets the house.
+     * @return The house.
+     */
+    public HouseExitWebDTO getHouse() {
+        return _house;
+    }
+
+    /**
+     * Gets the snapshots of the rooms of the house.
+     * @return The snapshots of the rooms, or null if they are not included.
+     */
+    public List<RoomSnapshotWebDTO> getRooms() {
+        return _rooms;
+    }
+}
@@ -0,0 +1,136 @@
+package smartHomeDDD.dto;
+
+import org.springframework.hateoas.RepresentationModel;
+
+/**
+ * Represents a Data Transfer Object (DTO) for the summary of a sensor's readings within an interval, in a web context.
+ */
+public class ReadingRollupExitWebDTO extends RepresentationModel<ReadingRollupExitWebDTO> {
+
+    /**
+     * The start of the interval.
+     */
+    private final String _intervalStart;
+
+    /**
+     * The number of readings.
+     */
+    private final long _count;
+
+    /**
+     * The sum of the readings.
+     */
+    private final double _sum;
+
+    /**
+     * The minimum reading.
+     */
+    private final double _min;
+
+    /**
+     * The maximum reading.
+     */
+    private final double _max;
+
+    /**
+     * The average reading.
+     */
+    private final double _average;
+
+    /**
+     * The reading with the earliest timestamp.
+     */
+    private final double _first;
+
+    /**
+     * The reading with the latest timestamp.
+     */
+    private final double _last;
+
+    /**
+     * Constructs a new ReadingRollupExitWebDTO.
+     * @param intervalStart The start of the interval.
+     * @param count The number of readings.
+     * @param sum The sum of the readings.
+     * @param min The minimum reading.
+     * @param max The maximum reading.
+     * @param average The average reading.
+     * @param first The reading with the earliest timestamp.
+     * @param last The reading with the latest timestamp.
+     */
+    public ReadingRollupExitWebDTO(String intervalStart, long count, double sum, double min, double max,
+                                   double average, double first, double last) {
+        this._intervalStart = intervalStart;
+        this._count = count;
+        this._sum = sum;
+        this._min = min;
+        this._max = max;
+        this._average = average;
+        this._first = first;
+        this._last = last;
+    }
+
+    /**
+     * Gets the start of the interval.
+     * @return The start of the interval.
+     */
+    public String getIntervalStart() {
+        return _intervalStart;
+    }
+
+    /**
+     * Gets the number of readings.
+     * @return The number of readings.
+     */
+    public long getCount() {
+        return _count;
+    }
+
+    /**
+     * Gets the sum of the readings.
+     * @return The sum of the readings.
+     */
+    public double getSum() {
+        return _sum;
+    }
+
+    /**
+     * Gets the minimum reading.
+     * @return The minimum reading.
+     */
+    public double getMin() {
+        return _min;
+    }
+
+    /**
+     * Gets the maximum reading.
+     * @return The maximum reading.
+     */
+    public double getMax() {
+        return _max;
+    }
+
+    /**
+     * Gets the average reading.
+     * @return The average reading.
+     */
+    public double getAverage() {
+        return _average;
+    }
+
+    /**
+     * Gets the reading with the earliest timestamp.
+     * @return The first reading.
+     */
+    public double getFirst() {
+        return _first;
+    }
+
+    /**
+     * Gets the reading with the latest timestamp.
+     * @return The last reading.
+     */
+    public double getLast() {
+        return _last;
+    }
+}
@@ -0,0 +1,49 @@
+package smartHomeDDD.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * RoomSnapshotWebDTO is a DTO (Data Transfer Object) class that represents a room within the snapshot of a house,
+ * with its devices. The devices are left out when the snapshot does not go as deep as them.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RoomSnapshotWebDTO {
+
+    /**
+     * The room.
+     */
+    private final RoomExitWebDTO _room;
+
+    /**
+     * The snapshots of the devices of the room, or null if they are not included.
+     */
+    private final List<DeviceSnapshotWebDTO> _devices;
+
+    /**
+     * Constructor for the RoomSnapshotWebDTO class.
+     * @param room The room.
+     * @param devices The snapshots of the devices of the room, or null if they are not included.
+     */
+    public RoomSnapshotWebDTO(RoomExitWebDTO room, List<DeviceSnapshotWebDTO> devices) {
+        this._room = room;
+        this._devices = devices;
+    }
+
+    /**
+     * Gets the room.
+     * @return The room.
+     */
+    public RoomExitWebDTO getRoom() {
+        return _room;
+    }
+
+    /**
+     * Gets the snapshots of the devices of the room.
+     * @return The snapshots of the devices, or null if they are not included.
+     */
+    public List<DeviceSnapshotWebDTO> getDevices() {
+        return _devices;
+    }
+}
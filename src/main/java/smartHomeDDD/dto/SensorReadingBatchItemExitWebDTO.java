@@ -0,0 +1,69 @@
+package smartHomeDDD.dto;
+
+import org.springframework.hateoas.RepresentationModel;
+
+/**
+ * SensorReadingBatchItemExitWebDTO is a DTO (Data Transfer Object) class that represents the outcome of one of the
+ * sensor readings sent in a batch: the identity of the saved reading, or the reason it was rejected.
+ */
+public class SensorReadingBatchItemExitWebDTO extends RepresentationModel<SensorReadingBatchItemExitWebDTO> {
+
+    /**
+     * The position of the reading in the batch.
+     */
+    private final int _index;
+
+    /**
+     * The identity of the saved sensorReading, or null if it was rejected.
+     */
+    private final String _sensorReadingID;
+
+    /**
+     * The reason the reading was rejected, or null if it was saved.
+     */
+    private final String _error;
+
+    /**
+     * Constructor for the SensorReadingBatchItemExitWebDTO class.
+     * @param index The position of the reading in the batch.
+     * @param sensorReadingID The identity of the saved sensorReading, or null if it was rejected.
+     * @param error The reason the reading was rejected, or null if it was saved.
+     */
+    public SensorReadingBatchItemExitWebDTO(int index, String sensorReadingID, String error) {
+        this._index = index;
+        this._sensorReadingID = sensorReadingID;
+        this._error = error;
+    }
+
+    /**
+     * Gets the position of the reading in the batch.
+     * @return The position of the reading in the batch.
+     */
+    public int getIndex() {
+        return _index;
+    }
+
+    /**
+     * Gets the sensorReadingID.
+     * @return The sensorReadingID, or null if the reading was rejected.
+     */
+    public String getSensorReadingID() {
+        return _sensorReadingID;
+    }
+
+    /**
+     * Gets the reason the reading was rejected.
+     * @return The reason the reading was rejected, or null if it was saved.
+     */
+    public String getError() {
+        return _error;
+    }
+
+    /**
+     * Returns whether the reading was saved.
+     * @return true if the reading was saved, false if it was rejected.
+     */
+    public boolean isSaved() {
+        return _error == null;
+    }
+}
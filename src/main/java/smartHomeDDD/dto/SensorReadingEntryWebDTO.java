@@ -0,0 +1,70 @@
+package smartHomeDDD.dto;
+
+/**
+ * This class represents a Sensor Reading Entry Web Data Transfer Object, one of the readings sent in a batch.
+ */
+public class SensorReadingEntryWebDTO {
+
+    /**
+     * The value of the reading.
+     */
+    private final String reading;
+    /**
+     * The id of the device the reading belongs to.
+     */
+    private final String deviceID;
+    /**
+     * The id of the sensor that took the reading.
+     */
+    private final String sensorID;
+    /**
+     * The timestamp of the reading, in the format "yyyy-mm-dd hh:mm:ss".
+     */
+    private final String timeStamp;
+
+    /**
+     * Constructor of the class {@link SensorReadingEntryWebDTO}.
+     * @param reading The value of the reading.
+     * @param deviceID The id of the device the reading belongs to.
+     * @param sensorID The id of the sensor that took the reading.
+     * @param timeStamp The timestamp of the reading.
+     */
+    public SensorReadingEntryWebDTO(String reading, String deviceID, String sensorID, String timeStamp) {
+        this.reading = reading;
+        this.deviceID = deviceID;
+        this.sensorID = sensorID;
+        this.timeStamp = timeStamp;
+    }
+
+    /**
+     * Gets the value of the reading.
+     * @return The value of the reading.
+     */
+    public String getReading() {
+        return reading;
+    }
+
+    /**
+     * Gets the id of the device the reading belongs to.
+     * @return The id of the device.
+     */
+    public String getDeviceID() {
+        return deviceID;
+    }
+
+    /**
+     * Gets the id of the sensor that took the reading.
+     * @return The id of the sensor.
+     */
+    public String getSensorID() {
+        return sensorID;
+    }
+
+    /**
+     * Gets the timestamp of the reading.
+     * @return The timestamp of the reading.
+     */
+    public String getTimeStamp() {
+        return timeStamp;
+    }
+}
@@ -0,0 +1,122 @@
+package smartHomeDDD.dto;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import smartHomeDDD.domain.sensorReading.SensorReading;
+
+/**
+ * SensorReadingExportFormat defines the formats in which the sensor readings of a device can be exported.
+ * Each sensor reading is written as a single line, so an export can be written row by row as the readings are read,
+ * without building the whole response in memory.
+ */
+public enum SensorReadingExportFormat {
+
+    /**
+     * Newline delimited JSON: one JSON object per sensor reading.
+     */
+    NDJSON("application/x-ndjson") {
+        @Override
+        public String header() {
+            return "";
+        }
+
+        @Override
+        public String line(SensorReading sensorReading) {
+            return "{\"sensorReadingID\":" + json(sensorReading.identity().toString())
+                    + ",\"reading\":" + json(sensorReading.getReading().toString())
+                    + ",\"deviceID\":" + json(sensorReading.getDeviceID().toString())
+                    + ",\"sensorID\":" + json(sensorReading.getSensorID().toString())
+                    + ",\"timeStamp\":" + json(sensorReading.getTimeStamp().toString()) + "}\n";
+        }
+    },
+
+    /**
+     * Comma separated values, with a header row.
+     */
+    CSV("text/csv") {
+        @Override
+        public String header() {
+            return "sensorReadingID,reading,deviceID,sensorID,timeStamp\n";
+        }
+
+        @Override
+        public String line(SensorReading sensorReading) {
+            return csv(sensorReading.identity().toString()) + ","
+                    + csv(sensorReading.getReading().toString()) + ","
+                    + csv(sensorReading.getDeviceID().toString()) + ","
+                    + csv(sensorReading.getSensorID().toString()) + ","
+                    + csv(sensorReading.getTimeStamp().toString()) + "\n";
+        }
+    };
+
+    /**
+     * The media type of the format.
+     */
+    private final String _mediaType;
+
+    /**
+     * Constructor for the SensorReadingExportFormat enum.
+     * @param mediaType The media type of the format.
+     */
+    SensorReadingExportFormat(String mediaType) {
+        this._mediaType = mediaType;
+    }
+
+    /**
+     * Gets the media type of the format.
+     * @return The media type.
+     */
+    public String getMediaType() {
+        return _mediaType;
+    }
+
+    /**
+     * Gets the text written before the first sensor reading.
+     * @return The header of the export, or an empty string if the format has none.
+     */
+    public abstract String header();
+
+    /**
+     * Formats a sensor reading as a line of the export.
+     * @param sensorReading The sensor reading.
+     * @return The line of the sensor reading, ending with a newline.
+     */
+    public abstract String line(SensorReading sensorReading);
+
+    /**
+     * Converts the name of a format, in any case, to a SensorReadingExportFormat.
+     * @param format The name of the format, e.g. "ndjson" or "csv".
+     * @return The SensorReadingExportFormat.
+     * @throws IllegalArgumentException if the format is null or not supported.
+     */
+    public static SensorReadingExportFormat fromString(String format) {
+        if (format != null) {
+            for (SensorReadingExportFormat exportFormat : values()) {
+                if (exportFormat.name().equalsIgnoreCase(format.trim())) {
+                    return exportFormat;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Unsupported export format");
+    }
+
+    /**
+     * Quotes a value as a JSON string.
+     * @param value The value.
+     * @return The quoted and escaped value.
+     */
+    private static String json(String value) {
+        return "\"" + new String(JsonStringEncoder.getInstance().quoteAsString(value)) + "\"";
+    }
+
+    /**
+     * Quotes a value as a CSV field, if it contains a comma, a quote or a line break.
+     * @param value The value.
+     * @return The value, quoted and escaped if needed.
+     */
+    private static String csv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
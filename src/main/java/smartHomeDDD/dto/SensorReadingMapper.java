@@ -1,10 +1,15 @@
 package smartHomeDDD.dto;
 
+import smartHomeDDD.domain.sensorReading.ReadingRollup;
 import smartHomeDDD.domain.sensorReading.SensorReading;
+import smartHomeDDD.domain.sensorReading.SensorReadingCursor;
 import smartHomeDDD.domain.valueobject.Reading;
 import smartHomeDDD.domain.valueobject.SensorReadingID;
 
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 
 /**
@@ -89,4 +94,70 @@ public class SensorReadingMapper
         String timeStamp = sensorReading.getTimeStamp().toString();
         return new SensorReadingExitWebDTO(sensorReadingID, reading, deviceID, sensorID, timeStamp);
     }
-}
\ No newline at end of file
+
+    /**
+     * Converts a string to a Timestamp object.
+     *
+     * @param timeStamp The timestamp in the format "yyyy-mm-dd hh:mm:ss".
+     * @return A Timestamp object.
+     * @throws IllegalArgumentException if the timestamp is null or not in the expected format.
+     */
+    public static Timestamp DTOToTimestamp(String timeStamp){
+        if (timeStamp == null) {
+            throw new IllegalArgumentException("Invalid timestamp");
+        }
+        return Timestamp.valueOf(timeStamp);
+    }
+
+    /**
+     * Converts a cursor to an opaque string, to be passed back by the client to get the next page.
+     * The timestamp is encoded as the seconds since the epoch and the nanoseconds within the second, so the cursor
+     * decodes to the same instant whatever the time zone of the node that decodes it.
+     *
+     * @param cursor The cursor.
+     * @return The cursor encoded as URL safe Base64.
+     */
+    public static String cursorToDTO(SensorReadingCursor cursor) {
+        Timestamp timeStamp = cursor.getTimeStamp();
+        String key = Math.floorDiv(timeStamp.getTime(), 1000) + ":" + timeStamp.getNanos() + "|" + cursor.getSensorReadingID();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Converts an opaque string, previously returned by cursorToDTO, to a cursor.
+     *
+     * @param cursor The cursor encoded as URL safe Base64, or null for the first page.
+     * @return The cursor, or null if no cursor was given.
+     * @throws IllegalArgumentException if the cursor is not valid.
+     */
+    public static SensorReadingCursor DTOToCursor(String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        try {
+            String key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int nanosSeparator = key.indexOf(':');
+            int idSeparator = key.indexOf('|');
+            long seconds = Long.parseLong(key.substring(0, nanosSeparator));
+            int nanos = Integer.parseInt(key.substring(nanosSeparator + 1, idSeparator));
+            Timestamp timeStamp = new Timestamp(Math.multiplyExact(seconds, 1000));
+            timeStamp.setNanos(nanos);
+            return new SensorReadingCursor(timeStamp, new SensorReadingID(key.substring(idSeparator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | ArithmeticException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Given the summary of a sensor's readings within an interval, it transforms it into a web DTO object.
+     *
+     * @param readingRollup The summary of the readings within the interval.
+     * @return The ReadingRollupExitWebDTO object.
+     */
+    public static ReadingRollupExitWebDTO readingRollupToExitWebDTO(ReadingRollup readingRollup) {
+        return new ReadingRollupExitWebDTO(readingRollup.getBucketStart().toLocalDateTime().toString(),
+                readingRollup.getCount(), readingRollup.getSum(), readingRollup.getMin(), readingRollup.getMax(),
+                readingRollup.getAverage(), readingRollup.getFirst(), readingRollup.getLast());
+    }
+
+}
@@ -0,0 +1,48 @@
+package smartHomeDDD.dto;
+
+import org.springframework.hateoas.RepresentationModel;
+
+import java.util.List;
+
+/**
+ * SensorReadingPageExitWebDTO is a DTO (Data Transfer Object) class that represents a page of sensor readings in a
+ * format that can be used by the web layer, with the cursor of the next page.
+ */
+public class SensorReadingPageExitWebDTO extends RepresentationModel<SensorReadingPageExitWebDTO> {
+
+    /**
+     * The sensor readings of the page.
+     */
+    private final List<SensorReadingIDExitWebDTO> _sensorReadings;
+
+    /**
+     * The opaque cursor of the next page, or null if this is the last page.
+     */
+    private final String _nextCursor;
+
+    /**
+     * Constructor for the SensorReadingPageExitWebDTO class.
+     * @param sensorReadings The sensor readings of the page.
+     * @param nextCursor The opaque cursor of the next page, or null if this is the last page.
+     */
+    public SensorReadingPageExitWebDTO(List<SensorReadingIDExitWebDTO> sensorReadings, String nextCursor) {
+        this._sensorReadings = sensorReadings;
+        this._nextCursor = nextCursor;
+    }
+
+    /**
+     * Gets the sensor readings of the page.
+     * @return The sensor readings.
+     */
+    public List<SensorReadingIDExitWebDTO> getSensorReadings() {
+        return _sensorReadings;
+    }
+
+    /**
+     * Gets the opaque cursor of the next page.
+     * @return The cursor of the next page, or null if this is the last page.
+     */
+    public String getNextCursor() {
+        return _nextCursor;
+    }
+}
@@ -0,0 +1,47 @@
+package smartHomeDDD.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * SensorSnapshotWebDTO is a DTO (Data Transfer Object) class that represents a sensor within the snapshot of a house,
+ * with its latest reading. The latest reading is left out when the sensor has none or the readings are not selected.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SensorSnapshotWebDTO {
+
+    /**
+     * The sensor.
+     */
+    private final SensorExitWebDTO _sensor;
+
+    /**
+     * The latest reading of the sensor, or null if it is not included.
+     */
+    private final SensorReadingExitWebDTO _latestReading;
+
+    /**
+     * Constructor for the SensorSnapshotWebDTO class.
+     * @param sensor The sensor.
+     * @param latestReading The latest reading of the sensor, or null if it is not included.
+     */
+    public SensorSnapshotWebDTO(SensorExitWebDTO sensor, SensorReadingExitWebDTO latestReading) {
+        this._sensor = sensor;
+        this._latestReading = latestReading;
+    }
+
+    /**
+     * Gets the sensor.
+     * @return The sensor.
+     */
+    public SensorExitWebDTO getSensor() {
+        return _sensor;
+    }
+
+    /**
+     * Gets the latest reading of the sensor.
+     * @return The latest reading, or null if it is not included.
+     */
+    public SensorReadingExitWebDTO getLatestReading() {
+        return _latestReading;
+    }
+}
@@ -0,0 +1,377 @@
+package smartHomeDDD.persistence.cache;
+
+import smartHomeDDD.ddd.AggregateRoot;
+import smartHomeDDD.ddd.DomainId;
+import smartHomeDDD.ddd.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * CachingRepository is a decorator that caches the aggregates read by identity from another repository.
+ * It is meant for reference aggregates, such as sensor types and models, that are read on nearly every request and
+ * almost never change.
+ * The cache holds at most a fixed number of entries and evicts the least recently used one when it is full. Each
+ * entry expires after a time to live. Saved aggregates are written through to the cache, and identities that are not
+ * found are cached as misses for their own, usually shorter, time to live, so repeated lookups of an unknown identity
+ * do not reach the repository either. findAll always reads the repository. The hits, misses and evictions of the
+ * lookups are counted, and reported with the size of the cache by stats().
+ * The repository is read outside the lock of the cache, so an aggregate read from it is only cached if nothing was
+ * written to or invalidated in the cache since the read began, and never replaces an entry put in the meantime.
+ *
+ * @param <ID> The type of the identity of the aggregates.
+ * @param <T> The type of the aggregates.
+ */
+public class CachingRepository<ID extends DomainId, T extends AggregateRoot<ID>> implements Repository<ID, T> {
+
+    /**
+     * The repository the aggregates are read from and saved to.
+     */
+    private final Repository<ID, T> _repository;
+
+    /**
+     * The maximum number of entries in the cache.
+     */
+    private final int _maxSize;
+
+    /**
+     * The time to live of an aggregate in the cache, in nanoseconds.
+     */
+    private final long _ttlNanos;
+
+    /**
+     * The time to live of a miss in the cache, in nanoseconds, or 0 if misses are not cached.
+     */
+    private final long _missTtlNanos;
+
+    /**
+     * The source of the current time, in nanoseconds.
+     */
+    private final LongSupplier _nanoClock;
+
+    /**
+     * The cached entries, in access order, so the first one is the least recently used.
+     * Every access to it is synchronized on it.
+     */
+    private final LinkedHashMap<ID, Entry<T>> _entries;
+
+    /**
+     * The number of writes and invalidations of the cache, which stamps the reads of the repository so their results
+     * are not cached if the cache changed while they ran. Guarded by the lock of the entries.
+     */
+    private long _generation;
+
+    /**
+     * The number of lookups answered from the cache.
+     */
+    private final LongAdder _hits = new LongAdder();
+
+    /**
+     * The number of lookups that read the repository.
+     */
+    private final LongAdder _misses = new LongAdder();
+
+    /**
+     * The number of entries removed because the cache was full or they expired.
+     */
+    private final LongAdder _evictions = new LongAdder();
+
+    /**
+     * Constructor for the CachingRepository class.
+     *
+     * @param repository The repository the aggregates are read from and saved to.
+     * @param maxSize The maximum number of entries in the cache.
+     * @param ttl The time to live of an aggregate in the cache.
+     * @param missTtl The time to live of a miss in the cache, or zero to not cache misses.
+     * @throws IllegalArgumentException if the repository is null, the maximum size is not positive, or a time to live
+     * is null or negative.
+     */
+    public CachingRepository(Repository<ID, T> repository, int maxSize, Duration ttl, Duration missTtl) {
+        this(repository, maxSize, ttl, missTtl, System::nanoTime);
+    }
+
+    /**
+     * Constructor for the CachingRepository class, with the source of the current time.
+     *
+     * @param repository The repository the aggregates are read from and saved to.
+     * @param maxSize The maximum number of entries in the cache.
+     * @param ttl The time to live of an aggregate in the cache.
+     * @param missTtl The time to live of a miss in the cache, or zero to not cache misses.
+     * @param nanoClock The source of the current time, in nanoseconds.
+     * @throws IllegalArgumentException if the repository or the clock is null, the maximum size is not positive, or a
+     * time to live is null or negative.
+     */
+    public CachingRepository(Repository<ID, T> repository, int maxSize, Duration ttl, Duration missTtl, LongSupplier nanoClock) {
+        if (repository == null) {
+            throw new IllegalArgumentException("Repository cannot be null");
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive");
+        }
+        if (ttl == null || ttl.isNegative() || missTtl == null || missTtl.isNegative()) {
+            throw new IllegalArgumentException("Time to live cannot be null or negative");
+        }
+        if (nanoClock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
+        this._repository = repository;
+        this._maxSize = maxSize;
+        this._ttlNanos = ttl.toNanos();
+        this._missTtlNanos = missTtl.toNanos();
+        this._nanoClock = nanoClock;
+        this._entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ID, Entry<T>> eldest) {
+                if (size() > _maxSize) {
+                    _evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Saves an aggregate to the repository, and writes it through to the cache.
+     *
+     * @param entity The aggregate to save.
+     * @return The saved aggregate.
+     */
+    @Override
+    public T save(T entity) {
+        T saved = _repository.save(entity);
+        writeThrough(saved);
+        return saved;
+    }
+
+    /**
+     * Retrieves all the aggregates from the repository.
+     *
+     * @return All the aggregates.
+     */
+    @Override
+    public Iterable<T> findAll() {
+        return _repository.findAll();
+    }
+
+    /**
+     * Retrieves an aggregate by its identity, from the cache if it holds an unexpired entry for it, or else from the
+     * repository.
+     *
+     * @param id The identity of the aggregate.
+     * @return The aggregate, or an empty Optional if it is not found.
+     */
+    @Override
+    public Optional<T> ofIdentity(ID id) {
+        if (id == null) {
+            return _repository.ofIdentity(null);
+        }
+        long now = _nanoClock.getAsLong();
+        long generation;
+        synchronized (_entries) {
+            Entry<T> entry = _entries.get(id);
+            if (entry != null) {
+                if (now - entry.expiresAt() < 0) {
+                    _hits.increment();
+                    return Optional.ofNullable(entry.aggregate());
+                }
+                _entries.remove(id);
+                _evictions.increment();
+            }
+            generation = _generation;
+        }
+        _misses.increment();
+        Optional<T> aggregate = _repository.ofIdentity(id);
+        if (aggregate.isPresent()) {
+            fill(id, new Entry<>(aggregate.get(), now + _ttlNanos), generation);
+        } else if (_missTtlNanos > 0) {
+            fill(id, new Entry<>(null, now + _missTtlNanos), generation);
+        }
+        return aggregate;
+    }
+
+    /**
+     * Checks if an aggregate exists, from the cache if it holds an unexpired entry for it, or else from the
+     * repository.
+     *
+     * @param id The identity of the aggregate.
+     * @return true if the aggregate exists, false otherwise.
+     */
+    @Override
+    public boolean containsOfIdentity(ID id) {
+        if (id == null) {
+            return _repository.containsOfIdentity(null);
+        }
+        return ofIdentity(id).isPresent();
+    }
+
+    /**
+     * Saves a batch of aggregates to the repository, and writes them through to the cache.
+     *
+     * @param entities The aggregates to save.
+     * @return The saved aggregates.
+     */
+    @Override
+    public List<T> saveAll(List<T> entities) {
+        List<T> saved = _repository.saveAll(entities);
+        saved.forEach(this::writeThrough);
+        return saved;
+    }
+
+    /**
+     * Retrieves the aggregates with the given identities. The ones with an unexpired entry are read from the cache,
+     * and the rest from the repository, all together, so a batch costs at most one read of the repository.
+     *
+     * @param ids The identities of the aggregates.
+     * @return The aggregates found, in no particular order.
+     */
+    @Override
+    public List<T> ofIdentities(Iterable<ID> ids) {
+        Set<ID> distinct = Repository.distinct(ids);
+        distinct.remove(null);
+        List<T> found = new ArrayList<>();
+        Set<ID> uncached = new HashSet<>();
+        long now = _nanoClock.getAsLong();
+        long generation;
+        synchronized (_entries) {
+            for (ID id : distinct) {
+                Entry<T> entry = _entries.get(id);
+                if (entry != null && now - entry.expiresAt() < 0) {
+                    _hits.increment();
+                    if (entry.aggregate() != null) {
+                        found.add(entry.aggregate());
+                    }
+                } else {
+                    if (entry != null) {
+                        _entries.remove(id);
+                        _evictions.increment();
+                    }
+                    uncached.add(id);
+                }
+            }
+            generation = _generation;
+        }
+        if (uncached.isEmpty()) {
+            return found;
+        }
+        _misses.add(uncached.size());
+        Set<ID> notFound = new HashSet<>(uncached);
+        for (T aggregate : _repository.ofIdentities(uncached)) {
+            found.add(aggregate);
+            notFound.remove(aggregate.identity());
+            fill(aggregate.identity(), new Entry<>(aggregate, now + _ttlNanos), generation);
+        }
+        if (_missTtlNanos > 0) {
+            notFound.forEach(id -> fill(id, new Entry<>(null, now + _missTtlNanos), generation));
+        }
+        return found;
+    }
+
+    /**
+     * Checks if every one of the given identities exists, reading from the repository, all together, only the ones
+     * without an unexpired entry in the cache.
+     *
+     * @param ids The identities of the aggregates.
+     * @return true if every aggregate exists, or no identity is given, false otherwise.
+     */
+    @Override
+    public boolean containsAll(Iterable<ID> ids) {
+        Set<ID> distinct = Repository.distinct(ids);
+        return !distinct.contains(null) && ofIdentities(distinct).size() == distinct.size();
+    }
+
+    /**
+     * Removes an aggregate from the cache, so it is read from the repository the next time.
+     *
+     * @param id The identity of the aggregate.
+     */
+    public void invalidate(ID id) {
+        synchronized (_entries) {
+            _generation++;
+            _entries.remove(id);
+        }
+    }
+
+    /**
+     * Removes every aggregate from the cache.
+     */
+    public void invalidateAll() {
+        synchronized (_entries) {
+            _generation++;
+            _entries.clear();
+        }
+    }
+
+    /**
+     * Retrieves the statistics of the cache.
+     *
+     * @return The number of hits, misses and evictions since the cache was created, and its current size.
+     */
+    public CacheStats stats() {
+        int size;
+        synchronized (_entries) {
+            size = _entries.size();
+        }
+        return new CacheStats(_hits.sum(), _misses.sum(), _evictions.sum(), size);
+    }
+
+    /**
+     * Writes a saved or updated aggregate through to the cache, replacing any entry for its identity, including a
+     * cached miss.
+     *
+     * @param aggregate The saved or updated aggregate.
+     */
+    protected void writeThrough(T aggregate) {
+        if (aggregate != null && aggregate.identity() != null) {
+            Entry<T> entry = new Entry<>(aggregate, _nanoClock.getAsLong() + _ttlNanos);
+            synchronized (_entries) {
+                _generation++;
+                _entries.put(aggregate.identity(), entry);
+            }
+        }
+    }
+
+    /**
+     * Caches an entry read from the repository, evicting the least recently used one if the cache is full, unless the
+     * cache was written to or invalidated since the read began, or another read has cached the identity meanwhile.
+     *
+     * @param id The identity of the aggregate.
+     * @param entry The entry read from the repository.
+     * @param generation The generation of the cache when the read began.
+     */
+    private void fill(ID id, Entry<T> entry, long generation) {
+        synchronized (_entries) {
+            if (_generation == generation) {
+                _entries.putIfAbsent(id, entry);
+            }
+        }
+    }
+
+    /**
+     * An entry of the cache.
+     *
+     * @param aggregate The cached aggregate, or null for a cached miss.
+     * @param expiresAt The time the entry expires, in nanoseconds.
+     */
+    private record Entry<T>(T aggregate, long expiresAt) {
+    }
+
+    /**
+     * The statistics of a cache.
+     *
+     * @param hits The number of lookups answered from the cache.
+     * @param misses The number of lookups that read the repository.
+     * @param evictions The number of entries removed because the cache was full or they expired.
+     * @param size The number of entries in the cache.
+     */
+    public record CacheStats(long hits, long misses, long evictions, int size) {
+    }
+}
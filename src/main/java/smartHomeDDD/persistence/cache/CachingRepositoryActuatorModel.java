@@ -0,0 +1,45 @@
+package smartHomeDDD.persistence.cache;
+
+import smartHomeDDD.domain.actuatorModel.ActuatorModel;
+import smartHomeDDD.domain.repository.IRepositoryActuatorModel;
+import smartHomeDDD.domain.valueobject.ActuatorModelID;
+import smartHomeDDD.domain.valueobject.ActuatorTypeID;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * A caching decorator of a repository of actuator models, which caches the actuator models read by identity.
+ * The actuator models of a type are read from the repository.
+ */
+public class CachingRepositoryActuatorModel extends CachingRepository<ActuatorModelID, ActuatorModel> implements IRepositoryActuatorModel {
+
+    /**
+     * The repository the actuator models are read from and saved to.
+     */
+    private final IRepositoryActuatorModel _repository;
+
+    /**
+     * Constructor for the CachingRepositoryActuatorModel class.
+     *
+     * @param repository The repository the actuator models are read from and saved to.
+     * @param maxSize The maximum number of actuator models in the cache.
+     * @param ttl The time to live of a actuator model in the cache.
+     * @param missTtl The time to live of a miss in the cache, or zero to not cache misses.
+     */
+    public CachingRepositoryActuatorModel(IRepositoryActuatorModel repository, int maxSize, Duration ttl, Duration missTtl) {
+        super(repository, maxSize, ttl, missTtl);
+        this._repository = repository;
+    }
+
+    /**
+     * Retrieves the actuator models of a type from the repository.
+     *
+     * @param actuatorTypeID The ID of the type.
+     * @return The actuator models of the type.
+     */
+    @Override
+    public List<ActuatorModel> getModelsByActuatorType(ActuatorTypeID actuatorTypeID) {
+        return _repository.getModelsByActuatorType(actuatorTypeID);
+    }
+}
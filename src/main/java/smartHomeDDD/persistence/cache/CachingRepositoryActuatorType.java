@@ -0,0 +1,25 @@
+package smartHomeDDD.persistence.cache;
+
+import smartHomeDDD.domain.actuatorType.ActuatorType;
+import smartHomeDDD.domain.repository.IRepositoryActuatorType;
+import smartHomeDDD.domain.valueobject.ActuatorTypeID;
+
+import java.time.Duration;
+
+/**
+ * A caching decorator of a repository of actuator types, which caches the actuator types read by identity.
+ */
+public class CachingRepositoryActuatorType extends CachingRepository<ActuatorTypeID, ActuatorType> implements IRepositoryActuatorType {
+
+    /**
+     * Constructor for the CachingRepositoryActuatorType class.
+     *
+     * @param repository The repository the actuator types are read from and saved to.
+     * @param maxSize The maximum number of actuator types in the cache.
+     * @param ttl The time to live of a actuator type in the cache.
+     * @param missTtl The time to live of a miss in the cache, or zero to not cache misses.
+     */
+    public CachingRepositoryActuatorType(IRepositoryActuatorType repository, int maxSize, Duration ttl, Duration missTtl) {
+        super(repository, maxSize, ttl, missTtl);
+    }
+}
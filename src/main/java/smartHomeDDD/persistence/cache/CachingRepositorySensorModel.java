@@ -0,0 +1,45 @@
+package smartHomeDDD.persistence.cache;
+
+import smartHomeDDD.domain.sensorModel.SensorModel;
+import smartHomeDDD.domain.repository.IRepositorySensorModel;
+import smartHomeDDD.domain.valueobject.SensorModelID;
+import smartHomeDDD.domain.valueobject.SensorTypeID;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * A caching decorator of a repository of sensor models, which caches the sensor models read by identity.
+ * The sensor models of a type are read from the repository.
+ */
+public class CachingRepositorySensorModel extends CachingRepository<SensorModelID, SensorModel> implements IRepositorySensorModel {
+
+    /**
+     * The repository the sensor models are read from and saved to.
+     */
+    private final IRepositorySensorModel _repository;
+
+    /**
+     * Constructor for the CachingRepositorySensorModel class.
+     *
+     * @param repository The repository the sensor models are read from and saved to.
+     * @param maxSize The maximum number of sensor models in the cache.
+     * @param ttl The time to live of a sensor model in the cache.
+     * @param missTtl The time to live of a miss in the cache, or zero to not cache misses.
+     */
+    public CachingRepositorySensorModel(IRepositorySensorModel repository, int maxSize, Duration ttl, Duration missTtl) {
+        super(repository, maxSize, ttl, missTtl);
+        this._repository = repository;
+    }
+
+    /**
+     * Retrieves the sensor models of a type from the repository.
+     *
+     * @param sensorTypeID The ID of the type.
+     * @return The sensor models of the type.
+     */
+    @Override
+    public List<SensorModel> getModelsBySensorType(SensorTypeID sensorTypeID) {
+        return _repository.getModelsBySensorType(sensorTypeID);
+    }
+}
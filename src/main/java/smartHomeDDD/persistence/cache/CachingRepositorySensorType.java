@@ -0,0 +1,25 @@
+package smartHomeDDD.persistence.cache;
+
+import smartHomeDDD.domain.sensorType.SensorType;
+import smartHomeDDD.domain.repository.IRepositorySensorType;
+import smartHomeDDD.domain.valueobject.SensorTypeID;
+
+import java.time.Duration;
+
+/**
+ * A caching decorator of a repository of sensor types, which caches the sensor types read by identity.
+ */
+public class CachingRepositorySensorType extends CachingRepository<SensorTypeID, SensorType> implements IRepositorySensorType {
+
+    /**
+     * Constructor for the CachingRepositorySensorType class.
+     *
+     * @param repository The repository the sensor types are read from and saved to.
+     * @param maxSize The maximum number of sensor types in the cache.
+     * @param ttl The time to live of a sensor type in the cache.
+     * @param missTtl The time to live of a miss in the cache, or zero to not cache misses.
+     */
+    public CachingRepositorySensorType(IRepositorySensorType repository, int maxSize, Duration ttl, Duration missTtl) {
+        super(repository, maxSize, ttl, missTtl);
+    }
+}
@@ -0,0 +1,119 @@
+package smartHomeDDD.persistence.cache;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * SingleFlightCache caches the values of reactive calls, such as the calls to a remote service, by key.
+ * The first request for a key starts the call, and every request for the same key made while the call is in flight
+ * shares it, so concurrent identical requests make a single call. The value is then cached for a time to live.
+ * An error, or an empty result, is shared by the requests waiting on the call but is not cached, so the next request
+ * calls again.
+ * Expired entries are removed when the cache grows past its maximum size.
+ *
+ * @param <K> The type of the keys.
+ * @param <V> The type of the values.
+ */
+public class SingleFlightCache<K, V> {
+
+    /**
+     * The time to live of a value.
+     */
+    private final Duration _ttl;
+
+    /**
+     * The number of entries past which the expired ones are removed.
+     */
+    private final int _maxSize;
+
+    /**
+     * The source of the current time, in nanoseconds.
+     */
+    private final LongSupplier _nanoClock;
+
+    /**
+     * The call, in flight or completed, of each key.
+     */
+    private final Map<K, Entry<V>> _entries = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor for the SingleFlightCache class.
+     *
+     * @param ttl The time to live of a value.
+     * @param maxSize The number of entries past which the expired ones are removed.
+     * @throws IllegalArgumentException if the time to live is null or negative, or the maximum size is not positive.
+     */
+    public SingleFlightCache(Duration ttl, int maxSize) {
+        this(ttl, maxSize, System::nanoTime);
+    }
+
+    /**
+     * Constructor for the SingleFlightCache class, with the source of the current time.
+     *
+     * @param ttl The time to live of a value.
+     * @param maxSize The number of entries past which the expired ones are removed.
+     * @param nanoClock The source of the current time, in nanoseconds.
+     * @throws IllegalArgumentException if the time to live is null or negative, the maximum size is not positive, or
+     * the clock is null.
+     */
+    public SingleFlightCache(Duration ttl, int maxSize, LongSupplier nanoClock) {
+        if (ttl == null || ttl.isNegative()) {
+            throw new IllegalArgumentException("Time to live cannot be null or negative");
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive");
+        }
+        if (nanoClock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
+        this._ttl = ttl;
+        this._maxSize = maxSize;
+        this._nanoClock = nanoClock;
+    }
+
+    /**
+     * Retrieves the value of a key, sharing the call in flight or the cached value of the key if there is one, or
+     * else starting a new call.
+     *
+     * @param key The key.
+     * @param call The call that retrieves the value of the key. It is not subscribed to until the returned Mono is.
+     * @return A Mono emitting the value of the key.
+     */
+    public Mono<V> get(K key, Supplier<Mono<V>> call) {
+        long now = _nanoClock.getAsLong();
+        Entry<V> entry = _entries.compute(key, (k, current) -> {
+            if (current != null && now - current.expiresAt() < 0) {
+                return current;
+            }
+            Mono<V> shared = Mono.defer(call).cache(value -> _ttl, error -> Duration.ZERO, () -> Duration.ZERO);
+            return new Entry<>(shared, now + _ttl.toNanos());
+        });
+        if (_entries.size() > _maxSize) {
+            _entries.values().removeIf(other -> now - other.expiresAt() >= 0);
+        }
+        return entry.value();
+    }
+
+    /**
+     * Retrieves the number of entries in the cache, expired or not.
+     *
+     * @return The number of entries.
+     */
+    public int size() {
+        return _entries.size();
+    }
+
+    /**
+     * An entry of the cache.
+     *
+     * @param value The shared call of the key, which replays its value once it completes.
+     * @param expiresAt The time the entry expires, in nanoseconds.
+     */
+    private record Entry<V>(Mono<V> value, long expiresAt) {
+    }
+}
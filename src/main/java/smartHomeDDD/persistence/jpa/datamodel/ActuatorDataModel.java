@@ -7,7 +7,11 @@ import smartHomeDDD.domain.valueobject.ActuatorModelID;
 import smartHomeDDD.domain.valueobject.DeviceId;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -15,10 +19,12 @@ import java.util.List;
 /**
  * This class represents the data model for the actuator entity in the database.
  * It provides methods to convert between the actuator domain object and the ActuatorDataModel.
+ * It implements Persistable so that Spring Data inserts new actuators directly, instead of merging them, which would
+ * select each actuator by its assigned ID before inserting it, and so a batch of actuators is inserted in JDBC batches.
  */
 @Entity
 @Table(name = "ACTUATOR")
-public class ActuatorDataModel {
+public class ActuatorDataModel implements Persistable<String> {
     /**
      * The ID of the actuator.
      */
@@ -33,6 +39,12 @@ public class ActuatorDataModel {
      */
     private String modelID;
 
+    /**
+     * Whether the actuator has not been persisted or loaded yet.
+     */
+    @Transient
+    private boolean isNew = true;
+
     public ActuatorDataModel() {
     }
 
@@ -92,4 +104,31 @@ public class ActuatorDataModel {
 
         return true;
     }
+
+    /**
+     * Returns the ID of the actuator.
+     * @return the ID of the actuator.
+     */
+    @Override
+    public String getId() {
+        return actuatorID;
+    }
+
+    /**
+     * Returns whether the actuator has not been persisted or loaded yet.
+     * @return true if the actuator is new, false otherwise.
+     */
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    /**
+     * Marks the actuator as not new once it has been persisted or loaded.
+     */
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.isNew = false;
+    }
 }
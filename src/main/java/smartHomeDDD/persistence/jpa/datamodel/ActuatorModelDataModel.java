@@ -4,6 +4,7 @@ import smartHomeDDD.domain.actuatorModel.ActuatorModel;
 import smartHomeDDD.domain.actuatorModel.FactoryActuatorModel;
 import smartHomeDDD.domain.valueobject.*;
 import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -11,10 +12,11 @@ import java.util.List;
 /**
  * This class represents the data model for the actuatorModel entity.
  * It is used to map the actuatorModel domain object to a format that can be stored in the database.
+ * It implements Persistable so that Spring Data knows an actuator model is new without reading it from the database.
  */
 @Entity
 @Table(name = "ACTUATOR_MODEL")
-public class ActuatorModelDataModel {
+public class ActuatorModelDataModel implements Persistable<String> {
 
     /**
      * The ID of the actuator model.
@@ -26,6 +28,12 @@ public class ActuatorModelDataModel {
      */
     private String actuatorTypeID;
 
+    /**
+     * Whether the actuator model has not been persisted or loaded yet.
+     */
+    @Transient
+    private boolean isNew = true;
+
     /**
      * Default constructor with no parameters.
      */
@@ -72,4 +80,30 @@ public class ActuatorModelDataModel {
         return listDomain;
     }
 
+    /**
+     * Returns the ID of the actuator model.
+     * @return the ID of the actuator model.
+     */
+    @Override
+    public String getId() {
+        return actuatorModelID;
+    }
+
+    /**
+     * Returns whether the actuator model has not been persisted or loaded yet.
+     * @return true if the actuator model is new, false otherwise.
+     */
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    /**
+     * Marks the actuator model as not new once it has been persisted or loaded.
+     */
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.isNew = false;
+    }
 }
@@ -8,17 +8,22 @@ import smartHomeDDD.domain.valueobject.Unit;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * This class represents the data model for the ActuatorType entity.
  * It is used to map the ActuatorType domain object to a format that can be stored in the database.
+ * It implements Persistable so that saving a new actuator type is a plain insert rather than a merge.
  */
 @Entity
 @Table(name = "ACTUATOR_TYPE")
-public class ActuatorTypeDataModel {
+public class ActuatorTypeDataModel implements Persistable<String> {
 
     /**
      * The ID of the actuator type.
@@ -35,6 +40,12 @@ public class ActuatorTypeDataModel {
      */
     private String actuatorTypeMeasurementUnit;
 
+    /**
+     * Whether the actuator type has not been persisted or loaded yet.
+     */
+    @Transient
+    private boolean isNew = true;
+
     /**
      * Default constructor with no parameters.
      */
@@ -79,7 +90,7 @@ public class ActuatorTypeDataModel {
      * @param listDataModel The list of data model objects to convert.
      * @return A list of corresponding ActuatorType domain objects.
      */
-    public static Iterable<ActuatorType> toDomain(FactoryActuatorType factory, Iterable<ActuatorTypeDataModel> listDataModel) {
+    public static List<ActuatorType> toDomain(FactoryActuatorType factory, Iterable<ActuatorTypeDataModel> listDataModel) {
         List<ActuatorType> listDomain = new ArrayList<>();
 
         listDataModel.forEach(actuatorTypeDataModel -> {
@@ -90,4 +101,30 @@ public class ActuatorTypeDataModel {
         return listDomain;
     }
 
+    /**
+     * Returns the ID of the actuator type.
+     * @return the ID of the actuator type.
+     */
+    @Override
+    public String getId() {
+        return actuatorTypeID;
+    }
+
+    /**
+     * Returns whether the actuator type has not been persisted or loaded yet.
+     * @return true if the actuator type is new, false otherwise.
+     */
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    /**
+     * Marks the actuator type as not new once it has been persisted or loaded.
+     */
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.isNew = false;
+    }
 }
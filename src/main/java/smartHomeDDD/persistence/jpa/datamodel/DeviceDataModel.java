@@ -6,19 +6,29 @@ import smartHomeDDD.domain.valueobject.*;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Data Model for Device
  * This class is used to map the Device domain object to the database
+ * It implements Persistable so that Spring Data inserts new devices directly, instead of merging them, which would
+ * select each device by its assigned ID before inserting it, and so a batch of devices is inserted in JDBC batches.
  */
 
 @Entity
 @Table(name = "DEVICE")
-public class DeviceDataModel {
+public class DeviceDataModel implements Persistable<String> {
 
     /**
      * The device id, which is the primary key
@@ -51,6 +61,12 @@ public class DeviceDataModel {
     @Column(name = "room_id")
     private String roomId;
 
+    /**
+     * Whether the device has not been persisted or loaded yet.
+     */
+    @Transient
+    private boolean isNew = true;
+
     /**
      * Default constructor with no parameters.
      */
@@ -124,4 +140,44 @@ public class DeviceDataModel {
         return true;
     }
 
+    /**
+     * method to group the rows of a query that pairs a description with a device id into the device ids by description
+     * @param rows the rows of the query, each with a description and a device id
+     * @return the device ids by description
+     */
+    public static Map<String, Set<DeviceId>> toDeviceIDsByDescription(List<Object[]> rows) {
+        Map<String, Set<DeviceId>> deviceIDsByDescription = new HashMap<>();
+        for (Object[] row : rows) {
+            deviceIDsByDescription.computeIfAbsent(String.valueOf(row[0]), description -> new HashSet<>())
+                    .add(new DeviceId(String.valueOf(row[1])));
+        }
+        return deviceIDsByDescription;
+    }
+
+    /**
+     * Returns the ID of the device.
+     * @return the ID of the device.
+     */
+    @Override
+    public String getId() {
+        return deviceId;
+    }
+
+    /**
+     * Returns whether the device has not been persisted or loaded yet.
+     * @return true if the device is new, false otherwise.
+     */
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    /**
+     * Marks the device as not new once it has been persisted or loaded.
+     */
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.isNew = false;
+    }
 }
@@ -3,6 +3,7 @@ import smartHomeDDD.domain.house.FactoryHouse;
 import smartHomeDDD.domain.house.House;
 import smartHomeDDD.domain.valueobject.*;
 import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -10,12 +11,14 @@ import java.util.List;
 /**
  * Represents a data model for a house entity in the database.
  * This class is used to map the House domain entity to a format that can be stored in the database.
+ * It implements Persistable, as the ID of a house is assigned by the application, so that Spring Data inserts a new
+ * house without selecting it first.
  */
 
 @Entity
 @Table(name = "HOUSE")
 
-public class HouseDataModel {
+public class HouseDataModel implements Persistable<String> {
 
     /** The unique identifier for the house. */
     @Id
@@ -42,6 +45,12 @@ public class HouseDataModel {
     @Column(name = "house_longitude")
     private double _longitude;
 
+    /**
+     * Whether the house has not been persisted or loaded yet.
+     */
+    @Transient
+    private boolean _isNew = true;
+
     /**
      * Constructs a HouseDataModel object based on a House entity.
      * @param house The House entity to create the data model from.
@@ -82,9 +91,9 @@ public class HouseDataModel {
      * Converts a list of HouseDataModel objects to a list of House domain entities.
      * @param factory The factory for creating House instances.
      * @param listDataModel The list of HouseDataModel objects to convert.
-     * @return An iterable collection of House domain entities.
+     * @return A list of House domain entities.
      */
-    static public Iterable<House> toDomain(FactoryHouse factory, Iterable<HouseDataModel> listDataModel) {
+    static public List<House> toDomain(FactoryHouse factory, Iterable<HouseDataModel> listDataModel) {
         List<House> listDomain = new ArrayList<>();
 
         listDataModel.forEach( houseDataModel -> {
@@ -111,4 +120,31 @@ public class HouseDataModel {
 
         return true;
     }
+
+    /**
+     * Returns the ID of the house.
+     * @return the ID of the house.
+     */
+    @Override
+    public String getId() {
+        return _houseId;
+    }
+
+    /**
+     * Returns whether the house has not been persisted or loaded yet.
+     * @return true if the house is new, false otherwise.
+     */
+    @Override
+    public boolean isNew() {
+        return _isNew;
+    }
+
+    /**
+     * Marks the house as not new once it has been persisted or loaded.
+     */
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this._isNew = false;
+    }
 }
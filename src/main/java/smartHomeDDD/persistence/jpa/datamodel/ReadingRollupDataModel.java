@@ -0,0 +1,156 @@
+package smartHomeDDD.persistence.jpa.datamodel;
+
+import jakarta.persistence.*;
+import smartHomeDDD.domain.sensorReading.ReadingRollup;
+import smartHomeDDD.domain.sensorReading.RollupResolution;
+import smartHomeDDD.domain.valueobject.SensorID;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ReadingRollupDataModel is a data model class for ReadingRollup objects.
+ * It is used to map the rollup of a sensor's readings within a bucket to a relational database table.
+ * The rows are updated in place as readings arrive, so the version column detects concurrent updates of a bucket.
+ */
+@Entity
+@Table(name = "SENSOR_READING_ROLLUP", indexes = {
+        @Index(name = "IDX_SENSOR_READING_ROLLUP_SENSOR_BUCKET", columnList = "sensorID, resolution, bucketStart")
+})
+public class ReadingRollupDataModel {
+
+    /**
+     * The ID of the rollup, made of the sensor ID, the resolution and the bucket start.
+     */
+    @Id
+    private String rollupID;
+    /**
+     * The version of the rollup, used for optimistic locking.
+     */
+    @Version
+    private Long version;
+    /**
+     * The ID of the sensor whose readings are summarized.
+     */
+    private String sensorID;
+    /**
+     * The resolution of the bucket.
+     */
+    private String resolution;
+    /**
+     * The start of the bucket.
+     */
+    private Timestamp bucketStart;
+    /**
+     * The number of readings.
+     */
+    private long readingCount;
+    /**
+     * The sum of the readings.
+     */
+    private double readingSum;
+    /**
+     * The minimum reading.
+     */
+    private double minReading;
+    /**
+     * The maximum reading.
+     */
+    private double maxReading;
+    /**
+     * The reading with the earliest timestamp.
+     */
+    private double firstReading;
+    /**
+     * The earliest timestamp.
+     */
+    private Timestamp firstTime;
+    /**
+     * The number of readings at the earliest timestamp.
+     */
+    private long firstCount;
+    /**
+     * The sum of the readings at the earliest timestamp.
+     */
+    private double firstSum;
+    /**
+     * The reading with the latest timestamp.
+     */
+    private double lastReading;
+    /**
+     * The latest timestamp.
+     */
+    private Timestamp lastTime;
+
+    /**
+     * Default constructor for ReadingRollupDataModel with no parameters.
+     */
+    public ReadingRollupDataModel() {
+    }
+
+    /**
+     * Constructor for ReadingRollupDataModel that takes a ReadingRollup object as a parameter.
+     * @param readingRollup A ReadingRollup object.
+     */
+    public ReadingRollupDataModel(ReadingRollup readingRollup) {
+        this.rollupID = rollupID(readingRollup.getSensorID(), readingRollup.getResolution(), readingRollup.getBucketStart().getTime());
+        this.sensorID = readingRollup.getSensorID().toString();
+        this.resolution = readingRollup.getResolution().name();
+        this.bucketStart = readingRollup.getBucketStart();
+        update(readingRollup);
+    }
+
+    /**
+     * Builds the ID of the rollup of a sensor's bucket.
+     * @param sensorID The sensor ID.
+     * @param resolution The resolution of the bucket.
+     * @param bucketStart The start of the bucket, in milliseconds since the epoch.
+     * @return The ID of the rollup.
+     */
+    public static String rollupID(SensorID sensorID, RollupResolution resolution, long bucketStart) {
+        return sensorID + "/" + resolution.name() + "/" + bucketStart;
+    }
+
+    /**
+     * Copies the summary of a ReadingRollup object to this data model, keeping its identity and version.
+     * @param readingRollup A ReadingRollup object of the same bucket.
+     */
+    public void update(ReadingRollup readingRollup) {
+        this.readingCount = readingRollup.getCount();
+        this.readingSum = readingRollup.getSum();
+        this.minReading = readingRollup.getMin();
+        this.maxReading = readingRollup.getMax();
+        this.firstReading = readingRollup.getFirst();
+        this.firstTime = readingRollup.getFirstTime();
+        this.firstCount = readingRollup.getFirstCount();
+        this.firstSum = readingRollup.getFirstSum();
+        this.lastReading = readingRollup.getLast();
+        this.lastTime = readingRollup.getLastTime();
+    }
+
+    /**
+     * Converts a ReadingRollupDataModel object to a ReadingRollup object.
+     * @param dataModel ReadingRollup data model object to convert
+     * @return A ReadingRollup object
+     */
+    static public ReadingRollup toDomain(ReadingRollupDataModel dataModel) {
+        return new ReadingRollup(new SensorID(dataModel.sensorID), RollupResolution.valueOf(dataModel.resolution),
+                dataModel.bucketStart.getTime(), dataModel.readingCount, dataModel.readingSum, dataModel.minReading,
+                dataModel.maxReading, dataModel.firstReading, dataModel.firstTime.getTime(), dataModel.firstCount,
+                dataModel.firstSum, dataModel.lastReading, dataModel.lastTime.getTime());
+    }
+
+    /**
+     * Converts a list of ReadingRollupDataModel objects to a list of ReadingRollup objects.
+     * @param listDataModel List of ReadingRollupDataModel objects to convert
+     * @return List of ReadingRollup objects
+     */
+    static public List<ReadingRollup> toDomainList(List<ReadingRollupDataModel> listDataModel) {
+        List<ReadingRollup> listDomain = new ArrayList<>();
+        for (ReadingRollupDataModel dataModel : listDataModel) {
+            listDomain.add(toDomain(dataModel));
+        }
+        return listDomain;
+    }
+}
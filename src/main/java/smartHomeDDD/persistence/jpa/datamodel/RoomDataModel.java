@@ -5,17 +5,22 @@ import smartHomeDDD.domain.room.Room;
 import smartHomeDDD.domain.valueobject.*;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
 
 import java.util.ArrayList;
 import java.util.List;
 /**
  * This class represents the data model for the Room entity in the database.
  * It provides methods to convert between the Room domain object and the RoomDataModel.
+ * It implements Persistable so that Spring Data inserts a new room directly, instead of selecting it by its ID first.
  */
 @Entity
 @Table(name = "ROOM")
-public class RoomDataModel {
+public class RoomDataModel implements Persistable<String> {
 
     /**
      * The unique identifier for the room.
@@ -51,6 +56,12 @@ public class RoomDataModel {
      */
     private String roomName;
 
+    /**
+     * Whether the room has not been persisted or loaded yet.
+     */
+    @Transient
+    private boolean isNew = true;
+
     /**
      * Default constructor with no parameters.
      */
@@ -106,4 +117,31 @@ public class RoomDataModel {
         }
         return listDomain;
     }
+
+    /**
+     * Returns the ID of the room.
+     * @return the ID of the room.
+     */
+    @Override
+    public String getId() {
+        return roomId;
+    }
+
+    /**
+     * Returns whether the room has not been persisted or loaded yet.
+     * @return true if the room is new, false otherwise.
+     */
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    /**
+     * Marks the room as not new once it has been persisted or loaded.
+     */
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.isNew = false;
+    }
 }
@@ -7,7 +7,11 @@ import smartHomeDDD.domain.valueobject.SensorID;
 import smartHomeDDD.domain.valueobject.SensorModelID;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -15,10 +19,12 @@ import java.util.List;
 /**
  * This class represents the data model for the Sensor entity in the database.
  * It provides methods to convert between the Sensor domain object and the SensorDataModel.
+ * It implements Persistable so that Spring Data inserts new sensors directly, instead of merging them, which would
+ * select each sensor by its assigned ID before inserting it, and so a batch of sensors is inserted in JDBC batches.
  */
 @Entity
 @Table(name = "SENSOR")
-public class SensorDataModel {
+public class SensorDataModel implements Persistable<String> {
 
     /**
      * The ID of the sensor.
@@ -34,6 +40,12 @@ public class SensorDataModel {
      */
     private String deviceId;
 
+    /**
+     * Whether the sensor has not been persisted or loaded yet.
+     */
+    @Transient
+    private boolean isNew = true;
+
     /**
      * Default constructor with no parameters.
      */
@@ -79,4 +91,31 @@ public class SensorDataModel {
 
         return listDomain;
     }
+
+    /**
+     * Returns the ID of the sensor.
+     * @return the ID of the sensor.
+     */
+    @Override
+    public String getId() {
+        return sensorId;
+    }
+
+    /**
+     * Returns whether the sensor has not been persisted or loaded yet.
+     * @return true if the sensor is new, false otherwise.
+     */
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    /**
+     * Marks the sensor as not new once it has been persisted or loaded.
+     */
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.isNew = false;
+    }
 }
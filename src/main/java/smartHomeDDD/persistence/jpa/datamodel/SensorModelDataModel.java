@@ -4,6 +4,7 @@ import smartHomeDDD.domain.sensorModel.FactorySensorModel;
 import smartHomeDDD.domain.sensorModel.SensorModel;
 import smartHomeDDD.domain.valueobject.*;
 import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -11,10 +12,11 @@ import java.util.List;
 /**
  * This class represents the data model for the sensorModel entity in the database.
  * It provides methods to convert between the sensorModel domain object and the SensorModelDataModel.
+ * It implements Persistable so that Spring Data knows a sensor model is new without reading it from the database.
  */
 @Entity
 @Table(name = "SENSOR_MODEL")
-public class SensorModelDataModel {
+public class SensorModelDataModel implements Persistable<String> {
 
     /**
      * The ID of the sensor model.
@@ -26,6 +28,12 @@ public class SensorModelDataModel {
      */
     private String sensorTypeID;
 
+    /**
+     * Whether the sensor model has not been persisted or loaded yet.
+     */
+    @Transient
+    private boolean isNew = true;
+
     /**
      * Default constructor with no parameters.
      */
@@ -69,4 +77,31 @@ public class SensorModelDataModel {
 
         return listDomain;
     }
+
+    /**
+     * Returns the ID of the sensor model.
+     * @return the ID of the sensor model.
+     */
+    @Override
+    public String getId() {
+        return sensorModelID;
+    }
+
+    /**
+     * Returns whether the sensor model has not been persisted or loaded yet.
+     * @return true if the sensor model is new, false otherwise.
+     */
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    /**
+     * Marks the sensor model as not new once it has been persisted or loaded.
+     */
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.isNew = false;
+    }
 }
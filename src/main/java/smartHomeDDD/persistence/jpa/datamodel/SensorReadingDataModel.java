@@ -3,9 +3,8 @@ package smartHomeDDD.persistence.jpa.datamodel;
 import smartHomeDDD.domain.sensorReading.FactorySensorReading;
 import smartHomeDDD.domain.sensorReading.SensorReading;
 import smartHomeDDD.domain.valueobject.*;
-import jakarta.persistence.Entity;
-import jakarta.persistence.Id;
-import jakarta.persistence.Table;
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
 
 import java.sql.Timestamp;
 import java.util.ArrayList;
@@ -14,10 +13,18 @@ import java.util.List;
 /**
  * SensorReadingDataModel is a data model class for SensorReading objects.
  * It is used to map SensorReading objects to a relational database table.
+ * It implements Persistable so that Spring Data inserts new readings directly, instead of merging them, which would
+ * select each reading by its assigned ID before inserting it.
+ * The readings are always queried by device or by sensor within a time period, or for the latest reading of a sensor,
+ * so the table is indexed on (deviceID, timeStamp) and (sensorID, timeStamp): the equality column first and the
+ * time range last, which also returns the rows already ordered by timestamp.
  */
 @Entity
-@Table(name = "SENSOR_READING")
-public class SensorReadingDataModel {
+@Table(name = "SENSOR_READING", indexes = {
+        @Index(name = "IDX_SENSOR_READING_DEVICE_TIME", columnList = "deviceID, timeStamp"),
+        @Index(name = "IDX_SENSOR_READING_SENSOR_TIME", columnList = "sensorID, timeStamp")
+})
+public class SensorReadingDataModel implements Persistable<String> {
 
     /**
      * The ID of the sensor reading.
@@ -25,9 +32,14 @@ public class SensorReadingDataModel {
     @Id
     private String sensorReadingID;
     /**
-     * The reading value of the sensor reading.
+     * The reading value of the sensor reading, as sent by the sensor.
      */
     private String reading;
+    /**
+     * The numeric value of the sensor reading, or null if the reading is not a number.
+     * It lets the database aggregate the readings without parsing the text.
+     */
+    private Double numericReading;
     /**
      * The ID of the device associated with the sensor reading.
      */
@@ -40,6 +52,11 @@ public class SensorReadingDataModel {
      * The timestamp of the sensor reading.
      */
     private Timestamp timeStamp;
+    /**
+     * Whether the sensor reading has not been persisted or loaded yet.
+     */
+    @Transient
+    private boolean isNew = true;
 
     /**
      * Default constructor for SensorReadingDataModel with no parameters.
@@ -54,11 +71,39 @@ public class SensorReadingDataModel {
     public SensorReadingDataModel(SensorReading sensorReading) {
         this.sensorReadingID = sensorReading.identity().toString();
         this.reading = sensorReading.getReading().toString();
+        this.numericReading = sensorReading.getReading().isNumeric() ? sensorReading.getReading().toDouble() : null;
         this.deviceID = sensorReading.getDeviceID().toString();
         this.sensorID = sensorReading.getSensorID().toString();
         this.timeStamp = sensorReading.getTimeStamp();
     }
 
+    /**
+     * Returns the ID of the sensor reading.
+     * @return the ID of the sensor reading.
+     */
+    @Override
+    public String getId() {
+        return sensorReadingID;
+    }
+
+    /**
+     * Returns whether the sensor reading has not been persisted or loaded yet.
+     * @return true if the sensor reading is new, false otherwise.
+     */
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    /**
+     * Marks the sensor reading as not new once it has been persisted or loaded.
+     */
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.isNew = false;
+    }
+
     /**
      * Converts a SensorReadingDataModel object to a SensorReading object.
      * @param factory Factory for creating SensorReading
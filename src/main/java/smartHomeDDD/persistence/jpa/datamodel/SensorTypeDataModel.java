@@ -8,7 +8,11 @@ import smartHomeDDD.domain.valueobject.SensorTypeID;
 import smartHomeDDD.domain.valueobject.Unit;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -16,10 +20,11 @@ import java.util.List;
 /**
  * This class represents the data model for the sensorType entity in the database.
  * It provides methods to convert between the sensorType domain object and the SensorTypeDataModel.
+ * It implements Persistable so that saving a new sensor type is a plain insert rather than a merge.
  * */
 @Entity
 @Table(name = "SENSOR_TYPE")
-public class SensorTypeDataModel {
+public class SensorTypeDataModel implements Persistable<String> {
 
     /**
      * The primary key of the sensorType entity.
@@ -39,6 +44,12 @@ public class SensorTypeDataModel {
     private String sensorTypeMeasurementUnit;
 
 
+    /**
+     * Whether the sensor type has not been persisted or loaded yet.
+     */
+    @Transient
+    private boolean isNew = true;
+
     /**
      * Default constructor with no parameters.
      */
@@ -76,7 +87,7 @@ public class SensorTypeDataModel {
      * @param listDataModel The list of SensorTypeDataModel objects to convert
      * @return The corresponding list of sensorType domain objects
      */
-    static public Iterable<SensorType> toDomain(FactorySensorType factory, Iterable<SensorTypeDataModel> listDataModel)
+    static public List<SensorType> toDomain(FactorySensorType factory, Iterable<SensorTypeDataModel> listDataModel)
     {
         List<SensorType> listDomain = new ArrayList<>();
 
@@ -88,4 +99,30 @@ public class SensorTypeDataModel {
         return listDomain;
     }
 
+    /**
+     * Returns the ID of the sensor type.
+     * @return the ID of the sensor type.
+     */
+    @Override
+    public String getId() {
+        return sensorTypeID;
+    }
+
+    /**
+     * Returns whether the sensor type has not been persisted or loaded yet.
+     * @return true if the sensor type is new, false otherwise.
+     */
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    /**
+     * Marks the sensor type as not new once it has been persisted or loaded.
+     */
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.isNew = false;
+    }
 }
@@ -0,0 +1,84 @@
+package smartHomeDDD.persistence.jpa.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityTransaction;
+import jakarta.persistence.TypedQuery;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * JpaBatch persists the data models of a batch save in a single transaction, shared by the batch saves of the JPA
+ * repositories. The persistence context is flushed every BATCH_SIZE data models, so the inserts are sent as JDBC
+ * batches, and the transaction is rolled back if any of them fails, so none of the batch is saved.
+ * It also runs the queries by ID that check and read the batches.
+ */
+final class JpaBatch {
+
+    /**
+     * The number of data models persisted before the persistence context is flushed and cleared.
+     */
+    static final int BATCH_SIZE = 50;
+
+    private JpaBatch() {
+    }
+
+    /**
+     * Persists data models in a single transaction.
+     * @param em The entity manager the data models are persisted with.
+     * @param dataModels The data models to persist.
+     * @throws RuntimeException the exception of the persist, flush or commit that failed, after the transaction was
+     * rolled back.
+     */
+    static void persistAll(EntityManager em, Iterable<?> dataModels) {
+        EntityTransaction tx = em.getTransaction();
+        tx.begin();
+        try {
+            int persisted = 0;
+            for (Object dataModel : dataModels) {
+                em.persist(dataModel);
+                if (++persisted % BATCH_SIZE == 0) {
+                    em.flush();
+                    em.clear();
+                }
+            }
+            tx.commit();
+        } catch (RuntimeException e) {
+            if (tx.isActive()) {
+                tx.rollback();
+            }
+            em.clear();
+            throw e;
+        }
+    }
+
+    /**
+     * Reads the data models with the given IDs, with a single query.
+     * @param em The entity manager the data models are read with.
+     * @param dataModelClass The class of the data models.
+     * @param idAttribute The name of the ID attribute of the data models.
+     * @param ids The IDs of the data models.
+     * @return The data models found.
+     */
+    static <D> List<D> findByIDs(EntityManager em, Class<D> dataModelClass, String idAttribute, Set<String> ids) {
+        TypedQuery<D> query = em.createQuery(
+                "SELECT e FROM " + dataModelClass.getSimpleName() + " e WHERE e." + idAttribute + " IN :ids", dataModelClass);
+        query.setParameter("ids", ids);
+        return query.getResultList();
+    }
+
+    /**
+     * Counts the data models with the given IDs, with a single query.
+     * @param em The entity manager the data models are counted with.
+     * @param dataModelClass The class of the data models.
+     * @param idAttribute The name of the ID attribute of the data models.
+     * @param ids The IDs of the data models.
+     * @return The number of data models found.
+     */
+    static long countByIDs(EntityManager em, Class<?> dataModelClass, String idAttribute, Set<String> ids) {
+        TypedQuery<Long> query = em.createQuery(
+                "SELECT COUNT(e) FROM " + dataModelClass.getSimpleName() + " e WHERE e." + idAttribute + " IN :ids", Long.class);
+        query.setParameter("ids", ids);
+        return query.getSingleResult();
+    }
+}
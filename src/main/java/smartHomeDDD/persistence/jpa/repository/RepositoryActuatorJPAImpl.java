@@ -1,15 +1,22 @@
 package smartHomeDDD.persistence.jpa.repository;
 
+import smartHomeDDD.ddd.Repository;
 import smartHomeDDD.domain.actuator.Actuator;
 import smartHomeDDD.domain.actuator.FactoryActuator;
 import smartHomeDDD.domain.repository.IRepositoryActuator;
 import smartHomeDDD.domain.valueobject.ActuatorID;
 import smartHomeDDD.domain.valueobject.DeviceId;
 import smartHomeDDD.persistence.jpa.datamodel.ActuatorDataModel;
+import smartHomeDDD.persistence.jpa.datamodel.DeviceDataModel;
 import jakarta.persistence.*;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * This class is responsible for persisting the actuator objects in the database.
@@ -153,5 +160,77 @@ public class RepositoryActuatorJPAImpl implements IRepositoryActuator {
         return entity;
     }
 
+    /**
+     * Retrieves the IDs of the devices with an actuator of each actuator type, by the description of the type,
+     * with a single query that joins the actuators with their models and types.
+     *
+     * @return The IDs of the devices by the description of the type of their actuators.
+     */
+    @Override
+    public Optional<Map<String, Set<DeviceId>>> getDeviceIDsByActuatorTypeDescription() {
+        List<Object[]> rows = getEntityManager().createQuery(
+                "SELECT DISTINCT t.actuatorTypeDescription, a.deviceId FROM ActuatorDataModel a, ActuatorModelDataModel m, ActuatorTypeDataModel t " +
+                        "WHERE a.modelID = m.actuatorModelID AND m.actuatorTypeID = t.actuatorTypeID", Object[].class)
+                .getResultList();
+        return Optional.of(DeviceDataModel.toDeviceIDsByDescription(rows));
+    }
+
+    /**
+     * Saves a batch of Actuator objects to the database in a single transaction.
+     * The existence of the whole batch is checked with a single query, and the persistence context is flushed
+     * every 50 actuators, so they are inserted in JDBC batches. If the batch fails part way, none of it is saved.
+     * @param actuators The Actuator objects to be saved.
+     * @return The saved Actuator objects.
+     * @throws IllegalArgumentException if the batch or any of its actuators is null, or a actuator already exists or is
+     * repeated in the batch.
+     */
+    @Override
+    public List<Actuator> saveAll(List<Actuator> actuators) {
+        if (actuators == null || actuators.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("actuator cannot be null");
+        }
+        Set<String> actuatorIDs = new HashSet<>();
+        for (Actuator actuator : actuators) {
+            if (!actuatorIDs.add(actuator.identity().toString())) {
+                throw new IllegalArgumentException("actuator already exists");
+            }
+        }
+        if (actuatorIDs.isEmpty()) {
+            return actuators;
+        }
+        if (JpaBatch.countByIDs(getEntityManager(), ActuatorDataModel.class, "actuatorID", actuatorIDs) > 0) {
+            throw new IllegalArgumentException("actuator already exists");
+        }
 
+        EntityManager em = getEntityManager();
+        List<ActuatorDataModel> dataModels = new ArrayList<>(actuators.size());
+        for (Actuator actuator : actuators) {
+            dataModels.add(new ActuatorDataModel(actuator));
+        }
+        JpaBatch.persistAll(em, dataModels);
+        em.close();
+
+        return actuators;
+    }
+
+    /**
+     * Retrieves the actuators with the given identities from the database, with a single query.
+     * @param ids The identities of the actuators.
+     * @return The actuators found, in no particular order.
+     */
+    @Override
+    public List<Actuator> ofIdentities(Iterable<ActuatorID> ids) {
+        return Repository.ofIDs(ids, actuatorIDs -> ActuatorDataModel.toDomain(_factoryActuator,
+                JpaBatch.findByIDs(getEntityManager(), ActuatorDataModel.class, "actuatorID", actuatorIDs)));
+    }
+
+    /**
+     * Checks if every one of the given identities exists in the database, with a single query.
+     * @param ids The identities of the actuators.
+     * @return true if every actuator exists, or no identity is given, false otherwise.
+     */
+    @Override
+    public boolean containsAll(Iterable<ActuatorID> ids) {
+        return Repository.containsAllIDs(ids, actuatorIDs -> JpaBatch.countByIDs(getEntityManager(), ActuatorDataModel.class, "actuatorID", actuatorIDs));
+    }
 }
@@ -1,5 +1,6 @@
 package smartHomeDDD.persistence.jpa.repository;
 
+import smartHomeDDD.ddd.Repository;
 import smartHomeDDD.domain.actuatorModel.ActuatorModel;
 import smartHomeDDD.domain.actuatorModel.FactoryActuatorModel;
 import smartHomeDDD.domain.repository.IRepositoryActuatorModel;
@@ -8,8 +9,12 @@ import smartHomeDDD.domain.valueobject.ActuatorTypeID;
 import smartHomeDDD.persistence.jpa.datamodel.ActuatorModelDataModel;
 import jakarta.persistence.*;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * This class provides a JPA implementation of the IRepositoryActuatorModel interface.
@@ -122,4 +127,63 @@ public class RepositoryActuatorModelJPAImpl implements IRepositoryActuatorModel
         List<ActuatorModelDataModel> resultList = query.getResultList();
         return ActuatorModelDataModel.toDomain(_factoryActuatorModel, resultList);
     }
-}
\ No newline at end of file
+
+    /**
+     * Saves a batch of ActuatorModel objects to the database in a single transaction.
+     * The existence of the whole batch is checked with a single query, and the actuator models are then inserted in JDBC
+     * batches. If the batch fails part way, none of it is saved.
+     * @param actuatorModels The ActuatorModel objects to be saved.
+     * @return The saved ActuatorModel objects.
+     * @throws IllegalArgumentException if the batch or any of its actuator models is null.
+     * @throws IllegalArgumentException if an actuator model already exists or is repeated in the batch.
+     */
+    @Override
+    public List<ActuatorModel> saveAll(List<ActuatorModel> actuatorModels) {
+        if (actuatorModels == null || actuatorModels.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("actuator Model cannot be null");
+        }
+        Set<String> actuatorModelIDs = new HashSet<>();
+        for (ActuatorModel actuatorModel : actuatorModels) {
+            if (!actuatorModelIDs.add(actuatorModel.identity().toString())) {
+                throw new IllegalArgumentException("actuator Model already exists");
+            }
+        }
+        if (actuatorModelIDs.isEmpty()) {
+            return actuatorModels;
+        }
+        if (JpaBatch.countByIDs(getEntityManager(), ActuatorModelDataModel.class, "actuatorModelID", actuatorModelIDs) > 0) {
+            throw new IllegalArgumentException("actuator Model already exists");
+        }
+
+        EntityManager em = getEntityManager();
+        List<ActuatorModelDataModel> dataModels = new ArrayList<>(actuatorModels.size());
+        for (ActuatorModel actuatorModel : actuatorModels) {
+            dataModels.add(new ActuatorModelDataModel(actuatorModel));
+        }
+        JpaBatch.persistAll(em, dataModels);
+        em.close();
+
+        return actuatorModels;
+    }
+
+    /**
+     * Retrieves the actuator models with the given identities from the database, with a single query.
+     * @param ids The identities of the actuator models.
+     * @return The actuator models found, in no particular order.
+     */
+    @Override
+    public List<ActuatorModel> ofIdentities(Iterable<ActuatorModelID> ids) {
+        return Repository.ofIDs(ids, actuatorModelIDs -> ActuatorModelDataModel.toDomain(_factoryActuatorModel,
+                JpaBatch.findByIDs(getEntityManager(), ActuatorModelDataModel.class, "actuatorModelID", actuatorModelIDs)));
+    }
+
+    /**
+     * Checks if every one of the given identities exists in the database, with a single query.
+     * @param ids The identities of the actuator models.
+     * @return true if every actuator model exists, or no identity is given, false otherwise.
+     */
+    @Override
+    public boolean containsAll(Iterable<ActuatorModelID> ids) {
+        return Repository.containsAllIDs(ids, actuatorModelIDs -> JpaBatch.countByIDs(getEntityManager(), ActuatorModelDataModel.class, "actuatorModelID", actuatorModelIDs));
+    }
+}
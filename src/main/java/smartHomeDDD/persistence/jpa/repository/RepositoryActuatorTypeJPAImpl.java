@@ -1,5 +1,6 @@
 package smartHomeDDD.persistence.jpa.repository;
 
+import smartHomeDDD.ddd.Repository;
 import smartHomeDDD.domain.actuatorType.FactoryActuatorType;
 import smartHomeDDD.domain.actuatorType.ActuatorType;
 import smartHomeDDD.domain.valueobject.ActuatorTypeID;
@@ -8,8 +9,12 @@ import jakarta.persistence.*;
 
 import smartHomeDDD.domain.repository.IRepositoryActuatorType;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * This class provides a JPA implementation of the IRepositoryActuatorType interface.
@@ -114,4 +119,62 @@ public class RepositoryActuatorTypeJPAImpl implements IRepositoryActuatorType {
         return actuatorType.isPresent();
     }
 
-}
\ No newline at end of file
+    /**
+     * Saves a batch of ActuatorType objects to the database in a single transaction.
+     * The existence of the whole batch is checked with a single query, and the actuator types are then inserted in JDBC
+     * batches. If the batch fails part way, none of it is saved.
+     * @param actuatorTypes The ActuatorType objects to be saved.
+     * @return The saved ActuatorType objects.
+     * @throws IllegalArgumentException if the batch or any of its actuator types is null.
+     * @throws IllegalArgumentException if an actuator type already exists or is repeated in the batch.
+     */
+    @Override
+    public List<ActuatorType> saveAll(List<ActuatorType> actuatorTypes) {
+        if (actuatorTypes == null || actuatorTypes.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("ActuatorType cannot be null");
+        }
+        Set<String> actuatorTypeIDs = new HashSet<>();
+        for (ActuatorType actuatorType : actuatorTypes) {
+            if (!actuatorTypeIDs.add(actuatorType.identity().toString())) {
+                throw new IllegalArgumentException("actuator Type already exists");
+            }
+        }
+        if (actuatorTypeIDs.isEmpty()) {
+            return actuatorTypes;
+        }
+        if (JpaBatch.countByIDs(getEntityManager(), ActuatorTypeDataModel.class, "actuatorTypeID", actuatorTypeIDs) > 0) {
+            throw new IllegalArgumentException("actuator Type already exists");
+        }
+
+        EntityManager em = getEntityManager();
+        List<ActuatorTypeDataModel> dataModels = new ArrayList<>(actuatorTypes.size());
+        for (ActuatorType actuatorType : actuatorTypes) {
+            dataModels.add(new ActuatorTypeDataModel(actuatorType));
+        }
+        JpaBatch.persistAll(em, dataModels);
+        em.close();
+
+        return actuatorTypes;
+    }
+
+    /**
+     * Retrieves the actuator types with the given identities from the database, with a single query.
+     * @param ids The identities of the actuator types.
+     * @return The actuator types found, in no particular order.
+     */
+    @Override
+    public List<ActuatorType> ofIdentities(Iterable<ActuatorTypeID> ids) {
+        return Repository.ofIDs(ids, actuatorTypeIDs -> ActuatorTypeDataModel.toDomain(factoryActuatorType,
+                JpaBatch.findByIDs(getEntityManager(), ActuatorTypeDataModel.class, "actuatorTypeID", actuatorTypeIDs)));
+    }
+
+    /**
+     * Checks if every one of the given identities exists in the database, with a single query.
+     * @param ids The identities of the actuator types.
+     * @return true if every actuator type exists, or no identity is given, false otherwise.
+     */
+    @Override
+    public boolean containsAll(Iterable<ActuatorTypeID> ids) {
+        return Repository.containsAllIDs(ids, actuatorTypeIDs -> JpaBatch.countByIDs(getEntityManager(), ActuatorTypeDataModel.class, "actuatorTypeID", actuatorTypeIDs));
+    }
+}
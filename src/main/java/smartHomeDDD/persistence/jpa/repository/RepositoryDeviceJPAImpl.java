@@ -1,5 +1,6 @@
 package smartHomeDDD.persistence.jpa.repository;
 
+import smartHomeDDD.ddd.Repository;
 import smartHomeDDD.domain.device.Device;
 import smartHomeDDD.domain.device.FactoryDevice;
 import smartHomeDDD.domain.repository.IRepositoryDevice;
@@ -9,8 +10,11 @@ import smartHomeDDD.persistence.jpa.datamodel.DeviceDataModel;
 import jakarta.persistence.*;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * This class provides a JPA implementation of the IRepositoryDevice interface.
@@ -185,5 +189,63 @@ public class RepositoryDeviceJPAImpl implements IRepositoryDevice {
         Optional<Device> device = ofIdentity(id);
         return device.isPresent();
     }
-}
 
+    /**
+     * Saves a batch of Device objects to the database in a single transaction.
+     * The existence of the whole batch is checked with a single query, and the persistence context is flushed
+     * every 50 devices, so they are inserted in JDBC batches. If the batch fails part way, none of it is saved.
+     * @param devices The Device objects to be saved.
+     * @return The saved Device objects.
+     * @throws IllegalArgumentException if the batch or any of its devices is null, or a device already exists or is
+     * repeated in the batch.
+     */
+    @Override
+    public List<Device> saveAll(List<Device> devices) {
+        if (devices == null || devices.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Device cannot be null");
+        }
+        Set<String> deviceIDs = new HashSet<>();
+        for (Device device : devices) {
+            if (!deviceIDs.add(device.identity().toString())) {
+                throw new IllegalArgumentException("Device already exists");
+            }
+        }
+        if (deviceIDs.isEmpty()) {
+            return devices;
+        }
+        if (JpaBatch.countByIDs(getEntityManager(), DeviceDataModel.class, "deviceId", deviceIDs) > 0) {
+            throw new IllegalArgumentException("Device already exists");
+        }
+
+        EntityManager em = getEntityManager();
+        List<DeviceDataModel> dataModels = new ArrayList<>(devices.size());
+        for (Device device : devices) {
+            dataModels.add(new DeviceDataModel(device));
+        }
+        JpaBatch.persistAll(em, dataModels);
+        em.close();
+
+        return devices;
+    }
+
+    /**
+     * Retrieves the devices with the given identities from the database, with a single query.
+     * @param ids The identities of the devices.
+     * @return The devices found, in no particular order.
+     */
+    @Override
+    public List<Device> ofIdentities(Iterable<DeviceId> ids) {
+        return Repository.ofIDs(ids, deviceIDs -> DeviceDataModel.toDomain(factoryDevice,
+                JpaBatch.findByIDs(getEntityManager(), DeviceDataModel.class, "deviceId", deviceIDs)));
+    }
+
+    /**
+     * Checks if every one of the given identities exists in the database, with a single query.
+     * @param ids The identities of the devices.
+     * @return true if every device exists, or no identity is given, false otherwise.
+     */
+    @Override
+    public boolean containsAll(Iterable<DeviceId> ids) {
+        return Repository.containsAllIDs(ids, deviceIDs -> JpaBatch.countByIDs(getEntityManager(), DeviceDataModel.class, "deviceId", deviceIDs));
+    }
+}
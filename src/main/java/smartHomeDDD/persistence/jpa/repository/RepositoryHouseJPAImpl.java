@@ -1,6 +1,7 @@
 package smartHomeDDD.persistence.jpa.repository;
 
 import org.springframework.dao.DataIntegrityViolationException;
+import smartHomeDDD.ddd.Repository;
 import smartHomeDDD.domain.house.FactoryHouse;
 import smartHomeDDD.domain.house.House;
 import smartHomeDDD.domain.repository.IRepositoryHouse;
@@ -8,8 +9,12 @@ import smartHomeDDD.domain.valueobject.HouseId;
 import smartHomeDDD.persistence.jpa.datamodel.HouseDataModel;
 import jakarta.persistence.*;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Implementation of a JPA repository for managing House entities.
@@ -113,7 +118,7 @@ public class RepositoryHouseJPAImpl implements IRepositoryHouse {
 
         List<HouseDataModel> listDataModel = query.getResultList();
 
-        return (List<House>) HouseDataModel.toDomain(_factoryHouse, listDataModel);
+        return HouseDataModel.toDomain(_factoryHouse, listDataModel);
     }
 
     /**
@@ -142,4 +147,63 @@ public class RepositoryHouseJPAImpl implements IRepositoryHouse {
 
         return entity;
     }
-}
\ No newline at end of file
+
+    /**
+     * Saves a batch of House objects to the database in a single transaction.
+     * The existence of the whole batch is checked with a single query, and the houses are then inserted in JDBC
+     * batches. If the batch fails part way, none of it is saved.
+     * @param houses The House objects to be saved.
+     * @return The saved House objects.
+     * @throws IllegalArgumentException if the batch or any of its houses is null.
+     * @throws DataIntegrityViolationException if a house already exists or is repeated in the batch.
+     */
+    @Override
+    public List<House> saveAll(List<House> houses) {
+        if (houses == null || houses.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("House cannot be null");
+        }
+        Set<String> houseIDs = new HashSet<>();
+        for (House house : houses) {
+            if (!houseIDs.add(house.identity().toString())) {
+                throw new DataIntegrityViolationException("House already exists");
+            }
+        }
+        if (houseIDs.isEmpty()) {
+            return houses;
+        }
+        if (JpaBatch.countByIDs(getEntityManager(), HouseDataModel.class, "_houseId", houseIDs) > 0) {
+            throw new DataIntegrityViolationException("House already exists");
+        }
+
+        EntityManager em = getEntityManager();
+        List<HouseDataModel> dataModels = new ArrayList<>(houses.size());
+        for (House house : houses) {
+            dataModels.add(new HouseDataModel(house));
+        }
+        JpaBatch.persistAll(em, dataModels);
+        em.close();
+
+        return houses;
+    }
+
+    /**
+     * Retrieves the houses with the given identities from the database, with a single query.
+     * @param ids The identities of the houses.
+     * @return The houses found, in no particular order.
+     */
+    @Override
+    public List<House> ofIdentities(Iterable<HouseId> ids) {
+        return Repository.ofIDs(ids, houseIDs -> HouseDataModel.toDomain(_factoryHouse,
+                JpaBatch.findByIDs(getEntityManager(), HouseDataModel.class, "_houseId", houseIDs)));
+    }
+
+    /**
+     * Checks if every one of the given identities exists in the database, with a single query.
+     * @param ids The identities of the houses.
+     * @return true if every house exists, or no identity is given, false otherwise.
+     */
+    @Override
+    public boolean containsAll(Iterable<HouseId> ids) {
+        return Repository.containsAllIDs(ids, houseIDs -> JpaBatch.countByIDs(getEntityManager(), HouseDataModel.class, "_houseId", houseIDs));
+    }
+}
@@ -0,0 +1,89 @@
+package smartHomeDDD.persistence.jpa.repository;
+
+import jakarta.persistence.*;
+import smartHomeDDD.domain.repository.IRepositoryReadingRollup;
+import smartHomeDDD.domain.sensorReading.ReadingRollup;
+import smartHomeDDD.domain.sensorReading.RollupResolution;
+import smartHomeDDD.domain.valueobject.SensorID;
+import smartHomeDDD.persistence.jpa.datamodel.ReadingRollupDataModel;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * This class is the implementation of the repository interface for the sensor reading rollups
+ * It uses JPA to persist the data
+ */
+public class RepositoryReadingRollupJPAImpl implements IRepositoryReadingRollup {
+
+    /**
+     * The EntityManager used for database operations.
+     */
+    final EntityManager _manager;
+
+    /**
+     * The RepositoryReadingRollupJPAImpl constructor
+     * @param manager The EntityManager used for database operations
+     */
+    public RepositoryReadingRollupJPAImpl(EntityManager manager) {
+        this._manager = manager;
+    }
+
+    /**
+     * Gets the entity manager to access the database
+     * @return the entity manager
+     */
+    private EntityManager getEntityManager() {
+        return _manager;
+    }
+
+    /**
+     * Merges the readings of a rollup into the stored rollup of the same sensor, resolution and bucket, creating it
+     * if it does not exist
+     * The bucket is locked for the duration of the update, so concurrent readings of the same bucket are not lost
+     * @param rollup the rollup with the new readings of a bucket
+     * @return the updated rollup of the bucket
+     */
+    @Override
+    public ReadingRollup merge(ReadingRollup rollup) {
+        if (rollup == null) {
+            throw new IllegalArgumentException("Reading rollup cannot be null");
+        }
+        String rollupID = ReadingRollupDataModel.rollupID(rollup.getSensorID(), rollup.getResolution(), rollup.getBucketStart().getTime());
+        EntityManager em = getEntityManager();
+        EntityTransaction tx = em.getTransaction();
+        tx.begin();
+        ReadingRollupDataModel dataModel = em.find(ReadingRollupDataModel.class, rollupID, LockModeType.PESSIMISTIC_WRITE);
+        ReadingRollup merged = rollup;
+        if (dataModel == null) {
+            em.persist(new ReadingRollupDataModel(rollup));
+        } else {
+            merged = ReadingRollupDataModel.toDomain(dataModel).merge(rollup);
+            dataModel.update(merged);
+        }
+        tx.commit();
+        return merged;
+    }
+
+    /**
+     * Retrieves the rollups of a sensor at a given resolution whose buckets start within a time period,
+     * ordered by bucket start
+     * @param sensorID the sensor
+     * @param resolution the resolution of the rollups
+     * @param start the start of the time period, included
+     * @param end the end of the time period, excluded
+     * @return the rollups of the sensor within the time period
+     */
+    @Override
+    public List<ReadingRollup> findWithinPeriod(SensorID sensorID, RollupResolution resolution, Timestamp start, Timestamp end) {
+        TypedQuery<ReadingRollupDataModel> query = getEntityManager().createQuery(
+                "SELECT e FROM ReadingRollupDataModel e WHERE e.sensorID = :sensorID AND e.resolution = :resolution " +
+                        "AND e.bucketStart >= :start AND e.bucketStart < :end ORDER BY e.bucketStart", ReadingRollupDataModel.class);
+        query.setParameter("sensorID", sensorID.toString());
+        query.setParameter("resolution", resolution.name());
+        query.setParameter("start", start);
+        query.setParameter("end", end);
+
+        return ReadingRollupDataModel.toDomainList(query.getResultList());
+    }
+}
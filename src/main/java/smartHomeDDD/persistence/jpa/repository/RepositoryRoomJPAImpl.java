@@ -1,5 +1,6 @@
 package smartHomeDDD.persistence.jpa.repository;
 
+import smartHomeDDD.ddd.Repository;
 import smartHomeDDD.domain.repository.IRepositoryRoom;
 import smartHomeDDD.domain.room.FactoryRoom;
 import smartHomeDDD.domain.room.Room;
@@ -9,8 +10,12 @@ import smartHomeDDD.persistence.jpa.datamodel.RoomDataModel;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Repository implementation for managing Room entities using JPA.
@@ -146,4 +151,63 @@ public class RepositoryRoomJPAImpl implements IRepositoryRoom {
         List<RoomDataModel> listDataModel = query.getResultList();
         return RoomDataModel.toDomain(_factoryRoom, listDataModel);
     }
+
+    /**
+     * Saves a batch of Room objects to the database in a single transaction.
+     * The existence of the whole batch is checked with a single query, and the rooms are then inserted in JDBC
+     * batches. If the batch fails part way, none of it is saved.
+     * @param rooms The Room objects to be saved.
+     * @return The saved Room objects.
+     * @throws IllegalArgumentException if the batch or any of its rooms is null.
+     * @throws IllegalArgumentException if a room already exists or is repeated in the batch.
+     */
+    @Override
+    public List<Room> saveAll(List<Room> rooms) {
+        if (rooms == null || rooms.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Room cannot be null");
+        }
+        Set<String> roomIDs = new HashSet<>();
+        for (Room room : rooms) {
+            if (!roomIDs.add(room.identity().toString())) {
+                throw new IllegalArgumentException("Room already exists");
+            }
+        }
+        if (roomIDs.isEmpty()) {
+            return rooms;
+        }
+        if (JpaBatch.countByIDs(getEntityManager(), RoomDataModel.class, "roomId", roomIDs) > 0) {
+            throw new IllegalArgumentException("Room already exists");
+        }
+
+        EntityManager em = getEntityManager();
+        List<RoomDataModel> dataModels = new ArrayList<>(rooms.size());
+        for (Room room : rooms) {
+            dataModels.add(new RoomDataModel(room));
+        }
+        JpaBatch.persistAll(em, dataModels);
+        em.close();
+
+        return rooms;
+    }
+
+    /**
+     * Retrieves the rooms with the given identities from the database, with a single query.
+     * @param ids The identities of the rooms.
+     * @return The rooms found, in no particular order.
+     */
+    @Override
+    public List<Room> ofIdentities(Iterable<RoomID> ids) {
+        return Repository.ofIDs(ids, roomIDs -> RoomDataModel.toDomain(_factoryRoom,
+                JpaBatch.findByIDs(getEntityManager(), RoomDataModel.class, "roomId", roomIDs)));
+    }
+
+    /**
+     * Checks if every one of the given identities exists in the database, with a single query.
+     * @param ids The identities of the rooms.
+     * @return true if every room exists, or no identity is given, false otherwise.
+     */
+    @Override
+    public boolean containsAll(Iterable<RoomID> ids) {
+        return Repository.containsAllIDs(ids, roomIDs -> JpaBatch.countByIDs(getEntityManager(), RoomDataModel.class, "roomId", roomIDs));
+    }
 }
@@ -1,15 +1,22 @@
 package smartHomeDDD.persistence.jpa.repository;
 
+import smartHomeDDD.ddd.Repository;
 import smartHomeDDD.domain.sensor.FactorySensor;
 import smartHomeDDD.domain.sensor.Sensor;
 import smartHomeDDD.domain.repository.IRepositorySensor;
 import smartHomeDDD.domain.valueobject.DeviceId;
 import smartHomeDDD.domain.valueobject.SensorID;
+import smartHomeDDD.persistence.jpa.datamodel.DeviceDataModel;
 import smartHomeDDD.persistence.jpa.datamodel.SensorDataModel;
 import jakarta.persistence.*;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * The RepositorySensorJPAImpl class provides a JPA implementation of the IRepositorySensor interface.
@@ -138,6 +145,77 @@ public class RepositorySensorJPAImpl implements IRepositorySensor {
         return null;
     }
 
+    /**
+     * Retrieves the IDs of the devices with a sensor of each sensor type, by the description of the type,
+     * with a single query that joins the sensors with their models and types.
+     *
+     * @return The IDs of the devices by the description of the type of their sensors.
+     */
+    @Override
+    public Optional<Map<String, Set<DeviceId>>> getDeviceIDsBySensorTypeDescription() {
+        List<Object[]> rows = getEntityManager().createQuery(
+                "SELECT DISTINCT t.sensorTypeDescription, s.deviceId FROM SensorDataModel s, SensorModelDataModel m, SensorTypeDataModel t " +
+                        "WHERE s.sensorModelId = m.sensorModelID AND m.sensorTypeID = t.sensorTypeID", Object[].class)
+                .getResultList();
+        return Optional.of(DeviceDataModel.toDeviceIDsByDescription(rows));
+    }
 
+    /**
+     * Saves a batch of Sensor objects to the database in a single transaction.
+     * The existence of the whole batch is checked with a single query, and the persistence context is flushed
+     * every 50 sensors, so they are inserted in JDBC batches. If the batch fails part way, none of it is saved.
+     * @param sensors The Sensor objects to be saved.
+     * @return The saved Sensor objects.
+     * @throws IllegalArgumentException if the batch or any of its sensors is null, or a sensor already exists or is
+     * repeated in the batch.
+     */
+    @Override
+    public List<Sensor> saveAll(List<Sensor> sensors) {
+        if (sensors == null || sensors.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Sensor cannot be null");
+        }
+        Set<String> sensorIDs = new HashSet<>();
+        for (Sensor sensor : sensors) {
+            if (!sensorIDs.add(sensor.identity().toString())) {
+                throw new IllegalArgumentException("Sensor already exists");
+            }
+        }
+        if (sensorIDs.isEmpty()) {
+            return sensors;
+        }
+        if (JpaBatch.countByIDs(getEntityManager(), SensorDataModel.class, "sensorId", sensorIDs) > 0) {
+            throw new IllegalArgumentException("Sensor already exists");
+        }
 
+        EntityManager em = getEntityManager();
+        List<SensorDataModel> dataModels = new ArrayList<>(sensors.size());
+        for (Sensor sensor : sensors) {
+            dataModels.add(new SensorDataModel(sensor));
+        }
+        JpaBatch.persistAll(em, dataModels);
+        em.close();
+
+        return sensors;
+    }
+
+    /**
+     * Retrieves the sensors with the given identities from the database, with a single query.
+     * @param ids The identities of the sensors.
+     * @return The sensors found, in no particular order.
+     */
+    @Override
+    public List<Sensor> ofIdentities(Iterable<SensorID> ids) {
+        return Repository.ofIDs(ids, sensorIDs -> SensorDataModel.toDomain(_factorySensor,
+                JpaBatch.findByIDs(getEntityManager(), SensorDataModel.class, "sensorId", sensorIDs)));
+    }
+
+    /**
+     * Checks if every one of the given identities exists in the database, with a single query.
+     * @param ids The identities of the sensors.
+     * @return true if every sensor exists, or no identity is given, false otherwise.
+     */
+    @Override
+    public boolean containsAll(Iterable<SensorID> ids) {
+        return Repository.containsAllIDs(ids, sensorIDs -> JpaBatch.countByIDs(getEntityManager(), SensorDataModel.class, "sensorId", sensorIDs));
+    }
 }
@@ -1,5 +1,6 @@
 package smartHomeDDD.persistence.jpa.repository;
 
+import smartHomeDDD.ddd.Repository;
 import smartHomeDDD.domain.sensorModel.FactorySensorModel;
 import smartHomeDDD.domain.sensorModel.SensorModel;
 import smartHomeDDD.domain.repository.IRepositorySensorModel;
@@ -8,8 +9,12 @@ import smartHomeDDD.domain.valueobject.SensorTypeID;
 import smartHomeDDD.persistence.jpa.datamodel.SensorModelDataModel;
 import jakarta.persistence.*;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * This class provides a JPA implementation of the IRepositorySensorModel interface.
@@ -129,4 +134,63 @@ public class RepositorySensorModelJPAImpl implements IRepositorySensorModel {
       List<SensorModelDataModel> resultList = query.getResultList();
       return SensorModelDataModel.toDomain(_factorySensorModel, resultList);
   }
+
+    /**
+     * Saves a batch of SensorModel objects to the database in a single transaction.
+     * The existence of the whole batch is checked with a single query, and the sensor models are then inserted in JDBC
+     * batches. If the batch fails part way, none of it is saved.
+     * @param sensorModels The SensorModel objects to be saved.
+     * @return The saved SensorModel objects.
+     * @throws IllegalArgumentException if the batch or any of its sensor models is null.
+     * @throws IllegalArgumentException if a sensor model already exists or is repeated in the batch.
+     */
+    @Override
+    public List<SensorModel> saveAll(List<SensorModel> sensorModels) {
+        if (sensorModels == null || sensorModels.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Sensor Model cannot be null");
+        }
+        Set<String> sensorModelIDs = new HashSet<>();
+        for (SensorModel sensorModel : sensorModels) {
+            if (!sensorModelIDs.add(sensorModel.identity().toString())) {
+                throw new IllegalArgumentException("Sensor Model already exists");
+            }
+        }
+        if (sensorModelIDs.isEmpty()) {
+            return sensorModels;
+        }
+        if (JpaBatch.countByIDs(getEntityManager(), SensorModelDataModel.class, "sensorModelID", sensorModelIDs) > 0) {
+            throw new IllegalArgumentException("Sensor Model already exists");
+        }
+
+        EntityManager em = getEntityManager();
+        List<SensorModelDataModel> dataModels = new ArrayList<>(sensorModels.size());
+        for (SensorModel sensorModel : sensorModels) {
+            dataModels.add(new SensorModelDataModel(sensorModel));
+        }
+        JpaBatch.persistAll(em, dataModels);
+        em.close();
+
+        return sensorModels;
+    }
+
+    /**
+     * Retrieves the sensor models with the given identities from the database, with a single query.
+     * @param ids The identities of the sensor models.
+     * @return The sensor models found, in no particular order.
+     */
+    @Override
+    public List<SensorModel> ofIdentities(Iterable<SensorModelID> ids) {
+        return Repository.ofIDs(ids, sensorModelIDs -> SensorModelDataModel.toDomain(_factorySensorModel,
+                JpaBatch.findByIDs(getEntityManager(), SensorModelDataModel.class, "sensorModelID", sensorModelIDs)));
+    }
+
+    /**
+     * Checks if every one of the given identities exists in the database, with a single query.
+     * @param ids The identities of the sensor models.
+     * @return true if every sensor model exists, or no identity is given, false otherwise.
+     */
+    @Override
+    public boolean containsAll(Iterable<SensorModelID> ids) {
+        return Repository.containsAllIDs(ids, sensorModelIDs -> JpaBatch.countByIDs(getEntityManager(), SensorModelDataModel.class, "sensorModelID", sensorModelIDs));
+    }
 }
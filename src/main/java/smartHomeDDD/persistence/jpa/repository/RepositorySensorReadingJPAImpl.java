@@ -4,6 +4,7 @@ import org.springframework.dao.DataIntegrityViolationException;
 import smartHomeDDD.domain.repository.IRepositorySensorReading;
 import smartHomeDDD.domain.sensorReading.FactorySensorReading;
 import smartHomeDDD.domain.sensorReading.SensorReading;
+import smartHomeDDD.domain.sensorReading.SensorReadingCursor;
 import smartHomeDDD.domain.valueobject.DeviceId;
 import smartHomeDDD.domain.valueobject.SensorID;
 import smartHomeDDD.domain.valueobject.SensorReadingID;
@@ -11,9 +12,9 @@ import smartHomeDDD.persistence.jpa.datamodel.SensorReadingDataModel;
 import jakarta.persistence.*;
 
 import java.sql.Timestamp;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * This class is the implementation of the repository interface for SensorReading
@@ -21,6 +22,11 @@ import java.util.Optional;
  */
 public class RepositorySensorReadingJPAImpl implements IRepositorySensorReading {
 
+    /**
+     * The number of readings fetched from the database at a time when the readings of a device are streamed.
+     */
+    static final int FETCH_SIZE = 500;
+
     /**
      * The factory for SensorReading objects
      */
@@ -121,7 +127,7 @@ public class RepositorySensorReadingJPAImpl implements IRepositorySensorReading
     }
 
     /**
-     * Retrieves all SensorReading objects from the database by the device identity and defined time period
+     * Retrieves all SensorReading objects from the database by the device identity and defined time period, ordered by timestamp
      * @param deviceID the identity of the device
      * @param startTime the timestamp that defines the start of the time period
      * @param endTime the timestamp that defines the end of the time period
@@ -135,7 +141,7 @@ public class RepositorySensorReadingJPAImpl implements IRepositorySensorReading
         }
         List <SensorReading> readingsWithinPeriod = new ArrayList<>();
         Query query = getEntityManager().createQuery(
-                "SELECT e FROM SensorReadingDataModel e WHERE e.timeStamp BETWEEN :startTime AND :endTime AND e.deviceID = :deviceId");
+                "SELECT e FROM SensorReadingDataModel e WHERE e.deviceID = :deviceId AND e.timeStamp BETWEEN :startTime AND :endTime ORDER BY e.timeStamp");
         query.setParameter("startTime", startTime);
         query.setParameter("endTime", endTime);
         query.setParameter("deviceId", deviceID.toString());
@@ -150,7 +156,7 @@ public class RepositorySensorReadingJPAImpl implements IRepositorySensorReading
     }
 
     /**
-     * Retrieves all SensorReading objects from the database by the device identity, sensor identity and defined time period
+     * Retrieves all SensorReading objects from the database by the device identity, sensor identity and defined time period, ordered by timestamp
      * @param deviceID the identity of the device
      * @param sensorIDIndoors the identity of the sensor
      * @param startTime the timestamp that defines the start of the time period
@@ -161,7 +167,7 @@ public class RepositorySensorReadingJPAImpl implements IRepositorySensorReading
     public List<SensorReading> getSensorReadingsBetweenTimestamp(DeviceId deviceID, SensorID sensorIDIndoors, Timestamp startTime, Timestamp endTime) {
         List <SensorReading> readingsBetweenTimeStamp = new ArrayList<>();
         Query query = getEntityManager().createQuery(
-                "SELECT e FROM SensorReadingDataModel e WHERE e.timeStamp BETWEEN :startTime AND :endTime AND e.deviceID = :deviceId AND e.sensorID = :sensorID");
+                "SELECT e FROM SensorReadingDataModel e WHERE e.sensorID = :sensorID AND e.deviceID = :deviceId AND e.timeStamp BETWEEN :startTime AND :endTime ORDER BY e.timeStamp");
         query.setParameter("startTime", startTime);
         query.setParameter("endTime", endTime);
         query.setParameter("deviceId", deviceID.toString());
@@ -176,6 +182,30 @@ public class RepositorySensorReadingJPAImpl implements IRepositorySensorReading
         return readingsBetweenTimeStamp;
     }
 
+    /**
+     * Retrieves the SensorReading objects of several sensors of a device within a defined time period from the
+     * database, with a single query, ordered by timestamp
+     * @param deviceID the identity of the device
+     * @param sensorIDs the identities of the sensors
+     * @param startTime the timestamp that defines the start of the time period
+     * @param endTime the timestamp that defines the end of the time period
+     * @return a list of all SensorReading objects
+     */
+    @Override
+    public List<SensorReading> getSensorReadingsBetweenTimestamp(DeviceId deviceID, Collection<SensorID> sensorIDs, Timestamp startTime, Timestamp endTime) {
+        if (sensorIDs.isEmpty()) {
+            return new ArrayList<>();
+        }
+        TypedQuery<SensorReadingDataModel> query = getEntityManager().createQuery(
+                "SELECT e FROM SensorReadingDataModel e WHERE e.sensorID IN :sensorIDs AND e.deviceID = :deviceId AND e.timeStamp BETWEEN :startTime AND :endTime ORDER BY e.timeStamp",
+                SensorReadingDataModel.class);
+        query.setParameter("startTime", startTime);
+        query.setParameter("endTime", endTime);
+        query.setParameter("deviceId", deviceID.toString());
+        query.setParameter("sensorIDs", sensorIDs.stream().map(SensorID::toString).distinct().toList());
+        return SensorReadingDataModel.toDomainList(_factorySensorReading, query.getResultList());
+    }
+
     /**
      * Retrieves the latest SensorReading object from the database by the sensor identity
      *
@@ -184,12 +214,17 @@ public class RepositorySensorReadingJPAImpl implements IRepositorySensorReading
      */
     @Override
     public Optional<SensorReading> getLatestReadingFromSensor(SensorID sensorID) {
-        Query query = getEntityManager().createQuery(
-                "SELECT e FROM SensorReadingDataModel e WHERE e.sensorID = :sensorID ORDER BY e.timeStamp DESC");
+        TypedQuery<SensorReadingDataModel> query = getEntityManager().createQuery(
+                "SELECT e FROM SensorReadingDataModel e WHERE e.sensorID = :sensorID ORDER BY e.timeStamp DESC",
+                SensorReadingDataModel.class);
         query.setParameter("sensorID", sensorID.toString());
+        query.setMaxResults(1);
 
-        SensorReadingDataModel readingDataModel = (SensorReadingDataModel) query.getResultList().get(0);
-        SensorReading latestReading = SensorReadingDataModel.toDomain(_factorySensorReading, readingDataModel);
+        List<SensorReadingDataModel> readingDataModels = query.getResultList();
+        if (readingDataModels.isEmpty()) {
+            return Optional.empty();
+        }
+        SensorReading latestReading = SensorReadingDataModel.toDomain(_factorySensorReading, readingDataModels.get(0));
         return Optional.of(latestReading);
     }
 
@@ -209,4 +244,146 @@ public class RepositorySensorReadingJPAImpl implements IRepositorySensorReading
         return sensorReadings;
     }
 
+    /**
+     * Passes every SensorReading of a device to an action, ordered by timestamp
+     * The readings are read through a cursor FETCH_SIZE rows at a time, and each one is detached from the
+     * persistence context once the action is done with it, so the memory used stays flat
+     * @param deviceId the ID of the device
+     * @param action the action to perform on each SensorReading
+     */
+    @Override
+    public void forEachSensorReadingOfDevice(DeviceId deviceId, Consumer<SensorReading> action) {
+        EntityManager em = getEntityManager();
+        TypedQuery<SensorReadingDataModel> query = em.createQuery(
+                "SELECT e FROM SensorReadingDataModel e WHERE e.deviceID = :deviceId ORDER BY e.timeStamp", SensorReadingDataModel.class);
+        query.setParameter("deviceId", deviceId.toString());
+        query.setHint("org.hibernate.fetchSize", FETCH_SIZE);
+        query.setHint("org.hibernate.readOnly", true);
+
+        try (Stream<SensorReadingDataModel> sensorReadingDataModels = query.getResultStream()) {
+            sensorReadingDataModels.forEach(sensorReadingDataModel -> {
+                action.accept(SensorReadingDataModel.toDomain(_factorySensorReading, sensorReadingDataModel));
+                em.detach(sensorReadingDataModel);
+            });
+        }
+    }
+
+    /**
+     * Retrieves a page of the SensorReadings of a device, ordered by timestamp and then by ID, starting right after
+     * a cursor
+     * The page seeks the cursor through the (deviceID, timeStamp) index and reads at most limit rows, so no rows
+     * before the cursor are read and skipped
+     * @param deviceId the ID of the device
+     * @param start the start of the time period, included, or null for no start
+     * @param end the end of the time period, included, or null for no end
+     * @param after the cursor after which the page starts, or null for the first page
+     * @param limit the maximum number of SensorReadings in the page
+     * @return the SensorReadings of the page
+     */
+    @Override
+    public List<SensorReading> getSensorReadingsPageFromDevice(DeviceId deviceId, Timestamp start, Timestamp end, SensorReadingCursor after, int limit) {
+        StringBuilder jpql = new StringBuilder("SELECT e FROM SensorReadingDataModel e WHERE e.deviceID = :deviceId");
+        if (start != null) {
+            jpql.append(" AND e.timeStamp >= :start");
+        }
+        if (end != null) {
+            jpql.append(" AND e.timeStamp <= :end");
+        }
+        if (after != null) {
+            jpql.append(" AND (e.timeStamp > :afterTimeStamp OR (e.timeStamp = :afterTimeStamp AND e.sensorReadingID > :afterID))");
+        }
+        jpql.append(" ORDER BY e.timeStamp, e.sensorReadingID");
+
+        TypedQuery<SensorReadingDataModel> query = getEntityManager().createQuery(jpql.toString(), SensorReadingDataModel.class);
+        query.setParameter("deviceId", deviceId.toString());
+        if (start != null) {
+            query.setParameter("start", start);
+        }
+        if (end != null) {
+            query.setParameter("end", end);
+        }
+        if (after != null) {
+            query.setParameter("afterTimeStamp", after.getTimeStamp());
+            query.setParameter("afterID", after.getSensorReadingID().toString());
+        }
+        query.setMaxResults(limit);
+
+        return SensorReadingDataModel.toDomainList(_factorySensorReading, query.getResultList());
+    }
+
+    /**
+     * Saves a batch of SensorReading objects to the database in a single transaction
+     * The existence of the whole batch is checked with a single query, and the persistence context is flushed
+     * every JpaBatch.BATCH_SIZE readings so that the inserts are sent as JDBC batches
+     * If the batch fails part way, the transaction is rolled back, so none of its readings are saved
+     * @param entities the domain objects to save
+     * @return the saved domain objects
+     */
+    @Override
+    public List<SensorReading> saveAll(List<SensorReading> entities) {
+        if (entities == null || entities.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Sensor reading cannot be null");
+        }
+        Set<String> sensorReadingIDs = new HashSet<>();
+        for (SensorReading entity : entities) {
+            if (!sensorReadingIDs.add(entity.identity().toString())) {
+                throw new DataIntegrityViolationException("Sensor Reading already exists");
+            }
+        }
+
+        EntityManager em = getEntityManager();
+        if (!sensorReadingIDs.isEmpty()) {
+            Query query = em.createQuery(
+                    "SELECT COUNT(e) FROM SensorReadingDataModel e WHERE e.sensorReadingID IN :ids");
+            query.setParameter("ids", sensorReadingIDs);
+            if ((Long) query.getSingleResult() > 0) {
+                throw new DataIntegrityViolationException("Sensor Reading already exists");
+            }
+        }
+
+        List<SensorReadingDataModel> dataModels = new ArrayList<>(entities.size());
+        for (SensorReading entity : entities) {
+            dataModels.add(new SensorReadingDataModel(entity));
+        }
+        JpaBatch.persistAll(em, dataModels);
+        em.close();
+
+        return entities;
+    }
+
+    /**
+     * Calculates the average of the numeric readings of a device within a defined time period
+     * The average is computed by the database over the numeric reading column, which is null for readings that are
+     * not numbers, so those are ignored
+     * @param deviceID the identity of the device
+     * @param startTime the timestamp that defines the start of the time period
+     * @param endTime the timestamp that defines the end of the time period
+     * @return the average of the readings, or 0 if there are no numeric readings within the period
+     */
+    @Override
+    public double getAverageReadingWithinPeriod(DeviceId deviceID, Timestamp startTime, Timestamp endTime) {
+        Query query = getEntityManager().createQuery(
+                "SELECT AVG(e.numericReading) FROM SensorReadingDataModel e WHERE e.timeStamp BETWEEN :startTime AND :endTime AND e.deviceID = :deviceId");
+        query.setParameter("startTime", startTime);
+        query.setParameter("endTime", endTime);
+        query.setParameter("deviceId", deviceID.toString());
+
+        Double average = (Double) query.getSingleResult();
+        return average == null ? 0 : average;
+    }
+
+    /**
+     * Retrieves the latest SensorReading of each sensor from the database in a single query
+     * @return a list with the latest SensorReading of each sensor
+     */
+    @Override
+    public List<SensorReading> getLatestReadingOfEachSensor() {
+        TypedQuery<SensorReadingDataModel> query = getEntityManager().createQuery(
+                "SELECT e FROM SensorReadingDataModel e WHERE e.timeStamp = " +
+                        "(SELECT MAX(l.timeStamp) FROM SensorReadingDataModel l WHERE l.sensorID = e.sensorID)",
+                SensorReadingDataModel.class);
+
+        List <SensorReadingDataModel> sensorReadingDataModels = query.getResultList();
+        return SensorReadingDataModel.toDomainList(_factorySensorReading, sensorReadingDataModels);
+    }
 }
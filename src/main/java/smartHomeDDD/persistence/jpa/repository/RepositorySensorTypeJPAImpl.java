@@ -1,5 +1,6 @@
 package smartHomeDDD.persistence.jpa.repository;
 
+import smartHomeDDD.ddd.Repository;
 import smartHomeDDD.domain.sensorType.FactorySensorType;
 import smartHomeDDD.domain.sensorType.SensorType;
 import smartHomeDDD.domain.valueobject.SensorTypeID;
@@ -9,8 +10,12 @@ import jakarta.persistence.*;
 
 import smartHomeDDD.domain.repository.IRepositorySensorType;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * RepositorySensorTypeJPAImpl is a repository class that interacts
@@ -114,4 +119,63 @@ public class RepositorySensorTypeJPAImpl implements IRepositorySensorType {
         Optional<SensorType> sensorType = ofIdentity(id);
         return sensorType.isPresent();
     }
+
+    /**
+     * Saves a batch of SensorType objects to the database in a single transaction.
+     * The existence of the whole batch is checked with a single query, and the sensor types are then inserted in JDBC
+     * batches. If the batch fails part way, none of it is saved.
+     * @param sensorTypes The SensorType objects to be saved.
+     * @return The saved SensorType objects.
+     * @throws IllegalArgumentException if the batch or any of its sensor types is null.
+     * @throws IllegalArgumentException if a sensor type already exists or is repeated in the batch.
+     */
+    @Override
+    public List<SensorType> saveAll(List<SensorType> sensorTypes) {
+        if (sensorTypes == null || sensorTypes.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("sensorType cannot be null");
+        }
+        Set<String> sensorTypeIDs = new HashSet<>();
+        for (SensorType sensorType : sensorTypes) {
+            if (!sensorTypeIDs.add(sensorType.identity().toString())) {
+                throw new IllegalArgumentException("sensorType already exists");
+            }
+        }
+        if (sensorTypeIDs.isEmpty()) {
+            return sensorTypes;
+        }
+        if (JpaBatch.countByIDs(getEntityManager(), SensorTypeDataModel.class, "sensorTypeID", sensorTypeIDs) > 0) {
+            throw new IllegalArgumentException("sensorType already exists");
+        }
+
+        EntityManager em = getEntityManager();
+        List<SensorTypeDataModel> dataModels = new ArrayList<>(sensorTypes.size());
+        for (SensorType sensorType : sensorTypes) {
+            dataModels.add(new SensorTypeDataModel(sensorType));
+        }
+        JpaBatch.persistAll(em, dataModels);
+        em.close();
+
+        return sensorTypes;
+    }
+
+    /**
+     * Retrieves the sensor types with the given identities from the database, with a single query.
+     * @param ids The identities of the sensor types.
+     * @return The sensor types found, in no particular order.
+     */
+    @Override
+    public List<SensorType> ofIdentities(Iterable<SensorTypeID> ids) {
+        return Repository.ofIDs(ids, sensorTypeIDs -> SensorTypeDataModel.toDomain(_factorySensorType,
+                JpaBatch.findByIDs(getEntityManager(), SensorTypeDataModel.class, "sensorTypeID", sensorTypeIDs)));
+    }
+
+    /**
+     * Checks if every one of the given identities exists in the database, with a single query.
+     * @param ids The identities of the sensor types.
+     * @return true if every sensor type exists, or no identity is given, false otherwise.
+     */
+    @Override
+    public boolean containsAll(Iterable<SensorTypeID> ids) {
+        return Repository.containsAllIDs(ids, sensorTypeIDs -> JpaBatch.countByIDs(getEntityManager(), SensorTypeDataModel.class, "sensorTypeID", sensorTypeIDs));
+    }
 }
@@ -6,17 +6,25 @@ import smartHomeDDD.domain.valueobject.ActuatorID;
 import smartHomeDDD.domain.valueobject.DeviceId;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * RepositoryActuator is a class that implements the Repository interface for actuator objects.
  * It provides methods for storing actuator objects and retrieving them using their ActuatorID.
+ * The actuators are kept in a concurrent map with a secondary index by device, so the repository can be shared by
+ * concurrent requests and the actuators of a device are found without scanning every actuator.
  */
 public class RepositoryActuatorMem implements IRepositoryActuator {
 
     /**
      * The map to store actuator objects mapped by their ActuatorID.
      */
-    private final Map<ActuatorID, Actuator> DATA = new HashMap<>();
+    private final Map<ActuatorID, Actuator> DATA = new ConcurrentHashMap<>();
+
+    /**
+     * The identities of the actuators of each device.
+     */
+    private final SecondaryIndex<DeviceId, ActuatorID> BY_DEVICE = new SecondaryIndex<>();
 
     /**
      * Saves the provided actuator entity in the repository.
@@ -29,10 +37,13 @@ public class RepositoryActuatorMem implements IRepositoryActuator {
         if (entity == null) {
             throw new IllegalArgumentException("actuator cannot be null");
         }
-        if (containsOfIdentity(entity.identity())) {
-            throw new IllegalArgumentException("actuator already exists");
-        }
-        DATA.put(entity.identity(), entity);
+        DATA.compute(entity.identity(), (id, existing) -> {
+            if (existing != null) {
+                throw new IllegalArgumentException("actuator already exists");
+            }
+            BY_DEVICE.add(entity.getDeviceID(), id);
+            return entity;
+        });
         return entity;
     }
 
@@ -43,7 +54,10 @@ public class RepositoryActuatorMem implements IRepositoryActuator {
      */
     @Override
     public Actuator update(Actuator entity) {
-        DATA.put(entity.identity(), entity );
+        DATA.compute(entity.identity(), (id, existing) -> {
+            BY_DEVICE.move(existing == null ? null : existing.getDeviceID(), entity.getDeviceID(), id);
+            return entity;
+        });
         return entity;
     }
 
@@ -66,10 +80,10 @@ public class RepositoryActuatorMem implements IRepositoryActuator {
      */
     @Override
     public Optional<Actuator> ofIdentity(ActuatorID id) {
-        if (!containsOfIdentity(id))
+        if (id == null)
             return Optional.empty();
         else
-            return Optional.of(DATA.get(id));
+            return Optional.ofNullable(DATA.get(id));
     }
 
     /**
@@ -80,12 +94,7 @@ public class RepositoryActuatorMem implements IRepositoryActuator {
      */
     @Override
     public boolean containsOfIdentity(ActuatorID id) {
-        for (ActuatorID actuatorID : DATA.keySet()) {
-            if (actuatorID.equals(id)) {
-                return true;
-            }
-        }
-        return false;
+        return id != null && DATA.containsKey(id);
     }
 
     /**
@@ -97,14 +106,38 @@ public class RepositoryActuatorMem implements IRepositoryActuator {
     @Override
     public List<Actuator> getActuatorsByDeviceID(DeviceId id) {
         List<Actuator> actuatorsInDevice = new ArrayList<>();
-        Iterable<Actuator> allSensors = findAll();
-        for (Actuator actuator : allSensors) {
-            if (actuator.getDeviceID().equals(id)) {
+        for (ActuatorID actuatorID : BY_DEVICE.get(id)) {
+            Actuator actuator = DATA.get(actuatorID);
+            if (actuator != null && id.equals(actuator.getDeviceID())) {
                 actuatorsInDevice.add(actuator);
             }
         }
         return actuatorsInDevice;
     }
 
-
+    /**
+     * Saves a batch of Actuator entities in the repository.
+     * The whole batch is validated before any Actuator is stored, so either every Actuator is saved or none is.
+     *
+     * @param entities the Actuator entities to save.
+     * @return the saved Actuator entities.
+     * @throws IllegalArgumentException if the batch or any of its Actuators is null, or an Actuator already exists in the
+     * repository or is repeated in the batch.
+     */
+    @Override
+    public List<Actuator> saveAll(List<Actuator> entities) {
+        if (entities == null || entities.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("actuator cannot be null");
+        }
+        Set<ActuatorID> batchIdentities = new HashSet<>();
+        for (Actuator entity : entities) {
+            if (containsOfIdentity(entity.identity()) || !batchIdentities.add(entity.identity())) {
+                throw new IllegalArgumentException("actuator already exists");
+            }
+        }
+        for (Actuator entity : entities) {
+            save(entity);
+        }
+        return entities;
+    }
 }
@@ -1,5 +1,6 @@
 package smartHomeDDD.persistence.mem;
 
+import smartHomeDDD.ddd.Repository;
 import smartHomeDDD.domain.actuatorModel.ActuatorModel;
 import smartHomeDDD.domain.repository.IRepositoryActuatorModel;
 import smartHomeDDD.domain.valueobject.ActuatorModelID;
@@ -10,6 +11,7 @@ import org.apache.commons.configuration2.ex.ConfigurationException;
 
 import java.io.File;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Repository class for managing ActuatorModels.
@@ -19,7 +21,7 @@ public class RepositoryActuatorModelMem implements IRepositoryActuatorModel {
     /**
      * The map to store actuatorModel objects mapped by their ActuatorModelID.
      */
-    private final Map<ActuatorModelID, ActuatorModel> DATA = new HashMap<>();
+    private final Map<ActuatorModelID, ActuatorModel> DATA = new ConcurrentHashMap<>();
 
     /**
      * Reads actuator model names from a configuration file and returns them as an array.
@@ -45,10 +47,9 @@ public class RepositoryActuatorModelMem implements IRepositoryActuatorModel {
         if (entity == null) {
             throw new IllegalArgumentException("actuatorModel cannot be null");
         }
-        if( containsOfIdentity(entity.identity()) ){
+        if (DATA.putIfAbsent(entity.identity(), entity) != null) {
             throw new IllegalArgumentException("actuator already exists");
         }
-        DATA.put(entity.identity(), entity);
         return entity;
     }
 
@@ -85,12 +86,7 @@ public class RepositoryActuatorModelMem implements IRepositoryActuatorModel {
      */
     @Override
     public boolean containsOfIdentity(ActuatorModelID id) {
-        for (ActuatorModelID actuatorModelID : DATA.keySet()) {
-            if (actuatorModelID.equals(id)) {
-                return true;
-            }
-        }
-        return false;
+        return id != null && DATA.containsKey(id);
     }
 
     /**
@@ -111,4 +107,59 @@ public class RepositoryActuatorModelMem implements IRepositoryActuatorModel {
         return actuatorModels;
     }
 
+    /**
+     * Saves a batch of actuator models. The whole batch is checked before any actuator model is saved, so none of them is saved if one
+     * already exists or is repeated in the batch.
+     *
+     * @param entities the actuator models to save.
+     * @return the saved actuator models.
+     * @throws IllegalArgumentException if the batch or any of its actuator models is null.
+     * @throws IllegalArgumentException if an actuator model already exists or is repeated in the batch.
+     */
+    @Override
+    public List<ActuatorModel> saveAll(List<ActuatorModel> entities) {
+        if (entities == null || entities.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("actuatorModel cannot be null");
+        }
+        Set<ActuatorModelID> batchIdentities = new HashSet<>();
+        for (ActuatorModel entity : entities) {
+            if (containsOfIdentity(entity.identity()) || !batchIdentities.add(entity.identity())) {
+                throw new IllegalArgumentException("actuator already exists");
+            }
+        }
+        for (ActuatorModel entity : entities) {
+            save(entity);
+        }
+        return entities;
+    }
+
+    /**
+     * Retrieves the actuator models with the given identities, straight from the map.
+     *
+     * @param ids the identities of the actuator models.
+     * @return the actuator models found, in the order of their identities.
+     */
+    @Override
+    public List<ActuatorModel> ofIdentities(Iterable<ActuatorModelID> ids) {
+        List<ActuatorModel> found = new ArrayList<>();
+        for (ActuatorModelID id : Repository.distinct(ids)) {
+            ActuatorModel actuatorModel = id == null ? null : DATA.get(id);
+            if (actuatorModel != null) {
+                found.add(actuatorModel);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Checks if every one of the given identities is in the map.
+     *
+     * @param ids the identities of the actuator models.
+     * @return true if every actuator model exists, or no identity is given, false otherwise.
+     */
+    @Override
+    public boolean containsAll(Iterable<ActuatorModelID> ids) {
+        Set<ActuatorModelID> distinct = Repository.distinct(ids);
+        return !distinct.contains(null) && DATA.keySet().containsAll(distinct);
+    }
 }
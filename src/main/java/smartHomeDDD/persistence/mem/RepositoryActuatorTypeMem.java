@@ -1,12 +1,18 @@
 package smartHomeDDD.persistence.mem;
 
+import smartHomeDDD.ddd.Repository;
 import smartHomeDDD.domain.actuatorType.ActuatorType;
 import smartHomeDDD.domain.repository.IRepositoryActuatorType;
 import smartHomeDDD.domain.valueobject.ActuatorTypeID;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 /**
@@ -17,7 +23,7 @@ public class RepositoryActuatorTypeMem implements IRepositoryActuatorType
 {
 
     /** The map to store ActuatorType objects mapped by their ActuatorTypeID. */
-    private final Map<ActuatorTypeID, ActuatorType> DATA = new HashMap<>();
+    private final Map<ActuatorTypeID, ActuatorType> DATA = new ConcurrentHashMap<>();
 
     /**
      * Saves the provided ActuatorType entity in the repository.
@@ -30,10 +36,9 @@ public class RepositoryActuatorTypeMem implements IRepositoryActuatorType
         if (entity == null) {
             throw new IllegalArgumentException("ActuatorType cannot be null");
         }
-        if( containsOfIdentity(entity.identity()) ){
+        if (DATA.putIfAbsent(entity.identity(), entity) != null) {
             throw new IllegalArgumentException("actuator already exists");
         }
-        DATA.put( entity.identity(), entity );
         return entity;
     }
 
@@ -70,12 +75,7 @@ public class RepositoryActuatorTypeMem implements IRepositoryActuatorType
      * @return an ActuatorType entity, or null if not found.
      */
     public ActuatorTypeID findRepositoryId(ActuatorTypeID id) {
-        for (ActuatorTypeID repositoryId : DATA.keySet()) {
-            if (id.equals(repositoryId)) { // Compare content of IDs
-                return repositoryId;
-            }
-        }
-        return null; // Or throw an exception if the ID is not found
+        return containsOfIdentity(id) ? id : null;
     }
 
     /**
@@ -86,12 +86,62 @@ public class RepositoryActuatorTypeMem implements IRepositoryActuatorType
      */
     @Override
     public boolean containsOfIdentity(ActuatorTypeID id) {
-        for (ActuatorTypeID actuatorTypeID : DATA.keySet()) {
-            if (actuatorTypeID.equals(id)) {
-                return true;
+        return id != null && DATA.containsKey(id);
+    }
+
+    /**
+     * Saves a batch of actuator types. The whole batch is checked before any actuator type is saved, so none of them is saved if one
+     * already exists or is repeated in the batch.
+     *
+     * @param entities the actuator types to save.
+     * @return the saved actuator types.
+     * @throws IllegalArgumentException if the batch or any of its actuator types is null.
+     * @throws IllegalArgumentException if an actuator type already exists or is repeated in the batch.
+     */
+    @Override
+    public List<ActuatorType> saveAll(List<ActuatorType> entities) {
+        if (entities == null || entities.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("ActuatorType cannot be null");
+        }
+        Set<ActuatorTypeID> batchIdentities = new HashSet<>();
+        for (ActuatorType entity : entities) {
+            if (containsOfIdentity(entity.identity()) || !batchIdentities.add(entity.identity())) {
+                throw new IllegalArgumentException("actuator already exists");
+            }
+        }
+        for (ActuatorType entity : entities) {
+            save(entity);
+        }
+        return entities;
+    }
+
+    /**
+     * Retrieves the actuator types with the given identities, straight from the map.
+     *
+     * @param ids the identities of the actuator types.
+     * @return the actuator types found, in the order of their identities.
+     */
+    @Override
+    public List<ActuatorType> ofIdentities(Iterable<ActuatorTypeID> ids) {
+        List<ActuatorType> found = new ArrayList<>();
+        for (ActuatorTypeID id : Repository.distinct(ids)) {
+            ActuatorType actuatorType = id == null ? null : DATA.get(id);
+            if (actuatorType != null) {
+                found.add(actuatorType);
             }
         }
-        return false;
+        return found;
     }
 
+    /**
+     * Checks if every one of the given identities is in the map.
+     *
+     * @param ids the identities of the actuator types.
+     * @return true if every actuator type exists, or no identity is given, false otherwise.
+     */
+    @Override
+    public boolean containsAll(Iterable<ActuatorTypeID> ids) {
+        Set<ActuatorTypeID> distinct = Repository.distinct(ids);
+        return !distinct.contains(null) && DATA.keySet().containsAll(distinct);
+    }
 }
@@ -7,14 +7,31 @@ import smartHomeDDD.domain.valueobject.DeviceId;
 import smartHomeDDD.domain.valueobject.RoomID;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * In-memory implementation of the Device repository.
+ * The devices are kept in a concurrent map, with secondary indexes by room and by activation status, so the
+ * repository can be shared by concurrent requests and the devices of a room or the active devices are found
+ * without scanning every device.
  */
 
 public class RepositoryDeviceMem implements IRepositoryDevice {
 
-    private final Map<DeviceId, Device> DATA = new HashMap<>();
+    /**
+     * The devices, mapped by their DeviceId.
+     */
+    private final Map<DeviceId, Device> DATA = new ConcurrentHashMap<>();
+
+    /**
+     * The identities of the devices of each room.
+     */
+    private final SecondaryIndex<RoomID, DeviceId> BY_ROOM = new SecondaryIndex<>();
+
+    /**
+     * The identities of the devices by activation status.
+     */
+    private final SecondaryIndex<Boolean, DeviceId> BY_STATUS = new SecondaryIndex<>();
 
     /**
      * Saves the provided Device entity in the repository.
@@ -27,22 +44,33 @@ public class RepositoryDeviceMem implements IRepositoryDevice {
         if (entity == null) {
             throw new IllegalArgumentException("Device cannot be null");
         }
-        if (containsOfIdentity(entity.identity())) {
-            throw new DataIntegrityViolationException("Device already exists");
-        }
-        DATA.put(entity.identity(), entity);
+        DATA.compute(entity.identity(), (id, existing) -> {
+            if (existing != null) {
+                throw new DataIntegrityViolationException("Device already exists");
+            }
+            BY_ROOM.add(entity.getRoomId(), id);
+            BY_STATUS.add(isActive(entity), id);
+            return entity;
+        });
         return entity;
     }
 
     /**
      * Stores a Device object in the repository.
+     * The indexes are updated atomically with the device, so a device that was deactivated in place is moved to the
+     * inactive devices when it is updated.
      *
      * @param entity The Device object to be stored.
      * @return The Device object that was stored.
      */
     @Override
     public Device update(Device entity) {
-        DATA.put(entity.identity(), entity);
+        DATA.compute(entity.identity(), (id, existing) -> {
+            BY_ROOM.move(existing == null ? null : existing.getRoomId(), entity.getRoomId(), id);
+            boolean active = isActive(entity);
+            BY_STATUS.move(!active, active, id);
+            return entity;
+        });
         return entity;
     }
 
@@ -64,10 +92,10 @@ public class RepositoryDeviceMem implements IRepositoryDevice {
      */
     @Override
     public Optional<Device> ofIdentity(DeviceId id) {
-        if (!containsOfIdentity(id))
+        if (id == null)
             return Optional.empty();
         else
-            return Optional.of(DATA.get(id));
+            return Optional.ofNullable(DATA.get(id));
     }
 
     /**
@@ -78,12 +106,7 @@ public class RepositoryDeviceMem implements IRepositoryDevice {
      */
     @Override
     public boolean containsOfIdentity(DeviceId id) {
-        for (Device device : DATA.values()) {
-            if (device.identity().equals(id)) {
-                return true;
-            }
-        }
-        return false;
+        return id != null && DATA.containsKey(id);
     }
 
     /**
@@ -95,32 +118,67 @@ public class RepositoryDeviceMem implements IRepositoryDevice {
     @Override
     public List<Device> getDevicesInRoom(RoomID roomID) {
         List<Device> devicesInRoom = new ArrayList<>();
-        Iterable<Device> allDevices = findAll();
-
-        for (Device device : allDevices) {
-            if (device.getRoomId().equals(roomID)) {
+        for (DeviceId deviceId : BY_ROOM.get(roomID)) {
+            Device device = DATA.get(deviceId);
+            if (device != null && roomID.equals(device.getRoomId())) {
                 devicesInRoom.add(device);
             }
         }
         return devicesInRoom;
-
     }
 
     /**
      * Retrieves all active devices from the repository.
      *
+     * The devices indexed as active are checked again, as a device can be deactivated before it is updated.
+     *
      * @return A list of active Device objects. If no active devices are found, an empty list is returned.
      */
     @Override
     public List<Device> getActiveDevices() {
         List<Device> activeDevices = new ArrayList<>();
-        Iterable<Device> allDevices = findAll();
-
-        for (Device device : allDevices) {
-            if (device.getActivationStatus().toString().equals("true")) {
+        for (DeviceId deviceId : BY_STATUS.get(true)) {
+            Device device = DATA.get(deviceId);
+            if (device != null && isActive(device)) {
                 activeDevices.add(device);
             }
         }
         return activeDevices;
     }
+
+    /**
+     * Checks if a device is active.
+     *
+     * @param device The device to check.
+     * @return true if the device is active, false otherwise.
+     */
+    private static boolean isActive(Device device) {
+        return "true".equals(String.valueOf(device.getActivationStatus()));
+    }
+
+    /**
+     * Saves a batch of Device entities in the repository.
+     * The whole batch is validated before any Device is stored, so either every Device is saved or none is.
+     *
+     * @param entities the Device entities to save.
+     * @return the saved Device entities.
+     * @throws IllegalArgumentException if the batch or any of its Devices is null.
+     * @throws DataIntegrityViolationException if any Device already exists in the repository or is repeated in the batch.
+     */
+    @Override
+    public List<Device> saveAll(List<Device> entities) {
+        if (entities == null || entities.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Device cannot be null");
+        }
+        Set<DeviceId> batchIdentities = new HashSet<>();
+        for (Device entity : entities) {
+            if (containsOfIdentity(entity.identity()) || !batchIdentities.add(entity.identity())) {
+                throw new DataIntegrityViolationException("Device already exists");
+            }
+        }
+        for (Device entity : entities) {
+            save(entity);
+        }
+        return entities;
+    }
 }
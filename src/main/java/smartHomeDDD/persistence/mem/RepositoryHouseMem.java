@@ -1,14 +1,17 @@
 package smartHomeDDD.persistence.mem;
 
 import org.springframework.dao.DataIntegrityViolationException;
+import smartHomeDDD.ddd.Repository;
 import smartHomeDDD.domain.house.House;
 import smartHomeDDD.domain.repository.IRepositoryHouse;
 import smartHomeDDD.domain.valueobject.HouseId;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Implementation of a repository interface for managing houses.
+ * The houses are kept in a concurrent map, so the repository can be shared by concurrent requests.
  */
 //@Repository ("houseRepoMem")
 public class RepositoryHouseMem implements IRepositoryHouse {
@@ -18,7 +21,7 @@ public class RepositoryHouseMem implements IRepositoryHouse {
      * This map associates each house identifier (key of type {@link HouseId}) with its corresponding house entity
      * (value of type {@link House}). It serves as the internal storage mechanism for houses within the repository.
      */
-    private final Map<HouseId, House> DATA = new HashMap<>();
+    private final Map<HouseId, House> DATA = new ConcurrentHashMap<>();
 
     /**
      * Saves the provided house entity.
@@ -32,10 +35,9 @@ public class RepositoryHouseMem implements IRepositoryHouse {
         if (entity == null) {
             throw new IllegalArgumentException("House cannot be null");
         }
-        if (containsOfIdentity(entity.identity())) {
+        if (DATA.putIfAbsent(entity.identity(), entity) != null) {
             throw new DataIntegrityViolationException("House already exists");
         }
-        DATA.put(entity.identity(), entity );
         return entity;
     }
 
@@ -65,10 +67,10 @@ public class RepositoryHouseMem implements IRepositoryHouse {
      */
     @Override
     public Optional<House> ofIdentity(HouseId id) {
-        if( !containsOfIdentity(id) )
+        if( id == null )
             return Optional.empty();
         else
-            return Optional.of( DATA.get(id) );
+            return Optional.ofNullable( DATA.get(id) );
     }
 
     /**
@@ -78,11 +80,62 @@ public class RepositoryHouseMem implements IRepositoryHouse {
      */
     @Override
     public boolean containsOfIdentity(HouseId id) {
-        for (HouseId houseId : DATA.keySet()) {
-            if (houseId.equals(id)) {
-                return true;
+        return id != null && DATA.containsKey(id);
+    }
+
+    /**
+     * Saves a batch of houses. The whole batch is checked before any house is saved, so none of them is saved if one
+     * already exists or is repeated in the batch.
+     *
+     * @param entities the houses to save.
+     * @return the saved houses.
+     * @throws IllegalArgumentException if the batch or any of its houses is null.
+     * @throws DataIntegrityViolationException if a house already exists or is repeated in the batch.
+     */
+    @Override
+    public List<House> saveAll(List<House> entities) {
+        if (entities == null || entities.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("House cannot be null");
+        }
+        Set<HouseId> batchIdentities = new HashSet<>();
+        for (House entity : entities) {
+            if (containsOfIdentity(entity.identity()) || !batchIdentities.add(entity.identity())) {
+                throw new DataIntegrityViolationException("House already exists");
             }
         }
-        return false;
+        for (House entity : entities) {
+            save(entity);
+        }
+        return entities;
+    }
+
+    /**
+     * Retrieves the houses with the given identities, straight from the map.
+     *
+     * @param ids the identities of the houses.
+     * @return the houses found, in the order of their identities.
+     */
+    @Override
+    public List<House> ofIdentities(Iterable<HouseId> ids) {
+        List<House> found = new ArrayList<>();
+        for (HouseId id : Repository.distinct(ids)) {
+            House house = id == null ? null : DATA.get(id);
+            if (house != null) {
+                found.add(house);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Checks if every one of the given identities is in the map.
+     *
+     * @param ids the identities of the houses.
+     * @return true if every house exists, or no identity is given, false otherwise.
+     */
+    @Override
+    public boolean containsAll(Iterable<HouseId> ids) {
+        Set<HouseId> distinct = Repository.distinct(ids);
+        return !distinct.contains(null) && DATA.keySet().containsAll(distinct);
     }
 }
@@ -0,0 +1,75 @@
+package smartHomeDDD.persistence.mem;
+
+import smartHomeDDD.domain.repository.IRepositoryReadingRollup;
+import smartHomeDDD.domain.sensorReading.ReadingRollup;
+import smartHomeDDD.domain.sensorReading.RollupResolution;
+import smartHomeDDD.domain.valueobject.SensorID;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * RepositoryReadingRollupMem is an in-memory implementation of the IRepositoryReadingRollup interface.
+ * The rollups of each sensor and resolution are kept in a concurrent sorted map by bucket start, so a bucket is
+ * updated atomically and a time period is a contiguous sub map.
+ */
+public class RepositoryReadingRollupMem implements IRepositoryReadingRollup
+{
+    /**
+     * The rollups of each sensor and resolution, by bucket start.
+     */
+    private final Map<SeriesKey, ConcurrentNavigableMap<Long, ReadingRollup>> DATA = new ConcurrentHashMap<>();
+
+    /**
+     * Merges the readings of a rollup into the stored rollup of the same sensor, resolution and bucket, creating it
+     * if it does not exist.
+     *
+     * @param rollup The rollup with the new readings of a bucket.
+     * @return The updated rollup of the bucket.
+     * @throws IllegalArgumentException if the rollup is null.
+     */
+    @Override
+    public ReadingRollup merge(ReadingRollup rollup)
+    {
+        if (rollup == null) {
+            throw new IllegalArgumentException("Reading rollup cannot be null");
+        }
+        return DATA.computeIfAbsent(new SeriesKey(rollup.getSensorID(), rollup.getResolution()), key -> new ConcurrentSkipListMap<>())
+                .merge(rollup.getBucketStart().getTime(), rollup, ReadingRollup::merge);
+    }
+
+    /**
+     * Retrieves the rollups of a sensor at a given resolution whose buckets start within a time period,
+     * ordered by bucket start.
+     *
+     * @param sensorID The sensor.
+     * @param resolution The resolution of the rollups.
+     * @param start The start of the time period, included.
+     * @param end The end of the time period, excluded.
+     * @return The rollups of the sensor within the time period.
+     */
+    @Override
+    public List<ReadingRollup> findWithinPeriod(SensorID sensorID, RollupResolution resolution, Timestamp start, Timestamp end)
+    {
+        ConcurrentNavigableMap<Long, ReadingRollup> series = DATA.get(new SeriesKey(sensorID, resolution));
+        if (series == null || !start.before(end)) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(series.subMap(start.getTime(), true, end.getTime(), false).values());
+    }
+
+    /**
+     * The key of the rollups of a sensor at a resolution.
+     *
+     * @param sensorID The sensor.
+     * @param resolution The resolution.
+     */
+    private record SeriesKey(SensorID sensorID, RollupResolution resolution)
+    {
+    }
+}
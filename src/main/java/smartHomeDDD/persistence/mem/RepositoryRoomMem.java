@@ -1,22 +1,30 @@
 package smartHomeDDD.persistence.mem;
 
 import org.springframework.dao.DataIntegrityViolationException;
+import smartHomeDDD.ddd.Repository;
 import smartHomeDDD.domain.repository.IRepositoryRoom;
 import smartHomeDDD.domain.room.Room;
 import smartHomeDDD.domain.valueobject.HouseId;
 import smartHomeDDD.domain.valueobject.RoomID;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * In-memory repository for Room entities.
+ * The rooms are kept in a concurrent map with a secondary index by house, so the repository can be shared by
+ * concurrent requests and the rooms of a house are found without scanning every room.
  */
 
 public class RepositoryRoomMem implements IRepositoryRoom {
     /**
      * The map to store Room objects mapped by their RoomID.
      */
-    private final Map<RoomID, Room> DATA = new HashMap<>();
+    private final Map<RoomID, Room> DATA = new ConcurrentHashMap<>();
+    /**
+     * The identities of the rooms of each house.
+     */
+    private final SecondaryIndex<HouseId, RoomID> BY_HOUSE = new SecondaryIndex<>();
     /**
      * Saves the provided Room entity in the repository.
      *
@@ -28,10 +36,13 @@ public class RepositoryRoomMem implements IRepositoryRoom {
         if (entity == null) {
             throw new IllegalArgumentException("Room cannot be null");
         }
-        if( containsOfIdentity(entity.identity()) ){
-            throw new DataIntegrityViolationException("Room already exists");
-        }
-        DATA.put( entity.identity(), entity );
+        DATA.compute(entity.identity(), (id, existing) -> {
+            if (existing != null) {
+                throw new DataIntegrityViolationException("Room already exists");
+            }
+            BY_HOUSE.add(entity.getHouseId(), id);
+            return entity;
+        });
         return entity;
     }
 
@@ -52,10 +63,10 @@ public class RepositoryRoomMem implements IRepositoryRoom {
      */
     @Override
     public Optional<Room> ofIdentity(RoomID id) {
-        if( !containsOfIdentity(id) )
+        if( id == null )
             return Optional.empty();
         else
-            return Optional.of( DATA.get(id) );
+            return Optional.ofNullable( DATA.get(id) );
     }
     /**
      * Checks if the repository contains a Room entity with the specified RoomID.
@@ -65,12 +76,7 @@ public class RepositoryRoomMem implements IRepositoryRoom {
      */
     @Override
     public boolean containsOfIdentity(RoomID id) {
-        for (RoomID roomId : DATA.keySet()) {
-            if (roomId.equals(id)) {
-                return true;
-            }
-        }
-        return false;
+        return id != null && DATA.containsKey(id);
     }
     /**
      * Gets all rooms in a house.
@@ -81,9 +87,9 @@ public class RepositoryRoomMem implements IRepositoryRoom {
     @Override
     public List<Room> getRoomsByHouseID(HouseId houseId) {
         List<Room> roomsInHouse = new ArrayList<>();
-        Iterable <Room> allRooms = findAll();
-        for (Room room : allRooms) {
-            if (room.getHouseId().equals(houseId)) {
+        for (RoomID roomID : BY_HOUSE.get(houseId)) {
+            Room room = DATA.get(roomID);
+            if (room != null && houseId.equals(room.getHouseId())) {
                 roomsInHouse.add(room);
             }
         }
@@ -106,4 +112,60 @@ public class RepositoryRoomMem implements IRepositoryRoom {
         }
         return outsideRooms;
     }
+
+    /**
+     * Saves a batch of rooms. The whole batch is checked before any room is saved, so none of them is saved if one
+     * already exists or is repeated in the batch.
+     *
+     * @param entities the rooms to save.
+     * @return the saved rooms.
+     * @throws IllegalArgumentException if the batch or any of its rooms is null.
+     * @throws DataIntegrityViolationException if a room already exists or is repeated in the batch.
+     */
+    @Override
+    public List<Room> saveAll(List<Room> entities) {
+        if (entities == null || entities.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Room cannot be null");
+        }
+        Set<RoomID> batchIdentities = new HashSet<>();
+        for (Room entity : entities) {
+            if (containsOfIdentity(entity.identity()) || !batchIdentities.add(entity.identity())) {
+                throw new DataIntegrityViolationException("Room already exists");
+            }
+        }
+        for (Room entity : entities) {
+            save(entity);
+        }
+        return entities;
+    }
+
+    /**
+     * Retrieves the rooms with the given identities, straight from the map.
+     *
+     * @param ids the identities of the rooms.
+     * @return the rooms found, in the order of their identities.
+     */
+    @Override
+    public List<Room> ofIdentities(Iterable<RoomID> ids) {
+        List<Room> found = new ArrayList<>();
+        for (RoomID id : Repository.distinct(ids)) {
+            Room room = id == null ? null : DATA.get(id);
+            if (room != null) {
+                found.add(room);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Checks if every one of the given identities is in the map.
+     *
+     * @param ids the identities of the rooms.
+     * @return true if every room exists, or no identity is given, false otherwise.
+     */
+    @Override
+    public boolean containsAll(Iterable<RoomID> ids) {
+        Set<RoomID> distinct = Repository.distinct(ids);
+        return !distinct.contains(null) && DATA.keySet().containsAll(distinct);
+    }
 }
@@ -7,16 +7,24 @@ import smartHomeDDD.domain.valueobject.DeviceId;
 import smartHomeDDD.domain.valueobject.SensorID;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * RepositorySensorMem is a class that implements the IRepositorySensor interface for Sensor objects.
  * It provides methods for storing Sensor objects and retrieving them using their SensorID.
+ * The sensors are kept in a concurrent map with a secondary index by device, so the repository can be shared by
+ * concurrent requests and the sensors of a device are found without scanning every sensor.
  */
 public class RepositorySensorMem implements IRepositorySensor {
     /**
-     * A HashMap used for storing Sensor objects. The SensorID of a Sensor object is used as the key.
+     * A ConcurrentHashMap used for storing Sensor objects. The SensorID of a Sensor object is used as the key.
      */
-    private final Map<SensorID, Sensor> DATA = new HashMap<>();
+    private final Map<SensorID, Sensor> DATA = new ConcurrentHashMap<>();
+
+    /**
+     * The identities of the sensors of each device.
+     */
+    private final SecondaryIndex<DeviceId, SensorID> BY_DEVICE = new SecondaryIndex<>();
 
     /**
      * Saves the provided Sensor entity in the repository.
@@ -32,10 +40,13 @@ public class RepositorySensorMem implements IRepositorySensor {
         if (entity == null) {
             throw new IllegalArgumentException("Sensor cannot be null");
         }
-        if (containsOfIdentity(entity.identity())) {
-            throw new DataIntegrityViolationException("Sensor already exists");
-        }
-        DATA.put(entity.identity(), entity);
+        DATA.compute(entity.identity(), (id, existing) -> {
+            if (existing != null) {
+                throw new DataIntegrityViolationException("Sensor already exists");
+            }
+            BY_DEVICE.add(entity.getDeviceID(), id);
+            return entity;
+        });
         return entity;
     }
 
@@ -57,10 +68,10 @@ public class RepositorySensorMem implements IRepositorySensor {
      */
     @Override
     public Optional<Sensor> ofIdentity(SensorID id) {
-        if (!containsOfIdentity(id))
+        if (id == null)
             return Optional.empty();
         else
-            return Optional.of(DATA.get(id));
+            return Optional.ofNullable(DATA.get(id));
     }
 
     /**
@@ -71,11 +82,7 @@ public class RepositorySensorMem implements IRepositorySensor {
      */
     @Override
     public boolean containsOfIdentity(SensorID id) {
-        for (SensorID sensorID : DATA.keySet())
-            if (sensorID.equals(id)) {
-                return true;
-            }
-        return false;
+        return id != null && DATA.containsKey(id);
     }
 
     /**
@@ -88,22 +95,49 @@ public class RepositorySensorMem implements IRepositorySensor {
     @Override
     public List<Sensor> getSensorsByDeviceID(DeviceId id) {
         List<Sensor> sensorsInDevice = new ArrayList<>();
-        Iterable<Sensor> allSensors = findAll();
-        for (Sensor sensor : allSensors) {
-            if (sensor.getDeviceID().equals(id)) {
+        for (SensorID sensorID : BY_DEVICE.get(id)) {
+            Sensor sensor = DATA.get(sensorID);
+            if (sensor != null && id.equals(sensor.getDeviceID())) {
                 sensorsInDevice.add(sensor);
             }
         }
         return sensorsInDevice;
     }
 
+    /**
+     * Retrieves the SensorID of the Sensor object with the specified SensorID, if it exists in the repository.
+     *
+     * @param id The SensorID of the Sensor object to be checked.
+     * @return The SensorID if a Sensor object with it exists in the repository, null otherwise.
+     */
     @Override
     public SensorID containsOfIdentitySI(SensorID id) {
-        for (SensorID sensorID : DATA.keySet())
-            if (sensorID.equals(id)) {
-                return sensorID;
-            }
-        return null;
+        return containsOfIdentity(id) ? id : null;
     }
 
+    /**
+     * Saves a batch of Sensor entities in the repository.
+     * The whole batch is validated before any Sensor is stored, so either every Sensor is saved or none is.
+     *
+     * @param entities the Sensor entities to save.
+     * @return the saved Sensor entities.
+     * @throws IllegalArgumentException if the batch or any of its Sensors is null.
+     * @throws DataIntegrityViolationException if any Sensor already exists in the repository or is repeated in the batch.
+     */
+    @Override
+    public List<Sensor> saveAll(List<Sensor> entities) {
+        if (entities == null || entities.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Sensor cannot be null");
+        }
+        Set<SensorID> batchIdentities = new HashSet<>();
+        for (Sensor entity : entities) {
+            if (containsOfIdentity(entity.identity()) || !batchIdentities.add(entity.identity())) {
+                throw new DataIntegrityViolationException("Sensor already exists");
+            }
+        }
+        for (Sensor entity : entities) {
+            save(entity);
+        }
+        return entities;
+    }
 }
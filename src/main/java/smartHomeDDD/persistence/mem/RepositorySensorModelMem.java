@@ -1,11 +1,13 @@
 package smartHomeDDD.persistence.mem;
 
+import smartHomeDDD.ddd.Repository;
 import smartHomeDDD.domain.sensorModel.SensorModel;
 import smartHomeDDD.domain.repository.IRepositorySensorModel;
 import smartHomeDDD.domain.valueobject.SensorModelID;
 import smartHomeDDD.domain.valueobject.SensorTypeID;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * RepositorySensorModel is a class that implements the Repository interface for sensorModel objects.
@@ -16,9 +18,9 @@ import java.util.*;
 public class RepositorySensorModelMem implements IRepositorySensorModel {
 
     /**
-     * A HashMap used for storing sensorModel objects. The SensorModelID of a sensorModel object is used as the key.
+     * A ConcurrentHashMap used for storing sensorModel objects. The SensorModelID of a sensorModel object is used as the key.
      */
-    private final Map<SensorModelID, SensorModel> DATA = new HashMap<>();
+    private final Map<SensorModelID, SensorModel> DATA = new ConcurrentHashMap<>();
 
     /**
      * Saves the provided sensorModel entity in the repository.
@@ -34,9 +36,9 @@ public class RepositorySensorModelMem implements IRepositorySensorModel {
         if (entity == null) {
             throw new IllegalArgumentException("sensorModel cannot be null");
         }
-        if( containsOfIdentity(entity.identity()) ){
-            throw new IllegalArgumentException("Sensor Model already exists");}
-        DATA.put( entity.identity(), entity );
+        if (DATA.putIfAbsent(entity.identity(), entity) != null) {
+            throw new IllegalArgumentException("Sensor Model already exists");
+        }
         return entity;
     }
 
@@ -72,11 +74,7 @@ public class RepositorySensorModelMem implements IRepositorySensorModel {
      */
     @Override
     public boolean containsOfIdentity(SensorModelID id) {
-        for (SensorModelID sensorModelID : DATA.keySet())
-            if (sensorModelID.equals(id)) {
-                return true;
-            }
-        return false;
+        return id != null && DATA.containsKey(id);
     }
 /**
      * Retrieves a list of sensorModel objects with the specified SensorTypeID from the repository.
@@ -95,4 +93,60 @@ public class RepositorySensorModelMem implements IRepositorySensorModel {
         }
         return sensorModels;
     }
-}
\ No newline at end of file
+
+    /**
+     * Saves a batch of sensor models. The whole batch is checked before any sensor model is saved, so none of them is saved if one
+     * already exists or is repeated in the batch.
+     *
+     * @param entities the sensor models to save.
+     * @return the saved sensor models.
+     * @throws IllegalArgumentException if the batch or any of its sensor models is null.
+     * @throws IllegalArgumentException if a sensor model already exists or is repeated in the batch.
+     */
+    @Override
+    public List<SensorModel> saveAll(List<SensorModel> entities) {
+        if (entities == null || entities.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("sensorModel cannot be null");
+        }
+        Set<SensorModelID> batchIdentities = new HashSet<>();
+        for (SensorModel entity : entities) {
+            if (containsOfIdentity(entity.identity()) || !batchIdentities.add(entity.identity())) {
+                throw new IllegalArgumentException("Sensor Model already exists");
+            }
+        }
+        for (SensorModel entity : entities) {
+            save(entity);
+        }
+        return entities;
+    }
+
+    /**
+     * Retrieves the sensor models with the given identities, straight from the map.
+     *
+     * @param ids the identities of the sensor models.
+     * @return the sensor models found, in the order of their identities.
+     */
+    @Override
+    public List<SensorModel> ofIdentities(Iterable<SensorModelID> ids) {
+        List<SensorModel> found = new ArrayList<>();
+        for (SensorModelID id : Repository.distinct(ids)) {
+            SensorModel sensorModel = id == null ? null : DATA.get(id);
+            if (sensorModel != null) {
+                found.add(sensorModel);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Checks if every one of the given identities is in the map.
+     *
+     * @param ids the identities of the sensor models.
+     * @return true if every sensor model exists, or no identity is given, false otherwise.
+     */
+    @Override
+    public boolean containsAll(Iterable<SensorModelID> ids) {
+        Set<SensorModelID> distinct = Repository.distinct(ids);
+        return !distinct.contains(null) && DATA.keySet().containsAll(distinct);
+    }
+}
@@ -0,0 +1,589 @@
+package smartHomeDDD.persistence.mem;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import smartHomeDDD.domain.repository.IRepositorySensorReading;
+import smartHomeDDD.domain.sensorReading.SensorReading;
+import smartHomeDDD.domain.sensorReading.SensorReadingCursor;
+import smartHomeDDD.domain.valueobject.DeviceId;
+import smartHomeDDD.domain.valueobject.Reading;
+import smartHomeDDD.domain.valueobject.SensorID;
+import smartHomeDDD.domain.valueobject.SensorReadingID;
+
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * RepositorySensorReadingColumnarMem is an in-memory implementation of the IRepositorySensorReading interface
+ * that stores SensorReading objects as per-sensor time series.
+ * Readings are partitioned by the device and sensor they belong to, and each partition keeps its readings sorted by
+ * timestamp in primitive columns: the epoch milliseconds in a long[] and the reading value as a code into a shared
+ * dictionary of distinct readings.
+ * Range queries are answered with a binary search followed by a contiguous slice of the partition, and the latest
+ * reading of a sensor is the last row of its partitions.
+ * The columns are guarded by a read-write lock, so concurrent queries share the repository and a save excludes
+ * them only while it inserts its row.
+ */
+public class RepositorySensorReadingColumnarMem implements IRepositorySensorReading
+{
+    /**
+     * A HashMap used for identity lookups. The SensorReadingID of a SensorReading object is used as the key.
+     */
+    private final Map<SensorReadingID, SensorReading> DATA = new HashMap<>();
+
+    /**
+     * The time series of each device and sensor pair.
+     */
+    private final Map<SeriesKey, SensorSeries> _seriesByKey = new HashMap<>();
+
+    /**
+     * The time series that belong to each device.
+     */
+    private final Map<DeviceId, List<SensorSeries>> _seriesByDevice = new HashMap<>();
+
+    /**
+     * The time series that belong to each sensor.
+     */
+    private final Map<SensorID, List<SensorSeries>> _seriesBySensor = new HashMap<>();
+
+    /**
+     * The dictionary shared by the value columns of every time series.
+     */
+    private final ReadingDictionary _dictionary = new ReadingDictionary();
+
+    /**
+     * The lock that guards the maps and the columns of the time series.
+     */
+    private final ReadWriteLock _lock = new ReentrantReadWriteLock();
+
+    /**
+     * Saves the provided SensorReading entity in the repository.
+     * Readings without a timestamp cannot be placed in a time series, so they are only kept for identity lookups.
+     *
+     * @param entity the SensorReading entity to save.
+     * @return the saved SensorReading entity.
+     * @throws IllegalArgumentException if the SensorReading is null.
+     * @throws DataIntegrityViolationException if a SensorReading with the same identity already exists in the repository.
+     */
+    @Override
+    public SensorReading save(SensorReading entity)
+    {
+        if (entity == null) {
+            throw new IllegalArgumentException("SensorReading cannot be null");
+        }
+        return write(() -> {
+            if (containsOfIdentity(entity.identity())) {
+                throw new DataIntegrityViolationException("SensorReading already exists");
+            }
+            DATA.put(entity.identity(), entity);
+
+            Timestamp timeStamp = entity.getTimeStamp();
+            if (timeStamp != null) {
+                int valueCode = _dictionary.encode(entity.getReading());
+                seriesOf(entity.getDeviceID(), entity.getSensorID()).insert(timeStamp.getTime(), valueCode, entity);
+            }
+            return entity;
+        });
+    }
+
+    /**
+     * Retrieves all SensorReading objects stored in the repository.
+     *
+     * @return An Iterable containing a copy of all SensorReading objects in the repository.
+     */
+    @Override
+    public Iterable<SensorReading> findAll()
+    {
+        return read(() -> new ArrayList<>(DATA.values()));
+    }
+
+    /**
+     * Retrieves a SensorReading object with the specified SensorReadingID from the repository.
+     *
+     * @param id The SensorReadingID of the SensorReading object to be retrieved.
+     * @return An Optional containing the SensorReading object if it exists in the repository, or an empty Optional if it does not.
+     */
+    @Override
+    public Optional<SensorReading> ofIdentity(SensorReadingID id)
+    {
+        return read(() -> Optional.ofNullable(DATA.get(id)));
+    }
+
+    /**
+     * Checks if a SensorReading object with the specified SensorReadingID exists in the repository.
+     *
+     * @param id The SensorReadingID of the SensorReading object to check for.
+     * @return true if a SensorReading object with the specified SensorReadingID exists in the repository, false otherwise.
+     */
+    @Override
+    public boolean containsOfIdentity(SensorReadingID id)
+    {
+        return read(() -> DATA.containsKey(id));
+    }
+
+    /**
+     * Retrieves the readings of a device within a given time period, both ends included, ordered by timestamp.
+     *
+     * @param deviceID The unique identifier of the device.
+     * @param start The start of the time period.
+     * @param end The end of the time period.
+     * @return A list of SensorReading objects.
+     * @throws IllegalArgumentException if the start time is after the end time.
+     */
+    @Override
+    public List<SensorReading> getMeasurementsFromDeviceWithinPeriod(DeviceId deviceID, Timestamp start, Timestamp end)
+    {
+        if (start.after(end)) {
+            throw new IllegalArgumentException("Invalid time period");
+        }
+        return read(() -> sliceOf(_seriesByDevice.getOrDefault(deviceID, List.of()), start.getTime(), end.getTime()));
+    }
+
+    /**
+     * Retrieves the readings of a sensor of a device within a given time period, both ends included, ordered by timestamp.
+     *
+     * @param deviceId The unique identifier of the device.
+     * @param sensorIDIndoors The unique identifier of the sensor.
+     * @param start The start of the time period.
+     * @param end The end of the time period.
+     * @return A list of SensorReading objects.
+     */
+    @Override
+    public List<SensorReading> getSensorReadingsBetweenTimestamp(DeviceId deviceId, SensorID sensorIDIndoors, Timestamp start, Timestamp end)
+    {
+        return read(() -> {
+            SensorSeries series = _seriesByKey.get(new SeriesKey(deviceId, sensorIDIndoors));
+            if (series == null) {
+                return new ArrayList<>();
+            }
+            return sliceOf(List.of(series), start.getTime(), end.getTime());
+        });
+    }
+
+    /**
+     * Retrieves the reading of a sensor with the most recent timestamp.
+     *
+     * @param sensorID the unique identifier of the sensor
+     * @return the latest reading from the sensor, or an empty Optional if the sensor has no readings.
+     */
+    @Override
+    public Optional<SensorReading> getLatestReadingFromSensor(SensorID sensorID)
+    {
+        return read(() -> {
+            SensorReading latestReading = null;
+            for (SensorSeries series : _seriesBySensor.getOrDefault(sensorID, List.of())) {
+                SensorReading last = series.last();
+                if (latestReading == null || last.getTimeStamp().after(latestReading.getTimeStamp())) {
+                    latestReading = last;
+                }
+            }
+            return Optional.ofNullable(latestReading);
+        });
+    }
+
+    /**
+     * Retrieves all the readings of a device, ordered by timestamp.
+     *
+     * @param deviceId The unique identifier of the device.
+     * @return A list of SensorReading objects.
+     */
+    @Override
+    public List<SensorReading> getSensorReadingsByDeviceId(DeviceId deviceId)
+    {
+        return read(() -> sliceOf(_seriesByDevice.getOrDefault(deviceId, List.of()), Long.MIN_VALUE, Long.MAX_VALUE));
+    }
+
+    /**
+     * Passes every SensorReading of a device to an action, ordered by timestamp.
+     * The readings are sliced before the action runs, so a slow action does not hold the lock.
+     *
+     * @param deviceId The ID of the device.
+     * @param action The action to perform on each SensorReading.
+     */
+    @Override
+    public void forEachSensorReadingOfDevice(DeviceId deviceId, Consumer<SensorReading> action)
+    {
+        getSensorReadingsByDeviceId(deviceId).forEach(action);
+    }
+
+    /**
+     * Retrieves a page of the SensorReadings of a device, ordered by timestamp and then by ID, starting right after
+     * a cursor. The period is a binary searched slice of each series of the device.
+     *
+     * @param deviceId The ID of the device.
+     * @param start The start of the time period, included, or null for no start.
+     * @param end The end of the time period, included, or null for no end.
+     * @param after The cursor after which the page starts, or null for the first page.
+     * @param limit The maximum number of SensorReadings in the page.
+     * @return The SensorReadings of the page.
+     */
+    @Override
+    public List<SensorReading> getSensorReadingsPageFromDevice(DeviceId deviceId, Timestamp start, Timestamp end, SensorReadingCursor after, int limit)
+    {
+        long startMillis = Math.max(start == null ? Long.MIN_VALUE : start.getTime(),
+                after == null ? Long.MIN_VALUE : after.getTimeStamp().getTime());
+        long endMillis = end == null ? Long.MAX_VALUE : end.getTime();
+        return read(() -> sliceOf(_seriesByDevice.getOrDefault(deviceId, List.of()), startMillis, endMillis)).stream()
+                .filter(reading -> after == null || after.isBefore(reading))
+                .sorted(SensorReadingCursor.ORDER)
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Saves a batch of SensorReading entities in the repository.
+     * The whole batch is validated before any reading is stored, so either every reading is saved or none is.
+     *
+     * @param entities the SensorReading entities to save.
+     * @return the saved SensorReading entities.
+     * @throws IllegalArgumentException if the batch or any of its SensorReadings is null.
+     * @throws DataIntegrityViolationException if any SensorReading already exists in the repository or is repeated in the batch.
+     */
+    @Override
+    public List<SensorReading> saveAll(List<SensorReading> entities)
+    {
+        if (entities == null || entities.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("SensorReading cannot be null");
+        }
+        return write(() -> {
+            Set<SensorReadingID> batchIdentities = new HashSet<>();
+            for (SensorReading entity : entities) {
+                if (containsOfIdentity(entity.identity()) || !batchIdentities.add(entity.identity())) {
+                    throw new DataIntegrityViolationException("SensorReading already exists");
+                }
+            }
+            for (SensorReading entity : entities) {
+                save(entity);
+            }
+            return entities;
+        });
+    }
+
+    /**
+     * Calculates the average of the numeric readings of a device within a given time period, both ends included.
+     * The average is computed from the value columns, without going through the SensorReading objects.
+     * Readings whose value is not a number are ignored.
+     *
+     * @param deviceID The unique identifier of the device.
+     * @param start The start of the time period.
+     * @param end The end of the time period.
+     * @return The average of the readings, or 0 if the device has no numeric readings within the period.
+     * @throws IllegalArgumentException if the start time is after the end time.
+     */
+    @Override
+    public double getAverageReadingWithinPeriod(DeviceId deviceID, Timestamp start, Timestamp end)
+    {
+        if (start.after(end)) {
+            throw new IllegalArgumentException("Invalid time period");
+        }
+        return read(() -> {
+            double sum = 0;
+            long count = 0;
+            for (SensorSeries series : _seriesByDevice.getOrDefault(deviceID, List.of())) {
+                int from = series.lowerBound(start.getTime());
+                int to = series.upperBound(end.getTime());
+                for (int i = from; i < to; i++) {
+                    double value = _dictionary.numericValueOf(series._valueCodes[i]);
+                    if (!Double.isNaN(value)) {
+                        sum += value;
+                        count++;
+                    }
+                }
+            }
+            return count > 0 ? sum / count : 0;
+        });
+    }
+
+    /**
+     * Retrieves the time series of a device and sensor pair, creating and indexing it if it does not exist yet.
+     *
+     * @param deviceId The unique identifier of the device.
+     * @param sensorID The unique identifier of the sensor.
+     * @return The time series of the device and sensor pair.
+     */
+    private SensorSeries seriesOf(DeviceId deviceId, SensorID sensorID)
+    {
+        SeriesKey key = new SeriesKey(deviceId, sensorID);
+        SensorSeries series = _seriesByKey.get(key);
+        if (series == null) {
+            series = new SensorSeries();
+            _seriesByKey.put(key, series);
+            _seriesByDevice.computeIfAbsent(deviceId, id -> new ArrayList<>()).add(series);
+            _seriesBySensor.computeIfAbsent(sensorID, id -> new ArrayList<>()).add(series);
+        }
+        return series;
+    }
+
+    /**
+     * Collects the rows of the given time series within a time range, both ends included.
+     * Each slice is already sorted, so sorting the concatenation only merges the runs.
+     *
+     * @param seriesList The time series to slice.
+     * @param startMillis The start of the time range, in epoch milliseconds.
+     * @param endMillis The end of the time range, in epoch milliseconds.
+     * @return A list of SensorReading objects ordered by timestamp.
+     */
+    private List<SensorReading> sliceOf(List<SensorSeries> seriesList, long startMillis, long endMillis)
+    {
+        List<SensorReading> readings = new ArrayList<>();
+        for (SensorSeries series : seriesList) {
+            series.addRange(startMillis, endMillis, readings);
+        }
+        if (seriesList.size() > 1) {
+            readings.sort(Comparator.comparing(SensorReading::getTimeStamp));
+        }
+        return readings;
+    }
+
+    /**
+     * Identifies the time series of a device and sensor pair.
+     *
+     * @param deviceId The unique identifier of the device.
+     * @param sensorID The unique identifier of the sensor.
+     */
+    private record SeriesKey(DeviceId deviceId, SensorID sensorID)
+    {
+    }
+
+    /**
+     * The readings of one device and sensor pair, kept in parallel columns sorted by timestamp.
+     */
+    private static final class SensorSeries
+    {
+        /**
+         * The initial capacity of the columns.
+         */
+        private static final int INITIAL_CAPACITY = 16;
+
+        /**
+         * The timestamps of the readings, in epoch milliseconds.
+         */
+        private long[] _times = new long[INITIAL_CAPACITY];
+
+        /**
+         * The dictionary codes of the reading values.
+         */
+        private int[] _valueCodes = new int[INITIAL_CAPACITY];
+
+        /**
+         * The readings themselves, returned as the result of the queries.
+         */
+        private SensorReading[] _rows = new SensorReading[INITIAL_CAPACITY];
+
+        /**
+         * The number of readings in the series.
+         */
+        private int _size;
+
+        /**
+         * Inserts a reading keeping the columns sorted by timestamp.
+         * Readings usually arrive in time order, in which case the insertion is an append.
+         *
+         * @param time The timestamp of the reading, in epoch milliseconds.
+         * @param valueCode The dictionary code of the reading value.
+         * @param row The reading.
+         */
+        void insert(long time, int valueCode, SensorReading row)
+        {
+            if (_size == _times.length) {
+                int capacity = _size * 2;
+                _times = Arrays.copyOf(_times, capacity);
+                _valueCodes = Arrays.copyOf(_valueCodes, capacity);
+                _rows = Arrays.copyOf(_rows, capacity);
+            }
+            int position = _size;
+            if (_size > 0 && _times[_size - 1] > time) {
+                position = upperBound(time);
+                System.arraycopy(_times, position, _times, position + 1, _size - position);
+                System.arraycopy(_valueCodes, position, _valueCodes, position + 1, _size - position);
+                System.arraycopy(_rows, position, _rows, position + 1, _size - position);
+            }
+            _times[position] = time;
+            _valueCodes[position] = valueCode;
+            _rows[position] = row;
+            _size++;
+        }
+
+        /**
+         * Adds the readings within a time range, both ends included, to the given list.
+         *
+         * @param startMillis The start of the time range, in epoch milliseconds.
+         * @param endMillis The end of the time range, in epoch milliseconds.
+         * @param readings The list to add the readings to.
+         */
+        void addRange(long startMillis, long endMillis, List<SensorReading> readings)
+        {
+            int from = lowerBound(startMillis);
+            int to = upperBound(endMillis);
+            for (int i = from; i < to; i++) {
+                readings.add(_rows[i]);
+            }
+        }
+
+        /**
+         * Returns the reading with the most recent timestamp.
+         *
+         * @return the reading with the most recent timestamp.
+         */
+        SensorReading last()
+        {
+            return _rows[_size - 1];
+        }
+
+        /**
+         * Finds the first position whose timestamp is not before the given time.
+         *
+         * @param time The time, in epoch milliseconds.
+         * @return The first position whose timestamp is greater than or equal to the time.
+         */
+        int lowerBound(long time)
+        {
+            int low = 0;
+            int high = _size;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (_times[middle] < time) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Finds the first position whose timestamp is after the given time.
+         *
+         * @param time The time, in epoch milliseconds.
+         * @return The first position whose timestamp is greater than the time.
+         */
+        int upperBound(long time)
+        {
+            int low = 0;
+            int high = _size;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (_times[middle] <= time) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * Dictionary encoding of the reading values.
+     * Sensors report a small set of distinct values, so each one is stored once and referenced by its code.
+     */
+    private static final class ReadingDictionary
+    {
+        /**
+         * The code of each distinct reading value.
+         */
+        private final Map<Reading, Integer> _codes = new HashMap<>();
+
+        /**
+         * The numeric value of each distinct reading, indexed by code, or NaN if the reading is not a number.
+         */
+        private double[] _numericValues = new double[16];
+
+        /**
+         * Returns the code of a reading value, adding it to the dictionary if it is new.
+         *
+         * @param reading The reading value.
+         * @return The code of the reading value.
+         */
+        int encode(Reading reading)
+        {
+            Integer code = _codes.get(reading);
+            if (code == null) {
+                code = _codes.size();
+                _codes.put(reading, code);
+                if (code == _numericValues.length) {
+                    _numericValues = Arrays.copyOf(_numericValues, code * 2);
+                }
+                _numericValues[code] = parse(reading);
+            }
+            return code;
+        }
+
+        /**
+         * Returns the numeric value of a reading value code.
+         *
+         * @param code The code of the reading value.
+         * @return The numeric value of the reading, or NaN if the reading is not a number.
+         */
+        double numericValueOf(int code)
+        {
+            return _numericValues[code];
+        }
+
+        /**
+         * Parses a reading value as a number.
+         *
+         * @param reading The reading value.
+         * @return The numeric value of the reading, or NaN if the reading is not a number.
+         */
+        private static double parse(Reading reading)
+        {
+            if (reading == null || !reading.isNumeric()) {
+                return Double.NaN;
+            }
+            return reading.toDouble();
+        }
+    }
+
+    /**
+     * Retrieves the latest reading of each sensor that has readings, from the last row of each series.
+     *
+     * @return A list with the reading with the most recent timestamp of each sensor.
+     */
+    @Override
+    public List<SensorReading> getLatestReadingOfEachSensor()
+    {
+        return read(() -> {
+            List<SensorReading> latestReadings = new ArrayList<>();
+            for (SensorID sensorID : _seriesBySensor.keySet()) {
+                getLatestReadingFromSensor(sensorID).ifPresent(latestReadings::add);
+            }
+            return latestReadings;
+        });
+    }
+
+    /**
+     * Runs a query while holding the read lock.
+     *
+     * @param query The query to run.
+     * @return The result of the query.
+     */
+    private <R> R read(Supplier<R> query)
+    {
+        _lock.readLock().lock();
+        try {
+            return query.get();
+        } finally {
+            _lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Runs a command while holding the write lock.
+     *
+     * @param command The command to run.
+     * @return The result of the command.
+     */
+    private <R> R write(Supplier<R> command)
+    {
+        _lock.writeLock().lock();
+        try {
+            return command.get();
+        } finally {
+            _lock.writeLock().unlock();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package smartHomeDDD.persistence.mem;
 
 import org.springframework.dao.DataIntegrityViolationException;
 import smartHomeDDD.domain.sensorReading.SensorReading;
+import smartHomeDDD.domain.sensorReading.SensorReadingCursor;
 import smartHomeDDD.domain.repository.IRepositorySensorReading;
 import smartHomeDDD.domain.valueobject.DeviceId;
 import smartHomeDDD.domain.valueobject.SensorID;
@@ -9,6 +10,8 @@ import smartHomeDDD.domain.valueobject.SensorReadingID;
 
 import java.sql.Timestamp;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 /**
  * RepositorySensorReadingMem is a class that implements the IRepositorySensorReading interface for SensorReading objects.
@@ -18,9 +21,9 @@ import java.util.*;
 public class RepositorySensorReadingMem implements IRepositorySensorReading
 {
     /**
-     * A HashMap used for storing SensorReading objects. The SensorReadingID of a SensorReading object is used as the key.
+     * A ConcurrentHashMap used for storing SensorReading objects. The SensorReadingID of a SensorReading object is used as the key.
      */
-    private final Map<SensorReadingID, SensorReading> DATA = new HashMap<>();
+    private final Map<SensorReadingID, SensorReading> DATA = new ConcurrentHashMap<>();
 
     /**
      * Saves the provided SensorReading entity in the repository.
@@ -37,10 +40,9 @@ public class RepositorySensorReadingMem implements IRepositorySensorReading
         if (entity == null) {
             throw new IllegalArgumentException("SensorReading cannot be null");
         }
-        if (containsOfIdentity(entity.identity())) {
+        if (DATA.putIfAbsent(entity.identity(), entity) != null) {
             throw new DataIntegrityViolationException("SensorReading already exists");
         }
-        DATA.put(entity.identity(), entity);
         return entity;
     }
 
@@ -79,12 +81,7 @@ public class RepositorySensorReadingMem implements IRepositorySensorReading
     @Override
     public boolean containsOfIdentity(SensorReadingID id)
     {
-        for (SensorReadingID sensorReadingID : DATA.keySet()) {
-            if (sensorReadingID.equals(id)) {
-                return true;
-            }
-        }
-        return false;
+        return id != null && DATA.containsKey(id);
     }
 
     /**
@@ -170,24 +167,18 @@ public class RepositorySensorReadingMem implements IRepositorySensorReading
      * Method to retrieve the latest reading from a specific Sensor
      *
      * @param sensorID the unique identifier of the sensor
-     * @return the latest reading from a Sensor
+     * @return the reading from the Sensor with the most recent timestamp, or an empty Optional if it has no readings
      */
 
     @Override
     public Optional<SensorReading> getLatestReadingFromSensor(SensorID sensorID) {
-        List<SensorReading> readingsFromSensor = getReadingsFromSensor(sensorID);
-        SensorReading latestReading = readingsFromSensor.get(0);
-        Timestamp currentTime = new Timestamp(System.currentTimeMillis());
-        Timestamp closestTimestamp = latestReading.getTimeStamp();
-        long closestDifference = Math.abs(currentTime.getTime() - closestTimestamp.getTime());
-        for (SensorReading reading : readingsFromSensor) {
-            long difference = Math.abs(currentTime.getTime() - reading.getTimeStamp().getTime());
-            if (difference < closestDifference) {
-                closestDifference = difference;
+        SensorReading latestReading = null;
+        for (SensorReading reading : getReadingsFromSensor(sensorID)) {
+            if (latestReading == null || reading.getTimeStamp().after(latestReading.getTimeStamp())) {
                 latestReading = reading;
             }
         }
-        return Optional.of(latestReading);
+        return Optional.ofNullable(latestReading);
     }
 
     /**
@@ -220,4 +211,106 @@ public class RepositorySensorReadingMem implements IRepositorySensorReading
         return readingsFromDevice;
     }
 
+    /**
+     * Passes every SensorReading of a device to an action, ordered by timestamp.
+     *
+     * @param deviceId The ID of the device.
+     * @param action The action to perform on each SensorReading.
+     */
+    @Override
+    public void forEachSensorReadingOfDevice(DeviceId deviceId, Consumer<SensorReading> action)
+    {
+        List<SensorReading> readingsFromDevice = getSensorReadingsByDeviceId(deviceId);
+        readingsFromDevice.sort(Comparator.comparing(SensorReading::getTimeStamp));
+        readingsFromDevice.forEach(action);
+    }
+
+    /**
+     * Retrieves a page of the SensorReadings of a device, ordered by timestamp and then by ID, starting right after
+     * a cursor.
+     *
+     * @param deviceId The ID of the device.
+     * @param start The start of the time period, included, or null for no start.
+     * @param end The end of the time period, included, or null for no end.
+     * @param after The cursor after which the page starts, or null for the first page.
+     * @param limit The maximum number of SensorReadings in the page.
+     * @return The SensorReadings of the page.
+     */
+    @Override
+    public List<SensorReading> getSensorReadingsPageFromDevice(DeviceId deviceId, Timestamp start, Timestamp end, SensorReadingCursor after, int limit)
+    {
+        return getSensorReadingsByDeviceId(deviceId).stream()
+                .filter(reading -> start == null || !reading.getTimeStamp().before(start))
+                .filter(reading -> end == null || !reading.getTimeStamp().after(end))
+                .filter(reading -> after == null || after.isBefore(reading))
+                .sorted(SensorReadingCursor.ORDER)
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Saves a batch of SensorReading entities in the repository.
+     * The whole batch is validated before any reading is stored, so either every reading is saved or none is.
+     *
+     * @param entities the SensorReading entities to save.
+     * @return the saved SensorReading entities.
+     * @throws IllegalArgumentException if the batch or any of its SensorReadings is null.
+     * @throws DataIntegrityViolationException if any SensorReading already exists in the repository or is repeated in the batch.
+     */
+    @Override
+    public List<SensorReading> saveAll(List<SensorReading> entities)
+    {
+        if (entities == null || entities.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("SensorReading cannot be null");
+        }
+        Set<SensorReadingID> batchIdentities = new HashSet<>();
+        for (SensorReading entity : entities) {
+            if (containsOfIdentity(entity.identity()) || !batchIdentities.add(entity.identity())) {
+                throw new DataIntegrityViolationException("SensorReading already exists");
+            }
+        }
+        for (SensorReading entity : entities) {
+            save(entity);
+        }
+        return entities;
+    }
+
+    /**
+     * Calculates the average of the numeric readings of a device within a given time period, with the same bounds
+     * as getMeasurementsFromDeviceWithinPeriod. Readings that are not numbers are ignored.
+     *
+     * @param deviceID The unique identifier of the device.
+     * @param start The start of the time period.
+     * @param end The end of the time period.
+     * @return The average of the readings, or 0 if the device has no numeric readings within the period.
+     */
+    @Override
+    public double getAverageReadingWithinPeriod(DeviceId deviceID, Timestamp start, Timestamp end)
+    {
+        double sum = 0;
+        int count = 0;
+        for (SensorReading sensorReading : getMeasurementsFromDeviceWithinPeriod(deviceID, start, end)) {
+            if (sensorReading.getReading().isNumeric()) {
+                sum += sensorReading.getReading().toDouble();
+                count++;
+            }
+        }
+        return count > 0 ? sum / count : 0;
+    }
+
+    /**
+     * Retrieves the latest reading of each sensor that has readings.
+     *
+     * @return A list with the reading with the most recent timestamp of each sensor.
+     */
+    @Override
+    public List<SensorReading> getLatestReadingOfEachSensor()
+    {
+        Map<SensorID, SensorReading> latestReadings = new HashMap<>();
+        for (SensorReading reading : findAll()) {
+            latestReadings.merge(reading.getSensorID(), reading,
+                    (latest, candidate) -> candidate.getTimeStamp().after(latest.getTimeStamp()) ? candidate : latest);
+        }
+        return new ArrayList<>(latestReadings.values());
+    }
 }
@@ -1,13 +1,19 @@
 package smartHomeDDD.persistence.mem;
 
 import org.springframework.dao.DataIntegrityViolationException;
+import smartHomeDDD.ddd.Repository;
 import smartHomeDDD.domain.sensorType.SensorType;
 import smartHomeDDD.domain.repository.IRepositorySensorType;
 import smartHomeDDD.domain.valueobject.SensorTypeID;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * RepositorySensorTypeMem is a class that implements the IRepositorySensorType interface for sensorType objects.
@@ -16,9 +22,9 @@ import java.util.Optional;
 public class RepositorySensorTypeMem implements IRepositorySensorType {
 
     /**
-     * A HashMap used for storing sensorType objects. The SensorTypeID of a sensorType object is used as the key.
+     * A ConcurrentHashMap used for storing sensorType objects. The SensorTypeID of a sensorType object is used as the key.
      */
-    private final Map<SensorTypeID, SensorType> DATA = new HashMap<>();
+    private final Map<SensorTypeID, SensorType> DATA = new ConcurrentHashMap<>();
 
     /**
      * Saves the provided sensorType entity in the repository.
@@ -34,10 +40,9 @@ public class RepositorySensorTypeMem implements IRepositorySensorType {
         if (entity == null) {
             throw new IllegalArgumentException("sensorType cannot be null");
         }
-        if( containsOfIdentity(entity.identity()) ){
+        if (DATA.putIfAbsent(entity.identity(), entity) != null) {
             throw new DataIntegrityViolationException("Sensor Type already exists");
         }
-        DATA.put( entity.identity(), entity );
         return entity;
     }
 
@@ -73,11 +78,62 @@ public class RepositorySensorTypeMem implements IRepositorySensorType {
      */
     @Override
     public boolean containsOfIdentity(SensorTypeID id) {
-        for (SensorTypeID sensorTypeID : DATA.keySet()) {
-            if (sensorTypeID.equals(id)) {
-                return true;
+        return id != null && DATA.containsKey(id);
+    }
+
+    /**
+     * Saves a batch of sensor types. The whole batch is checked before any sensor type is saved, so none of them is saved if one
+     * already exists or is repeated in the batch.
+     *
+     * @param entities the sensor types to save.
+     * @return the saved sensor types.
+     * @throws IllegalArgumentException if the batch or any of its sensor types is null.
+     * @throws DataIntegrityViolationException if a sensor type already exists or is repeated in the batch.
+     */
+    @Override
+    public List<SensorType> saveAll(List<SensorType> entities) {
+        if (entities == null || entities.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("sensorType cannot be null");
+        }
+        Set<SensorTypeID> batchIdentities = new HashSet<>();
+        for (SensorType entity : entities) {
+            if (containsOfIdentity(entity.identity()) || !batchIdentities.add(entity.identity())) {
+                throw new DataIntegrityViolationException("Sensor Type already exists");
             }
         }
-        return false;
+        for (SensorType entity : entities) {
+            save(entity);
+        }
+        return entities;
+    }
+
+    /**
+     * Retrieves the sensor types with the given identities, straight from the map.
+     *
+     * @param ids the identities of the sensor types.
+     * @return the sensor types found, in the order of their identities.
+     */
+    @Override
+    public List<SensorType> ofIdentities(Iterable<SensorTypeID> ids) {
+        List<SensorType> found = new ArrayList<>();
+        for (SensorTypeID id : Repository.distinct(ids)) {
+            SensorType sensorType = id == null ? null : DATA.get(id);
+            if (sensorType != null) {
+                found.add(sensorType);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Checks if every one of the given identities is in the map.
+     *
+     * @param ids the identities of the sensor types.
+     * @return true if every sensor type exists, or no identity is given, false otherwise.
+     */
+    @Override
+    public boolean containsAll(Iterable<SensorTypeID> ids) {
+        Set<SensorTypeID> distinct = Repository.distinct(ids);
+        return !distinct.contains(null) && DATA.keySet().containsAll(distinct);
     }
 }
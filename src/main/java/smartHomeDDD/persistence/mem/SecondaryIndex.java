@@ -0,0 +1,86 @@
+package smartHomeDDD.persistence.mem;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SecondaryIndex keeps the identities of the aggregates of an in-memory repository by the value of one of their
+ * attributes, such as the devices of each room, so the repository does not scan every aggregate to find them.
+ * The index is safe for concurrent readers and writers. It only holds identities: the repository reads the
+ * aggregates from its primary map and checks them against the key, so a reader that runs alongside a writer never
+ * returns an aggregate that does not match.
+ *
+ * @param <K> The type of the indexed attribute.
+ * @param <ID> The type of the identities of the aggregates.
+ */
+class SecondaryIndex<K, ID>
+{
+    /**
+     * The identities of the aggregates with each value of the attribute.
+     */
+    private final Map<K, Set<ID>> ENTRIES = new ConcurrentHashMap<>();
+
+    /**
+     * Adds an aggregate to the index. Aggregates without a value for the attribute are not indexed.
+     *
+     * @param key The value of the attribute of the aggregate.
+     * @param id The identity of the aggregate.
+     */
+    void add(K key, ID id)
+    {
+        if (key == null || id == null) {
+            return;
+        }
+        ENTRIES.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(id);
+    }
+
+    /**
+     * Removes an aggregate from the index.
+     *
+     * @param key The value of the attribute the aggregate was indexed with.
+     * @param id The identity of the aggregate.
+     */
+    void remove(K key, ID id)
+    {
+        if (key == null || id == null) {
+            return;
+        }
+        Set<ID> ids = ENTRIES.get(key);
+        if (ids != null) {
+            ids.remove(id);
+        }
+    }
+
+    /**
+     * Moves an aggregate to the entry of a new value of the attribute, when it changed.
+     *
+     * @param oldKey The value of the attribute the aggregate was indexed with.
+     * @param newKey The new value of the attribute.
+     * @param id The identity of the aggregate.
+     */
+    void move(K oldKey, K newKey, ID id)
+    {
+        if (Objects.equals(oldKey, newKey)) {
+            add(newKey, id);
+            return;
+        }
+        remove(oldKey, id);
+        add(newKey, id);
+    }
+
+    /**
+     * Retrieves the identities of the aggregates with a value of the attribute.
+     *
+     * @param key The value of the attribute.
+     * @return A live view of the identities, empty if there are none.
+     */
+    Set<ID> get(K key)
+    {
+        if (key == null) {
+            return Set.of();
+        }
+        return ENTRIES.getOrDefault(key, Set.of());
+    }
+}
@@ -2,7 +2,10 @@ package smartHomeDDD.persistence.springdata;
 
 import smartHomeDDD.persistence.jpa.datamodel.ActuatorModelDataModel;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -20,6 +23,13 @@ public interface IRepositoryActuatorModelSpringData extends JpaRepository<Actuat
      * @return A list of ActuatorModelDataModel entities with the specified ActuatorTypeID, otherwise an empty list.
      */
     List<ActuatorModelDataModel> findByActuatorTypeID(String actuatorTypeID);
-}
-
 
+    /**
+     * Counts the actuator models with the given IDs, with a single query.
+     *
+     * @param ids The IDs of the actuator models
+     * @return The number of actuator models found
+     */
+    @Query("SELECT COUNT(e) FROM ActuatorModelDataModel e WHERE e.actuatorModelID IN :ids")
+    long countByIdIn(@Param("ids") Collection<String> ids);
+}
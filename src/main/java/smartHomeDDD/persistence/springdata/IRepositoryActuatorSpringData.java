@@ -3,7 +3,10 @@ package smartHomeDDD.persistence.springdata;
 import org.springframework.stereotype.Repository;
 import smartHomeDDD.persistence.jpa.datamodel.ActuatorDataModel;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -20,4 +23,31 @@ public interface IRepositoryActuatorSpringData extends JpaRepository<ActuatorDat
      * @return A list of ActuatorDataModel entities with the specified deviceID
      */
     List<ActuatorDataModel> findByDeviceId(String deviceID);
-}
\ No newline at end of file
+
+    /**
+     * Finds the ActuatorDataModel entities of several devices, with a single query.
+     *
+     * @param deviceIDs The deviceIDs to search for
+     * @return A list of ActuatorDataModel entities with any of the specified deviceIDs
+     */
+    List<ActuatorDataModel> findByDeviceIdIn(Collection<String> deviceIDs);
+
+    /**
+     * Finds the description of the type of each actuator, next to the ID of the device of the actuator,
+     * by joining the actuators with their models and types.
+     *
+     * @return A list of pairs of an actuator type description and a device ID
+     */
+    @Query("SELECT DISTINCT t.actuatorTypeDescription, a.deviceId FROM ActuatorDataModel a, ActuatorModelDataModel m, ActuatorTypeDataModel t " +
+            "WHERE a.modelID = m.actuatorModelID AND m.actuatorTypeID = t.actuatorTypeID")
+    List<Object[]> findActuatorTypeDescriptionAndDeviceId();
+
+    /**
+     * Counts the actuators with the given IDs, with a single query.
+     *
+     * @param ids The IDs of the actuators
+     * @return The number of actuators found
+     */
+    @Query("SELECT COUNT(a) FROM ActuatorDataModel a WHERE a.actuatorID IN :ids")
+    long countByIdIn(@Param("ids") Collection<String> ids);
+}
@@ -3,10 +3,23 @@ package smartHomeDDD.persistence.springdata;
 
 import smartHomeDDD.persistence.jpa.datamodel.ActuatorTypeDataModel;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
 
 /**
  * This interface extends JpaRepository and provides methods for managing ActuatorTypeDataModel entities using Spring Data JPA.
  * It provides CRUD functionality for ActuatorTypeDataModel entities.
  */
 public interface IRepositoryActuatorTypeSpringData extends JpaRepository<ActuatorTypeDataModel, String> {
+
+    /**
+     * Counts the actuator types with the given IDs, with a single query.
+     *
+     * @param ids The IDs of the actuator types
+     * @return The number of actuator types found
+     */
+    @Query("SELECT COUNT(e) FROM ActuatorTypeDataModel e WHERE e.actuatorTypeID IN :ids")
+    long countByIdIn(@Param("ids") Collection<String> ids);
 }
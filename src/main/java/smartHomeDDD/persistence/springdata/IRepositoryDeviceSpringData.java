@@ -2,7 +2,10 @@ package smartHomeDDD.persistence.springdata;
 
 import smartHomeDDD.persistence.jpa.datamodel.DeviceDataModel;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -18,6 +21,13 @@ public interface IRepositoryDeviceSpringData extends JpaRepository<DeviceDataMod
      */
     List<DeviceDataModel> findByRoomId(String roomId);
 
+    /**
+     * Finds the devices of several rooms, with a single query.
+     * @param roomIds the room ids
+     * @return the devices
+     */
+    List<DeviceDataModel> findByRoomIdIn(Collection<String> roomIds);
+
     /**
      * Find a device by its status
      * @param status the status
@@ -25,4 +35,12 @@ public interface IRepositoryDeviceSpringData extends JpaRepository<DeviceDataMod
      */
     List<DeviceDataModel> findDevicesByStatus(boolean status);
 
+    /**
+     * Counts the devices with the given IDs, with a single query.
+     *
+     * @param ids The IDs of the devices
+     * @return The number of devices found
+     */
+    @Query("SELECT COUNT(d) FROM DeviceDataModel d WHERE d.deviceId IN :ids")
+    long countByIdIn(@Param("ids") Collection<String> ids);
 }
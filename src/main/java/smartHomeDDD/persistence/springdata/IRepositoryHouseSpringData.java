@@ -2,6 +2,10 @@ package smartHomeDDD.persistence.springdata;
 
 import smartHomeDDD.persistence.jpa.datamodel.HouseDataModel;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
 
 /**
  * This interface extends JpaRepository and provides methods for managing HouseDataModel entities using Spring Data JPA.
@@ -9,5 +13,12 @@ import org.springframework.data.jpa.repository.JpaRepository;
  */
 public interface IRepositoryHouseSpringData extends JpaRepository<HouseDataModel, String>{
 
-
+    /**
+     * Counts the houses with the given IDs, with a single query.
+     *
+     * @param ids The IDs of the houses
+     * @return The number of houses found
+     */
+    @Query("SELECT COUNT(e) FROM HouseDataModel e WHERE e._houseId IN :ids")
+    long countByIdIn(@Param("ids") Collection<String> ids);
 }
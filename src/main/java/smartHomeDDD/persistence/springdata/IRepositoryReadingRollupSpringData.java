@@ -0,0 +1,26 @@
+package smartHomeDDD.persistence.springdata;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import smartHomeDDD.persistence.jpa.datamodel.ReadingRollupDataModel;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * This interface defines methods for accessing sensor reading rollup data using Spring Data JPA.
+ */
+public interface IRepositoryReadingRollupSpringData extends JpaRepository<ReadingRollupDataModel, String> {
+
+    /**
+     * Retrieves the rollups of a sensor at a resolution whose buckets start within a time period, ordered by bucket
+     * start. It is answered by the (sensorID, resolution, bucketStart) index.
+     *
+     * @param sensorID The ID of the sensor.
+     * @param resolution The resolution of the rollups.
+     * @param start The start of the time period, included.
+     * @param end The end of the time period, excluded.
+     * @return A list of rollup data models.
+     */
+    List<ReadingRollupDataModel> findBySensorIDAndResolutionAndBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStart(
+            String sensorID, String resolution, Timestamp start, Timestamp end);
+}
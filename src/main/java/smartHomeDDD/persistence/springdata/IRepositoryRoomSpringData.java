@@ -2,7 +2,10 @@ package smartHomeDDD.persistence.springdata;
 
 import smartHomeDDD.persistence.jpa.datamodel.RoomDataModel;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -25,4 +28,13 @@ public interface IRepositoryRoomSpringData extends JpaRepository<RoomDataModel,
      * @return A list of RoomDataModel entities with inside attribute set to false
      */
     List<RoomDataModel> findByisInsideFalse();
+
+    /**
+     * Counts the rooms with the given IDs, with a single query.
+     *
+     * @param ids The IDs of the rooms
+     * @return The number of rooms found
+     */
+    @Query("SELECT COUNT(e) FROM RoomDataModel e WHERE e.roomId IN :ids")
+    long countByIdIn(@Param("ids") Collection<String> ids);
 }
@@ -2,7 +2,10 @@ package smartHomeDDD.persistence.springdata;
 
 import smartHomeDDD.persistence.jpa.datamodel.SensorModelDataModel;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -19,4 +22,13 @@ public interface IRepositorySensorModelSpringData extends JpaRepository<SensorMo
      * @return A list of SensorModelDataModel entities with the specified SensorTypeID, otherwise an empty list.
      */
     List<SensorModelDataModel> findBySensorTypeID(String sensorTypeID);
+
+    /**
+     * Counts the sensor models with the given IDs, with a single query.
+     *
+     * @param ids The IDs of the sensor models
+     * @return The number of sensor models found
+     */
+    @Query("SELECT COUNT(e) FROM SensorModelDataModel e WHERE e.sensorModelID IN :ids")
+    long countByIdIn(@Param("ids") Collection<String> ids);
 }
@@ -2,9 +2,16 @@ package smartHomeDDD.persistence.springdata;
 
 import smartHomeDDD.persistence.jpa.datamodel.SensorReadingDataModel;
 import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * This interface defines methods for accessing sensor reading data using Spring Data JPA.
@@ -12,17 +19,19 @@ import java.util.List;
 public interface IRepositorySensorReadingSpringData extends JpaRepository<SensorReadingDataModel, String> {
 
     /**
-     * Retrieves a list of sensor reading data models based on the device ID
+     * Retrieves a list of sensor reading data models based on the device ID, ordered by timestamp.
+     * It is answered by the (deviceID, timeStamp) index.
      *
      * @param deviceId The ID of the device for which sensor readings are to be retrieved.
      * @param start The start of the time period.
      * @param end The end of the time period.
      * @return A list of sensor reading data models associated with the specified device ID.
      */
-    List<SensorReadingDataModel> findByDeviceIDAndTimeStampBetween(String deviceId,Timestamp start, Timestamp end);
+    List<SensorReadingDataModel> findByDeviceIDAndTimeStampBetweenOrderByTimeStamp(String deviceId, Timestamp start, Timestamp end);
 
     /**
-     * Retrieves a list of sensor reading data models based on the device ID and sensor ID.
+     * Retrieves a list of sensor reading data models based on the device ID and sensor ID, ordered by timestamp.
+     * It is answered by the (sensorID, timeStamp) index, as a sensor belongs to a single device.
      *
      * @param deviceId The ID of the device for which sensor readings are to be retrieved.
      * @param sensorID The ID of the sensor for which sensor readings are to be retrieved.
@@ -30,10 +39,23 @@ public interface IRepositorySensorReadingSpringData extends JpaRepository<Sensor
      * @param end The end of the time period.
      * @return A list of sensor reading data models associated with the specified device ID and sensor ID.
      */
-    List<SensorReadingDataModel> findByDeviceIDAndSensorIDAndTimeStampBetween(String deviceId, String sensorID, Timestamp start, Timestamp end);
+    List<SensorReadingDataModel> findBySensorIDAndDeviceIDAndTimeStampBetweenOrderByTimeStamp(String sensorID, String deviceId, Timestamp start, Timestamp end);
 
     /**
-     * Retrieves the latest sensor reading data model based on the sensor ID
+     * Retrieves the sensor reading data models of several sensors of a device within a time period, ordered by
+     * timestamp, with a single query.
+     *
+     * @param sensorIDs The IDs of the sensors for which sensor readings are to be retrieved.
+     * @param deviceId The ID of the device for which sensor readings are to be retrieved.
+     * @param start The start of the time period.
+     * @param end The end of the time period.
+     * @return A list of sensor reading data models associated with the specified device ID and sensor IDs.
+     */
+    List<SensorReadingDataModel> findBySensorIDInAndDeviceIDAndTimeStampBetweenOrderByTimeStamp(Collection<String> sensorIDs, String deviceId, Timestamp start, Timestamp end);
+
+    /**
+     * Retrieves the latest sensor reading data model based on the sensor ID.
+     * The query is limited to one row and reads the (sensorID, timeStamp) index backwards.
      *
      * @param sensorID The ID of the sensor for which sensor reading is to be retrieved.
      * @return The latest sensor reading data model associated with the specified sensor ID.
@@ -42,4 +64,51 @@ public interface IRepositorySensorReadingSpringData extends JpaRepository<Sensor
 
     List<SensorReadingDataModel> findByDeviceID(String deviceId);
 
+    /**
+     * The number of sensor reading data models fetched from the database at a time when they are streamed.
+     */
+    String STREAM_FETCH_SIZE = "500";
+
+    /**
+     * Streams the sensor reading data models of a device, ordered by timestamp, fetching STREAM_FETCH_SIZE rows
+     * at a time. It is answered by the (deviceID, timeStamp) index.
+     * The stream must be consumed within a transaction and closed afterwards.
+     *
+     * @param deviceId The ID of the device for which sensor readings are to be streamed.
+     * @return A stream of the sensor reading data models of the device.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT r FROM SensorReadingDataModel r WHERE r.deviceID = :deviceId ORDER BY r.timeStamp")
+    Stream<SensorReadingDataModel> streamByDeviceIDOrderByTimeStamp(@Param("deviceId") String deviceId);
+
+    /**
+     * Checks if any of the given sensor reading IDs already exists.
+     *
+     * @param sensorReadingIDs The IDs of the sensor readings to check.
+     * @return true if at least one of the IDs already exists, false otherwise.
+     */
+    boolean existsBySensorReadingIDIn(Collection<String> sensorReadingIDs);
+
+    /**
+     * Calculates, in the database, the average of the numeric readings of a device within a time period.
+     * Readings that are not numbers have no numeric value and are ignored.
+     *
+     * @param deviceId The ID of the device.
+     * @param start The start of the time period.
+     * @param end The end of the time period.
+     * @return The average of the readings, or null if there are no numeric readings within the period.
+     */
+    @Query("SELECT AVG(r.numericReading) FROM SensorReadingDataModel r WHERE r.deviceID = :deviceId AND r.timeStamp BETWEEN :start AND :end")
+    Double averageNumericReadingByDeviceIDAndTimeStampBetween(@Param("deviceId") String deviceId, @Param("start") Timestamp start, @Param("end") Timestamp end);
+
+    /**
+     * Retrieves the sensor reading data model with the most recent timestamp of each sensor.
+     *
+     * @return A list with the latest sensor reading data model of each sensor.
+     */
+    @Query("SELECT r FROM SensorReadingDataModel r WHERE r.timeStamp = (SELECT MAX(l.timeStamp) FROM SensorReadingDataModel l WHERE l.sensorID = r.sensorID)")
+    List<SensorReadingDataModel> findLatestOfEachSensor();
 }
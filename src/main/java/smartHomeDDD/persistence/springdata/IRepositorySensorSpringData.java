@@ -3,7 +3,10 @@ package smartHomeDDD.persistence.springdata;
 import org.springframework.stereotype.Repository;
 import smartHomeDDD.persistence.jpa.datamodel.SensorDataModel;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -20,4 +23,31 @@ public interface IRepositorySensorSpringData extends JpaRepository<SensorDataMod
      * @return A list of SensorDataModel entities with the specified deviceID
      */
     List<SensorDataModel> findByDeviceId(String deviceID);
+
+    /**
+     * Finds the SensorDataModel entities of several devices, with a single query.
+     *
+     * @param deviceIDs The deviceIDs to search for
+     * @return A list of SensorDataModel entities with any of the specified deviceIDs
+     */
+    List<SensorDataModel> findByDeviceIdIn(Collection<String> deviceIDs);
+
+    /**
+     * Finds the description of the type of each sensor, next to the ID of the device of the sensor,
+     * by joining the sensors with their models and types.
+     *
+     * @return A list of pairs of a sensor type description and a device ID
+     */
+    @Query("SELECT DISTINCT t.sensorTypeDescription, s.deviceId FROM SensorDataModel s, SensorModelDataModel m, SensorTypeDataModel t " +
+            "WHERE s.sensorModelId = m.sensorModelID AND m.sensorTypeID = t.sensorTypeID")
+    List<Object[]> findSensorTypeDescriptionAndDeviceId();
+
+    /**
+     * Counts the sensors with the given IDs, with a single query.
+     *
+     * @param ids The IDs of the sensors
+     * @return The number of sensors found
+     */
+    @Query("SELECT COUNT(s) FROM SensorDataModel s WHERE s.sensorId IN :ids")
+    long countByIdIn(@Param("ids") Collection<String> ids);
 }
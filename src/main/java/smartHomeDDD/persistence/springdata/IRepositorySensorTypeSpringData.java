@@ -2,6 +2,10 @@ package smartHomeDDD.persistence.springdata;
 
 import smartHomeDDD.persistence.jpa.datamodel.SensorTypeDataModel;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
 
 /**
  * This interface extends JpaRepository and provides methods for managing SensorTypeDataModel entities using Spring Data JPA.
@@ -10,4 +14,12 @@ import org.springframework.data.jpa.repository.JpaRepository;
 public interface IRepositorySensorTypeSpringData extends JpaRepository<SensorTypeDataModel, String>
 {
 
+    /**
+     * Counts the sensor types with the given IDs, with a single query.
+     *
+     * @param ids The IDs of the sensor types
+     * @return The number of sensor types found
+     */
+    @Query("SELECT COUNT(e) FROM SensorTypeDataModel e WHERE e.sensorTypeID IN :ids")
+    long countByIdIn(@Param("ids") Collection<String> ids);
 }
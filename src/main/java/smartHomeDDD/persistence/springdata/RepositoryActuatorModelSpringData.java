@@ -9,8 +9,15 @@ import smartHomeDDD.domain.valueobject.ActuatorModelID;
 import smartHomeDDD.domain.valueobject.ActuatorTypeID;
 import smartHomeDDD.persistence.jpa.datamodel.ActuatorModelDataModel;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+
+import static smartHomeDDD.ddd.Repository.containsAllIDs;
+import static smartHomeDDD.ddd.Repository.ofIDs;
 @Repository
 public class RepositoryActuatorModelSpringData implements IRepositoryActuatorModel {
     /**
@@ -110,4 +117,53 @@ public class RepositoryActuatorModelSpringData implements IRepositoryActuatorMod
         return ActuatorModelDataModel.toDomain(_factoryActuatorModel, actuatorModelDataModels);
     }
 
+    /**
+     * Saves a batch of actuator models in a single transaction, checking the existence of the whole batch with a single query.
+     *
+     * @param actuatorModels The actuator models to save
+     * @return The saved actuator models
+     * @throws IllegalArgumentException if the batch or any of its actuator models is null
+     * @throws DataIntegrityViolationException if an actuator model already exists or is repeated in the batch
+     */
+    @Override
+    public List<ActuatorModel> saveAll(List<ActuatorModel> actuatorModels) {
+        if (actuatorModels == null || actuatorModels.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("actuatorModel cannot be null");
+        }
+        Set<String> actuatorModelIDs = new HashSet<>();
+        List<ActuatorModelDataModel> actuatorModelDataModels = new ArrayList<>();
+        for (ActuatorModel actuatorModel : actuatorModels) {
+            if (!actuatorModelIDs.add(actuatorModel.identity().toString())) {
+                throw new DataIntegrityViolationException("actuatorModel already exists");
+            }
+            actuatorModelDataModels.add(new ActuatorModelDataModel(actuatorModel));
+        }
+        if (!actuatorModelIDs.isEmpty() && _repositoryActuatorModelSpringData.countByIdIn(actuatorModelIDs) > 0) {
+            throw new DataIntegrityViolationException("actuatorModel already exists");
+        }
+        _repositoryActuatorModelSpringData.saveAll(actuatorModelDataModels);
+        return actuatorModels;
+    }
+
+    /**
+     * Retrieves the actuator models with the given identities, with a single query.
+     *
+     * @param ids The identities of the actuator models
+     * @return The actuator models found, in no particular order
+     */
+    @Override
+    public List<ActuatorModel> ofIdentities(Iterable<ActuatorModelID> ids) {
+        return ofIDs(ids, actuatorModelIDs -> ActuatorModelDataModel.toDomain(_factoryActuatorModel, _repositoryActuatorModelSpringData.findAllById(actuatorModelIDs)));
+    }
+
+    /**
+     * Checks if every one of the given identities exists, with a single query.
+     *
+     * @param ids The identities of the actuator models
+     * @return true if every actuator model exists, or no identity is given, false otherwise
+     */
+    @Override
+    public boolean containsAll(Iterable<ActuatorModelID> ids) {
+        return containsAllIDs(ids, _repositoryActuatorModelSpringData::countByIdIn);
+    }
 }
@@ -8,9 +8,19 @@ import smartHomeDDD.domain.repository.IRepositoryActuator;
 import smartHomeDDD.domain.valueobject.ActuatorID;
 import smartHomeDDD.domain.valueobject.DeviceId;
 import smartHomeDDD.persistence.jpa.datamodel.ActuatorDataModel;
+import smartHomeDDD.persistence.jpa.datamodel.DeviceDataModel;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+
+import static smartHomeDDD.ddd.Repository.containsAllIDs;
+import static smartHomeDDD.ddd.Repository.ofIDs;
 
 /**
  * Repository implementation for managing actuator entities using Spring Data.
@@ -135,4 +145,81 @@ public class RepositoryActuatorSpringData implements IRepositoryActuator
         List<ActuatorDataModel> actuatorDataModels = this._repositoryActuatorSpringData.findByDeviceId(id.toString());
         return ActuatorDataModel.toDomain(_factoryActuator, actuatorDataModels);
     }
+
+    /**
+     * Retrieves the Actuator entities associated with several Devices, with a single query.
+     *
+     * @param ids The identities of the Devices
+     * @return A list of actuator entities associated with the Devices
+     */
+    @Override
+    public List<Actuator> getActuatorsByDeviceIDs(Collection<DeviceId> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<String> deviceIDs = ids.stream().map(DeviceId::toString).distinct().toList();
+        return ActuatorDataModel.toDomain(_factoryActuator, this._repositoryActuatorSpringData.findByDeviceIdIn(deviceIDs));
+    }
+
+    /**
+     * Retrieves the IDs of the devices with an actuator of each actuator type, by the description of the type,
+     * with a single query that joins the actuators with their models and types.
+     *
+     * @return The IDs of the devices by the description of the type of their actuators
+     */
+    @Override
+    public Optional<Map<String, Set<DeviceId>>> getDeviceIDsByActuatorTypeDescription() {
+        return Optional.of(DeviceDataModel.toDeviceIDsByDescription(_repositoryActuatorSpringData.findActuatorTypeDescriptionAndDeviceId()));
+    }
+
+    /**
+     * Saves a batch of actuators in a single transaction, so they are inserted in JDBC batches.
+     * The whole batch is checked before any actuator is saved, with a single query for the actuators that already exist.
+     *
+     * @param actuators The actuators to save
+     * @return The saved actuators
+     * @throws IllegalArgumentException if the batch or any of its actuators is null
+     * @throws DataIntegrityViolationException if any actuator already exists or is repeated in the batch
+     */
+    @Override
+    public List<Actuator> saveAll(List<Actuator> actuators) {
+        if (actuators == null || actuators.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("actuator cannot be null");
+        }
+        Set<String> actuatorIDs = new HashSet<>();
+        List<ActuatorDataModel> actuatorDataModels = new ArrayList<>();
+        for (Actuator actuator : actuators) {
+            if (!actuatorIDs.add(actuator.identity().toString())) {
+                throw new DataIntegrityViolationException("actuator already exists");
+            }
+            actuatorDataModels.add(new ActuatorDataModel(actuator));
+        }
+        if (!actuatorIDs.isEmpty() && _repositoryActuatorSpringData.countByIdIn(actuatorIDs) > 0) {
+            throw new DataIntegrityViolationException("actuator already exists");
+        }
+        _repositoryActuatorSpringData.saveAll(actuatorDataModels);
+        return actuators;
+    }
+
+    /**
+     * Retrieves the actuators with the given identities, with a single query.
+     *
+     * @param ids The identities of the actuators
+     * @return The actuators found, in no particular order
+     */
+    @Override
+    public List<Actuator> ofIdentities(Iterable<ActuatorID> ids) {
+        return ofIDs(ids, actuatorIDs -> ActuatorDataModel.toDomain(_factoryActuator, _repositoryActuatorSpringData.findAllById(actuatorIDs)));
+    }
+
+    /**
+     * Checks if every one of the given identities exists, with a single query.
+     *
+     * @param ids The identities of the actuators
+     * @return true if every actuator exists, or no identity is given, false otherwise
+     */
+    @Override
+    public boolean containsAll(Iterable<ActuatorID> ids) {
+        return containsAllIDs(ids, _repositoryActuatorSpringData::countByIdIn);
+    }
 }
@@ -10,8 +10,15 @@ import smartHomeDDD.domain.repository.IRepositoryActuatorType;
 import smartHomeDDD.domain.valueobject.ActuatorTypeID;
 import smartHomeDDD.persistence.jpa.datamodel.ActuatorTypeDataModel;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+
+import static smartHomeDDD.ddd.Repository.containsAllIDs;
+import static smartHomeDDD.ddd.Repository.ofIDs;
 
 /**
  * This class implements the IRepositoryActuatorType interface and provides the functionality to interact with the ActuatorType entities in the database using Spring Data.
@@ -112,4 +119,53 @@ public class RepositoryActuatorTypeSpringData implements IRepositoryActuatorType
         return repositoryActuatorTypeSpringData.existsById(id.toString());
     }
 
+    /**
+     * Saves a batch of actuator types in a single transaction, checking the existence of the whole batch with a single query.
+     *
+     * @param actuatorTypes The actuator types to save
+     * @return The saved actuator types
+     * @throws IllegalArgumentException if the batch or any of its actuator types is null
+     * @throws DataIntegrityViolationException if an actuator type already exists or is repeated in the batch
+     */
+    @Override
+    public List<ActuatorType> saveAll(List<ActuatorType> actuatorTypes) {
+        if (actuatorTypes == null || actuatorTypes.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("ActuatorType cannot be null");
+        }
+        Set<String> actuatorTypeIDs = new HashSet<>();
+        List<ActuatorTypeDataModel> actuatorTypeDataModels = new ArrayList<>();
+        for (ActuatorType actuatorType : actuatorTypes) {
+            if (!actuatorTypeIDs.add(actuatorType.identity().toString())) {
+                throw new DataIntegrityViolationException("ActuatorType already exists");
+            }
+            actuatorTypeDataModels.add(new ActuatorTypeDataModel(actuatorType));
+        }
+        if (!actuatorTypeIDs.isEmpty() && repositoryActuatorTypeSpringData.countByIdIn(actuatorTypeIDs) > 0) {
+            throw new DataIntegrityViolationException("ActuatorType already exists");
+        }
+        repositoryActuatorTypeSpringData.saveAll(actuatorTypeDataModels);
+        return actuatorTypes;
+    }
+
+    /**
+     * Retrieves the actuator types with the given identities, with a single query.
+     *
+     * @param ids The identities of the actuator types
+     * @return The actuator types found, in no particular order
+     */
+    @Override
+    public List<ActuatorType> ofIdentities(Iterable<ActuatorTypeID> ids) {
+        return ofIDs(ids, actuatorTypeIDs -> ActuatorTypeDataModel.toDomain(factoryActuatorType, repositoryActuatorTypeSpringData.findAllById(actuatorTypeIDs)));
+    }
+
+    /**
+     * Checks if every one of the given identities exists, with a single query.
+     *
+     * @param ids The identities of the actuator types
+     * @return true if every actuator type exists, or no identity is given, false otherwise
+     */
+    @Override
+    public boolean containsAll(Iterable<ActuatorTypeID> ids) {
+        return containsAllIDs(ids, repositoryActuatorTypeSpringData::countByIdIn);
+    }
 }
@@ -10,9 +10,16 @@ import smartHomeDDD.domain.valueobject.DeviceId;
 import smartHomeDDD.domain.valueobject.RoomID;
 import smartHomeDDD.persistence.jpa.datamodel.DeviceDataModel;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+
+import static smartHomeDDD.ddd.Repository.containsAllIDs;
+import static smartHomeDDD.ddd.Repository.ofIDs;
 
 /**
  * Repository implementation for managing Device entities using Spring Data.
@@ -117,6 +124,21 @@ public class RepositoryDeviceSpringData implements IRepositoryDevice {
         return DeviceDataModel.toDomain(_factoryDevice, deviceDataModels);
     }
 
+    /**
+     * Get the devices of several rooms, with a single query
+     *
+     * @param roomIDs the room ids
+     * @return a list of the devices in the rooms
+     */
+    @Override
+    public List<Device> getDevicesInRooms(Collection<RoomID> roomIDs) {
+        if (roomIDs.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<String> ids = roomIDs.stream().map(RoomID::toString).distinct().toList();
+        return DeviceDataModel.toDomain(_factoryDevice, this._repositoryDeviceSpringData.findByRoomIdIn(ids));
+    }
+
 
     /**
      * Update a device in the database
@@ -158,6 +180,57 @@ public class RepositoryDeviceSpringData implements IRepositoryDevice {
         return DeviceDataModel.toDomain(_factoryDevice, deviceDataModels);
     }
 
+    /**
+     * Saves a batch of devices in a single transaction, so they are inserted in JDBC batches.
+     * The whole batch is checked before any device is saved, with a single query for the devices that already exist.
+     *
+     * @param devices The devices to save
+     * @return The saved devices
+     * @throws IllegalArgumentException if the batch or any of its devices is null
+     * @throws DataIntegrityViolationException if any device already exists or is repeated in the batch
+     */
+    @Override
+    public List<Device> saveAll(List<Device> devices) {
+        if (devices == null || devices.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Device cannot be null");
+        }
+        Set<String> deviceIDs = new HashSet<>();
+        List<DeviceDataModel> deviceDataModels = new ArrayList<>();
+        for (Device device : devices) {
+            if (!deviceIDs.add(device.identity().toString())) {
+                throw new DataIntegrityViolationException("Device already exists");
+            }
+            if (Objects.equals(device.getDeviceName().toString(), "PowerGridMeter")) {
+                throw new IllegalArgumentException("PowerGridMeter cannot be added as one already exists in the system.");
+            }
+            deviceDataModels.add(new DeviceDataModel(device));
+        }
+        if (!deviceIDs.isEmpty() && _repositoryDeviceSpringData.countByIdIn(deviceIDs) > 0) {
+            throw new DataIntegrityViolationException("Device already exists");
+        }
+        _repositoryDeviceSpringData.saveAll(deviceDataModels);
+        return devices;
+    }
+
+    /**
+     * Retrieves the devices with the given identities, with a single query.
+     *
+     * @param ids The identities of the devices
+     * @return The devices found, in no particular order
+     */
+    @Override
+    public List<Device> ofIdentities(Iterable<DeviceId> ids) {
+        return ofIDs(ids, deviceIDs -> DeviceDataModel.toDomain(_factoryDevice, _repositoryDeviceSpringData.findAllById(deviceIDs)));
+    }
 
+    /**
+     * Checks if every one of the given identities exists, with a single query.
+     *
+     * @param ids The identities of the devices
+     * @return true if every device exists, or no identity is given, false otherwise
+     */
+    @Override
+    public boolean containsAll(Iterable<DeviceId> ids) {
+        return containsAllIDs(ids, _repositoryDeviceSpringData::countByIdIn);
+    }
 }
-
@@ -9,8 +9,15 @@ import smartHomeDDD.domain.repository.IRepositoryHouse;
 import smartHomeDDD.domain.valueobject.HouseId;
 import smartHomeDDD.persistence.jpa.datamodel.HouseDataModel;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+
+import static smartHomeDDD.ddd.Repository.containsAllIDs;
+import static smartHomeDDD.ddd.Repository.ofIDs;
 
 /**
  * Implementation of the IRepositoryHouse interface using Spring Data.
@@ -124,7 +131,56 @@ public class RepositoryHouseSpringData implements IRepositoryHouse {
     @Override
     public List<House> findAll() {
         List <HouseDataModel> houseDataModelList = this._repositoryHouseSpringData.findAll();
-        return (List<House>) HouseDataModel.toDomain(_factoryHouse, houseDataModelList);
+        return HouseDataModel.toDomain(_factoryHouse, houseDataModelList);
+    }
+
+    /**
+     * Saves a batch of houses in a single transaction, checking the existence of the whole batch with a single query.
+     *
+     * @param houses The houses to save
+     * @return The saved houses
+     * @throws IllegalArgumentException if the batch or any of its houses is null
+     * @throws DataIntegrityViolationException if a house already exists or is repeated in the batch
+     */
+    @Override
+    public List<House> saveAll(List<House> houses) {
+        if (houses == null || houses.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("House cannot be null");
+        }
+        Set<String> houseIDs = new HashSet<>();
+        List<HouseDataModel> houseDataModels = new ArrayList<>();
+        for (House house : houses) {
+            if (!houseIDs.add(house.identity().toString())) {
+                throw new DataIntegrityViolationException("House already exists");
+            }
+            houseDataModels.add(new HouseDataModel(house));
+        }
+        if (!houseIDs.isEmpty() && _repositoryHouseSpringData.countByIdIn(houseIDs) > 0) {
+            throw new DataIntegrityViolationException("House already exists");
+        }
+        _repositoryHouseSpringData.saveAll(houseDataModels);
+        return houses;
+    }
+
+    /**
+     * Retrieves the houses with the given identities, with a single query.
+     *
+     * @param ids The identities of the houses
+     * @return The houses found, in no particular order
+     */
+    @Override
+    public List<House> ofIdentities(Iterable<HouseId> ids) {
+        return ofIDs(ids, houseIDs -> HouseDataModel.toDomain(_factoryHouse, _repositoryHouseSpringData.findAllById(houseIDs)));
     }
 
-}
\ No newline at end of file
+    /**
+     * Checks if every one of the given identities exists, with a single query.
+     *
+     * @param ids The identities of the houses
+     * @return true if every house exists, or no identity is given, false otherwise
+     */
+    @Override
+    public boolean containsAll(Iterable<HouseId> ids) {
+        return containsAllIDs(ids, _repositoryHouseSpringData::countByIdIn);
+    }
+}
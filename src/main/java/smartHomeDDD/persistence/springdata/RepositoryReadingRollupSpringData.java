@@ -0,0 +1,93 @@
+package smartHomeDDD.persistence.springdata;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Repository;
+import smartHomeDDD.domain.repository.IRepositoryReadingRollup;
+import smartHomeDDD.domain.sensorReading.ReadingRollup;
+import smartHomeDDD.domain.sensorReading.RollupResolution;
+import smartHomeDDD.domain.valueobject.SensorID;
+import smartHomeDDD.persistence.jpa.datamodel.ReadingRollupDataModel;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Implementation of the IRepositoryReadingRollup interface using Spring Data JPA.
+ */
+@Repository
+public class RepositoryReadingRollupSpringData implements IRepositoryReadingRollup {
+
+    /**
+     * The number of times the update of a bucket is attempted when it is updated concurrently.
+     */
+    static final int MAX_ATTEMPTS = 5;
+
+    /**
+     * Instance of the Spring Data repository for sensor reading rollups.
+     */
+    final IRepositoryReadingRollupSpringData _repositoryReadingRollupSpringData;
+
+    /**
+     * Constructs a RepositoryReadingRollupSpringData object.
+     *
+     * @param repositoryReadingRollupSpringData The Spring Data repository for sensor reading rollups.
+     */
+    public RepositoryReadingRollupSpringData(IRepositoryReadingRollupSpringData repositoryReadingRollupSpringData) {
+        this._repositoryReadingRollupSpringData = repositoryReadingRollupSpringData;
+    }
+
+    /**
+     * Merges the readings of a rollup into the stored rollup of the same sensor, resolution and bucket, creating it
+     * if it does not exist.
+     * The bucket is read and written back under its version, and the update is attempted again if another one
+     * changed or created the bucket in the meantime.
+     *
+     * @param rollup The rollup with the new readings of a bucket.
+     * @return The updated rollup of the bucket.
+     * @throws IllegalArgumentException if the rollup is null.
+     */
+    @Override
+    public ReadingRollup merge(ReadingRollup rollup) {
+        if (rollup == null) {
+            throw new IllegalArgumentException("Reading rollup cannot be null");
+        }
+        String rollupID = ReadingRollupDataModel.rollupID(rollup.getSensorID(), rollup.getResolution(), rollup.getBucketStart().getTime());
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Optional<ReadingRollupDataModel> saved = _repositoryReadingRollupSpringData.findById(rollupID);
+                ReadingRollupDataModel dataModel;
+                if (saved.isPresent()) {
+                    dataModel = saved.get();
+                    dataModel.update(ReadingRollupDataModel.toDomain(dataModel).merge(rollup));
+                } else {
+                    dataModel = new ReadingRollupDataModel(rollup);
+                }
+                return ReadingRollupDataModel.toDomain(_repositoryReadingRollupSpringData.save(dataModel));
+            } catch (OptimisticLockingFailureException | DataIntegrityViolationException e) {
+                if (attempt == MAX_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Retrieves the rollups of a sensor at a given resolution whose buckets start within a time period,
+     * ordered by bucket start.
+     *
+     * @param sensorID The sensor.
+     * @param resolution The resolution of the rollups.
+     * @param start The start of the time period, included.
+     * @param end The end of the time period, excluded.
+     * @return The rollups of the sensor within the time period.
+     */
+    @Override
+    public List<ReadingRollup> findWithinPeriod(SensorID sensorID, RollupResolution resolution, Timestamp start, Timestamp end) {
+        List<ReadingRollupDataModel> dataModels = _repositoryReadingRollupSpringData
+                .findBySensorIDAndResolutionAndBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStart(
+                        sensorID.toString(), resolution.name(), start, end);
+        return ReadingRollupDataModel.toDomainList(dataModels);
+    }
+}
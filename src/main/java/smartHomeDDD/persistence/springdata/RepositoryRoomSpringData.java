@@ -9,8 +9,15 @@ import smartHomeDDD.domain.valueobject.HouseId;
 import smartHomeDDD.domain.valueobject.RoomID;
 import smartHomeDDD.persistence.jpa.datamodel.RoomDataModel;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+
+import static smartHomeDDD.ddd.Repository.containsAllIDs;
+import static smartHomeDDD.ddd.Repository.ofIDs;
 
 /**
  * Repository implementation for managing Room entities using Spring Data.
@@ -127,4 +134,54 @@ public class RepositoryRoomSpringData implements IRepositoryRoom {
         List<RoomDataModel> outsideRooms = this._repositoryRoomSpringData.findByisInsideFalse();
         return RoomDataModel.toDomain(_factoryRoom, outsideRooms);
     }
+
+    /**
+     * Saves a batch of rooms in a single transaction, checking the existence of the whole batch with a single query.
+     *
+     * @param rooms The rooms to save
+     * @return The saved rooms
+     * @throws IllegalArgumentException if the batch or any of its rooms is null
+     * @throws DataIntegrityViolationException if a room already exists or is repeated in the batch
+     */
+    @Override
+    public List<Room> saveAll(List<Room> rooms) {
+        if (rooms == null || rooms.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Room cannot be null");
+        }
+        Set<String> roomIDs = new HashSet<>();
+        List<RoomDataModel> roomDataModels = new ArrayList<>();
+        for (Room room : rooms) {
+            if (!roomIDs.add(room.identity().toString())) {
+                throw new DataIntegrityViolationException("Room already exists");
+            }
+            roomDataModels.add(new RoomDataModel(room));
+        }
+        if (!roomIDs.isEmpty() && _repositoryRoomSpringData.countByIdIn(roomIDs) > 0) {
+            throw new DataIntegrityViolationException("Room already exists");
+        }
+        _repositoryRoomSpringData.saveAll(roomDataModels);
+        return rooms;
+    }
+
+    /**
+     * Retrieves the rooms with the given identities, with a single query.
+     *
+     * @param ids The identities of the rooms
+     * @return The rooms found, in no particular order
+     */
+    @Override
+    public List<Room> ofIdentities(Iterable<RoomID> ids) {
+        return ofIDs(ids, roomIDs -> RoomDataModel.toDomain(_factoryRoom, _repositoryRoomSpringData.findAllById(roomIDs)));
+    }
+
+    /**
+     * Checks if every one of the given identities exists, with a single query.
+     *
+     * @param ids The identities of the rooms
+     * @return true if every room exists, or no identity is given, false otherwise
+     */
+    @Override
+    public boolean containsAll(Iterable<RoomID> ids) {
+        return containsAllIDs(ids, _repositoryRoomSpringData::countByIdIn);
+    }
 }
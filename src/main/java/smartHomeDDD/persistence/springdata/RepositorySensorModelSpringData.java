@@ -9,8 +9,15 @@ import smartHomeDDD.domain.valueobject.SensorModelID;
 import smartHomeDDD.domain.valueobject.SensorTypeID;
 import smartHomeDDD.persistence.jpa.datamodel.SensorModelDataModel;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+
+import static smartHomeDDD.ddd.Repository.containsAllIDs;
+import static smartHomeDDD.ddd.Repository.ofIDs;
 
 @Repository
 public class RepositorySensorModelSpringData implements IRepositorySensorModel {
@@ -111,4 +118,53 @@ public class RepositorySensorModelSpringData implements IRepositorySensorModel {
         return SensorModelDataModel.toDomain(_factorySensorModel, sensorModelDataModels);
     }
 
+    /**
+     * Saves a batch of sensor models in a single transaction, checking the existence of the whole batch with a single query.
+     *
+     * @param sensorModels The sensor models to save
+     * @return The saved sensor models
+     * @throws IllegalArgumentException if the batch or any of its sensor models is null
+     * @throws DataIntegrityViolationException if a sensor model already exists or is repeated in the batch
+     */
+    @Override
+    public List<SensorModel> saveAll(List<SensorModel> sensorModels) {
+        if (sensorModels == null || sensorModels.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("sensorModel cannot be null");
+        }
+        Set<String> sensorModelIDs = new HashSet<>();
+        List<SensorModelDataModel> sensorModelDataModels = new ArrayList<>();
+        for (SensorModel sensorModel : sensorModels) {
+            if (!sensorModelIDs.add(sensorModel.identity().toString())) {
+                throw new DataIntegrityViolationException("sensorModel already exists");
+            }
+            sensorModelDataModels.add(new SensorModelDataModel(sensorModel));
+        }
+        if (!sensorModelIDs.isEmpty() && _repositorySensorModelSpringData.countByIdIn(sensorModelIDs) > 0) {
+            throw new DataIntegrityViolationException("sensorModel already exists");
+        }
+        _repositorySensorModelSpringData.saveAll(sensorModelDataModels);
+        return sensorModels;
+    }
+
+    /**
+     * Retrieves the sensor models with the given identities, with a single query.
+     *
+     * @param ids The identities of the sensor models
+     * @return The sensor models found, in no particular order
+     */
+    @Override
+    public List<SensorModel> ofIdentities(Iterable<SensorModelID> ids) {
+        return ofIDs(ids, sensorModelIDs -> SensorModelDataModel.toDomain(_factorySensorModel, _repositorySensorModelSpringData.findAllById(sensorModelIDs)));
+    }
+
+    /**
+     * Checks if every one of the given identities exists, with a single query.
+     *
+     * @param ids The identities of the sensor models
+     * @return true if every sensor model exists, or no identity is given, false otherwise
+     */
+    @Override
+    public boolean containsAll(Iterable<SensorModelID> ids) {
+        return containsAllIDs(ids, _repositorySensorModelSpringData::countByIdIn);
+    }
 }
@@ -1,18 +1,22 @@
 package smartHomeDDD.persistence.springdata;
 
 import org.springframework.dao.DataIntegrityViolationException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import smartHomeDDD.domain.repository.IRepositorySensorReading;
 import smartHomeDDD.domain.sensorReading.FactorySensorReading;
 import smartHomeDDD.domain.sensorReading.SensorReading;
+import smartHomeDDD.domain.sensorReading.SensorReadingCursor;
 import smartHomeDDD.domain.valueobject.DeviceId;
 import smartHomeDDD.domain.valueobject.SensorID;
 import smartHomeDDD.domain.valueobject.SensorReadingID;
 import smartHomeDDD.persistence.jpa.datamodel.SensorReadingDataModel;
 import java.sql.Timestamp;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 
 /**
@@ -31,15 +35,22 @@ public class RepositorySensorReadingSpringData implements IRepositorySensorReadi
      */
     final FactorySensorReading _factorySensorReading;
 
+    /**
+     * The entity manager, used to detach the streamed sensor readings.
+     */
+    final EntityManager _entityManager;
+
     /**
      * Constructs a RepositorySensorReadingSpringData object.
      *
      * @param factorySensorReading          The factory for creating sensor readings.
      * @param repositorySensorReadingSpringData The Spring Data repository for sensor readings.
+     * @param entityManager                 The entity manager, used to detach the streamed sensor readings.
      */
-    public RepositorySensorReadingSpringData(FactorySensorReading factorySensorReading, IRepositorySensorReadingSpringData repositorySensorReadingSpringData){
+    public RepositorySensorReadingSpringData(FactorySensorReading factorySensorReading, IRepositorySensorReadingSpringData repositorySensorReadingSpringData, EntityManager entityManager){
         this._factorySensorReading = factorySensorReading;
         this._repositorySensorReadingSpringData = repositorySensorReadingSpringData;
+        this._entityManager = entityManager;
     }
 
     /**
@@ -113,7 +124,7 @@ public class RepositorySensorReadingSpringData implements IRepositorySensorReadi
      * @return A list of sensor readings from the specified device within the given time period.
      */
     public List<SensorReading> getMeasurementsFromDeviceWithinPeriod(DeviceId deviceID, Timestamp start, Timestamp end) {
-        List<SensorReadingDataModel> sensorReadingDataModels = this._repositorySensorReadingSpringData.findByDeviceIDAndTimeStampBetween(deviceID.toString(),start,end);
+        List<SensorReadingDataModel> sensorReadingDataModels = this._repositorySensorReadingSpringData.findByDeviceIDAndTimeStampBetweenOrderByTimeStamp(deviceID.toString(), start, end);
         return SensorReadingDataModel.toDomainList(_factorySensorReading, sensorReadingDataModels);
 
     }
@@ -129,13 +140,32 @@ public class RepositorySensorReadingSpringData implements IRepositorySensorReadi
      */
     @Override
     public List<SensorReading> getSensorReadingsBetweenTimestamp(DeviceId deviceID, SensorID sensorIDIndoors, Timestamp start, Timestamp end) {
-        List<SensorReadingDataModel> sensorReadingDataModels = this._repositorySensorReadingSpringData.findByDeviceIDAndSensorIDAndTimeStampBetween(deviceID.toString(), sensorIDIndoors.toString(), start, end);
+        List<SensorReadingDataModel> sensorReadingDataModels = this._repositorySensorReadingSpringData.findBySensorIDAndDeviceIDAndTimeStampBetweenOrderByTimeStamp(sensorIDIndoors.toString(), deviceID.toString(), start, end);
         List<SensorReading> sensorReadings = SensorReadingDataModel.toDomainList(_factorySensorReading, sensorReadingDataModels);
         List<SensorReading> readingsBetweenTimeStamp = new ArrayList<>();
         readingsBetweenTimeStamp.addAll(sensorReadings);
         return readingsBetweenTimeStamp;
     }
 
+    /**
+     * Retrieves the sensor readings of several sensors of a device within a given time period, with a single query.
+     *
+     * @param deviceID The ID of the device for which sensor readings are to be retrieved.
+     * @param sensorIDs The IDs of the sensors for which sensor readings are to be retrieved.
+     * @param start The start timestamp of the period.
+     * @param end The end timestamp of the period.
+     * @return A list of sensor readings of the sensors within the given time period, ordered by timestamp.
+     */
+    @Override
+    public List<SensorReading> getSensorReadingsBetweenTimestamp(DeviceId deviceID, Collection<SensorID> sensorIDs, Timestamp start, Timestamp end) {
+        if (sensorIDs.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<String> ids = sensorIDs.stream().map(SensorID::toString).distinct().toList();
+        List<SensorReadingDataModel> sensorReadingDataModels = this._repositorySensorReadingSpringData.findBySensorIDInAndDeviceIDAndTimeStampBetweenOrderByTimeStamp(ids, deviceID.toString(), start, end);
+        return SensorReadingDataModel.toDomainList(_factorySensorReading, sensorReadingDataModels);
+    }
+
     /**
      * Retrieves the latest sensor reading for a specific sensor.
      *
@@ -145,6 +175,9 @@ public class RepositorySensorReadingSpringData implements IRepositorySensorReadi
     @Override
     public Optional<SensorReading> getLatestReadingFromSensor(SensorID sensorID) {
         SensorReadingDataModel sensorReadingDataModel = this._repositorySensorReadingSpringData.findTopBySensorIDOrderByTimeStampDesc(sensorID.toString());
+        if (sensorReadingDataModel == null) {
+            return Optional.empty();
+        }
         SensorReading latestReading = SensorReadingDataModel.toDomain(_factorySensorReading, sensorReadingDataModel);
         return Optional.of(latestReading);
     }
@@ -155,4 +188,123 @@ public class RepositorySensorReadingSpringData implements IRepositorySensorReadi
         return SensorReadingDataModel.toDomainList(_factorySensorReading, sensorReadingDataModels);
     }
 
+    /**
+     * Passes every sensor reading of a device to an action, ordered by timestamp.
+     * The readings are streamed from the database a fetch at a time within a read-only transaction, and each one
+     * is detached from the persistence context once the action is done with it, so the memory used stays flat.
+     *
+     * @param deviceId The ID of the device.
+     * @param action The action to perform on each sensor reading.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachSensorReadingOfDevice(DeviceId deviceId, Consumer<SensorReading> action) {
+        try (Stream<SensorReadingDataModel> sensorReadingDataModels = _repositorySensorReadingSpringData.streamByDeviceIDOrderByTimeStamp(deviceId.toString())) {
+            sensorReadingDataModels.forEach(sensorReadingDataModel -> {
+                action.accept(SensorReadingDataModel.toDomain(_factorySensorReading, sensorReadingDataModel));
+                _entityManager.detach(sensorReadingDataModel);
+            });
+        }
+    }
+
+    /**
+     * Retrieves a page of the sensor readings of a device, ordered by timestamp and then by ID, starting right after
+     * a cursor.
+     * The page seeks the cursor through the (deviceID, timeStamp) index and reads at most limit rows, so no rows
+     * before the cursor are read and skipped. As the bounds of the page are optional, the query is built for the
+     * bounds that are given.
+     *
+     * @param deviceId The ID of the device.
+     * @param start The start of the time period, included, or null for no start.
+     * @param end The end of the time period, included, or null for no end.
+     * @param after The cursor after which the page starts, or null for the first page.
+     * @param limit The maximum number of sensor readings in the page.
+     * @return The sensor readings of the page.
+     */
+    @Override
+    public List<SensorReading> getSensorReadingsPageFromDevice(DeviceId deviceId, Timestamp start, Timestamp end, SensorReadingCursor after, int limit) {
+        StringBuilder jpql = new StringBuilder("SELECT e FROM SensorReadingDataModel e WHERE e.deviceID = :deviceId");
+        if (start != null) {
+            jpql.append(" AND e.timeStamp >= :start");
+        }
+        if (end != null) {
+            jpql.append(" AND e.timeStamp <= :end");
+        }
+        if (after != null) {
+            jpql.append(" AND (e.timeStamp > :afterTimeStamp OR (e.timeStamp = :afterTimeStamp AND e.sensorReadingID > :afterID))");
+        }
+        jpql.append(" ORDER BY e.timeStamp, e.sensorReadingID");
+
+        TypedQuery<SensorReadingDataModel> query = _entityManager.createQuery(jpql.toString(), SensorReadingDataModel.class);
+        query.setParameter("deviceId", deviceId.toString());
+        if (start != null) {
+            query.setParameter("start", start);
+        }
+        if (end != null) {
+            query.setParameter("end", end);
+        }
+        if (after != null) {
+            query.setParameter("afterTimeStamp", after.getTimeStamp());
+            query.setParameter("afterID", after.getSensorReadingID().toString());
+        }
+        query.setMaxResults(limit);
+
+        return SensorReadingDataModel.toDomainList(_factorySensorReading, query.getResultList());
+    }
+
+    /**
+     * Saves a batch of sensor readings into the data store.
+     * The existence of the whole batch is checked with a single query, and the readings are then inserted in one
+     * transaction, which Hibernate sends to the database as JDBC batches.
+     *
+     * @param sensorReadings The sensor readings to be saved.
+     * @return The saved sensor readings.
+     * @throws IllegalArgumentException if the batch or any of its sensor readings is null.
+     * @throws DataIntegrityViolationException if any sensor reading already exists or is repeated in the batch.
+     */
+    @Override
+    public List<SensorReading> saveAll(List<SensorReading> sensorReadings) {
+        if (sensorReadings == null || sensorReadings.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("SensorReading cannot be null");
+        }
+        Set<String> sensorReadingIDs = new HashSet<>();
+        List<SensorReadingDataModel> sensorReadingDataModels = new ArrayList<>();
+        for (SensorReading sensorReading : sensorReadings) {
+            if (!sensorReadingIDs.add(sensorReading.identity().toString())) {
+                throw new DataIntegrityViolationException("SensorReading already exists");
+            }
+            sensorReadingDataModels.add(new SensorReadingDataModel(sensorReading));
+        }
+        if (!sensorReadingIDs.isEmpty() && _repositorySensorReadingSpringData.existsBySensorReadingIDIn(sensorReadingIDs)) {
+            throw new DataIntegrityViolationException("SensorReading already exists");
+        }
+        _repositorySensorReadingSpringData.saveAll(sensorReadingDataModels);
+        return sensorReadings;
+    }
+
+    /**
+     * Calculates the average of the numeric readings of a device within a given time period, both ends included.
+     * The average is computed by the database, and readings that are not numbers are ignored.
+     *
+     * @param deviceID The ID of the device.
+     * @param start The start of the time period.
+     * @param end The end of the time period.
+     * @return The average of the readings, or 0 if the device has no numeric readings within the period.
+     */
+    @Override
+    public double getAverageReadingWithinPeriod(DeviceId deviceID, Timestamp start, Timestamp end) {
+        Double average = _repositorySensorReadingSpringData.averageNumericReadingByDeviceIDAndTimeStampBetween(deviceID.toString(), start, end);
+        return average == null ? 0 : average;
+    }
+
+    /**
+     * Retrieves the latest sensor reading of each sensor that has readings, with a single query.
+     *
+     * @return A list with the latest sensor reading of each sensor.
+     */
+    @Override
+    public List<SensorReading> getLatestReadingOfEachSensor() {
+        List<SensorReadingDataModel> sensorReadingDataModels = this._repositorySensorReadingSpringData.findLatestOfEachSensor();
+        return SensorReadingDataModel.toDomainList(_factorySensorReading, sensorReadingDataModels);
+    }
 }
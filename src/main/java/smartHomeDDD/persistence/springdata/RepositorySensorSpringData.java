@@ -7,10 +7,20 @@ import smartHomeDDD.domain.sensor.Sensor;
 import smartHomeDDD.domain.repository.IRepositorySensor;
 import smartHomeDDD.domain.valueobject.DeviceId;
 import smartHomeDDD.domain.valueobject.SensorID;
+import smartHomeDDD.persistence.jpa.datamodel.DeviceDataModel;
 import smartHomeDDD.persistence.jpa.datamodel.SensorDataModel;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+
+import static smartHomeDDD.ddd.Repository.containsAllIDs;
+import static smartHomeDDD.ddd.Repository.ofIDs;
 
 /**
  * Repository implementation for managing Sensor entities using Spring Data.
@@ -116,9 +126,85 @@ public class RepositorySensorSpringData implements IRepositorySensor {
         return SensorDataModel.toDomain(_factorySensor, sensorDataModels);
     }
 
+    /**
+     * Retrieves the Sensor entities associated with several Devices, with a single query.
+     *
+     * @param ids The identities of the Devices
+     * @return A list of Sensor entities associated with the Devices
+     */
+    @Override
+    public List<Sensor> getSensorsByDeviceIDs(Collection<DeviceId> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<String> deviceIDs = ids.stream().map(DeviceId::toString).distinct().toList();
+        return SensorDataModel.toDomain(_factorySensor, this._repositorySensorSpringData.findByDeviceIdIn(deviceIDs));
+    }
+
     @Override
     public SensorID containsOfIdentitySI(SensorID id) {
         return null;
     }
 
+    /**
+     * Retrieves the IDs of the devices with a sensor of each sensor type, by the description of the type,
+     * with a single query that joins the sensors with their models and types.
+     *
+     * @return The IDs of the devices by the description of the type of their sensors
+     */
+    @Override
+    public Optional<Map<String, Set<DeviceId>>> getDeviceIDsBySensorTypeDescription() {
+        return Optional.of(DeviceDataModel.toDeviceIDsByDescription(_repositorySensorSpringData.findSensorTypeDescriptionAndDeviceId()));
+    }
+
+    /**
+     * Saves a batch of sensors in a single transaction, so they are inserted in JDBC batches.
+     * The whole batch is checked before any sensor is saved, with a single query for the sensors that already exist.
+     *
+     * @param sensors The sensors to save
+     * @return The saved sensors
+     * @throws IllegalArgumentException if the batch or any of its sensors is null
+     * @throws DataIntegrityViolationException if any sensor already exists or is repeated in the batch
+     */
+    @Override
+    public List<Sensor> saveAll(List<Sensor> sensors) {
+        if (sensors == null || sensors.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Sensor cannot be null");
+        }
+        Set<String> sensorIDs = new HashSet<>();
+        List<SensorDataModel> sensorDataModels = new ArrayList<>();
+        for (Sensor sensor : sensors) {
+            if (!sensorIDs.add(sensor.identity().toString())) {
+                throw new DataIntegrityViolationException("Sensor already exists");
+            }
+            sensorDataModels.add(new SensorDataModel(sensor));
+        }
+        if (!sensorIDs.isEmpty() && _repositorySensorSpringData.countByIdIn(sensorIDs) > 0) {
+            throw new DataIntegrityViolationException("Sensor already exists");
+        }
+        _repositorySensorSpringData.saveAll(sensorDataModels);
+        return sensors;
+    }
+
+    /**
+     * Retrieves the sensors with the given identities, with a single query.
+     *
+     * @param ids The identities of the sensors
+     * @return The sensors found, in no particular order
+     */
+    @Override
+    public List<Sensor> ofIdentities(Iterable<SensorID> ids) {
+        return ofIDs(ids, sensorIDs -> SensorDataModel.toDomain(_factorySensor, _repositorySensorSpringData.findAllById(sensorIDs)));
+    }
+
+    /**
+     * Checks if every one of the given identities exists, with a single query.
+     *
+     * @param ids The identities of the sensors
+     * @return true if every sensor exists, or no identity is given, false otherwise
+     */
+    @Override
+    public boolean containsAll(Iterable<SensorID> ids) {
+        return containsAllIDs(ids, _repositorySensorSpringData::countByIdIn);
+    }
 }
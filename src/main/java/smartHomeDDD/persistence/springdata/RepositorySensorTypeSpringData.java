@@ -8,8 +8,15 @@ import smartHomeDDD.domain.sensorType.SensorType;
 import smartHomeDDD.domain.repository.IRepositorySensorType;
 import smartHomeDDD.domain.valueobject.SensorTypeID;
 import smartHomeDDD.persistence.jpa.datamodel.SensorTypeDataModel;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+
+import static smartHomeDDD.ddd.Repository.containsAllIDs;
+import static smartHomeDDD.ddd.Repository.ofIDs;
 
 /**
  * RepositorySensorTypeSpringData is a Spring Data repository for SensorTypeDataModel entities.
@@ -104,6 +111,53 @@ public class RepositorySensorTypeSpringData implements IRepositorySensorType
         return repositorySensorTypeSpringData.existsById(id.toString());
     }
 
+    /**
+     * Saves a batch of sensor types in a single transaction, checking the existence of the whole batch with a single query.
+     *
+     * @param sensorTypes The sensor types to save
+     * @return The saved sensor types
+     * @throws IllegalArgumentException if the batch or any of its sensor types is null
+     * @throws DataIntegrityViolationException if a sensor type already exists or is repeated in the batch
+     */
+    @Override
+    public List<SensorType> saveAll(List<SensorType> sensorTypes) {
+        if (sensorTypes == null || sensorTypes.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("sensorType cannot be null");
+        }
+        Set<String> sensorTypeIDs = new HashSet<>();
+        List<SensorTypeDataModel> sensorTypeDataModels = new ArrayList<>();
+        for (SensorType sensorType : sensorTypes) {
+            if (!sensorTypeIDs.add(sensorType.identity().toString())) {
+                throw new DataIntegrityViolationException("Sensor Type already exists");
+            }
+            sensorTypeDataModels.add(new SensorTypeDataModel(sensorType));
+        }
+        if (!sensorTypeIDs.isEmpty() && repositorySensorTypeSpringData.countByIdIn(sensorTypeIDs) > 0) {
+            throw new DataIntegrityViolationException("Sensor Type already exists");
+        }
+        repositorySensorTypeSpringData.saveAll(sensorTypeDataModels);
+        return sensorTypes;
+    }
 
+    /**
+     * Retrieves the sensor types with the given identities, with a single query.
+     *
+     * @param ids The identities of the sensor types
+     * @return The sensor types found, in no particular order
+     */
+    @Override
+    public List<SensorType> ofIdentities(Iterable<SensorTypeID> ids) {
+        return ofIDs(ids, sensorTypeIDs -> SensorTypeDataModel.toDomain(factorySensorType, repositorySensorTypeSpringData.findAllById(sensorTypeIDs)));
+    }
 
+    /**
+     * Checks if every one of the given identities exists, with a single query.
+     *
+     * @param ids The identities of the sensor types
+     * @return true if every sensor type exists, or no identity is given, false otherwise
+     */
+    @Override
+    public boolean containsAll(Iterable<SensorTypeID> ids) {
+        return containsAllIDs(ids, repositorySensorTypeSpringData::countByIdIn);
+    }
 }
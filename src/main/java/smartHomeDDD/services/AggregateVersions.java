@@ -0,0 +1,131 @@
+package smartHomeDDD.services;
+
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AggregateVersions keeps a version counter for each kind of aggregate that rarely changes, such as sensor types and
+ * houses. The services bump the version of a kind of aggregate each time they save or update one of them, and the
+ * controllers answer conditional GET requests with the versions, returning 304 Not Modified to a client that already
+ * holds the current version without reading anything from the repositories.
+ * The ETags include the time the versions were created, so ETags issued before the application restarted never match.
+ */
+@Service
+public class AggregateVersions {
+
+    /**
+     * The kinds of aggregate that are versioned.
+     */
+    public enum Aggregate {
+        SENSOR_TYPE, SENSOR_MODEL, ACTUATOR_TYPE, ACTUATOR_MODEL, HOUSE, ROOM
+    }
+
+    /**
+     * The clock the modification times are read from.
+     */
+    private final Clock _clock;
+
+    /**
+     * The time the versions were created, in base 36, which sets the ETags apart from the ones issued before a restart.
+     */
+    private final String _epoch;
+
+    /**
+     * The version of each kind of aggregate.
+     */
+    private final Map<Aggregate, Version> _versions = new EnumMap<>(Aggregate.class);
+
+    /**
+     * Constructor for the AggregateVersions class.
+     */
+    public AggregateVersions() {
+        this(Clock.systemUTC());
+    }
+
+    /**
+     * Constructor for the AggregateVersions class, with the clock the modification times are read from.
+     *
+     * @param clock The clock the modification times are read from.
+     * @throws IllegalArgumentException if the clock is null.
+     */
+    public AggregateVersions(Clock clock) {
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
+        this._clock = clock;
+        long now = clock.millis();
+        this._epoch = Long.toString(now, 36);
+        for (Aggregate aggregate : Aggregate.values()) {
+            _versions.put(aggregate, new Version(now));
+        }
+    }
+
+    /**
+     * Bumps the version of a kind of aggregate, after one of them was saved or updated.
+     *
+     * @param aggregate The kind of aggregate.
+     */
+    public void bump(Aggregate aggregate) {
+        _versions.get(aggregate).bump(_clock.millis());
+    }
+
+    /**
+     * Returns the strong ETag of a response built from the given kinds of aggregate, which changes whenever any of
+     * their versions does.
+     *
+     * @param aggregates The kinds of aggregate the response is built from.
+     * @return The quoted ETag.
+     */
+    public String eTag(Aggregate... aggregates) {
+        StringBuilder eTag = new StringBuilder("\"").append(_epoch);
+        for (Aggregate aggregate : aggregates) {
+            eTag.append('-').append(_versions.get(aggregate).counter());
+        }
+        return eTag.append('"').toString();
+    }
+
+    /**
+     * Returns the last time any of the given kinds of aggregate was saved or updated, or the time the versions were
+     * created if none was.
+     *
+     * @param aggregates The kinds of aggregate the response is built from.
+     * @return The last modification time, in milliseconds since the epoch.
+     */
+    public long lastModified(Aggregate... aggregates) {
+        long lastModified = Long.MIN_VALUE;
+        for (Aggregate aggregate : aggregates) {
+            lastModified = Math.max(lastModified, _versions.get(aggregate).lastModified());
+        }
+        return lastModified;
+    }
+
+    /**
+     * The version of a kind of aggregate.
+     */
+    private static final class Version {
+
+        private final AtomicLong _counter = new AtomicLong();
+        private volatile long _lastModified;
+
+        private Version(long lastModified) {
+            this._lastModified = lastModified;
+        }
+
+        private void bump(long now) {
+            _counter.incrementAndGet();
+            _lastModified = Math.max(_lastModified, now);
+        }
+
+        private long counter() {
+            return _counter.get();
+        }
+
+        private long lastModified() {
+            return _lastModified;
+        }
+    }
+}
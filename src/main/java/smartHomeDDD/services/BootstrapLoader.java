@@ -0,0 +1,425 @@
+package smartHomeDDD.services;
+
+import jakarta.persistence.EntityNotFoundException;
+import org.apache.commons.configuration2.PropertiesConfiguration;
+import org.apache.commons.configuration2.builder.fluent.Configurations;
+import org.apache.commons.configuration2.ex.ConfigurationException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import smartHomeDDD.domain.actuator.Actuator;
+import smartHomeDDD.domain.device.Device;
+import smartHomeDDD.domain.room.Room;
+import smartHomeDDD.domain.sensor.Sensor;
+import smartHomeDDD.domain.valueobject.*;
+
+import java.io.File;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * The BootstrapLoader loads the start up data of the system from a seed file, such as config.properties.
+ * The file is read and parsed once. The rooms, devices and sensors of the file are referred to by the keys given to
+ * them in the file, which are resolved in memory to the IDs generated for them as they are saved.
+ * Each kind of aggregate is saved as a batch, in a single transaction, in the order the aggregates depend on each
+ * other: houses, rooms, devices, sensor and actuator types and models, sensors, actuators and sensor readings.
+ */
+@Service
+public class BootstrapLoader {
+
+    /**
+     * The service for houses.
+     */
+    private final ServiceHouse _serviceHouse;
+
+    /**
+     * The service for rooms.
+     */
+    private final ServiceRoom _serviceRoom;
+
+    /**
+     * The service for devices.
+     */
+    private final ServiceDevice _serviceDevice;
+
+    /**
+     * The service for sensor types.
+     */
+    private final ServiceSensorType _serviceSensorType;
+
+    /**
+     * The service for actuator types.
+     */
+    private final ServiceActuatorType _serviceActuatorType;
+
+    /**
+     * The service for sensor models.
+     */
+    private final ServiceSensorModel _serviceSensorModel;
+
+    /**
+     * The service for actuator models.
+     */
+    private final ServiceActuatorModel _serviceActuatorModel;
+
+    /**
+     * The service for sensors.
+     */
+    private final ServiceSensor _serviceSensor;
+
+    /**
+     * The service for actuators.
+     */
+    private final ServiceActuator _serviceActuator;
+
+    /**
+     * The service for sensor readings.
+     */
+    private final ServiceSensorReading _serviceSensorReading;
+
+    /**
+     * The template of the transaction each kind of aggregate is saved in, or null if there is no transaction manager.
+     */
+    private final TransactionTemplate _transactionTemplate;
+
+    /**
+     * Constructor for the BootstrapLoader class, without transactions.
+     * @throws IllegalArgumentException If any of the services is null.
+     */
+    public BootstrapLoader(ServiceHouse serviceHouse, ServiceRoom serviceRoom, ServiceDevice serviceDevice,
+                           ServiceSensorType serviceSensorType, ServiceActuatorType serviceActuatorType,
+                           ServiceSensorModel serviceSensorModel, ServiceActuatorModel serviceActuatorModel,
+                           ServiceSensor serviceSensor, ServiceActuator serviceActuator,
+                           ServiceSensorReading serviceSensorReading) {
+        this(serviceHouse, serviceRoom, serviceDevice, serviceSensorType, serviceActuatorType, serviceSensorModel,
+                serviceActuatorModel, serviceSensor, serviceActuator, serviceSensorReading, null);
+    }
+
+    /**
+     * Constructor for the BootstrapLoader class.
+     * @param transactionManager The manager of the transaction each kind of aggregate is saved in, or null to save
+     * them without a transaction of their own.
+     * @throws IllegalArgumentException If any of the services is null.
+     */
+    @Autowired
+    public BootstrapLoader(ServiceHouse serviceHouse, ServiceRoom serviceRoom, ServiceDevice serviceDevice,
+                           ServiceSensorType serviceSensorType, ServiceActuatorType serviceActuatorType,
+                           ServiceSensorModel serviceSensorModel, ServiceActuatorModel serviceActuatorModel,
+                           ServiceSensor serviceSensor, ServiceActuator serviceActuator,
+                           ServiceSensorReading serviceSensorReading, PlatformTransactionManager transactionManager) {
+        if (serviceHouse == null || serviceRoom == null || serviceDevice == null || serviceSensorType == null
+                || serviceActuatorType == null || serviceSensorModel == null || serviceActuatorModel == null
+                || serviceSensor == null || serviceActuator == null || serviceSensorReading == null)
+            throw new IllegalArgumentException("Service cannot be null");
+
+        this._serviceHouse = serviceHouse;
+        this._serviceRoom = serviceRoom;
+        this._serviceDevice = serviceDevice;
+        this._serviceSensorType = serviceSensorType;
+        this._serviceActuatorType = serviceActuatorType;
+        this._serviceSensorModel = serviceSensorModel;
+        this._serviceActuatorModel = serviceActuatorModel;
+        this._serviceSensor = serviceSensor;
+        this._serviceActuator = serviceActuator;
+        this._serviceSensorReading = serviceSensorReading;
+        this._transactionTemplate = transactionManager == null ? null : new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Loads the start up data of a seed file.
+     * @param seedFile The seed file, in the format of config.properties.
+     * @return The number of aggregates of each kind that were loaded, and how long it took.
+     * @throws ConfigurationException If the seed file cannot be read.
+     * @throws EntityNotFoundException If an aggregate refers to a key that is not defined before it in the file.
+     * @throws IllegalStateException If a sensor reading is rejected.
+     */
+    public LoadReport load(File seedFile) throws ConfigurationException {
+        long start = System.nanoTime();
+        PropertiesConfiguration config = new Configurations().properties(seedFile);
+        Map<String, Integer> loaded = new LinkedHashMap<>();
+
+        loaded.put("houses", inTransaction(() -> loadHouses(config.getStringArray("house"))));
+        Map<String, RoomID> roomIDs = new HashMap<>();
+        loaded.put("rooms", inTransaction(() -> loadRooms(config.getStringArray("room"), roomIDs)));
+        Map<String, DeviceId> deviceIDs = new HashMap<>();
+        loaded.put("devices", inTransaction(() -> loadDevices(config.getStringArray("device"), roomIDs, deviceIDs)));
+        loaded.put("sensorTypes", inTransaction(() -> loadSensorTypes(config.getStringArray("sensorType"))));
+        loaded.put("actuatorTypes", inTransaction(() -> loadActuatorTypes(config.getStringArray("actuatorType"))));
+        loaded.put("sensorModels", inTransaction(() -> loadSensorModels(config.getStringArray("sensorModel"))));
+        loaded.put("actuatorModels", inTransaction(() -> loadActuatorModels(config.getStringArray("actuatorModel"))));
+        Map<String, SensorID> sensorIDs = new HashMap<>();
+        loaded.put("sensors", inTransaction(() -> loadSensors(config.getStringArray("sensor1"), deviceIDs, sensorIDs)));
+        loaded.put("actuators", inTransaction(() -> loadActuators(config.getStringArray("actuator1"), deviceIDs)));
+        loaded.put("sensorReadings", inTransaction(() -> loadSensorReadings(config.getStringArray("sensorReading"), deviceIDs, sensorIDs)));
+
+        return new LoadReport(loaded, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * Loads the houses, each as HouseId.Address.Country.ZipCode.Latitude.Longitude.
+     */
+    private int loadHouses(String[] houses) {
+        List<ServiceHouse.NewHouse> newHouses = new ArrayList<>(houses.length);
+        for (String house : houses) {
+            String[] houseParts = house.split("\\.");
+            newHouses.add(new ServiceHouse.NewHouse(
+                    new HouseId(houseParts[0]),
+                    new Location(
+                            new Address(houseParts[1]),
+                            new ZipCode(houseParts[2], houseParts[3]),
+                            new GPSCoordinates(
+                                    new Latitude(Double.parseDouble(houseParts[4])),
+                                    new Longitude(Double.parseDouble(houseParts[5]))))));
+        }
+        if (newHouses.isEmpty()) {
+            return 0;
+        }
+        return _serviceHouse.addHouses(newHouses).size();
+    }
+
+    /**
+     * Loads the rooms, each as HouseId.key.FloorNumber.Length.Width.Height.isInside.RoomName, and maps the key of each
+     * room to the ID it was given. A key that is repeated is mapped to its last room.
+     */
+    private int loadRooms(String[] rooms, Map<String, RoomID> roomIDs) {
+        List<String> keys = new ArrayList<>(rooms.length);
+        List<ServiceRoom.NewRoom> newRooms = new ArrayList<>(rooms.length);
+        for (String room : rooms) {
+            String[] roomParts = room.split("\\.");
+            keys.add(roomParts[1]);
+            newRooms.add(new ServiceRoom.NewRoom(
+                    new HouseId(roomParts[0]),
+                    new FloorNumber(Integer.parseInt(roomParts[2])),
+                    new Dimensions(
+                            new Length(Integer.parseInt(roomParts[3])),
+                            new Width(Integer.parseInt(roomParts[4])),
+                            new Height(Integer.parseInt(roomParts[5]))),
+                    Boolean.parseBoolean(roomParts[6]),
+                    new RoomName(roomParts[7])));
+        }
+        if (newRooms.isEmpty()) {
+            return 0;
+        }
+        List<Room> savedRooms = _serviceRoom.addRoomsToHouses(newRooms);
+        for (int i = 0; i < savedRooms.size(); i++) {
+            roomIDs.put(keys.get(i), savedRooms.get(i).identity());
+        }
+        return savedRooms.size();
+    }
+
+    /**
+     * Loads the devices, each as key.DeviceName.DeviceModel.ActivationStatus.roomKey, and maps the key of each device
+     * to the ID it was given.
+     */
+    private int loadDevices(String[] devices, Map<String, RoomID> roomIDs, Map<String, DeviceId> deviceIDs) {
+        List<String> keys = new ArrayList<>(devices.length);
+        List<ServiceDevice.NewDevice> newDevices = new ArrayList<>(devices.length);
+        for (String device : devices) {
+            String[] deviceParts = device.split("\\.");
+            keys.add(deviceParts[0]);
+            newDevices.add(new ServiceDevice.NewDevice(
+                    new DeviceName(deviceParts[1]),
+                    new DeviceModel(deviceParts[2]),
+                    new ActivationStatus(Boolean.parseBoolean(deviceParts[3])),
+                    resolve(roomIDs, deviceParts[4], "Room")));
+        }
+        if (newDevices.isEmpty()) {
+            return 0;
+        }
+        List<Device> savedDevices = _serviceDevice.addNewDevices(newDevices);
+        for (int i = 0; i < savedDevices.size(); i++) {
+            deviceIDs.put(keys.get(i), savedDevices.get(i).identity());
+        }
+        return savedDevices.size();
+    }
+
+    /**
+     * Loads the sensor types, each as SensorTypeID.Description.Unit.
+     */
+    private int loadSensorTypes(String[] sensorTypes) {
+        List<ServiceSensorType.NewSensorType> newSensorTypes = new ArrayList<>(sensorTypes.length);
+        for (String sensorType : sensorTypes) {
+            String[] sensorTypeParts = sensorType.split("\\.");
+            newSensorTypes.add(new ServiceSensorType.NewSensorType(
+                    new SensorTypeID(sensorTypeParts[0]),
+                    new Description(sensorTypeParts[1]),
+                    new Unit(sensorTypeParts[2])));
+        }
+        if (newSensorTypes.isEmpty()) {
+            return 0;
+        }
+        return _serviceSensorType.createSensorTypes(newSensorTypes).size();
+    }
+
+    /**
+     * Loads the actuator types, each as ActuatorTypeID.Description.Unit.
+     */
+    private int loadActuatorTypes(String[] actuatorTypes) {
+        List<ServiceActuatorType.NewActuatorType> newActuatorTypes = new ArrayList<>(actuatorTypes.length);
+        for (String actuatorType : actuatorTypes) {
+            String[] actuatorTypeParts = actuatorType.split("\\.");
+            newActuatorTypes.add(new ServiceActuatorType.NewActuatorType(
+                    new ActuatorTypeID(actuatorTypeParts[0]),
+                    new Description(actuatorTypeParts[1]),
+                    new Unit(actuatorTypeParts[2])));
+        }
+        if (newActuatorTypes.isEmpty()) {
+            return 0;
+        }
+        return _serviceActuatorType.createActuatorTypes(newActuatorTypes).size();
+    }
+
+    /**
+     * Loads the sensor models, each as SensorModelID.SensorTypeID.
+     */
+    private int loadSensorModels(String[] sensorModels) {
+        List<ServiceSensorModel.NewSensorModel> newSensorModels = new ArrayList<>(sensorModels.length);
+        for (String sensorModel : sensorModels) {
+            String[] sensorModelParts = sensorModel.split("\\.");
+            newSensorModels.add(new ServiceSensorModel.NewSensorModel(
+                    new SensorModelID(sensorModelParts[0]),
+                    new SensorTypeID(sensorModelParts[1])));
+        }
+        if (newSensorModels.isEmpty()) {
+            return 0;
+        }
+        return _serviceSensorModel.addSensorModels(newSensorModels).size();
+    }
+
+    /**
+     * Loads the actuator models, each as ActuatorModelID.ActuatorTypeID.
+     */
+    private int loadActuatorModels(String[] actuatorModels) {
+        List<ServiceActuatorModel.NewActuatorModel> newActuatorModels = new ArrayList<>(actuatorModels.length);
+        for (String actuatorModel : actuatorModels) {
+            String[] actuatorModelParts = actuatorModel.split("\\.");
+            newActuatorModels.add(new ServiceActuatorModel.NewActuatorModel(
+                    new ActuatorModelID(actuatorModelParts[0]),
+                    new ActuatorTypeID(actuatorModelParts[1])));
+        }
+        if (newActuatorModels.isEmpty()) {
+            return 0;
+        }
+        return _serviceActuatorModel.createActuatorModels(newActuatorModels).size();
+    }
+
+    /**
+     * Loads the sensors, each as key.deviceKey.SensorModelID, and maps the key of each sensor to the ID it was given.
+     */
+    private int loadSensors(String[] sensors, Map<String, DeviceId> deviceIDs, Map<String, SensorID> sensorIDs) {
+        List<String> keys = new ArrayList<>(sensors.length);
+        List<ServiceSensor.NewSensor> newSensors = new ArrayList<>(sensors.length);
+        for (String sensor : sensors) {
+            String[] sensorParts = sensor.split("\\.");
+            keys.add(sensorParts[0]);
+            newSensors.add(new ServiceSensor.NewSensor(
+                    resolve(deviceIDs, sensorParts[1], "Device"),
+                    new SensorModelID(sensorParts[2])));
+        }
+        if (newSensors.isEmpty()) {
+            return 0;
+        }
+        List<Sensor> savedSensors = _serviceSensor.createNewSensors(newSensors);
+        for (int i = 0; i < savedSensors.size(); i++) {
+            sensorIDs.put(keys.get(i), savedSensors.get(i).identity());
+        }
+        return savedSensors.size();
+    }
+
+    /**
+     * Loads the actuators, each as key.deviceKey.ActuatorModelID.
+     */
+    private int loadActuators(String[] actuators, Map<String, DeviceId> deviceIDs) {
+        List<ServiceActuator.NewActuator> newActuators = new ArrayList<>(actuators.length);
+        for (String actuator : actuators) {
+            String[] actuatorParts = actuator.split("\\.");
+            newActuators.add(new ServiceActuator.NewActuator(
+                    resolve(deviceIDs, actuatorParts[1], "Device"),
+                    new ActuatorModelID(actuatorParts[2])));
+        }
+        if (newActuators.isEmpty()) {
+            return 0;
+        }
+        List<Actuator> savedActuators = _serviceActuator.addNewActuators(newActuators);
+        return savedActuators.size();
+    }
+
+    /**
+     * Loads the sensor readings, each as key.Reading.deviceKey.sensorKey.Timestamp.
+     * @throws IllegalStateException If a sensor reading is rejected.
+     */
+    private int loadSensorReadings(String[] sensorReadings, Map<String, DeviceId> deviceIDs, Map<String, SensorID> sensorIDs) {
+        List<ServiceSensorReading.NewSensorReading> newSensorReadings = new ArrayList<>(sensorReadings.length);
+        for (String sensorReading : sensorReadings) {
+            String[] sensorReadingParts = sensorReading.split("\\.");
+            newSensorReadings.add(new ServiceSensorReading.NewSensorReading(
+                    new Reading(sensorReadingParts[1]),
+                    resolve(deviceIDs, sensorReadingParts[2], "Device"),
+                    resolve(sensorIDs, sensorReadingParts[3], "Sensor"),
+                    Timestamp.valueOf(sensorReadingParts[4])));
+        }
+        if (newSensorReadings.isEmpty()) {
+            return 0;
+        }
+        for (ServiceSensorReading.BatchOutcome outcome : _serviceSensorReading.addSensorReadings(newSensorReadings)) {
+            if (!outcome.isSaved()) {
+                throw new IllegalStateException("Sensor reading could not be loaded: " + outcome.error());
+            }
+        }
+        return newSensorReadings.size();
+    }
+
+    /**
+     * Resolves the key given in the seed file to an aggregate to the ID the aggregate was saved with.
+     * @throws EntityNotFoundException If no aggregate was loaded with the key.
+     */
+    private static <T> T resolve(Map<String, T> ids, String key, String kind) {
+        T id = ids.get(key);
+        if (id == null) {
+            throw new EntityNotFoundException(kind + " not found: " + key);
+        }
+        return id;
+    }
+
+    /**
+     * Runs a step of the load in a transaction of its own, if there is a transaction manager.
+     */
+    private <T> T inTransaction(Supplier<T> step) {
+        if (_transactionTemplate == null) {
+            return step.get();
+        }
+        return _transactionTemplate.execute(status -> step.get());
+    }
+
+    /**
+     * The outcome of a load.
+     * @param loaded The number of aggregates loaded of each kind, in the order they were loaded.
+     * @param elapsed How long the load took.
+     */
+    public record LoadReport(Map<String, Integer> loaded, Duration elapsed) {
+
+        /**
+         * Returns the number of aggregates loaded, of every kind.
+         * @return The total number of aggregates loaded.
+         */
+        public int total() {
+            return loaded.values().stream().mapToInt(Integer::intValue).sum();
+        }
+
+        /**
+         * Returns the throughput of the load.
+         * @return The number of aggregates loaded per second.
+         */
+        public double perSecond() {
+            long nanos = Math.max(1, elapsed.toNanos());
+            return total() * 1_000_000_000.0 / nanos;
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package smartHomeDDD.services;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import smartHomeDDD.domain.actuator.Actuator;
+import smartHomeDDD.domain.repository.*;
+import smartHomeDDD.domain.sensor.Sensor;
+import smartHomeDDD.domain.valueobject.ActuatorModelID;
+import smartHomeDDD.domain.valueobject.DeviceId;
+import smartHomeDDD.domain.valueobject.SensorModelID;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The DeviceFunctionalityIndex keeps the IDs of the devices with a sensor or an actuator of each type, by the
+ * description of the type. It is built from the repositories the first time it is used and again when the
+ * application is ready, after the start up data has been loaded, and is kept current as sensors and actuators are
+ * added through ServiceSensor and ServiceActuator.
+ * The index is built with one query per repository that joins the sensors and actuators with their models and types.
+ * Repositories that cannot join them are read once, and the type of each model is resolved once per build instead
+ * of once per sensor or actuator.
+ */
+@Service
+public class DeviceFunctionalityIndex {
+
+    /**
+     * The repository containing all Sensors.
+     */
+    private final IRepositorySensor _repositorySensor;
+
+    /**
+     * The repository containing all Sensor Models.
+     */
+    private final IRepositorySensorModel _repositorySensorModel;
+
+    /**
+     * The repository containing all Sensor Types.
+     */
+    private final IRepositorySensorType _repositorySensorType;
+
+    /**
+     * The repository containing all Actuators.
+     */
+    private final IRepositoryActuator _repositoryActuator;
+
+    /**
+     * The repository containing all Actuator Models.
+     */
+    private final IRepositoryActuatorModel _repositoryActuatorModel;
+
+    /**
+     * The repository containing all Actuator Types.
+     */
+    private final IRepositoryActuatorType _repositoryActuatorType;
+
+    /**
+     * The IDs of the devices by the description of the type of their sensors and actuators, or null until the index
+     * is built.
+     */
+    private volatile Map<String, Set<DeviceId>> _deviceIDsByType;
+
+    /**
+     * Constructor for the DeviceFunctionalityIndex class.
+     * @param repositorySensor The repository for sensors. Must not be null.
+     * @param repositorySensorModel The repository for sensor models. Must not be null.
+     * @param repositorySensorType The repository for sensor types. Must not be null.
+     * @param repositoryActuator The repository for actuators. Must not be null.
+     * @param repositoryActuatorModel The repository for actuator models. Must not be null.
+     * @param repositoryActuatorType The repository for actuator types. Must not be null.
+     * @throws IllegalArgumentException If any of the repositories is null.
+     */
+    public DeviceFunctionalityIndex(IRepositorySensor repositorySensor, IRepositorySensorModel repositorySensorModel,
+                                    IRepositorySensorType repositorySensorType, IRepositoryActuator repositoryActuator,
+                                    IRepositoryActuatorModel repositoryActuatorModel, IRepositoryActuatorType repositoryActuatorType) {
+        if (repositorySensor == null)
+            throw new IllegalArgumentException("Sensor Repository cannot be null");
+        if (repositorySensorModel == null)
+            throw new IllegalArgumentException("Sensor Model Repository cannot be null");
+        if (repositorySensorType == null)
+            throw new IllegalArgumentException("Sensor Type Repository cannot be null");
+        if (repositoryActuator == null)
+            throw new IllegalArgumentException("Actuator Repository cannot be null");
+        if (repositoryActuatorModel == null)
+            throw new IllegalArgumentException("Actuator Model Repository cannot be null");
+        if (repositoryActuatorType == null)
+            throw new IllegalArgumentException("Actuator Type Repository cannot be null");
+
+        this._repositorySensor = repositorySensor;
+        this._repositorySensorModel = repositorySensorModel;
+        this._repositorySensorType = repositorySensorType;
+        this._repositoryActuator = repositoryActuator;
+        this._repositoryActuatorModel = repositoryActuatorModel;
+        this._repositoryActuatorType = repositoryActuatorType;
+    }
+
+    /**
+     * Retrieves the IDs of the devices by the description of the type of their sensors and actuators, from the index.
+     * The index is built the first time it is used.
+     * @return A copy of the index.
+     */
+    public Map<String, Set<DeviceId>> getDeviceIDsByType() {
+        Map<String, Set<DeviceId>> deviceIDsByType = _deviceIDsByType;
+        if (deviceIDsByType == null) {
+            rebuild();
+            deviceIDsByType = _deviceIDsByType;
+        }
+        Map<String, Set<DeviceId>> copy = new HashMap<>();
+        deviceIDsByType.forEach((type, deviceIDs) -> copy.put(type, Set.copyOf(deviceIDs)));
+        return copy;
+    }
+
+    /**
+     * Rebuilds the index from the repositories. It runs once the application is ready, after the start up data has
+     * been loaded, so the first request does not pay for the build. The start up data goes through ServiceSensor and
+     * ServiceActuator, but they only add to an index that is built, and a persistent database also holds the sensors
+     * and actuators saved before the application started, which only a build reads.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        Map<String, Set<DeviceId>> deviceIDsByType = new ConcurrentHashMap<>();
+        loadDeviceIDsByType().forEach((type, deviceIDs) -> {
+            Set<DeviceId> indexed = ConcurrentHashMap.newKeySet();
+            indexed.addAll(deviceIDs);
+            deviceIDsByType.put(type, indexed);
+        });
+        this._deviceIDsByType = deviceIDsByType;
+    }
+
+    /**
+     * Adds the device of a saved sensor to the index, under the type of the sensor.
+     * Nothing is done if the index is not built yet, as the sensor is then read when it is built.
+     * @param sensor The saved sensor.
+     */
+    public synchronized void addSensor(Sensor sensor) {
+        if (_deviceIDsByType != null && sensor != null) {
+            String type = sensorTypeDescription(sensor.getSensorModelID());
+            addToIndex(type, sensor.getDeviceID());
+        }
+    }
+
+    /**
+     * Adds the device of a saved actuator to the index, under the type of the actuator.
+     * Nothing is done if the index is not built yet, as the actuator is then read when it is built.
+     * @param actuator The saved actuator.
+     */
+    public synchronized void addActuator(Actuator actuator) {
+        if (_deviceIDsByType != null && actuator != null) {
+            String type = actuatorTypeDescription(actuator.getActuatorModelID());
+            addToIndex(type, actuator.getDeviceID());
+        }
+    }
+
+    /**
+     * Reads the IDs of the devices by the description of the type of their sensors and actuators from the
+     * repositories, without using or changing the index.
+     * @return The IDs of the devices by type.
+     */
+    public Map<String, Set<DeviceId>> loadDeviceIDsByType() {
+        Map<String, Set<DeviceId>> deviceIDsByType = new HashMap<>();
+        Optional<Map<String, Set<DeviceId>>> sensorDevices = _repositorySensor.getDeviceIDsBySensorTypeDescription();
+        if (sensorDevices.isPresent()) {
+            merge(deviceIDsByType, sensorDevices.get());
+        } else {
+            merge(deviceIDsByType, groupByType(_repositorySensor.findAll(), Collections.emptyList()));
+        }
+        Optional<Map<String, Set<DeviceId>>> actuatorDevices = _repositoryActuator.getDeviceIDsByActuatorTypeDescription();
+        if (actuatorDevices.isPresent()) {
+            merge(deviceIDsByType, actuatorDevices.get());
+        } else {
+            merge(deviceIDsByType, groupByType(Collections.emptyList(), _repositoryActuator.findAll()));
+        }
+        return deviceIDsByType;
+    }
+
+    /**
+     * Groups the IDs of the devices of sensors and actuators by the description of their type.
+     * The type of each model is resolved once, however many sensors or actuators of that model there are.
+     * Sensors and actuators whose model or type is not found are left out.
+     * @param sensors The sensors.
+     * @param actuators The actuators.
+     * @return The IDs of the devices by type.
+     */
+    public Map<String, Set<DeviceId>> groupByType(Iterable<Sensor> sensors, Iterable<Actuator> actuators) {
+        Map<String, Set<DeviceId>> deviceIDsByType = new HashMap<>();
+        Map<SensorModelID, Optional<String>> sensorTypes = new HashMap<>();
+        for (Sensor sensor : sensors) {
+            sensorTypes.computeIfAbsent(sensor.getSensorModelID(), model -> Optional.ofNullable(sensorTypeDescription(model)))
+                    .ifPresent(type -> deviceIDsByType.computeIfAbsent(type, key -> new HashSet<>()).add(sensor.getDeviceID()));
+        }
+        Map<ActuatorModelID, Optional<String>> actuatorTypes = new HashMap<>();
+        for (Actuator actuator : actuators) {
+            actuatorTypes.computeIfAbsent(actuator.getActuatorModelID(), model -> Optional.ofNullable(actuatorTypeDescription(model)))
+                    .ifPresent(type -> deviceIDsByType.computeIfAbsent(type, key -> new HashSet<>()).add(actuator.getDeviceID()));
+        }
+        return deviceIDsByType;
+    }
+
+    /**
+     * Resolves the description of the type of a sensor model.
+     * @return The description, or null if the model or its type is not found.
+     */
+    private String sensorTypeDescription(SensorModelID sensorModelID) {
+        return _repositorySensorModel.ofIdentity(sensorModelID)
+                .flatMap(sensorModel -> _repositorySensorType.ofIdentity(sensorModel.getSensorTypeID()))
+                .map(sensorType -> String.valueOf(sensorType.getDescription()))
+                .orElse(null);
+    }
+
+    /**
+     * Resolves the description of the type of an actuator model.
+     * @return The description, or null if the model or its type is not found.
+     */
+    private String actuatorTypeDescription(ActuatorModelID actuatorModelID) {
+        return _repositoryActuatorModel.ofIdentity(actuatorModelID)
+                .flatMap(actuatorModel -> _repositoryActuatorType.ofIdentity(actuatorModel.getActuatorTypeID()))
+                .map(actuatorType -> String.valueOf(actuatorType.getDescription()))
+                .orElse(null);
+    }
+
+    /**
+     * Adds a device to the index under a type, if the type was resolved.
+     */
+    private void addToIndex(String type, DeviceId deviceId) {
+        if (type != null && deviceId != null) {
+            _deviceIDsByType.computeIfAbsent(type, key -> ConcurrentHashMap.newKeySet()).add(deviceId);
+        }
+    }
+
+    /**
+     * Adds the device IDs of each type of a map to the device IDs of the same type of another map.
+     */
+    private static void merge(Map<String, Set<DeviceId>> target, Map<String, Set<DeviceId>> source) {
+        source.forEach((type, deviceIDs) -> target.computeIfAbsent(type, key -> new HashSet<>()).addAll(deviceIDs));
+    }
+}
@@ -1,28 +1,43 @@
 package smartHomeDDD.services;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.util.UUID;
-
 /**
- * Service class to generate random IDs using UUID.
+ * Service class to generate the IDs of new aggregates, with a pluggable strategy.
+ * Unless a strategy is given, the IDs are random UUIDs.
  */
 @Service
 public class GenerateRandomId {
 
     /**
-     * Default constructor for GenerateRandomId.
+     * The strategy the IDs are generated with.
+     */
+    private final IdStrategy _idStrategy;
+
+    /**
+     * Default constructor for GenerateRandomId, which generates random UUIDs.
      */
     public GenerateRandomId(){
+        this(null);
+    }
+
+    /**
+     * Constructor for GenerateRandomId, with the strategy the IDs are generated with.
+     *
+     * @param idStrategy The strategy the IDs are generated with, or null to generate random UUIDs.
+     */
+    @Autowired
+    public GenerateRandomId(IdStrategy idStrategy){
+        this._idStrategy = idStrategy == null ? new RandomUuidStrategy() : idStrategy;
     }
 
     /**
-     * Generates a random ID using UUID.
+     * Generates an ID with the strategy of this generator.
      *
-     * @return A randomly generated ID as a String.
+     * @return The generated ID as a String.
      */
     public String  generateID(){
-        UUID id1= UUID.randomUUID();
-        return "" +id1;
+        return _idStrategy.nextId();
     }
 }
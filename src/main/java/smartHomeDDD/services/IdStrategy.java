@@ -0,0 +1,16 @@
+package smartHomeDDD.services;
+
+/**
+ * The strategy GenerateRandomId uses to generate the IDs of new aggregates.
+ * Implementations must be safe to call from several threads, and must not return the same ID twice.
+ */
+@FunctionalInterface
+public interface IdStrategy {
+
+    /**
+     * Generates a new ID.
+     *
+     * @return The generated ID.
+     */
+    String nextId();
+}
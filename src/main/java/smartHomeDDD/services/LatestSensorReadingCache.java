@@ -0,0 +1,87 @@
+package smartHomeDDD.services;
+
+import smartHomeDDD.domain.sensorReading.SensorReading;
+import smartHomeDDD.domain.valueobject.DeviceId;
+import smartHomeDDD.domain.valueobject.SensorID;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * LatestSensorReadingCache keeps the latest sensor reading of each sensor in memory, so the latest readings can be
+ * served without querying the sensor readings repository.
+ * The cache is safe to use from several threads: a reading only replaces the cached one of its sensor if it is more
+ * recent, so readings saved out of order, or while the cache is being warmed, never hide a newer one.
+ */
+public class LatestSensorReadingCache {
+
+    /**
+     * The latest sensor reading of each sensor.
+     */
+    private final Map<SensorID, SensorReading> _latestReadings = new ConcurrentHashMap<>();
+
+    /**
+     * The sensors with readings of each device.
+     */
+    private final Map<DeviceId, Set<SensorID>> _sensorsByDevice = new ConcurrentHashMap<>();
+
+    /**
+     * Whether the cache has been filled with the latest readings of the repository.
+     */
+    private volatile boolean _warm = false;
+
+    /**
+     * Updates the cache with a sensor reading, if it is more recent than the cached reading of its sensor.
+     * @param sensorReading The sensor reading.
+     */
+    public void update(SensorReading sensorReading) {
+        _latestReadings.merge(sensorReading.getSensorID(), sensorReading,
+                (latest, candidate) -> candidate.getTimeStamp().before(latest.getTimeStamp()) ? latest : candidate);
+        _sensorsByDevice.computeIfAbsent(sensorReading.getDeviceID(), deviceID -> ConcurrentHashMap.newKeySet())
+                .add(sensorReading.getSensorID());
+    }
+
+    /**
+     * Fills the cache with the latest sensor readings of the repository and marks it as warm.
+     * @param latestReadings The latest sensor reading of each sensor.
+     */
+    public void warm(List<SensorReading> latestReadings) {
+        for (SensorReading sensorReading : latestReadings) {
+            update(sensorReading);
+        }
+        _warm = true;
+    }
+
+    /**
+     * Checks whether the cache has been filled with the latest readings of the repository.
+     * @return true if the cache is warm, false otherwise.
+     */
+    public boolean isWarm() {
+        return _warm;
+    }
+
+    /**
+     * Retrieves the latest sensor reading of a sensor.
+     * @param sensorID The ID of the sensor.
+     * @return The latest sensor reading of the sensor, or an empty Optional if the sensor has no readings.
+     */
+    public Optional<SensorReading> get(SensorID sensorID) {
+        return Optional.ofNullable(_latestReadings.get(sensorID));
+    }
+
+    /**
+     * Retrieves the latest sensor reading of each sensor of a device.
+     * @param deviceID The ID of the device.
+     * @return A list with the latest sensor reading of each sensor of the device that has readings.
+     */
+    public List<SensorReading> getFromDevice(DeviceId deviceID) {
+        List<SensorReading> latestReadings = new ArrayList<>();
+        for (SensorID sensorID : _sensorsByDevice.getOrDefault(deviceID, Set.of())) {
+            SensorReading sensorReading = _latestReadings.get(sensorID);
+            if (sensorReading != null) {
+                latestReadings.add(sensorReading);
+            }
+        }
+        return latestReadings;
+    }
+}
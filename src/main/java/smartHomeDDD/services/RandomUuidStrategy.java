@@ -0,0 +1,20 @@
+package smartHomeDDD.services;
+
+import java.util.UUID;
+
+/**
+ * Generates IDs as random (version 4) UUIDs, 36 characters long.
+ * Consecutive IDs are scattered across the key space, so every insert lands on a random page of the primary key index.
+ */
+public class RandomUuidStrategy implements IdStrategy {
+
+    /**
+     * Generates a random UUID.
+     *
+     * @return The UUID as a String.
+     */
+    @Override
+    public String nextId() {
+        return UUID.randomUUID().toString();
+    }
+}
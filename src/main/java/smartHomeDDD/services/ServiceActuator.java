@@ -1,6 +1,7 @@
 package smartHomeDDD.services;
 
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import smartHomeDDD.domain.actuator.Actuator;
 import smartHomeDDD.domain.actuator.FactoryActuator;
@@ -10,8 +11,11 @@ import smartHomeDDD.domain.repository.IRepositoryDevice;
 import smartHomeDDD.domain.sensor.Sensor;
 import smartHomeDDD.domain.valueobject.*;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * The ServiceActuator class provides services related to actuator objects.
@@ -34,6 +38,12 @@ public class ServiceActuator {
     final IRepositoryDevice _repoDevice;
 
     final GenerateRandomId _generateRandomId;
+
+    /**
+     * Index of the devices by the type of their actuators, or null if there is none to keep current.
+     */
+    final DeviceFunctionalityIndex _functionalityIndex;
+
     /**
      * Constructor for the ServiceActuator class .
      *
@@ -42,6 +52,21 @@ public class ServiceActuator {
      * @throws IllegalArgumentException If the repository or factory is null.
      */
     public ServiceActuator(IRepositoryActuator repoActuator, FactoryActuator factoryActuator, IRepositoryDevice repoDevice, GenerateRandomId generateRandomId) {
+        this(repoActuator, factoryActuator, repoDevice, generateRandomId, null);
+    }
+
+    /**
+     * Constructor for the ServiceActuator class, which keeps the index of the devices by type current as actuators
+     * are added.
+     *
+     * @param repoActuator       Repository of actuators.
+     * @param factoryActuator    Factory of actuators.
+     * @param functionalityIndex Index of the devices by type, or null if there is none to keep current.
+     * @throws IllegalArgumentException If the repository or factory is null.
+     */
+    @Autowired
+    public ServiceActuator(IRepositoryActuator repoActuator, FactoryActuator factoryActuator, IRepositoryDevice repoDevice, GenerateRandomId generateRandomId,
+                           DeviceFunctionalityIndex functionalityIndex) {
         if (repoActuator == null)
             throw new IllegalArgumentException("Repository cannot be null");
         if (factoryActuator == null)
@@ -56,6 +81,7 @@ public class ServiceActuator {
         _factoryActuator = factoryActuator;
         _repoDevice = repoDevice;
         _generateRandomId = generateRandomId;
+        _functionalityIndex = functionalityIndex;
     }
 
     /**
@@ -72,7 +98,11 @@ public class ServiceActuator {
         }
         ActuatorID actuatorID = new ActuatorID(_generateRandomId.generateID());
         Actuator actuator = this._factoryActuator.createActuator(actuatorID, deviceID, actuatorModelID);
-        return this._repoActuator.save(actuator);
+        Actuator savedActuator = this._repoActuator.save(actuator);
+        if (_functionalityIndex != null) {
+            _functionalityIndex.addActuator(savedActuator);
+        }
+        return savedActuator;
     }
 
 
@@ -161,5 +191,37 @@ public class ServiceActuator {
         return sensor.getSensorModelID().toString().equals("CAP200");
     }
 
+    /**
+     * Creates a batch of new actuators and adds them to their devices.
+     * The devices of the batch are checked together before any actuator is created, and the actuators are then saved
+     * together.
+     * @param newActuators The actuators to create.
+     * @return The actuators that were created and saved, in the same order as the given ones.
+     * @throws EntityNotFoundException If the device of any of the actuators is not found.
+     */
+    public List<Actuator> addNewActuators(List<NewActuator> newActuators) {
+        Set<DeviceId> deviceIDs = new HashSet<>();
+        newActuators.forEach(newActuator -> deviceIDs.add(newActuator.deviceID()));
+        if (!_repoDevice.containsAll(deviceIDs)) {
+            throw new EntityNotFoundException("Device not found.");
+        }
+        List<Actuator> actuators = new ArrayList<>(newActuators.size());
+        for (NewActuator newActuator : newActuators) {
+            ActuatorID actuatorID = new ActuatorID(_generateRandomId.generateID());
+            actuators.add(this._factoryActuator.createActuator(actuatorID, newActuator.deviceID(), newActuator.actuatorModelID()));
+        }
+        List<Actuator> savedActuators = this._repoActuator.saveAll(actuators);
+        if (_functionalityIndex != null) {
+            savedActuators.forEach(_functionalityIndex::addActuator);
+        }
+        return savedActuators;
+    }
 
-}
\ No newline at end of file
+    /**
+     * An actuator to be created in a batch.
+     * @param deviceID The unique identifier of the device of the actuator.
+     * @param actuatorModelID The unique identifier of the model of the actuator.
+     */
+    public record NewActuator(DeviceId deviceID, ActuatorModelID actuatorModelID) {
+    }
+}
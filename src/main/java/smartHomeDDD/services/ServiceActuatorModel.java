@@ -1,12 +1,14 @@
 package smartHomeDDD.services;
 
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import smartHomeDDD.domain.actuatorModel.ActuatorModel;
 import smartHomeDDD.domain.actuatorModel.FactoryActuatorModel;
 import smartHomeDDD.domain.repository.IRepositoryActuatorModel;
 import smartHomeDDD.domain.valueobject.*;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,6 +27,10 @@ public class ServiceActuatorModel {
      * Factory of actuator models.
      */
     final FactoryActuatorModel _factoryActuatorModel;
+    /**
+     * Versions bumped each time an actuator model is saved, or null if actuator models are not versioned.
+     */
+    final AggregateVersions _aggregateVersions;
 
     /**
      * Constructor for the ServicesActuatorModels class.
@@ -33,6 +39,19 @@ public class ServiceActuatorModel {
      * @throws IllegalArgumentException If the repository or factory is null.
      */
     public ServiceActuatorModel(IRepositoryActuatorModel repoActuatorModel, FactoryActuatorModel factoryActuatorModel) {
+        this(repoActuatorModel, factoryActuatorModel, null);
+    }
+
+    /**
+     * Constructor for the ServicesActuatorModels class, with the versions bumped each time an actuator model is saved.
+     * @param repoActuatorModel    Repository of actuator models.
+     * @param factoryActuatorModel Factory of actuator models.
+     * @param aggregateVersions    Versions to bump, or null to not version actuator models.
+     * @throws IllegalArgumentException If the repository or factory is null.
+     */
+    @Autowired
+    public ServiceActuatorModel(IRepositoryActuatorModel repoActuatorModel, FactoryActuatorModel factoryActuatorModel,
+                                AggregateVersions aggregateVersions) {
         if (repoActuatorModel == null) {
             throw new IllegalArgumentException("Repository cannot be null");
         }
@@ -41,6 +60,7 @@ public class ServiceActuatorModel {
         }
         this._repoActuatorModel = repoActuatorModel;
         this._factoryActuatorModel = factoryActuatorModel;
+        this._aggregateVersions = aggregateVersions;
     }
 
     /**
@@ -73,7 +93,36 @@ public class ServiceActuatorModel {
      */
     public ActuatorModel createActuatorModel(ActuatorModelID actuatorModelID,ActuatorTypeID actuatorTypeID) {
         ActuatorModel actuatorModel = _factoryActuatorModel.createActuatorModel(actuatorModelID, actuatorTypeID);
-        return _repoActuatorModel.save(actuatorModel);
+        ActuatorModel saved = _repoActuatorModel.save(actuatorModel);
+        if (_aggregateVersions != null) {
+            _aggregateVersions.bump(AggregateVersions.Aggregate.ACTUATOR_MODEL);
+        }
+        return saved;
     }
-}
 
+    /**
+     * Creates a batch of new actuatorModel objects and saves them in the repository together.
+     * @param newActuatorModels the actuator models to create
+     * @return the actuatorModel objects that were created and saved, in the same order as the given ones.
+     */
+    public List<ActuatorModel> createActuatorModels(List<NewActuatorModel> newActuatorModels) {
+        List<ActuatorModel> actuatorModels = new ArrayList<>(newActuatorModels.size());
+        for (NewActuatorModel newActuatorModel : newActuatorModels) {
+            actuatorModels.add(_factoryActuatorModel.createActuatorModel(newActuatorModel.actuatorModelID(),
+                    newActuatorModel.actuatorTypeID()));
+        }
+        List<ActuatorModel> saved = _repoActuatorModel.saveAll(actuatorModels);
+        if (_aggregateVersions != null) {
+            _aggregateVersions.bump(AggregateVersions.Aggregate.ACTUATOR_MODEL);
+        }
+        return saved;
+    }
+
+    /**
+     * An actuator model to be created in a batch.
+     * @param actuatorModelID the ID of the actuator model
+     * @param actuatorTypeID the ID of the actuator type
+     */
+    public record NewActuatorModel(ActuatorModelID actuatorModelID, ActuatorTypeID actuatorTypeID) {
+    }
+}
@@ -1,12 +1,15 @@
 package smartHomeDDD.services;
 
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import smartHomeDDD.domain.actuatorType.ActuatorType;
 import smartHomeDDD.domain.actuatorType.FactoryActuatorType;
 import smartHomeDDD.domain.repository.IRepositoryActuatorType;
 import smartHomeDDD.domain.valueobject.*;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -25,6 +28,11 @@ public class ServiceActuatorType {
      */
     final FactoryActuatorType _factoryActuatorType;
 
+    /**
+     * Versions bumped each time an actuator type is saved, or null if actuator types are not versioned.
+     */
+    final AggregateVersions _aggregateVersions;
+
     /**
      * Constructor for the ServiceActuatorType class.
      * @param repoActuatorType    Repository of actuator types.
@@ -32,12 +40,26 @@ public class ServiceActuatorType {
      * @throws IllegalArgumentException If the repository or factory is null.
      */
     public ServiceActuatorType(IRepositoryActuatorType repoActuatorType, FactoryActuatorType factoryActuatorType) {
+        this(repoActuatorType, factoryActuatorType, null);
+    }
+
+    /**
+     * Constructor for the ServiceActuatorType class, with the versions bumped each time an actuator type is saved.
+     * @param repoActuatorType    Repository of actuator types.
+     * @param factoryActuatorType Factory of actuator types.
+     * @param aggregateVersions   Versions to bump, or null to not version actuator types.
+     * @throws IllegalArgumentException If the repository or factory is null.
+     */
+    @Autowired
+    public ServiceActuatorType(IRepositoryActuatorType repoActuatorType, FactoryActuatorType factoryActuatorType,
+                               AggregateVersions aggregateVersions) {
         if (repoActuatorType == null)
             throw new IllegalArgumentException("Repository cannot be null");
         if (factoryActuatorType == null)
             throw new IllegalArgumentException("Factory cannot be null");
         this._repoActuatorType = repoActuatorType;
         this._factoryActuatorType = factoryActuatorType;
+        this._aggregateVersions = aggregateVersions;
     }
 
     /**
@@ -70,6 +92,37 @@ public class ServiceActuatorType {
      */
     public ActuatorType createActuatorType(ActuatorTypeID actuatorTypeID, Description description, Unit unit) {
         ActuatorType actuatorType = _factoryActuatorType.createActuatorType(unit, description, actuatorTypeID);
-        return _repoActuatorType.save(actuatorType);
+        ActuatorType saved = _repoActuatorType.save(actuatorType);
+        if (_aggregateVersions != null) {
+            _aggregateVersions.bump(AggregateVersions.Aggregate.ACTUATOR_TYPE);
+        }
+        return saved;
+    }
+
+    /**
+     * Creates a batch of new actuatorType objects and saves them in the repository together.
+     * @param newActuatorTypes the actuator types to create.
+     * @return the actuatorType objects that were created and saved, in the same order as the given ones.
+     */
+    public List<ActuatorType> createActuatorTypes(List<NewActuatorType> newActuatorTypes) {
+        List<ActuatorType> actuatorTypes = new ArrayList<>(newActuatorTypes.size());
+        for (NewActuatorType newActuatorType : newActuatorTypes) {
+            actuatorTypes.add(_factoryActuatorType.createActuatorType(newActuatorType.unit(), newActuatorType.description(),
+                    newActuatorType.actuatorTypeID()));
+        }
+        List<ActuatorType> saved = _repoActuatorType.saveAll(actuatorTypes);
+        if (_aggregateVersions != null) {
+            _aggregateVersions.bump(AggregateVersions.Aggregate.ACTUATOR_TYPE);
+        }
+        return saved;
+    }
+
+    /**
+     * An actuator type to be created in a batch.
+     * @param actuatorTypeID the ID of the actuator type.
+     * @param description  the description of the actuator type.
+     * @param unit         the unit of the actuator type.
+     */
+    public record NewActuatorType(ActuatorTypeID actuatorTypeID, Description description, Unit unit) {
     }
 }
@@ -8,8 +8,11 @@ import smartHomeDDD.domain.repository.IRepositoryDevice;
 import smartHomeDDD.domain.repository.IRepositoryRoom;
 import smartHomeDDD.domain.valueobject.*;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * The ServiceDevice class provides services related to Device objects.
@@ -155,5 +158,35 @@ public class ServiceDevice {
         throw new EntityNotFoundException("PowerGridMeter not found");
     }
 
-}
+    /**
+     * Adds a batch of new devices to their rooms.
+     * The rooms of the batch are checked together before any device is created, and the devices are then saved
+     * together.
+     * @param newDevices The devices to add.
+     * @return The devices that were created and saved, in the same order as the given ones.
+     * @throws EntityNotFoundException If the room of any of the devices is not found.
+     */
+    public List<Device> addNewDevices(List<NewDevice> newDevices) {
+        Set<RoomID> roomIDs = new HashSet<>();
+        newDevices.forEach(newDevice -> roomIDs.add(newDevice.roomID()));
+        if (!repositoryRoom.containsAll(roomIDs))
+            throw new EntityNotFoundException("Room not found");
+        List<Device> devices = new ArrayList<>(newDevices.size());
+        for (NewDevice newDevice : newDevices) {
+            DeviceId deviceId = new DeviceId(generateRandomId.generateID());
+            devices.add(factoryDevice.createDevice(deviceId, newDevice.deviceName(), newDevice.deviceModel(),
+                    newDevice.activationStatus(), newDevice.roomID()));
+        }
+        return repositoryDevice.saveAll(devices);
+    }
 
+    /**
+     * A device to be added in a batch.
+     * @param deviceName The name of the device.
+     * @param deviceModel The model of the device.
+     * @param activationStatus The activation status of the device.
+     * @param roomID The unique identifier of the room of the device.
+     */
+    public record NewDevice(DeviceName deviceName, DeviceModel deviceModel, ActivationStatus activationStatus, RoomID roomID) {
+    }
+}
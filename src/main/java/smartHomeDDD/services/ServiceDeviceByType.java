@@ -1,19 +1,24 @@
 package smartHomeDDD.services;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import smartHomeDDD.domain.actuator.Actuator;
 import smartHomeDDD.domain.sensor.Sensor;
 import smartHomeDDD.domain.device.Device;
 import smartHomeDDD.domain.repository.*;
+import smartHomeDDD.domain.valueobject.DeviceId;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * The ServiceDeviceByType class provides services for grouping devices by their associated sensor or actuator types.
- * It uses various repositories to fetch devices, sensors, actuators, and their associated types and models.
+ * It uses various repositories to fetch devices, sensors, actuators, and their associated types and models, and the
+ * DeviceFunctionalityIndex to avoid resolving the model, the type and the device of every sensor and actuator.
  */
 @Service
 public class ServiceDeviceByType {
@@ -47,7 +52,18 @@ public class ServiceDeviceByType {
     final IRepositorySensorModel _repositorySensorModel;
 
     /**
-     * Constructor for the ServiceDeviceByType class.
+     * The index of the devices by the type of their sensors and actuators.
+     */
+    final DeviceFunctionalityIndex _functionalityIndex;
+    /**
+     * Whether the index is kept current by the services that add sensors and actuators, or else read again from
+     * the repositories on each request.
+     */
+    private final boolean _isIndexMaintained;
+
+    /**
+     * Constructor for the ServiceDeviceByType class, which reads the types of the devices from the repositories on
+     * each request.
      * @param repositorySensor The repository for sensors. Must not be null.
      * @param repositorySensorType The repository for sensor types. Must not be null.
      * @param repositoryActuator The repository for actuators. Must not be null.
@@ -61,7 +77,28 @@ public class ServiceDeviceByType {
                                IRepositoryActuator repositoryActuator, IRepositoryActuatorType repositoryActuatorType,
                                IRepositoryDevice repositoryDevice, IRepositoryActuatorModel repositoryActuatorModel,
                                IRepositorySensorModel repositorySensorModel) {
+        this(repositorySensor, repositorySensorType, repositoryActuator, repositoryActuatorType, repositoryDevice,
+                repositoryActuatorModel, repositorySensorModel, null);
+    }
 
+    /**
+     * Constructor for the ServiceDeviceByType class.
+     * @param repositorySensor The repository for sensors. Must not be null.
+     * @param repositorySensorType The repository for sensor types. Must not be null.
+     * @param repositoryActuator The repository for actuators. Must not be null.
+     * @param repositoryActuatorType The repository for actuator types. Must not be null.
+     * @param repositoryDevice The repository for devices. Must not be null.
+     * @param repositoryActuatorModel The repository for actuator models. Must not be null.
+     * @param repositorySensorModel The repository for sensor models. Must not be null.
+     * @param functionalityIndex The index of the devices by type, kept current by the services that add sensors and
+     *                           actuators, or null to read the types from the repositories on each request.
+     * @throws IllegalArgumentException If any of the repositories is null.
+     */
+    @Autowired
+    public ServiceDeviceByType(IRepositorySensor repositorySensor, IRepositorySensorType repositorySensorType,
+                               IRepositoryActuator repositoryActuator, IRepositoryActuatorType repositoryActuatorType,
+                               IRepositoryDevice repositoryDevice, IRepositoryActuatorModel repositoryActuatorModel,
+                               IRepositorySensorModel repositorySensorModel, DeviceFunctionalityIndex functionalityIndex) {
         if (repositorySensor == null)
             throw new IllegalArgumentException("Sensor Repository cannot be null");
         if (repositorySensorType == null)
@@ -84,20 +121,21 @@ public class ServiceDeviceByType {
         this._repositoryDevice = repositoryDevice;
         this._repositoryActuatorModel = repositoryActuatorModel;
         this._repositorySensorModel = repositorySensorModel;
+        this._isIndexMaintained = functionalityIndex != null;
+        this._functionalityIndex = _isIndexMaintained ? functionalityIndex : new DeviceFunctionalityIndex(repositorySensor,
+                repositorySensorModel, repositorySensorType, repositoryActuator, repositoryActuatorModel, repositoryActuatorType);
     }
 
     /**
-     * Retrieves all devices, groups them by their associated sensor or actuator types, and maps them to their DTO representation.
+     * Retrieves all devices, grouped by the types of their sensors and actuators.
+     * The types are read from the functionality index, and the devices are fetched together, with a single query.
      * @return returns a Map with a key of types and their respective lists comprised of Device Objects of that type.
      */
     public Map<String, List<Device>> getDevicesByType() {
-        Map<String, List<Device>> groupedDevices = new HashMap<>();
-        List<Sensor> sensors = new ArrayList<>();
-        _repositorySensor.findAll().forEach(sensors::add);
-        List<Actuator> actuators = new ArrayList<>();
-        _repositoryActuator.findAll().forEach(actuators::add);
-        assignDevicesByType(groupedDevices, sensors, actuators);
-        return groupedDevices;
+        Map<String, Set<DeviceId>> deviceIDsByType = _isIndexMaintained
+                ? _functionalityIndex.getDeviceIDsByType()
+                : _functionalityIndex.loadDeviceIDsByType();
+        return assignDevices(new HashMap<>(), deviceIDsByType);
     }
 
     /**
@@ -109,53 +147,35 @@ public class ServiceDeviceByType {
      * @return returns an updated Map with the newly inserted Devices in their respective List.
      */
     public Map<String, List<Device>> assignDevicesByType(Map<String, List<Device>> groupedDevices, List<Sensor> sensors, List<Actuator> actuators){
-        assignDeviceToSensorGroupType(groupedDevices,sensors);
-        assignDeviceToActuatorGroupType(groupedDevices,actuators);
-        return groupedDevices;
-    }
-
-    /**
-     * Given a Map of Devices and a list of Sensors, it stores the latter's corresponding Device in the respective Type List.
-     * @param groupedDevices Map containing Types and the respective List of Devices of that type.
-     * @param sensors A list of all sensors present in the repository.
-     * @return returns an updated Map with the newly inserted Devices in their respective List.
-     */
-    private boolean assignDeviceToSensorGroupType(Map<String, List<Device>> groupedDevices, List<Sensor> sensors) {
-        if (sensors.isEmpty()) {
-            return false;
-        }
-        for (Sensor sensor : sensors) {
-            // Retrieve the description from the sensor model if it's present
-            _repositorySensorModel.ofIdentity(sensor.getSensorModelID()).flatMap(sensorModel ->
-                    _repositorySensorType.ofIdentity(sensorModel.getSensorTypeID())).ifPresent(sensorType -> {
-                String typeDescription = String.valueOf(sensorType.getDescription());
-                // Retrieve the device if it's present and add it to the map
-                _repositoryDevice.ofIdentity(sensor.getDeviceID()).ifPresent(device -> addDeviceToTypeMap(groupedDevices, typeDescription, device));
-            });
-        }
-        return true;
+        return assignDevices(groupedDevices, _functionalityIndex.groupByType(sensors, actuators));
     }
 
     /**
-     * Given a Map of Devices and a list of Actuators, it stores the latter's corresponding Device in the respective Type List.
-     * @param groupedDevices Map containing Types and the respective List of Devices of that type.
-     * @param actuators A list of all actuators present in the repository.
-     * @return returns an updated Map with the newly inserted Devices in their respective List.
+     * Adds the devices of each type to the grouped devices map, fetching the devices together with a single query.
+     * A device is added to the list of a type only once, and types without any device that is found are left out.
+     * @param groupedDevices The map containing grouped devices organized in lists by type.
+     * @param deviceIDsByType The IDs of the devices by type.
+     * @return returns the updated Map.
      */
-    private boolean assignDeviceToActuatorGroupType(Map<String, List<Device>> groupedDevices, List<Actuator> actuators) {
-        if (actuators.isEmpty()) {
-            return false;
+    private Map<String, List<Device>> assignDevices(Map<String, List<Device>> groupedDevices, Map<String, Set<DeviceId>> deviceIDsByType) {
+        if (deviceIDsByType.isEmpty()) {
+            return groupedDevices;
         }
-        for (Actuator actuator : actuators) {
-            // Retrieve the description from the actuator model if it's present
-            _repositoryActuatorModel.ofIdentity(actuator.getActuatorModelID()).flatMap(actuatorModel ->
-                    _I_repositoryActuatorType.ofIdentity(actuatorModel.getActuatorTypeID())).ifPresent(actuatorType -> {
-                String typeDescription = String.valueOf(actuatorType.getDescription());
-                // Retrieve the device if it's present and add it to the map
-                _repositoryDevice.ofIdentity(actuator.getDeviceID()).ifPresent(device -> addDeviceToTypeMap(groupedDevices, typeDescription, device));
-            });
+        Set<DeviceId> allDeviceIDs = new HashSet<>();
+        deviceIDsByType.values().forEach(allDeviceIDs::addAll);
+        Map<DeviceId, Device> devices = new HashMap<>();
+        for (Device device : _repositoryDevice.ofIdentities(allDeviceIDs)) {
+            devices.put(device.identity(), device);
         }
-        return true;
+        deviceIDsByType.forEach((typeDescription, deviceIDs) -> {
+            for (DeviceId deviceID : deviceIDs) {
+                Device device = devices.get(deviceID);
+                if (device != null) {
+                    addDeviceToTypeMap(groupedDevices, typeDescription, device);
+                }
+            }
+        });
+        return groupedDevices;
     }
 
     /**
@@ -167,8 +187,11 @@ public class ServiceDeviceByType {
      * @param device The device to be added to the Map.
      */
     private boolean addDeviceToTypeMap(Map<String, List<Device>> groupedDevices, String typeDescription, Device device) {
-        groupedDevices.putIfAbsent(typeDescription, new ArrayList<>());
-        groupedDevices.get(typeDescription).add(device);
+        List<Device> devices = groupedDevices.computeIfAbsent(typeDescription, key -> new ArrayList<>());
+        if (devices.contains(device)) {
+            return false;
+        }
+        devices.add(device);
         return true;
     }
 }
@@ -1,12 +1,14 @@
 package smartHomeDDD.services;
 
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import smartHomeDDD.domain.house.FactoryHouse;
 import smartHomeDDD.domain.house.House;
 import smartHomeDDD.domain.repository.IRepositoryHouse;
 import smartHomeDDD.domain.valueobject.*;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,6 +29,11 @@ public class ServiceHouse {
      */
     private final FactoryHouse _factoryHouse;
 
+    /**
+     * The versions bumped each time a house is saved or updated, or null if houses are not versioned.
+     */
+    private final AggregateVersions _aggregateVersions;
+
 
     /**
      * Constructs a new ServiceHouse instance.
@@ -35,12 +42,26 @@ public class ServiceHouse {
      * @throws IllegalArgumentException if repoHouse or factoryHouse is null.
      */
     public ServiceHouse(IRepositoryHouse repoHouse, FactoryHouse factoryHouse) {
+        this(repoHouse, factoryHouse, null);
+    }
+
+    /**
+     * Constructs a new ServiceHouse instance, with the versions bumped each time a house is saved or updated.
+     *
+     * @param repoHouse The repository for houses. Must not be null.
+     * @param factoryHouse The factory for houses. Must not be null.
+     * @param aggregateVersions The versions to bump, or null to not version houses.
+     * @throws IllegalArgumentException if repoHouse or factoryHouse is null.
+     */
+    @Autowired
+    public ServiceHouse(IRepositoryHouse repoHouse, FactoryHouse factoryHouse, AggregateVersions aggregateVersions) {
         if (repoHouse == null)
             throw new IllegalArgumentException("House Repository cannot be null");
         if (factoryHouse == null)
             throw new IllegalArgumentException("House Factory cannot be null");
         _repoHouse = repoHouse;
         _factoryHouse = factoryHouse;
+        _aggregateVersions = aggregateVersions;
     }
 
     /**
@@ -56,7 +77,9 @@ public class ServiceHouse {
         if (house.isPresent()) { // Check if house with id exists in repo
             House myHouse = house.get(); // Obtain the house
             myHouse.configureLocation(newHouseLocation); // Change the location of the house
-            return this._repoHouse.update(myHouse); // if perform successful
+            House updated = this._repoHouse.update(myHouse); // if perform successful
+            bumpVersion();
+            return updated;
         }
         throw new EntityNotFoundException("Can't find House"); // if unable to perform any action for some reason
     }
@@ -94,6 +117,43 @@ public class ServiceHouse {
      */
     public House addHouse(HouseId id, Location location) {
         House house = this._factoryHouse.createHouse(id, location);
-        return _repoHouse.save(house);
+        House saved = _repoHouse.save(house);
+        bumpVersion();
+        return saved;
+    }
+
+    /**
+     * Adds a batch of new houses to the repository.
+     * The houses are created first and then saved together, so none of them is saved if one of them already exists.
+     *
+     * @param newHouses The houses to add.
+     * @return The houses that were created and saved, in the same order as the given ones.
+     */
+    public List<House> addHouses(List<NewHouse> newHouses) {
+        List<House> houses = new ArrayList<>(newHouses.size());
+        for (NewHouse newHouse : newHouses) {
+            houses.add(_factoryHouse.createHouse(newHouse.houseId(), newHouse.location()));
+        }
+        List<House> saved = _repoHouse.saveAll(houses);
+        bumpVersion();
+        return saved;
+    }
+
+    /**
+     * Bumps the version of the houses, if they are versioned.
+     */
+    private void bumpVersion() {
+        if (_aggregateVersions != null) {
+            _aggregateVersions.bump(AggregateVersions.Aggregate.HOUSE);
+        }
+    }
+
+    /**
+     * A house to be added in a batch.
+     *
+     * @param houseId The unique identifier of the house.
+     * @param location The location of the house.
+     */
+    public record NewHouse(HouseId houseId, Location location) {
     }
-}
\ No newline at end of file
+}
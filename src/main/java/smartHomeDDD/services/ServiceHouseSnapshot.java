@@ -0,0 +1,225 @@
+package smartHomeDDD.services;
+
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.stereotype.Service;
+import smartHomeDDD.domain.actuator.Actuator;
+import smartHomeDDD.domain.device.Device;
+import smartHomeDDD.domain.house.House;
+import smartHomeDDD.domain.repository.IRepositoryActuator;
+import smartHomeDDD.domain.repository.IRepositoryDevice;
+import smartHomeDDD.domain.repository.IRepositoryHouse;
+import smartHomeDDD.domain.repository.IRepositoryRoom;
+import smartHomeDDD.domain.repository.IRepositorySensor;
+import smartHomeDDD.domain.room.Room;
+import smartHomeDDD.domain.sensor.Sensor;
+import smartHomeDDD.domain.sensorReading.SensorReading;
+import smartHomeDDD.domain.valueobject.DeviceId;
+import smartHomeDDD.domain.valueobject.HouseId;
+import smartHomeDDD.domain.valueobject.RoomID;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The ServiceHouseSnapshot class builds the snapshot of a house: the house with its rooms, the devices of each room,
+ * and the sensors and actuators of each device, with the latest reading of each sensor.
+ * Each level of the tree is read with a single query for the whole house, and the levels are then put together in
+ * memory, so a snapshot costs the same number of queries however many rooms, devices, sensors and actuators the house
+ * has. The latest readings are read from the latest sensor reading cache of the sensor reading service.
+ */
+@Service
+public class ServiceHouseSnapshot {
+
+    /**
+     * How deep into the house the snapshot goes.
+     */
+    public enum Depth {
+        /** Only the house. */
+        HOUSE,
+        /** The house and its rooms. */
+        ROOMS,
+        /** The house, its rooms and their devices. */
+        DEVICES,
+        /** The house, its rooms, their devices and the sensors and actuators of the devices. */
+        COMPONENTS
+    }
+
+    /**
+     * The optional parts of the devices in a snapshot. A part that is not selected is not read at all.
+     */
+    public enum Field {
+        /** The sensors of each device. */
+        SENSORS,
+        /** The actuators of each device. */
+        ACTUATORS,
+        /** The latest reading of each sensor, when the sensors are selected. */
+        READINGS
+    }
+
+    /**
+     * Repository for houses.
+     */
+    final IRepositoryHouse _repositoryHouse;
+    /**
+     * Repository for rooms.
+     */
+    final IRepositoryRoom _repositoryRoom;
+    /**
+     * Repository for devices.
+     */
+    final IRepositoryDevice _repositoryDevice;
+    /**
+     * Repository for sensors.
+     */
+    final IRepositorySensor _repositorySensor;
+    /**
+     * Repository for actuators.
+     */
+    final IRepositoryActuator _repositoryActuator;
+    /**
+     * Service for sensor readings, which keeps the latest reading of each sensor.
+     */
+    final ServiceSensorReading _serviceSensorReading;
+
+    /**
+     * Constructor for the ServiceHouseSnapshot class.
+     * @param repositoryHouse Repository for houses. Must not be null.
+     * @param repositoryRoom Repository for rooms. Must not be null.
+     * @param repositoryDevice Repository for devices. Must not be null.
+     * @param repositorySensor Repository for sensors. Must not be null.
+     * @param repositoryActuator Repository for actuators. Must not be null.
+     * @param serviceSensorReading Service for sensor readings. Must not be null.
+     * @throws IllegalArgumentException If any of the repositories or the service is null.
+     */
+    public ServiceHouseSnapshot(IRepositoryHouse repositoryHouse, IRepositoryRoom repositoryRoom,
+                                IRepositoryDevice repositoryDevice, IRepositorySensor repositorySensor,
+                                IRepositoryActuator repositoryActuator, ServiceSensorReading serviceSensorReading) {
+        if (repositoryHouse == null || repositoryRoom == null || repositoryDevice == null
+                || repositorySensor == null || repositoryActuator == null) {
+            throw new IllegalArgumentException("Repository cannot be null");
+        }
+        if (serviceSensorReading == null) {
+            throw new IllegalArgumentException("ServiceSensorReading cannot be null");
+        }
+        this._repositoryHouse = repositoryHouse;
+        this._repositoryRoom = repositoryRoom;
+        this._repositoryDevice = repositoryDevice;
+        this._repositorySensor = repositorySensor;
+        this._repositoryActuator = repositoryActuator;
+        this._serviceSensorReading = serviceSensorReading;
+    }
+
+    /**
+     * Builds the snapshot of a house.
+     * The house, its rooms, the devices of the rooms, their sensors and their actuators are each read with a single
+     * query, and only down to the given depth and for the selected fields.
+     * @param houseId The ID of the house.
+     * @param depth How deep into the house the snapshot goes.
+     * @param fields The optional parts of the devices to include.
+     * @return The snapshot of the house. The parts below the depth, or not selected, are null.
+     * @throws EntityNotFoundException If the house is not found.
+     * @throws IllegalArgumentException If the depth or the fields are null.
+     */
+    public HouseSnapshot getHouseSnapshot(HouseId houseId, Depth depth, Set<Field> fields) {
+        if (depth == null || fields == null) {
+            throw new IllegalArgumentException("Depth and fields cannot be null");
+        }
+        House house = _repositoryHouse.ofIdentity(houseId)
+                .orElseThrow(() -> new EntityNotFoundException("House not found"));
+        if (depth == Depth.HOUSE) {
+            return new HouseSnapshot(house, null);
+        }
+
+        List<Room> rooms = _repositoryRoom.getRoomsByHouseID(houseId);
+        Map<RoomID, List<Device>> devicesByRoom = new HashMap<>();
+        Map<DeviceId, List<Sensor>> sensorsByDevice = new HashMap<>();
+        Map<DeviceId, List<Actuator>> actuatorsByDevice = new HashMap<>();
+        boolean withDevices = depth.compareTo(Depth.DEVICES) >= 0 && !rooms.isEmpty();
+        boolean withSensors = depth == Depth.COMPONENTS && fields.contains(Field.SENSORS);
+        boolean withActuators = depth == Depth.COMPONENTS && fields.contains(Field.ACTUATORS);
+        boolean withReadings = withSensors && fields.contains(Field.READINGS);
+
+        if (withDevices) {
+            List<RoomID> roomIDs = new ArrayList<>(rooms.size());
+            rooms.forEach(room -> roomIDs.add(room.identity()));
+            List<DeviceId> deviceIDs = new ArrayList<>();
+            for (Device device : _repositoryDevice.getDevicesInRooms(roomIDs)) {
+                devicesByRoom.computeIfAbsent(device.getRoomId(), roomID -> new ArrayList<>()).add(device);
+                deviceIDs.add(device.identity());
+            }
+            if (withSensors && !deviceIDs.isEmpty()) {
+                for (Sensor sensor : _repositorySensor.getSensorsByDeviceIDs(deviceIDs)) {
+                    sensorsByDevice.computeIfAbsent(sensor.getDeviceID(), deviceID -> new ArrayList<>()).add(sensor);
+                }
+            }
+            if (withActuators && !deviceIDs.isEmpty()) {
+                for (Actuator actuator : _repositoryActuator.getActuatorsByDeviceIDs(deviceIDs)) {
+                    actuatorsByDevice.computeIfAbsent(actuator.getDeviceID(), deviceID -> new ArrayList<>()).add(actuator);
+                }
+            }
+        }
+
+        List<RoomSnapshot> roomSnapshots = new ArrayList<>(rooms.size());
+        for (Room room : rooms) {
+            List<DeviceSnapshot> deviceSnapshots = null;
+            if (depth.compareTo(Depth.DEVICES) >= 0) {
+                deviceSnapshots = new ArrayList<>();
+                for (Device device : devicesByRoom.getOrDefault(room.identity(), List.of())) {
+                    List<SensorSnapshot> sensorSnapshots = null;
+                    if (withSensors) {
+                        sensorSnapshots = new ArrayList<>();
+                        for (Sensor sensor : sensorsByDevice.getOrDefault(device.identity(), List.of())) {
+                            SensorReading latestReading = withReadings
+                                    ? _serviceSensorReading.getLatestReadingFromSensor(sensor.identity()).orElse(null)
+                                    : null;
+                            sensorSnapshots.add(new SensorSnapshot(sensor, latestReading));
+                        }
+                    }
+                    List<Actuator> actuators = withActuators
+                            ? actuatorsByDevice.getOrDefault(device.identity(), List.of())
+                            : null;
+                    deviceSnapshots.add(new DeviceSnapshot(device, sensorSnapshots, actuators));
+                }
+            }
+            roomSnapshots.add(new RoomSnapshot(room, deviceSnapshots));
+        }
+        return new HouseSnapshot(house, roomSnapshots);
+    }
+
+    /**
+     * The snapshot of a house.
+     * @param house The house.
+     * @param rooms The snapshots of the rooms of the house, or null if the snapshot does not go as deep as the rooms.
+     */
+    public record HouseSnapshot(House house, List<RoomSnapshot> rooms) {
+    }
+
+    /**
+     * The snapshot of a room.
+     * @param room The room.
+     * @param devices The snapshots of the devices of the room, or null if the snapshot does not go as deep as the
+     *                devices.
+     */
+    public record RoomSnapshot(Room room, List<DeviceSnapshot> devices) {
+    }
+
+    /**
+     * The snapshot of a device.
+     * @param device The device.
+     * @param sensors The snapshots of the sensors of the device, or null if they are not included.
+     * @param actuators The actuators of the device, or null if they are not included.
+     */
+    public record DeviceSnapshot(Device device, List<SensorSnapshot> sensors, List<Actuator> actuators) {
+    }
+
+    /**
+     * The snapshot of a sensor.
+     * @param sensor The sensor.
+     * @param latestReading The latest reading of the sensor, or null if it has none or the readings are not included.
+     */
+    public record SensorSnapshot(Sensor sensor, SensorReading latestReading) {
+    }
+}
@@ -1,6 +1,7 @@
 package smartHomeDDD.services;
 
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import smartHomeDDD.domain.repository.IRepositoryHouse;
 import smartHomeDDD.domain.repository.IRepositoryRoom;
@@ -8,8 +9,11 @@ import smartHomeDDD.domain.room.FactoryRoom;
 import smartHomeDDD.domain.room.Room;
 import smartHomeDDD.domain.valueobject.*;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * The ServiceRoom class provides services related to Room objects.
@@ -34,6 +38,10 @@ public class ServiceRoom {
      * Service for generating random IDs.
      */
     final GenerateRandomId _generateRandomId;
+    /**
+     * Versions bumped each time a room is saved, or null if rooms are not versioned.
+     */
+    final AggregateVersions _aggregateVersions;
 
 
     /**
@@ -45,6 +53,21 @@ public class ServiceRoom {
      * @throws IllegalArgumentException If the factory or repository is null.
      */
     public ServiceRoom(FactoryRoom factoryRoom, IRepositoryRoom repositoryRoom, IRepositoryHouse repositoryHouse, GenerateRandomId generateRandomId) {
+        this(factoryRoom, repositoryRoom, repositoryHouse, generateRandomId, null);
+    }
+
+    /**
+     * Constructor for the ServiceRoom class, with the versions bumped each time a room is saved.
+     * @param factoryRoom    Factory for creating Room objects. Must not be null.
+     * @param repositoryRoom Repository for storing and retrieving Room objects. Must not be null.
+     * @param repositoryHouse Repository for storing and retrieving House objects. Must not be null.
+     * @param generateRandomId Service for generating random IDs. Must not be null.
+     * @param aggregateVersions Versions to bump, or null to not version rooms.
+     * @throws IllegalArgumentException If the factory or repository is null.
+     */
+    @Autowired
+    public ServiceRoom(FactoryRoom factoryRoom, IRepositoryRoom repositoryRoom, IRepositoryHouse repositoryHouse,
+                       GenerateRandomId generateRandomId, AggregateVersions aggregateVersions) {
         if (factoryRoom == null) {
             throw new IllegalArgumentException("Factory cannot be null");
         }
@@ -61,6 +84,7 @@ public class ServiceRoom {
         this._repositoryRoom = repositoryRoom;
         this._repositoryHouse = repositoryHouse;
         this._generateRandomId = generateRandomId;
+        this._aggregateVersions = aggregateVersions;
     }
 
     /**
@@ -79,7 +103,9 @@ public class ServiceRoom {
         }
         RoomID roomId = new RoomID(_generateRandomId.generateID());
         Room room = _factoryRoom.createRoom(houseId, roomId, floorNumber, dimensions, isInside, roomName);
-        return _repositoryRoom.save(room);
+        Room saved = _repositoryRoom.save(room);
+        bumpVersion();
+        return saved;
     }
 
     /**
@@ -120,4 +146,47 @@ public class ServiceRoom {
         }
     }
 
+    /**
+     * Adds a batch of new rooms to their houses.
+     * The houses of the batch are checked together before any room is created, and the rooms are then saved together.
+     * @param newRooms The rooms to add.
+     * @return The rooms that were created and saved, in the same order as the given ones.
+     * @throws EntityNotFoundException If the house of any of the rooms is not found.
+     */
+    public List<Room> addRoomsToHouses(List<NewRoom> newRooms) {
+        Set<HouseId> houseIds = new HashSet<>();
+        newRooms.forEach(newRoom -> houseIds.add(newRoom.houseId()));
+        if (!_repositoryHouse.containsAll(houseIds)) {
+            throw new EntityNotFoundException("House not found");
+        }
+        List<Room> rooms = new ArrayList<>(newRooms.size());
+        for (NewRoom newRoom : newRooms) {
+            RoomID roomId = new RoomID(_generateRandomId.generateID());
+            rooms.add(_factoryRoom.createRoom(newRoom.houseId(), roomId, newRoom.floorNumber(), newRoom.dimensions(),
+                    newRoom.isInside(), newRoom.roomName()));
+        }
+        List<Room> saved = _repositoryRoom.saveAll(rooms);
+        bumpVersion();
+        return saved;
+    }
+
+    /**
+     * Bumps the version of the rooms, if they are versioned.
+     */
+    private void bumpVersion() {
+        if (_aggregateVersions != null) {
+            _aggregateVersions.bump(AggregateVersions.Aggregate.ROOM);
+        }
+    }
+
+    /**
+     * A room to be added in a batch.
+     * @param houseId The unique identifier of the house of the room.
+     * @param floorNumber The floor number of the room.
+     * @param dimensions The dimensions of the room.
+     * @param isInside Whether the room is inside the house.
+     * @param roomName The name of the room.
+     */
+    public record NewRoom(HouseId houseId, FloorNumber floorNumber, Dimensions dimensions, boolean isInside, RoomName roomName) {
+    }
 }
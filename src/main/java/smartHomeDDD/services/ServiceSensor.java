@@ -1,6 +1,7 @@
 package smartHomeDDD.services;
 
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import smartHomeDDD.domain.repository.IRepositoryDevice;
 import smartHomeDDD.domain.sensor.Sensor;
@@ -10,8 +11,11 @@ import smartHomeDDD.domain.valueobject.DeviceId;
 import smartHomeDDD.domain.valueobject.SensorID;
 import smartHomeDDD.domain.valueobject.SensorModelID;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * The ServiceSensor class provides services related to Sensor objects.
@@ -38,6 +42,11 @@ public class ServiceSensor {
      */
     final GenerateRandomId generateRandomId;
 
+    /**
+     * The index of the devices by the type of their sensors, or null if there is none to keep current.
+     */
+    final DeviceFunctionalityIndex functionalityIndex;
+
     /**
      * The SensorModelID of the temperature sensor.
      */
@@ -52,6 +61,22 @@ public class ServiceSensor {
      * @throws IllegalArgumentException if any of the parameters are null
      */
     public ServiceSensor(FactorySensor factorySensor, IRepositorySensor repoSensor, IRepositoryDevice repoDevice, GenerateRandomId generateRandomId) {
+        this(factorySensor, repoSensor, repoDevice, generateRandomId, null);
+    }
+
+    /**
+     * Constructs a new ServiceSensor with the specified FactorySensor and repositories, which keeps the index of the
+     * devices by type current as sensors are created.
+     * Throws an IllegalArgumentException if any of the parameters but the index are null.
+     *
+     * @param factorySensor      the FactorySensor to be used by the service
+     * @param repoSensor         the RepositorySensor to be used by the service
+     * @param functionalityIndex the index of the devices by type, or null if there is none to keep current
+     * @throws IllegalArgumentException if any of the parameters but the index are null
+     */
+    @Autowired
+    public ServiceSensor(FactorySensor factorySensor, IRepositorySensor repoSensor, IRepositoryDevice repoDevice, GenerateRandomId generateRandomId,
+                         DeviceFunctionalityIndex functionalityIndex) {
         if (factorySensor == null)
             throw new IllegalArgumentException("Factory cannot be null.");
         if (repoSensor == null)
@@ -67,6 +92,7 @@ public class ServiceSensor {
         this.repoSensor = repoSensor;
         this.repoDevice = repoDevice;
         this.generateRandomId = generateRandomId;
+        this.functionalityIndex = functionalityIndex;
     }
 
     /**
@@ -83,7 +109,11 @@ public class ServiceSensor {
         }
         SensorID sensorID = new SensorID(generateRandomId.generateID());
         Sensor sensorToBeCreated = this.factorySensor.createSensor(deviceID, sensorModelID, sensorID);
-        return this.repoSensor.save(sensorToBeCreated);
+        Sensor savedSensor = this.repoSensor.save(sensorToBeCreated);
+        if (functionalityIndex != null) {
+            functionalityIndex.addSensor(savedSensor);
+        }
+        return savedSensor;
     }
 
     /**
@@ -128,6 +158,37 @@ public class ServiceSensor {
         return (sensor.getSensorModelID().toString().equals(TEMP_SENSOR_MODEL_ID));
     }
 
+    /**
+     * Creates a batch of new sensors and adds them to their devices.
+     * The devices of the batch are checked together before any sensor is created, and the sensors are then saved
+     * together.
+     * @param newSensors the sensors to create
+     * @return the sensors that were created and saved, in the same order as the given ones
+     * @throws EntityNotFoundException if the device of any of the sensors is not found
+     */
+    public List<Sensor> createNewSensors(List<NewSensor> newSensors) {
+        Set<DeviceId> deviceIDs = new HashSet<>();
+        newSensors.forEach(newSensor -> deviceIDs.add(newSensor.deviceID()));
+        if (!repoDevice.containsAll(deviceIDs)) {
+            throw new EntityNotFoundException("Device not found");
+        }
+        List<Sensor> sensors = new ArrayList<>(newSensors.size());
+        for (NewSensor newSensor : newSensors) {
+            SensorID sensorID = new SensorID(generateRandomId.generateID());
+            sensors.add(this.factorySensor.createSensor(newSensor.deviceID(), newSensor.sensorModelID(), sensorID));
+        }
+        List<Sensor> savedSensors = this.repoSensor.saveAll(sensors);
+        if (functionalityIndex != null) {
+            savedSensors.forEach(functionalityIndex::addSensor);
+        }
+        return savedSensors;
+    }
 
-
-}
\ No newline at end of file
+    /**
+     * A sensor to be created in a batch.
+     * @param deviceID the unique identifier of the device of the sensor
+     * @param sensorModelID the unique identifier of the model of the sensor
+     */
+    public record NewSensor(DeviceId deviceID, SensorModelID sensorModelID) {
+    }
+}
@@ -2,6 +2,7 @@ package smartHomeDDD.services;
 
 
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import smartHomeDDD.domain.sensorModel.FactorySensorModel;
 import smartHomeDDD.domain.sensorModel.SensorModel;
@@ -9,6 +10,7 @@ import smartHomeDDD.domain.repository.IRepositorySensorModel;
 import smartHomeDDD.domain.valueobject.SensorModelID;
 import smartHomeDDD.domain.valueobject.SensorTypeID;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,6 +31,11 @@ public class ServiceSensorModel {
      */
     final FactorySensorModel _factorySensorModel;
 
+    /**
+     * Versions bumped each time a sensor model is saved, or null if sensor models are not versioned.
+     */
+    final AggregateVersions _aggregateVersions;
+
     /**
      * Constructor for the ServiceSensorModel class.
      * @param repoSensorModel    Repository of sensor models. Must not be null.
@@ -36,6 +43,19 @@ public class ServiceSensorModel {
      * @throws IllegalArgumentException If the repository or factory is null.
      */
     public ServiceSensorModel(IRepositorySensorModel repoSensorModel, FactorySensorModel factorySensorModel) throws IllegalArgumentException {
+        this(repoSensorModel, factorySensorModel, null);
+    }
+
+    /**
+     * Constructor for the ServiceSensorModel class, with the versions bumped each time a sensor model is saved.
+     * @param repoSensorModel    Repository of sensor models. Must not be null.
+     * @param factorySensorModel Factory of sensor models. Must not be null.
+     * @param aggregateVersions  Versions to bump, or null to not version sensor models.
+     * @throws IllegalArgumentException If the repository or factory is null.
+     */
+    @Autowired
+    public ServiceSensorModel(IRepositorySensorModel repoSensorModel, FactorySensorModel factorySensorModel,
+                              AggregateVersions aggregateVersions) throws IllegalArgumentException {
         if (repoSensorModel == null) {
             throw new IllegalArgumentException("Repository cannot be null");
         }
@@ -44,6 +64,7 @@ public class ServiceSensorModel {
         }
         this._repoSensorModel = repoSensorModel;
         this._factorySensorModel = factorySensorModel;
+        this._aggregateVersions = aggregateVersions;
     }
 
     /**
@@ -54,7 +75,28 @@ public class ServiceSensorModel {
      */
     public SensorModel addSensorModel(SensorModelID sensorModelID, SensorTypeID sensorTypeID) {
         SensorModel sensorModel = _factorySensorModel.createSensorModel(sensorModelID, sensorTypeID);
-        return _repoSensorModel.save(sensorModel);
+        SensorModel saved = _repoSensorModel.save(sensorModel);
+        if (_aggregateVersions != null) {
+            _aggregateVersions.bump(AggregateVersions.Aggregate.SENSOR_MODEL);
+        }
+        return saved;
+    }
+
+    /**
+     * Creates a batch of new sensorModel objects and saves them in the repository together.
+     * @param newSensorModels The sensor models to create.
+     * @return The sensorModel objects that were created and saved, in the same order as the given ones.
+     */
+    public List<SensorModel> addSensorModels(List<NewSensorModel> newSensorModels) {
+        List<SensorModel> sensorModels = new ArrayList<>(newSensorModels.size());
+        for (NewSensorModel newSensorModel : newSensorModels) {
+            sensorModels.add(_factorySensorModel.createSensorModel(newSensorModel.sensorModelID(), newSensorModel.sensorTypeID()));
+        }
+        List<SensorModel> saved = _repoSensorModel.saveAll(sensorModels);
+        if (_aggregateVersions != null) {
+            _aggregateVersions.bump(AggregateVersions.Aggregate.SENSOR_MODEL);
+        }
+        return saved;
     }
 
     /**
@@ -79,5 +121,11 @@ public class ServiceSensorModel {
             throw new EntityNotFoundException("Sensor Model doesn't exist");
     }
 
-
+    /**
+     * A sensor model to be created in a batch.
+     * @param sensorModelID The ID of the sensor model.
+     * @param sensorTypeID  The ID of the sensor type.
+     */
+    public record NewSensorModel(SensorModelID sensorModelID, SensorTypeID sensorTypeID) {
+    }
 }
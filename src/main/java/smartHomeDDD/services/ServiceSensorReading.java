@@ -1,6 +1,12 @@
 package smartHomeDDD.services;
 
 import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import smartHomeDDD.domain.device.Device;
@@ -9,14 +15,17 @@ import smartHomeDDD.domain.repository.IRepositorySensor;
 import smartHomeDDD.domain.repository.IRepositorySensorReading;
 import smartHomeDDD.domain.sensor.Sensor;
 import smartHomeDDD.domain.sensorReading.FactorySensorReading;
+import smartHomeDDD.domain.sensorReading.ReadingRollup;
+import smartHomeDDD.domain.sensorReading.RollupResolution;
 import smartHomeDDD.domain.sensorReading.SensorReading;
+import smartHomeDDD.domain.sensorReading.SensorReadingCursor;
 import smartHomeDDD.domain.valueobject.*;
 import smartHomeDDD.dto.DeviceMapper;
 
 import java.sql.Timestamp;
-import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * ServiceSensorReading is a service class for handling operations related to sensor readings.
@@ -25,6 +34,11 @@ import java.util.concurrent.TimeUnit;
 @Service
 public class ServiceSensorReading {
 
+    /**
+     * The logger of the failures to roll up saved readings, which do not fail the save.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(ServiceSensorReading.class);
+
     /**
      * The repository for sensor readings.
      */
@@ -61,15 +75,67 @@ public class ServiceSensorReading {
      */
     private final IRepositoryDevice repositoryDevice;
 
+    /**
+     * The latest sensor reading of each sensor, updated on each reading saved through this service and warmed from
+     * the repository when the application starts.
+     */
+    private final LatestSensorReadingCache latestSensorReadingCache = new LatestSensorReadingCache();
 
     /**
-     * Constructor for the ServiceSensorReading class
+     * The maximum number of sensor readings in a page.
+     */
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    /**
+     * The service that maintains the rollups of the sensor readings, or null if the readings are not rolled up.
+     */
+    private final ServiceSensorReadingRollup serviceSensorReadingRollup;
+
+    /**
+     * The generator of the IDs of the sensor readings.
+     */
+    private final GenerateRandomId generateRandomId;
+
+
+    /**
+     * Constructor for the ServiceSensorReading class, without rolling up the sensor readings
      * @param repositorySensorReading The repository for sensor readings.
      * @param repositorySensor The repository for sensors.
      * @param serviceSensor The service for sensors.
+     * @param factorySensorReading The factory for sensor readings.
+     * @param repositoryDevice The repository for devices.
      */
-
     public ServiceSensorReading(IRepositorySensorReading repositorySensorReading, IRepositorySensor repositorySensor, ServiceSensor serviceSensor, FactorySensorReading factorySensorReading, IRepositoryDevice repositoryDevice) {
+        this(repositorySensorReading, repositorySensor, serviceSensor, factorySensorReading, repositoryDevice, null);
+    }
+
+    /**
+     * Constructor for the ServiceSensorReading class, generating the IDs of the sensor readings as random UUIDs
+     * @param repositorySensorReading The repository for sensor readings.
+     * @param repositorySensor The repository for sensors.
+     * @param serviceSensor The service for sensors.
+     * @param factorySensorReading The factory for sensor readings.
+     * @param repositoryDevice The repository for devices.
+     * @param serviceSensorReadingRollup The service that maintains the rollups of the sensor readings, or null to not
+     *                                   roll them up.
+     */
+    public ServiceSensorReading(IRepositorySensorReading repositorySensorReading, IRepositorySensor repositorySensor, ServiceSensor serviceSensor, FactorySensorReading factorySensorReading, IRepositoryDevice repositoryDevice, ServiceSensorReadingRollup serviceSensorReadingRollup) {
+        this(repositorySensorReading, repositorySensor, serviceSensor, factorySensorReading, repositoryDevice, serviceSensorReadingRollup, null);
+    }
+
+    /**
+     * Constructor for the ServiceSensorReading class
+     * @param repositorySensorReading The repository for sensor readings.
+     * @param repositorySensor The repository for sensors.
+     * @param serviceSensor The service for sensors.
+     * @param factorySensorReading The factory for sensor readings.
+     * @param repositoryDevice The repository for devices.
+     * @param serviceSensorReadingRollup The service that maintains the rollups of the sensor readings, or null to not
+     *                                   roll them up.
+     * @param generateRandomId The generator of the IDs of the sensor readings, or null to generate random UUIDs.
+     */
+    @Autowired
+    public ServiceSensorReading(IRepositorySensorReading repositorySensorReading, IRepositorySensor repositorySensor, ServiceSensor serviceSensor, FactorySensorReading factorySensorReading, IRepositoryDevice repositoryDevice, ServiceSensorReadingRollup serviceSensorReadingRollup, GenerateRandomId generateRandomId) {
         if (repositorySensorReading == null){
             throw new IllegalArgumentException("Sensor Reading Repository cannot be null");}
         if (repositorySensor == null){
@@ -87,6 +153,8 @@ public class ServiceSensorReading {
         this.serviceSensor = serviceSensor;
         this.factorySensorReading= factorySensorReading;
         this.repositoryDevice = repositoryDevice;
+        this.serviceSensorReadingRollup = serviceSensorReadingRollup;
+        this.generateRandomId = generateRandomId == null ? new GenerateRandomId() : generateRandomId;
     }
 
 
@@ -120,32 +188,80 @@ public class ServiceSensorReading {
 
     /**
      * Retrieves the maximum difference between the inside and outside temperature readings within a given time period.
+     * Only pairs of readings taken at most deltaTime minutes apart are compared.
+     * Both series are sorted by timestamp once and joined with a sliding window over the outside readings, which
+     * keeps the minimum and maximum of the window in monotonic deques. The maximum difference for an inside reading
+     * is against one of those two, so the join is linear after sorting.
      * @param insideReadings  The inside temperature readings.
      * @param outsideReadings The outside temperature readings.
-     * @param deltaTime       The time interval between readings.
+     * @param deltaTime       The time interval between readings, in minutes.
      * @return The maximum difference between the inside and outside temperature readings.
+     * @throws IllegalArgumentException if no pair of readings is within the time interval.
      */
     public int getDifferenceBetweenReadings(List<SensorReading> insideReadings, List<SensorReading> outsideReadings, int deltaTime) {
-        int maxDifference = 0;
-        // if a difference is found, set flag to 1
-        int flag = 0;
-        for (SensorReading insideReading : insideReadings) {
-            for (SensorReading outsideReading : outsideReadings) {
-                long timeDifference = ChronoUnit.MINUTES.between(insideReading.getTimeStamp().toInstant(), outsideReading.getTimeStamp().toInstant());
-                //int timeDifference = Math.abs(Integer.parseInt(insideReading.getTimeStamp().toString()) - Integer.parseInt(outsideReading.getTimeStamp().toString()));
-                if (timeDifference <= deltaTime) {
-                    int difference = Math.abs(Integer.parseInt(insideReading.getReading().toString()) - Integer.parseInt(outsideReading.getReading().toString()));
-                    if (difference >= maxDifference) {
-                        maxDifference = difference;
-                        flag = 1;
-                    }
+        List<SensorReading> inside = sortedByTimeStamp(insideReadings);
+        List<SensorReading> outside = sortedByTimeStamp(outsideReadings);
+        long[] outsideTimes = new long[outside.size()];
+        double[] outsideValues = new double[outside.size()];
+        for (int i = 0; i < outside.size(); i++) {
+            outsideTimes[i] = outside.get(i).getTimeStamp().getTime();
+            outsideValues[i] = outside.get(i).getReading().toDouble();
+        }
+        long window = TimeUnit.MINUTES.toMillis(deltaTime);
+
+        // Deques of indexes of the outside readings in the window, with increasing values in minDeque and decreasing values in maxDeque
+        int[] minDeque = new int[outside.size()];
+        int[] maxDeque = new int[outside.size()];
+        int minHead = 0, minTail = 0, maxHead = 0, maxTail = 0;
+        int next = 0;
+        double maxDifference = 0;
+        boolean found = false;
+
+        for (SensorReading insideReading : inside) {
+            long insideTime = insideReading.getTimeStamp().getTime();
+            double insideValue = insideReading.getReading().toDouble();
+
+            // Add the outside readings up to deltaTime after the inside reading
+            while (next < outsideTimes.length && outsideTimes[next] <= insideTime + window) {
+                while (minTail > minHead && outsideValues[minDeque[minTail - 1]] >= outsideValues[next]) {
+                    minTail--;
                 }
+                minDeque[minTail++] = next;
+                while (maxTail > maxHead && outsideValues[maxDeque[maxTail - 1]] <= outsideValues[next]) {
+                    maxTail--;
+                }
+                maxDeque[maxTail++] = next;
+                next++;
+            }
+            // Remove the outside readings more than deltaTime before the inside reading
+            while (minTail > minHead && outsideTimes[minDeque[minHead]] < insideTime - window) {
+                minHead++;
+            }
+            while (maxTail > maxHead && outsideTimes[maxDeque[maxHead]] < insideTime - window) {
+                maxHead++;
+            }
+
+            if (minTail > minHead) {
+                double difference = Math.max(insideValue - outsideValues[minDeque[minHead]], outsideValues[maxDeque[maxHead]] - insideValue);
+                maxDifference = Math.max(maxDifference, difference);
+                found = true;
             }
         }
-        if (flag == 0) {
+        if (!found) {
             throw new IllegalArgumentException("No readings found within the given time period.");
         }
-        return maxDifference;
+        return (int) maxDifference;
+    }
+
+    /**
+     * Returns a copy of a list of sensor readings sorted by timestamp.
+     * @param readings The sensor readings to sort.
+     * @return A new list with the sensor readings sorted by timestamp.
+     */
+    private List<SensorReading> sortedByTimeStamp(List<SensorReading> readings) {
+        List<SensorReading> sorted = new ArrayList<>(readings);
+        sorted.sort(Comparator.comparing(SensorReading::getTimeStamp));
+        return sorted;
     }
 
     /**
@@ -168,6 +284,8 @@ public class ServiceSensorReading {
 
     /**
      * Calculates the peak power consumption for a house within a specified period.
+     * The readings of each energy meter are fetched once for the whole period and distributed over the intervals
+     * in a single pass.
      * @param powerGridMeter The power grid meter device.
      * @param startTime The start time of the period.
      * @param endTime The end time of the period.
@@ -175,19 +293,78 @@ public class ServiceSensorReading {
      * @return A double representing the peak power consumption for each interval within the period.
      */
     public double calculateHousePeakPowerConsumptionWithinPeriod(Device powerGridMeter, Timestamp startTime, Timestamp endTime, long intervalInMinutes){
+        List<DeviceId> devicesId = getEnergyMeters(powerGridMeter, startTime, endTime, intervalInMinutes);
+        return calculatePeakPowerConsumptionInSinglePass(devicesId, startTime, endTime, intervalInMinutes);
+    }
+
+    /**
+     * Calculates the peak power consumption for a house within a specified period, querying the readings of each
+     * energy meter once per interval.
+     * This is the original calculation, kept to compare against the single pass one, and it always reads the raw
+     * readings, even if they are rolled up.
+     * @param powerGridMeter The power grid meter device.
+     * @param startTime The start time of the period.
+     * @param endTime The end time of the period.
+     * @param intervalInMinutes The interval in minutes to calculate the power consumption for.
+     * @return A double representing the peak power consumption for each interval within the period.
+     */
+    public double calculateHousePeakPowerConsumptionWithinPeriodIntervalByInterval(Device powerGridMeter, Timestamp startTime, Timestamp endTime, long intervalInMinutes){
+        List<DeviceId> devicesId = getEnergyMeters(powerGridMeter, startTime, endTime, intervalInMinutes);
+        return calculatePeakPowerConsumptionWithinPeriod(devicesId, startTime, endTime, intervalInMinutes);
+    }
+
+    /**
+     * Validates the arguments of a peak power consumption calculation and finds the devices with energy sensors.
+     * @param powerGridMeter The power grid meter device.
+     * @param startTime The start time of the period.
+     * @param endTime The end time of the period.
+     * @param intervalInMinutes The interval in minutes to calculate the power consumption for.
+     * @return A list of the identifiers of the devices with energy sensors.
+     */
+    private List<DeviceId> getEnergyMeters(Device powerGridMeter, Timestamp startTime, Timestamp endTime, long intervalInMinutes){
         if(!powerGridMeter.getDeviceName().toString().equals("Power Grid Meter")){
             throw new EntityNotFoundException("PowerGridMeter must be used");
         }
         if(endTime.before(startTime)){
             throw new IllegalArgumentException("end time can't be before start time");
         }
-        if(intervalInMinutes < 0){
+        if(intervalInMinutes <= 0){
             throw new IllegalArgumentException("end time can't be negative");
         }
-        List<DeviceId> devicesId = getDevicesBySensorModel("PC500W"); // find all devices with energy sensors
-        return calculatePeakPowerConsumptionWithinPeriod(devicesId,startTime, endTime,intervalInMinutes);
+        return getDevicesBySensorModel("PC500W"); // find all devices with energy sensors
     }
 
+    /**
+     * Calculates the peak power consumption for a list of devices within a specified period.
+     * The readings of each device are fetched once for the whole period and added to the sums of the intervals, by
+     * addReadingsToIntervals.
+     * @param devices The list of devices to calculate the power consumption for.
+     * @param startTime The start time of the period.
+     * @param endTime The end time of the period.
+     * @param intervalInMinutes The interval in minutes to calculate the power consumption for.
+     * @return A double representing the peak power consumption for each interval within the period.
+     */
+    private double calculatePeakPowerConsumptionInSinglePass(List<DeviceId> devices, Timestamp startTime, Timestamp endTime, long intervalInMinutes) {
+        long durationInMinutes = TimeUnit.MILLISECONDS.toMinutes(endTime.getTime() - startTime.getTime());
+        int numberOfIntervals = (int) Math.ceil((double) durationInMinutes / intervalInMinutes);
+        long intervalInMillis = TimeUnit.MINUTES.toMillis(intervalInMinutes);
+        double[] powerConsumptions = new double[numberOfIntervals];
+        double[] sumOfReadings = new double[numberOfIntervals];
+        int[] countOfReadings = new int[numberOfIntervals];
+
+        for (DeviceId deviceID : devices) {
+            Arrays.fill(sumOfReadings, 0);
+            Arrays.fill(countOfReadings, 0);
+            addReadingsToIntervals(deviceID, startTime, endTime, intervalInMillis, sumOfReadings, countOfReadings);
+            // Add the average of the device on each interval
+            for (int interval = 0; interval < numberOfIntervals; interval++) {
+                if (countOfReadings[interval] > 0) {
+                    powerConsumptions[interval] += sumOfReadings[interval] / countOfReadings[interval];
+                }
+            }
+        }
+        return Arrays.stream(powerConsumptions).max().getAsDouble();
+    }
 
     /**
      * Calculates the peak power consumption for a list of devices within a specified period.
@@ -260,25 +437,68 @@ public class ServiceSensorReading {
 
     /**
      * Calculates the average power consumption for a device within a specified interval.
+     * The average is computed by the repository, from the numeric value of the raw readings.
      * @param deviceID The unique identifier of the device.
      * @param start The start time of the interval.
      * @param end The end time of the interval.
      * @return The average power consumption for the device within the interval.
      */
     private double getAverageReadingsWithinInterval(DeviceId deviceID, Timestamp start, Timestamp end) {
-        List<SensorReading> deviceReadings = getMeasurementsFromDeviceWithinPeriod(deviceID, start, end);
-        int sumOfReadings = 0;
-        int countOfReadings = 0;
-        double averageOfReadings = 0;
-        for (SensorReading reading : deviceReadings) {
-            int readingValue = Integer.parseInt(reading.getReading().toString());
-            sumOfReadings += readingValue;
-            countOfReadings++;
+        return repositorySensorReading.getAverageReadingWithinPeriod(deviceID, start, end);
+    }
+
+    /**
+     * Adds the numeric readings of a device within a period to the sums and counts of the intervals they fall in.
+     * A reading on the boundary between two intervals is added to both, as the interval queries include both ends,
+     * and readings after the last interval are left out.
+     * If the readings are rolled up, the whole buckets from the start of the period are read from the coarsest
+     * rollups that fit the intervals, and only the readings after the last whole bucket are read raw. A bucket that
+     * starts on an interval boundary with readings at its start also adds every one of them to the previous interval.
+     * @param deviceID The unique identifier of the device.
+     * @param startTime The start time of the period.
+     * @param endTime The end time of the period.
+     * @param intervalInMillis The length of the intervals, in milliseconds.
+     * @param sumOfReadings The sums of the readings of each interval, which are added to.
+     * @param countOfReadings The counts of the readings of each interval, which are added to.
+     */
+    private void addReadingsToIntervals(DeviceId deviceID, Timestamp startTime, Timestamp endTime, long intervalInMillis, double[] sumOfReadings, int[] countOfReadings) {
+        int numberOfIntervals = sumOfReadings.length;
+        Timestamp rawStartTime = startTime;
+        Optional<RollupResolution> resolution = serviceSensorReadingRollup == null ? Optional.empty()
+                : serviceSensorReadingRollup.getIntervalResolution(startTime, endTime, intervalInMillis);
+        if (resolution.isPresent()) {
+            rawStartTime = new Timestamp(resolution.get().bucketStart(endTime.getTime()));
+            List<SensorID> sensorIDs = repositorySensor.getSensorsByDeviceID(deviceID).stream().map(Sensor::identity).toList();
+            for (ReadingRollup bucket : serviceSensorReadingRollup.getRollupsOfSensors(sensorIDs, resolution.get(), startTime, rawStartTime)) {
+                long offset = bucket.getBucketStart().getTime() - startTime.getTime();
+                int interval = (int) (offset / intervalInMillis);
+                if (interval < numberOfIntervals) {
+                    sumOfReadings[interval] += bucket.getSum();
+                    countOfReadings[interval] += (int) bucket.getCount();
+                }
+                if (offset % intervalInMillis == 0 && interval > 0 && interval <= numberOfIntervals
+                        && bucket.getFirstTime().equals(bucket.getBucketStart())) {
+                    sumOfReadings[interval - 1] += bucket.getFirstSum();
+                    countOfReadings[interval - 1] += (int) bucket.getFirstCount();
+                }
+            }
         }
-        if (countOfReadings > 0) {
-            averageOfReadings = (double) sumOfReadings / countOfReadings;
+        for (SensorReading reading : getMeasurementsFromDeviceWithinPeriod(deviceID, rawStartTime, endTime)) {
+            if (!reading.getReading().isNumeric()) {
+                continue;
+            }
+            long offset = reading.getTimeStamp().getTime() - startTime.getTime();
+            int interval = (int) (offset / intervalInMillis);
+            double readingValue = reading.getReading().toDouble();
+            if (interval < numberOfIntervals) {
+                sumOfReadings[interval] += readingValue;
+                countOfReadings[interval]++;
+            }
+            if (offset % intervalInMillis == 0 && interval > 0 && interval <= numberOfIntervals) {
+                sumOfReadings[interval - 1] += readingValue;
+                countOfReadings[interval - 1]++;
+            }
         }
-        return averageOfReadings;
     }
 
     /**
@@ -291,8 +511,46 @@ public class ServiceSensorReading {
         return repositorySensorReading.getSensorReadingsByDeviceId(deviceId);
     }
 
+    /**
+     * Passes every reading of a device to an action, ordered by timestamp, without loading them all into memory.
+     *
+     * @param deviceId The unique identifier of the device.
+     * @param action The action to perform on each SensorReading, e.g. writing it to a response.
+     */
+    public void forEachSensorReadingOfDevice(DeviceId deviceId, Consumer<SensorReading> action) {
+        repositorySensorReading.forEachSensorReadingOfDevice(deviceId, action);
+    }
+
+    /**
+     * Retrieves a page of the readings of a device, ordered by timestamp and then by ID, starting right after a cursor.
+     * One more reading than the page holds is read, to tell whether there is a next page without counting the readings.
+     *
+     * @param deviceId The unique identifier of the device.
+     * @param startTime The start of the time period, included, or null for no start.
+     * @param endTime The end of the time period, included, or null for no end.
+     * @param after The cursor after which the page starts, or null for the first page.
+     * @param limit The maximum number of readings in the page, between 1 and MAX_PAGE_SIZE.
+     * @return The page of readings, with the cursor of the next page if there is one.
+     * @throws IllegalArgumentException if the time period or the limit is invalid.
+     */
+    public SensorReadingPage getSensorReadingsPageFromDevice(DeviceId deviceId, Timestamp startTime, Timestamp endTime, SensorReadingCursor after, int limit) {
+        if (startTime != null && endTime != null && startTime.after(endTime)) {
+            throw new IllegalArgumentException("Invalid time period");
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        List<SensorReading> sensorReadings = repositorySensorReading.getSensorReadingsPageFromDevice(deviceId, startTime, endTime, after, limit + 1);
+        if (sensorReadings.size() <= limit) {
+            return new SensorReadingPage(sensorReadings, null);
+        }
+        List<SensorReading> page = sensorReadings.subList(0, limit);
+        return new SensorReadingPage(page, SensorReadingCursor.of(page.get(limit - 1)));
+    }
+
     /**
      * Retrieves all temperature readings from a device within a specified time period.
+     * The readings of every temperature sensor of the device are read together, with a single query.
      *
      * @param deviceId The unique identifier of the device.
      * @param startTime The start time of the period.
@@ -300,15 +558,20 @@ public class ServiceSensorReading {
      * @return A list of SensorReading objects.
      */
     public List<SensorReading> getTemperatureReadingsFromDevice(String deviceId, Timestamp startTime, Timestamp endTime) {
-        List<SensorReading> allTemperatureReadings = new ArrayList<>();
         DeviceId deviceID = DeviceMapper.DTOToDeviceId(deviceId);
         List<Sensor> sensorsInDevice = serviceSensor.getSensorsByDeviceID(deviceID);
+        Set<SensorID> temperatureSensorIDs = new LinkedHashSet<>();
         for (Sensor sensor : sensorsInDevice) {
             if (serviceSensor.isSensorOfTemperature(sensor)) {
-                List<SensorReading> sensorReadingsWithinPeriod = getSensorReadingsBetweenTimestamp(deviceID, sensor.identity(), startTime, endTime);
-                allTemperatureReadings.addAll(sensorReadingsWithinPeriod);
+                temperatureSensorIDs.add(sensor.identity());
             }
-
+        }
+        List<SensorReading> allTemperatureReadings = new ArrayList<>();
+        if (!temperatureSensorIDs.isEmpty()) {
+            if (startTime.after(endTime)) {
+                throw new IllegalArgumentException("Invalid time period");
+            }
+            allTemperatureReadings = repositorySensorReading.getSensorReadingsBetweenTimestamp(deviceID, temperatureSensorIDs, startTime, endTime);
         }
         if (allTemperatureReadings.isEmpty()) {
             throw new DataIntegrityViolationException("No temperature readings found for the given time period");
@@ -347,9 +610,183 @@ public class ServiceSensorReading {
         if(!repositorySensor.containsOfIdentity(sensorID)){
             throw new EntityNotFoundException("Sensor not found");
         }
-        SensorReadingID sensorReadingID = new SensorReadingID(UUID.randomUUID().toString());
+        SensorReadingID sensorReadingID = new SensorReadingID(generateRandomId.generateID());
         SensorReading sensorReading = factorySensorReading.createSensorReading(sensorReadingID, reading, deviceID, sensorID, timeStamp);
-        return repositorySensorReading.save(sensorReading);
+        SensorReading savedSensorReading = repositorySensorReading.save(sensorReading);
+        if (savedSensorReading != null) {
+            latestSensorReadingCache.update(savedSensorReading);
+            rollUp(List.of(savedSensorReading));
+        }
+        return savedSensorReading;
+    }
+
+    /**
+     * Creates a batch of sensor readings and adds them to the repository.
+     * The distinct devices and sensors of the batch are read with one lookup per repository, and the readings that
+     * refer to an unknown device or sensor are rejected without aborting the rest of the batch. The accepted readings
+     * are then saved together.
+     * @param newSensorReadings The sensor readings to add.
+     * @return The outcome of each sensor reading, in the same order as the given ones.
+     */
+    public List<BatchOutcome> addSensorReadings(List<NewSensorReading> newSensorReadings) {
+        Set<DeviceId> deviceIDs = new LinkedHashSet<>();
+        Set<SensorID> sensorIDs = new LinkedHashSet<>();
+        for (NewSensorReading newSensorReading : newSensorReadings) {
+            deviceIDs.add(newSensorReading.deviceID());
+            sensorIDs.add(newSensorReading.sensorID());
+        }
+        Set<DeviceId> knownDevices = new HashSet<>();
+        for (Device device : repositoryDevice.ofIdentities(deviceIDs)) {
+            knownDevices.add(device.identity());
+        }
+        Set<SensorID> knownSensors = new HashSet<>();
+        for (Sensor sensor : repositorySensor.ofIdentities(sensorIDs)) {
+            knownSensors.add(sensor.identity());
+        }
+
+        BatchOutcome[] outcomes = new BatchOutcome[newSensorReadings.size()];
+        List<SensorReading> sensorReadings = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+        for (int i = 0; i < newSensorReadings.size(); i++) {
+            NewSensorReading newSensorReading = newSensorReadings.get(i);
+            if (!knownDevices.contains(newSensorReading.deviceID())) {
+                outcomes[i] = new BatchOutcome(null, "Device not found");
+            } else if (!knownSensors.contains(newSensorReading.sensorID())) {
+                outcomes[i] = new BatchOutcome(null, "Sensor not found");
+            } else {
+                SensorReadingID sensorReadingID = new SensorReadingID(generateRandomId.generateID());
+                sensorReadings.add(factorySensorReading.createSensorReading(sensorReadingID, newSensorReading.reading(),
+                        newSensorReading.deviceID(), newSensorReading.sensorID(), newSensorReading.timeStamp()));
+                positions.add(i);
+            }
+        }
+
+        if (!sensorReadings.isEmpty()) {
+            List<SensorReading> savedSensorReadings;
+            try {
+                savedSensorReadings = repositorySensorReading.saveAll(sensorReadings);
+            } catch (DataAccessException e) {
+                for (Integer position : positions) {
+                    outcomes[position] = new BatchOutcome(null, e.getMessage());
+                }
+                return Arrays.asList(outcomes);
+            }
+            for (int i = 0; i < positions.size(); i++) {
+                outcomes[positions.get(i)] = new BatchOutcome(savedSensorReadings.get(i), null);
+                latestSensorReadingCache.update(savedSensorReadings.get(i));
+            }
+            rollUp(savedSensorReadings);
+        }
+        return Arrays.asList(outcomes);
+    }
+
+    /**
+     * Adds saved sensor readings to the rollups, if the readings are rolled up.
+     * The readings are already saved, so a failure to roll them up is logged instead of failing the save.
+     * @param sensorReadings The saved sensor readings.
+     */
+    private void rollUp(List<SensorReading> sensorReadings) {
+        if (serviceSensorReadingRollup == null) {
+            return;
+        }
+        try {
+            serviceSensorReadingRollup.addReadings(sensorReadings);
+        } catch (RuntimeException e) {
+            LOGGER.error("Could not roll up {} saved sensor readings, the rollups are missing them", sensorReadings.size(), e);
+        }
+    }
+
+    /**
+     * Fills the latest sensor reading cache from the repository, with a single query.
+     * It runs once the application is ready, after the start up data has been loaded, and the cache is otherwise
+     * warmed on its first use.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void warmLatestSensorReadingCache() {
+        if (!latestSensorReadingCache.isWarm()) {
+            latestSensorReadingCache.warm(repositorySensorReading.getLatestReadingOfEachSensor());
+        }
+    }
+
+    /**
+     * Retrieves the latest sensor reading of a sensor, from the latest sensor reading cache.
+     * @param sensorID The unique identifier of the sensor.
+     * @return The latest sensor reading of the sensor, or an empty Optional if the sensor has no readings.
+     */
+    public Optional<SensorReading> getLatestReadingFromSensor(SensorID sensorID) {
+        if (!latestSensorReadingCache.isWarm()) {
+            warmLatestSensorReadingCache();
+        }
+        return latestSensorReadingCache.get(sensorID);
+    }
+
+    /**
+     * Retrieves the latest sensor reading of each sensor of a device, from the latest sensor reading cache.
+     * @param deviceID The unique identifier of the device.
+     * @return A list with the latest sensor reading of each sensor of the device that has readings.
+     */
+    public List<SensorReading> getLatestReadingsFromDevice(DeviceId deviceID) {
+        if (!latestSensorReadingCache.isWarm()) {
+            warmLatestSensorReadingCache();
+        }
+        return latestSensorReadingCache.getFromDevice(deviceID);
+    }
+
+    /**
+     * Retrieves the latest sensor reading of each sensor of the devices in a room.
+     * The devices of the room are fetched from the device repository, and their readings from the latest sensor
+     * reading cache.
+     * @param roomID The unique identifier of the room.
+     * @return A list with the latest sensor reading of each sensor in the room that has readings.
+     */
+    public List<SensorReading> getLatestReadingsFromRoom(RoomID roomID) {
+        List<SensorReading> latestReadings = new ArrayList<>();
+        for (Device device : repositoryDevice.getDevicesInRoom(roomID)) {
+            latestReadings.addAll(getLatestReadingsFromDevice(device.identity()));
+        }
+        return latestReadings;
+    }
+
+    /**
+     * A sensor reading to be added in a batch.
+     * @param reading The reading value.
+     * @param deviceID The unique identifier of the device.
+     * @param sensorID The unique identifier of the sensor.
+     * @param timeStamp The timestamp of the reading.
+     */
+    public record NewSensorReading(Reading reading, DeviceId deviceID, SensorID sensorID, Timestamp timeStamp) {
+    }
+
+    /**
+     * The outcome of adding a sensor reading in a batch: either the saved sensor reading or the reason it was rejected.
+     * @param sensorReading The saved sensor reading, or null if it was rejected.
+     * @param error The reason the sensor reading was rejected, or null if it was saved.
+     */
+    public record BatchOutcome(SensorReading sensorReading, String error) {
+
+        /**
+         * Returns whether the sensor reading was saved.
+         * @return true if the sensor reading was saved, false if it was rejected.
+         */
+        public boolean isSaved() {
+            return sensorReading != null;
+        }
+    }
+
+    /**
+     * A page of sensor readings.
+     * @param sensorReadings The sensor readings of the page, ordered by timestamp and then by ID.
+     * @param nextCursor The cursor after which the next page starts, or null if this is the last page.
+     */
+    public record SensorReadingPage(List<SensorReading> sensorReadings, SensorReadingCursor nextCursor) {
+
+        /**
+         * Returns whether there is a next page.
+         * @return true if there are more sensor readings after this page, false otherwise.
+         */
+        public boolean hasNext() {
+            return nextCursor != null;
+        }
     }
 
 }
@@ -0,0 +1,178 @@
+package smartHomeDDD.services;
+
+import org.springframework.stereotype.Service;
+import smartHomeDDD.domain.repository.IRepositoryReadingRollup;
+import smartHomeDDD.domain.sensorReading.ReadingRollup;
+import smartHomeDDD.domain.sensorReading.RollupResolution;
+import smartHomeDDD.domain.sensorReading.SensorReading;
+import smartHomeDDD.domain.valueobject.Reading;
+import smartHomeDDD.domain.valueobject.SensorID;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ServiceSensorReadingRollup maintains the minute, hour and day rollups of the numeric sensor readings, and answers
+ * long range queries from them instead of the raw readings.
+ * A query over months of data at an hourly interval reads one rollup per sensor and hour, instead of every reading.
+ */
+@Service
+public class ServiceSensorReadingRollup {
+
+    /**
+     * The repository of the sensor reading rollups.
+     */
+    private final IRepositoryReadingRollup repositoryReadingRollup;
+
+    /**
+     * Constructor for the ServiceSensorReadingRollup class
+     * @param repositoryReadingRollup The repository of the sensor reading rollups.
+     */
+    public ServiceSensorReadingRollup(IRepositoryReadingRollup repositoryReadingRollup) {
+        if (repositoryReadingRollup == null) {
+            throw new IllegalArgumentException("Reading Rollup Repository cannot be null");
+        }
+        this.repositoryReadingRollup = repositoryReadingRollup;
+    }
+
+    /**
+     * Adds a saved sensor reading to the rollups of its sensor at every resolution.
+     * @param sensorReading The saved sensor reading.
+     */
+    public void addReading(SensorReading sensorReading) {
+        addReadings(List.of(sensorReading));
+    }
+
+    /**
+     * Adds saved sensor readings to the rollups of their sensors at every resolution.
+     * The readings are first rolled up in memory, so each bucket is updated once per batch, however many of its
+     * readings the batch has. Readings that are not numbers are not rolled up. As the rollups keep the first and
+     * last readings by timestamp, late readings update the buckets they belong to the same way as readings that
+     * arrive in order.
+     * @param sensorReadings The saved sensor readings.
+     */
+    public void addReadings(List<SensorReading> sensorReadings) {
+        Map<String, ReadingRollup> batchRollups = new LinkedHashMap<>();
+        for (SensorReading sensorReading : sensorReadings) {
+            Reading reading = sensorReading.getReading();
+            if (reading == null || !reading.isNumeric() || sensorReading.getTimeStamp() == null) {
+                continue;
+            }
+            for (RollupResolution resolution : RollupResolution.values()) {
+                ReadingRollup rollup = ReadingRollup.of(sensorReading.getSensorID(), resolution, reading.toDouble(), sensorReading.getTimeStamp().getTime());
+                batchRollups.merge(sensorReading.getSensorID() + "/" + resolution + "/" + rollup.getBucketStart().getTime(), rollup, ReadingRollup::merge);
+            }
+        }
+        for (ReadingRollup rollup : batchRollups.values()) {
+            repositoryReadingRollup.merge(rollup);
+        }
+    }
+
+    /**
+     * Returns the coarsest resolution whose buckets fit exactly in the intervals of a time period, that is, the
+     * start and end of the period and the length of the intervals are all whole buckets.
+     * @param start The start of the time period.
+     * @param end The end of the time period.
+     * @param intervalInMinutes The length of the intervals, in minutes.
+     * @return The coarsest resolution that fits the intervals.
+     * @throws IllegalArgumentException if the period is not aligned to whole minutes.
+     */
+    public RollupResolution getCoarsestResolution(Timestamp start, Timestamp end, long intervalInMinutes) {
+        long intervalInMillis = TimeUnit.MINUTES.toMillis(intervalInMinutes);
+        RollupResolution[] resolutions = RollupResolution.values();
+        for (int i = resolutions.length - 1; i >= 0; i--) {
+            RollupResolution resolution = resolutions[i];
+            if (resolution.isAligned(start.getTime()) && resolution.isAligned(end.getTime())
+                    && intervalInMillis % resolution.getMillis() == 0) {
+                return resolution;
+            }
+        }
+        throw new IllegalArgumentException("The time period must start and end on whole minutes");
+    }
+
+    /**
+     * Returns the coarsest resolution whose buckets each fall within a single interval of a time period and that has
+     * at least one whole bucket in the period, that is, the period starts on a bucket boundary and the intervals are
+     * a whole number of buckets long. Unlike getCoarsestResolution, the period may end anywhere, as the readings after
+     * its last whole bucket are left to the caller.
+     * @param start The start of the time period.
+     * @param end The end of the time period.
+     * @param intervalInMillis The length of the intervals, in milliseconds.
+     * @return The coarsest resolution that fits the intervals, or empty if none does.
+     */
+    public Optional<RollupResolution> getIntervalResolution(Timestamp start, Timestamp end, long intervalInMillis) {
+        RollupResolution[] resolutions = RollupResolution.values();
+        for (int i = resolutions.length - 1; i >= 0; i--) {
+            RollupResolution resolution = resolutions[i];
+            if (intervalInMillis > 0 && intervalInMillis % resolution.getMillis() == 0
+                    && resolution.isAligned(start.getTime()) && resolution.bucketStart(end.getTime()) > start.getTime()) {
+                return Optional.of(resolution);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Retrieves the rollups of several sensors at a resolution, whose buckets start within a time period.
+     * @param sensorIDs The unique identifiers of the sensors.
+     * @param resolution The resolution of the rollups.
+     * @param start The start of the time period, included.
+     * @param end The end of the time period, excluded.
+     * @return The rollups of each sensor, ordered by sensor and bucket start.
+     */
+    public List<ReadingRollup> getRollupsOfSensors(Collection<SensorID> sensorIDs, RollupResolution resolution, Timestamp start, Timestamp end) {
+        List<ReadingRollup> rollups = new ArrayList<>();
+        for (SensorID sensorID : sensorIDs) {
+            rollups.addAll(repositoryReadingRollup.findWithinPeriod(sensorID, resolution, start, end));
+        }
+        return rollups;
+    }
+
+    /**
+     * Summarizes the numeric readings of a sensor within a time period, per interval.
+     * Each interval includes its start and excludes its end, and the summaries are computed from the rollups of the
+     * coarsest resolution that fits the intervals.
+     * @param sensorID The unique identifier of the sensor.
+     * @param start The start of the time period.
+     * @param end The end of the time period.
+     * @param intervalInMinutes The length of the intervals, in minutes.
+     * @return The summary of each interval with readings, ordered by interval start.
+     * @throws IllegalArgumentException if the period or interval is invalid, or the period is not aligned to whole minutes.
+     */
+    public List<ReadingRollup> getRollupsWithinPeriod(SensorID sensorID, Timestamp start, Timestamp end, long intervalInMinutes) {
+        if (!start.before(end)) {
+            throw new IllegalArgumentException("Invalid time period");
+        }
+        if (intervalInMinutes <= 0) {
+            throw new IllegalArgumentException("Interval must be positive");
+        }
+        RollupResolution resolution = getCoarsestResolution(start, end, intervalInMinutes);
+        long intervalInMillis = TimeUnit.MINUTES.toMillis(intervalInMinutes);
+
+        List<ReadingRollup> intervals = new ArrayList<>();
+        long currentInterval = Long.MIN_VALUE;
+        ReadingRollup current = null;
+        for (ReadingRollup bucket : repositoryReadingRollup.findWithinPeriod(sensorID, resolution, start, end)) {
+            long interval = (bucket.getBucketStart().getTime() - start.getTime()) / intervalInMillis;
+            if (current != null && interval == currentInterval) {
+                current = current.merge(bucket);
+            } else {
+                if (current != null) {
+                    intervals.add(current);
+                }
+                currentInterval = interval;
+                current = bucket.asInterval(resolution, start.getTime() + interval * intervalInMillis);
+            }
+        }
+        if (current != null) {
+            intervals.add(current);
+        }
+        return intervals;
+    }
+}
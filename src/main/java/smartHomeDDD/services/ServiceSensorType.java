@@ -1,6 +1,7 @@
 package smartHomeDDD.services;
 
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import smartHomeDDD.domain.sensorType.FactorySensorType;
 import smartHomeDDD.domain.sensorType.SensorType;
@@ -9,6 +10,8 @@ import smartHomeDDD.domain.valueobject.Description;
 import smartHomeDDD.domain.valueobject.SensorTypeID;
 import smartHomeDDD.domain.valueobject.Unit;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -27,6 +30,11 @@ public class ServiceSensorType {
      */
     final FactorySensorType _factorySensorType;
 
+    /**
+     * The versions bumped each time a sensor type is saved, or null if sensor types are not versioned.
+     */
+    final AggregateVersions _aggregateVersions;
+
     /**
      * Constructs a new ServiceSensorType with the specified FactorySensorType and RepositorySensorType.
      * Throws an IllegalArgumentException if any of the parameters are null.
@@ -35,12 +43,27 @@ public class ServiceSensorType {
      * @throws IllegalArgumentException if any of the parameters are null
      */
     public ServiceSensorType(IRepositorySensorType repoSensorType, FactorySensorType factorySensorType) {
+        this(repoSensorType, factorySensorType, null);
+    }
+
+    /**
+     * Constructs a new ServiceSensorType with the specified FactorySensorType, RepositorySensorType and the versions
+     * bumped each time a sensor type is saved.
+     * @param repoSensorType    the RepositorySensorType to be used by the service
+     * @param factorySensorType the FactorySensorType to be used by the service
+     * @param aggregateVersions the versions to bump, or null to not version sensor types
+     * @throws IllegalArgumentException if the repository or the factory is null
+     */
+    @Autowired
+    public ServiceSensorType(IRepositorySensorType repoSensorType, FactorySensorType factorySensorType,
+                             AggregateVersions aggregateVersions) {
         if (repoSensorType == null)
             throw new IllegalArgumentException("Repository cannot be null");
         if (factorySensorType == null)
             throw new IllegalArgumentException("Factory cannot be null");
         this._repoSensorType = repoSensorType;
         this._factorySensorType = factorySensorType;
+        this._aggregateVersions = aggregateVersions;
     }
 
     /**
@@ -52,7 +75,29 @@ public class ServiceSensorType {
      */
     public SensorType createSensorType(SensorTypeID sensorTypeID, Description description, Unit unit) {
         SensorType sensorType = _factorySensorType.createSensorType(sensorTypeID, description, unit);
-        return _repoSensorType.save(sensorType);
+        SensorType saved = _repoSensorType.save(sensorType);
+        if (_aggregateVersions != null) {
+            _aggregateVersions.bump(AggregateVersions.Aggregate.SENSOR_TYPE);
+        }
+        return saved;
+    }
+
+    /**
+     * Creates a batch of new sensorType objects and saves them in the repository together.
+     * @param newSensorTypes the sensor types to create.
+     * @return the sensorType objects that were created and saved, in the same order as the given ones.
+     */
+    public List<SensorType> createSensorTypes(List<NewSensorType> newSensorTypes) {
+        List<SensorType> sensorTypes = new ArrayList<>(newSensorTypes.size());
+        for (NewSensorType newSensorType : newSensorTypes) {
+            sensorTypes.add(_factorySensorType.createSensorType(newSensorType.sensorTypeID(), newSensorType.description(),
+                    newSensorType.unit()));
+        }
+        List<SensorType> saved = _repoSensorType.saveAll(sensorTypes);
+        if (_aggregateVersions != null) {
+            _aggregateVersions.bump(AggregateVersions.Aggregate.SENSOR_TYPE);
+        }
+        return saved;
     }
 
 
@@ -77,4 +122,12 @@ public class ServiceSensorType {
         throw new EntityNotFoundException("Sensor Type not found");
     }
 
+    /**
+     * A sensor type to be created in a batch.
+     * @param sensorTypeID the ID of the sensor type.
+     * @param description  the description of the sensor type.
+     * @param unit         the unit of the sensor type.
+     */
+    public record NewSensorType(SensorTypeID sensorTypeID, Description description, Unit unit) {
+    }
 }
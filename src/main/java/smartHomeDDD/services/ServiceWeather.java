@@ -1,19 +1,39 @@
 package smartHomeDDD.services;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import smartHomeDDD.persistence.cache.SingleFlightCache;
 import smartHomeDDD.persistence.gateway.ImplWeatherServiceGateway;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
 
 /**
  * Service class for handling weather-related operations.
  * This service provides methods to interact with weather data, such as fetching current temperature,
  * sunrise time, and sunset time. It utilizes an implementation of the {@link ImplWeatherServiceGateway}
  * to communicate with a weather service.
+ * The responses are returned as {@link Mono}s, so no thread waits on the weather service, and are cached by location,
+ * with the coordinates rounded to two decimal places (about a kilometre), and by hour for the temperature or by date
+ * for the sunrise and sunset times. Concurrent identical requests share a single call to the weather service.
  * This class is annotated with {@link Service}, indicating that it is a Spring service component,
  * and thus eligible for Spring's component scanning and dependency injection mechanisms.
  */
 @Service
 public class ServiceWeather {
 
+    /**
+     * The number of locations, times and kinds of response past which the expired responses are removed.
+     */
+    private static final int MAX_CACHED_RESPONSES = 10_000;
+
     /**
      * Gateway for accessing weather service data.
      * This field is used to interact with a weather service to fetch weather-related data.
@@ -24,44 +44,121 @@ public class ServiceWeather {
     final ImplWeatherServiceGateway _weatherServiceGateway;
 
     /**
-     * Constructor for ServiceWeather.
+     * The cache of the current temperatures.
+     */
+    private final SingleFlightCache<WeatherKey, Object> _temperatureCache;
+
+    /**
+     * The cache of the sunrise and sunset times.
+     */
+    private final SingleFlightCache<WeatherKey, Object> _sunCache;
+
+    /**
+     * The clock the hour and date of the requests are read from.
+     */
+    private final Clock _clock;
+
+    /**
+     * Constructor for ServiceWeather, caching the temperatures for ten minutes and the sunrise and sunset times for
+     * twelve hours.
      * @param weatherServiceGateway Value of weatherServiceGateway.
      * @throws IllegalArgumentException if weatherServiceGateway is null.
      */
     public ServiceWeather(ImplWeatherServiceGateway weatherServiceGateway) {
+        this(weatherServiceGateway, Duration.ofMinutes(10), Duration.ofHours(12));
+    }
+
+    /**
+     * Constructor for ServiceWeather.
+     * @param weatherServiceGateway Value of weatherServiceGateway.
+     * @param temperatureTtl How long a temperature is cached.
+     * @param sunTtl How long a sunrise or sunset time is cached.
+     * @throws IllegalArgumentException if weatherServiceGateway is null, or a time to live is null or negative.
+     */
+    @Autowired
+    public ServiceWeather(ImplWeatherServiceGateway weatherServiceGateway,
+                          @Value("${weather.cache.temperature-ttl:10m}") Duration temperatureTtl,
+                          @Value("${weather.cache.sun-ttl:12h}") Duration sunTtl) {
+        this(weatherServiceGateway, temperatureTtl, sunTtl, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Constructor for ServiceWeather, with the clock the hour and date of the requests are read from.
+     * @param weatherServiceGateway Value of weatherServiceGateway.
+     * @param temperatureTtl How long a temperature is cached.
+     * @param sunTtl How long a sunrise or sunset time is cached.
+     * @param clock The clock the hour and date of the requests are read from.
+     * @throws IllegalArgumentException if weatherServiceGateway or the clock is null, or a time to live is null or
+     * negative.
+     */
+    public ServiceWeather(ImplWeatherServiceGateway weatherServiceGateway, Duration temperatureTtl, Duration sunTtl, Clock clock) {
         if (weatherServiceGateway == null) {
             throw new IllegalArgumentException("WeatherServiceGateway cannot be null");
         }
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
         _weatherServiceGateway = weatherServiceGateway;
+        _temperatureCache = new SingleFlightCache<>(temperatureTtl, MAX_CACHED_RESPONSES);
+        _sunCache = new SingleFlightCache<>(sunTtl, MAX_CACHED_RESPONSES);
+        _clock = clock;
     }
 
     /**
      * Get the current temperature from weather service.
      * @param lat Value of latitude.
      * @param lon Value of longitude.
-     * @return the response from the weather service.
+     * @return a Mono emitting the response from the weather service.
      */
-    public Object getCurrentTemperature(String lat, String lon) {
-        return _weatherServiceGateway.getcurrentTemperature(lat,lon).block();
+    public Mono<Object> getCurrentTemperature(String lat, String lon) {
+        LocalDateTime hour = LocalDateTime.now(_clock).truncatedTo(ChronoUnit.HOURS);
+        return _temperatureCache.get(new WeatherKey("temperature", quantize(lat), quantize(lon), hour),
+                () -> _weatherServiceGateway.getcurrentTemperature(lat, lon));
     }
 
     /**
      * Get the sunrise time from weather service.
      * @param lat Value of latitude.
      * @param lon Value of longitude.
-     * @return the response from the weather service.
+     * @return a Mono emitting the response from the weather service.
      */
-    public Object getSunrise(String lat, String lon) {
-        return _weatherServiceGateway.getSunrise(lat,lon).block();
+    public Mono<Object> getSunrise(String lat, String lon) {
+        return _sunCache.get(new WeatherKey("sunrise", quantize(lat), quantize(lon), LocalDate.now(_clock)),
+                () -> _weatherServiceGateway.getSunrise(lat, lon));
     }
 
     /**
      * Get the sunset time from weather service.
      * @param lat Value of latitude.
      * @param lon Value of longitude.
-     * @return the response from the weather service.
+     * @return a Mono emitting the response from the weather service.
+     */
+    public Mono<Object> getSunset(String lat, String lon) {
+        return _sunCache.get(new WeatherKey("sunset", quantize(lat), quantize(lon), LocalDate.now(_clock)),
+                () -> _weatherServiceGateway.getSunset(lat, lon));
+    }
+
+    /**
+     * Rounds a coordinate to two decimal places. A coordinate that is not a number is kept as it is.
+     */
+    private static String quantize(String coordinate) {
+        if (coordinate == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(coordinate.trim()).setScale(2, RoundingMode.HALF_UP).toPlainString();
+        } catch (NumberFormatException e) {
+            return coordinate;
+        }
+    }
+
+    /**
+     * The key of a cached response.
+     * @param kind The kind of response.
+     * @param latitude The rounded latitude.
+     * @param longitude The rounded longitude.
+     * @param period The hour or the date the response is for.
      */
-    public Object getSunset(String lat, String lon) {
-        return _weatherServiceGateway.getSunset(lat,lon).block();
+    private record WeatherKey(String kind, String latitude, String longitude, Object period) {
     }
 }
@@ -0,0 +1,147 @@
+package smartHomeDDD.services;
+
+import java.security.SecureRandom;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+/**
+ * Generates time ordered IDs, laid out as version 7 UUIDs: the first 48 bits are the Unix time in milliseconds, the
+ * next 12 bits a counter and the last 62 bits random.
+ * The counter starts at a random value each millisecond and is incremented for each ID generated within it, so the IDs
+ * of a generator sort in the order they were generated, both as Strings and as bytes. New rows are then appended to
+ * the end of the primary key index instead of being scattered across it. If the counter runs out within a
+ * millisecond, the IDs carry on into the next one.
+ * The IDs are written either as UUIDs, 36 characters long, or in the Crockford base 32 encoding used by ULIDs, 26
+ * characters long.
+ */
+public class TimeOrderedIdStrategy implements IdStrategy {
+
+    /**
+     * The way the IDs are written.
+     */
+    public enum Format {
+        /**
+         * As a UUID, such as 018f4c3a-7b2e-7a41-9c3d-5e6f7a8b9c0d.
+         */
+        UUID,
+        /**
+         * In the Crockford base 32 encoding of ULIDs, such as 01HX63MYSE7M0STF2YDXX8Q70D.
+         */
+        ULID
+    }
+
+    /**
+     * The digits of the Crockford base 32 encoding, in ascending order.
+     */
+    private static final char[] CROCKFORD = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    /**
+     * The largest value of the counter.
+     */
+    private static final int MAX_COUNTER = 0xFFF;
+
+    /**
+     * The way the IDs are written.
+     */
+    private final Format _format;
+
+    /**
+     * The source of the current time, in milliseconds.
+     */
+    private final LongSupplier _millisClock;
+
+    /**
+     * The source of the random bits.
+     */
+    private final Random _random = new SecureRandom();
+
+    /**
+     * The time of the last ID generated, in milliseconds.
+     */
+    private long _lastMillis = Long.MIN_VALUE;
+
+    /**
+     * The counter of the last ID generated.
+     */
+    private int _counter;
+
+    /**
+     * Constructor for the TimeOrderedIdStrategy class.
+     *
+     * @param format The way the IDs are written.
+     * @throws IllegalArgumentException if the format is null.
+     */
+    public TimeOrderedIdStrategy(Format format) {
+        this(format, System::currentTimeMillis);
+    }
+
+    /**
+     * Constructor for the TimeOrderedIdStrategy class, with the source of the current time.
+     *
+     * @param format The way the IDs are written.
+     * @param millisClock The source of the current time, in milliseconds.
+     * @throws IllegalArgumentException if the format or the clock is null.
+     */
+    public TimeOrderedIdStrategy(Format format, LongSupplier millisClock) {
+        if (format == null) {
+            throw new IllegalArgumentException("Format cannot be null");
+        }
+        if (millisClock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
+        this._format = format;
+        this._millisClock = millisClock;
+    }
+
+    /**
+     * Generates a time ordered ID.
+     *
+     * @return The ID, written in the format of the generator.
+     */
+    @Override
+    public String nextId() {
+        long millis;
+        int counter;
+        synchronized (this) {
+            long now = _millisClock.getAsLong();
+            if (now > _lastMillis) {
+                _lastMillis = now;
+                _counter = _random.nextInt(MAX_COUNTER / 2 + 1);
+            } else if (_counter < MAX_COUNTER) {
+                _counter++;
+            } else {
+                _lastMillis++;
+                _counter = 0;
+            }
+            millis = _lastMillis;
+            counter = _counter;
+        }
+        long mostSigBits = (millis << 16) | 0x7000L | counter;
+        long leastSigBits = (_random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        if (_format == Format.UUID) {
+            return new UUID(mostSigBits, leastSigBits).toString();
+        }
+        return crockford(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * Writes 128 bits in Crockford base 32, most significant digit first, in 26 digits.
+     */
+    private static String crockford(long mostSigBits, long leastSigBits) {
+        char[] digits = new char[26];
+        for (int i = 0; i < digits.length; i++) {
+            int shift = (digits.length - 1 - i) * 5;
+            long digit;
+            if (shift >= 64) {
+                digit = mostSigBits >>> (shift - 64);
+            } else if (shift > 59) {
+                digit = (leastSigBits >>> shift) | (mostSigBits << (64 - shift));
+            } else {
+                digit = leastSigBits >>> shift;
+            }
+            digits[i] = CROCKFORD[(int) (digit & 31)];
+        }
+        return new String(digits);
+    }
+}
@@ -0,0 +1,8 @@
+-- Adds the composite indexes of the SENSOR_READING table to an existing database.
+-- The range queries filter by device or by sensor and then by time, and the latest reading of a sensor is the last
+-- entry of its (sensorid, time_stamp) index, so neither needs a full table scan.
+-- Runs on MariaDB, MySQL 8 and H2. Databases created by Hibernate after this change already have the indexes.
+
+CREATE INDEX IDX_SENSOR_READING_DEVICE_TIME ON sensor_reading (deviceid, time_stamp);
+
+CREATE INDEX IDX_SENSOR_READING_SENSOR_TIME ON sensor_reading (sensorid, time_stamp);
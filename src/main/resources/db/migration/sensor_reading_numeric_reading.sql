@@ -0,0 +1,13 @@
+-- Adds the numeric value of the sensor readings to an existing SENSOR_READING table.
+-- The raw text of the readings is kept as it is; readings that are plain decimal numbers get their numeric value,
+-- and the others (e.g. ON/OFF readings) keep a null numeric value, so database aggregations ignore them.
+-- Runs on MariaDB, MySQL 8 and H2 (in MySQL mode). Databases created by Hibernate after this change already have the column.
+-- The pattern matches the numbers the Reading value object parses, and is written without backslashes, which MariaDB
+-- and H2 escape differently in string literals.
+
+ALTER TABLE sensor_reading ADD COLUMN numeric_reading DOUBLE;
+
+UPDATE sensor_reading
+SET numeric_reading = CAST(TRIM(reading) AS DOUBLE)
+WHERE numeric_reading IS NULL
+  AND TRIM(reading) REGEXP '^[+-]?([0-9]+[.]?[0-9]*|[.][0-9]+)$';
@@ -0,0 +1,94 @@
+-- Creates the SENSOR_READING_ROLLUP table in an existing database.
+-- Each row summarizes the numeric readings of a sensor within a minute, hour or day bucket, and is updated in place
+-- as readings are saved. The readings saved before this change are rolled up by the INSERT statements below, one per
+-- resolution, which must run before the application saves new readings.
+-- Runs on MariaDB, MySQL 8 and H2 (in MySQL mode). Databases created by Hibernate after this change already have the table.
+-- Buckets are aligned to the epoch, and the IDs are made of the sensor ID, the resolution and the bucket start in
+-- milliseconds, like the ones the application writes, so the session time zone must be the one the application uses.
+-- Only the readings with a numeric value are rolled up, so sensor_reading_numeric_reading.sql must have run before.
+-- The count and sum of the readings at the first timestamp let a bucket that starts on an interval boundary add every
+-- reading at the boundary to the previous interval, as the queries of the raw readings do.
+
+CREATE TABLE sensor_reading_rollup (
+    rollupid      VARCHAR(255) NOT NULL,
+    version       BIGINT,
+    sensorid      VARCHAR(255),
+    resolution    VARCHAR(255),
+    bucket_start  TIMESTAMP(6) NULL,
+    reading_count BIGINT NOT NULL,
+    reading_sum   DOUBLE NOT NULL,
+    min_reading   DOUBLE NOT NULL,
+    max_reading   DOUBLE NOT NULL,
+    first_reading DOUBLE NOT NULL,
+    first_time    TIMESTAMP(6) NULL,
+    first_count   BIGINT NOT NULL,
+    first_sum     DOUBLE NOT NULL,
+    last_reading  DOUBLE NOT NULL,
+    last_time     TIMESTAMP(6) NULL,
+    PRIMARY KEY (rollupid)
+);
+
+CREATE INDEX IDX_SENSOR_READING_ROLLUP_SENSOR_BUCKET ON sensor_reading_rollup (sensorid, resolution, bucket_start);
+
+INSERT INTO sensor_reading_rollup (rollupid, version, sensorid, resolution, bucket_start, reading_count, reading_sum,
+                                   min_reading, max_reading, first_reading, first_time, first_count, first_sum, last_reading, last_time)
+SELECT CONCAT(b.sensorid, '/MINUTE/', b.bucket_seconds, '000'), 0, b.sensorid, 'MINUTE', FROM_UNIXTIME(b.bucket_seconds),
+       b.reading_count, b.reading_sum, b.min_reading, b.max_reading,
+       (SELECT MIN(f.numeric_reading) FROM sensor_reading f
+        WHERE f.sensorid = b.sensorid AND f.time_stamp = b.first_time AND f.numeric_reading IS NOT NULL), b.first_time,
+       (SELECT COUNT(*) FROM sensor_reading f
+        WHERE f.sensorid = b.sensorid AND f.time_stamp = b.first_time AND f.numeric_reading IS NOT NULL),
+       (SELECT SUM(f.numeric_reading) FROM sensor_reading f
+        WHERE f.sensorid = b.sensorid AND f.time_stamp = b.first_time AND f.numeric_reading IS NOT NULL),
+       (SELECT MAX(l.numeric_reading) FROM sensor_reading l
+        WHERE l.sensorid = b.sensorid AND l.time_stamp = b.last_time AND l.numeric_reading IS NOT NULL), b.last_time
+FROM (SELECT r.sensorid, r.bucket_seconds,
+             COUNT(*) AS reading_count, SUM(r.numeric_reading) AS reading_sum,
+             MIN(r.numeric_reading) AS min_reading, MAX(r.numeric_reading) AS max_reading,
+             MIN(r.time_stamp) AS first_time, MAX(r.time_stamp) AS last_time
+      FROM (SELECT sensorid, numeric_reading, time_stamp, FLOOR(UNIX_TIMESTAMP(time_stamp) / 60) * 60 AS bucket_seconds
+            FROM sensor_reading
+            WHERE numeric_reading IS NOT NULL AND time_stamp IS NOT NULL) r
+      GROUP BY r.sensorid, r.bucket_seconds) b;
+
+INSERT INTO sensor_reading_rollup (rollupid, version, sensorid, resolution, bucket_start, reading_count, reading_sum,
+                                   min_reading, max_reading, first_reading, first_time, first_count, first_sum, last_reading, last_time)
+SELECT CONCAT(b.sensorid, '/HOUR/', b.bucket_seconds, '000'), 0, b.sensorid, 'HOUR', FROM_UNIXTIME(b.bucket_seconds),
+       b.reading_count, b.reading_sum, b.min_reading, b.max_reading,
+       (SELECT MIN(f.numeric_reading) FROM sensor_reading f
+        WHERE f.sensorid = b.sensorid AND f.time_stamp = b.first_time AND f.numeric_reading IS NOT NULL), b.first_time,
+       (SELECT COUNT(*) FROM sensor_reading f
+        WHERE f.sensorid = b.sensorid AND f.time_stamp = b.first_time AND f.numeric_reading IS NOT NULL),
+       (SELECT SUM(f.numeric_reading) FROM sensor_reading f
+        WHERE f.sensorid = b.sensorid AND f.time_stamp = b.first_time AND f.numeric_reading IS NOT NULL),
+       (SELECT MAX(l.numeric_reading) FROM sensor_reading l
+        WHERE l.sensorid = b.sensorid AND l.time_stamp = b.last_time AND l.numeric_reading IS NOT NULL), b.last_time
+FROM (SELECT r.sensorid, r.bucket_seconds,
+             COUNT(*) AS reading_count, SUM(r.numeric_reading) AS reading_sum,
+             MIN(r.numeric_reading) AS min_reading, MAX(r.numeric_reading) AS max_reading,
+             MIN(r.time_stamp) AS first_time, MAX(r.time_stamp) AS last_time
+      FROM (SELECT sensorid, numeric_reading, time_stamp, FLOOR(UNIX_TIMESTAMP(time_stamp) / 3600) * 3600 AS bucket_seconds
+            FROM sensor_reading
+            WHERE numeric_reading IS NOT NULL AND time_stamp IS NOT NULL) r
+      GROUP BY r.sensorid, r.bucket_seconds) b;
+
+INSERT INTO sensor_reading_rollup (rollupid, version, sensorid, resolution, bucket_start, reading_count, reading_sum,
+                                   min_reading, max_reading, first_reading, first_time, first_count, first_sum, last_reading, last_time)
+SELECT CONCAT(b.sensorid, '/DAY/', b.bucket_seconds, '000'), 0, b.sensorid, 'DAY', FROM_UNIXTIME(b.bucket_seconds),
+       b.reading_count, b.reading_sum, b.min_reading, b.max_reading,
+       (SELECT MIN(f.numeric_reading) FROM sensor_reading f
+        WHERE f.sensorid = b.sensorid AND f.time_stamp = b.first_time AND f.numeric_reading IS NOT NULL), b.first_time,
+       (SELECT COUNT(*) FROM sensor_reading f
+        WHERE f.sensorid = b.sensorid AND f.time_stamp = b.first_time AND f.numeric_reading IS NOT NULL),
+       (SELECT SUM(f.numeric_reading) FROM sensor_reading f
+        WHERE f.sensorid = b.sensorid AND f.time_stamp = b.first_time AND f.numeric_reading IS NOT NULL),
+       (SELECT MAX(l.numeric_reading) FROM sensor_reading l
+        WHERE l.sensorid = b.sensorid AND l.time_stamp = b.last_time AND l.numeric_reading IS NOT NULL), b.last_time
+FROM (SELECT r.sensorid, r.bucket_seconds,
+             COUNT(*) AS reading_count, SUM(r.numeric_reading) AS reading_sum,
+             MIN(r.numeric_reading) AS min_reading, MAX(r.numeric_reading) AS max_reading,
+             MIN(r.time_stamp) AS first_time, MAX(r.time_stamp) AS last_time
+      FROM (SELECT sensorid, numeric_reading, time_stamp, FLOOR(UNIX_TIMESTAMP(time_stamp) / 86400) * 86400 AS bucket_seconds
+            FROM sensor_reading
+            WHERE numeric_reading IS NOT NULL AND time_stamp IS NOT NULL) r
+      GROUP BY r.sensorid, r.bucket_seconds) b;
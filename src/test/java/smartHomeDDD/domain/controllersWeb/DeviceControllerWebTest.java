@@ -27,14 +27,20 @@ import smartHomeDDD.domain.sensorModel.SensorModel;
 import smartHomeDDD.domain.sensorReading.SensorReading;
 import smartHomeDDD.domain.sensorType.SensorType;
 import smartHomeDDD.domain.valueobject.*;
+import smartHomeDDD.domain.sensorReading.SensorReadingCursor;
 import smartHomeDDD.dto.DeviceEntryWebDTO;
+import smartHomeDDD.dto.SensorReadingMapper;
+import smartHomeDDD.services.DeviceFunctionalityIndex;
 import smartHomeDDD.services.GenerateRandomId;
 
 import java.sql.Timestamp;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -55,6 +61,12 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  *  - Retrieve a list of sensor readings of a device.
  *  - Retrieve a list of sensor readings of a device, but the device does not have any sensor readings.
  *  - Retrieve a list of sensor readings of a device that doesn't exist.
+ *  - Retrieve a page of sensor readings of a device, with the cursor and link of the next page.
+ *  - Retrieve a page of sensor readings of a device with an invalid cursor.
+ *  - Export the sensor readings of a device as NDJSON.
+ *  - Export the sensor readings of a device as CSV.
+ *  - Export the sensor readings of a device that doesn't exist.
+ *  - Export the sensor readings of a device in an unsupported format.
  *  - Retrieve the active devices.
  *  - Retrieve the active devices but there are no active devices.
  *  - Retrieve a list of devices.
@@ -125,6 +137,13 @@ class DeviceControllerWebTest {
      */
     @MockBean
     private GenerateRandomId generateRandomId;
+
+    /**
+     * The index of the devices by functionality, rebuilt once the repositories are mocked.
+     */
+    @Autowired
+    private DeviceFunctionalityIndex deviceFunctionalityIndex;
+
     /**
      * Method that is executed before each test. It opens the mocks.
      */
@@ -614,6 +633,175 @@ class DeviceControllerWebTest {
         assertEquals("Device not found",resultContent);
     }
 
+    /**
+     * This test method verifies the scenario where a page of sensor readings of a device is retrieved, and the
+     * response holds the cursor of the next page and a link to it.
+     */
+    @Test
+    void getSensorReadingsPageOfDevice_shouldReturnPageWithNextCursor() throws Exception {
+        // Arrange
+        DeviceId deviceId = new DeviceId("d1");
+        SensorReading sensorReading1 = new SensorReading(new SensorReadingID("sr1"), new Reading("10"), deviceId, new SensorID("s1"), Timestamp.valueOf("2021-01-01 11:00:00"));
+        SensorReading sensorReading2 = new SensorReading(new SensorReadingID("sr2"), new Reading("12"), deviceId, new SensorID("s1"), Timestamp.valueOf("2021-01-01 11:01:00"));
+        SensorReading sensorReading3 = new SensorReading(new SensorReadingID("sr3"), new Reading("14"), deviceId, new SensorID("s1"), Timestamp.valueOf("2021-01-01 11:02:00"));
+        when(repositorySensorReading.getSensorReadingsPageFromDevice(deviceId, null, null, null, 3))
+                .thenReturn(List.of(sensorReading1, sensorReading2, sensorReading3));
+        String nextCursor = SensorReadingMapper.cursorToDTO(SensorReadingCursor.of(sensorReading2));
+
+        // Act
+        MvcResult result = mockMvc
+                .perform(MockMvcRequestBuilders.get("/api/v1/devices/d1/sensor-readings")
+                        .param("limit", "2")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // Assert
+        String resultContent = result.getResponse().getContentAsString();
+        String expectedContent = """
+                {
+                    "sensorReadings": [
+                        {"sensorReadingID": "sr1", "links": [{"rel": "self", "href": "http://localhost/api/v1/sensor-readings/sr1"}]},
+                        {"sensorReadingID": "sr2", "links": [{"rel": "self", "href": "http://localhost/api/v1/sensor-readings/sr2"}]}
+                    ],
+                    "nextCursor": "%s",
+                    "links": [{"rel": "next", "href": "http://localhost/api/v1/devices/d1/sensor-readings?limit=2&cursor=%s"}]
+                }
+                """.formatted(nextCursor, nextCursor);
+        JSONAssert.assertEquals(expectedContent, resultContent, true);
+    }
+
+    /**
+     * This test method verifies the scenario where a page of sensor readings of a device is retrieved with a cursor
+     * that was not returned by the API.
+     */
+    @Test
+    void getSensorReadingsPageOfDeviceWithInvalidCursor_shouldReturnBadRequestStatus() throws Exception {
+        // Act
+        MvcResult result = mockMvc
+                .perform(MockMvcRequestBuilders.get("/api/v1/devices/d1/sensor-readings")
+                        .param("limit", "2")
+                        .param("cursor", "not-a-cursor")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andReturn();
+
+        // Assert
+        assertEquals("Invalid cursor", result.getResponse().getContentAsString());
+    }
+
+    /**
+     * This test method verifies the scenario where the sensor readings of a device are exported as NDJSON,
+     * one JSON object per line, as they are passed by the repository.
+     */
+    @Test
+    void exportSensorReadingsOfDeviceAsNdjson_shouldStreamOneLinePerReading() throws Exception {
+        // Arrange
+        DeviceEntryWebDTO deviceEntryWebDTO = new DeviceEntryWebDTO("r1", "lamp", "siemens", true);
+        when(generateRandomId.generateID()).thenReturn("d1");
+        Device device = setupDevice(deviceEntryWebDTO);
+        SensorReading sensorReading1 = new SensorReading(new SensorReadingID("sr1"), new Reading("10"), new DeviceId("d1"), new SensorID("s1"), Timestamp.valueOf("2021-01-01 11:00:00"));
+        SensorReading sensorReading2 = new SensorReading(new SensorReadingID("sr2"), new Reading("12"), new DeviceId("d1"), new SensorID("s1"), Timestamp.valueOf("2021-01-01 11:05:00"));
+
+        when(repositoryDevice.ofIdentity(device.identity())).thenReturn(java.util.Optional.of(device));
+        doAnswer(invocation -> {
+            Consumer<SensorReading> action = invocation.getArgument(1);
+            action.accept(sensorReading1);
+            action.accept(sensorReading2);
+            return null;
+        }).when(repositorySensorReading).forEachSensorReadingOfDevice(eq(device.identity()), any());
+
+        // Act
+        MvcResult started = mockMvc
+                .perform(MockMvcRequestBuilders.get("/api/v1/devices/d1/sensor-readings").param("format", "ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // Assert
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals("application/x-ndjson", result.getResponse().getContentType());
+        assertEquals(2, lines.length);
+        JSONAssert.assertEquals("""
+                {"sensorReadingID":"sr1","reading":"10","deviceID":"d1","sensorID":"s1","timeStamp":"2021-01-01 11:00:00.0"}
+                """, lines[0], true);
+        JSONAssert.assertEquals("""
+                {"sensorReadingID":"sr2","reading":"12","deviceID":"d1","sensorID":"s1","timeStamp":"2021-01-01 11:05:00.0"}
+                """, lines[1], true);
+    }
+
+    /**
+     * This test method verifies the scenario where the sensor readings of a device are exported as CSV, with a header row.
+     */
+    @Test
+    void exportSensorReadingsOfDeviceAsCsv_shouldStreamHeaderAndOneRowPerReading() throws Exception {
+        // Arrange
+        DeviceEntryWebDTO deviceEntryWebDTO = new DeviceEntryWebDTO("r1", "lamp", "siemens", true);
+        when(generateRandomId.generateID()).thenReturn("d1");
+        Device device = setupDevice(deviceEntryWebDTO);
+        SensorReading sensorReading = new SensorReading(new SensorReadingID("sr1"), new Reading("10,5"), new DeviceId("d1"), new SensorID("s1"), Timestamp.valueOf("2021-01-01 11:00:00"));
+
+        when(repositoryDevice.ofIdentity(device.identity())).thenReturn(java.util.Optional.of(device));
+        doAnswer(invocation -> {
+            Consumer<SensorReading> action = invocation.getArgument(1);
+            action.accept(sensorReading);
+            return null;
+        }).when(repositorySensorReading).forEachSensorReadingOfDevice(eq(device.identity()), any());
+
+        // Act
+        MvcResult started = mockMvc
+                .perform(MockMvcRequestBuilders.get("/api/v1/devices/d1/sensor-readings").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // Assert
+        String expectedContent = """
+                sensorReadingID,reading,deviceID,sensorID,timeStamp
+                sr1,"10,5",d1,s1,2021-01-01 11:00:00.0
+                """;
+        assertEquals("text/csv", result.getResponse().getContentType());
+        assertEquals(expectedContent, result.getResponse().getContentAsString());
+    }
+
+    /**
+     * This test method verifies the scenario where the sensor readings of a device that doesn't exist are exported.
+     */
+    @Test
+    void exportSensorReadingsWithNonExistingDeviceID_shouldReturnNotFoundStatus() throws Exception {
+        // Arrange
+        when(repositoryDevice.ofIdentity(new DeviceId("d404"))).thenReturn(java.util.Optional.empty());
+
+        // Act
+        MvcResult result = mockMvc
+                .perform(MockMvcRequestBuilders.get("/api/v1/devices/d404/sensor-readings").param("format", "csv"))
+                .andExpect(status().isNotFound())
+                .andReturn();
+
+        // Assert
+        assertEquals("Device not found", result.getResponse().getContentAsString());
+        verify(repositorySensorReading, never()).forEachSensorReadingOfDevice(any(), any());
+    }
+
+    /**
+     * This test method verifies the scenario where the sensor readings of a device are exported in an unsupported format.
+     */
+    @Test
+    void exportSensorReadingsInUnsupportedFormat_shouldReturnBadRequestStatus() throws Exception {
+        // Act
+        MvcResult result = mockMvc
+                .perform(MockMvcRequestBuilders.get("/api/v1/devices/d1/sensor-readings").param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andReturn();
+
+        // Assert
+        assertEquals("Unsupported export format", result.getResponse().getContentAsString());
+    }
+
     /**
      * This test method verifies the scenario where the active devices are retrieved.
      */
@@ -760,8 +948,8 @@ class DeviceControllerWebTest {
         //Mock assignDeviceToSensorGroupType
         when(repositorySensorModel.ofIdentity(sensor1.getSensorModelID())).thenReturn(java.util.Optional.of(new SensorModel(new SensorModelID("GA100K"), new SensorTypeID("Temperature"))));
         when(repositorySensorType.ofIdentity(new SensorTypeID("Temperature"))).thenReturn(java.util.Optional.of(new SensorType(new Unit("Celsius"), new Description("Temperature"), new SensorTypeID("T1"))));
-        when(repositoryDevice.ofIdentity(sensor1.getDeviceID())).thenReturn(java.util.Optional.of(device));
-
+        when(repositoryDevice.ofIdentities(anyIterable())).thenReturn(List.of(device));
+        deviceFunctionalityIndex.rebuild();
 
         // Act
         MvcResult result = mockMvc
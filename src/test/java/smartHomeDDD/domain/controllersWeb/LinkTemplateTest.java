@@ -0,0 +1,98 @@
+package smartHomeDDD.domain.controllersWeb;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import smartHomeDDD.controllersWeb.DeviceControllerWeb;
+import smartHomeDDD.controllersWeb.LinkTemplate;
+import smartHomeDDD.controllersWeb.SensorReadingWebController;
+import smartHomeDDD.controllersWeb.SensorTypeWebController;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+/**
+ * Test class for LinkTemplate
+ * It tests the following scenarios:
+ * - the self links of a template are the same as the ones built with linkTo and slash, within a request
+ * - a link with another relation has the base URI of the controller and the given relation
+ * - an identifier with characters that are not allowed in a path segment is encoded as linkTo encodes it
+ */
+class LinkTemplateTest {
+
+    /**
+     * Removes the request of the test from the context of the thread.
+     */
+    @AfterEach
+    void resetRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    /**
+     * Test that the self links of a template are the same as the ones built with linkTo and slash, within a request
+     */
+    @Test
+    void selfLinks_ShouldMatchLinkBuilder() {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/devices");
+        request.setScheme("https");
+        request.setServerName("example.org");
+        request.setServerPort(8443);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        LinkTemplate selfLinks = LinkTemplate.of(DeviceControllerWeb.class);
+
+        // Act
+        Link first = selfLinks.self("d1");
+        Link second = selfLinks.self("01HX63MYSE7M0STF2YDXX8Q70D");
+
+        // Assert
+        assertEquals(linkTo(DeviceControllerWeb.class).slash("d1").withSelfRel(), first);
+        assertEquals(linkTo(DeviceControllerWeb.class).slash("01HX63MYSE7M0STF2YDXX8Q70D").withSelfRel(), second);
+        assertEquals("https://example.org:8443/api/v1/devices/d1", first.getHref());
+    }
+
+    /**
+     * Test that a link with another relation has the base URI of the controller and the given relation
+     */
+    @Test
+    void link_ShouldHaveGivenRelation() {
+        // Arrange
+        LinkTemplate links = LinkTemplate.of(SensorReadingWebController.class);
+
+        // Act
+        Link link = links.link("sr1", LinkRelation.of("sensor-reading"));
+
+        // Assert
+        assertEquals(linkTo(SensorReadingWebController.class).slash("sr1").withRel("sensor-reading"), link);
+        assertEquals(LinkRelation.of("sensor-reading"), link.getRel());
+        assertEquals(IanaLinkRelations.SELF, links.self("sr1").getRel());
+    }
+
+    /**
+     * Test that an identifier with characters that are not allowed in a path segment, such as a space and a #, is
+     * encoded in the link as linkTo encodes it
+     */
+    @Test
+    void self_WithReservedCharacters_ShouldEncodeLikeLinkBuilder() {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/sensor-types");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        LinkTemplate selfLinks = LinkTemplate.of(SensorTypeWebController.class);
+        String id = "Outdoor Temperature #2";
+
+        // Act
+        Link link = selfLinks.self(id);
+
+        // Assert
+        Link expected = linkTo(methodOn(SensorTypeWebController.class).getSensorTypeByID(id, null)).withSelfRel();
+        assertEquals(expected.getHref(), link.getHref());
+        assertEquals(expected.getRel(), link.getRel());
+        assertEquals("http://localhost/api/v1/sensor-types/Outdoor%20Temperature%20%232", link.getHref());
+    }
+}
@@ -1,5 +1,6 @@
 package smartHomeDDD.domain.controllersWeb;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockitoAnnotations;
@@ -13,6 +14,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import smartHomeDDD.domain.device.Device;
 import smartHomeDDD.domain.repository.IRepositoryDevice;
 import smartHomeDDD.domain.repository.IRepositorySensor;
 import smartHomeDDD.domain.repository.IRepositorySensorReading;
@@ -21,12 +23,14 @@ import smartHomeDDD.domain.sensor.Sensor;
 import smartHomeDDD.domain.sensorReading.FactorySensorReading;
 import smartHomeDDD.domain.sensorReading.SensorReading;
 import smartHomeDDD.domain.valueobject.*;
+import smartHomeDDD.dto.SensorReadingEntryWebDTO;
 import smartHomeDDD.persistence.springdata.RepositoryHouseSpringData;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -42,6 +46,10 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * - getSensorReadingByID_shouldReturnSensorReading
  * - getSensorReadingByIDNonExistent_shouldReturnEntityNotFound
  * - noDifferenceBetweenReadings_shouldReturnZero
+ * - addSensorReadingsBatch_shouldReturnCreated
+ * - addSensorReadingsBatchWithUnknownDevice_shouldReturnMultiStatus
+ * - getLatestSensorReadingsFromDevice_shouldReturnLatestReadingOfEachSensor
+ * - getSensorReadingRollups_shouldReturnSummaryOfEachInterval
  */
 @AutoConfigureMockMvc
 @SpringBootTest
@@ -87,6 +95,12 @@ class SensorReadingWebControllerTest {
     @MockBean
     private IRepositoryDevice repositoryDevice;
 
+    /**
+     * The objectMapper object is used to convert the request body to JSON.
+     */
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -243,11 +257,11 @@ class SensorReadingWebControllerTest {
                 factorySensor.createSensor(new DeviceId("d2"), new SensorModelID("GA100K"), new SensorID("s2")));
 
         when(repositorySensorReading.getSensorReadingsBetweenTimestamp(
-                new DeviceId("d1"),new SensorID("s1"),  Timestamp.valueOf(startTimeString), Timestamp.valueOf(endTimeString)))
+                eq(new DeviceId("d1")), anyCollection(), eq(Timestamp.valueOf(startTimeString)), eq(Timestamp.valueOf(endTimeString))))
                 .thenReturn(sensorReadingsDevice1);
 
         when(repositorySensorReading.getSensorReadingsBetweenTimestamp(
-                new DeviceId("d2"),new SensorID("s2"),  Timestamp.valueOf(startTimeString), Timestamp.valueOf(endTimeString)))
+                eq(new DeviceId("d2")), anyCollection(), eq(Timestamp.valueOf(startTimeString)), eq(Timestamp.valueOf(endTimeString))))
                 .thenReturn(sensorReadingsDevice2);
 
         when(repositoryDevice.containsOfIdentity(new DeviceId("d1"))).thenReturn(true);
@@ -294,11 +308,11 @@ class SensorReadingWebControllerTest {
                 factorySensor.createSensor(new DeviceId("d2"), new SensorModelID("GA100K"), new SensorID("s2")));
 
         when(repositorySensorReading.getSensorReadingsBetweenTimestamp(
-                new DeviceId("d1"),new SensorID("s1"),  Timestamp.valueOf(startTimeString), Timestamp.valueOf(endTimeString)))
+                eq(new DeviceId("d1")), anyCollection(), eq(Timestamp.valueOf(startTimeString)), eq(Timestamp.valueOf(endTimeString))))
                 .thenReturn(sensorReadingsDevice1);
 
         when(repositorySensorReading.getSensorReadingsBetweenTimestamp(
-                new DeviceId("d2"),new SensorID("s2"),  Timestamp.valueOf(startTimeString), Timestamp.valueOf(endTimeString)))
+                eq(new DeviceId("d2")), anyCollection(), eq(Timestamp.valueOf(startTimeString)), eq(Timestamp.valueOf(endTimeString))))
                 .thenReturn(sensorReadingsDevice2);
         when(repositoryDevice.containsOfIdentity(new DeviceId("d1"))).thenReturn(true);
         when(repositoryDevice.containsOfIdentity(new DeviceId("d2"))).thenReturn(true);
@@ -403,11 +417,11 @@ class SensorReadingWebControllerTest {
                 factorySensor.createSensor(new DeviceId("d2"), new SensorModelID("GA100K"), new SensorID("s2")));
 
         when(repositorySensorReading.getSensorReadingsBetweenTimestamp(
-                new DeviceId("d1"),new SensorID("s1"),  Timestamp.valueOf(startTimeString), Timestamp.valueOf(endTimeString)))
+                eq(new DeviceId("d1")), anyCollection(), eq(Timestamp.valueOf(startTimeString)), eq(Timestamp.valueOf(endTimeString))))
                 .thenReturn(sensorReadingsDevice1);
 
         when(repositorySensorReading.getSensorReadingsBetweenTimestamp(
-                new DeviceId("d2"),new SensorID("s2"),  Timestamp.valueOf(startTimeString), Timestamp.valueOf(endTimeString)))
+                eq(new DeviceId("d2")), anyCollection(), eq(Timestamp.valueOf(startTimeString)), eq(Timestamp.valueOf(endTimeString))))
                 .thenReturn(sensorReadingsDevice2);
 
         when(repositoryDevice.containsOfIdentity(new DeviceId("d1"))).thenReturn(true);
@@ -436,4 +450,168 @@ class SensorReadingWebControllerTest {
         JSONAssert.assertEquals(expectedContent, resultContent, false);
     }
 
+    /**
+     * Tests the endpoint for adding a batch of sensor readings when every reading is valid.
+     * @throws Exception if any exception occurs during the test execution.
+     */
+    @Test
+    void addSensorReadingsBatch_shouldReturnCreated() throws Exception {
+        // Arrange
+        List<SensorReadingEntryWebDTO> batch = List.of(
+                new SensorReadingEntryWebDTO("10", "d1", "s1", "2021-01-01 12:00:00"),
+                new SensorReadingEntryWebDTO("15", "d1", "s1", "2021-01-01 12:01:00"));
+
+        when(repositoryDevice.ofIdentities(any())).thenReturn(List.of(deviceOfIdentity("d1")));
+        when(repositorySensor.ofIdentities(any())).thenReturn(List.of(sensorOfIdentity("s1")));
+        when(repositorySensorReading.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        MvcResult result = mockMvc
+                .perform(MockMvcRequestBuilders.post("/api/v1/sensor-readings/batch")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(batch))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        // Assert
+        String resultContent = result.getResponse().getContentAsString();
+        String expectedContent = """
+                [{"index":0,"saved":true},{"index":1,"saved":true}]
+                """;
+        JSONAssert.assertEquals(expectedContent, resultContent, false);
+    }
+
+    /**
+     * Tests the endpoint for adding a batch of sensor readings when some readings are invalid.
+     * The valid readings are saved and the invalid ones are reported with the reason they were rejected.
+     * @throws Exception if any exception occurs during the test execution.
+     */
+    @Test
+    void addSensorReadingsBatchWithUnknownDevice_shouldReturnMultiStatus() throws Exception {
+        // Arrange
+        List<SensorReadingEntryWebDTO> batch = List.of(
+                new SensorReadingEntryWebDTO("10", "d1", "s1", "2021-01-01 12:00:00"),
+                new SensorReadingEntryWebDTO("15", "d2", "s1", "2021-01-01 12:01:00"),
+                new SensorReadingEntryWebDTO("20", "d1", "s1", "not a timestamp"));
+
+        when(repositoryDevice.ofIdentities(any())).thenReturn(List.of(deviceOfIdentity("d1")));
+        when(repositorySensor.ofIdentities(any())).thenReturn(List.of(sensorOfIdentity("s1")));
+        when(repositorySensorReading.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        MvcResult result = mockMvc
+                .perform(MockMvcRequestBuilders.post("/api/v1/sensor-readings/batch")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(batch))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isMultiStatus())
+                .andReturn();
+
+        // Assert
+        String resultContent = result.getResponse().getContentAsString();
+        String expectedContent = """
+                [{"index":0,"saved":true},
+                {"index":1,"saved":false,"error":"Device not found"},
+                {"index":2,"saved":false}]
+                """;
+        JSONAssert.assertEquals(expectedContent, resultContent, false);
+    }
+
+    /**
+     * Tests the endpoint for obtaining the latest reading of each sensor of a device.
+     * The readings added through the service update the latest sensor reading cache, so only the most recent one of
+     * the sensor is returned.
+     * @throws Exception if any exception occurs during the test execution.
+     */
+    @Test
+    void getLatestSensorReadingsFromDevice_shouldReturnLatestReadingOfEachSensor() throws Exception {
+        // Arrange
+        when(repositoryDevice.containsOfIdentity(new DeviceId("d9"))).thenReturn(true);
+        when(repositorySensor.containsOfIdentity(new SensorID("s9"))).thenReturn(true);
+        when(repositorySensorReading.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        List<SensorReadingEntryWebDTO> batch = List.of(
+                new SensorReadingEntryWebDTO("15", "d9", "s9", "2021-01-01 12:00:00"),
+                new SensorReadingEntryWebDTO("25", "d9", "s9", "2021-01-01 12:05:00"),
+                new SensorReadingEntryWebDTO("20", "d9", "s9", "2021-01-01 12:01:00"));
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/sensor-readings/batch")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isCreated());
+
+        // Act
+        MvcResult result = mockMvc
+                .perform(MockMvcRequestBuilders.get("/api/v1/sensor-readings/latest")
+                        .param("deviceID", "d9")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // Assert
+        String resultContent = result.getResponse().getContentAsString();
+        String expectedContent = """
+                [{"reading":"25","deviceID":"d9","sensorID":"s9","timeStamp":"2021-01-01 12:05:00.0"}]
+                """;
+        JSONAssert.assertEquals(expectedContent, resultContent, false);
+    }
+
+    /**
+     * Tests the endpoint for summarizing the readings of a sensor per interval.
+     * The readings added through the service are rolled up as they are saved, so the summaries are computed from
+     * the rollups without querying the sensor readings.
+     * @throws Exception if any exception occurs during the test execution.
+     */
+    @Test
+    void getSensorReadingRollups_shouldReturnSummaryOfEachInterval() throws Exception {
+        // Arrange
+        when(repositoryDevice.containsOfIdentity(new DeviceId("d8"))).thenReturn(true);
+        when(repositorySensor.containsOfIdentity(new SensorID("s8"))).thenReturn(true);
+        when(repositorySensorReading.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        List<SensorReadingEntryWebDTO> batch = List.of(
+                new SensorReadingEntryWebDTO("10", "d8", "s8", "2021-01-01 10:10:00"),
+                new SensorReadingEntryWebDTO("30", "d8", "s8", "2021-01-01 11:20:00"),
+                new SensorReadingEntryWebDTO("20", "d8", "s8", "2021-01-01 10:40:00"));
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/sensor-readings/batch")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isCreated());
+
+        // Act
+        MvcResult result = mockMvc
+                .perform(MockMvcRequestBuilders.get("/api/v1/sensor-readings/rollups")
+                        .param("sensorID", "s8")
+                        .param("startTimeString", "2021-01-01T10:00:00")
+                        .param("endTimeString", "2021-01-01T12:00:00")
+                        .param("intervalInMinutes", "60")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // Assert
+        String resultContent = result.getResponse().getContentAsString();
+        String expectedContent = """
+                [{"intervalStart":"2021-01-01T10:00","count":2,"average":15.0,"first":10.0,"last":20.0},
+                 {"intervalStart":"2021-01-01T11:00","count":1,"average":30.0}]
+                """;
+        JSONAssert.assertEquals(expectedContent, resultContent, false);
+    }
+
+
+    /**
+     * Creates a device with the given ID, as found by the device repository.
+     */
+    private static Device deviceOfIdentity(String id) {
+        Device device = mock(Device.class);
+        when(device.identity()).thenReturn(new DeviceId(id));
+        return device;
+    }
+
+    /**
+     * Creates a sensor with the given ID, as found by the sensor repository.
+     */
+    private static Sensor sensorOfIdentity(String id) {
+        Sensor sensor = mock(Sensor.class);
+        when(sensor.identity()).thenReturn(new SensorID(id));
+        return sensor;
+    }
 }
@@ -28,6 +28,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -38,6 +39,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * - Verification of the updated list of sensor types after the addition of a new sensor type
  * - Successful retrieval of a sensor type using its unique ID
  * - Handling of a scenario where retrieval of a sensor type is attempted with a non-existent ID
+ * - Answering 304 Not Modified, without reading the repository, to a client that holds the current ETag
+ * - Answering with the list again once a new sensor type changes the ETag
  */
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -496,5 +499,68 @@ class SensorTypeWebControllerTest {
         String resultContent = result.getResponse().getContentAsString();
         assertEquals("Sensor Type not found", resultContent);
     }
-}
 
+    /**
+     * This method tests that a client that holds the current ETag of the sensor types is answered with 304 Not
+     * Modified, without reading the repository again.
+     * @throws Exception If an error occurs.
+     */
+    @Test
+    void getSensorTypesWithCurrentETag_shouldReturnNotModified() throws Exception {
+        // Arrange
+        SensorType sensorType = factorySensorType.createSensorType(new SensorTypeID("T1"), new Description("Temperature"), new Unit("Celsius"));
+        when(repositorySensorType.findAll()).thenReturn(List.of(sensorType));
+        String eTag = mockMvc
+                .perform(MockMvcRequestBuilders.get("/api/v1/sensor-types")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Act
+        MvcResult result = mockMvc
+                .perform(MockMvcRequestBuilders.get("/api/v1/sensor-types")
+                        .header("If-None-Match", eTag)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified())
+                .andReturn();
+
+        // Assert
+        assertEquals("", result.getResponse().getContentAsString());
+        verify(repositorySensorType, times(1)).findAll();
+    }
+
+    /**
+     * This method tests that once a new sensor type is created, a client that holds the previous ETag of the sensor
+     * types is answered with the list again.
+     * @throws Exception If an error occurs.
+     */
+    @Test
+    void getSensorTypesWithPreviousETag_shouldReturnListAfterCreation() throws Exception {
+        // Arrange
+        SensorTypeEntryWebDTO sensorTypeWebDTO = new SensorTypeEntryWebDTO("T1", "Temperature", "Celsius");
+        SensorType sensorType = setupSensorType(sensorTypeWebDTO);
+        when(repositorySensorType.save(any(SensorType.class))).thenReturn(sensorType);
+        when(repositorySensorType.findAll()).thenReturn(List.of(sensorType));
+        String eTag = mockMvc
+                .perform(MockMvcRequestBuilders.get("/api/v1/sensor-types")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/sensor-types")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(sensorTypeWebDTO)))
+                .andExpect(status().isCreated());
+
+        // Act
+        MvcResult result = mockMvc
+                .perform(MockMvcRequestBuilders.get("/api/v1/sensor-types")
+                        .header("If-None-Match", eTag)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // Assert
+        String resultContent = result.getResponse().getContentAsString();
+        JSONAssert.assertEquals("[{\"sensorTypeID\":\"T1\"}]", resultContent, false);
+    }
+}
@@ -7,16 +7,20 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
-
+import reactor.core.publisher.Mono;
 import smartHomeDDD.services.ServiceWeather;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.mockito.Mockito.when;
 
 /**
  * Test class for WeatherServiceControllerWeb
- * It uses MockMvc to simulate the HTTP requests
+ * It uses MockMvc to simulate the HTTP requests, which are handled asynchronously
  * It tests the following scenarios:
  * - retrieve the current temperature for a given latitude and longitude
  * - retrieve the sunrise time for a given latitude and longitude
@@ -45,13 +49,18 @@ public class WeatherServiceControllerWebTest {
      */
     @Test
     public void testGetCurrentTemperature() throws Exception {
-        when(serviceWeather.getCurrentTemperature("40.7128", "74.0060")).thenReturn(20.0);
+        when(serviceWeather.getCurrentTemperature("40.7128", "74.0060")).thenReturn(Mono.just(20.0));
 
-        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/weather/currentTemperature")
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/weather/currentTemperature")
                         .param("latitude", "40.7128")
                         .param("longitude", "74.0060")
                         .accept(MediaType.APPLICATION_JSON))
-                .andExpect(status().isOk());
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string("20.0"));
     }
 
     /**
@@ -59,12 +68,16 @@ public class WeatherServiceControllerWebTest {
      */
     @Test
     public void testGetSunrise() throws Exception {
-        when(serviceWeather.getSunrise("40.7128", "74.0060")).thenReturn("06:00");
+        when(serviceWeather.getSunrise("40.7128", "74.0060")).thenReturn(Mono.just("06:00"));
 
-        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/weather/sunrise")
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/weather/sunrise")
                         .param("latitude", "40.7128")
                         .param("longitude", "74.0060")
                         .accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk());
     }
 
@@ -73,12 +86,16 @@ public class WeatherServiceControllerWebTest {
      */
     @Test
     public void testGetSunset() throws Exception {
-        when(serviceWeather.getSunset("40.7128", "74.0060")).thenReturn("20:00");
+        when(serviceWeather.getSunset("40.7128", "74.0060")).thenReturn(Mono.just("20:00"));
 
-        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/weather/sunset")
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/weather/sunset")
                         .param("latitude", "40.7128")
                         .param("longitude", "74.0060")
                         .accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk());
     }
 }
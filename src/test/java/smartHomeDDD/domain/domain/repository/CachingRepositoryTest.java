@@ -0,0 +1,242 @@
+package smartHomeDDD.domain.domain.repository;
+
+import org.junit.jupiter.api.Test;
+import smartHomeDDD.domain.repository.IRepositorySensorType;
+import smartHomeDDD.domain.sensorType.SensorType;
+import smartHomeDDD.domain.valueobject.SensorTypeID;
+import smartHomeDDD.persistence.cache.CachingRepository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CachingRepositoryTest tests the caching decorator of the repositories. It has the following test cases:
+ * - Verifies that an aggregate read twice is read from the repository once, and counted as a miss and a hit.
+ * - Verifies that an aggregate is read from the repository again once its entry expires.
+ * - Verifies that a miss is cached, and that saving the aggregate replaces the cached miss.
+ * - Verifies that the least recently used aggregate is evicted when the cache is full.
+ * - Verifies that a non positive maximum size is rejected.
+ * - Verifies that a batch of identities reads only the aggregates that are not cached, all together.
+ * - Verifies that an aggregate saved while it is read from the repository is not replaced by the older one read.
+ * - Verifies the hits, misses and evictions counted over a known sequence of reads and writes.
+ */
+class CachingRepositoryTest {
+
+    /**
+     * Creates a mock sensor type with the given identity.
+     */
+    private static SensorType sensorType(SensorTypeID id) {
+        SensorType sensorType = mock(SensorType.class);
+        when(sensorType.identity()).thenReturn(id);
+        return sensorType;
+    }
+
+    /**
+     * Test that an aggregate read twice is read from the repository once.
+     */
+    @Test
+    void aggregateReadTwice_ShouldBeReadFromRepositoryOnce() {
+        // Arrange
+        SensorTypeID id = mock(SensorTypeID.class);
+        SensorType sensorType = sensorType(id);
+        IRepositorySensorType repository = mock(IRepositorySensorType.class);
+        when(repository.ofIdentity(id)).thenReturn(Optional.of(sensorType));
+        CachingRepository<SensorTypeID, SensorType> cache = new CachingRepository<>(repository, 10, Duration.ofMinutes(1), Duration.ZERO);
+
+        // Act
+        Optional<SensorType> first = cache.ofIdentity(id);
+        Optional<SensorType> second = cache.ofIdentity(id);
+
+        // Assert
+        assertSame(sensorType, first.orElseThrow());
+        assertSame(sensorType, second.orElseThrow());
+        verify(repository, times(1)).ofIdentity(id);
+        assertEquals(new CachingRepository.CacheStats(1, 1, 0, 1), cache.stats());
+    }
+
+    /**
+     * Test that an aggregate is read from the repository again once its entry expires.
+     */
+    @Test
+    void expiredAggregate_ShouldBeReadFromRepositoryAgain() {
+        // Arrange
+        AtomicLong now = new AtomicLong();
+        SensorTypeID id = mock(SensorTypeID.class);
+        SensorType sensorType = sensorType(id);
+        IRepositorySensorType repository = mock(IRepositorySensorType.class);
+        when(repository.ofIdentity(id)).thenReturn(Optional.of(sensorType));
+        CachingRepository<SensorTypeID, SensorType> cache = new CachingRepository<>(repository, 10, Duration.ofSeconds(10), Duration.ZERO, now::get);
+        cache.ofIdentity(id);
+
+        // Act
+        now.addAndGet(Duration.ofSeconds(11).toNanos());
+        cache.ofIdentity(id);
+
+        // Assert
+        verify(repository, times(2)).ofIdentity(id);
+        assertEquals(1, cache.stats().evictions());
+    }
+
+    /**
+     * Test that a miss is cached until the aggregate is saved.
+     */
+    @Test
+    void cachedMiss_ShouldBeReplacedBySave() {
+        // Arrange
+        SensorTypeID id = mock(SensorTypeID.class);
+        SensorType sensorType = sensorType(id);
+        IRepositorySensorType repository = mock(IRepositorySensorType.class);
+        when(repository.ofIdentity(id)).thenReturn(Optional.empty());
+        when(repository.save(sensorType)).thenReturn(sensorType);
+        CachingRepository<SensorTypeID, SensorType> cache = new CachingRepository<>(repository, 10, Duration.ofMinutes(1), Duration.ofMinutes(1));
+
+        // Act
+        boolean containedBeforeSave = cache.containsOfIdentity(id);
+        boolean containedAgainBeforeSave = cache.containsOfIdentity(id);
+        cache.save(sensorType);
+        Optional<SensorType> afterSave = cache.ofIdentity(id);
+
+        // Assert
+        assertFalse(containedBeforeSave);
+        assertFalse(containedAgainBeforeSave);
+        assertSame(sensorType, afterSave.orElseThrow());
+        verify(repository, times(1)).ofIdentity(id);
+    }
+
+    /**
+     * Test that the least recently used aggregate is evicted when the cache is full.
+     */
+    @Test
+    void fullCache_ShouldEvictLeastRecentlyUsedAggregate() {
+        // Arrange
+        SensorTypeID first = mock(SensorTypeID.class);
+        SensorTypeID second = mock(SensorTypeID.class);
+        SensorTypeID third = mock(SensorTypeID.class);
+        IRepositorySensorType repository = mock(IRepositorySensorType.class);
+        when(repository.ofIdentity(any())).thenAnswer(invocation -> Optional.of(mock(SensorType.class)));
+        CachingRepository<SensorTypeID, SensorType> cache = new CachingRepository<>(repository, 2, Duration.ofMinutes(1), Duration.ZERO);
+        cache.ofIdentity(first);
+        cache.ofIdentity(second);
+        cache.ofIdentity(first);
+
+        // Act
+        cache.ofIdentity(third);
+        cache.ofIdentity(first);
+        cache.ofIdentity(second);
+
+        // Assert
+        verify(repository, times(1)).ofIdentity(first);
+        verify(repository, times(2)).ofIdentity(second);
+        assertEquals(2, cache.stats().evictions());
+        assertEquals(2, cache.stats().size());
+    }
+
+    /**
+     * Test that a non positive maximum size is rejected.
+     */
+    @Test
+    void nonPositiveMaxSize_ShouldThrowException() {
+        // Arrange
+        IRepositorySensorType repository = mock(IRepositorySensorType.class);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new CachingRepository<>(repository, 0, Duration.ofMinutes(1), Duration.ZERO));
+    }
+
+    /**
+     * Test that a batch of identities reads only the aggregates that are not cached, with a single read.
+     */
+    @Test
+    void ofIdentities_ShouldReadOnlyUncachedAggregatesTogether() {
+        // Arrange
+        SensorTypeID cachedID = mock(SensorTypeID.class);
+        SensorTypeID uncachedID = mock(SensorTypeID.class);
+        SensorType cached = sensorType(cachedID);
+        SensorType uncached = sensorType(uncachedID);
+        IRepositorySensorType repository = mock(IRepositorySensorType.class);
+        when(repository.ofIdentity(cachedID)).thenReturn(Optional.of(cached));
+        when(repository.ofIdentities(Set.of(uncachedID))).thenReturn(List.of(uncached));
+        CachingRepository<SensorTypeID, SensorType> cache = new CachingRepository<>(repository, 10, Duration.ofMinutes(1), Duration.ZERO);
+        cache.ofIdentity(cachedID);
+
+        // Act
+        List<SensorType> found = cache.ofIdentities(List.of(cachedID, uncachedID));
+        List<SensorType> foundAgain = cache.ofIdentities(List.of(cachedID, uncachedID));
+
+        // Assert
+        assertEquals(Set.of(cached, uncached), Set.copyOf(found));
+        assertEquals(Set.of(cached, uncached), Set.copyOf(foundAgain));
+        verify(repository, times(1)).ofIdentities(Set.of(uncachedID));
+        verify(repository, times(1)).ofIdentity(cachedID);
+    }
+
+    /**
+     * Test that an aggregate saved while it is read from the repository is not replaced in the cache by the older
+     * one the read returns.
+     */
+    @Test
+    void aggregateSavedDuringRead_ShouldNotBeReplacedByOlderRead() {
+        // Arrange
+        SensorTypeID id = mock(SensorTypeID.class);
+        SensorType older = sensorType(id);
+        SensorType newer = sensorType(id);
+        IRepositorySensorType repository = mock(IRepositorySensorType.class);
+        CachingRepository<SensorTypeID, SensorType> cache = new CachingRepository<>(repository, 10, Duration.ofMinutes(1), Duration.ZERO);
+        when(repository.save(newer)).thenReturn(newer);
+        when(repository.ofIdentity(id)).thenAnswer(invocation -> {
+            cache.save(newer);
+            return Optional.of(older);
+        });
+
+        // Act
+        Optional<SensorType> read = cache.ofIdentity(id);
+        Optional<SensorType> readAgain = cache.ofIdentity(id);
+
+        // Assert
+        assertSame(older, read.orElseThrow());
+        assertSame(newer, readAgain.orElseThrow());
+        verify(repository, times(1)).ofIdentity(id);
+    }
+
+    /**
+     * Test the hits, misses and evictions counted over a known sequence of reads and writes: a miss and a hit, a save
+     * and a hit on it, a miss that evicts the least recently used entry when the cache is full, a batch of two hits,
+     * and a read of an expired entry that evicts it and misses.
+     */
+    @Test
+    void sequenceOfReadsAndWrites_ShouldCountHitsMissesAndEvictions() {
+        // Arrange
+        AtomicLong now = new AtomicLong();
+        SensorTypeID a = mock(SensorTypeID.class);
+        SensorTypeID b = mock(SensorTypeID.class);
+        SensorTypeID c = mock(SensorTypeID.class);
+        SensorType sensorTypeA = sensorType(a);
+        SensorType sensorTypeB = sensorType(b);
+        IRepositorySensorType repository = mock(IRepositorySensorType.class);
+        when(repository.ofIdentity(a)).thenReturn(Optional.of(sensorTypeA));
+        when(repository.ofIdentity(b)).thenReturn(Optional.of(sensorTypeB));
+        when(repository.ofIdentity(c)).thenReturn(Optional.empty());
+        when(repository.save(sensorTypeB)).thenReturn(sensorTypeB);
+        CachingRepository<SensorTypeID, SensorType> cache = new CachingRepository<>(repository, 2, Duration.ofSeconds(10), Duration.ofSeconds(10), now::get);
+
+        // Act
+        cache.ofIdentity(a);
+        cache.ofIdentity(a);
+        cache.save(sensorTypeB);
+        cache.ofIdentity(b);
+        cache.ofIdentity(c);
+        cache.ofIdentities(List.of(b, c));
+        now.addAndGet(Duration.ofSeconds(11).toNanos());
+        cache.ofIdentity(b);
+
+        // Assert
+        assertEquals(new CachingRepository.CacheStats(4, 3, 2, 2), cache.stats());
+        verify(repository, never()).ofIdentities(any());
+    }
+}
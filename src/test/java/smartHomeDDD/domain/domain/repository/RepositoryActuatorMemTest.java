@@ -86,7 +86,7 @@ class RepositoryActuatorMemTest
         Actuator actuator1 = mock(Actuator.class);
         when(actuator1.identity()).thenReturn(mock(ActuatorID.class));
         Actuator actuator2 = mock(Actuator.class);
-        when(actuator1.identity()).thenReturn(mock(ActuatorID.class));
+        when(actuator2.identity()).thenReturn(mock(ActuatorID.class));
         repository.save(actuator1);
         repository.save(actuator2);
         // Act
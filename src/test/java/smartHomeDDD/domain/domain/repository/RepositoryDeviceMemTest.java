@@ -2,6 +2,7 @@ package smartHomeDDD.domain.domain.repository;
 
 import org.springframework.dao.DataIntegrityViolationException;
 import smartHomeDDD.domain.device.Device;
+import smartHomeDDD.domain.device.ImplFactoryDevice;
 import smartHomeDDD.domain.repository.IRepositoryDevice;
 import smartHomeDDD.domain.valueobject.*;
 import smartHomeDDD.persistence.mem.RepositoryDeviceMem;
@@ -28,6 +29,8 @@ import static org.mockito.Mockito.when;
  * - Verifying if the getActiveDevices() method returns an empty list of active devices.
  * - Verifying if, after saving a PowerGridMeter device to an initially empty repository, the repository contains the saved device.
  * - Verifying that, when saving a PowerGridMeter device with the same identity as an existing device, the repository doesn't save the device.
+ * - Verifying that a batch of devices is saved, and read and checked back by their identities.
+ * - Verifying that a batch with a device that already exists saves none of its devices.
  */
 
 class RepositoryDeviceMemTest {
@@ -333,6 +336,49 @@ class RepositoryDeviceMemTest {
         // Assert
         assertTrue(actualMessage.contains(expectedMessage));
     }
-}
 
+    /**
+     * Verifies that a batch of devices is saved, and that the devices are read and checked back by their identities,
+     * leaving out the identities that are not found.
+     */
+    @Test
+    void saveAllDevices_ShouldBeFoundByIdentities() {
+
+        // Arrange
+        IRepositoryDevice repository = new RepositoryDeviceMem();
+        ImplFactoryDevice factoryDevice = new ImplFactoryDevice();
+        Device device1 = factoryDevice.createDevice(new DeviceId("d1"), new DeviceName("Lamp"), new DeviceModel("m1"), new ActivationStatus(true), new RoomID("r1"));
+        Device device2 = factoryDevice.createDevice(new DeviceId("d2"), new DeviceName("Blind"), new DeviceModel("m2"), new ActivationStatus(true), new RoomID("r1"));
 
+        // Act
+        List<Device> savedDevices = repository.saveAll(List.of(device1, device2));
+        List<Device> foundDevices = repository.ofIdentities(List.of(new DeviceId("d1"), new DeviceId("d2"), new DeviceId("d3"), new DeviceId("d1")));
+
+        // Assert
+        assertEquals(List.of(device1, device2), savedDevices);
+        assertEquals(2, foundDevices.size());
+        assertTrue(foundDevices.containsAll(List.of(device1, device2)));
+        assertTrue(repository.containsAll(List.of(new DeviceId("d1"), new DeviceId("d2"))));
+        assertFalse(repository.containsAll(List.of(new DeviceId("d1"), new DeviceId("d3"))));
+    }
+
+    /**
+     * Verifies that, when a batch contains a device that already exists, none of the devices of the batch is saved.
+     */
+    @Test
+    void saveAllWithExistingDevice_ShouldSaveNone() {
+
+        // Arrange
+        IRepositoryDevice repository = new RepositoryDeviceMem();
+        ImplFactoryDevice factoryDevice = new ImplFactoryDevice();
+        Device device1 = factoryDevice.createDevice(new DeviceId("d1"), new DeviceName("Lamp"), new DeviceModel("m1"), new ActivationStatus(true), new RoomID("r1"));
+        Device device2 = factoryDevice.createDevice(new DeviceId("d2"), new DeviceName("Blind"), new DeviceModel("m2"), new ActivationStatus(true), new RoomID("r1"));
+        repository.save(device1);
+
+        // Act
+        assertThrows(DataIntegrityViolationException.class, () -> repository.saveAll(List.of(device2, device1)));
+
+        // Assert
+        assertFalse(repository.containsOfIdentity(new DeviceId("d2")));
+    }
+}
@@ -132,6 +132,7 @@ class RepositoryHouseMemTest {
         // Arrange
         RepositoryHouseMem repository = new RepositoryHouseMem();
         House house = mock(House.class);
+        when(house.identity()).thenReturn(mock(HouseId.class));
         repository.save(house);
         // Act
         Iterable<House> allHouses = repository.findAll();
@@ -0,0 +1,311 @@
+package smartHomeDDD.domain.domain.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import smartHomeDDD.domain.device.Device;
+import smartHomeDDD.domain.repository.IRepositoryDevice;
+import smartHomeDDD.domain.repository.IRepositoryRoom;
+import smartHomeDDD.domain.repository.IRepositorySensor;
+import smartHomeDDD.domain.repository.IRepositorySensorReading;
+import smartHomeDDD.domain.room.Room;
+import smartHomeDDD.domain.sensor.Sensor;
+import smartHomeDDD.domain.sensorReading.SensorReading;
+import smartHomeDDD.domain.valueobject.*;
+import smartHomeDDD.persistence.mem.RepositoryDeviceMem;
+import smartHomeDDD.persistence.mem.RepositoryRoomMem;
+import smartHomeDDD.persistence.mem.RepositorySensorMem;
+import smartHomeDDD.persistence.mem.RepositorySensorReadingColumnarMem;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * RepositoryMemConcurrencyTest stresses the in-memory repositories with many threads. It has the following test cases:
+ * - Verifies that devices saved concurrently are all stored and indexed by room and by activation status.
+ * - Verifies that, when many threads save the same device, it is stored once and the other saves are rejected.
+ * - Verifies that devices deactivated concurrently leave the active devices, and readers never see a device twice.
+ * - Verifies that sensors saved concurrently are all stored and indexed by device.
+ * - Verifies that rooms saved concurrently are all stored and indexed by house.
+ * - Verifies that sensor readings saved concurrently to the columnar repository are all stored, while readers
+ *   always see the readings of a device ordered by timestamp.
+ */
+class RepositoryMemConcurrencyTest {
+
+    /**
+     * The number of threads of each test.
+     */
+    private static final int THREADS = 8;
+
+    /**
+     * The number of aggregates each thread saves.
+     */
+    private static final int PER_THREAD = 250;
+
+    /**
+     * Runs the tasks at the same time and waits for all of them, failing if any of them failed.
+     */
+    private void runConcurrently(List<Callable<Void>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        try {
+            List<Future<Void>> futures = executor.invokeAll(tasks);
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        }
+    }
+
+    /**
+     * Verifies that devices saved concurrently are all stored and indexed by room and by activation status.
+     */
+    @Test
+    void concurrentSavesOfDevices_ShouldIndexEveryDevice() throws Exception {
+        // Arrange
+        IRepositoryDevice repository = new RepositoryDeviceMem();
+        List<RoomID> rooms = new ArrayList<>();
+        for (int r = 0; r < 10; r++) {
+            rooms.add(new RoomID("room" + r));
+        }
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            tasks.add(() -> {
+                for (int i = 0; i < PER_THREAD; i++) {
+                    int n = thread * PER_THREAD + i;
+                    repository.save(new Device(new DeviceId("device" + n), new DeviceName("Device"), new DeviceModel("Model"),
+                            new ActivationStatus(n % 2 == 0), rooms.get(n % rooms.size())));
+                }
+                return null;
+            });
+        }
+
+        // Act
+        runConcurrently(tasks);
+
+        // Assert
+        int total = THREADS * PER_THREAD;
+        int inRooms = 0;
+        for (RoomID room : rooms) {
+            List<Device> devicesInRoom = repository.getDevicesInRoom(room);
+            assertEquals(total / rooms.size(), devicesInRoom.size());
+            inRooms += devicesInRoom.size();
+        }
+        assertEquals(total, inRooms);
+        assertEquals(total / 2, repository.getActiveDevices().size());
+        for (int n = 0; n < total; n++) {
+            assertTrue(repository.containsOfIdentity(new DeviceId("device" + n)));
+        }
+    }
+
+    /**
+     * Verifies that, when many threads save the same device, it is stored once and the other saves are rejected.
+     */
+    @Test
+    void concurrentSavesOfTheSameDevice_ShouldStoreItOnce() throws Exception {
+        // Arrange
+        IRepositoryDevice repository = new RepositoryDeviceMem();
+        RoomID roomID = new RoomID("room");
+        AtomicInteger saved = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            tasks.add(() -> {
+                Device device = new Device(new DeviceId("device"), new DeviceName("Device"), new DeviceModel("Model"),
+                        new ActivationStatus(true), roomID);
+                try {
+                    repository.save(device);
+                    saved.incrementAndGet();
+                } catch (DataIntegrityViolationException exception) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            });
+        }
+
+        // Act
+        runConcurrently(tasks);
+
+        // Assert
+        assertEquals(1, saved.get());
+        assertEquals(THREADS - 1, rejected.get());
+        assertEquals(1, repository.getDevicesInRoom(roomID).size());
+        assertEquals(1, repository.getActiveDevices().size());
+    }
+
+    /**
+     * Verifies that devices deactivated concurrently leave the active devices, and readers never see a device twice.
+     */
+    @Test
+    void concurrentDeactivations_ShouldLeaveNoActiveDevices() throws Exception {
+        // Arrange
+        IRepositoryDevice repository = new RepositoryDeviceMem();
+        RoomID roomID = new RoomID("room");
+        int total = THREADS * PER_THREAD;
+        for (int n = 0; n < total; n++) {
+            repository.save(new Device(new DeviceId("device" + n), new DeviceName("Device"), new DeviceModel("Model"),
+                    new ActivationStatus(true), roomID));
+        }
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            tasks.add(() -> {
+                for (int i = 0; i < PER_THREAD; i++) {
+                    Device device = repository.ofIdentity(new DeviceId("device" + (thread * PER_THREAD + i))).orElseThrow();
+                    device.deactivateDevice();
+                    repository.update(device);
+                }
+                return null;
+            });
+            tasks.add(() -> {
+                for (int i = 0; i < 20; i++) {
+                    List<Device> activeDevices = repository.getActiveDevices();
+                    assertEquals(activeDevices.size(), new HashSet<>(activeDevices).size());
+                }
+                return null;
+            });
+        }
+
+        // Act
+        runConcurrently(tasks);
+
+        // Assert
+        assertTrue(repository.getActiveDevices().isEmpty());
+        assertEquals(total, repository.getDevicesInRoom(roomID).size());
+    }
+
+    /**
+     * Verifies that sensors saved concurrently are all stored and indexed by device.
+     */
+    @Test
+    void concurrentSavesOfSensors_ShouldIndexEverySensorByDevice() throws Exception {
+        // Arrange
+        IRepositorySensor repository = new RepositorySensorMem();
+        List<DeviceId> devices = new ArrayList<>();
+        for (int d = 0; d < 20; d++) {
+            devices.add(new DeviceId("device" + d));
+        }
+        List<List<Sensor>> sensorsByThread = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            List<Sensor> sensors = new ArrayList<>();
+            for (int i = 0; i < PER_THREAD; i++) {
+                int n = t * PER_THREAD + i;
+                Sensor sensor = mock(Sensor.class);
+                when(sensor.identity()).thenReturn(new SensorID("sensor" + n));
+                when(sensor.getDeviceID()).thenReturn(devices.get(n % devices.size()));
+                sensors.add(sensor);
+            }
+            sensorsByThread.add(sensors);
+        }
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (List<Sensor> sensors : sensorsByThread) {
+            tasks.add(() -> {
+                sensors.forEach(repository::save);
+                return null;
+            });
+        }
+
+        // Act
+        runConcurrently(tasks);
+
+        // Assert
+        int total = THREADS * PER_THREAD;
+        for (DeviceId device : devices) {
+            assertEquals(total / devices.size(), repository.getSensorsByDeviceID(device).size());
+        }
+        assertEquals(new SensorID("sensor0"), repository.containsOfIdentitySI(new SensorID("sensor0")));
+    }
+
+    /**
+     * Verifies that rooms saved concurrently are all stored and indexed by house.
+     */
+    @Test
+    void concurrentSavesOfRooms_ShouldIndexEveryRoomByHouse() throws Exception {
+        // Arrange
+        IRepositoryRoom repository = new RepositoryRoomMem();
+        HouseId houseA = new HouseId("houseA");
+        HouseId houseB = new HouseId("houseB");
+        List<List<Room>> roomsByThread = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            List<Room> rooms = new ArrayList<>();
+            for (int i = 0; i < PER_THREAD; i++) {
+                int n = t * PER_THREAD + i;
+                Room room = mock(Room.class);
+                when(room.identity()).thenReturn(new RoomID("room" + n));
+                when(room.getHouseId()).thenReturn(n % 4 == 0 ? houseA : houseB);
+                rooms.add(room);
+            }
+            roomsByThread.add(rooms);
+        }
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (List<Room> rooms : roomsByThread) {
+            tasks.add(() -> {
+                rooms.forEach(repository::save);
+                return null;
+            });
+        }
+
+        // Act
+        runConcurrently(tasks);
+
+        // Assert
+        int total = THREADS * PER_THREAD;
+        assertEquals(total / 4, repository.getRoomsByHouseID(houseA).size());
+        assertEquals(total - total / 4, repository.getRoomsByHouseID(houseB).size());
+    }
+
+    /**
+     * Verifies that sensor readings saved concurrently to the columnar repository are all stored, while readers
+     * always see the readings of a device ordered by timestamp.
+     */
+    @Test
+    void concurrentSavesOfSensorReadings_ShouldKeepEveryReadingOrdered() throws Exception {
+        // Arrange
+        IRepositorySensorReading repository = new RepositorySensorReadingColumnarMem();
+        DeviceId deviceId = new DeviceId("device");
+        SensorID sensorId = new SensorID("sensor");
+        long base = Timestamp.valueOf("2024-01-01 00:00:00").getTime();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            tasks.add(() -> {
+                for (int i = 0; i < PER_THREAD; i++) {
+                    int n = i * THREADS + thread;
+                    repository.save(new SensorReading(new SensorReadingID("reading" + n), new Reading(String.valueOf(n)),
+                            deviceId, sensorId, new Timestamp(base + n * 1000L)));
+                }
+                return null;
+            });
+            tasks.add(() -> {
+                for (int i = 0; i < 20; i++) {
+                    List<SensorReading> readings = repository.getSensorReadingsByDeviceId(deviceId);
+                    for (int r = 1; r < readings.size(); r++) {
+                        assertFalse(readings.get(r).getTimeStamp().before(readings.get(r - 1).getTimeStamp()));
+                    }
+                }
+                return null;
+            });
+        }
+
+        // Act
+        runConcurrently(tasks);
+
+        // Assert
+        int total = THREADS * PER_THREAD;
+        assertEquals(total, repository.getSensorReadingsByDeviceId(deviceId).size());
+        assertEquals(new SensorReadingID("reading" + (total - 1)), repository.getLatestReadingFromSensor(sensorId).orElseThrow().identity());
+    }
+}
@@ -0,0 +1,77 @@
+package smartHomeDDD.domain.domain.repository;
+
+import org.junit.jupiter.api.Test;
+import smartHomeDDD.domain.repository.IRepositoryReadingRollup;
+import smartHomeDDD.domain.sensorReading.ReadingRollup;
+import smartHomeDDD.domain.sensorReading.RollupResolution;
+import smartHomeDDD.domain.valueobject.SensorID;
+import smartHomeDDD.persistence.mem.RepositoryReadingRollupMem;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RepositoryReadingRollupMemTest is a test class for the RepositoryReadingRollupMem class.
+ * It has the following test cases:
+ * - Verifies that merging rollups of the same bucket keeps a single rollup with the readings of both.
+ * - Verifies that the rollups within a period include its start, exclude its end and are ordered by bucket start.
+ * - Verifies that merging a null rollup throws an IllegalArgumentException.
+ */
+class RepositoryReadingRollupMemTest {
+
+    /**
+     * Verifies that merging rollups of the same bucket keeps a single rollup with the readings of both.
+     */
+    @Test
+    void mergeRollupsOfSameBucket_ShouldKeepSingleRollup() {
+        //Arrange
+        IRepositoryReadingRollup repository = new RepositoryReadingRollupMem();
+        SensorID sensorID = new SensorID("s1");
+        repository.merge(ReadingRollup.of(sensorID, RollupResolution.HOUR, 10, 1_000L));
+
+        //Act
+        ReadingRollup result = repository.merge(ReadingRollup.of(sensorID, RollupResolution.HOUR, 30, 2_000L));
+        List<ReadingRollup> rollups = repository.findWithinPeriod(sensorID, RollupResolution.HOUR, new Timestamp(0), new Timestamp(3_600_000L));
+
+        //Assert
+        assertEquals(2, result.getCount());
+        assertEquals(1, rollups.size());
+        assertEquals(20, rollups.get(0).getAverage());
+    }
+
+    /**
+     * Verifies that the rollups within a period include its start, exclude its end and are ordered by bucket start.
+     */
+    @Test
+    void findWithinPeriod_ShouldIncludeStartAndExcludeEnd() {
+        //Arrange
+        IRepositoryReadingRollup repository = new RepositoryReadingRollupMem();
+        SensorID sensorID = new SensorID("s1");
+        repository.merge(ReadingRollup.of(sensorID, RollupResolution.MINUTE, 3, 180_000L));
+        repository.merge(ReadingRollup.of(sensorID, RollupResolution.MINUTE, 1, 60_000L));
+        repository.merge(ReadingRollup.of(sensorID, RollupResolution.MINUTE, 2, 120_000L));
+        repository.merge(ReadingRollup.of(new SensorID("s2"), RollupResolution.MINUTE, 9, 60_000L));
+
+        //Act
+        List<ReadingRollup> rollups = repository.findWithinPeriod(sensorID, RollupResolution.MINUTE, new Timestamp(60_000L), new Timestamp(180_000L));
+
+        //Assert
+        assertEquals(2, rollups.size());
+        assertEquals(1, rollups.get(0).getSum());
+        assertEquals(2, rollups.get(1).getSum());
+    }
+
+    /**
+     * Verifies that merging a null rollup throws an IllegalArgumentException.
+     */
+    @Test
+    void mergeNullRollup_ShouldThrowException() {
+        //Arrange
+        IRepositoryReadingRollup repository = new RepositoryReadingRollupMem();
+
+        //Act + Assert
+        assertThrows(IllegalArgumentException.class, () -> repository.merge(null));
+    }
+}
@@ -0,0 +1,282 @@
+package smartHomeDDD.domain.domain.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import smartHomeDDD.domain.repository.IRepositorySensorReading;
+import smartHomeDDD.domain.sensorReading.SensorReading;
+import smartHomeDDD.domain.sensorReading.SensorReadingCursor;
+import smartHomeDDD.domain.valueobject.DeviceId;
+import smartHomeDDD.domain.valueobject.Reading;
+import smartHomeDDD.domain.valueobject.SensorID;
+import smartHomeDDD.domain.valueobject.SensorReadingID;
+import smartHomeDDD.persistence.mem.RepositorySensorReadingColumnarMem;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * RepositorySensorReadingColumnarMemTest is a test class for the RepositorySensorReadingColumnarMem class.
+ * It has the following test cases:
+ * - Verifies if the initially empty repository contains a SensorReading after saving it in the repository.
+ * - Verifies that an empty repository doesn't contain any SensorReadings.
+ * - Verifies that the save method throws an IllegalArgumentException when trying to save a null SensorReading.
+ * - Ensures that, when the repository is empty, the findAll() method returns an empty iterable.
+ * - Verifies that saving a SensorReading with the same identity as a SensorReading already in the repository throws an exception.
+ * - Verifies that the readings of a device within a period are returned ordered by timestamp, both ends included.
+ * - Verifies that an invalid period throws an IllegalArgumentException.
+ * - Verifies that only the readings of the requested sensor and period are returned.
+ * - Verifies that the latest reading of a sensor is returned even when readings are saved out of order.
+ * - Verifies that an empty Optional is returned for a sensor without readings.
+ * - Verifies that the average reading of a device within a period ignores readings outside the period.
+ * - Verifies that the pages of the readings of a device follow each other by timestamp and ID, across sensors and equal timestamps.
+ */
+class RepositorySensorReadingColumnarMemTest {
+
+    /**
+     * Creates a SensorReading with the given values.
+     */
+    private SensorReading reading(String id, String value, DeviceId deviceId, SensorID sensorId, String timeStamp) {
+        return new SensorReading(new SensorReadingID(id), new Reading(value), deviceId, sensorId, Timestamp.valueOf(timeStamp));
+    }
+
+    /**
+     * Verifies if the initially empty repository contains a SensorReading after saving it in the repository.
+     */
+    @Test
+    void saveSensorReadingToEmptyRepository_ShouldContainSensorReading() {
+        //Arrange
+        IRepositorySensorReading repository = new RepositorySensorReadingColumnarMem();
+        SensorReadingID sensorReadingId = mock(SensorReadingID.class);
+        SensorReading sensorReading = mock(SensorReading.class);
+        when(sensorReading.identity()).thenReturn(sensorReadingId);
+
+        //Act
+        repository.save(sensorReading);
+        Optional<SensorReading> retrievedSensorReadingOptional = repository.ofIdentity(sensorReadingId);
+
+        //Assert
+        assertTrue(repository.containsOfIdentity(sensorReadingId));
+        assertTrue(retrievedSensorReadingOptional.isPresent());
+    }
+
+    /**
+     * Verifies that an empty repository doesn't contain any SensorReadings.
+     */
+    @Test
+    void emptyRepository_ShouldNotContainSensorReading() {
+        //Arrange
+        IRepositorySensorReading repository = new RepositorySensorReadingColumnarMem();
+        SensorReadingID sensorReadingId = mock(SensorReadingID.class);
+
+        //Act
+        Optional<SensorReading> retrievedSensorReadingOptional = repository.ofIdentity(sensorReadingId);
+
+        //Assert
+        assertTrue(retrievedSensorReadingOptional.isEmpty());
+    }
+
+    /**
+     * Verifies that the save method throws an IllegalArgumentException when trying to save a null SensorReading.
+     */
+    @Test
+    void saveNullSensorReading_ShouldThrowIllegalArgumentException() {
+        //Arrange
+        IRepositorySensorReading repository = new RepositorySensorReadingColumnarMem();
+        String expectedMessage = "SensorReading cannot be null";
+
+        //Act
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> repository.save(null));
+
+        //Assert
+        assertEquals(expectedMessage, exception.getMessage());
+    }
+
+    /**
+     * Ensures that, when the repository is empty, the findAll() method returns an empty iterable.
+     */
+    @Test
+    void findAll_EmptyRepository_ShouldReturnEmptyIterable() {
+        // Arrange
+        IRepositorySensorReading repository = new RepositorySensorReadingColumnarMem();
+
+        // Act
+        Iterable<SensorReading> allSensorReadings = repository.findAll();
+
+        // Assert
+        assertFalse(allSensorReadings.iterator().hasNext());
+    }
+
+    /**
+     * Verifies that saving a SensorReading with the same identity as a SensorReading already in the repository throws an exception.
+     */
+    @Test
+    void saveDuplicateSensorReading_ShouldThrowException() {
+        // Arrange
+        IRepositorySensorReading repository = new RepositorySensorReadingColumnarMem();
+        DeviceId deviceId = new DeviceId("d1");
+        SensorID sensorId = new SensorID("s1");
+        repository.save(reading("r1", "10", deviceId, sensorId, "2024-01-01 10:00:00"));
+        SensorReading duplicate = reading("r1", "20", deviceId, sensorId, "2024-01-01 11:00:00");
+        String expectedMessage = "SensorReading already exists";
+
+        // Act
+        Exception exception = assertThrows(DataIntegrityViolationException.class, () -> repository.save(duplicate));
+
+        // Assert
+        assertEquals(expectedMessage, exception.getMessage());
+    }
+
+    /**
+     * Verifies that the readings of a device within a period are returned ordered by timestamp, both ends included.
+     */
+    @Test
+    void getMeasurementsFromDevice_shouldReturnReadingsWithinPeriodOrderedByTimestamp() {
+        // Arrange
+        IRepositorySensorReading repository = new RepositorySensorReadingColumnarMem();
+        DeviceId deviceId = new DeviceId("d1");
+        SensorID sensorId1 = new SensorID("s1");
+        SensorID sensorId2 = new SensorID("s2");
+        SensorReading atStart = reading("r1", "10", deviceId, sensorId1, "2024-01-01 10:00:00");
+        SensorReading middle = reading("r2", "20", deviceId, sensorId2, "2024-01-01 11:00:00");
+        SensorReading atEnd = reading("r3", "30", deviceId, sensorId1, "2024-01-01 12:00:00");
+        SensorReading after = reading("r4", "40", deviceId, sensorId2, "2024-01-01 13:00:00");
+        SensorReading otherDevice = reading("r5", "50", new DeviceId("d2"), new SensorID("s3"), "2024-01-01 11:00:00");
+        repository.save(after);
+        repository.save(atEnd);
+        repository.save(middle);
+        repository.save(atStart);
+        repository.save(otherDevice);
+
+        // Act
+        List<SensorReading> readings = repository.getMeasurementsFromDeviceWithinPeriod(deviceId,
+                Timestamp.valueOf("2024-01-01 10:00:00"), Timestamp.valueOf("2024-01-01 12:00:00"));
+
+        // Assert
+        assertEquals(List.of(atStart, middle, atEnd), readings);
+    }
+
+    /**
+     * Verifies that an invalid period throws an IllegalArgumentException.
+     */
+    @Test
+    void getMeasurementsFromDevice_invalidPeriod_shouldThrowException() {
+        // Arrange
+        IRepositorySensorReading repository = new RepositorySensorReadingColumnarMem();
+        Timestamp start = Timestamp.valueOf("2024-01-02 00:00:00");
+        Timestamp end = Timestamp.valueOf("2024-01-01 00:00:00");
+
+        // Act + Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> repository.getMeasurementsFromDeviceWithinPeriod(new DeviceId("d1"), start, end));
+    }
+
+    /**
+     * Verifies that only the readings of the requested sensor and period are returned.
+     */
+    @Test
+    void getSensorReadingsBetweenTimestamp_shouldReturnOnlyReadingsOfSensor() {
+        // Arrange
+        IRepositorySensorReading repository = new RepositorySensorReadingColumnarMem();
+        DeviceId deviceId = new DeviceId("d1");
+        SensorID sensorId1 = new SensorID("s1");
+        SensorID sensorId2 = new SensorID("s2");
+        SensorReading expected = reading("r1", "10", deviceId, sensorId1, "2024-01-01 10:00:00");
+        repository.save(expected);
+        repository.save(reading("r2", "20", deviceId, sensorId2, "2024-01-01 10:30:00"));
+        repository.save(reading("r3", "30", deviceId, sensorId1, "2024-01-01 14:00:00"));
+
+        // Act
+        List<SensorReading> readings = repository.getSensorReadingsBetweenTimestamp(deviceId, sensorId1,
+                Timestamp.valueOf("2024-01-01 09:00:00"), Timestamp.valueOf("2024-01-01 11:00:00"));
+
+        // Assert
+        assertEquals(List.of(expected), readings);
+    }
+
+    /**
+     * Verifies that the latest reading of a sensor is returned even when readings are saved out of order.
+     */
+    @Test
+    void getLatestReadingFromSensor_shouldReturnMostRecentReading() {
+        // Arrange
+        IRepositorySensorReading repository = new RepositorySensorReadingColumnarMem();
+        DeviceId deviceId = new DeviceId("d1");
+        SensorID sensorId = new SensorID("s1");
+        SensorReading latest = reading("r2", "20", deviceId, sensorId, "2024-04-02 08:00:00");
+        repository.save(reading("r1", "10", deviceId, sensorId, "2024-01-02 14:00:00"));
+        repository.save(latest);
+        repository.save(reading("r3", "30", deviceId, sensorId, "2024-02-02 21:00:00"));
+
+        // Act
+        Optional<SensorReading> latestReading = repository.getLatestReadingFromSensor(sensorId);
+
+        // Assert
+        assertTrue(latestReading.isPresent());
+        assertEquals(latest, latestReading.get());
+    }
+
+    /**
+     * Verifies that an empty Optional is returned for a sensor without readings.
+     */
+    @Test
+    void getLatestReadingFromSensorWithoutReadings_shouldReturnEmptyOptional() {
+        // Arrange
+        IRepositorySensorReading repository = new RepositorySensorReadingColumnarMem();
+
+        // Act
+        Optional<SensorReading> latestReading = repository.getLatestReadingFromSensor(new SensorID("s1"));
+
+        // Assert
+        assertTrue(latestReading.isEmpty());
+    }
+
+    /**
+     * Verifies that the average reading of a device within a period ignores readings outside the period.
+     */
+    @Test
+    void getAverageReadingWithinPeriod_shouldAverageReadingsWithinPeriod() {
+        // Arrange
+        RepositorySensorReadingColumnarMem repository = new RepositorySensorReadingColumnarMem();
+        DeviceId deviceId = new DeviceId("d1");
+        SensorID sensorId = new SensorID("s1");
+        repository.save(reading("r1", "10", deviceId, sensorId, "2024-01-01 10:00:00"));
+        repository.save(reading("r2", "20", deviceId, sensorId, "2024-01-01 10:05:00"));
+        repository.save(reading("r3", "20", deviceId, sensorId, "2024-01-01 10:10:00"));
+        repository.save(reading("r4", "90", deviceId, sensorId, "2024-01-01 11:00:00"));
+
+        // Act
+        double average = repository.getAverageReadingWithinPeriod(deviceId,
+                Timestamp.valueOf("2024-01-01 10:00:00"), Timestamp.valueOf("2024-01-01 10:30:00"));
+
+        // Assert
+        assertEquals(50.0 / 3, average, 0.0001);
+    }
+
+    /**
+     * Verifies that the pages of the readings of a device follow each other by timestamp and ID, across sensors and equal timestamps.
+     */
+    @Test
+    void getSensorReadingsPageFromDevice_shouldSeekAfterCursor() {
+        // Arrange
+        RepositorySensorReadingColumnarMem repository = new RepositorySensorReadingColumnarMem();
+        DeviceId deviceId = new DeviceId("d1");
+        repository.save(reading("r3", "30", deviceId, new SensorID("s2"), "2024-01-01 10:05:00"));
+        repository.save(reading("r1", "10", deviceId, new SensorID("s1"), "2024-01-01 10:00:00"));
+        repository.save(reading("r2", "20", deviceId, new SensorID("s1"), "2024-01-01 10:05:00"));
+        repository.save(reading("r4", "40", deviceId, new SensorID("s1"), "2024-01-01 10:10:00"));
+        repository.save(reading("r5", "50", new DeviceId("d2"), new SensorID("s3"), "2024-01-01 10:05:00"));
+
+        // Act
+        List<SensorReading> firstPage = repository.getSensorReadingsPageFromDevice(deviceId, null, null, null, 2);
+        List<SensorReading> secondPage = repository.getSensorReadingsPageFromDevice(deviceId, null, null, SensorReadingCursor.of(firstPage.get(1)), 2);
+
+        // Assert
+        assertEquals(List.of("r1", "r2"), firstPage.stream().map(reading -> reading.identity().toString()).toList());
+        assertEquals(List.of("r3", "r4"), secondPage.stream().map(reading -> reading.identity().toString()).toList());
+    }
+}
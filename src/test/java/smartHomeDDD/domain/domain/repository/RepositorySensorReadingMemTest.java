@@ -3,6 +3,7 @@ package smartHomeDDD.domain.domain.repository;
 import org.springframework.dao.DataIntegrityViolationException;
 import smartHomeDDD.domain.repository.IRepositorySensorReading;
 import smartHomeDDD.domain.sensorReading.SensorReading;
+import smartHomeDDD.domain.sensorReading.SensorReadingCursor;
 import smartHomeDDD.domain.valueobject.DeviceId;
 import smartHomeDDD.domain.valueobject.Reading;
 import smartHomeDDD.domain.valueobject.SensorID;
@@ -11,6 +12,7 @@ import smartHomeDDD.persistence.mem.RepositorySensorReadingMem;
 import org.junit.jupiter.api.Test;
 
 import java.sql.Timestamp;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -29,6 +31,12 @@ import static org.mockito.Mockito.when;
  * - Verifies that, when saving a SensorReading with the same identity as a SensorReading already in the repository, the save method returns null.
  * - Verifies that when the repository contains a SensorReading with the specified device id and between the time period, a list of Sensor Readings is returned.
  * - Verifies that when the repository contains a SensorReading with the specified device id and sensor id and between time period, a list of Sensor Readings is returned.
+ * - Verifies that saveAll saves every SensorReading of the batch.
+ * - Verifies that saveAll saves none of the SensorReadings when one of them already exists.
+ * - Verifies that the average reading within a period ignores the readings that are not numbers.
+ * - Verifies that the latest reading of a sensor without readings is empty.
+ * - Verifies that the latest reading of each sensor is the one with the most recent timestamp.
+ * - Verifies that a page of the readings of a device within a period starts right after the cursor, ordered by timestamp and ID.
  */
 class RepositorySensorReadingMemTest {
 
@@ -271,4 +279,142 @@ class RepositorySensorReadingMemTest {
         assertEquals(latestReading.get(), sensorReading2);
     }
 
+    /**
+     * Verifies that saveAll saves every SensorReading of the batch.
+     */
+    @Test
+    void saveAll_ShouldSaveEverySensorReading() {
+        // Arrange
+        IRepositorySensorReading repository = new RepositorySensorReadingMem();
+        SensorReading sensorReading = mock(SensorReading.class);
+        SensorReading sensorReading1 = mock(SensorReading.class);
+        when(sensorReading.identity()).thenReturn(new SensorReadingID("1"));
+        when(sensorReading1.identity()).thenReturn(new SensorReadingID("2"));
+
+        // Act
+        List<SensorReading> saved = repository.saveAll(List.of(sensorReading, sensorReading1));
+
+        // Assert
+        assertEquals(List.of(sensorReading, sensorReading1), saved);
+        assertTrue(repository.containsOfIdentity(new SensorReadingID("1")));
+        assertTrue(repository.containsOfIdentity(new SensorReadingID("2")));
+    }
+
+    /**
+     * Verifies that saveAll saves none of the SensorReadings when one of them already exists.
+     */
+    @Test
+    void saveAllWithExistingSensorReading_ShouldSaveNone() {
+        // Arrange
+        IRepositorySensorReading repository = new RepositorySensorReadingMem();
+        SensorReading sensorReading = mock(SensorReading.class);
+        SensorReading sensorReading1 = mock(SensorReading.class);
+        when(sensorReading.identity()).thenReturn(new SensorReadingID("1"));
+        when(sensorReading1.identity()).thenReturn(new SensorReadingID("2"));
+        repository.save(sensorReading1);
+
+        // Act
+        Exception exception = assertThrows(DataIntegrityViolationException.class,
+                () -> repository.saveAll(List.of(sensorReading, sensorReading1)));
+
+        // Assert
+        assertEquals("SensorReading already exists", exception.getMessage());
+        assertFalse(repository.containsOfIdentity(new SensorReadingID("1")));
+    }
+
+    /**
+     * Verifies that the average reading within a period ignores the readings that are not numbers.
+     */
+    @Test
+    void getAverageReadingWithinPeriod_ShouldIgnoreNonNumericReadings() {
+        // Arrange
+        IRepositorySensorReading repository = new RepositorySensorReadingMem();
+        DeviceId deviceId = new DeviceId("device1");
+        SensorID sensorId = new SensorID("sensor1");
+        String[] values = {"10", "ON", "20.5"};
+        for (int i = 0; i < values.length; i++) {
+            SensorReading sensorReading = mock(SensorReading.class);
+            when(sensorReading.identity()).thenReturn(new SensorReadingID("reading" + i));
+            when(sensorReading.getDeviceID()).thenReturn(deviceId);
+            when(sensorReading.getSensorID()).thenReturn(sensorId);
+            when(sensorReading.getReading()).thenReturn(new Reading(values[i]));
+            when(sensorReading.getTimeStamp()).thenReturn(Timestamp.valueOf("2024-01-01 00:0" + (i + 1) + ":00"));
+            repository.save(sensorReading);
+        }
+
+        // Act
+        double average = repository.getAverageReadingWithinPeriod(deviceId,
+                Timestamp.valueOf("2024-01-01 00:00:00"), Timestamp.valueOf("2024-01-01 00:10:00"));
+
+        // Assert
+        assertEquals(15.25, average);
+    }
+
+    /**
+     * Verifies that the latest reading of a sensor without readings is empty.
+     */
+    @Test
+    void getLatestReadingFromSensorWithoutReadings_ShouldReturnEmptyOptional() {
+        // Arrange
+        IRepositorySensorReading repository = new RepositorySensorReadingMem();
+
+        // Act
+        Optional<SensorReading> latestReading = repository.getLatestReadingFromSensor(new SensorID("sensor1"));
+
+        // Assert
+        assertTrue(latestReading.isEmpty());
+    }
+
+    /**
+     * Verifies that the latest reading of each sensor is the one with the most recent timestamp.
+     */
+    @Test
+    void getLatestReadingOfEachSensor_ShouldReturnMostRecentReadingOfEachSensor() {
+        // Arrange
+        IRepositorySensorReading repository = new RepositorySensorReadingMem();
+        String[][] readings = {{"sensor1", "2024-01-01 00:05:00"}, {"sensor1", "2024-01-01 00:00:00"}, {"sensor2", "2024-01-01 00:01:00"}};
+        SensorReading[] sensorReadings = new SensorReading[readings.length];
+        for (int i = 0; i < readings.length; i++) {
+            sensorReadings[i] = mock(SensorReading.class);
+            when(sensorReadings[i].identity()).thenReturn(new SensorReadingID("reading" + i));
+            when(sensorReadings[i].getSensorID()).thenReturn(new SensorID(readings[i][0]));
+            when(sensorReadings[i].getTimeStamp()).thenReturn(Timestamp.valueOf(readings[i][1]));
+            repository.save(sensorReadings[i]);
+        }
+
+        // Act
+        List<SensorReading> latestReadings = repository.getLatestReadingOfEachSensor();
+
+        // Assert
+        assertEquals(2, latestReadings.size());
+        assertTrue(latestReadings.contains(sensorReadings[0]));
+        assertTrue(latestReadings.contains(sensorReadings[2]));
+    }
+
+    /**
+     * Verifies that a page of the readings of a device within a period starts right after the cursor, ordered by timestamp and ID.
+     */
+    @Test
+    void getSensorReadingsPageFromDevice_ShouldStartRightAfterCursor() {
+        // Arrange
+        IRepositorySensorReading repository = new RepositorySensorReadingMem();
+        DeviceId deviceId = new DeviceId("device1");
+        String[][] readings = {{"reading3", "2024-01-01 00:01:00"}, {"reading1", "2024-01-01 00:00:00"},
+                {"reading2", "2024-01-01 00:01:00"}, {"reading4", "2024-01-01 00:02:00"}, {"reading5", "2024-01-01 00:09:00"}};
+        for (String[] reading : readings) {
+            SensorReading sensorReading = mock(SensorReading.class);
+            when(sensorReading.identity()).thenReturn(new SensorReadingID(reading[0]));
+            when(sensorReading.getDeviceID()).thenReturn(deviceId);
+            when(sensorReading.getTimeStamp()).thenReturn(Timestamp.valueOf(reading[1]));
+            repository.save(sensorReading);
+        }
+        SensorReadingCursor cursor = new SensorReadingCursor(Timestamp.valueOf("2024-01-01 00:01:00"), new SensorReadingID("reading2"));
+
+        // Act
+        List<SensorReading> page = repository.getSensorReadingsPageFromDevice(deviceId, Timestamp.valueOf("2024-01-01 00:00:00"),
+                Timestamp.valueOf("2024-01-01 00:05:00"), cursor, 10);
+
+        // Assert
+        assertEquals(List.of("reading3", "reading4"), page.stream().map(reading -> reading.identity().toString()).toList());
+    }
 }
@@ -0,0 +1,86 @@
+package smartHomeDDD.domain.domain.sensor;
+
+import org.junit.jupiter.api.Test;
+import smartHomeDDD.domain.sensor.ImplFactorySensor;
+import smartHomeDDD.domain.sensor.Sensor;
+import smartHomeDDD.domain.sensor.SUNSET567;
+import smartHomeDDD.domain.sensor.TSY01;
+import smartHomeDDD.domain.valueobject.DeviceId;
+import smartHomeDDD.domain.valueobject.SensorID;
+import smartHomeDDD.domain.valueobject.SensorModelID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * This is a test class for the ImplFactorySensor class. It tests the following scenarios:
+ * - Successful instantiation of a TSY01 sensor Object via factory use.
+ * - Successful instantiation of sensors of different models by the same factory.
+ * - The factory returns null when the sensor model does not correspond to a sensor class.
+ */
+class ImplFactorySensorTest {
+
+    /**
+     * Tests a successful instantiation of a TSY01 sensor Object using the specified parameters.
+     */
+    @Test
+    void validSensorModel_ShouldReturnTSY01Instance() {
+        // Arrange
+        DeviceId deviceId = mock(DeviceId.class);
+        SensorID sensorID = mock(SensorID.class);
+        SensorModelID sensorModelID = mock(SensorModelID.class);
+        when(sensorModelID.toString()).thenReturn("TSY01");
+        ImplFactorySensor factory = new ImplFactorySensor();
+
+        // Act
+        Sensor sensor = factory.createSensor(deviceId, sensorModelID, sensorID);
+
+        // Assert
+        assertInstanceOf(TSY01.class, sensor);
+        assertEquals(sensorID, sensor.identity());
+    }
+
+    /**
+     * Tests that the same factory creates sensors of different models.
+     */
+    @Test
+    void differentSensorModels_ShouldReturnInstancesOfEachModel() {
+        // Arrange
+        DeviceId deviceId = mock(DeviceId.class);
+        SensorID sensorID = mock(SensorID.class);
+        SensorModelID tsy01 = mock(SensorModelID.class);
+        when(tsy01.toString()).thenReturn("TSY01");
+        SensorModelID sunset567 = mock(SensorModelID.class);
+        when(sunset567.toString()).thenReturn("SUNSET567");
+        ImplFactorySensor factory = new ImplFactorySensor();
+
+        // Act
+        Sensor first = factory.createSensor(deviceId, tsy01, sensorID);
+        Sensor second = factory.createSensor(deviceId, sunset567, sensorID);
+
+        // Assert
+        assertInstanceOf(TSY01.class, first);
+        assertInstanceOf(SUNSET567.class, second);
+    }
+
+    /**
+     * Tests the scenario where the SensorModelID does not correspond to a sensor class.
+     * The method should return null.
+     */
+    @Test
+    void createSensor_ShouldReturnNull_WhenModelNotFound() {
+        // Arrange
+        DeviceId deviceId = mock(DeviceId.class);
+        SensorID sensorID = mock(SensorID.class);
+        SensorModelID sensorModelID = mock(SensorModelID.class);
+        when(sensorModelID.toString()).thenReturn("InvalidClassName");
+        ImplFactorySensor factory = new ImplFactorySensor();
+
+        // Act
+        Sensor sensor = factory.createSensor(deviceId, sensorModelID, sensorID);
+
+        // Assert
+        assertNull(sensor);
+    }
+}
@@ -0,0 +1,113 @@
+package smartHomeDDD.domain.domain.sensor;
+
+import org.junit.jupiter.api.Test;
+import smartHomeDDD.domain.sensor.ReadingSeries;
+
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The ReadingSeriesTest class contains test cases for the ReadingSeries class.
+ * The tests cover the following scenarios:
+ * - the readings of a period exclude the readings at its start and its end
+ * - a period without readings has a count, a sum and an average of zero
+ * - a period whose end is before its start has no readings
+ * - the value of a reading is found by its time, and is null for a time without a reading
+ * - a null map of readings is rejected
+ */
+class ReadingSeriesTest {
+
+    /**
+     * Builds a series with four readings, given out of order.
+     */
+    private static ReadingSeries series() {
+        Map<LocalTime, Double> readings = new HashMap<>();
+        readings.put(LocalTime.of(12, 0), 30.0);
+        readings.put(LocalTime.of(9, 0), 10.0);
+        readings.put(LocalTime.of(18, 0), 40.0);
+        readings.put(LocalTime.of(10, 30), 20.0);
+        return ReadingSeries.of(readings);
+    }
+
+    /**
+     * Test case for a period whose start and end are at readings.
+     */
+    @Test
+    void periodBoundedByReadings_ShouldExcludeBounds() {
+        // Arrange
+        ReadingSeries series = series();
+
+        // Act
+        int count = series.countBetween(LocalTime.of(9, 0), LocalTime.of(18, 0));
+        double sum = series.sumBetween(LocalTime.of(9, 0), LocalTime.of(18, 0));
+        double average = series.averageBetween(LocalTime.of(9, 0), LocalTime.of(18, 0));
+
+        // Assert
+        assertEquals(2, count);
+        assertEquals(50.0, sum);
+        assertEquals(25.0, average);
+    }
+
+    /**
+     * Test case for a period without readings.
+     */
+    @Test
+    void periodWithoutReadings_ShouldReturnZero() {
+        // Arrange
+        ReadingSeries series = series();
+
+        // Act
+        int count = series.countBetween(LocalTime.of(13, 0), LocalTime.of(17, 0));
+        double sum = series.sumBetween(LocalTime.of(13, 0), LocalTime.of(17, 0));
+        double average = series.averageBetween(LocalTime.of(13, 0), LocalTime.of(17, 0));
+
+        // Assert
+        assertEquals(0, count);
+        assertEquals(0.0, sum);
+        assertEquals(0.0, average);
+    }
+
+    /**
+     * Test case for a period whose end is before its start.
+     */
+    @Test
+    void endBeforeStart_ShouldHaveNoReadings() {
+        // Arrange
+        ReadingSeries series = series();
+
+        // Act
+        int count = series.countBetween(LocalTime.of(19, 0), LocalTime.of(8, 0));
+        double sum = series.sumBetween(LocalTime.of(19, 0), LocalTime.of(8, 0));
+
+        // Assert
+        assertEquals(0, count);
+        assertEquals(0.0, sum);
+    }
+
+    /**
+     * Test case for the value of a reading at a time.
+     */
+    @Test
+    void valueAt_ShouldReturnReadingOrNull() {
+        // Arrange
+        ReadingSeries series = series();
+
+        // Act & Assert
+        assertEquals(4, series.size());
+        assertEquals(20.0, series.valueAt(LocalTime.of(10, 30)));
+        assertNull(series.valueAt(LocalTime.of(10, 31)));
+        assertNull(series.valueAt(null));
+    }
+
+    /**
+     * Test case for a null map of readings.
+     */
+    @Test
+    void nullReadings_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> ReadingSeries.of(null));
+    }
+}
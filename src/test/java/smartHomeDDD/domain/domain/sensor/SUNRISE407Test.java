@@ -26,8 +26,9 @@ import static org.mockito.Mockito.when;
  * - comparing two SUNRISE407's from different devices
  * - comparing two SUNRISE407's with different sensor models
  * - successful retrieval value of SUNRISE407's for a given date
- * - invalid GPS coordinates
- * - invalid date
+ * - calculated sunrise instant for GPS coordinates outside the table
+ * - calculated sunrise instant for a date outside the table
+ * - no sunrise instant in the polar night
  * - hashCode method in the SUNRISE407 class
  */
 
@@ -244,11 +245,11 @@ class SUNRISE407Test {
     }
 
     /**
-     * Test case for invalid GPS coordinates.
+     * Test case for GPS coordinates outside the table, whose sunrise instant is calculated.
      */
 
     @Test
-    void invalidGPS_ShouldReturnNull() {
+    void locationOutsideTable_ShouldReturnCalculatedInstant() {
         // Arrange
         DeviceId deviceId = mock(DeviceId.class);
         SensorModelID sensorModelID = mock(SensorModelID.class);
@@ -263,26 +264,55 @@ class SUNRISE407Test {
         Value actual = sunrise407.getValue(date, gps);
 
         // Assert
-        assertNull(actual);
+        assertNotNull(actual);
+        LocalTime instant = LocalTime.parse(actual.toString());
+        assertTrue(instant.isAfter(LocalTime.of(6, 24)));
+        assertTrue(instant.isBefore(LocalTime.of(6, 26)));
     }
 
     /**
-     * Test case for invalid date.
+     * Test case for a date outside the table, whose sunrise instant is calculated.
      */
 
     @Test
-    void invalidDate_ShouldReturnNull() {
+    void dateOutsideTable_ShouldReturnCalculatedInstant() {
         // Arrange
         DeviceId deviceId = mock(DeviceId.class);
         SensorModelID sensorModelID = mock(SensorModelID.class);
         SensorID sensorID = mock(SensorID.class);
         SUNRISE407 sunrise407 = new SUNRISE407(deviceId, sensorModelID, sensorID);
         GPSCoordinates gps = mock(GPSCoordinates.class);
-        when(gps.getLatitude()).thenReturn(25.0);
-        when(gps.getLongitude()).thenReturn(115.0);
+        when(gps.getLatitude()).thenReturn(50.0);
+        when(gps.getLongitude()).thenReturn(110.0);
 
         // Act
-        LocalDate date = LocalDate.of(2024, 2, 28);
+        LocalDate date = LocalDate.of(2025, 2, 28);
+        Value actual = sunrise407.getValue(date, gps);
+
+        // Assert
+        assertNotNull(actual);
+        LocalTime instant = LocalTime.parse(actual.toString());
+        assertTrue(instant.isAfter(LocalTime.of(6, 46)));
+        assertTrue(instant.isBefore(LocalTime.of(6, 49)));
+    }
+
+    /**
+     * Test case for a date without a sunrise, in the polar night.
+     */
+
+    @Test
+    void noEventOnDate_ShouldReturnNull() {
+        // Arrange
+        DeviceId deviceId = mock(DeviceId.class);
+        SensorModelID sensorModelID = mock(SensorModelID.class);
+        SensorID sensorID = mock(SensorID.class);
+        SUNRISE407 sunrise407 = new SUNRISE407(deviceId, sensorModelID, sensorID);
+        GPSCoordinates gps = mock(GPSCoordinates.class);
+        when(gps.getLatitude()).thenReturn(80.0);
+        when(gps.getLongitude()).thenReturn(0.0);
+
+        // Act
+        LocalDate date = LocalDate.of(2024, 12, 21);
         Value actual = sunrise407.getValue(date, gps);
 
         // Assert
@@ -24,8 +24,9 @@ import static org.mockito.Mockito.when;
  * - comparing two identical SUNRISE407's with different IDs
  * - comparing two SUNRISE407's from different devices
  * - successful retrieval value of SUNRISE407's for a given date
- * - invalid GPS coordinates
- * - invalid date
+ * - calculated sunset instant for GPS coordinates outside the table
+ * - calculated sunset instant for a date outside the table
+ * - no sunset instant in the polar day
  */
 
 class SUNSET567AggregateTest {
@@ -235,11 +236,11 @@ class SUNSET567AggregateTest {
     }
 
     /**
-     * Test case for invalid GPS coordinates.
+     * Test case for GPS coordinates outside the table, whose sunset instant is calculated.
      */
 
     @Test
-    void invalidGPS_ShouldReturnNull() {
+    void locationOutsideTable_ShouldReturnCalculatedInstant() {
         // Arrange
         ImplFactorySensor implFactorySensor = new ImplFactorySensor();
         DeviceId deviceId = new DeviceId("D1");
@@ -255,15 +256,18 @@ class SUNSET567AggregateTest {
         Value actual = sunset567.getValue(date, gps);
 
         // Assert
-        assertNull(actual);
+        assertNotNull(actual);
+        LocalTime instant = LocalTime.parse(actual.toString());
+        assertTrue(instant.isAfter(LocalTime.of(18, 0)));
+        assertTrue(instant.isBefore(LocalTime.of(18, 3)));
     }
 
     /**
-     * Test case for invalid date.
+     * Test case for a date outside the table, whose sunset instant is calculated.
      */
 
     @Test
-    void invalidDate_ShouldReturnNull() {
+    void dateOutsideTable_ShouldReturnCalculatedInstant() {
         // Arrange
         ImplFactorySensor implFactorySensor = new ImplFactorySensor();
         DeviceId deviceId = new DeviceId("D1");
@@ -271,11 +275,38 @@ class SUNSET567AggregateTest {
         SensorID sensorID = new SensorID("S1");
         SUNSET567 sunset567 = (SUNSET567) implFactorySensor.createSensor(deviceId, sensorModelID, sensorID);
         GPSCoordinates gps = mock(GPSCoordinates.class);
-        when(gps.getLatitude()).thenReturn(25.0);
+        when(gps.getLatitude()).thenReturn(55.0);
         when(gps.getLongitude()).thenReturn(115.0);
 
         // Act
-        LocalDate date = LocalDate.of(2024, 2, 28);
+        LocalDate date = LocalDate.of(2025, 2, 28);
+        Value actual = sunset567.getValue(date, gps);
+
+        // Assert
+        assertNotNull(actual);
+        LocalTime instant = LocalTime.parse(actual.toString());
+        assertTrue(instant.isAfter(LocalTime.of(17, 30)));
+        assertTrue(instant.isBefore(LocalTime.of(17, 33)));
+    }
+
+    /**
+     * Test case for a date without a sunset, in the polar day.
+     */
+
+    @Test
+    void noEventOnDate_ShouldReturnNull() {
+        // Arrange
+        ImplFactorySensor implFactorySensor = new ImplFactorySensor();
+        DeviceId deviceId = new DeviceId("D1");
+        SensorModelID sensorModelID = new SensorModelID("SUNSET567");
+        SensorID sensorID = new SensorID("S1");
+        SUNSET567 sunset567 = (SUNSET567) implFactorySensor.createSensor(deviceId, sensorModelID, sensorID);
+        GPSCoordinates gps = mock(GPSCoordinates.class);
+        when(gps.getLatitude()).thenReturn(80.0);
+        when(gps.getLongitude()).thenReturn(0.0);
+
+        // Act
+        LocalDate date = LocalDate.of(2024, 6, 21);
         Value actual = sunset567.getValue(date, gps);
 
         // Assert
@@ -26,8 +26,9 @@ import static org.mockito.Mockito.when;
  * - Comparing two SUNSET567 sensors from different devices
  * - Comparing two SUNSET567 sensors with different sensor models
  * - Successful retrieval value of SUNSET567 for a given date
- * - Invalid GPS coordinates
- * - Invalid date
+ * - Calculated sunset instant for GPS coordinates outside the table
+ * - Calculated sunset instant for a date outside the table
+ * - No sunset instant in the polar day
  * - The "hashCode" method in the SUNSET567 class
  */
 
@@ -244,11 +245,11 @@ class SUNSET567Test {
     }
 
     /**
-     * Test case for invalid GPS coordinates.
+     * Test case for GPS coordinates outside the table, whose sunset instant is calculated.
      */
 
     @Test
-    void invalidGPS_ShouldReturnNull() {
+    void locationOutsideTable_ShouldReturnCalculatedInstant() {
         // Arrange
         DeviceId deviceId = mock(DeviceId.class);
         SensorModelID sensorModelID = mock(SensorModelID.class);
@@ -263,26 +264,55 @@ class SUNSET567Test {
         Value actual = sunset567.getValue(date, gps);
 
         // Assert
-        assertNull(actual);
+        assertNotNull(actual);
+        LocalTime instant = LocalTime.parse(actual.toString());
+        assertTrue(instant.isAfter(LocalTime.of(18, 0)));
+        assertTrue(instant.isBefore(LocalTime.of(18, 3)));
     }
 
     /**
-     * Test case for invalid date.
+     * Test case for a date outside the table, whose sunset instant is calculated.
      */
 
     @Test
-    void invalidDate_ShouldReturnNull() {
+    void dateOutsideTable_ShouldReturnCalculatedInstant() {
         // Arrange
         DeviceId deviceId = mock(DeviceId.class);
         SensorModelID sensorModelID = mock(SensorModelID.class);
         SensorID sensorID = mock(SensorID.class);
         SUNSET567 sunset567 = new SUNSET567(deviceId, sensorModelID, sensorID);
         GPSCoordinates gps = mock(GPSCoordinates.class);
-        when(gps.getLatitude()).thenReturn(25.0);
+        when(gps.getLatitude()).thenReturn(55.0);
         when(gps.getLongitude()).thenReturn(115.0);
 
         // Act
-        LocalDate date = LocalDate.of(2024, 2, 28);
+        LocalDate date = LocalDate.of(2025, 2, 28);
+        Value actual = sunset567.getValue(date, gps);
+
+        // Assert
+        assertNotNull(actual);
+        LocalTime instant = LocalTime.parse(actual.toString());
+        assertTrue(instant.isAfter(LocalTime.of(17, 30)));
+        assertTrue(instant.isBefore(LocalTime.of(17, 33)));
+    }
+
+    /**
+     * Test case for a date without a sunset, in the polar day.
+     */
+
+    @Test
+    void noEventOnDate_ShouldReturnNull() {
+        // Arrange
+        DeviceId deviceId = mock(DeviceId.class);
+        SensorModelID sensorModelID = mock(SensorModelID.class);
+        SensorID sensorID = mock(SensorID.class);
+        SUNSET567 sunset567 = new SUNSET567(deviceId, sensorModelID, sensorID);
+        GPSCoordinates gps = mock(GPSCoordinates.class);
+        when(gps.getLatitude()).thenReturn(80.0);
+        when(gps.getLongitude()).thenReturn(0.0);
+
+        // Act
+        LocalDate date = LocalDate.of(2024, 6, 21);
         Value actual = sunset567.getValue(date, gps);
 
         // Assert
@@ -0,0 +1,88 @@
+package smartHomeDDD.domain.domain.sensor;
+
+import org.junit.jupiter.api.Test;
+import smartHomeDDD.domain.sensor.SolarEphemeris;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The SolarEphemerisTest class contains test cases for the SolarEphemeris class.
+ * The tests cover the following scenarios:
+ * - the sunrise and sunset ephemerides are shared
+ * - the sample readings are answered from the table
+ * - the sunrise and sunset of the equinox at the equator are calculated
+ * - a calculation gives the same time when it is repeated
+ * - there is no sunrise in the polar night and no sunset in the polar day
+ */
+class SolarEphemerisTest {
+
+    /**
+     * Test case for the sharing of the ephemerides.
+     */
+    @Test
+    void ephemerides_ShouldBeShared() {
+        // Act & Assert
+        assertSame(SolarEphemeris.sunrise(), SolarEphemeris.sunrise());
+        assertSame(SolarEphemeris.sunset(), SolarEphemeris.sunset());
+        assertNotSame(SolarEphemeris.sunrise(), SolarEphemeris.sunset());
+    }
+
+    /**
+     * Test case for the sample readings of the table.
+     */
+    @Test
+    void sampleReadings_ShouldBeAnsweredFromTable() {
+        // Act
+        LocalTime sunrise = SolarEphemeris.sunrise().timeOf(LocalDate.of(2024, 12, 31), 50.0, 110.0);
+        LocalTime sunset = SolarEphemeris.sunset().timeOf(LocalDate.of(2024, 2, 29), 55.0, 115.0);
+
+        // Assert
+        assertEquals(LocalTime.of(7, 0, 31), sunrise);
+        assertEquals(LocalTime.of(18, 0, 29), sunset);
+    }
+
+    /**
+     * Test case for the sunrise and sunset of the equinox at the equator, which are about twelve hours apart.
+     */
+    @Test
+    void equinoxAtEquator_ShouldBeCalculated() {
+        // Act
+        LocalTime sunrise = SolarEphemeris.sunrise().timeOf(LocalDate.of(2024, 3, 20), 0.0, 0.0);
+        LocalTime sunset = SolarEphemeris.sunset().timeOf(LocalDate.of(2024, 3, 20), 0.0, 0.0);
+
+        // Assert
+        assertTrue(sunrise.isAfter(LocalTime.of(6, 0)) && sunrise.isBefore(LocalTime.of(6, 10)));
+        assertTrue(sunset.isAfter(LocalTime.of(18, 5)) && sunset.isBefore(LocalTime.of(18, 15)));
+    }
+
+    /**
+     * Test case for a repeated calculation.
+     */
+    @Test
+    void repeatedCalculation_ShouldGiveSameTime() {
+        // Act
+        LocalTime first = SolarEphemeris.sunrise().timeOf(LocalDate.of(2030, 7, 1), 38.7, -9.1);
+        LocalTime second = SolarEphemeris.sunrise().timeOf(LocalDate.of(2030, 7, 1), 38.7, -9.1);
+
+        // Assert
+        assertNotNull(first);
+        assertEquals(first, second);
+    }
+
+    /**
+     * Test case for the polar night and the polar day.
+     */
+    @Test
+    void polarNightAndDay_ShouldHaveNoEvent() {
+        // Act
+        LocalTime sunrise = SolarEphemeris.sunrise().timeOf(LocalDate.of(2024, 12, 21), 80.0, 0.0);
+        LocalTime sunset = SolarEphemeris.sunset().timeOf(LocalDate.of(2024, 6, 21), 80.0, 0.0);
+
+        // Assert
+        assertNull(sunrise);
+        assertNull(sunset);
+    }
+}
@@ -0,0 +1,116 @@
+package smartHomeDDD.domain.domain.sensorReading;
+
+import org.junit.jupiter.api.Test;
+import smartHomeDDD.domain.sensorReading.ReadingRollup;
+import smartHomeDDD.domain.sensorReading.RollupResolution;
+import smartHomeDDD.domain.valueobject.SensorID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ReadingRollupTest is a test class for the ReadingRollup class.
+ * It has the following test cases:
+ * - Verifies that the rollup of a reading starts at the beginning of the bucket the reading falls in.
+ * - Verifies that adding readings out of order keeps the first and last readings by timestamp.
+ * - Verifies that merging two rollups sums their counts and keeps the minimum, maximum, first and last readings.
+ * - Verifies that readings at the same earliest timestamp are all counted and summed at the first timestamp.
+ * - Verifies that a rollup cannot be created without readings.
+ */
+class ReadingRollupTest {
+
+    /**
+     * Verifies that the rollup of a reading starts at the beginning of the bucket the reading falls in.
+     */
+    @Test
+    void of_ShouldStartAtTheBeginningOfTheBucket() {
+        //Arrange
+        SensorID sensorID = new SensorID("s1");
+        long time = 3 * 3_600_000L + 25 * 60_000L + 10_000L;
+
+        //Act
+        ReadingRollup minute = ReadingRollup.of(sensorID, RollupResolution.MINUTE, 20, time);
+        ReadingRollup hour = ReadingRollup.of(sensorID, RollupResolution.HOUR, 20, time);
+        ReadingRollup day = ReadingRollup.of(sensorID, RollupResolution.DAY, 20, time);
+
+        //Assert
+        assertEquals(3 * 3_600_000L + 25 * 60_000L, minute.getBucketStart().getTime());
+        assertEquals(3 * 3_600_000L, hour.getBucketStart().getTime());
+        assertEquals(0L, day.getBucketStart().getTime());
+    }
+
+    /**
+     * Verifies that adding readings out of order keeps the first and last readings by timestamp.
+     */
+    @Test
+    void addReadingsOutOfOrder_ShouldKeepFirstAndLastByTimestamp() {
+        //Arrange
+        ReadingRollup rollup = ReadingRollup.of(new SensorID("s1"), RollupResolution.HOUR, 20, 2_000L);
+
+        //Act
+        ReadingRollup result = rollup.add(30, 3_000L).add(10, 1_000L);
+
+        //Assert
+        assertEquals(3, result.getCount());
+        assertEquals(60, result.getSum());
+        assertEquals(20, result.getAverage());
+        assertEquals(10, result.getFirst());
+        assertEquals(1_000L, result.getFirstTime().getTime());
+        assertEquals(30, result.getLast());
+        assertEquals(3_000L, result.getLastTime().getTime());
+    }
+
+    /**
+     * Verifies that merging two rollups sums their counts and keeps the minimum, maximum, first and last readings.
+     */
+    @Test
+    void merge_ShouldSummarizeTheReadingsOfBothRollups() {
+        //Arrange
+        SensorID sensorID = new SensorID("s1");
+        ReadingRollup later = ReadingRollup.of(sensorID, RollupResolution.HOUR, 5, 4_000L).add(15, 5_000L);
+        ReadingRollup earlier = ReadingRollup.of(sensorID, RollupResolution.HOUR, 25, 1_000L);
+
+        //Act
+        ReadingRollup result = later.merge(earlier);
+
+        //Assert
+        assertEquals(3, result.getCount());
+        assertEquals(45, result.getSum());
+        assertEquals(5, result.getMin());
+        assertEquals(25, result.getMax());
+        assertEquals(25, result.getFirst());
+        assertEquals(15, result.getLast());
+    }
+
+    /**
+     * Verifies that readings at the same earliest timestamp are all counted and summed at the first timestamp, and
+     * that an earlier reading replaces them.
+     */
+    @Test
+    void addReadingsAtTheSameEarliestTimestamp_ShouldCountThemAll() {
+        //Arrange
+        ReadingRollup rollup = ReadingRollup.of(new SensorID("s1"), RollupResolution.HOUR, 20, 1_000L);
+
+        //Act
+        ReadingRollup sameFirstTime = rollup.add(30, 2_000L).add(40, 1_000L);
+        ReadingRollup earlierFirstTime = sameFirstTime.add(5, 500L);
+
+        //Assert
+        assertEquals(2, sameFirstTime.getFirstCount());
+        assertEquals(60, sameFirstTime.getFirstSum());
+        assertEquals(1, earlierFirstTime.getFirstCount());
+        assertEquals(5, earlierFirstTime.getFirstSum());
+    }
+
+    /**
+     * Verifies that a rollup cannot be created without readings.
+     */
+    @Test
+    void constructorWithoutReadings_ShouldThrowException() {
+        //Arrange
+        SensorID sensorID = new SensorID("s1");
+
+        //Act + Assert
+        assertThrows(IllegalArgumentException.class, () ->
+                new ReadingRollup(sensorID, RollupResolution.HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0));
+    }
+}
@@ -148,4 +148,30 @@ class ReadingTest {
         // Assert
         assertEquals(hashCode1, hashCode2);
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"300", "-123.0", "+5", " 21.5 ", ".5"})
+    void numericReading_shouldBeNumeric(String sReading) {
+        // Arrange
+        Reading reading = new Reading(sReading);
+        double expected = Double.parseDouble(sReading.trim());
+
+        // Act
+        double actual = reading.toDouble();
+
+        // Assert
+        assertTrue(reading.isNumeric());
+        assertEquals(expected, actual);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ON", "oFf", "50%", "NaN", "Infinity", "10f", "-", "."})
+    void nonNumericReading_shouldNotBeNumeric(String sReading) {
+        // Arrange
+        Reading reading = new Reading(sReading);
+
+        // Act+Assert
+        assertFalse(reading.isNumeric());
+        assertThrows(NumberFormatException.class, reading::toDouble);
+    }
 }
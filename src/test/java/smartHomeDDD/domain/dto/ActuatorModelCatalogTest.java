@@ -0,0 +1,112 @@
+package smartHomeDDD.domain.dto;
+
+import org.apache.commons.configuration2.ex.ConfigurationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import smartHomeDDD.ddd.Value;
+import smartHomeDDD.domain.valueobject.ONF01AValue;
+import smartHomeDDD.domain.valueobject.OPNCL0100Value;
+import smartHomeDDD.domain.valueobject.SPV300Value;
+import smartHomeDDD.dto.ActuatorModelCatalog;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The ActuatorModelCatalogTest class contains test cases for the ActuatorModelCatalog class.
+ * The tests cover the following scenarios:
+ * - the catalog parses the values of int, double and string actuator models
+ * - the catalog rejects a model that is not in the configuration file
+ * - the catalog is reloaded when the configuration file changes, and only then
+ * - the catalog of the application is shared
+ */
+class ActuatorModelCatalogTest {
+
+    /**
+     * The directory of the configuration files of the tests.
+     */
+    @TempDir
+    Path directory;
+
+    /**
+     * Writes a configuration file with the given actuator models.
+     */
+    private File configFile(String... actuatorModels) throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (String actuatorModel : actuatorModels) {
+            content.append("actuatorModel = ").append(actuatorModel).append('\n');
+        }
+        return Files.writeString(directory.resolve("config.properties"), content).toFile();
+    }
+
+    /**
+     * Test case for the parsers of int, double and string actuator models.
+     */
+    @Test
+    void modelsOfEachValueType_ShouldParseValues() throws IOException, ConfigurationException {
+        // Arrange
+        ActuatorModelCatalog catalog = new ActuatorModelCatalog(configFile("ONF01A.T1.string", "OPNCL0100.T2.int", "SPV300.T4.double"));
+
+        // Act
+        Value onf01a = catalog.parserOf("ONF01A").parse("ON");
+        Value opncl0100 = catalog.parserOf("OPNCL0100").parse("30");
+        Value spv300 = catalog.parserOf("SPV300").parse("30.5");
+
+        // Assert
+        assertInstanceOf(ONF01AValue.class, onf01a);
+        assertInstanceOf(OPNCL0100Value.class, opncl0100);
+        assertInstanceOf(SPV300Value.class, spv300);
+        assertEquals("30.5", spv300.toString());
+    }
+
+    /**
+     * Test case for a model that is not in the configuration file.
+     */
+    @Test
+    void unknownModel_ShouldThrowException() throws IOException {
+        // Arrange
+        ActuatorModelCatalog catalog = new ActuatorModelCatalog(configFile("ONF01A.T1.string"));
+
+        // Act
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> catalog.parserOf("OPNCL0100"));
+
+        // Assert
+        assertEquals("Actuator Model is not present in the system.", exception.getMessage());
+    }
+
+    /**
+     * Test case for the reloading of the catalog after the configuration file changes.
+     */
+    @Test
+    void changedConfigFile_ShouldReloadCatalog() throws IOException, ConfigurationException {
+        // Arrange
+        File file = configFile("ONF01A.T1.string");
+        ActuatorModelCatalog catalog = new ActuatorModelCatalog(file);
+        boolean reloadedBeforeChange = catalog.checkForReloading();
+        configFile("ONF01A.T1.string", "SPV300.T4.double");
+        assertTrue(file.setLastModified(file.lastModified() + 2000));
+
+        // Act
+        boolean reloadedAfterChange = catalog.checkForReloading();
+
+        // Assert
+        assertFalse(reloadedBeforeChange);
+        assertTrue(reloadedAfterChange);
+        assertEquals(Set.of("ONF01A", "SPV300"), catalog.models());
+        assertInstanceOf(SPV300Value.class, catalog.parserOf("SPV300").parse("2"));
+    }
+
+    /**
+     * Test case for the sharing of the catalog of the application.
+     */
+    @Test
+    void instance_ShouldBeShared() {
+        // Act & Assert
+        assertSame(ActuatorModelCatalog.instance(), ActuatorModelCatalog.instance());
+    }
+}
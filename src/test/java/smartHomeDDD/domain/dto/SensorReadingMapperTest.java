@@ -0,0 +1,94 @@
+package smartHomeDDD.domain.dto;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import smartHomeDDD.domain.sensorReading.SensorReadingCursor;
+import smartHomeDDD.domain.valueobject.SensorReadingID;
+import smartHomeDDD.dto.SensorReadingMapper;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * This class contains unit tests for the cursors of the SensorReadingMapper class.
+ * It encompasses the following scenarios:
+ * Test case for a cursor within the repeated hour of a daylight saving time change, which decodes to the same instant.
+ * Test case for a cursor decoded by a node in another time zone, which decodes to the same instant.
+ * Test case for an invalid cursor, which is rejected.
+ */
+class SensorReadingMapperTest {
+
+    private TimeZone defaultTimeZone;
+
+    /**
+     * Keeps the default time zone of the JVM, which the tests change.
+     */
+    @BeforeEach
+    void keepDefaultTimeZone() {
+        defaultTimeZone = TimeZone.getDefault();
+    }
+
+    /**
+     * Restores the default time zone of the JVM.
+     */
+    @AfterEach
+    void restoreDefaultTimeZone() {
+        TimeZone.setDefault(defaultTimeZone);
+    }
+
+    /**
+     * Test case for a cursor within the repeated hour at the end of daylight saving time. 01:30 happens twice in New
+     * York on 2021-11-07, and the cursor of the second one should decode to the second one, with its nanoseconds.
+     */
+    @Test
+    void cursorWithinRepeatedHour_ShouldDecodeToTheSameInstant() {
+        // Arrange
+        TimeZone.setDefault(TimeZone.getTimeZone("America/New_York"));
+        Timestamp timeStamp = Timestamp.from(Instant.parse("2021-11-07T06:30:00.123456789Z"));
+        SensorReadingCursor cursor = new SensorReadingCursor(timeStamp, new SensorReadingID("sr1"));
+
+        // Act
+        SensorReadingCursor result = SensorReadingMapper.DTOToCursor(SensorReadingMapper.cursorToDTO(cursor));
+
+        // Assert
+        assertEquals(timeStamp.toInstant(), result.getTimeStamp().toInstant());
+        assertEquals("sr1", result.getSensorReadingID().toString());
+    }
+
+    /**
+     * Test case for a cursor issued by a node in one time zone and decoded by a node in another one, which should
+     * decode to the same instant.
+     */
+    @Test
+    void cursorDecodedInAnotherTimeZone_ShouldDecodeToTheSameInstant() {
+        // Arrange
+        TimeZone.setDefault(TimeZone.getTimeZone("Asia/Kolkata"));
+        Timestamp timeStamp = Timestamp.from(Instant.parse("2024-03-31T00:30:00Z"));
+        String cursor = SensorReadingMapper.cursorToDTO(new SensorReadingCursor(timeStamp, new SensorReadingID("sr|2")));
+
+        // Act
+        TimeZone.setDefault(TimeZone.getTimeZone("Europe/Lisbon"));
+        SensorReadingCursor result = SensorReadingMapper.DTOToCursor(cursor);
+
+        // Assert
+        assertEquals(timeStamp.toInstant(), result.getTimeStamp().toInstant());
+        assertEquals("sr|2", result.getSensorReadingID().toString());
+    }
+
+    /**
+     * Test case for a cursor that was not issued by cursorToDTO, which should be rejected.
+     */
+    @Test
+    void invalidCursor_ShouldThrowException() {
+        // Act
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> SensorReadingMapper.DTOToCursor("bm90LWEtY3Vyc29y"));
+
+        // Assert
+        assertEquals("Invalid cursor", exception.getMessage());
+    }
+}
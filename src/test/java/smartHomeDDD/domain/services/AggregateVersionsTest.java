@@ -0,0 +1,135 @@
+package smartHomeDDD.domain.services;
+
+import org.junit.jupiter.api.Test;
+import smartHomeDDD.services.AggregateVersions;
+import smartHomeDDD.services.AggregateVersions.Aggregate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test class for AggregateVersions.
+ * Includes the following test methods:
+ * eTag_WithoutChanges_ShouldStayTheSame: Test that the ETag does not change while nothing is saved.
+ * bump_ShouldChangeOnlyTheETagsOfTheBumpedAggregate: Test that bumping an aggregate changes the ETags that include it,
+ * and only those.
+ * eTag_AfterRestart_ShouldNotMatchThePreviousOnes: Test that the ETags issued before a restart never match the new ones.
+ * lastModified_ShouldBeTheLatestOfTheAggregates: Test that the last modification time is the latest of the aggregates.
+ * constructor_WithNullClock_ShouldThrowException: Test that a null clock is rejected.
+ */
+class AggregateVersionsTest {
+
+    /**
+     * Test that the ETag of an aggregate does not change while nothing is saved.
+     */
+    @Test
+    void eTag_WithoutChanges_ShouldStayTheSame() {
+        // Arrange
+        AggregateVersions versions = new AggregateVersions();
+
+        // Act
+        String first = versions.eTag(Aggregate.SENSOR_TYPE);
+        String second = versions.eTag(Aggregate.SENSOR_TYPE);
+
+        // Assert
+        assertEquals(first, second);
+    }
+
+    /**
+     * Test that bumping an aggregate changes the ETags that include it, and leaves the others as they were.
+     */
+    @Test
+    void bump_ShouldChangeOnlyTheETagsOfTheBumpedAggregate() {
+        // Arrange
+        AggregateVersions versions = new AggregateVersions();
+        String house = versions.eTag(Aggregate.HOUSE);
+        String room = versions.eTag(Aggregate.ROOM);
+        String houseAndRoom = versions.eTag(Aggregate.HOUSE, Aggregate.ROOM);
+
+        // Act
+        versions.bump(Aggregate.ROOM);
+
+        // Assert
+        assertEquals(house, versions.eTag(Aggregate.HOUSE));
+        assertNotEquals(room, versions.eTag(Aggregate.ROOM));
+        assertNotEquals(houseAndRoom, versions.eTag(Aggregate.HOUSE, Aggregate.ROOM));
+    }
+
+    /**
+     * Test that the ETags issued before a restart, when the counters start again from zero, never match the new ones.
+     */
+    @Test
+    void eTag_AfterRestart_ShouldNotMatchThePreviousOnes() {
+        // Arrange
+        AggregateVersions beforeRestart = new AggregateVersions(fixedClock(1_000));
+        AggregateVersions afterRestart = new AggregateVersions(fixedClock(2_000));
+
+        // Act
+        String before = beforeRestart.eTag(Aggregate.ACTUATOR_TYPE);
+        String after = afterRestart.eTag(Aggregate.ACTUATOR_TYPE);
+
+        // Assert
+        assertNotEquals(before, after);
+    }
+
+    /**
+     * Test that the last modification time of a response is the latest of the aggregates it is built from.
+     */
+    @Test
+    void lastModified_ShouldBeTheLatestOfTheAggregates() {
+        // Arrange
+        long[] now = {1_000};
+        AggregateVersions versions = new AggregateVersions(new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return Instant.ofEpochMilli(now[0]);
+            }
+        });
+
+        // Act
+        now[0] = 5_000;
+        versions.bump(Aggregate.SENSOR_MODEL);
+
+        // Assert
+        assertEquals(1_000, versions.lastModified(Aggregate.SENSOR_TYPE));
+        assertEquals(5_000, versions.lastModified(Aggregate.SENSOR_TYPE, Aggregate.SENSOR_MODEL));
+    }
+
+    /**
+     * Test that a null clock is rejected.
+     */
+    @Test
+    void constructor_WithNullClock_ShouldThrowException() {
+        // Act
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> new AggregateVersions(null));
+
+        // Assert
+        assertEquals("Clock cannot be null", exception.getMessage());
+    }
+
+    /**
+     * Creates a clock fixed at the given time.
+     *
+     * @param millis The time, in milliseconds since the epoch.
+     * @return The clock.
+     */
+    private static Clock fixedClock(long millis) {
+        return Clock.fixed(Instant.ofEpochMilli(millis), ZoneOffset.UTC);
+    }
+}
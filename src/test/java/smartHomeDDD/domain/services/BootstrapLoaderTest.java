@@ -0,0 +1,152 @@
+package smartHomeDDD.domain.services;
+
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import smartHomeDDD.domain.actuator.ImplFactoryActuator;
+import smartHomeDDD.domain.actuatorModel.ImplFactoryActuatorModel;
+import smartHomeDDD.domain.actuatorType.ImplFactoryActuatorType;
+import smartHomeDDD.domain.device.Device;
+import smartHomeDDD.domain.device.ImplFactoryDevice;
+import smartHomeDDD.domain.house.ImplFactoryHouse;
+import smartHomeDDD.domain.room.ImplFactoryRoom;
+import smartHomeDDD.domain.room.Room;
+import smartHomeDDD.domain.sensor.ImplFactorySensor;
+import smartHomeDDD.domain.sensor.Sensor;
+import smartHomeDDD.domain.sensorModel.ImplFactorySensorModel;
+import smartHomeDDD.domain.sensorReading.ImplFactorySensorReading;
+import smartHomeDDD.domain.sensorReading.SensorReading;
+import smartHomeDDD.domain.sensorType.ImplFactorySensorType;
+import smartHomeDDD.persistence.mem.*;
+import smartHomeDDD.services.*;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Test class for BootstrapLoader
+ * It tests the following test cases:
+ * Throw exception if a null service is passed
+ * Load every aggregate of a seed file, resolving the keys of rooms, devices and sensors to their IDs
+ * Throw exception if a device refers to a room that is not in the seed file
+ */
+class BootstrapLoaderTest {
+
+    private final RepositoryHouseMem _repositoryHouse = new RepositoryHouseMem();
+    private final RepositoryRoomMem _repositoryRoom = new RepositoryRoomMem();
+    private final RepositoryDeviceMem _repositoryDevice = new RepositoryDeviceMem();
+    private final RepositorySensorMem _repositorySensor = new RepositorySensorMem();
+    private final RepositoryActuatorMem _repositoryActuator = new RepositoryActuatorMem();
+    private final RepositorySensorReadingMem _repositorySensorReading = new RepositorySensorReadingMem();
+
+    /**
+     * Creates a loader over in memory repositories.
+     */
+    private BootstrapLoader loader() {
+        GenerateRandomId generateRandomId = new GenerateRandomId();
+        ServiceSensor serviceSensor = new ServiceSensor(new ImplFactorySensor(), _repositorySensor, _repositoryDevice, generateRandomId);
+        return new BootstrapLoader(
+                new ServiceHouse(_repositoryHouse, new ImplFactoryHouse()),
+                new ServiceRoom(new ImplFactoryRoom(), _repositoryRoom, _repositoryHouse, generateRandomId),
+                new ServiceDevice(_repositoryDevice, _repositoryRoom, new ImplFactoryDevice(), generateRandomId),
+                new ServiceSensorType(new RepositorySensorTypeMem(), new ImplFactorySensorType()),
+                new ServiceActuatorType(new RepositoryActuatorTypeMem(), new ImplFactoryActuatorType()),
+                new ServiceSensorModel(new RepositorySensorModelMem(), new ImplFactorySensorModel()),
+                new ServiceActuatorModel(new RepositoryActuatorModelMem(), new ImplFactoryActuatorModel()),
+                serviceSensor,
+                new ServiceActuator(_repositoryActuator, new ImplFactoryActuator(), _repositoryDevice, generateRandomId),
+                new ServiceSensorReading(_repositorySensorReading, _repositorySensor, serviceSensor, new ImplFactorySensorReading(), _repositoryDevice));
+    }
+
+    /**
+     * Writes a seed file with the given lines.
+     */
+    private static File seedFile(Path directory, String... lines) throws Exception {
+        Path seedFile = directory.resolve("seed.properties");
+        Files.write(seedFile, List.of(lines));
+        return seedFile.toFile();
+    }
+
+    /**
+     * Test to verify if the constructor throws an exception when a null service is passed
+     */
+    @Test
+    void nullService_shouldThrowException() {
+        // Arrange
+        String expected = "Service cannot be null";
+
+        // Act
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> new BootstrapLoader(
+                null, mock(ServiceRoom.class), mock(ServiceDevice.class), mock(ServiceSensorType.class),
+                mock(ServiceActuatorType.class), mock(ServiceSensorModel.class), mock(ServiceActuatorModel.class),
+                mock(ServiceSensor.class), mock(ServiceActuator.class), mock(ServiceSensorReading.class)));
+
+        // Assert
+        assertEquals(expected, exception.getMessage());
+    }
+
+    /**
+     * Test to verify that every aggregate of a seed file is loaded, and that the keys the rooms, devices and sensors
+     * are referred to by in the file are resolved to the IDs they were saved with
+     */
+    @Test
+    void seedFile_shouldLoadEveryAggregateResolvingItsKeys(@TempDir Path directory) throws Exception {
+        // Arrange
+        File seedFile = seedFile(directory,
+                "house = H1.Rua das Flores.Portugal.1234-123.55.90.Portugal",
+                "room = H1.r1.0.8.6.3.true.LivingRoom",
+                "device = d1.Lamp.m1.true.r1",
+                "sensorType = T1.Temperature.Celsius",
+                "actuatorType = T1.Status.OnOff",
+                "sensorModel = GA100K.T1",
+                "actuatorModel = ONF01A.T1",
+                "sensor1 = s1.d1.GA100K",
+                "actuator1 = a1.d1.ONF01A",
+                "sensorReading = sr1.10.d1.s1.2021-01-01 12:00:00",
+                "sensorReading = sr2.12.d1.s1.2021-01-01 13:00:00");
+
+        // Act
+        BootstrapLoader.LoadReport report = loader().load(seedFile);
+
+        // Assert
+        assertEquals(11, report.total());
+        assertEquals(2, report.loaded().get("sensorReadings"));
+        Room room = _repositoryRoom.findAll().iterator().next();
+        Device device = _repositoryDevice.findAll().iterator().next();
+        Sensor sensor = _repositorySensor.findAll().iterator().next();
+        List<SensorReading> readings = new ArrayList<>();
+        _repositorySensorReading.findAll().forEach(readings::add);
+        assertEquals(room.identity(), device.getRoomId());
+        assertEquals(device.identity(), sensor.getDeviceID());
+        assertEquals(2, readings.size());
+        readings.forEach(reading -> assertEquals(sensor.identity(), reading.getSensorID()));
+    }
+
+    /**
+     * Test to verify that a device referring to a room that is not in the seed file is not loaded
+     */
+    @Test
+    void deviceOfUnknownRoom_shouldThrowException(@TempDir Path directory) throws Exception {
+        // Arrange
+        File seedFile = seedFile(directory,
+                "house = H1.Rua das Flores.Portugal.1234-123.55.90.Portugal",
+                "room = H1.r1.0.8.6.3.true.LivingRoom",
+                "device = d1.Lamp.m1.true.r2");
+        BootstrapLoader loader = loader();
+
+        // Act
+        Exception exception = assertThrows(EntityNotFoundException.class, () -> loader.load(seedFile));
+
+        // Assert
+        assertEquals("Room not found: r2", exception.getMessage());
+        assertFalse(_repositoryDevice.findAll().iterator().hasNext());
+    }
+}
@@ -0,0 +1,160 @@
+package smartHomeDDD.domain.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import smartHomeDDD.domain.actuator.ImplFactoryActuator;
+import smartHomeDDD.domain.actuator.OPNCL0100;
+import smartHomeDDD.domain.actuatorModel.ImplFactoryActuatorModel;
+import smartHomeDDD.domain.actuatorType.ImplFactoryActuatorType;
+import smartHomeDDD.domain.device.Device;
+import smartHomeDDD.domain.device.ImplFactoryDevice;
+import smartHomeDDD.domain.repository.*;
+import smartHomeDDD.domain.sensor.ImplFactorySensor;
+import smartHomeDDD.domain.sensor.PC500W;
+import smartHomeDDD.domain.sensorModel.ImplFactorySensorModel;
+import smartHomeDDD.domain.sensorType.ImplFactorySensorType;
+import smartHomeDDD.domain.valueobject.*;
+import smartHomeDDD.persistence.mem.*;
+import smartHomeDDD.services.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for DeviceFunctionalityIndex.
+ * It covers the following scenarios:
+ * - the constructor throws an exception when a repository is null
+ * - the index groups the devices by the type of their sensors and actuators, once per device
+ * - sensors and actuators added through the services are added to the index
+ * - sensors saved directly to the repository are only indexed when the index is rebuilt
+ * - ServiceDeviceByType serves the devices of each type from the index
+ */
+class DeviceFunctionalityIndexTest {
+
+    private IRepositorySensor repositorySensor;
+    private IRepositorySensorModel repositorySensorModel;
+    private IRepositorySensorType repositorySensorType;
+    private IRepositoryActuator repositoryActuator;
+    private IRepositoryActuatorModel repositoryActuatorModel;
+    private IRepositoryActuatorType repositoryActuatorType;
+    private IRepositoryDevice repositoryDevice;
+    private DeviceFunctionalityIndex index;
+
+    /**
+     * Creates the repositories with a power consumption sensor model, a blind roller actuator model and two devices,
+     * and the index over them.
+     */
+    @BeforeEach
+    void setUp() {
+        repositorySensor = new RepositorySensorMem();
+        repositorySensorModel = new RepositorySensorModelMem();
+        repositorySensorType = new RepositorySensorTypeMem();
+        repositoryActuator = new RepositoryActuatorMem();
+        repositoryActuatorModel = new RepositoryActuatorModelMem();
+        repositoryActuatorType = new RepositoryActuatorTypeMem();
+        repositoryDevice = new RepositoryDeviceMem();
+
+        repositorySensorType.save(new ImplFactorySensorType().createSensorType(new SensorTypeID("T9"), new Description("PowerConsumption"), new Unit("W")));
+        repositorySensorModel.save(new ImplFactorySensorModel().createSensorModel(new SensorModelID("PC500W"), new SensorTypeID("T9")));
+        repositoryActuatorType.save(new ImplFactoryActuatorType().createActuatorType(new Unit("Percentage"), new Description("BlindRoller"), new ActuatorTypeID("T2")));
+        repositoryActuatorModel.save(new ImplFactoryActuatorModel().createActuatorModel(new ActuatorModelID("OPNCL0100"), new ActuatorTypeID("T2")));
+
+        ImplFactoryDevice factoryDevice = new ImplFactoryDevice();
+        repositoryDevice.save(factoryDevice.createDevice(new DeviceId("d1"), new DeviceName("Lamp"), new DeviceModel("m1"), new ActivationStatus(true), new RoomID("r1")));
+        repositoryDevice.save(factoryDevice.createDevice(new DeviceId("d2"), new DeviceName("Blind"), new DeviceModel("m2"), new ActivationStatus(true), new RoomID("r1")));
+
+        index = new DeviceFunctionalityIndex(repositorySensor, repositorySensorModel, repositorySensorType,
+                repositoryActuator, repositoryActuatorModel, repositoryActuatorType);
+    }
+
+    /**
+     * Tests that the constructor throws an exception when the sensor repository is null.
+     */
+    @Test
+    void nullSensorRepository_ShouldThrowException() {
+        // Act
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> new DeviceFunctionalityIndex(null,
+                repositorySensorModel, repositorySensorType, repositoryActuator, repositoryActuatorModel, repositoryActuatorType));
+
+        // Assert
+        assertEquals("Sensor Repository cannot be null", exception.getMessage());
+    }
+
+    /**
+     * Tests that a device with two sensors of the same type is indexed once under that type.
+     */
+    @Test
+    void devicesWithSensorsAndActuators_ShouldBeGroupedByType() {
+        // Arrange
+        repositorySensor.save(new PC500W(new DeviceId("d1"), new SensorModelID("PC500W"), new SensorID("s1")));
+        repositorySensor.save(new PC500W(new DeviceId("d1"), new SensorModelID("PC500W"), new SensorID("s2")));
+        repositoryActuator.save(new OPNCL0100(new ActuatorID("a1"), new DeviceId("d2"), new ActuatorModelID("OPNCL0100")));
+
+        // Act
+        Map<String, Set<DeviceId>> deviceIDsByType = index.getDeviceIDsByType();
+
+        // Assert
+        assertEquals(Set.of(new DeviceId("d1")), deviceIDsByType.get("PowerConsumption"));
+        assertEquals(Set.of(new DeviceId("d2")), deviceIDsByType.get("BlindRoller"));
+    }
+
+    /**
+     * Tests that the sensors and actuators added through the services are added to a built index.
+     */
+    @Test
+    void sensorsAndActuatorsAddedThroughServices_ShouldBeIndexed() {
+        // Arrange
+        ServiceSensor serviceSensor = new ServiceSensor(new ImplFactorySensor(), repositorySensor, repositoryDevice, new GenerateRandomId(), index);
+        ServiceActuator serviceActuator = new ServiceActuator(repositoryActuator, new ImplFactoryActuator(), repositoryDevice, new GenerateRandomId(), index);
+        assertTrue(index.getDeviceIDsByType().isEmpty());
+
+        // Act
+        serviceSensor.createNewSensor(new DeviceId("d2"), new SensorModelID("PC500W"));
+        serviceActuator.addNewActuator(new DeviceId("d1"), new ActuatorModelID("OPNCL0100"));
+
+        // Assert
+        Map<String, Set<DeviceId>> deviceIDsByType = index.getDeviceIDsByType();
+        assertEquals(Set.of(new DeviceId("d2")), deviceIDsByType.get("PowerConsumption"));
+        assertEquals(Set.of(new DeviceId("d1")), deviceIDsByType.get("BlindRoller"));
+    }
+
+    /**
+     * Tests that a sensor saved directly to the repository after the index is built is indexed on the next rebuild.
+     */
+    @Test
+    void sensorSavedToRepository_ShouldBeIndexedOnRebuild() {
+        // Arrange
+        assertTrue(index.getDeviceIDsByType().isEmpty());
+        repositorySensor.save(new PC500W(new DeviceId("d1"), new SensorModelID("PC500W"), new SensorID("s1")));
+        assertFalse(index.getDeviceIDsByType().containsKey("PowerConsumption"));
+
+        // Act
+        index.rebuild();
+
+        // Assert
+        assertEquals(Set.of(new DeviceId("d1")), index.getDeviceIDsByType().get("PowerConsumption"));
+    }
+
+    /**
+     * Tests that ServiceDeviceByType returns the devices of each type from the index.
+     */
+    @Test
+    void serviceDeviceByType_ShouldReturnDevicesFromIndex() {
+        // Arrange
+        repositorySensor.save(new PC500W(new DeviceId("d1"), new SensorModelID("PC500W"), new SensorID("s1")));
+        repositorySensor.save(new PC500W(new DeviceId("missing"), new SensorModelID("PC500W"), new SensorID("s2")));
+        ServiceDeviceByType serviceDeviceByType = new ServiceDeviceByType(repositorySensor, repositorySensorType,
+                repositoryActuator, repositoryActuatorType, repositoryDevice, repositoryActuatorModel, repositorySensorModel, index);
+
+        // Act
+        Map<String, List<Device>> devicesByType = serviceDeviceByType.getDevicesByType();
+
+        // Assert
+        assertEquals(1, devicesByType.size());
+        assertEquals(1, devicesByType.get("PowerConsumption").size());
+        assertEquals(new DeviceId("d1"), devicesByType.get("PowerConsumption").get(0).identity());
+    }
+}
@@ -2,14 +2,29 @@ package smartHomeDDD.domain.services;
 
 import org.junit.jupiter.api.Test;
 import smartHomeDDD.services.GenerateRandomId;
+import smartHomeDDD.services.TimeOrderedIdStrategy;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 
 /**
  * Test class for GenerateRandomId.
  * Includes the following test methods:
  * testGenerateID: Test to generate a random ID.
+ * generateID_WithStrategy_ShouldUseTheStrategy: Test to generate an ID with a given strategy.
+ * timeOrderedUuids_ShouldSortInGenerationOrder: Test that time ordered UUIDs sort in the order they are generated.
+ * timeOrderedUlids_ShouldSortInGenerationOrder: Test that time ordered ULIDs sort in the order they are generated.
+ * timeOrderedIds_ShouldCarryOnIntoNextMillisecond: Test that the IDs carry on into the next millisecond once the
+ * counter of a millisecond runs out.
+ * timeOrderedIds_WithNullFormat_ShouldThrowException: Test that a null format is rejected.
  */
 public class GenerateRandomIdTest {
 
@@ -24,4 +39,107 @@ public class GenerateRandomIdTest {
         assertNotNull(randomId);
     }
 
+    /**
+     * Test to generate an ID with a given strategy.
+     */
+    @Test
+    void generateID_WithStrategy_ShouldUseTheStrategy() {
+        // Arrange
+        GenerateRandomId generateRandomId = new GenerateRandomId(() -> "id");
+
+        // Act
+        String id = generateRandomId.generateID();
+
+        // Assert
+        assertEquals("id", id);
+    }
+
+    /**
+     * Test that time ordered UUIDs, generated within the same millisecond, are version 7 UUIDs of that millisecond and
+     * sort in the order they are generated.
+     */
+    @Test
+    void timeOrderedUuids_ShouldSortInGenerationOrder() {
+        // Arrange
+        long millis = 1_700_000_000_000L;
+        GenerateRandomId generateRandomId = new GenerateRandomId(new TimeOrderedIdStrategy(TimeOrderedIdStrategy.Format.UUID, () -> millis));
+
+        // Act
+        List<String> ids = generate(generateRandomId, 100);
+
+        // Assert
+        assertSorted(ids);
+        UUID first = UUID.fromString(ids.get(0));
+        assertEquals(7, first.version());
+        assertEquals(2, first.variant());
+        assertEquals(millis, first.getMostSignificantBits() >>> 16);
+    }
+
+    /**
+     * Test that time ordered ULIDs, generated over several milliseconds, are 26 characters long and sort in the order
+     * they are generated.
+     */
+    @Test
+    void timeOrderedUlids_ShouldSortInGenerationOrder() {
+        // Arrange
+        long[] millis = {1_700_000_000_000L};
+        GenerateRandomId generateRandomId = new GenerateRandomId(new TimeOrderedIdStrategy(TimeOrderedIdStrategy.Format.ULID, () -> millis[0]++ / 10));
+
+        // Act
+        List<String> ids = generate(generateRandomId, 100);
+
+        // Assert
+        assertSorted(ids);
+        ids.forEach(id -> assertEquals(26, id.length()));
+    }
+
+    /**
+     * Test that the IDs carry on into the next millisecond, still in order, once the counter of a millisecond runs out.
+     */
+    @Test
+    void timeOrderedIds_ShouldCarryOnIntoNextMillisecond() {
+        // Arrange
+        long millis = 1_700_000_000_000L;
+        GenerateRandomId generateRandomId = new GenerateRandomId(new TimeOrderedIdStrategy(TimeOrderedIdStrategy.Format.UUID, () -> millis));
+
+        // Act
+        List<String> ids = generate(generateRandomId, 5000);
+
+        // Assert
+        assertSorted(ids);
+        assertEquals(millis + 1, UUID.fromString(ids.get(ids.size() - 1)).getMostSignificantBits() >>> 16);
+    }
+
+    /**
+     * Test that a null format is rejected.
+     */
+    @Test
+    void timeOrderedIds_WithNullFormat_ShouldThrowException() {
+        // Act
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> new TimeOrderedIdStrategy(null));
+
+        // Assert
+        assertEquals("Format cannot be null", exception.getMessage());
+    }
+
+    /**
+     * Generates a number of IDs.
+     */
+    private static List<String> generate(GenerateRandomId generateRandomId, int count) {
+        List<String> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(generateRandomId.generateID());
+        }
+        return ids;
+    }
+
+    /**
+     * Asserts that the IDs are distinct and in ascending order.
+     */
+    private static void assertSorted(List<String> ids) {
+        assertEquals(ids.size(), new HashSet<>(ids).size());
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i - 1).compareTo(ids.get(i)) < 0, ids.get(i - 1) + " should sort before " + ids.get(i));
+        }
+    }
 }
@@ -31,6 +31,7 @@ import static org.mockito.Mockito.when;
  * -getActuatorModelByID_shouldReturnActuatorModel
  * -getActuatorModelByID_shouldThrow
  * -createActuatorModel_shouldReturnActuatorModel
+ * -createActuatorModels_shouldSaveEveryActuatorModel
  */
 public class ServiceActuatorModelTest {
 
@@ -172,8 +173,23 @@ public class ServiceActuatorModelTest {
         assertEquals(actuatorModel, createdActuatorModel);
     }
 
+    /**
+     * Test case to verify that a batch of actuator models is created and saved in the repository together.
+     */
+    @Test
+    void createActuatorModels_shouldSaveEveryActuatorModel(){
+        //Arrange
+        IRepositoryActuatorModel repository = new RepositoryActuatorModelMem();
+        ServiceActuatorModel service = new ServiceActuatorModel(repository, new ImplFactoryActuatorModel());
+        List<ServiceActuatorModel.NewActuatorModel> newActuatorModels = List.of(
+                new ServiceActuatorModel.NewActuatorModel(new ActuatorModelID("ONF01A"), new ActuatorTypeID("T1")),
+                new ServiceActuatorModel.NewActuatorModel(new ActuatorModelID("OPNCL0100"), new ActuatorTypeID("T2")));
 
+        //Act
+        List<ActuatorModel> createdActuatorModels = service.createActuatorModels(newActuatorModels);
 
-
-
+        //Assert
+        assertEquals(2, createdActuatorModels.size());
+        assertTrue(repository.containsAll(List.of(new ActuatorModelID("ONF01A"), new ActuatorModelID("OPNCL0100"))));
+    }
 }
@@ -30,6 +30,7 @@ import static org.mockito.Mockito.when;
  * -getActuatorTypeByID_shouldReturnActuatorType
  * -getActuatorTypeByID_shouldThrowException
  * -createActuatorType_shouldReturnActuatorType
+ * -createActuatorTypes_shouldSaveEveryActuatorType
  */
 
 class ServiceActuatorTypeTest {
@@ -151,8 +152,23 @@ class ServiceActuatorTypeTest {
         assertEquals(actuatorType, createdActuatorType);
     }
 
+    /**
+     * Test case to verify that a batch of actuator types is created and saved in the repository together.
+     */
+    @Test
+    void createActuatorTypes_shouldSaveEveryActuatorType(){
+        //Arrange
+        IRepositoryActuatorType repository = new RepositoryActuatorTypeMem();
+        ServiceActuatorType service = new ServiceActuatorType(repository, new ImplFactoryActuatorType());
+        List<ServiceActuatorType.NewActuatorType> newActuatorTypes = List.of(
+                new ServiceActuatorType.NewActuatorType(new ActuatorTypeID("T1"), new Description("Status"), new Unit("Celsius")),
+                new ServiceActuatorType.NewActuatorType(new ActuatorTypeID("T2"), new Description("Percentage"), new Unit("Percentage")));
 
+        //Act
+        List<ActuatorType> createdActuatorTypes = service.createActuatorTypes(newActuatorTypes);
 
-
-
+        //Assert
+        assertEquals(2, createdActuatorTypes.size());
+        assertTrue(repository.containsAll(List.of(new ActuatorTypeID("T1"), new ActuatorTypeID("T2"))));
+    }
 }
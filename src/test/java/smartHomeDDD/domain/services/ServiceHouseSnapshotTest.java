@@ -0,0 +1,193 @@
+package smartHomeDDD.domain.services;
+
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import smartHomeDDD.domain.actuator.Actuator;
+import smartHomeDDD.domain.device.Device;
+import smartHomeDDD.domain.house.House;
+import smartHomeDDD.domain.repository.IRepositoryActuator;
+import smartHomeDDD.domain.repository.IRepositoryDevice;
+import smartHomeDDD.domain.repository.IRepositoryHouse;
+import smartHomeDDD.domain.repository.IRepositoryRoom;
+import smartHomeDDD.domain.repository.IRepositorySensor;
+import smartHomeDDD.domain.room.Room;
+import smartHomeDDD.domain.sensor.Sensor;
+import smartHomeDDD.domain.sensorReading.SensorReading;
+import smartHomeDDD.domain.valueobject.DeviceId;
+import smartHomeDDD.domain.valueobject.HouseId;
+import smartHomeDDD.domain.valueobject.RoomID;
+import smartHomeDDD.domain.valueobject.SensorID;
+import smartHomeDDD.services.ServiceHouseSnapshot;
+import smartHomeDDD.services.ServiceHouseSnapshot.Depth;
+import smartHomeDDD.services.ServiceHouseSnapshot.DeviceSnapshot;
+import smartHomeDDD.services.ServiceHouseSnapshot.Field;
+import smartHomeDDD.services.ServiceHouseSnapshot.HouseSnapshot;
+import smartHomeDDD.services.ServiceSensorReading;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * This class is responsible for unit testing the ServiceHouseSnapshot class. It verifies the following use cases:
+ * - Building the full snapshot of a house, with each level read with a single query
+ * - Leaving out the devices, without reading them, when the snapshot only goes as deep as the rooms
+ * - Leaving out the actuators and the readings, without reading them, when they are not selected
+ * - Handling of a scenario where the snapshot of a non-existent house is requested
+ * - Handling of null parameters in the constructor
+ */
+class ServiceHouseSnapshotTest {
+
+    private IRepositoryHouse repositoryHouse;
+    private IRepositoryRoom repositoryRoom;
+    private IRepositoryDevice repositoryDevice;
+    private IRepositorySensor repositorySensor;
+    private IRepositoryActuator repositoryActuator;
+    private ServiceSensorReading serviceSensorReading;
+    private ServiceHouseSnapshot service;
+
+    private final HouseId houseId = new HouseId("H1");
+    private final RoomID kitchenId = new RoomID("R1");
+    private final RoomID bedroomId = new RoomID("R2");
+    private final DeviceId fridgeId = new DeviceId("D1");
+    private final DeviceId lampId = new DeviceId("D2");
+    private final SensorID thermometerId = new SensorID("S1");
+
+    /**
+     * Sets up a house with a kitchen and a bedroom. The kitchen has a fridge with a thermometer and an actuator, and
+     * the bedroom has a lamp with neither.
+     */
+    @BeforeEach
+    void setUp() {
+        repositoryHouse = mock(IRepositoryHouse.class);
+        repositoryRoom = mock(IRepositoryRoom.class);
+        repositoryDevice = mock(IRepositoryDevice.class);
+        repositorySensor = mock(IRepositorySensor.class);
+        repositoryActuator = mock(IRepositoryActuator.class);
+        serviceSensorReading = mock(ServiceSensorReading.class);
+        service = new ServiceHouseSnapshot(repositoryHouse, repositoryRoom, repositoryDevice, repositorySensor,
+                repositoryActuator, serviceSensorReading);
+
+        House house = mock(House.class);
+        Room kitchen = mock(Room.class);
+        when(kitchen.identity()).thenReturn(kitchenId);
+        Room bedroom = mock(Room.class);
+        when(bedroom.identity()).thenReturn(bedroomId);
+        Device fridge = mock(Device.class);
+        when(fridge.identity()).thenReturn(fridgeId);
+        when(fridge.getRoomId()).thenReturn(kitchenId);
+        Device lamp = mock(Device.class);
+        when(lamp.identity()).thenReturn(lampId);
+        when(lamp.getRoomId()).thenReturn(bedroomId);
+        Sensor thermometer = mock(Sensor.class);
+        when(thermometer.identity()).thenReturn(thermometerId);
+        when(thermometer.getDeviceID()).thenReturn(fridgeId);
+        Actuator switchActuator = mock(Actuator.class);
+        when(switchActuator.getDeviceID()).thenReturn(fridgeId);
+
+        when(repositoryHouse.ofIdentity(houseId)).thenReturn(Optional.of(house));
+        when(repositoryRoom.getRoomsByHouseID(houseId)).thenReturn(List.of(kitchen, bedroom));
+        when(repositoryDevice.getDevicesInRooms(anyCollection())).thenReturn(List.of(fridge, lamp));
+        when(repositorySensor.getSensorsByDeviceIDs(anyCollection())).thenReturn(List.of(thermometer));
+        when(repositoryActuator.getActuatorsByDeviceIDs(anyCollection())).thenReturn(List.of(switchActuator));
+        when(serviceSensorReading.getLatestReadingFromSensor(thermometerId)).thenReturn(Optional.of(mock(SensorReading.class)));
+    }
+
+    /**
+     * This method tests that the full snapshot of a house puts each device, sensor and actuator under its room and
+     * device, and reads each level with a single query, never device by device.
+     */
+    @Test
+    void getHouseSnapshot_shouldBuildTheTreeFromOneQueryPerLevel() {
+        // Act
+        HouseSnapshot snapshot = service.getHouseSnapshot(houseId, Depth.COMPONENTS, EnumSet.allOf(Field.class));
+
+        // Assert
+        assertEquals(2, snapshot.rooms().size());
+        DeviceSnapshot fridge = snapshot.rooms().get(0).devices().get(0);
+        assertEquals(fridgeId, fridge.device().identity());
+        assertEquals(thermometerId, fridge.sensors().get(0).sensor().identity());
+        assertNotNull(fridge.sensors().get(0).latestReading());
+        assertEquals(1, fridge.actuators().size());
+        DeviceSnapshot lamp = snapshot.rooms().get(1).devices().get(0);
+        assertTrue(lamp.sensors().isEmpty());
+        assertTrue(lamp.actuators().isEmpty());
+        verify(repositoryRoom, times(1)).getRoomsByHouseID(houseId);
+        verify(repositoryDevice, times(1)).getDevicesInRooms(List.of(kitchenId, bedroomId));
+        verify(repositorySensor, times(1)).getSensorsByDeviceIDs(List.of(fridgeId, lampId));
+        verify(repositoryActuator, times(1)).getActuatorsByDeviceIDs(List.of(fridgeId, lampId));
+        verify(repositoryDevice, never()).getDevicesInRoom(any());
+        verify(repositorySensor, never()).getSensorsByDeviceID(any());
+        verify(repositoryActuator, never()).getActuatorsByDeviceID(any());
+    }
+
+    /**
+     * This method tests that a snapshot that only goes as deep as the rooms leaves out the devices, without reading
+     * them.
+     */
+    @Test
+    void getHouseSnapshotOfRooms_shouldNotReadTheDevices() {
+        // Act
+        HouseSnapshot snapshot = service.getHouseSnapshot(houseId, Depth.ROOMS, EnumSet.allOf(Field.class));
+
+        // Assert
+        assertEquals(2, snapshot.rooms().size());
+        assertNull(snapshot.rooms().get(0).devices());
+        verifyNoInteractions(repositoryDevice, repositorySensor, repositoryActuator, serviceSensorReading);
+    }
+
+    /**
+     * This method tests that the actuators and the readings are left out, without reading them, when only the sensors
+     * are selected.
+     */
+    @Test
+    void getHouseSnapshotWithSensorsOnly_shouldNotReadActuatorsOrReadings() {
+        // Act
+        HouseSnapshot snapshot = service.getHouseSnapshot(houseId, Depth.COMPONENTS, EnumSet.of(Field.SENSORS));
+
+        // Assert
+        DeviceSnapshot fridge = snapshot.rooms().get(0).devices().get(0);
+        assertEquals(1, fridge.sensors().size());
+        assertNull(fridge.sensors().get(0).latestReading());
+        assertNull(fridge.actuators());
+        verifyNoInteractions(repositoryActuator, serviceSensorReading);
+    }
+
+    /**
+     * This method tests the handling of a scenario where the snapshot of a non-existent house is requested. It should
+     * throw an EntityNotFoundException.
+     */
+    @Test
+    void getHouseSnapshotOfNonExistentHouse_shouldThrowEntityNotFoundException() {
+        // Arrange
+        HouseId unknownHouseId = new HouseId("H2");
+        when(repositoryHouse.ofIdentity(unknownHouseId)).thenReturn(Optional.empty());
+
+        // Act
+        Exception exception = assertThrows(EntityNotFoundException.class,
+                () -> service.getHouseSnapshot(unknownHouseId, Depth.COMPONENTS, EnumSet.allOf(Field.class)));
+
+        // Assert
+        assertEquals("House not found", exception.getMessage());
+        verifyNoInteractions(repositoryRoom);
+    }
+
+    /**
+     * This method tests the handling of null parameters in the ServiceHouseSnapshot constructor. It should throw an
+     * IllegalArgumentException.
+     */
+    @Test
+    void testConstructorWithNullParameters_shouldThrowIllegalArgumentException() {
+        // Act + Assert
+        assertThrows(IllegalArgumentException.class, () -> new ServiceHouseSnapshot(null, repositoryRoom,
+                repositoryDevice, repositorySensor, repositoryActuator, serviceSensorReading));
+        assertThrows(IllegalArgumentException.class, () -> new ServiceHouseSnapshot(repositoryHouse, repositoryRoom,
+                repositoryDevice, repositorySensor, repositoryActuator, null));
+    }
+}
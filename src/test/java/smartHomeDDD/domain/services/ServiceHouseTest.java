@@ -2,11 +2,13 @@ package smartHomeDDD.domain.services;
 
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
 import smartHomeDDD.domain.house.FactoryHouse;
 import smartHomeDDD.domain.house.House;
 import smartHomeDDD.domain.house.ImplFactoryHouse;
 import smartHomeDDD.domain.repository.IRepositoryHouse;
 import smartHomeDDD.domain.valueobject.*;
+import smartHomeDDD.persistence.mem.RepositoryHouseMem;
 import smartHomeDDD.services.ServiceHouse;
 
 import java.util.List;
@@ -25,6 +27,7 @@ import static org.mockito.Mockito.*;
  * - Retrieval of a house using its unique ID
  * - Handling of a scenario where retrieval of a house is attempted with a non-existent ID
  * - Addition of a new house
+ * - Addition of a batch of new houses, and of a batch with a house that already exists
  */
 class ServiceHouseTest {
 
@@ -184,4 +187,47 @@ class ServiceHouseTest {
         // Assert
         assertEquals(house, result);
     }
-}
\ No newline at end of file
+
+    /**
+     * This method tests the addition of a batch of new houses. It should save all of them and return them in order.
+     */
+    @Test
+    void testAddHouses() {
+        // Arrange
+        IRepositoryHouse repoHouse = new RepositoryHouseMem();
+        ServiceHouse serviceHouse = new ServiceHouse(repoHouse, new ImplFactoryHouse());
+        Location location = new Location(new Address("New Address"), new ZipCode("Portugal", "1234-123"), new GPSCoordinates(new Latitude(55), new Longitude(60)));
+        List<ServiceHouse.NewHouse> newHouses = List.of(
+                new ServiceHouse.NewHouse(new HouseId("1"), location),
+                new ServiceHouse.NewHouse(new HouseId("2"), location));
+
+        // Act
+        List<House> result = serviceHouse.addHouses(newHouses);
+
+        // Assert
+        assertEquals(List.of(new HouseId("1"), new HouseId("2")), result.stream().map(House::identity).toList());
+        assertTrue(repoHouse.containsAll(List.of(new HouseId("1"), new HouseId("2"))));
+    }
+
+    /**
+     * This method tests the addition of a batch of houses where one of them already exists. It should throw an
+     * exception and save none of the batch.
+     */
+    @Test
+    void testAddHousesWithExistingHouse_shouldSaveNone() {
+        // Arrange
+        IRepositoryHouse repoHouse = new RepositoryHouseMem();
+        ServiceHouse serviceHouse = new ServiceHouse(repoHouse, new ImplFactoryHouse());
+        Location location = new Location(new Address("New Address"), new ZipCode("Portugal", "1234-123"), new GPSCoordinates(new Latitude(55), new Longitude(60)));
+        serviceHouse.addHouse(new HouseId("1"), location);
+        List<ServiceHouse.NewHouse> newHouses = List.of(
+                new ServiceHouse.NewHouse(new HouseId("2"), location),
+                new ServiceHouse.NewHouse(new HouseId("1"), location));
+
+        // Act
+        assertThrows(DataIntegrityViolationException.class, () -> serviceHouse.addHouses(newHouses));
+
+        // Assert
+        assertFalse(repoHouse.containsOfIdentity(new HouseId("2")));
+    }
+}
@@ -8,6 +8,7 @@ import smartHomeDDD.domain.sensorModel.ImplFactorySensorModel;
 import smartHomeDDD.domain.sensorModel.SensorModel;
 import smartHomeDDD.domain.valueobject.SensorModelID;
 import smartHomeDDD.domain.valueobject.SensorTypeID;
+import smartHomeDDD.persistence.mem.RepositorySensorModelMem;
 import smartHomeDDD.services.ServiceSensorModel;
 
 import java.util.List;
@@ -23,6 +24,7 @@ import static org.mockito.Mockito.when;
  * - instantiating a ServiceSensorModel object with null repository
  * - instantiating a ServiceSensorModel object with null factory
  * - creating a sensor model
+ * - creating a batch of sensor models
  * - getting a list of sensor models by sensor type
  * - getting a sensor model by ID
  * - getting a non-existent sensor model
@@ -146,4 +148,23 @@ class ServiceSensorModelTest {
         assertTrue(actual.contains(expected));
     }
 
+    /**
+     * Test to verify that a batch of sensor models is created and saved in the repository together
+     */
+    @Test
+    void addSensorModels_shouldSaveEverySensorModel() {
+        //Arrange
+        IRepositorySensorModel repository = new RepositorySensorModelMem();
+        ServiceSensorModel service = new ServiceSensorModel(repository, new ImplFactorySensorModel());
+        List<ServiceSensorModel.NewSensorModel> newSensorModels = List.of(
+                new ServiceSensorModel.NewSensorModel(new SensorModelID("PC500W"), new SensorTypeID("PowerConsumption")),
+                new ServiceSensorModel.NewSensorModel(new SensorModelID("GA100K"), new SensorTypeID("Temperature")));
+
+        //Act
+        List<SensorModel> models = service.addSensorModels(newSensorModels);
+
+        //Assert
+        assertEquals(2, models.size());
+        assertTrue(repository.containsAll(List.of(new SensorModelID("PC500W"), new SensorModelID("GA100K"))));
+    }
 }
@@ -0,0 +1,141 @@
+package smartHomeDDD.domain.services;
+
+import org.junit.jupiter.api.Test;
+import smartHomeDDD.domain.repository.IRepositoryReadingRollup;
+import smartHomeDDD.domain.sensorReading.ReadingRollup;
+import smartHomeDDD.domain.sensorReading.RollupResolution;
+import smartHomeDDD.domain.sensorReading.SensorReading;
+import smartHomeDDD.domain.valueobject.Reading;
+import smartHomeDDD.domain.valueobject.SensorID;
+import smartHomeDDD.persistence.mem.RepositoryReadingRollupMem;
+import smartHomeDDD.services.ServiceSensorReadingRollup;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for ServiceSensorReadingRollup
+ * It tests the following test cases:
+ * Throw exception if null ReadingRollupRepository is passed
+ * The coarsest resolution is the day, hour or minute that fits the period and the intervals
+ * Throw exception if the period does not start and end on whole minutes
+ * A batch of readings updates each bucket once, and readings that are not numbers are not rolled up
+ * The rollups of a period are merged into one summary per interval
+ */
+class ServiceSensorReadingRollupTest {
+
+    private static final long MINUTE = 60_000L;
+    private static final long HOUR = 60 * MINUTE;
+    private static final long DAY = 24 * HOUR;
+
+    /**
+     * Creates a mocked sensor reading.
+     * @param sensorID the sensor of the reading
+     * @param value the value of the reading
+     * @param time the timestamp of the reading
+     * @return the mocked sensor reading
+     */
+    private SensorReading sensorReading(SensorID sensorID, String value, long time) {
+        SensorReading sensorReading = mock(SensorReading.class);
+        when(sensorReading.getSensorID()).thenReturn(sensorID);
+        when(sensorReading.getReading()).thenReturn(new Reading(value));
+        when(sensorReading.getTimeStamp()).thenReturn(new Timestamp(time));
+        return sensorReading;
+    }
+
+    /**
+     * Test to verify if the constructor throws an exception when a null ReadingRollupRepository is passed
+     */
+    @Test
+    void nullReadingRollupRepository_shouldThrowException() {
+        // Arrange
+        String expected = "Reading Rollup Repository cannot be null";
+        // Act
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> new ServiceSensorReadingRollup(null));
+        // Assert
+        assertEquals(expected, exception.getMessage());
+    }
+
+    /**
+     * Test to verify if the coarsest resolution is the day, hour or minute that fits the period and the intervals
+     */
+    @Test
+    void getCoarsestResolution_shouldFitPeriodAndIntervals() {
+        // Arrange
+        ServiceSensorReadingRollup service = new ServiceSensorReadingRollup(new RepositoryReadingRollupMem());
+        Timestamp midnight = new Timestamp(10 * DAY);
+        // Act
+        RollupResolution days = service.getCoarsestResolution(midnight, new Timestamp(40 * DAY), 24 * 60);
+        RollupResolution hours = service.getCoarsestResolution(midnight, new Timestamp(40 * DAY), 60);
+        RollupResolution minutes = service.getCoarsestResolution(new Timestamp(10 * DAY + 15 * MINUTE), new Timestamp(40 * DAY), 60);
+        // Assert
+        assertEquals(RollupResolution.DAY, days);
+        assertEquals(RollupResolution.HOUR, hours);
+        assertEquals(RollupResolution.MINUTE, minutes);
+    }
+
+    /**
+     * Test to verify if an exception is thrown when the period does not start and end on whole minutes
+     */
+    @Test
+    void getRollupsWithinMisalignedPeriod_shouldThrowException() {
+        // Arrange
+        ServiceSensorReadingRollup service = new ServiceSensorReadingRollup(new RepositoryReadingRollupMem());
+        Timestamp start = new Timestamp(DAY + 30_000L);
+        Timestamp end = new Timestamp(2 * DAY);
+        // Act
+        Exception exception = assertThrows(IllegalArgumentException.class, () ->
+                service.getRollupsWithinPeriod(new SensorID("s1"), start, end, 60));
+        // Assert
+        assertEquals("The time period must start and end on whole minutes", exception.getMessage());
+    }
+
+    /**
+     * Test to verify if a batch of readings updates each bucket once, and readings that are not numbers are not rolled up
+     */
+    @Test
+    void addReadings_shouldUpdateEachBucketOnce() {
+        // Arrange
+        IRepositoryReadingRollup repository = mock(IRepositoryReadingRollup.class);
+        ServiceSensorReadingRollup service = new ServiceSensorReadingRollup(repository);
+        SensorID sensorID = new SensorID("s1");
+        List<SensorReading> sensorReadings = List.of(
+                sensorReading(sensorID, "10", HOUR + 10_000L),
+                sensorReading(sensorID, "20", HOUR + 20_000L),
+                sensorReading(sensorID, "open", HOUR + 30_000L));
+        // Act
+        service.addReadings(sensorReadings);
+        // Assert
+        verify(repository, times(RollupResolution.values().length)).merge(argThat(rollup -> rollup.getCount() == 2));
+        verifyNoMoreInteractions(repository);
+    }
+
+    /**
+     * Test to verify if the rollups of a period are merged into one summary per interval
+     */
+    @Test
+    void getRollupsWithinPeriod_shouldMergeOneSummaryPerInterval() {
+        // Arrange
+        ServiceSensorReadingRollup service = new ServiceSensorReadingRollup(new RepositoryReadingRollupMem());
+        SensorID sensorID = new SensorID("s1");
+        service.addReadings(List.of(
+                sensorReading(sensorID, "10", DAY + 10 * MINUTE),
+                sensorReading(sensorID, "30", DAY + HOUR + 10 * MINUTE),
+                sensorReading(sensorID, "50", DAY + 2 * HOUR + 10 * MINUTE),
+                sensorReading(sensorID, "70", DAY + 3 * HOUR)));
+        // Act
+        List<ReadingRollup> intervals = service.getRollupsWithinPeriod(sensorID, new Timestamp(DAY), new Timestamp(DAY + 3 * HOUR), 120);
+        // Assert
+        assertEquals(2, intervals.size());
+        assertEquals(DAY, intervals.get(0).getBucketStart().getTime());
+        assertEquals(2, intervals.get(0).getCount());
+        assertEquals(20, intervals.get(0).getAverage());
+        assertEquals(10, intervals.get(0).getFirst());
+        assertEquals(30, intervals.get(0).getLast());
+        assertEquals(DAY + 2 * HOUR, intervals.get(1).getBucketStart().getTime());
+        assertEquals(1, intervals.get(1).getCount());
+    }
+}
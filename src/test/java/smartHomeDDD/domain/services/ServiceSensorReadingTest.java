@@ -2,27 +2,40 @@ package smartHomeDDD.domain.services;
 
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import smartHomeDDD.domain.device.Device;
 import smartHomeDDD.domain.repository.IRepositoryDevice;
 import smartHomeDDD.domain.repository.IRepositorySensor;
 import smartHomeDDD.domain.repository.IRepositorySensorReading;
+import smartHomeDDD.domain.sensor.Sensor;
 import smartHomeDDD.domain.sensorReading.FactorySensorReading;
 import smartHomeDDD.domain.sensorReading.ImplFactorySensorReading;
 import smartHomeDDD.domain.sensorReading.SensorReading;
+import smartHomeDDD.domain.sensorReading.SensorReadingCursor;
 import smartHomeDDD.domain.valueobject.DeviceId;
+import smartHomeDDD.domain.valueobject.DeviceName;
 import smartHomeDDD.domain.valueobject.Reading;
 import smartHomeDDD.domain.valueobject.SensorID;
+import smartHomeDDD.domain.valueobject.SensorModelID;
 import smartHomeDDD.domain.valueobject.SensorReadingID;
+import smartHomeDDD.persistence.mem.RepositoryReadingRollupMem;
+import smartHomeDDD.persistence.mem.RepositorySensorReadingColumnarMem;
+import smartHomeDDD.persistence.mem.RepositorySensorReadingMem;
 import smartHomeDDD.services.ServiceSensor;
 import smartHomeDDD.services.ServiceSensorReading;
+import smartHomeDDD.services.ServiceSensorReadingRollup;
 
 import java.sql.Timestamp;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.StreamSupport;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
 
 /**
  * Test class for ServiceSensorReading
@@ -37,11 +50,28 @@ import static org.mockito.Mockito.when;
  * Get readings between timestamp
  * Get readings between invalid timestamp
  * Get max difference between readings
+ * Get max difference between readings within the time interval on both sides
+ * Get max difference between readings without readings within the time interval
  * Get sensor reading by device ID
  * Get sensor reading by ID
  * Get sensor reading by non existent ID
  * Add sensor reading with non existent device ID
  * Add sensor reading with non existent sensor ID
+ * Peak power consumption calculated in a single pass matches the interval by interval calculation
+ * Peak power consumption queries the readings of each device once
+ * Peak power consumption served from the rollups matches the calculation from the raw readings
+ * Peak power consumption served from the rollups reads raw only the readings after the last whole bucket
+ * Peak power consumption served from the rollups with several readings at an interval boundary
+ * Peak power consumption with a device other than the power grid meter
+ * Peak power consumption with an interval of zero
+ * Add a batch of sensor readings rejecting only the readings of unknown devices and sensors
+ * Add a batch of sensor readings checking each device and sensor once
+ * Add sensor readings keeping the saved readings when rolling them up fails
+ * Get the latest readings from the cache warmed once from the repository
+ * Get the latest reading updated by a newer added reading but not by an older one
+ * Get a page of sensor readings with the cursor of the next page when there are more readings
+ * Get the last page of sensor readings without a next cursor
+ * Get a page of sensor readings with an invalid limit
  */
 class ServiceSensorReadingTest {
 
@@ -305,6 +335,61 @@ class ServiceSensorReadingTest {
         assertEquals(expected, maxDifference);
     }
 
+    /**
+     * Test to verify that outside readings taken before an inside reading, within the time interval, are compared
+     * and that readings further apart than the time interval are not
+     */
+    @Test
+    void getMaxDifferenceBetweenReadings_shouldCompareReadingsWithinIntervalOnBothSides(){
+        // Arrange
+        DeviceId deviceId = new DeviceId("indoor");
+        DeviceId deviceId1 = new DeviceId("outdoor");
+        SensorID sensorID = new SensorID("sensor1");
+        SensorID sensorID1 = new SensorID("sensor2");
+        FactorySensorReading factorySensorReading = new ImplFactorySensorReading();
+
+        List<SensorReading> insideList = List.of(
+                factorySensorReading.createSensorReading(new SensorReadingID("r1"), new Reading("21"), deviceId, sensorID, Timestamp.valueOf("2024-01-01 12:00:00")),
+                factorySensorReading.createSensorReading(new SensorReadingID("r2"), new Reading("22"), deviceId, sensorID, Timestamp.valueOf("2024-01-01 10:00:00")));
+        List<SensorReading> outsideList = List.of(
+                factorySensorReading.createSensorReading(new SensorReadingID("r3"), new Reading("-5"), deviceId1, sensorID1, Timestamp.valueOf("2024-01-01 11:00:00")),
+                factorySensorReading.createSensorReading(new SensorReadingID("r4"), new Reading("15"), deviceId1, sensorID1, Timestamp.valueOf("2024-01-01 11:57:00")),
+                factorySensorReading.createSensorReading(new SensorReadingID("r5"), new Reading("12"), deviceId1, sensorID1, Timestamp.valueOf("2024-01-01 10:04:00")));
+
+        ServiceSensorReading serviceSensorReading = new ServiceSensorReading(mock(IRepositorySensorReading.class), mock(IRepositorySensor.class), mock(ServiceSensor.class), factorySensorReading, mock(IRepositoryDevice.class));
+        int expected = 10;
+
+        // Act
+        int maxDifference = serviceSensorReading.getDifferenceBetweenReadings(insideList, outsideList, 5);
+
+        // Assert
+        assertEquals(expected, maxDifference);
+    }
+
+    /**
+     * Test to verify that an exception is thrown when no pair of readings is within the time interval
+     */
+    @Test
+    void getMaxDifferenceBetweenReadingsWithoutReadingsWithinInterval_shouldThrowException(){
+        // Arrange
+        DeviceId deviceId = new DeviceId("indoor");
+        DeviceId deviceId1 = new DeviceId("outdoor");
+        SensorID sensorID = new SensorID("sensor1");
+        SensorID sensorID1 = new SensorID("sensor2");
+        FactorySensorReading factorySensorReading = new ImplFactorySensorReading();
+
+        List<SensorReading> insideList = List.of(
+                factorySensorReading.createSensorReading(new SensorReadingID("r1"), new Reading("21"), deviceId, sensorID, Timestamp.valueOf("2024-01-01 12:00:00")));
+        List<SensorReading> outsideList = List.of(
+                factorySensorReading.createSensorReading(new SensorReadingID("r2"), new Reading("15"), deviceId1, sensorID1, Timestamp.valueOf("2024-01-01 11:00:00")));
+
+        ServiceSensorReading serviceSensorReading = new ServiceSensorReading(mock(IRepositorySensorReading.class), mock(IRepositorySensor.class), mock(ServiceSensor.class), factorySensorReading, mock(IRepositoryDevice.class));
+
+        // Act + Assert
+        assertThrows(IllegalArgumentException.class, () ->
+                serviceSensorReading.getDifferenceBetweenReadings(insideList, outsideList, 5));
+    }
+
     /**
      * Test to verify if the sensor readings are retrieved based on device ID
      */
@@ -454,4 +539,459 @@ class ServiceSensorReadingTest {
         assert(actual.contains(expected));
     }
 
+    /**
+     * Builds a service whose repositories hold two energy meters with readings spread over three 5 minute intervals.
+     * The expected peak is on the last interval: 40 from the first meter plus 100 from the second.
+     */
+    private ServiceSensorReading serviceWithEnergyMeters(IRepositorySensorReading repositorySensorReading) {
+        return serviceWithEnergyMeters(repositorySensorReading, null);
+    }
+
+    /**
+     * Builds the same service as serviceWithEnergyMeters, whose readings are also rolled up by the given service.
+     */
+    private ServiceSensorReading serviceWithEnergyMeters(IRepositorySensorReading repositorySensorReading, ServiceSensorReadingRollup serviceSensorReadingRollup) {
+        DeviceId deviceId = new DeviceId("meter1");
+        DeviceId deviceId1 = new DeviceId("meter2");
+        SensorID sensorID = new SensorID("sensor1");
+        SensorID sensorID1 = new SensorID("sensor2");
+
+        Sensor sensor = mock(Sensor.class);
+        when(sensor.getSensorModelID()).thenReturn(new SensorModelID("PC500W"));
+        when(sensor.getDeviceID()).thenReturn(deviceId);
+        when(sensor.identity()).thenReturn(sensorID);
+        Sensor sensor1 = mock(Sensor.class);
+        when(sensor1.getSensorModelID()).thenReturn(new SensorModelID("PC500W"));
+        when(sensor1.getDeviceID()).thenReturn(deviceId1);
+        when(sensor1.identity()).thenReturn(sensorID1);
+
+        IRepositorySensor repositorySensor = mock(IRepositorySensor.class);
+        when(repositorySensor.findAll()).thenReturn(List.of(sensor, sensor1));
+        when(repositorySensor.getSensorsByDeviceID(deviceId)).thenReturn(List.of(sensor));
+        when(repositorySensor.getSensorsByDeviceID(deviceId1)).thenReturn(List.of(sensor1));
+        ServiceSensor serviceSensor = mock(ServiceSensor.class);
+        IRepositoryDevice repositoryDevice = mock(IRepositoryDevice.class);
+        FactorySensorReading factorySensorReading = new ImplFactorySensorReading();
+
+        List<SensorReading> sensorReadings = List.of(
+                factorySensorReading.createSensorReading(new SensorReadingID("r1"), new Reading("10"), deviceId, sensorID, Timestamp.valueOf("2024-01-01 00:00:00")),
+                factorySensorReading.createSensorReading(new SensorReadingID("r2"), new Reading("20"), deviceId, sensorID, Timestamp.valueOf("2024-01-01 00:05:00")),
+                factorySensorReading.createSensorReading(new SensorReadingID("r3"), new Reading("30"), deviceId, sensorID, Timestamp.valueOf("2024-01-01 00:07:00")),
+                factorySensorReading.createSensorReading(new SensorReadingID("r4"), new Reading("40"), deviceId, sensorID, Timestamp.valueOf("2024-01-01 00:12:00")),
+                factorySensorReading.createSensorReading(new SensorReadingID("r5"), new Reading("100"), deviceId1, sensorID1, Timestamp.valueOf("2024-01-01 00:11:00")));
+        for (SensorReading sensorReading : sensorReadings) {
+            repositorySensorReading.save(sensorReading);
+        }
+        if (serviceSensorReadingRollup != null) {
+            serviceSensorReadingRollup.addReadings(sensorReadings);
+        }
+
+        return new ServiceSensorReading(repositorySensorReading, repositorySensor, serviceSensor, factorySensorReading, repositoryDevice, serviceSensorReadingRollup);
+    }
+
+    /**
+     * Builds a mock of the power grid meter device.
+     */
+    private Device powerGridMeter() {
+        Device powerGridMeter = mock(Device.class);
+        when(powerGridMeter.getDeviceName()).thenReturn(new DeviceName("Power Grid Meter"));
+        return powerGridMeter;
+    }
+
+    /**
+     * Test to verify that the single pass and the interval by interval peak power consumption calculations agree
+     */
+    @Test
+    void calculateHousePeakPowerConsumption_shouldMatchIntervalByIntervalCalculation() {
+        // Arrange
+        ServiceSensorReading serviceSensorReading = serviceWithEnergyMeters(new RepositorySensorReadingColumnarMem());
+        Timestamp start = Timestamp.valueOf("2024-01-01 00:00:00");
+        Timestamp end = Timestamp.valueOf("2024-01-01 00:15:00");
+        double expected = 140;
+
+        // Act
+        double singlePass = serviceSensorReading.calculateHousePeakPowerConsumptionWithinPeriod(powerGridMeter(), start, end, 5);
+        double intervalByInterval = serviceSensorReading.calculateHousePeakPowerConsumptionWithinPeriodIntervalByInterval(powerGridMeter(), start, end, 5);
+
+        // Assert
+        assertEquals(expected, singlePass);
+        assertEquals(expected, intervalByInterval);
+    }
+
+    /**
+     * Test to verify that the single pass peak power consumption calculation queries the readings of each device once
+     */
+    @Test
+    void calculateHousePeakPowerConsumption_shouldQueryEachDeviceOnce() {
+        // Arrange
+        IRepositorySensorReading repositorySensorReading = spy(new RepositorySensorReadingColumnarMem());
+        ServiceSensorReading serviceSensorReading = serviceWithEnergyMeters(repositorySensorReading);
+        Timestamp start = Timestamp.valueOf("2024-01-01 00:00:00");
+        Timestamp end = Timestamp.valueOf("2024-01-01 00:15:00");
+
+        // Act
+        serviceSensorReading.calculateHousePeakPowerConsumptionWithinPeriod(powerGridMeter(), start, end, 1);
+
+        // Assert
+        verify(repositorySensorReading, times(2)).getMeasurementsFromDeviceWithinPeriod(any(DeviceId.class), eq(start), eq(end));
+    }
+
+    /**
+     * Test to verify that the peak power consumption served from the rollups matches the one calculated from the raw
+     * readings by the interval by interval calculation, which does not read the rollups
+     */
+    @Test
+    void calculateHousePeakPowerConsumptionFromRollups_shouldMatchRawCalculation() {
+        // Arrange
+        ServiceSensorReadingRollup serviceSensorReadingRollup = spy(new ServiceSensorReadingRollup(new RepositoryReadingRollupMem()));
+        ServiceSensorReading serviceSensorReading = serviceWithEnergyMeters(new RepositorySensorReadingColumnarMem(), serviceSensorReadingRollup);
+        Timestamp start = Timestamp.valueOf("2024-01-01 00:00:00");
+        Timestamp end = Timestamp.valueOf("2024-01-01 00:15:00");
+        double expected = 140;
+
+        // Act
+        double singlePass = serviceSensorReading.calculateHousePeakPowerConsumptionWithinPeriod(powerGridMeter(), start, end, 5);
+        clearInvocations(serviceSensorReadingRollup);
+        double intervalByInterval = serviceSensorReading.calculateHousePeakPowerConsumptionWithinPeriodIntervalByInterval(powerGridMeter(), start, end, 5);
+
+        // Assert
+        assertEquals(expected, singlePass);
+        assertEquals(expected, intervalByInterval);
+        verifyNoInteractions(serviceSensorReadingRollup);
+    }
+
+    /**
+     * Test to verify that the peak power consumption served from the rollups reads raw only the readings after the
+     * last whole bucket of the period
+     */
+    @Test
+    void calculateHousePeakPowerConsumptionFromRollups_shouldScanOnlyTheUnalignedEnd() {
+        // Arrange
+        IRepositorySensorReading repositorySensorReading = spy(new RepositorySensorReadingColumnarMem());
+        ServiceSensorReadingRollup serviceSensorReadingRollup = new ServiceSensorReadingRollup(new RepositoryReadingRollupMem());
+        ServiceSensorReading serviceSensorReading = serviceWithEnergyMeters(repositorySensorReading, serviceSensorReadingRollup);
+        Timestamp start = Timestamp.valueOf("2024-01-01 00:00:00");
+        Timestamp lastBucketEnd = Timestamp.valueOf("2024-01-01 00:15:00");
+        Timestamp end = Timestamp.valueOf("2024-01-01 00:15:30");
+
+        // Act
+        double result = serviceSensorReading.calculateHousePeakPowerConsumptionWithinPeriod(powerGridMeter(), start, end, 5);
+
+        // Assert
+        assertEquals(140, result);
+        verify(repositorySensorReading, times(2)).getMeasurementsFromDeviceWithinPeriod(any(DeviceId.class), eq(lastBucketEnd), eq(end));
+        verify(repositorySensorReading, never()).getMeasurementsFromDeviceWithinPeriod(any(DeviceId.class), eq(start), any(Timestamp.class));
+    }
+
+    /**
+     * Test to verify that the peak power consumption served from the rollups adds every reading at an interval
+     * boundary to the interval before it, like the calculation from the raw readings, when a sensor has several
+     * readings at the boundary
+     */
+    @Test
+    void calculateHousePeakPowerConsumptionFromRollupsWithReadingsAtBoundary_shouldMatchRawCalculation() {
+        // Arrange
+        DeviceId deviceId = new DeviceId("meter1");
+        SensorID sensorID = new SensorID("sensor1");
+        Sensor sensor = mock(Sensor.class);
+        when(sensor.getSensorModelID()).thenReturn(new SensorModelID("PC500W"));
+        when(sensor.getDeviceID()).thenReturn(deviceId);
+        when(sensor.identity()).thenReturn(sensorID);
+        IRepositorySensor repositorySensor = mock(IRepositorySensor.class);
+        when(repositorySensor.findAll()).thenReturn(List.of(sensor));
+        when(repositorySensor.getSensorsByDeviceID(deviceId)).thenReturn(List.of(sensor));
+        FactorySensorReading factorySensorReading = new ImplFactorySensorReading();
+        List<SensorReading> sensorReadings = List.of(
+                factorySensorReading.createSensorReading(new SensorReadingID("r1"), new Reading("400"), deviceId, sensorID, Timestamp.valueOf("2024-01-01 00:00:00")),
+                factorySensorReading.createSensorReading(new SensorReadingID("r2"), new Reading("100"), deviceId, sensorID, Timestamp.valueOf("2024-01-01 00:05:00")),
+                factorySensorReading.createSensorReading(new SensorReadingID("r3"), new Reading("100"), deviceId, sensorID, Timestamp.valueOf("2024-01-01 00:05:00")),
+                factorySensorReading.createSensorReading(new SensorReadingID("r4"), new Reading("0"), deviceId, sensorID, Timestamp.valueOf("2024-01-01 00:07:00")));
+        IRepositorySensorReading repositorySensorReading = new RepositorySensorReadingColumnarMem();
+        repositorySensorReading.saveAll(sensorReadings);
+        ServiceSensorReadingRollup serviceSensorReadingRollup = new ServiceSensorReadingRollup(new RepositoryReadingRollupMem());
+        serviceSensorReadingRollup.addReadings(sensorReadings);
+        ServiceSensorReading serviceSensorReading = new ServiceSensorReading(repositorySensorReading, repositorySensor,
+                mock(ServiceSensor.class), factorySensorReading, mock(IRepositoryDevice.class), serviceSensorReadingRollup);
+        Timestamp start = Timestamp.valueOf("2024-01-01 00:00:00");
+        Timestamp end = Timestamp.valueOf("2024-01-01 00:10:00");
+        double expected = 200;
+
+        // Act
+        double singlePass = serviceSensorReading.calculateHousePeakPowerConsumptionWithinPeriod(powerGridMeter(), start, end, 5);
+        double intervalByInterval = serviceSensorReading.calculateHousePeakPowerConsumptionWithinPeriodIntervalByInterval(powerGridMeter(), start, end, 5);
+
+        // Assert
+        assertEquals(expected, singlePass);
+        assertEquals(expected, intervalByInterval);
+    }
+
+    /**
+     * Test to verify that an exception is thrown when the device is not the power grid meter
+     */
+    @Test
+    void calculateHousePeakPowerConsumptionWithOtherDevice_shouldThrowException() {
+        // Arrange
+        ServiceSensorReading serviceSensorReading = serviceWithEnergyMeters(new RepositorySensorReadingColumnarMem());
+        Device device = mock(Device.class);
+        when(device.getDeviceName()).thenReturn(new DeviceName("Fridge"));
+        Timestamp start = Timestamp.valueOf("2024-01-01 00:00:00");
+        Timestamp end = Timestamp.valueOf("2024-01-01 00:15:00");
+
+        // Act + Assert
+        assertThrows(EntityNotFoundException.class, () ->
+                serviceSensorReading.calculateHousePeakPowerConsumptionWithinPeriod(device, start, end, 5));
+    }
+
+    /**
+     * Test to verify that an exception is thrown when the interval is zero, on both peak power consumption calculations
+     */
+    @Test
+    void calculateHousePeakPowerConsumptionWithZeroInterval_shouldThrowException() {
+        // Arrange
+        ServiceSensorReading serviceSensorReading = serviceWithEnergyMeters(new RepositorySensorReadingColumnarMem());
+        Timestamp start = Timestamp.valueOf("2024-01-01 00:00:00");
+        Timestamp end = Timestamp.valueOf("2024-01-01 00:15:00");
+
+        // Act + Assert
+        assertThrows(IllegalArgumentException.class, () ->
+                serviceSensorReading.calculateHousePeakPowerConsumptionWithinPeriod(powerGridMeter(), start, end, 0));
+        assertThrows(IllegalArgumentException.class, () ->
+                serviceSensorReading.calculateHousePeakPowerConsumptionWithinPeriodIntervalByInterval(powerGridMeter(), start, end, 0));
+    }
+
+    /**
+     * Builds a service where only the device "device1" and the sensor "sensor1" exist.
+     */
+    private ServiceSensorReading serviceWithOneSensor(IRepositorySensorReading repositorySensorReading,
+                                                      IRepositorySensor repositorySensor, IRepositoryDevice repositoryDevice) {
+        return serviceWithOneSensor(repositorySensorReading, repositorySensor, repositoryDevice, null);
+    }
+
+    /**
+     * Builds the same service as serviceWithOneSensor, whose readings are also rolled up by the given service.
+     */
+    private ServiceSensorReading serviceWithOneSensor(IRepositorySensorReading repositorySensorReading,
+                                                      IRepositorySensor repositorySensor, IRepositoryDevice repositoryDevice,
+                                                      ServiceSensorReadingRollup serviceSensorReadingRollup) {
+        when(repositoryDevice.containsOfIdentity(new DeviceId("device1"))).thenReturn(true);
+        when(repositorySensor.containsOfIdentity(new SensorID("sensor1"))).thenReturn(true);
+        Device device = mock(Device.class);
+        when(device.identity()).thenReturn(new DeviceId("device1"));
+        when(repositoryDevice.ofIdentities(any())).thenAnswer(invocation -> {
+            Iterable<DeviceId> ids = invocation.getArgument(0);
+            return StreamSupport.stream(ids.spliterator(), false).anyMatch(device.identity()::equals) ? List.of(device) : List.of();
+        });
+        Sensor sensor = mock(Sensor.class);
+        when(sensor.identity()).thenReturn(new SensorID("sensor1"));
+        when(repositorySensor.ofIdentities(any())).thenAnswer(invocation -> {
+            Iterable<SensorID> ids = invocation.getArgument(0);
+            return StreamSupport.stream(ids.spliterator(), false).anyMatch(sensor.identity()::equals) ? List.of(sensor) : List.of();
+        });
+        ServiceSensor serviceSensor = mock(ServiceSensor.class);
+        return new ServiceSensorReading(repositorySensorReading, repositorySensor, serviceSensor, new ImplFactorySensorReading(), repositoryDevice, serviceSensorReadingRollup);
+    }
+
+    /**
+     * Test to verify that a batch of sensor readings saves the valid readings and rejects the ones of unknown devices
+     * and sensors, keeping the order of the batch
+     */
+    @Test
+    void addSensorReadings_shouldRejectOnlyReadingsOfUnknownDevicesAndSensors() {
+        // Arrange
+        IRepositorySensorReading repositorySensorReading = new RepositorySensorReadingMem();
+        ServiceSensorReading serviceSensorReading = serviceWithOneSensor(repositorySensorReading,
+                mock(IRepositorySensor.class), mock(IRepositoryDevice.class));
+        Timestamp timestamp = Timestamp.valueOf("2024-01-01 00:00:00");
+        List<ServiceSensorReading.NewSensorReading> batch = List.of(
+                new ServiceSensorReading.NewSensorReading(new Reading("10"), new DeviceId("device1"), new SensorID("sensor1"), timestamp),
+                new ServiceSensorReading.NewSensorReading(new Reading("20"), new DeviceId("device2"), new SensorID("sensor1"), timestamp),
+                new ServiceSensorReading.NewSensorReading(new Reading("30"), new DeviceId("device1"), new SensorID("sensor2"), timestamp),
+                new ServiceSensorReading.NewSensorReading(new Reading("40"), new DeviceId("device1"), new SensorID("sensor1"), timestamp));
+
+        // Act
+        List<ServiceSensorReading.BatchOutcome> outcomes = serviceSensorReading.addSensorReadings(batch);
+
+        // Assert
+        assertEquals(4, outcomes.size());
+        assertEquals(new Reading("10"), outcomes.get(0).sensorReading().getReading());
+        assertEquals("Device not found", outcomes.get(1).error());
+        assertEquals("Sensor not found", outcomes.get(2).error());
+        assertEquals(new Reading("40"), outcomes.get(3).sensorReading().getReading());
+        assertEquals(2, repositorySensorReading.getSensorReadingsByDeviceId(new DeviceId("device1")).size());
+    }
+
+    /**
+     * Test to verify that a batch of sensor readings reads its distinct devices and sensors with one lookup per
+     * repository, instead of checking them one by one, and saves the readings at once
+     */
+    @Test
+    void addSensorReadings_shouldReadDevicesAndSensorsWithOneLookupEach() {
+        // Arrange
+        IRepositorySensorReading repositorySensorReading = spy(new RepositorySensorReadingMem());
+        IRepositorySensor repositorySensor = mock(IRepositorySensor.class);
+        IRepositoryDevice repositoryDevice = mock(IRepositoryDevice.class);
+        ServiceSensorReading serviceSensorReading = serviceWithOneSensor(repositorySensorReading, repositorySensor, repositoryDevice);
+        Timestamp timestamp = Timestamp.valueOf("2024-01-01 00:00:00");
+        List<ServiceSensorReading.NewSensorReading> batch = List.of(
+                new ServiceSensorReading.NewSensorReading(new Reading("10"), new DeviceId("device1"), new SensorID("sensor1"), timestamp),
+                new ServiceSensorReading.NewSensorReading(new Reading("20"), new DeviceId("device2"), new SensorID("sensor1"), timestamp),
+                new ServiceSensorReading.NewSensorReading(new Reading("30"), new DeviceId("device1"), new SensorID("sensor2"), timestamp),
+                new ServiceSensorReading.NewSensorReading(new Reading("40"), new DeviceId("device1"), new SensorID("sensor1"), timestamp));
+
+        // Act
+        serviceSensorReading.addSensorReadings(batch);
+
+        // Assert
+        verify(repositoryDevice, times(1)).ofIdentities(Set.of(new DeviceId("device1"), new DeviceId("device2")));
+        verify(repositorySensor, times(1)).ofIdentities(Set.of(new SensorID("sensor1"), new SensorID("sensor2")));
+        verify(repositoryDevice, never()).containsOfIdentity(any(DeviceId.class));
+        verify(repositorySensor, never()).containsOfIdentity(any(SensorID.class));
+        verify(repositorySensorReading, times(1)).saveAll(anyList());
+        verify(repositorySensorReading, never()).save(any(SensorReading.class));
+    }
+
+    /**
+     * Test to verify that a failure to roll up the saved readings does not turn the saved readings of a batch, or a
+     * single saved reading, into errors
+     */
+    @Test
+    void addSensorReadingsWithFailingRollup_shouldKeepTheSavedReadings() {
+        // Arrange
+        IRepositorySensorReading repositorySensorReading = new RepositorySensorReadingMem();
+        ServiceSensorReadingRollup serviceSensorReadingRollup = mock(ServiceSensorReadingRollup.class);
+        doThrow(new OptimisticLockingFailureException("Rollup updated concurrently")).when(serviceSensorReadingRollup).addReadings(anyList());
+        ServiceSensorReading serviceSensorReading = serviceWithOneSensor(repositorySensorReading,
+                mock(IRepositorySensor.class), mock(IRepositoryDevice.class), serviceSensorReadingRollup);
+        Timestamp timestamp = Timestamp.valueOf("2024-01-01 00:00:00");
+        List<ServiceSensorReading.NewSensorReading> batch = List.of(
+                new ServiceSensorReading.NewSensorReading(new Reading("10"), new DeviceId("device1"), new SensorID("sensor1"), timestamp),
+                new ServiceSensorReading.NewSensorReading(new Reading("20"), new DeviceId("device1"), new SensorID("sensor1"), timestamp));
+
+        // Act
+        List<ServiceSensorReading.BatchOutcome> outcomes = serviceSensorReading.addSensorReadings(batch);
+        SensorReading sensorReading = serviceSensorReading.addSensorReading(new Reading("30"), new DeviceId("device1"), new SensorID("sensor1"), timestamp);
+
+        // Assert
+        assertEquals(new Reading("10"), outcomes.get(0).sensorReading().getReading());
+        assertEquals(new Reading("20"), outcomes.get(1).sensorReading().getReading());
+        assertEquals(new Reading("30"), sensorReading.getReading());
+        assertEquals(3, repositorySensorReading.getSensorReadingsByDeviceId(new DeviceId("device1")).size());
+        verify(serviceSensorReadingRollup, times(2)).addReadings(anyList());
+    }
+
+    /**
+     * Test to verify that the latest readings are served from a cache that is warmed from the repository once
+     */
+    @Test
+    void getLatestReadings_shouldWarmCacheFromRepositoryOnce() {
+        // Arrange
+        DeviceId deviceId = new DeviceId("device1");
+        SensorID sensorID = new SensorID("sensor1");
+        SensorID sensorID1 = new SensorID("sensor2");
+        FactorySensorReading factorySensorReading = new ImplFactorySensorReading();
+        SensorReading latest = factorySensorReading.createSensorReading(new SensorReadingID("r1"), new Reading("10"), deviceId, sensorID, Timestamp.valueOf("2024-01-01 00:00:00"));
+        SensorReading latest1 = factorySensorReading.createSensorReading(new SensorReadingID("r2"), new Reading("20"), deviceId, sensorID1, Timestamp.valueOf("2024-01-01 00:05:00"));
+        IRepositorySensorReading repositorySensorReading = mock(IRepositorySensorReading.class);
+        when(repositorySensorReading.getLatestReadingOfEachSensor()).thenReturn(List.of(latest, latest1));
+        ServiceSensorReading serviceSensorReading = new ServiceSensorReading(repositorySensorReading, mock(IRepositorySensor.class),
+                mock(ServiceSensor.class), factorySensorReading, mock(IRepositoryDevice.class));
+
+        // Act
+        Optional<SensorReading> fromSensor = serviceSensorReading.getLatestReadingFromSensor(sensorID);
+        List<SensorReading> fromDevice = serviceSensorReading.getLatestReadingsFromDevice(deviceId);
+        Optional<SensorReading> fromUnknownSensor = serviceSensorReading.getLatestReadingFromSensor(new SensorID("sensor3"));
+
+        // Assert
+        assertEquals(Optional.of(latest), fromSensor);
+        assertEquals(2, fromDevice.size());
+        assertTrue(fromDevice.containsAll(List.of(latest, latest1)));
+        assertTrue(fromUnknownSensor.isEmpty());
+        verify(repositorySensorReading, times(1)).getLatestReadingOfEachSensor();
+        verify(repositorySensorReading, never()).getLatestReadingFromSensor(any(SensorID.class));
+    }
+
+    /**
+     * Test to verify that an added reading replaces the latest reading of its sensor only if it is more recent
+     */
+    @Test
+    void addSensorReading_shouldUpdateLatestReadingOnlyWhenMoreRecent() {
+        // Arrange
+        IRepositorySensorReading repositorySensorReading = new RepositorySensorReadingMem();
+        ServiceSensorReading serviceSensorReading = serviceWithOneSensor(repositorySensorReading,
+                mock(IRepositorySensor.class), mock(IRepositoryDevice.class));
+        DeviceId deviceId = new DeviceId("device1");
+        SensorID sensorID = new SensorID("sensor1");
+        serviceSensorReading.warmLatestSensorReadingCache();
+
+        // Act
+        serviceSensorReading.addSensorReading(new Reading("10"), deviceId, sensorID, Timestamp.valueOf("2024-01-01 00:05:00"));
+        serviceSensorReading.addSensorReading(new Reading("20"), deviceId, sensorID, Timestamp.valueOf("2024-01-01 00:00:00"));
+        Optional<SensorReading> latest = serviceSensorReading.getLatestReadingFromSensor(sensorID);
+
+        // Assert
+        assertTrue(latest.isPresent());
+        assertEquals(new Reading("10"), latest.get().getReading());
+    }
+
+    /**
+     * Test to verify if a page of sensor readings has the cursor of its last reading when the repository has more
+     * readings than the limit
+     */
+    @Test
+    void getSensorReadingsPageWithMoreReadings_shouldReturnNextCursor() {
+        // Arrange
+        IRepositorySensorReading repositorySensorReading = mock(IRepositorySensorReading.class);
+        FactorySensorReading factorySensorReading = new ImplFactorySensorReading();
+        ServiceSensorReading serviceSensorReading = new ServiceSensorReading(repositorySensorReading, mock(IRepositorySensor.class), mock(ServiceSensor.class), factorySensorReading, mock(IRepositoryDevice.class));
+        DeviceId deviceId = new DeviceId("d1");
+        SensorReading r1 = factorySensorReading.createSensorReading(new SensorReadingID("r1"), new Reading("1"), deviceId, new SensorID("s1"), Timestamp.valueOf("2024-01-01 10:00:00"));
+        SensorReading r2 = factorySensorReading.createSensorReading(new SensorReadingID("r2"), new Reading("2"), deviceId, new SensorID("s1"), Timestamp.valueOf("2024-01-01 10:01:00"));
+        SensorReading r3 = factorySensorReading.createSensorReading(new SensorReadingID("r3"), new Reading("3"), deviceId, new SensorID("s1"), Timestamp.valueOf("2024-01-01 10:02:00"));
+        when(repositorySensorReading.getSensorReadingsPageFromDevice(deviceId, null, null, null, 3)).thenReturn(List.of(r1, r2, r3));
+
+        // Act
+        ServiceSensorReading.SensorReadingPage page = serviceSensorReading.getSensorReadingsPageFromDevice(deviceId, null, null, null, 2);
+
+        // Assert
+        assertEquals(List.of(r1, r2), page.sensorReadings());
+        assertTrue(page.hasNext());
+        assertEquals(SensorReadingCursor.of(r2), page.nextCursor());
+    }
+
+    /**
+     * Test to verify if the last page of sensor readings has no next cursor
+     */
+    @Test
+    void getLastSensorReadingsPage_shouldNotReturnNextCursor() {
+        // Arrange
+        IRepositorySensorReading repositorySensorReading = mock(IRepositorySensorReading.class);
+        ServiceSensorReading serviceSensorReading = new ServiceSensorReading(repositorySensorReading, mock(IRepositorySensor.class), mock(ServiceSensor.class), mock(FactorySensorReading.class), mock(IRepositoryDevice.class));
+        DeviceId deviceId = new DeviceId("d1");
+        SensorReadingCursor cursor = new SensorReadingCursor(Timestamp.valueOf("2024-01-01 10:00:00"), new SensorReadingID("r1"));
+        SensorReading sensorReading = mock(SensorReading.class);
+        when(repositorySensorReading.getSensorReadingsPageFromDevice(deviceId, null, null, cursor, 3)).thenReturn(List.of(sensorReading));
+
+        // Act
+        ServiceSensorReading.SensorReadingPage page = serviceSensorReading.getSensorReadingsPageFromDevice(deviceId, null, null, cursor, 2);
+
+        // Assert
+        assertEquals(List.of(sensorReading), page.sensorReadings());
+        assertFalse(page.hasNext());
+    }
+
+    /**
+     * Test to verify if an exception is thrown when the limit of a page is not positive or is too large
+     */
+    @Test
+    void getSensorReadingsPageWithInvalidLimit_shouldThrowException() {
+        // Arrange
+        IRepositorySensorReading repositorySensorReading = mock(IRepositorySensorReading.class);
+        ServiceSensorReading serviceSensorReading = new ServiceSensorReading(repositorySensorReading, mock(IRepositorySensor.class), mock(ServiceSensor.class), mock(FactorySensorReading.class), mock(IRepositoryDevice.class));
+        DeviceId deviceId = new DeviceId("d1");
+
+        // Act + Assert
+        assertThrows(IllegalArgumentException.class, () -> serviceSensorReading.getSensorReadingsPageFromDevice(deviceId, null, null, null, 0));
+        assertThrows(IllegalArgumentException.class, () -> serviceSensorReading.getSensorReadingsPageFromDevice(deviceId, null, null, null, ServiceSensorReading.MAX_PAGE_SIZE + 1));
+        verifyNoInteractions(repositorySensorReading);
+    }
 }
@@ -9,6 +9,7 @@ import smartHomeDDD.domain.sensorType.SensorType;
 import smartHomeDDD.domain.valueobject.Description;
 import smartHomeDDD.domain.valueobject.SensorTypeID;
 import smartHomeDDD.domain.valueobject.Unit;
+import smartHomeDDD.persistence.mem.RepositorySensorTypeMem;
 import smartHomeDDD.services.ServiceSensorType;
 
 
@@ -25,6 +26,7 @@ import static org.mockito.Mockito.when;
  * instantiating a ServiceSensorType object with a null repository should throw an exception
  * instantiating a ServiceSensorType object with a null factory should throw an exception
  * creating a sensor type
+ * creating a batch of sensor types
  * getting sensor types should return a list of sensor types
  * getting a sensor type by ID should return the sensor type
  * getting a non-existent sensor type should throw an exception
@@ -150,4 +152,24 @@ class ServiceSensorTypeTest {
         //Assert
         assertTrue(actual.contains(expected));
     }
+
+    /**
+     * Test case to verify that a batch of sensor types is created and saved in the repository together.
+     */
+    @Test
+    void createSensorTypes_shouldSaveEverySensorType() {
+        //Arrange
+        IRepositorySensorType repository = new RepositorySensorTypeMem();
+        ServiceSensorType service = new ServiceSensorType(repository, new ImplFactorySensorType());
+        List<ServiceSensorType.NewSensorType> newSensorTypes = List.of(
+                new ServiceSensorType.NewSensorType(new SensorTypeID("Temperature"), new Description("Temperature"), new Unit("Celsius")),
+                new ServiceSensorType.NewSensorType(new SensorTypeID("Humidity"), new Description("Humidity"), new Unit("Percentage")));
+
+        //Act
+        List<SensorType> actual = service.createSensorTypes(newSensorTypes);
+
+        //Assert
+        assertEquals(2, actual.size());
+        assertTrue(repository.containsAll(List.of(new SensorTypeID("Temperature"), new SensorTypeID("Humidity"))));
+    }
 }
@@ -1,12 +1,30 @@
 package smartHomeDDD.domain.services;
 
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import smartHomeDDD.persistence.gateway.WeatherServiceGateway;
 import smartHomeDDD.services.ServiceWeather;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -16,9 +34,64 @@ import static org.mockito.Mockito.when;
  * retrieving the current temperature for a given latitude and longitude
  * retrieving the sunrise time for a given latitude and longitude
  * retrieving the sunset time for a given latitude and longitude
+ * retrieving the temperature of nearby coordinates within the same hour calls the weather service once
+ * retrieving the temperature after an error calls the weather service again
+ * concurrent identical requests to a stub weather service share a single call
+ * requests for sunrise and sunset to a stub weather service are not shared with each other
  */
 class ServiceWeatherTest {
 
+    /**
+     * The stub weather service, which answers every request after a delay.
+     */
+    private HttpServer stubServer;
+
+    /**
+     * The number of requests the stub weather service received.
+     */
+    private final AtomicInteger stubRequests = new AtomicInteger();
+
+    /**
+     * Starts the stub weather service on a free local port.
+     */
+    @BeforeEach
+    void startStubServer() throws IOException {
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubServer.createContext("/", exchange -> {
+            stubRequests.incrementAndGet();
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            String query = exchange.getRequestURI().getQuery();
+            byte[] body = (query.contains("option=sunrise") ? "\"06:00\"" : query.contains("option=sunset") ? "\"18:00\"" : "20.5")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream response = exchange.getResponseBody()) {
+                response.write(body);
+            }
+        });
+        stubServer.start();
+    }
+
+    /**
+     * Stops the stub weather service.
+     */
+    @AfterEach
+    void stopStubServer() {
+        stubServer.stop(0);
+    }
+
+    /**
+     * Creates a ServiceWeather calling the stub weather service through the real gateway.
+     */
+    private ServiceWeather serviceWeatherOfStubServer() {
+        WebClient webClient = WebClient.builder().baseUrl("http://localhost:" + stubServer.getAddress().getPort()).build();
+        return new ServiceWeather(new WeatherServiceGateway(webClient));
+    }
+
     /**
      * Test case to verify that an IllegalArgumentException is thrown when the gateway is null.
      */
@@ -47,7 +120,7 @@ class ServiceWeatherTest {
         when(weatherServiceGateway.getcurrentTemperature(latitude, longitude)).thenReturn(Mono.just(temperature));
         ServiceWeather serviceWeather = new ServiceWeather(weatherServiceGateway);
         //Act
-        Object result = serviceWeather.getCurrentTemperature(latitude, longitude);
+        Object result = serviceWeather.getCurrentTemperature(latitude, longitude).block();
         //Assert
         assertEquals(temperature, result);
     }
@@ -66,7 +139,7 @@ class ServiceWeatherTest {
         when(weatherServiceGateway.getSunrise(latitude, longitude)).thenReturn(Mono.just(sunrise));
         ServiceWeather serviceWeather = new ServiceWeather(weatherServiceGateway);
         //Act
-        Object result = serviceWeather.getSunrise(latitude, longitude);
+        Object result = serviceWeather.getSunrise(latitude, longitude).block();
         //Assert
         assertEquals(sunrise, result);
     }
@@ -85,8 +158,84 @@ class ServiceWeatherTest {
         when(weatherServiceGateway.getSunset(latitude, longitude)).thenReturn(Mono.just(sunset));
         ServiceWeather serviceWeather = new ServiceWeather(weatherServiceGateway);
         //Act
-        Object result = serviceWeather.getSunset(latitude, longitude);
+        Object result = serviceWeather.getSunset(latitude, longitude).block();
         //Assert
         assertEquals(sunset, result);
     }
+
+    /**
+     * Test case to verify that the temperature of nearby coordinates, within the same hour, is retrieved from the
+     * weather service once.
+     */
+    @Test
+    void getCurrentTemperatureOfNearbyCoordinates_shouldCallGatewayOnce() {
+        //Arrange
+        Clock clock = Clock.fixed(Instant.parse("2024-05-01T10:15:00Z"), ZoneOffset.UTC);
+        WeatherServiceGateway weatherServiceGateway = mock(WeatherServiceGateway.class);
+        when(weatherServiceGateway.getcurrentTemperature("55.001", "90.004")).thenReturn(Mono.just("20"));
+        ServiceWeather serviceWeather = new ServiceWeather(weatherServiceGateway, Duration.ofMinutes(10), Duration.ofHours(12), clock);
+        //Act
+        Object first = serviceWeather.getCurrentTemperature("55.001", "90.004").block();
+        Object second = serviceWeather.getCurrentTemperature("55.004", "90.001").block();
+        //Assert
+        assertEquals("20", first);
+        assertEquals("20", second);
+        verify(weatherServiceGateway, times(1)).getcurrentTemperature("55.001", "90.004");
+    }
+
+    /**
+     * Test case to verify that an error of the weather service is not cached, so the next request calls it again.
+     */
+    @Test
+    void getCurrentTemperatureAfterError_shouldCallGatewayAgain() {
+        //Arrange
+        WeatherServiceGateway weatherServiceGateway = mock(WeatherServiceGateway.class);
+        when(weatherServiceGateway.getcurrentTemperature("55", "90"))
+                .thenReturn(Mono.error(new IllegalStateException("Weather service unavailable")))
+                .thenReturn(Mono.just("20"));
+        ServiceWeather serviceWeather = new ServiceWeather(weatherServiceGateway);
+        //Act
+        assertThrows(IllegalStateException.class, () -> serviceWeather.getCurrentTemperature("55", "90").block());
+        Object result = serviceWeather.getCurrentTemperature("55", "90").block();
+        //Assert
+        assertEquals("20", result);
+        verify(weatherServiceGateway, times(2)).getcurrentTemperature("55", "90");
+    }
+
+    /**
+     * Test case to verify that concurrent identical requests to the stub weather service share a single call.
+     */
+    @Test
+    void concurrentIdenticalRequests_shouldShareOneCallToWeatherService() {
+        //Arrange
+        ServiceWeather serviceWeather = serviceWeatherOfStubServer();
+        //Act
+        List<Object> temperatures = Flux.range(0, 10)
+                .flatMap(i -> serviceWeather.getCurrentTemperature("41.15", "-8.61"))
+                .collectList()
+                .block(Duration.ofSeconds(10));
+        //Assert
+        assertEquals(10, temperatures.size());
+        temperatures.forEach(temperature -> assertEquals(20.5, temperature));
+        assertEquals(1, stubRequests.get());
+    }
+
+    /**
+     * Test case to verify that requests to the stub weather service for the sunrise and the sunset of the same
+     * location are not shared with each other.
+     */
+    @Test
+    void sunriseAndSunsetRequests_shouldCallWeatherServiceOnceEach() {
+        //Arrange
+        ServiceWeather serviceWeather = serviceWeatherOfStubServer();
+        //Act
+        Object sunrise = serviceWeather.getSunrise("41.15", "-8.61").block(Duration.ofSeconds(10));
+        Object sunset = serviceWeather.getSunset("41.15", "-8.61").block(Duration.ofSeconds(10));
+        Object sunriseAgain = serviceWeather.getSunrise("41.15", "-8.61").block(Duration.ofSeconds(10));
+        //Assert
+        assertEquals("06:00", sunrise);
+        assertEquals("18:00", sunset);
+        assertEquals("06:00", sunriseAgain);
+        assertEquals(2, stubRequests.get());
+    }
 }